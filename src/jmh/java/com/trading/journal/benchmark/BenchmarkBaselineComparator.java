@@ -0,0 +1,167 @@
+package com.trading.journal.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH JSON 결과를 저장된 기준선과 비교해 회귀를 검출한다.
+ *
+ * <p>주 지표(평균 시간/처리량)와 GC 프로파일러의 호출당 할당량({@code gc.alloc.rate.norm})을 각각 비교하며, 어느 하나라도 임계치(%) 이상
+ * 나빠지면 종료 코드 1로 끝난다. 사용법: {@code <baseline.json> <result.json> [thresholdPercent]}
+ */
+public final class BenchmarkBaselineComparator {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 15.0;
+
+    /** 할당량 기준선이 이 값(바이트/op) 미만이면 비율 비교가 무의미하므로 건너뛴다 */
+    private static final double MIN_COMPARABLE_ALLOC_BYTES = 64.0;
+
+    private BenchmarkBaselineComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(
+                    "usage: BenchmarkBaselineComparator <baseline.json> <result.json> [threshold%]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        double threshold =
+                args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        if (!baselineFile.isFile()) {
+            System.err.println("기준선 파일이 없습니다: " + baselineFile);
+            System.exit(2);
+        }
+        if (!resultFile.isFile()) {
+            System.err.println("벤치마크 결과 파일이 없습니다. 먼저 ./gradlew jmh 를 실행하세요: " + resultFile);
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Measurement> baseline = load(objectMapper.readTree(baselineFile));
+        Map<String, Measurement> current = load(objectMapper.readTree(resultFile));
+
+        List<String> regressions = compare(baseline, current, threshold);
+        if (!regressions.isEmpty()) {
+            System.err.printf("%n%d건의 성능 회귀 (임계치 %.1f%%):%n", regressions.size(), threshold);
+            regressions.forEach(r -> System.err.println("  - " + r));
+            System.exit(1);
+        }
+        System.out.printf("%n회귀 없음 (임계치 %.1f%%)%n", threshold);
+    }
+
+    /** 기준선과 현재 결과를 비교해 회귀 설명 목록을 반환 (표 형식 리포트는 표준 출력으로) */
+    static List<String> compare(
+            Map<String, Measurement> baseline, Map<String, Measurement> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf(
+                "%-90s %14s %14s %9s %12s%n", "benchmark", "baseline", "current", "Δ%", "Δalloc%");
+
+        for (Map.Entry<String, Measurement> entry : current.entrySet()) {
+            String key = entry.getKey();
+            Measurement now = entry.getValue();
+            Measurement base = baseline.get(key);
+            if (base == null) {
+                System.out.printf("%-90s %14s %14.3f %9s %12s%n", key, "(new)", now.score, "", "");
+                continue;
+            }
+
+            double scoreDelta = worsening(base, now);
+            Double allocDelta = allocationGrowth(base, now);
+
+            System.out.printf(
+                    "%-90s %14.3f %14.3f %+8.1f%% %12s%n",
+                    key,
+                    base.score,
+                    now.score,
+                    scoreDelta,
+                    allocDelta == null ? "-" : String.format("%+.1f%%", allocDelta));
+
+            if (scoreDelta > threshold) {
+                regressions.add(
+                        String.format(
+                                "%s: %.3f → %.3f %s (%+.1f%%)",
+                                key, base.score, now.score, now.unit, scoreDelta));
+            }
+            if (allocDelta != null && allocDelta > threshold) {
+                regressions.add(
+                        String.format(
+                                "%s: 할당량 %.0f → %.0f B/op (%+.1f%%)",
+                                key, base.allocBytesPerOp, now.allocBytesPerOp, allocDelta));
+            }
+        }
+
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-90s %14s%n", key, "(missing)");
+            }
+        }
+        return regressions;
+    }
+
+    /** 나빠진 정도(%) — 평균 시간 계열은 증가, 처리량은 감소가 회귀 */
+    private static double worsening(Measurement base, Measurement now) {
+        if (base.score == 0) {
+            return 0;
+        }
+        double change = (now.score - base.score) / base.score * 100;
+        return "thrpt".equals(now.mode) ? -change : change;
+    }
+
+    private static Double allocationGrowth(Measurement base, Measurement now) {
+        if (base.allocBytesPerOp == null
+                || now.allocBytesPerOp == null
+                || base.allocBytesPerOp < MIN_COMPARABLE_ALLOC_BYTES) {
+            return null;
+        }
+        return (now.allocBytesPerOp - base.allocBytesPerOp) / base.allocBytesPerOp * 100;
+    }
+
+    /** 벤치마크명 + 파라미터 조합을 키로 결과 로드 */
+    static Map<String, Measurement> load(JsonNode root) {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                Map<String, String> sorted = new TreeMap<>();
+                for (Map.Entry<String, JsonNode> param : params.properties()) {
+                    sorted.put(param.getKey(), param.getValue().asText());
+                }
+                key.append(sorted);
+            }
+
+            JsonNode primary = run.path("primaryMetric");
+            measurements.put(
+                    key.toString(),
+                    new Measurement(
+                            run.path("mode").asText(),
+                            primary.path("score").asDouble(),
+                            primary.path("scoreUnit").asText(),
+                            findAllocation(run.path("secondaryMetrics"))));
+        }
+        return measurements;
+    }
+
+    /** JMH 버전에 따라 보조 지표명 앞에 '·'가 붙으므로 접미사로 찾는다 */
+    private static Double findAllocation(JsonNode secondaryMetrics) {
+        for (Map.Entry<String, JsonNode> field : secondaryMetrics.properties()) {
+            if (field.getKey().endsWith(ALLOC_METRIC)) {
+                return field.getValue().path("score").asDouble();
+            }
+        }
+        return null;
+    }
+
+    record Measurement(String mode, double score, String unit, Double allocBytesPerOp) {}
+}
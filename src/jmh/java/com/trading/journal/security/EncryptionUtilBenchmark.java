@@ -0,0 +1,54 @@
+package com.trading.journal.security;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** AES-256-GCM 필드 암복호화 비용 (엔티티 컨버터의 행 단위 비용) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptionUtilBenchmark {
+
+    /** 평문 길이 (BigDecimal 필드 ~ 계좌명/메모) */
+    @Param({"16", "256"})
+    private int plainTextLength;
+
+    private EncryptionUtil encryptionUtil;
+    private String plainText;
+    private String cipherText;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        encryptionUtil = new EncryptionUtil(Base64.getEncoder().encodeToString(key));
+        plainText =
+                "1234567890.1234".repeat(plainTextLength / 15 + 1).substring(0, plainTextLength);
+        cipherText = encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(cipherText);
+    }
+}
@@ -0,0 +1,89 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.BacktestRequestDto;
+import com.trading.journal.dto.OptimizationRequestDto;
+import com.trading.journal.dto.OptimizationRequestDto.ParameterRange;
+import com.trading.journal.dto.OptimizationResultDto;
+import com.trading.journal.entity.BacktestResult;
+import com.trading.journal.strategy.TradingStrategy;
+import com.trading.journal.strategy.TradingStrategy.PriceData;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** 백테스트 시뮬레이션 및 그리드 서치 최적화 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BacktestServiceBenchmark {
+
+    /**
+     * 거래일 수 (1년 / 5년). 일부 전략은 신호 계산이 거래일 수에 대해 제곱으로 늘어나 20년(5040)은 기본 실행에서 제외 - 필요 시 -PjmhArgs="-p
+     * tradingDays=5040"
+     */
+    @Param({"252", "1260"})
+    private int tradingDays;
+
+    private BacktestService backtestService;
+    private List<PriceData> prices;
+    private BacktestRequestDto backtestRequest;
+    private TradingStrategy strategy;
+    private OptimizationRequestDto optimizationRequest;
+
+    @Setup
+    public void setUp() {
+        backtestService = BenchmarkFixtures.backtestService();
+        prices = BenchmarkFixtures.samplePrices(backtestService, tradingDays);
+
+        backtestRequest =
+                BacktestRequestDto.builder()
+                        .symbol(BenchmarkFixtures.SAMPLE_SYMBOL)
+                        .strategyType(TradingStrategy.StrategyType.MOVING_AVERAGE)
+                        .startDate(BenchmarkFixtures.startDateFor(tradingDays))
+                        .endDate(BenchmarkFixtures.END_DATE)
+                        .initialCapital(BigDecimal.valueOf(10_000_000))
+                        .stopLossPercent(BigDecimal.valueOf(5))
+                        .takeProfitPercent(BigDecimal.valueOf(15))
+                        .build();
+        strategy = StrategySignalBenchmark.createStrategy(backtestRequest.getStrategyType());
+
+        // 4 x 4 = 16 조합 그리드
+        Map<String, ParameterRange> ranges = new LinkedHashMap<>();
+        ranges.put("shortPeriod", ParameterRange.builder().min(5).max(20).step(5).build());
+        ranges.put("longPeriod", ParameterRange.builder().min(30).max(60).step(10).build());
+        optimizationRequest =
+                OptimizationRequestDto.builder()
+                        .symbol(BenchmarkFixtures.SAMPLE_SYMBOL)
+                        .strategyType(TradingStrategy.StrategyType.MOVING_AVERAGE)
+                        .startDate(BenchmarkFixtures.startDateFor(tradingDays))
+                        .endDate(BenchmarkFixtures.END_DATE)
+                        .parameterRanges(ranges)
+                        .build();
+    }
+
+    @Benchmark
+    public BacktestResult executeBacktest() {
+        return backtestService.executeBacktest(backtestRequest, strategy, prices);
+    }
+
+    @Benchmark
+    public OptimizationResultDto optimizeStrategy() {
+        return backtestService.optimizeStrategy(optimizationRequest);
+    }
+}
@@ -0,0 +1,127 @@
+package com.trading.journal.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trading.journal.entity.BacktestResult;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.BacktestResultRepository;
+import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.strategy.TradingStrategy.PriceData;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** 벤치마크 공용 픽스처 (스프링 컨텍스트 없이 서비스를 직접 구성) */
+final class BenchmarkFixtures {
+
+    /** 벤치마크 종료일 고정 (실행 시점과 무관하게 동일한 시계열 생성) */
+    static final LocalDate END_DATE = LocalDate.of(2025, 12, 31);
+
+    /** 샘플 시계열 심볼 (시드 고정) */
+    static final String SAMPLE_SYMBOL = "BENCH";
+
+    private BenchmarkFixtures() {}
+
+    /** 저장소/외부 API를 목으로 대체한 BacktestService */
+    static BacktestService backtestService() {
+        BacktestResultRepository repository = mock(BacktestResultRepository.class);
+        when(repository.save(any(BacktestResult.class))).thenAnswer(inv -> inv.getArgument(0));
+        StockPriceService stockPriceService = mock(StockPriceService.class);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new BacktestService(repository, objectMapper, stockPriceService);
+    }
+
+    /** 거래일 기준 {@code tradingDays}개의 샘플 가격 시계열 */
+    static List<PriceData> samplePrices(BacktestService service, int tradingDays) {
+        return service.generateSamplePriceData(SAMPLE_SYMBOL, startDateFor(tradingDays), END_DATE);
+    }
+
+    /** 거래일 수에 해당하는 시작일 (주 5 거래일 가정) */
+    static LocalDate startDateFor(int tradingDays) {
+        return END_DATE.minusDays((long) tradingDays * 7 / 5);
+    }
+
+    /** 단일 계좌/종목의 매수·매도 교차 거래 (매수 2 : 매도 1) */
+    static List<Transaction> fifoTransactions(int count, long seed) {
+        Random random = new Random(seed);
+        Stock stock = stock(1L, "FIFO", Sector.TECH);
+        List<Transaction> transactions = new ArrayList<>(count);
+        LocalDateTime date = END_DATE.atStartOfDay().minusDays(count);
+        for (int i = 0; i < count; i++) {
+            TransactionType type = i % 3 == 2 ? TransactionType.SELL : TransactionType.BUY;
+            transactions.add(
+                    transaction(
+                            (long) i + 1,
+                            stock,
+                            type,
+                            BigDecimal.valueOf(1 + random.nextInt(50)),
+                            BigDecimal.valueOf(50 + random.nextDouble() * 100),
+                            date.plusDays(i)));
+        }
+        return transactions;
+    }
+
+    /** {@code stockCount}개 종목에 대해 종목당 {@code perStock}건의 거래 */
+    static List<Transaction> multiStockTransactions(int stockCount, int perStock, long seed) {
+        Random random = new Random(seed);
+        Sector[] sectors = Sector.values();
+        List<Transaction> transactions = new ArrayList<>(stockCount * perStock);
+        LocalDateTime start = END_DATE.atStartOfDay().minusDays(perStock);
+        long id = 1;
+        for (int s = 0; s < stockCount; s++) {
+            Stock stock = stock((long) s + 1, "SYM" + s, sectors[s % sectors.length]);
+            double price = 50 + random.nextDouble() * 100;
+            for (int d = 0; d < perStock; d++) {
+                price *= 1 + (random.nextDouble() - 0.5) * 0.04;
+                transactions.add(
+                        transaction(
+                                id++,
+                                stock,
+                                d % 2 == 0 ? TransactionType.BUY : TransactionType.SELL,
+                                BigDecimal.TEN,
+                                BigDecimal.valueOf(price),
+                                start.plusDays(d)));
+            }
+        }
+        return transactions;
+    }
+
+    /** 주어진 거래 목록을 반환하는 TransactionRepository 목 */
+    static TransactionRepository transactionRepositoryReturning(List<Transaction> transactions) {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        when(repository.findByDateRange(any(), any())).thenReturn(transactions);
+        return repository;
+    }
+
+    private static Stock stock(Long id, String symbol, Sector sector) {
+        return Stock.builder().id(id).symbol(symbol).name(symbol).sector(sector).build();
+    }
+
+    private static Transaction transaction(
+            Long id,
+            Stock stock,
+            TransactionType type,
+            BigDecimal quantity,
+            BigDecimal price,
+            LocalDateTime date) {
+        return Transaction.builder()
+                .id(id)
+                .stock(stock)
+                .type(type)
+                .quantity(quantity)
+                .price(price)
+                .commission(BigDecimal.ONE)
+                .transactionDate(date)
+                .build();
+    }
+}
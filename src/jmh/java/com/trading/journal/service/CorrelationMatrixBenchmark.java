@@ -0,0 +1,55 @@
+package com.trading.journal.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.trading.journal.dto.CorrelationMatrixDto;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** 종목 간 상관관계 행렬 계산 비용 (저장소는 목으로 대체) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorrelationMatrixBenchmark {
+
+    /** 보유 종목 수 */
+    @Param({"10", "30", "60"})
+    private int stockCount;
+
+    /** 종목당 거래일 수 */
+    @Param({"250"})
+    private int daysPerStock;
+
+    private AnalysisService analysisService;
+    private LocalDate startDate;
+
+    @Setup
+    public void setUp() {
+        analysisService =
+                new AnalysisService(
+                        BenchmarkFixtures.transactionRepositoryReturning(
+                                BenchmarkFixtures.multiStockTransactions(
+                                        stockCount, daysPerStock, 7L)),
+                        mock(PortfolioAnalysisService.class));
+        startDate = BenchmarkFixtures.END_DATE.minusDays(daysPerStock);
+    }
+
+    @Benchmark
+    public CorrelationMatrixDto calculateCorrelationMatrix() {
+        return analysisService.calculateCorrelationMatrix(startDate, BenchmarkFixtures.END_DATE);
+    }
+}
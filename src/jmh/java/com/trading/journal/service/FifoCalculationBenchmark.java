@@ -0,0 +1,56 @@
+package com.trading.journal.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.TransactionRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** 계좌/종목 단위 인메모리 FIFO 재계산 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FifoCalculationBenchmark {
+
+    /** 계좌/종목 쌍의 거래 건수 */
+    @Param({"100", "1000", "5000"})
+    private int transactionCount;
+
+    private FifoCalculationService fifoCalculationService;
+    private List<Transaction> buys;
+    private List<Transaction> sells;
+
+    @Setup
+    public void setUp() {
+        fifoCalculationService =
+                new FifoCalculationService(
+                        mock(TransactionRepository.class), mock(TaxLotLedgerService.class));
+        List<Transaction> transactions = BenchmarkFixtures.fifoTransactions(transactionCount, 42L);
+        buys = transactions.stream().filter(t -> t.getType() == TransactionType.BUY).toList();
+        sells = transactions.stream().filter(t -> t.getType() == TransactionType.SELL).toList();
+    }
+
+    /** 잔여 수량은 매 호출마다 매수 수량에서 다시 시작하므로 호출 간 상태 초기화가 필요 없다 */
+    @Benchmark
+    public void calculateFifoInMemory(Blackhole blackhole) {
+        fifoCalculationService.calculateFifoInMemory(buys, sells);
+        blackhole.consume(sells.get(sells.size() - 1).getRealizedPnl());
+    }
+}
@@ -0,0 +1,50 @@
+package com.trading.journal.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.trading.journal.service.MonteCarloSimulationService.SimulationResult;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** 몬테카를로 단일 경로(GBM) 시뮬레이션 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonteCarloSimulationBenchmark {
+
+    /** 투영 기간 (1년 / 2년 / 5년 = 최대치) */
+    @Param({"252", "504", "1260"})
+    private int projectionDays;
+
+    private MonteCarloSimulationService monteCarloSimulationService;
+    private NormalDistribution normalDist;
+    private BigDecimal initialValue;
+
+    @Setup
+    public void setUp() {
+        monteCarloSimulationService = new MonteCarloSimulationService(mock(AnalysisService.class));
+        normalDist = new NormalDistribution(0, 1);
+        initialValue = new BigDecimal("100000");
+    }
+
+    @Benchmark
+    public SimulationResult simulatePath() {
+        return monteCarloSimulationService.simulatePath(
+                initialValue, 0.0005, 0.015, projectionDays, normalDist);
+    }
+}
@@ -0,0 +1,77 @@
+package com.trading.journal.service;
+
+import com.trading.journal.strategy.TradingStrategy;
+import com.trading.journal.strategy.TradingStrategy.PriceData;
+import com.trading.journal.strategy.impl.BollingerBandStrategy;
+import com.trading.journal.strategy.impl.MACDStrategy;
+import com.trading.journal.strategy.impl.MomentumStrategy;
+import com.trading.journal.strategy.impl.MovingAverageCrossStrategy;
+import com.trading.journal.strategy.impl.RSIStrategy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 전략별 최신 바 시그널 생성 비용 (백테스트 루프의 핫패스)
+ *
+ * <p>백테스트는 거래일마다 generateSignal을 호출하므로 전체 비용은 대략 이 값 × 거래일 수다. 전략 대부분이 매 호출마다 과거 구간을 다시 계산하므로 전체
+ * 시계열 대신 마지막 인덱스 1회 호출로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategySignalBenchmark {
+
+    /**
+     * MACD는 EMA 누적 시 BigDecimal 스케일이 제한 없이 커져 1260일에서 호출 1회에 수 분이 걸리므로 기본 실행에서 제외 - 개별 확인 시
+     * -PjmhArgs="-p strategyType=MACD -p tradingDays=252"
+     */
+    @Param({"MOVING_AVERAGE", "RSI", "BOLLINGER_BAND", "MOMENTUM"})
+    private TradingStrategy.StrategyType strategyType;
+
+    /**
+     * 거래일 수 (1년 / 5년). 일부 전략은 신호 계산이 거래일 수에 대해 제곱으로 늘어나 20년(5040)은 기본 실행에서 제외 - 필요 시 -PjmhArgs="-p
+     * tradingDays=5040"
+     */
+    @Param({"252", "1260"})
+    private int tradingDays;
+
+    private TradingStrategy strategy;
+    private List<PriceData> prices;
+
+    @Setup
+    public void setUp() {
+        prices = BenchmarkFixtures.samplePrices(BenchmarkFixtures.backtestService(), tradingDays);
+        strategy = createStrategy(strategyType);
+    }
+
+    @Benchmark
+    public TradingStrategy.Signal latestSignal() {
+        return strategy.generateSignal(prices, prices.size() - 1);
+    }
+
+    /** BacktestService 기본 파라미터와 동일한 전략 인스턴스 */
+    static TradingStrategy createStrategy(TradingStrategy.StrategyType type) {
+        return switch (type) {
+            case MOVING_AVERAGE -> MovingAverageCrossStrategy.builder().build();
+            case RSI -> RSIStrategy.builder().build();
+            case BOLLINGER_BAND -> BollingerBandStrategy.builder().build();
+            case MOMENTUM -> MomentumStrategy.builder().build();
+            case MACD -> MACDStrategy.builder().build();
+            default -> throw new IllegalArgumentException("지원하지 않는 전략 유형: " + type);
+        };
+    }
+}
@@ -2,12 +2,14 @@ package com.trading.journal.ai.controller;
 
 import com.trading.journal.ai.dto.*;
 import com.trading.journal.ai.service.AITradingAssistantService;
+import com.trading.journal.exception.JobQueueFullException;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -57,7 +59,7 @@ public class AIAssistantController {
                             errorResponse.setAnalysisType("PERFORMANCE");
                             errorResponse.setSummary("분석 중 오류가 발생했습니다: " + e.getMessage());
                             return Mono.just(
-                                    ResponseEntity.internalServerError()
+                                    ResponseEntity.status(errorStatus(e))
                                             .header("X-AI-Disclaimer", AI_DISCLAIMER)
                                             .body(errorResponse));
                         });
@@ -84,7 +86,7 @@ public class AIAssistantController {
                             errorResponse.setTransactionId(transactionId);
                             errorResponse.setTradeSummary("복기 생성 중 오류가 발생했습니다: " + e.getMessage());
                             return Mono.just(
-                                    ResponseEntity.internalServerError()
+                                    ResponseEntity.status(errorStatus(e))
                                             .header("X-AI-Disclaimer", AI_DISCLAIMER)
                                             .body(errorResponse));
                         });
@@ -111,7 +113,7 @@ public class AIAssistantController {
                             errorResponse.setAnalysisType("RISK");
                             errorResponse.setSummary("리스크 분석 중 오류가 발생했습니다: " + e.getMessage());
                             return Mono.just(
-                                    ResponseEntity.internalServerError()
+                                    ResponseEntity.status(errorStatus(e))
                                             .header("X-AI-Disclaimer", AI_DISCLAIMER)
                                             .body(errorResponse));
                         });
@@ -139,7 +141,7 @@ public class AIAssistantController {
                             errorResponse.setCurrentStrategyAssessment(
                                     "전략 분석 중 오류가 발생했습니다: " + e.getMessage());
                             return Mono.just(
-                                    ResponseEntity.internalServerError()
+                                    ResponseEntity.status(errorStatus(e))
                                             .header("X-AI-Disclaimer", AI_DISCLAIMER)
                                             .body(errorResponse));
                         });
@@ -228,6 +230,13 @@ public class AIAssistantController {
                         });
     }
 
+    /** AI 요청 대기열 포화는 503, 그 외는 500 */
+    private static HttpStatus errorStatus(Throwable e) {
+        return e instanceof JobQueueFullException
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
     /** 채팅 요청 DTO */
     public static class ChatRequest {
         private String sessionId;
@@ -0,0 +1,239 @@
+package com.trading.journal.ai.service;
+
+import com.trading.journal.exception.JobQueueFullException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * LLM 요청 스케줄러
+ *
+ * <p>단일 Ollama 서버로 향하는 생성 요청의 동시 실행 수를 제한하고, 대기열은 사용자별 라운드로빈으로 처리한다. 동일 프롬프트의 진행 중 요청은 하나로 합치고, 완료된
+ * 응답과 계좌별 분석 컨텍스트(프롬프트)는 데이터 버전이 포함된 키로 캐시한다.
+ */
+@Component
+public class AIRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AIRequestScheduler.class);
+
+    @Value("${ai.scheduler.max-concurrent:2}")
+    private int maxConcurrent = 2;
+
+    @Value("${ai.scheduler.queue-capacity:20}")
+    private int queueCapacity = 20;
+
+    @Value("${ai.scheduler.result-ttl-minutes:30}")
+    private long resultTtlMinutes = 30;
+
+    @Value("${ai.scheduler.cache-max-entries:200}")
+    private int cacheMaxEntries = 200;
+
+    // 사용자별 대기열 (삽입 순서 = 라운드로빈 순서)
+    private final Map<String, Deque<Task>> waitingByUser = new LinkedHashMap<>();
+    private int waiting;
+    private int running;
+
+    // 진행 중 요청 (요청 키 -> 공유 결과)
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedValue> responseCache = lruCache();
+    private final Map<String, CachedValue> contextCache = lruCache();
+
+    private record Task(String requestKey, Supplier<Mono<String>> call, Sinks.One<String> sink) {}
+
+    private record CachedValue(String value, long createdAt) {}
+
+    /**
+     * LLM 호출 예약
+     *
+     * @param userKey 공정성 단위 (사용자 ID)
+     * @param requestKey 프롬프트 해시 + 데이터 버전 ({@link #requestKey})
+     * @param call 실제 LLM 호출 (슬롯을 얻었을 때 구독)
+     * @return 응답 본문. 대기열이 가득 차면 {@link JobQueueFullException}
+     */
+    public Mono<String> submit(String userKey, String requestKey, Supplier<Mono<String>> call) {
+        return Mono.defer(
+                () -> {
+                    String cached = getFresh(responseCache, requestKey);
+                    if (cached != null) {
+                        log.debug("AI 응답 캐시 적중: {}", requestKey);
+                        return Mono.just(cached);
+                    }
+                    try {
+                        boolean[] enqueued = new boolean[1];
+                        Mono<String> shared =
+                                inFlight.computeIfAbsent(
+                                        requestKey,
+                                        key -> {
+                                            enqueued[0] = true;
+                                            return enqueue(userKey, key, call);
+                                        });
+                        if (enqueued[0]) {
+                            dispatch();
+                        }
+                        return shared;
+                    } catch (JobQueueFullException e) {
+                        return Mono.error(e);
+                    }
+                });
+    }
+
+    /**
+     * 계좌별 분석 컨텍스트(렌더링된 프롬프트) 캐시 조회, 없으면 생성
+     *
+     * @param contextKey 컨텍스트 종류/계좌/기간/데이터 버전을 포함한 키
+     */
+    public String cachedContext(String contextKey, Callable<String> builder) throws Exception {
+        String cached = getFresh(contextCache, contextKey);
+        if (cached != null) {
+            return cached;
+        }
+        String context = builder.call();
+        contextCache.put(contextKey, new CachedValue(context, System.currentTimeMillis()));
+        return context;
+    }
+
+    /** 요청 키 생성 (프롬프트 SHA-256 + 데이터 버전) */
+    public static String requestKey(String dataVersion, String... promptParts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : promptParts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest()) + ":" + dataVersion;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 대기 중인 요청 수 */
+    public int getWaitingCount() {
+        synchronized (waitingByUser) {
+            return waiting;
+        }
+    }
+
+    /** 실행 중인 요청 수 */
+    public int getRunningCount() {
+        synchronized (waitingByUser) {
+            return running;
+        }
+    }
+
+    /** 만료 캐시 정리 (5분마다) */
+    @Scheduled(fixedDelay = 300000)
+    public void evictExpired() {
+        evictExpired(responseCache);
+        evictExpired(contextCache);
+    }
+
+    /** 대기열에 추가 (가득 차면 예외 - 진행 중 맵에 남지 않도록 computeIfAbsent 밖으로 전파) */
+    private Mono<String> enqueue(String userKey, String requestKey, Supplier<Mono<String>> call) {
+        Task task = new Task(requestKey, call, Sinks.one());
+        synchronized (waitingByUser) {
+            if (waiting >= queueCapacity) {
+                throw new JobQueueFullException("AI 분석", queueCapacity);
+            }
+            waitingByUser.computeIfAbsent(userKey, k -> new ArrayDeque<>()).addLast(task);
+            waiting++;
+        }
+        return task.sink().asMono();
+    }
+
+    /** 빈 슬롯만큼 사용자 라운드로빈 순서로 대기 요청 시작 */
+    private void dispatch() {
+        List<Task> toStart = new ArrayList<>();
+        synchronized (waitingByUser) {
+            while (running < maxConcurrent && waiting > 0) {
+                Iterator<Map.Entry<String, Deque<Task>>> it = waitingByUser.entrySet().iterator();
+                Map.Entry<String, Deque<Task>> next = it.next();
+                Task task = next.getValue().pollFirst();
+                it.remove();
+                if (!next.getValue().isEmpty()) {
+                    waitingByUser.put(next.getKey(), next.getValue()); // 맨 뒤로 이동
+                }
+                waiting--;
+                running++;
+                toStart.add(task);
+            }
+        }
+        toStart.forEach(this::start);
+    }
+
+    private void start(Task task) {
+        Mono.defer(task.call())
+                .doFinally(
+                        signal -> {
+                            inFlight.remove(task.requestKey());
+                            synchronized (waitingByUser) {
+                                running--;
+                            }
+                            dispatch();
+                        })
+                .subscribe(
+                        value -> {
+                            if (value != null && !value.isEmpty()) {
+                                responseCache.put(
+                                        task.requestKey(),
+                                        new CachedValue(value, System.currentTimeMillis()));
+                            }
+                            task.sink().tryEmitValue(value);
+                        },
+                        error -> task.sink().tryEmitError(error),
+                        () -> task.sink().tryEmitEmpty());
+    }
+
+    private String getFresh(Map<String, CachedValue> cache, String key) {
+        CachedValue cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (isExpired(cached, System.currentTimeMillis())) {
+            cache.remove(key);
+            return null;
+        }
+        return cached.value();
+    }
+
+    private boolean isExpired(CachedValue cached, long now) {
+        return now - cached.createdAt() > Duration.ofMinutes(resultTtlMinutes).toMillis();
+    }
+
+    private void evictExpired(Map<String, CachedValue> cache) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            cache.values().removeIf(cached -> isExpired(cached, now));
+        }
+    }
+
+    private Map<String, CachedValue> lruCache() {
+        return Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                        return size() > cacheMaxEntries;
+                    }
+                });
+    }
+}
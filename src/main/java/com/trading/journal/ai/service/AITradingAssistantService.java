@@ -9,10 +9,7 @@ import com.trading.journal.entity.TransactionType;
 import com.trading.journal.repository.TransactionRepository;
 import com.trading.journal.service.*;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -34,9 +31,10 @@ public class AITradingAssistantService {
     private final RiskDashboardService riskDashboardService;
     private final BacktestService backtestService;
     private final TransactionRepository transactionRepository;
-
-    // 채팅 세션 관리 (세션 ID -> 대화 기록)
-    private final Map<String, List<ChatMessageDto>> chatSessions = new ConcurrentHashMap<>();
+    private final TransactionDataVersionService dataVersionService;
+    private final ChatSessionStore chatSessionStore;
+    private final AIRequestScheduler requestScheduler;
+    private final SecurityContextService securityContextService;
 
     public AITradingAssistantService(
             OllamaClient ollamaClient,
@@ -47,7 +45,11 @@ public class AITradingAssistantService {
             PortfolioAnalysisService portfolioAnalysisService,
             RiskDashboardService riskDashboardService,
             BacktestService backtestService,
-            TransactionRepository transactionRepository) {
+            TransactionRepository transactionRepository,
+            TransactionDataVersionService dataVersionService,
+            ChatSessionStore chatSessionStore,
+            AIRequestScheduler requestScheduler,
+            SecurityContextService securityContextService) {
         this.ollamaClient = ollamaClient;
         this.promptTemplate = promptTemplate;
         this.analysisService = analysisService;
@@ -57,6 +59,10 @@ public class AITradingAssistantService {
         this.riskDashboardService = riskDashboardService;
         this.backtestService = backtestService;
         this.transactionRepository = transactionRepository;
+        this.dataVersionService = dataVersionService;
+        this.chatSessionStore = chatSessionStore;
+        this.requestScheduler = requestScheduler;
+        this.securityContextService = securityContextService;
     }
 
     /** 성과 분석 AI */
@@ -65,28 +71,38 @@ public class AITradingAssistantService {
         log.info("AI 성과 분석 시작: accountId={}, period={} ~ {}", accountId, startDate, endDate);
 
         try {
-            // 데이터 수집 (AnalysisService는 accountId를 받지 않음)
-            PeriodAnalysisDto periodAnalysis = analysisService.analyzePeriod(startDate, endDate);
-            RiskMetricsDto riskMetrics =
-                    riskMetricsService.calculateRiskMetrics(accountId, startDate, endDate);
-            TradingPatternDto tradingPattern =
-                    tradingPatternService.analyzePatterns(accountId, startDate, endDate);
-
-            // 프롬프트 생성
+            // 분석 컨텍스트는 계좌/기간/데이터 버전 단위로 캐시
+            String dataVersion = dataVersionService.currentVersion();
             String prompt =
-                    promptTemplate.buildPerformanceAnalysisPrompt(
-                            periodAnalysis, riskMetrics, tradingPattern);
+                    requestScheduler.cachedContext(
+                            contextKey(
+                                    "PERFORMANCE",
+                                    accountId,
+                                    startDate + "~" + endDate,
+                                    dataVersion),
+                            () -> {
+                                // 데이터 수집 (AnalysisService는 accountId를 받지 않음)
+                                PeriodAnalysisDto periodAnalysis =
+                                        analysisService.analyzePeriod(startDate, endDate);
+                                RiskMetricsDto riskMetrics =
+                                        riskMetricsService.calculateRiskMetrics(
+                                                accountId, startDate, endDate);
+                                TradingPatternDto tradingPattern =
+                                        tradingPatternService.analyzePatterns(
+                                                accountId, startDate, endDate);
+                                return promptTemplate.buildPerformanceAnalysisPrompt(
+                                        periodAnalysis, riskMetrics, tradingPattern);
+                            });
             String systemPrompt = promptTemplate.getSystemPrompt();
 
-            // LLM 호출
-            return ollamaClient
-                    .generate(prompt, systemPrompt)
+            // LLM 호출 (스케줄러 경유)
+            return generate(dataVersion, prompt, systemPrompt)
                     .map(
-                            response -> {
+                            content -> {
                                 AIAnalysisResponseDto result = new AIAnalysisResponseDto();
                                 result.setAnalysisType("PERFORMANCE");
-                                result.setSummary(response.getContent());
-                                result.setRawResponse(response.getContent());
+                                result.setSummary(content);
+                                result.setRawResponse(content);
                                 return result;
                             })
                     .doOnSuccess(r -> log.info("AI 성과 분석 완료"))
@@ -137,17 +153,16 @@ public class AITradingAssistantService {
         String prompt = promptTemplate.buildTradeReviewPrompt(sellDto, buyDto);
         String systemPrompt = promptTemplate.getSystemPrompt();
 
-        // LLM 호출
-        return ollamaClient
-                .generate(prompt, systemPrompt)
+        // LLM 호출 (스케줄러 경유)
+        return generate(dataVersionService.currentVersion(), prompt, systemPrompt)
                 .map(
-                        response -> {
+                        content -> {
                             AIReviewGenerationDto result = new AIReviewGenerationDto();
                             result.setTransactionId(transactionId);
                             result.setStockSymbol(stockSymbol);
                             result.setStockName(stockName);
-                            result.setTradeSummary(response.getContent());
-                            result.setRawResponse(response.getContent());
+                            result.setTradeSummary(content);
+                            result.setRawResponse(content);
                             return result;
                         })
                 .doOnSuccess(r -> log.info("AI 거래 복기 생성 완료: {}", stockSymbol))
@@ -163,27 +178,32 @@ public class AITradingAssistantService {
             LocalDate endDate = LocalDate.now();
             LocalDate startDate = endDate.minusMonths(3);
 
-            // 데이터 수집
-            RiskMetricsDto riskMetrics =
-                    riskMetricsService.calculateRiskMetrics(accountId, startDate, endDate);
-            PortfolioSummaryDto portfolioSummary = portfolioAnalysisService.getPortfolioSummary();
-            RiskDashboardDto riskDashboard = riskDashboardService.getRiskDashboard(accountId);
-
-            // 프롬프트 생성
+            // 분석 컨텍스트는 계좌/데이터 버전 단위로 캐시 (데이터 버전에 날짜 포함)
+            String dataVersion = dataVersionService.currentVersion();
             String prompt =
-                    promptTemplate.buildRiskWarningPrompt(
-                            riskMetrics, portfolioSummary, riskDashboard);
+                    requestScheduler.cachedContext(
+                            contextKey("RISK", accountId, startDate + "~" + endDate, dataVersion),
+                            () -> {
+                                RiskMetricsDto riskMetrics =
+                                        riskMetricsService.calculateRiskMetrics(
+                                                accountId, startDate, endDate);
+                                PortfolioSummaryDto portfolioSummary =
+                                        portfolioAnalysisService.getPortfolioSummary();
+                                RiskDashboardDto riskDashboard =
+                                        riskDashboardService.getRiskDashboard(accountId);
+                                return promptTemplate.buildRiskWarningPrompt(
+                                        riskMetrics, portfolioSummary, riskDashboard);
+                            });
             String systemPrompt = promptTemplate.getSystemPrompt();
 
-            // LLM 호출
-            return ollamaClient
-                    .generate(prompt, systemPrompt)
+            // LLM 호출 (스케줄러 경유)
+            return generate(dataVersion, prompt, systemPrompt)
                     .map(
-                            response -> {
+                            content -> {
                                 AIAnalysisResponseDto result = new AIAnalysisResponseDto();
                                 result.setAnalysisType("RISK");
-                                result.setSummary(response.getContent());
-                                result.setRawResponse(response.getContent());
+                                result.setSummary(content);
+                                result.setRawResponse(content);
                                 return result;
                             })
                     .doOnSuccess(r -> log.info("AI 리스크 분석 완료"))
@@ -207,16 +227,15 @@ public class AITradingAssistantService {
             String prompt = promptTemplate.buildStrategyOptimizationPrompt(backtestResult);
             String systemPrompt = promptTemplate.getSystemPrompt();
 
-            // LLM 호출
-            return ollamaClient
-                    .generate(prompt, systemPrompt)
+            // LLM 호출 (스케줄러 경유, 백테스트 결과는 불변이므로 ID를 데이터 버전으로 사용)
+            return generate("backtest:" + backtestId, prompt, systemPrompt)
                     .map(
-                            response -> {
+                            content -> {
                                 AISuggestionDto result = new AISuggestionDto();
                                 result.setBacktestId(backtestId);
                                 result.setStrategyName(backtestResult.getStrategyName());
-                                result.setCurrentStrategyAssessment(response.getContent());
-                                result.setRawResponse(response.getContent());
+                                result.setCurrentStrategyAssessment(content);
+                                result.setRawResponse(content);
                                 return result;
                             })
                     .doOnSuccess(r -> log.info("AI 전략 최적화 분석 완료"))
@@ -232,18 +251,11 @@ public class AITradingAssistantService {
     public Flux<String> chat(String sessionId, String userMessage) {
         log.info("AI 채팅 시작: sessionId={}", sessionId);
 
-        // 세션 대화 기록 가져오기
+        // 세션에 사용자 메시지 추가 후 토큰 예산 내 컨텍스트만 전송
         List<ChatMessageDto> messages =
-                chatSessions.computeIfAbsent(
-                        sessionId,
-                        k -> {
-                            List<ChatMessageDto> newSession = new ArrayList<>();
-                            newSession.add(ChatMessageDto.system(promptTemplate.getSystemPrompt()));
-                            return newSession;
-                        });
-
-        // 사용자 메시지 추가
-        messages.add(ChatMessageDto.user(userMessage));
+                chatSessionStore.appendUserMessage(
+                        sessionId, promptTemplate.getSystemPrompt(), userMessage);
+        StringBuilder answer = new StringBuilder();
 
         // 스트리밍 호출
         return ollamaClient
@@ -251,9 +263,13 @@ public class AITradingAssistantService {
                 .map(
                         response -> {
                             String content = response.getContent();
-                            // 응답 완료시 어시스턴트 메시지 저장
-                            if (Boolean.TRUE.equals(response.getDone()) && content != null) {
-                                messages.add(ChatMessageDto.assistant(content));
+                            if (content != null) {
+                                answer.append(content);
+                            }
+                            // 응답 완료시 누적된 어시스턴트 메시지 저장
+                            if (Boolean.TRUE.equals(response.getDone())) {
+                                chatSessionStore.appendAssistantMessage(
+                                        sessionId, answer.toString());
                             }
                             return content != null ? content : "";
                         })
@@ -267,24 +283,15 @@ public class AITradingAssistantService {
         log.info("AI 채팅 (동기) 시작: sessionId={}", sessionId);
 
         List<ChatMessageDto> messages =
-                chatSessions.computeIfAbsent(
-                        sessionId,
-                        k -> {
-                            List<ChatMessageDto> newSession = new ArrayList<>();
-                            newSession.add(ChatMessageDto.system(promptTemplate.getSystemPrompt()));
-                            return newSession;
-                        });
-
-        messages.add(ChatMessageDto.user(userMessage));
+                chatSessionStore.appendUserMessage(
+                        sessionId, promptTemplate.getSystemPrompt(), userMessage);
 
         return ollamaClient
                 .chat(messages)
                 .map(
                         response -> {
                             String content = response.getContent();
-                            if (content != null) {
-                                messages.add(ChatMessageDto.assistant(content));
-                            }
+                            chatSessionStore.appendAssistantMessage(sessionId, content);
                             return content != null ? content : "";
                         })
                 .doOnSuccess(r -> log.info("AI 채팅 완료"))
@@ -293,7 +300,7 @@ public class AITradingAssistantService {
 
     /** 채팅 세션 초기화 */
     public void clearChatSession(String sessionId) {
-        chatSessions.remove(sessionId);
+        chatSessionStore.remove(sessionId);
         log.info("채팅 세션 초기화: sessionId={}", sessionId);
     }
 
@@ -302,6 +309,30 @@ public class AITradingAssistantService {
         return ollamaClient.healthCheck();
     }
 
+    /** 스케줄러를 통한 단건 생성 (동시 실행 제한, 진행 중 요청 병합, 응답 캐시) */
+    private Mono<String> generate(String dataVersion, String prompt, String systemPrompt) {
+        return requestScheduler.submit(
+                currentUserKey(),
+                AIRequestScheduler.requestKey(dataVersion, systemPrompt, prompt),
+                () ->
+                        ollamaClient
+                                .generate(prompt, systemPrompt)
+                                .map(
+                                        response ->
+                                                response.getContent() != null
+                                                        ? response.getContent()
+                                                        : ""));
+    }
+
+    private String currentUserKey() {
+        return securityContextService.getCurrentUserId().map(String::valueOf).orElse("anonymous");
+    }
+
+    private String contextKey(String type, Long accountId, String period, String dataVersion) {
+        return String.join(
+                "|", type, currentUserKey(), String.valueOf(accountId), period, dataVersion);
+    }
+
     /** Transaction 엔티티 -> DTO 변환 */
     private TransactionDto convertToDto(Transaction tx) {
         Stock stock = tx.getStock();
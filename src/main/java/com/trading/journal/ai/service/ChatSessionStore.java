@@ -0,0 +1,325 @@
+package com.trading.journal.ai.service;
+
+import com.trading.journal.ai.dto.ChatMessageDto;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 채팅 세션 저장소
+ *
+ * <p>LRU/TTL로 세션 수를 제한하고, 세션별 대화는 토큰 예산 안에서 최근 턴만 원문으로 유지한다. 예산을 넘는 오래된 턴은 LLM 요약이 아니라 앞부분만 잘라 낸 한
+ * 줄 발췌로 접어서 보관하고(발췌 예산을 넘으면 가장 오래된 줄부터 버림), Redis가 활성화된 경우 세션 스냅샷을 Redis에 저장해 여러 노드에서 이어서 대화할 수 있다.
+ */
+@Component
+public class ChatSessionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatSessionStore.class);
+
+    private static final String REDIS_KEY_PREFIX = "ai:chat:session:";
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final int EXCERPT_LINE_MAX_CHARS = 160;
+
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+
+    @Value("${ai.chat.max-sessions:500}")
+    private int maxSessions = 500;
+
+    @Value("${ai.chat.session-ttl-minutes:60}")
+    private long sessionTtlMinutes = 60;
+
+    @Value("${ai.chat.context-token-budget:3000}")
+    private int contextTokenBudget = 3000;
+
+    @Value("${ai.chat.excerpt-token-budget:600}")
+    private int excerptTokenBudget = 600;
+
+    @Value("${ai.chat.redis-persistence:true}")
+    private boolean redisPersistence = true;
+
+    private final Map<String, ChatSession> sessions =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ChatSession> eldest) {
+                    return size() > maxSessions;
+                }
+            };
+
+    public ChatSessionStore(ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider) {
+        this.redisTemplateProvider = redisTemplateProvider;
+    }
+
+    /**
+     * 사용자 메시지를 추가하고 LLM에 보낼 컨텍스트를 반환
+     *
+     * @return 시스템 프롬프트 + 이전 대화 발췌 + 토큰 예산 내 최근 턴 (방금 추가한 메시지 포함)
+     */
+    public List<ChatMessageDto> appendUserMessage(
+            String sessionId, String systemPrompt, String content) {
+        ChatSession session = getOrCreate(sessionId, systemPrompt);
+        List<ChatMessageDto> context;
+        synchronized (session) {
+            session.append(ChatMessageDto.user(content));
+            context = session.contextWindow();
+        }
+        persist(sessionId, session);
+        return context;
+    }
+
+    /** 어시스턴트 응답 추가 */
+    public void appendAssistantMessage(String sessionId, String content) {
+        if (content == null || content.isEmpty()) {
+            return;
+        }
+        ChatSession session = find(sessionId);
+        if (session == null) {
+            log.debug("응답 저장 대상 세션 없음 (만료됨): sessionId={}", sessionId);
+            return;
+        }
+        synchronized (session) {
+            session.append(ChatMessageDto.assistant(content));
+        }
+        persist(sessionId, session);
+    }
+
+    /** 세션 삭제 */
+    public void remove(String sessionId) {
+        synchronized (sessions) {
+            sessions.remove(sessionId);
+        }
+        RedisTemplate<String, Object> redis = redisTemplate();
+        if (redis != null) {
+            try {
+                redis.delete(REDIS_KEY_PREFIX + sessionId);
+            } catch (Exception e) {
+                log.warn("채팅 세션 Redis 삭제 실패: sessionId={}, {}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    /** 로컬 보관 중인 세션 수 */
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    /** 만료 세션 정리 (5분마다) */
+    @Scheduled(fixedDelay = 300000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (sessions) {
+            Iterator<ChatSession> it = sessions.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isExpired(now, ttlMillis())) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("만료 채팅 세션 {}개 정리", removed);
+        }
+    }
+
+    private ChatSession getOrCreate(String sessionId, String systemPrompt) {
+        ChatSession session = find(sessionId);
+        if (session != null) {
+            return session;
+        }
+        synchronized (sessions) {
+            return sessions.computeIfAbsent(sessionId, k -> new ChatSession(systemPrompt));
+        }
+    }
+
+    /** 로컬 → Redis 순으로 세션 조회 (만료 세션은 제거) */
+    private ChatSession find(String sessionId) {
+        long now = System.currentTimeMillis();
+        synchronized (sessions) {
+            ChatSession session = sessions.get(sessionId);
+            if (session != null) {
+                if (!session.isExpired(now, ttlMillis())) {
+                    session.touch(now);
+                    return session;
+                }
+                sessions.remove(sessionId);
+            }
+        }
+
+        ChatSession restored = restore(sessionId);
+        if (restored == null) {
+            return null;
+        }
+        synchronized (sessions) {
+            ChatSession existing = sessions.putIfAbsent(sessionId, restored);
+            return existing != null ? existing : restored;
+        }
+    }
+
+    private long ttlMillis() {
+        return Duration.ofMinutes(sessionTtlMinutes).toMillis();
+    }
+
+    private RedisTemplate<String, Object> redisTemplate() {
+        return redisPersistence ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    private void persist(String sessionId, ChatSession session) {
+        RedisTemplate<String, Object> redis = redisTemplate();
+        if (redis == null) {
+            return;
+        }
+        Map<String, Object> snapshot;
+        synchronized (session) {
+            snapshot = session.toSnapshot();
+        }
+        try {
+            redis.opsForValue()
+                    .set(
+                            REDIS_KEY_PREFIX + sessionId,
+                            snapshot,
+                            Duration.ofMinutes(sessionTtlMinutes));
+        } catch (Exception e) {
+            log.warn("채팅 세션 Redis 저장 실패: sessionId={}, {}", sessionId, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChatSession restore(String sessionId) {
+        RedisTemplate<String, Object> redis = redisTemplate();
+        if (redis == null) {
+            return null;
+        }
+        try {
+            Object value = redis.opsForValue().get(REDIS_KEY_PREFIX + sessionId);
+            if (value instanceof Map<?, ?> snapshot) {
+                return fromSnapshot((Map<String, Object>) snapshot);
+            }
+        } catch (Exception e) {
+            log.warn("채팅 세션 Redis 조회 실패: sessionId={}, {}", sessionId, e.getMessage());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChatSession fromSnapshot(Map<String, Object> snapshot) {
+        ChatSession session = new ChatSession((String) snapshot.get("systemPrompt"));
+        for (String line : (List<String>) snapshot.getOrDefault("excerpts", List.of())) {
+            session.excerptLines.addLast(line);
+            session.excerptTokens += estimateTokens(line);
+        }
+        for (Map<String, String> message :
+                (List<Map<String, String>>) snapshot.getOrDefault("messages", List.of())) {
+            ChatMessageDto turn = new ChatMessageDto(message.get("role"), message.get("content"));
+            session.turns.addLast(turn);
+            session.turnTokens += estimateTokens(turn.getContent());
+        }
+        return session;
+    }
+
+    /** 토큰 수 근사치 (문자 3개당 1토큰 + 메시지 오버헤드). 한글/영문 혼용 기준 보수적 추정 */
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return MESSAGE_OVERHEAD_TOKENS;
+        }
+        return (text.length() + 2) / 3 + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /** 세션 단위 대화 상태 (인스턴스 모니터로 동기화) */
+    private final class ChatSession {
+
+        private final String systemPrompt;
+        private final Deque<ChatMessageDto> turns = new ArrayDeque<>();
+        private final Deque<String> excerptLines = new ArrayDeque<>();
+        private int turnTokens;
+        private int excerptTokens;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private ChatSession(String systemPrompt) {
+            this.systemPrompt = systemPrompt;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return now - lastAccess > ttlMillis;
+        }
+
+        /** 턴 추가 후 예산 초과분은 가장 오래된 턴부터 발췌로 이동 (최신 메시지는 항상 원문 유지) */
+        void append(ChatMessageDto message) {
+            turns.addLast(message);
+            turnTokens += estimateTokens(message.getContent());
+
+            int budget =
+                    Math.max(0, contextTokenBudget - estimateTokens(systemPrompt) - excerptTokens);
+            while (turns.size() > 1 && turnTokens > budget) {
+                ChatMessageDto oldest = turns.removeFirst();
+                turnTokens -= estimateTokens(oldest.getContent());
+                foldIntoExcerpts(oldest);
+                budget =
+                        Math.max(
+                                0,
+                                contextTokenBudget - estimateTokens(systemPrompt) - excerptTokens);
+            }
+        }
+
+        /**
+         * 오래된 턴을 발화자와 앞부분 {@value #EXCERPT_LINE_MAX_CHARS}자만 남긴 한 줄로 누적 (내용을 요약하지 않고 잘라 낸다). 발췌 예산을
+         * 넘으면 가장 오래된 줄부터 폐기한다.
+         */
+        private void foldIntoExcerpts(ChatMessageDto message) {
+            String speaker =
+                    ChatMessageDto.Role.user.name().equals(message.getRole()) ? "사용자" : "어시스턴트";
+            String content = message.getContent() != null ? message.getContent().strip() : "";
+            if (content.length() > EXCERPT_LINE_MAX_CHARS) {
+                content = content.substring(0, EXCERPT_LINE_MAX_CHARS) + "…";
+            }
+            String line = "- " + speaker + ": " + content.replace('\n', ' ');
+            excerptLines.addLast(line);
+            excerptTokens += estimateTokens(line);
+
+            while (excerptLines.size() > 1 && excerptTokens > excerptTokenBudget) {
+                excerptTokens -= estimateTokens(excerptLines.removeFirst());
+            }
+        }
+
+        List<ChatMessageDto> contextWindow() {
+            List<ChatMessageDto> context = new ArrayList<>(turns.size() + 2);
+            context.add(ChatMessageDto.system(systemPrompt));
+            if (!excerptLines.isEmpty()) {
+                context.add(
+                        ChatMessageDto.system(
+                                "이전 대화 발췌 (각 메시지의 앞부분만):\n" + String.join("\n", excerptLines)));
+            }
+            context.addAll(turns);
+            return context;
+        }
+
+        Map<String, Object> toSnapshot() {
+            List<Map<String, String>> messages = new ArrayList<>(turns.size());
+            for (ChatMessageDto turn : turns) {
+                messages.add(Map.of("role", turn.getRole(), "content", turn.getContent()));
+            }
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("systemPrompt", systemPrompt);
+            snapshot.put("excerpts", new ArrayList<>(excerptLines));
+            snapshot.put("messages", messages);
+            return snapshot;
+        }
+    }
+}
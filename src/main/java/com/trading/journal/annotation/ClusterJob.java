@@ -0,0 +1,31 @@
+package com.trading.journal.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드에서 실행되는 스케줄 작업을 클러스터 전체에서 한 번만 실행하게 한다. ClusterJobAspect가 DB 리스를 획득한 노드에서만 메서드를 실행하고 실행 이력을
+ * 남긴다 (리스를 얻지 못하면 실행하지 않고 반환).
+ *
+ * <p>{@code sharded = true}이면 멤버십 에포크의 노드 수만큼 샤드를 나눠 각 노드가 자기 샤드 번호의 리스를 잡고 실행하며, 메서드는 {@link
+ * com.trading.journal.scheduler.JobShard#current()}로 자기 몫의 키만 처리해야 한다.
+ *
+ * <p>건너뛸 때 반환값이 없으므로 void 메서드에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterJob {
+    /** 작업 이름 (리스와 실행 이력의 키) */
+    String value();
+
+    /** 노드별 샤드로 나눠 실행할지 */
+    boolean sharded() default false;
+
+    /** 실행 노드가 죽어도 이 시간(초)이 지나면 리스가 풀린다. 작업의 최대 실행 시간보다 길게 잡는다. */
+    long lockAtMostForSeconds() default 600;
+
+    /** 작업이 일찍 끝나도 리스를 유지하는 시간(초). 노드 간 시계 차이로 같은 cron 실행이 다른 노드에서 반복되는 것을 막는다. */
+    long lockAtLeastForSeconds() default 30;
+}
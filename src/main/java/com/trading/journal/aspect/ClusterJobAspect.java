@@ -0,0 +1,78 @@
+package com.trading.journal.aspect;
+
+import com.trading.journal.annotation.ClusterJob;
+import com.trading.journal.scheduler.JobShard;
+import com.trading.journal.service.ClusterSchedulerService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ClusterJob} 작업을 리스를 획득한 노드에서만 실행하는 AOP.
+ *
+ * <p>트랜잭션보다 바깥에서 동작하도록 가장 높은 우선순위를 가지므로, 리스를 얻지 못한 노드는 작업의 트랜잭션도 열지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobAspect {
+
+    private final ClusterSchedulerService clusterSchedulerService;
+
+    @Around("@annotation(clusterJob)")
+    public Object runWithLease(ProceedingJoinPoint joinPoint, ClusterJob clusterJob)
+            throws Throwable {
+        if (!clusterSchedulerService.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        JobShard shard = JobShard.ALL;
+        if (clusterJob.sharded()) {
+            Optional<JobShard> current = clusterSchedulerService.currentShard();
+            if (current.isEmpty()) {
+                log.debug("Skipping {}: node not yet in the membership epoch", clusterJob.value());
+                return null;
+            }
+            shard = current.get();
+        }
+        // 샤드 수는 리스 키에 넣지 않는다 - 같은 번호는 샤드 수와 무관하게 한 노드만 실행한다
+        String lease =
+                shard.isSharded() ? clusterJob.value() + "#" + shard.index() : clusterJob.value();
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!clusterSchedulerService.tryAcquire(
+                lease, startedAt, Duration.ofSeconds(clusterJob.lockAtMostForSeconds()))) {
+            log.debug("Skipping {}: lease held by another node", lease);
+            return null;
+        }
+
+        long start = System.currentTimeMillis();
+        Throwable failure = null;
+        JobShard.bind(shard);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            JobShard.unbind();
+            clusterSchedulerService.recordRun(
+                    clusterJob.value(),
+                    shard,
+                    startedAt,
+                    System.currentTimeMillis() - start,
+                    failure);
+            clusterSchedulerService.release(
+                    lease, startedAt, Duration.ofSeconds(clusterJob.lockAtLeastForSeconds()));
+        }
+    }
+}
@@ -45,7 +45,6 @@ public class RedisConfig {
     private static final String CACHE_TRADING_STATS = "tradingStats";
     private static final String CACHE_GOALS = "goalSummary";
     private static final String CACHE_TRADING_PSYCHOLOGY = "tradingPsychology";
-    private static final String CACHE_TILT_STATUS = "tiltStatus";
     private static final String CACHE_PSYCHOLOGICAL_SCORE = "psychologicalScore";
     private static final String CACHE_COMPOSITE_DASHBOARD = "composite_dashboard";
     private static final String CACHE_BENCHMARK_COMPARISON = "benchmarkComparison";
@@ -134,7 +133,6 @@ public class RedisConfig {
                         new ConcurrentMapCache(CACHE_TRADING_STATS),
                         new ConcurrentMapCache(CACHE_GOALS),
                         new ConcurrentMapCache(CACHE_TRADING_PSYCHOLOGY),
-                        new ConcurrentMapCache(CACHE_TILT_STATUS),
                         new ConcurrentMapCache(CACHE_PSYCHOLOGICAL_SCORE),
                         new ConcurrentMapCache(CACHE_COMPOSITE_DASHBOARD),
                         new ConcurrentMapCache(CACHE_BENCHMARK_COMPARISON),
@@ -202,7 +200,6 @@ public class RedisConfig {
 
         // 트레이딩 심리 분석 - 30분 캐시
         cacheConfigurations.put(CACHE_TRADING_PSYCHOLOGY, defaultConfig.entryTtl(TTL_ANALYSIS));
-        cacheConfigurations.put(CACHE_TILT_STATUS, defaultConfig.entryTtl(TTL_DEFAULT));
         cacheConfigurations.put(CACHE_PSYCHOLOGICAL_SCORE, defaultConfig.entryTtl(TTL_ANALYSIS));
 
         // 복합 대시보드 - 5분 캐시
@@ -341,6 +341,28 @@ public class AnalysisController {
         return ResponseEntity.ok(comparison);
     }
 
+    /** 포트폴리오와 여러 벤치마크 동시 비교 (benchmarks 미지정 시 전체) */
+    @GetMapping("/benchmark/compare-multi")
+    public ResponseEntity<BenchmarkComparisonDto.MultiBenchmarkComparison> compareToBenchmarks(
+            @RequestParam(required = false) List<BenchmarkType> benchmarks,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long accountId) {
+        log.info(
+                "Comparing portfolio to {} from {} to {} for account {}",
+                benchmarks,
+                startDate,
+                endDate,
+                accountId);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이전이어야 합니다");
+        }
+
+        return ResponseEntity.ok(
+                benchmarkService.compareToBenchmarks(accountId, benchmarks, startDate, endDate));
+    }
+
     /** 모든 벤치마크 요약 정보 조회 */
     @GetMapping("/benchmark/summaries")
     public ResponseEntity<List<BenchmarkComparisonDto.BenchmarkSummary>> getBenchmarkSummaries() {
@@ -456,7 +478,7 @@ public class AnalysisController {
     /**
      * 포트폴리오 트리맵 데이터 조회 (Finviz 스타일) 기간별 성과를 시각화하기 위한 데이터 반환
      *
-     * @param period 기간 (1D, 1W, 1M, MTD, 3M, 6M, 1Y)
+     * @param period 기간 (1D, 1W, 1M, MTD, 3M, 6M, YTD, 1Y)
      * @return 트리맵 데이터 (셀 크기=투자금액, 색상=수익률)
      */
     @GetMapping("/portfolio/treemap")
@@ -1,20 +1,30 @@
 package com.trading.journal.controller;
 
 import com.trading.journal.dto.BacktestComparisonDto;
+import com.trading.journal.dto.BacktestCurveRangeDto;
+import com.trading.journal.dto.BacktestJobDto;
+import com.trading.journal.dto.BacktestJobDto.JobPriority;
 import com.trading.journal.dto.BacktestRequestDto;
 import com.trading.journal.dto.BacktestResultDto;
+import com.trading.journal.dto.BacktestSearchRequestDto;
 import com.trading.journal.dto.BacktestSummaryDto;
 import com.trading.journal.dto.OptimizationRequestDto;
 import com.trading.journal.dto.OptimizationResultDto;
 import com.trading.journal.service.BacktestComparisonService;
+import com.trading.journal.service.BacktestJobService;
 import com.trading.journal.service.BacktestService;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 /** 백테스트 API 컨트롤러 */
 @Slf4j
@@ -25,6 +35,7 @@ public class BacktestController {
 
     private final BacktestService backtestService;
     private final BacktestComparisonService backtestComparisonService;
+    private final BacktestJobService backtestJobService;
 
     /** 백테스트 실행 */
     @PostMapping("/run")
@@ -41,6 +52,40 @@ public class BacktestController {
         return ResponseEntity.ok(result);
     }
 
+    // ==================== 비동기 백테스트 작업 API ====================
+
+    /** 백테스트 작업 제출 - 같은 요청의 저장 결과가 있으면 즉시 완료 상태로 반환 */
+    @PostMapping("/jobs")
+    public ResponseEntity<BacktestJobDto> submitJob(
+            @Valid @RequestBody BacktestRequestDto request,
+            @RequestParam(defaultValue = "NORMAL") JobPriority priority) {
+        log.info(
+                "백테스트 작업 제출 요청: symbol={}, strategy={}, priority={}",
+                request.getSymbol(),
+                request.getStrategyType(),
+                priority);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(backtestJobService.submit(request, priority));
+    }
+
+    /** 백테스트 작업 상태 조회 */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BacktestJobDto> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(backtestJobService.getJob(jobId));
+    }
+
+    /** 백테스트 작업 취소 */
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<BacktestJobDto> cancelJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(backtestJobService.cancel(jobId));
+    }
+
+    /** 백테스트 작업 진행 상황 (SSE) */
+    @GetMapping(value = "/jobs/{jobId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<BacktestJobDto> streamJobProgress(@PathVariable String jobId) {
+        return backtestJobService.streamProgress(jobId);
+    }
+
     /** 백테스트 히스토리 조회 (요약 정보만) */
     @GetMapping("/history")
     public ResponseEntity<List<BacktestSummaryDto>> getHistory() {
@@ -53,6 +98,18 @@ public class BacktestController {
         return ResponseEntity.ok(backtestService.getResult(id));
     }
 
+    /** 차트 곡선 구간 조회 (다운샘플링) */
+    @GetMapping("/{id}/curves")
+    public ResponseEntity<BacktestCurveRangeDto> getCurveRange(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to,
+            @RequestParam(defaultValue = "500") int maxPoints) {
+        return ResponseEntity.ok(backtestService.getCurveRange(id, from, to, maxPoints));
+    }
+
     /** 사용 가능한 전략 목록 조회 */
     @GetMapping("/strategies")
     public ResponseEntity<List<Map<String, Object>>> getAvailableStrategies() {
@@ -89,6 +146,24 @@ public class BacktestController {
         return ResponseEntity.ok(comparison);
     }
 
+    /**
+     * 저장된 백테스트 상위 K개 검색 (지표 정렬, 전략/종목/파라미터 범위 필터)
+     *
+     * @param request 검색 조건
+     * @return 지표 순 백테스트 목록 (거래·차트 제외)
+     */
+    @PostMapping("/compare/search")
+    public ResponseEntity<List<BacktestComparisonDto.ComparedBacktest>> searchBacktests(
+            @Valid @RequestBody BacktestSearchRequestDto request) {
+        log.info(
+                "백테스트 검색 요청: metric={}, limit={}, strategyType={}, symbol={}",
+                request.getMetric(),
+                request.getLimit(),
+                request.getStrategyType(),
+                request.getSymbol());
+        return ResponseEntity.ok(backtestComparisonService.searchTopBacktests(request));
+    }
+
     /**
      * 상위 성과 백테스트 자동 비교
      *
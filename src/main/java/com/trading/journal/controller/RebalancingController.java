@@ -1,5 +1,7 @@
 package com.trading.journal.controller;
 
+import com.trading.journal.dto.RebalancePlanDto;
+import com.trading.journal.dto.RebalancePlanRequestDto;
 import com.trading.journal.dto.RebalancingDashboardDto;
 import com.trading.journal.dto.RebalancingDashboardDto.PositionRebalanceAnalysis;
 import com.trading.journal.dto.RebalancingDashboardDto.RebalanceRecommendation;
@@ -53,6 +55,17 @@ public class RebalancingController {
                 rebalancingService.calculateRecommendations(accountId, minTradeAmount));
     }
 
+    /** 최소 거래 리밸런싱 플랜 (여러 계좌 일괄) */
+    @PostMapping("/plan")
+    public ResponseEntity<RebalancePlanDto> planRebalance(
+            @Valid @RequestBody RebalancePlanRequestDto request) {
+        log.info(
+                "리밸런싱 플랜 계산: accountIds={}, taxAware={}",
+                request.getAccountIds(),
+                request.getTaxAware());
+        return ResponseEntity.ok(rebalancingService.planRebalance(request));
+    }
+
     // ===== 목표 배분 CRUD =====
 
     /** 목표 배분 목록 조회 */
@@ -1,14 +1,19 @@
 package com.trading.journal.controller;
 
-import com.trading.journal.service.PdfReportService;
+import com.trading.journal.dto.ReportJobDto;
+import com.trading.journal.dto.ReportJobDto.ReportFormat;
+import com.trading.journal.dto.ReportJobRequestDto;
+import com.trading.journal.service.ReportJobService;
+import com.trading.journal.service.ReportJobService.ReportFile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +26,36 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Reports", description = "리포트 생성 API")
 public class ReportController {
 
-    private final PdfReportService pdfReportService;
+    private final ReportJobService reportJobService;
+
+    /** 비동기 리포트 생성 작업 제출 */
+    @PostMapping("/jobs")
+    @Operation(
+            summary = "리포트 생성 작업 제출",
+            description = "PDF/Excel 리포트를 백그라운드에서 생성합니다. 동일한 리포트가 캐시되어 있으면 즉시 완료 상태로 반환합니다")
+    public ResponseEntity<ReportJobDto> submitReportJob(
+            @Valid @RequestBody ReportJobRequestDto request) {
+        ReportJobDto job = reportJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /** 리포트 생성 작업 상태 조회 */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "리포트 작업 상태 조회", description = "리포트 생성 작업의 진행 상태를 조회합니다")
+    public ResponseEntity<ReportJobDto> getReportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    /** 완료된 리포트 다운로드 */
+    @GetMapping("/jobs/{jobId}/download")
+    @Operation(summary = "리포트 다운로드", description = "완료된 리포트 파일을 다운로드합니다. 완료 전이면 409를 반환합니다")
+    public ResponseEntity<byte[]> downloadReport(@PathVariable String jobId) {
+        ReportFile file = reportJobService.download(jobId);
+        if (file == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return attachment(file.content(), file.fileName(), file.format());
+    }
 
     /** 포트폴리오 성과 PDF 리포트 생성 */
     @GetMapping("/portfolio/pdf")
@@ -33,25 +67,20 @@ public class ReportController {
 
         log.info("PDF 리포트 생성 요청: accountId={}, period={} ~ {}", accountId, startDate, endDate);
 
-        // 유효성 검증
-        if (startDate.isAfter(endDate)) {
-            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
-        }
-
-        byte[] pdfBytes = pdfReportService.generatePortfolioReport(accountId, startDate, endDate);
-
-        String filename =
-                String.format(
-                        "portfolio_report_%s_%s.pdf",
-                        startDate.format(DateTimeFormatter.BASIC_ISO_DATE),
-                        endDate.format(DateTimeFormatter.BASIC_ISO_DATE));
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(pdfBytes.length);
-
-        return ResponseEntity.ok().headers(headers).body(pdfBytes);
+        // 기간 검증과 결과 캐시는 작업 서비스와 공유
+        byte[] pdfBytes =
+                reportJobService.generateNow(
+                        ReportJobRequestDto.builder()
+                                .format(ReportFormat.PDF)
+                                .accountId(accountId)
+                                .startDate(startDate)
+                                .endDate(endDate)
+                                .build());
+
+        return attachment(
+                pdfBytes,
+                ReportJobService.fileName(ReportFormat.PDF, startDate, endDate),
+                ReportFormat.PDF);
     }
 
     /** 월간 포트폴리오 PDF 리포트 생성 */
@@ -93,4 +122,14 @@ public class ReportController {
 
         return generatePortfolioReport(accountId, startDate, endDate);
     }
+
+    private ResponseEntity<byte[]> attachment(
+            byte[] content, String filename, ReportFormat format) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getContentType()));
+        headers.setContentDispositionFormData("attachment", filename);
+        headers.setContentLength(content.length);
+
+        return ResponseEntity.ok().headers(headers).body(content);
+    }
 }
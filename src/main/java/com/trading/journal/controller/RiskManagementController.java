@@ -3,10 +3,15 @@ package com.trading.journal.controller;
 import com.trading.journal.dto.AccountRiskSettingsDto;
 import com.trading.journal.dto.PositionSizingRequestDto;
 import com.trading.journal.dto.PositionSizingResultDto;
+import com.trading.journal.dto.PositionVaRDto;
+import com.trading.journal.dto.PreTradeCheckRequestDto;
+import com.trading.journal.dto.PreTradeCheckResultDto;
 import com.trading.journal.dto.RiskDashboardDto;
 import com.trading.journal.dto.RiskDashboardDto.*;
 import com.trading.journal.service.AccountRiskSettingsService;
 import com.trading.journal.service.PositionSizingService;
+import com.trading.journal.service.PositionVaRService;
+import com.trading.journal.service.PreTradeRiskService;
 import com.trading.journal.service.RiskDashboardService;
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
@@ -31,6 +36,8 @@ public class RiskManagementController {
     private final RiskDashboardService riskDashboardService;
     private final PositionSizingService positionSizingService;
     private final AccountRiskSettingsService riskSettingsService;
+    private final PositionVaRService positionVaRService;
+    private final PreTradeRiskService preTradeRiskService;
 
     // ===== 리스크 대시보드 =====
 
@@ -77,6 +84,28 @@ public class RiskManagementController {
         return ResponseEntity.ok(riskDashboardService.getSectorExposures(accountId, null));
     }
 
+    /** 포지션 가격 이력 기반 VaR/ES (역사적, 공분산, 필터링된 역사적 + 포지션별 기여 VaR) */
+    @GetMapping("/var")
+    public ResponseEntity<PositionVaRDto> getPositionVaR(
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) BigDecimal confidence) {
+        log.info("포지션 VaR 조회: accountId={}, confidence={}", accountId, confidence);
+        return ResponseEntity.ok(positionVaRService.calculate(accountId, confidence));
+    }
+
+    /** 주문 전 리스크 체크 (주문 가능 여부, 최대 수량, 위반 한도) */
+    @PostMapping("/pre-trade-check")
+    public ResponseEntity<PreTradeCheckResultDto> checkPreTrade(
+            @Valid @RequestBody PreTradeCheckRequestDto request) {
+        log.debug(
+                "주문 전 리스크 체크: accountId={}, {} {} x {}",
+                request.getAccountId(),
+                request.getType(),
+                request.getSymbol(),
+                request.getQuantity());
+        return ResponseEntity.ok(preTradeRiskService.check(request));
+    }
+
     // ===== 포지션 사이징 =====
 
     /** 포지션 사이징 계산 */
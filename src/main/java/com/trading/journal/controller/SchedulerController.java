@@ -0,0 +1,37 @@
+package com.trading.journal.controller;
+
+import com.trading.journal.dto.SchedulerStatusDto;
+import com.trading.journal.service.ClusterSchedulerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/** 클러스터 스케줄러 상태 API 컨트롤러 */
+@RestController
+@RequestMapping("/api/scheduler")
+@RequiredArgsConstructor
+@Tag(name = "Scheduler", description = "클러스터 스케줄 작업 상태 API")
+public class SchedulerController {
+
+    private final ClusterSchedulerService clusterSchedulerService;
+
+    /** 노드 목록과 작업별 실행 통계 */
+    @GetMapping("/status")
+    @Operation(summary = "스케줄러 상태", description = "살아있는 노드와 작업별 실행 수, 실패 수, 소요 시간 통계")
+    public ResponseEntity<SchedulerStatusDto> getStatus(
+            @RequestParam(defaultValue = "24") int hours) {
+        return ResponseEntity.ok(clusterSchedulerService.getStatus(Math.max(1, hours)));
+    }
+
+    /** 최근 실행 이력 */
+    @GetMapping("/runs")
+    @Operation(summary = "작업 실행 이력", description = "최근 실행 이력 (job 파라미터로 작업 지정)")
+    public ResponseEntity<List<SchedulerStatusDto.JobRun>> getRecentRuns(
+            @RequestParam(required = false) String job,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(clusterSchedulerService.getRecentRuns(job, limit));
+    }
+}
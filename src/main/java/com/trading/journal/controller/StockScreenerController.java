@@ -1,11 +1,13 @@
 package com.trading.journal.controller;
 
+import com.trading.journal.dto.FundamentalsRefreshJobDto;
 import com.trading.journal.dto.SavedScreenDto;
 import com.trading.journal.dto.ScreenerRequestDto;
 import com.trading.journal.dto.ScreenerResultDto;
 import com.trading.journal.entity.SavedScreen;
 import com.trading.journal.entity.User;
 import com.trading.journal.repository.UserRepository;
+import com.trading.journal.service.FundamentalsRefreshService;
 import com.trading.journal.service.StockScreenerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class StockScreenerController {
 
     private final StockScreenerService stockScreenerService;
+    private final FundamentalsRefreshService fundamentalsRefreshService;
     private final UserRepository userRepository;
 
     /**
@@ -73,6 +76,26 @@ public class StockScreenerController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Run several saved screens against one index snapshot
+     *
+     * @param screenIds Screen IDs to run (empty or missing runs all screens of the current user)
+     * @return Results keyed by screen ID
+     */
+    @PostMapping("/saved/run")
+    @Operation(
+            summary = "Run saved screens in bulk",
+            description =
+                    "Execute several saved screens against the same screener snapshot. Without"
+                            + " IDs, all screens of the current user are run")
+    public ResponseEntity<Map<Long, ScreenerResultDto>> runSavedScreens(
+            @RequestBody(required = false) List<Long> screenIds) {
+        if (screenIds == null || screenIds.isEmpty()) {
+            return ResponseEntity.ok(stockScreenerService.runUserScreens(getCurrentUser().getId()));
+        }
+        return ResponseEntity.ok(stockScreenerService.runSavedScreens(screenIds));
+    }
+
     /**
      * Save current screening criteria for later use
      *
@@ -205,6 +228,59 @@ public class StockScreenerController {
                 Map.of("message", "Screen deleted successfully", "id", String.valueOf(id)));
     }
 
+    /**
+     * Start a background fundamentals refresh
+     *
+     * @param symbols Symbols to refresh (empty or missing refreshes every registered stock)
+     * @return Job progress (the running job if one is already in progress)
+     */
+    @PostMapping("/fundamentals/refresh-jobs")
+    @Operation(
+            summary = "Refresh fundamentals",
+            description =
+                    "Start a rate-limited background refresh of fundamentals used by the screener")
+    public ResponseEntity<FundamentalsRefreshJobDto> submitRefreshJob(
+            @RequestBody(required = false) List<String> symbols) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(fundamentalsRefreshService.submit(symbols));
+    }
+
+    /**
+     * Get fundamentals refresh progress
+     *
+     * @param jobId Job ID
+     * @return Job progress
+     */
+    @GetMapping("/fundamentals/refresh-jobs/{jobId}")
+    @Operation(summary = "Get fundamentals refresh progress")
+    public ResponseEntity<FundamentalsRefreshJobDto> getRefreshJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(fundamentalsRefreshService.getJob(jobId));
+    }
+
+    /**
+     * Pause a running fundamentals refresh after the current batch
+     *
+     * @param jobId Job ID
+     * @return Job progress
+     */
+    @PostMapping("/fundamentals/refresh-jobs/{jobId}/pause")
+    @Operation(summary = "Pause fundamentals refresh")
+    public ResponseEntity<FundamentalsRefreshJobDto> pauseRefreshJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(fundamentalsRefreshService.pause(jobId));
+    }
+
+    /**
+     * Resume a paused or failed fundamentals refresh
+     *
+     * @param jobId Job ID
+     * @return Job progress
+     */
+    @PostMapping("/fundamentals/refresh-jobs/{jobId}/resume")
+    @Operation(summary = "Resume fundamentals refresh")
+    public ResponseEntity<FundamentalsRefreshJobDto> resumeRefreshJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(fundamentalsRefreshService.resume(jobId));
+    }
+
     /**
      * Get current authenticated user
      *
@@ -1,5 +1,6 @@
 package com.trading.journal.controller;
 
+import com.trading.journal.dto.StressTestLibraryResultDto;
 import com.trading.journal.dto.StressTestRequestDto;
 import com.trading.journal.dto.StressTestResultDto;
 import com.trading.journal.entity.StressScenario;
@@ -86,4 +87,55 @@ public class StressTestController {
         StressTestResultDto result = stressTestService.runStressTest(request);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 계좌에 시나리오 라이브러리 전체 실행
+     *
+     * @param accountId 계좌 ID
+     * @return 시나리오별 결과 (포지션별 베타, 역사적 구간 재현 적용)
+     */
+    @GetMapping("/library/{accountId}")
+    @Operation(
+            summary = "Run scenario library",
+            description =
+                    "Run every stress scenario on the account in one pass with position betas"
+                            + " and historical replay")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully executed scenario library"),
+                @ApiResponse(responseCode = "403", description = "Account not owned by user"),
+                @ApiResponse(responseCode = "404", description = "Account not found"),
+                @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    public ResponseEntity<StressTestLibraryResultDto> runScenarioLibrary(
+            @PathVariable Long accountId) {
+        log.info("스트레스 시나리오 라이브러리 실행 요청: accountId={}", accountId);
+
+        return ResponseEntity.ok(stressTestService.runScenarioLibrary(accountId));
+    }
+
+    /**
+     * 현재 사용자의 전체 계좌 스트레스 리포트
+     *
+     * @return 계좌별 시나리오 라이브러리 결과
+     */
+    @GetMapping("/library")
+    @Operation(
+            summary = "Run scenario library for all of the current user's accounts",
+            description = "Stress report: every scenario on every account the current user owns")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully executed stress report"),
+                @ApiResponse(responseCode = "403", description = "Not authenticated"),
+                @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    public ResponseEntity<List<StressTestLibraryResultDto>> runScenarioLibraryForCurrentUser() {
+        log.info("사용자 전체 계좌 스트레스 리포트 요청");
+
+        return ResponseEntity.ok(stressTestService.runScenarioLibraryForCurrentUser());
+    }
 }
@@ -2,6 +2,7 @@ package com.trading.journal.controller;
 
 import com.trading.journal.dto.TradeReviewDto;
 import com.trading.journal.dto.TradeReviewDto.ReviewStatisticsDto;
+import com.trading.journal.dto.TradeReviewDto.TagCount;
 import com.trading.journal.entity.EmotionState;
 import com.trading.journal.entity.TradeStrategy;
 import com.trading.journal.service.TradeReviewService;
@@ -76,6 +77,25 @@ public class TradeReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    /** 태그 검색 (match=ALL: 모든 태그 포함, ANY: 하나라도 포함) */
+    @GetMapping("/search/tags")
+    public ResponseEntity<Page<TradeReviewDto>> searchByTags(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "ANY") String match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TradeReviewDto> reviews =
+                reviewService.searchByTags(tags, "ALL".equalsIgnoreCase(match), page, size);
+        return ResponseEntity.ok(reviews);
+    }
+
+    /** 태그별 복기 수 */
+    @GetMapping("/tags")
+    public ResponseEntity<List<TagCount>> getTagCounts(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(reviewService.getTagCounts(limit));
+    }
+
     /** 복기 삭제 */
     @DeleteMapping("/{reviewId}")
     public ResponseEntity<Void> deleteReview(@PathVariable Long reviewId) {
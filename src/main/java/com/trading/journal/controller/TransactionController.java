@@ -1,5 +1,6 @@
 package com.trading.journal.controller;
 
+import com.trading.journal.dto.TransactionCursorPageDto;
 import com.trading.journal.dto.TransactionDto;
 import com.trading.journal.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -73,6 +74,30 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    @Operation(
+            summary = "거래 내역 목록 조회 (커서 기반)",
+            description =
+                    "거래일시/ID 커서로 다음 페이지를 조회합니다. 깊은 페이지에서도 일정한 속도로 동작하며, 응답의 nextCursor를 다음 요청에 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "거래 내역 목록 조회 성공")
+    @GetMapping("/cursor")
+    public ResponseEntity<TransactionCursorPageDto> getTransactionsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                    @RequestParam(required = false)
+                    String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "50")
+                    @RequestParam(defaultValue = "50")
+                    int size,
+            @Parameter(description = "계좌 ID 필터") @RequestParam(required = false) Long accountId,
+            @Parameter(description = "종목 심볼 필터", example = "AAPL") @RequestParam(required = false)
+                    String symbol,
+            @Parameter(description = "수량/단가/수수료 포함 여부") @RequestParam(defaultValue = "true")
+                    boolean includeAmounts) {
+        TransactionCursorPageDto page =
+                transactionService.getTransactionsByCursor(
+                        cursor, size, accountId, symbol, includeAmounts);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/all")
     public ResponseEntity<List<TransactionDto>> getAllTransactionsAsList() {
         List<TransactionDto> transactions = transactionService.getAllTransactions();
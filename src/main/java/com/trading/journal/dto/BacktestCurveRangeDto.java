@@ -0,0 +1,26 @@
+package com.trading.journal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 백테스트 차트 곡선 구간 DTO (다운샘플링) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestCurveRangeDto {
+
+    private Long backtestId;
+
+    private List<String> labels;
+    private List<BigDecimal> equityCurve;
+    private List<BigDecimal> drawdownCurve;
+    private List<BigDecimal> benchmarkCurve;
+
+    /** 다운샘플링 전 구간 포인트 수 */
+    private int totalPoints;
+}
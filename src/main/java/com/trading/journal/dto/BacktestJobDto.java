@@ -0,0 +1,65 @@
+package com.trading.journal.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 백테스트 작업 상태 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestJobDto {
+
+    private String jobId;
+    private JobStatus status;
+    private JobPriority priority;
+    private String symbol;
+    private String strategyType;
+
+    /** 처리한 가격 봉 수 / 전체 봉 수 (가격 조회 전에는 0) */
+    private int processedBars;
+
+    private int totalBars;
+
+    /** 진행률 (%) */
+    private int progressPercent;
+
+    /** 저장된 결과 재사용 여부 (true면 계산 없이 즉시 완료) */
+    private boolean cacheHit;
+
+    /** 완료 시 결과 ID */
+    private Long resultId;
+
+    /** 완료 시 결과 조회 경로 */
+    private String resultUrl;
+
+    /** 실패 시 오류 메시지 */
+    private String errorMessage;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /** 작업 상태 */
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isDone() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    /** 대기열 우선순위 (같은 우선순위는 제출 순) */
+    public enum JobPriority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+}
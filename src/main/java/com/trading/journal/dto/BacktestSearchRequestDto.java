@@ -0,0 +1,103 @@
+package com.trading.journal.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 저장된 백테스트 상위 K개 검색 요청 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestSearchRequestDto {
+
+    /** 정렬 기준 지표 */
+    @Builder.Default private Metric metric = Metric.TOTAL_RETURN;
+
+    /** 조회 개수 */
+    @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다")
+    @Max(value = 500, message = "조회 개수는 500 이하여야 합니다")
+    @Builder.Default
+    private int limit = 20;
+
+    /** 전략 타입 (MOVING_AVERAGE, RSI 등, null이면 전체) */
+    private String strategyType;
+
+    /** 전략 이름 (부분 일치, 대소문자 무시) */
+    private String strategyName;
+
+    /** 종목 심볼 */
+    private String symbol;
+
+    /** 최소 거래 수 */
+    private Integer minTrades;
+
+    /** 숫자 전략 파라미터 범위 (모두 만족해야 함) */
+    @Valid @Builder.Default private List<ParamRange> paramRanges = new ArrayList<>();
+
+    /** 전략 파라미터 범위 (min/max 중 null인 쪽은 제한 없음) */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParamRange {
+        @NotBlank(message = "파라미터 이름은 필수입니다")
+        private String name;
+
+        private Double min;
+        private Double max;
+    }
+
+    /** 정렬 기준 지표 (엔티티 속성과 정렬 방향) */
+    public enum Metric {
+        TOTAL_RETURN("totalReturn", false),
+        CAGR("cagr", false),
+        SHARPE_RATIO("sharpeRatio", false),
+        SORTINO_RATIO("sortinoRatio", false),
+        MAX_DRAWDOWN("maxDrawdown", true),
+        WIN_RATE("winRate", false),
+        PROFIT_FACTOR("profitFactor", false),
+        EXECUTED_AT("executedAt", false);
+
+        private final String attribute;
+        private final boolean ascending;
+
+        Metric(String attribute, boolean ascending) {
+            this.attribute = attribute;
+            this.ascending = ascending;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        /** 작을수록 좋은 지표인지 (최대 낙폭) */
+        public boolean isAscending() {
+            return ascending;
+        }
+
+        /** 약칭(return, sharpe, drawdown 등) 또는 enum 이름으로 변환 (알 수 없으면 최근 실행순) */
+        public static Metric from(String value) {
+            if (value == null) {
+                return EXECUTED_AT;
+            }
+            return switch (value.toLowerCase().replace("_", "")) {
+                case "return", "totalreturn" -> TOTAL_RETURN;
+                case "cagr" -> CAGR;
+                case "sharpe", "sharperatio" -> SHARPE_RATIO;
+                case "sortino", "sortinoratio" -> SORTINO_RATIO;
+                case "drawdown", "maxdrawdown" -> MAX_DRAWDOWN;
+                case "winrate" -> WIN_RATE;
+                case "profitfactor" -> PROFIT_FACTOR;
+                default -> EXECUTED_AT;
+            };
+        }
+    }
+}
@@ -72,6 +72,18 @@ public class BenchmarkComparisonDto {
     /** 트레이너 비율 (Treynor Ratio) */
     private BigDecimal treynorRatio;
 
+    /** 상승장 포착률 (%) - 벤치마크 상승일 기하평균 수익률 대비 */
+    private BigDecimal upCaptureRatio;
+
+    /** 하락장 포착률 (%) - 벤치마크 하락일 기하평균 수익률 대비 */
+    private BigDecimal downCaptureRatio;
+
+    /** 롤링 베타 (labels와 같은 길이, 윈도우가 채워지기 전 구간은 null) */
+    private List<BigDecimal> rollingBeta;
+
+    /** 롤링 베타 윈도우 (거래일) */
+    private Integer rollingBetaWindow;
+
     // === 위험 조정 성과 ===
 
     /** 포트폴리오 샤프비율 */
@@ -172,8 +184,14 @@ public class BenchmarkComparisonDto {
             private String label;
             private List<BigDecimal> returns;
             private BigDecimal totalReturn;
+            private BigDecimal excessReturn;
             private BigDecimal correlation;
             private BigDecimal beta;
+            private BigDecimal alpha;
+            private BigDecimal trackingError;
+            private BigDecimal informationRatio;
+            private BigDecimal upCaptureRatio;
+            private BigDecimal downCaptureRatio;
         }
     }
 }
@@ -0,0 +1,47 @@
+package com.trading.journal.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Progress of a fundamentals refresh job. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FundamentalsRefreshJobDto {
+
+    private String jobId;
+    private JobStatus status;
+
+    private int totalSymbols;
+    private int processedSymbols;
+    private int updatedCount;
+    private int failedCount;
+
+    /** Processed share of the universe (0-100). */
+    private double progressPercent;
+
+    /** Symbols whose fetch failed (capped). */
+    private List<String> failedSymbols;
+
+    /** Why the job paused or failed. */
+    private String message;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /** Job status */
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        /** Stopped on request or because the upstream circuit breaker opened; resumable. */
+        PAUSED,
+        COMPLETED,
+        FAILED
+    }
+}
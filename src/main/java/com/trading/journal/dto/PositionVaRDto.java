@@ -0,0 +1,87 @@
+package com.trading.journal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 포지션 단위 가격 이력으로 계산한 일간 VaR/ES DTO (금액은 손실을 양수로 표시) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionVaRDto {
+
+    /** 계좌 ID */
+    private Long accountId;
+
+    /** 신뢰수준 (0.95, 0.99) */
+    private BigDecimal confidenceLevel;
+
+    /** 평가 금액 합계 */
+    private BigDecimal portfolioValue;
+
+    // === 이력 구간 ===
+    /** 수익률 관측일 수 */
+    private Integer observations;
+
+    /** 이력 시작일 */
+    private LocalDate historyStart;
+
+    /** 이력 종료일 */
+    private LocalDate historyEnd;
+
+    /** 가격 이력이 없어 수익률 0으로 처리한 종목 */
+    private List<String> missingHistorySymbols;
+
+    // === 방법별 VaR/ES ===
+    /** 역사적 시뮬레이션 VaR */
+    private BigDecimal historicalVaR;
+
+    /** 역사적 시뮬레이션 ES (VaR 초과 손실 평균) */
+    private BigDecimal historicalES;
+
+    /** 공분산(정규분포) VaR */
+    private BigDecimal parametricVaR;
+
+    /** 공분산(정규분포) ES */
+    private BigDecimal parametricES;
+
+    /** 필터링된 역사적 시뮬레이션 VaR (EWMA 변동성 보정) */
+    private BigDecimal filteredHistoricalVaR;
+
+    /** 필터링된 역사적 시뮬레이션 ES */
+    private BigDecimal filteredHistoricalES;
+
+    /** 포지션별 VaR 기여도 (기여 VaR 내림차순) */
+    private List<PositionContribution> positions;
+
+    /** 계산 시간 */
+    private LocalDateTime calculatedAt;
+
+    /** 포지션별 한계/기여 VaR (공분산 VaR 기준) */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PositionContribution {
+        private String symbol;
+        private BigDecimal value;
+
+        /** 평가 금액 비중 (%) */
+        private BigDecimal weight;
+
+        /** 한계 VaR (포지션 금액 1단위 증가 시 VaR 변화) */
+        private BigDecimal marginalVaR;
+
+        /** 기여 VaR (합계 = 공분산 VaR) */
+        private BigDecimal componentVaR;
+
+        /** 기여 VaR 비중 (%) */
+        private BigDecimal componentPercent;
+    }
+}
@@ -0,0 +1,41 @@
+package com.trading.journal.dto;
+
+import com.trading.journal.entity.TransactionType;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 주문 전 리스크 체크 요청 DTO */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PreTradeCheckRequestDto {
+
+    /** 계정 ID (null이면 기본 계좌 사용) */
+    private Long accountId;
+
+    /** 종목 심볼 */
+    @NotBlank(message = "Symbol is required")
+    private String symbol;
+
+    /** 매수/매도 */
+    @NotNull(message = "Transaction type is required")
+    private TransactionType type;
+
+    /** 주문 수량 (없으면 최대 수량만 계산) */
+    @Positive(message = "Quantity must be positive")
+    private BigDecimal quantity;
+
+    /** 주문 가격 */
+    @NotNull(message = "Price is required")
+    @Positive(message = "Price must be positive")
+    private BigDecimal price;
+
+    /** 손절가 (있으면 거래당 리스크 한도 적용) */
+    @Positive(message = "Stop loss price must be positive")
+    private BigDecimal stopLossPrice;
+}
@@ -0,0 +1,62 @@
+package com.trading.journal.dto;
+
+import com.trading.journal.entity.TransactionType;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 주문 전 리스크 체크 결과 DTO (비율은 계좌 자본금 대비 %) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PreTradeCheckResultDto {
+
+    private Long accountId;
+    private String symbol;
+    private TransactionType type;
+
+    /** 주문 가능 여부 (수량이 없으면 1주 이상 가능한지) */
+    private boolean allowed;
+
+    /** 모든 한도를 지키는 최대 수량 (자본금 미설정 시 null) */
+    private BigDecimal maxQuantity;
+
+    /** 주문 금액 */
+    private BigDecimal tradeValue;
+
+    // === 주문 후 예상치 ===
+    private BigDecimal projectedStockConcentration;
+    private BigDecimal projectedSectorConcentration;
+    private BigDecimal projectedOpenRiskPercent;
+    private Integer projectedOpenPositions;
+
+    // === 오늘 현황 ===
+    private BigDecimal todayRealizedPnl;
+    private BigDecimal dailyLossLimit;
+    private BigDecimal todayRMultiple;
+    private Integer todayClosedTrades;
+
+    /** 위반된 한도 */
+    private List<Violation> violations;
+
+    /** 한도 위반 상세 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Violation {
+        /**
+         * 위반 규칙 (DAILY_LOSS, OPEN_POSITIONS, POSITION_SIZE, STOCK_CONCENTRATION,
+         * SECTOR_CONCENTRATION, RISK_PER_TRADE)
+         */
+        private String rule;
+
+        private String message;
+        private BigDecimal limit;
+        private BigDecimal projected;
+    }
+}
@@ -0,0 +1,101 @@
+package com.trading.journal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 리밸런싱 플랜 DTO (계좌별 최소 거래 목록) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RebalancePlanDto {
+
+    /** 계좌별 플랜 */
+    private List<AccountPlan> accountPlans;
+
+    /** 전체 거래 수 */
+    private Integer totalTrades;
+
+    /** 전체 매수 금액 */
+    private BigDecimal totalBuyAmount;
+
+    /** 전체 매도 금액 */
+    private BigDecimal totalSellAmount;
+
+    /** 매도로 예상되는 실현 손익 합계 */
+    private BigDecimal estimatedRealizedGain;
+
+    /** 플랜 계산 시각 */
+    private LocalDateTime generatedAt;
+
+    /** 포지션/가격 변동이 없어 이전 플랜을 재사용했는지 여부 */
+    private Boolean cached;
+
+    /** 계좌별 플랜 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AccountPlan {
+        private Long accountId;
+
+        /** 계좌 평가 금액 */
+        private BigDecimal totalValue;
+
+        /** 허용 범위를 벗어난 종목 수 */
+        private Integer outOfBandCount;
+
+        /** 거래 목록 (매도 먼저, 우선순위/드리프트 순) */
+        private List<PlannedTrade> trades;
+
+        /** 순현금흐름 (매도 - 매수) */
+        private BigDecimal netCashFlow;
+
+        /** 매도로 예상되는 실현 손익 */
+        private BigDecimal estimatedRealizedGain;
+    }
+
+    /** 계획된 거래 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PlannedTrade {
+        private Long accountId;
+        private Long stockId;
+        private String stockSymbol;
+        private String stockName;
+
+        /** BUY / SELL */
+        private String action;
+
+        /** 거래 수량 (매매 단위의 배수, 전량 매도는 예외) */
+        private BigDecimal quantity;
+
+        private BigDecimal price;
+
+        /** 거래 금액 */
+        private BigDecimal amount;
+
+        /** 거래 전 드리프트 (현재 - 목표, %) */
+        private BigDecimal driftBefore;
+
+        /** 거래 후 예상 드리프트 (%) */
+        private BigDecimal driftAfter;
+
+        /** 매도 시 FIFO로 소진될 매수 거래 ID */
+        private List<Long> lotTransactionIds;
+
+        /** 매도 시 예상 실현 손익 */
+        private BigDecimal estimatedRealizedGain;
+
+        private Integer priority;
+
+        private String reason;
+    }
+}
@@ -0,0 +1,42 @@
+package com.trading.journal.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 리밸런싱 플랜 요청 DTO */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RebalancePlanRequestDto {
+
+    /** 대상 계좌 목록 (비어 있으면 기본 계좌) */
+    private List<Long> accountIds;
+
+    /** 최소 거래 금액 (미만 거래는 제외) */
+    @DecimalMin(value = "0", message = "최소 거래 금액은 0 이상이어야 합니다")
+    @Builder.Default
+    private BigDecimal minTradeAmount = BigDecimal.valueOf(10000);
+
+    /** 기본 매매 단위 (주) */
+    @Min(value = 1, message = "매매 단위는 1 이상이어야 합니다")
+    @Builder.Default
+    private Integer defaultLotSize = 1;
+
+    /** 종목별 매매 단위 (심볼 → 주) */
+    private Map<String, Integer> lotSizes;
+
+    /** 세금 고려 여부 - 이익 실현 매도는 허용 범위 경계까지만 줄인다 */
+    @Builder.Default private Boolean taxAware = false;
+
+    /** 계좌별 추가 투입 가능 현금 (null이면 매수 금액 제한 없음) */
+    @DecimalMin(value = "0", message = "투입 가능 현금은 0 이상이어야 합니다")
+    private BigDecimal availableCash;
+}
@@ -0,0 +1,69 @@
+package com.trading.journal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 리포트 생성 작업 상태 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDto {
+
+    private String jobId;
+    private ReportFormat format;
+    private JobStatus status;
+    private Long accountId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /** 결과 캐시 적중 여부 (true면 생성 없이 즉시 완료) */
+    private boolean cacheHit;
+
+    /** 완료 시 결과 크기 (bytes) */
+    private Integer sizeBytes;
+
+    /** 실패 시 오류 메시지 */
+    private String errorMessage;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /** 완료 시 다운로드 경로 */
+    private String downloadUrl;
+
+    /** 리포트 형식 */
+    public enum ReportFormat {
+        PDF("application/pdf", "pdf"),
+        EXCEL("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        ReportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /** 작업 상태 */
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,31 @@
+package com.trading.journal.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 리포트 생성 작업 요청 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequestDto {
+
+    /** 리포트 형식 */
+    @NotNull(message = "리포트 형식은 필수입니다")
+    private ReportJobDto.ReportFormat format;
+
+    /** 계좌 ID (null이면 전체) */
+    private Long accountId;
+
+    /** 시작일 */
+    @NotNull(message = "시작일은 필수입니다")
+    private LocalDate startDate;
+
+    /** 종료일 */
+    @NotNull(message = "종료일은 필수입니다")
+    private LocalDate endDate;
+}
@@ -0,0 +1,58 @@
+package com.trading.journal.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 클러스터 스케줄러 상태 DTO (노드 목록과 작업별 실행 통계) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerStatusDto {
+
+    /** 응답한 노드 ID */
+    private String nodeId;
+
+    /** 하트비트가 살아있는 노드 (정렬 순서가 샤드 번호) */
+    private List<String> liveNodes;
+
+    /** 통계 집계 기간 시작 */
+    private LocalDateTime since;
+
+    private List<JobStats> jobs;
+
+    /** 작업별 실행 통계 */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobStats {
+        private String jobName;
+        private long runs;
+        private long failures;
+        private Double avgDurationMs;
+        private Long maxDurationMs;
+        private LocalDateTime lastStartedAt;
+    }
+
+    /** 실행 이력 한 건 */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobRun {
+        private Long id;
+        private String jobName;
+        private String nodeId;
+        private int shardIndex;
+        private int shardCount;
+        private LocalDateTime startedAt;
+        private Long durationMs;
+        private String status;
+        private String errorMessage;
+    }
+}
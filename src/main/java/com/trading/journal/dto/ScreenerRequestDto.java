@@ -2,6 +2,7 @@ package com.trading.journal.dto;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -48,6 +49,12 @@ public class ScreenerRequestDto {
     private List<String> industries;
     private List<String> exchanges;
 
+    // Factor rank filters: factor name -> minimum direction-adjusted percentile (0-100)
+    private Map<String, BigDecimal> minPercentiles;
+
+    // Multi-factor score: factor name -> weight (sortBy "score" ranks by the weighted percentile)
+    private Map<String, Double> factorWeights;
+
     // Pagination
     @Builder.Default private Integer page = 0;
 
@@ -3,6 +3,7 @@ package com.trading.journal.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -40,6 +41,12 @@ public class ScreenerResultDto {
         private BigDecimal earningsGrowth;
         private BigDecimal debtToEquity;
         private LocalDateTime updatedAt;
+
+        // Weighted percentile score (0-100) when factor weights are given
+        private BigDecimal score;
+
+        // Direction-adjusted percentiles of the weighted / rank-filtered factors
+        private Map<String, BigDecimal> percentiles;
     }
 
     @Data
@@ -0,0 +1,41 @@
+package com.trading.journal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 계좌 하나에 시나리오 라이브러리 전체를 적용한 스트레스 테스트 결과 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StressTestLibraryResultDto {
+
+    /** 계좌 ID */
+    private Long accountId;
+
+    /** 계좌 이름 */
+    private String accountName;
+
+    /** 포지션 수 */
+    private Integer positionCount;
+
+    /** 스트레스 테스트 전 포트폴리오 가치 */
+    private BigDecimal portfolioValue;
+
+    /** 손실이 가장 큰 시나리오 코드 */
+    private String worstScenarioCode;
+
+    /** 가장 큰 시나리오 손실 비율 (%) */
+    private BigDecimal worstPercentageLoss;
+
+    /** 시나리오별 결과 (시나리오 이름 순) */
+    private List<StressTestResultDto> results;
+
+    /** 테스트 실행 시간 */
+    private LocalDateTime executedAt;
+}
@@ -90,6 +90,12 @@ public class StressTestResultDto {
         /** 보유 수량 */
         private BigDecimal quantity;
 
+        /** 시장 충격에 곱한 베타 (단일 시나리오 실행은 1) */
+        private BigDecimal beta;
+
+        /** 포지션에 실제 적용된 충격 비율 (%) */
+        private BigDecimal shockPercent;
+
         /** 스트레스 테스트 전 포지션 가치 */
         private BigDecimal valueBefore;
 
@@ -128,6 +128,9 @@ public class TradePlanDto {
         private BigDecimal commission;
         private String executionNotes;
         private LocalDateTime transactionDate;
+
+        /** 주문 전 리스크 체크에서 한도를 넘어도 실행 */
+        private Boolean overrideRiskCheck;
     }
 
     /** 플랜 결과 업데이트 요청 DTO */
@@ -90,6 +90,16 @@ public class TradeReviewDto {
         private BigDecimal winRate;
     }
 
+    /** 태그별 복기 수 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TagCount {
+        private String tag;
+        private long count;
+    }
+
     /** 교훈 요약 */
     @Data
     @NoArgsConstructor
@@ -156,5 +156,6 @@ public class TradingStatisticsDto {
         public static final String EARLY_EXIT = "EARLY_EXIT"; // 조기 청산
         public static final String HOLDING_TOO_LONG = "HOLDING_TOO_LONG"; // 과도한 홀딩
         public static final String POSITION_SIZE = "POSITION_SIZE"; // 포지션 크기 오류
+        public static final String REVIEW_TAG = "REVIEW_TAG"; // 복기 태그로 기록된 실수
     }
 }
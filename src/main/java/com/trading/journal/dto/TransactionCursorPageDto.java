@@ -0,0 +1,27 @@
+package com.trading.journal.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 커서(keyset) 기반 거래 목록 페이지 DTO */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCursorPageDto {
+
+    /** 현재 페이지 거래 목록 (거래일시, ID 내림차순) */
+    private List<TransactionListItemDto> content;
+
+    /** 다음 페이지 조회용 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 요청한 페이지 크기 */
+    private int size;
+}
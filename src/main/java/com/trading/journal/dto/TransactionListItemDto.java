@@ -0,0 +1,89 @@
+package com.trading.journal.dto;
+
+import com.trading.journal.entity.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 목록용 경량 프로젝션 DTO
+ *
+ * <p>JPQL 생성자 표현식으로 필요한 컬럼만 조회한다. 암호화 컬럼(수량/단가/수수료)은 금액 포함 조회일 때만 선택되어 복호화되며, 원가(costBasis)와 리스크
+ * 필드는 조회하지 않는다.
+ */
+@Data
+@NoArgsConstructor
+public class TransactionListItemDto {
+    private Long id;
+    private LocalDateTime transactionDate;
+    private TransactionType type;
+    private String stockSymbol;
+    private String stockName;
+    private Long accountId;
+    private String accountName;
+    private BigDecimal realizedPnl;
+
+    // 금액 포함 조회 시에만 채워지는 필드 (암호화 컬럼)
+    private BigDecimal quantity;
+    private BigDecimal price;
+    private BigDecimal commission;
+    private BigDecimal totalAmount;
+
+    /** 금액 제외 프로젝션 (복호화 없음) */
+    public TransactionListItemDto(
+            Long id,
+            LocalDateTime transactionDate,
+            TransactionType type,
+            String stockSymbol,
+            String stockName,
+            Long accountId,
+            String accountName,
+            BigDecimal realizedPnl) {
+        this.id = id;
+        this.transactionDate = transactionDate;
+        this.type = type;
+        this.stockSymbol = stockSymbol;
+        this.stockName = stockName;
+        this.accountId = accountId;
+        this.accountName = accountName;
+        this.realizedPnl = realizedPnl;
+    }
+
+    /** 금액 포함 프로젝션 */
+    public TransactionListItemDto(
+            Long id,
+            LocalDateTime transactionDate,
+            TransactionType type,
+            String stockSymbol,
+            String stockName,
+            Long accountId,
+            String accountName,
+            BigDecimal realizedPnl,
+            BigDecimal quantity,
+            BigDecimal price,
+            BigDecimal commission) {
+        this(
+                id,
+                transactionDate,
+                type,
+                stockSymbol,
+                stockName,
+                accountId,
+                accountName,
+                realizedPnl);
+        this.quantity = quantity;
+        this.price = price;
+        this.commission = commission;
+        if (price != null && quantity != null) {
+            BigDecimal amount = price.multiply(quantity);
+            if (commission != null) {
+                amount =
+                        type == TransactionType.BUY
+                                ? amount.add(commission)
+                                : amount.subtract(commission);
+            }
+            this.totalAmount = amount;
+        }
+    }
+}
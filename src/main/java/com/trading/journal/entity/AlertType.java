@@ -23,6 +23,7 @@ public enum AlertType {
     TRADE_EXECUTED, // 거래 체결
     WINNING_STREAK, // 연승 기록
     LOSING_STREAK, // 연패 경고
+    TILT_WARNING, // 틸트(감정적 거래) 경고
 
     // 시스템
     SYSTEM_INFO, // 시스템 정보
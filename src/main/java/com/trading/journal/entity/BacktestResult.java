@@ -10,7 +10,20 @@ import lombok.*;
 
 /** 백테스트 결과 엔티티 */
 @Entity
-@Table(name = "backtest_results")
+@Table(
+        name = "backtest_results",
+        indexes = {
+            @Index(name = "idx_backtest_content_hash", columnList = "contentHash"),
+            @Index(name = "idx_backtest_symbol", columnList = "symbol"),
+            @Index(name = "idx_backtest_total_return", columnList = "totalReturn"),
+            @Index(name = "idx_backtest_sharpe", columnList = "sharpeRatio"),
+            @Index(name = "idx_backtest_sortino", columnList = "sortinoRatio"),
+            @Index(name = "idx_backtest_cagr", columnList = "cagr"),
+            @Index(name = "idx_backtest_max_drawdown", columnList = "maxDrawdown"),
+            @Index(name = "idx_backtest_win_rate", columnList = "winRate"),
+            @Index(name = "idx_backtest_profit_factor", columnList = "profitFactor"),
+            @Index(name = "idx_backtest_executed_at", columnList = "executedAt")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -117,37 +130,40 @@ public class BacktestResult {
     @Builder.Default
     private List<BacktestTrade> trades = new ArrayList<>();
 
+    /** 숫자 전략 파라미터 인덱스 (파라미터 범위 필터용) */
+    @OneToMany(
+            mappedBy = "backtestResult",
+            cascade = CascadeType.ALL,
+            orphanRemoval = true,
+            fetch = FetchType.LAZY)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<BacktestResultParam> params = new ArrayList<>();
+
     /** 실행 시각 */
     @Column private LocalDateTime executedAt;
 
     /** 실행 소요 시간 (밀리초) */
     @Column private Long executionTimeMs;
 
-    // === 캐싱된 계산 결과 (JSON) ===
-
-    /** 월별 성과 (JSON) */
-    @Column(columnDefinition = "TEXT")
-    private String monthlyPerformanceJson;
-
-    /** Equity Curve 라벨 (JSON) */
-    @Column(columnDefinition = "TEXT")
-    private String equityLabelsJson;
-
-    /** Equity Curve (JSON) */
-    @Column(columnDefinition = "TEXT")
-    private String equityCurveJson;
+    /** 요청 내용 + 가격 데이터 버전 해시 (동일 요청 결과 재사용, 샘플 데이터 결과는 null) */
+    @Column(length = 64)
+    private String contentHash;
 
-    /** Drawdown Curve (JSON) */
-    @Column(columnDefinition = "TEXT")
-    private String drawdownCurveJson;
+    // === 캐싱된 계산 결과 ===
 
-    /** Benchmark Curve (JSON) */
-    @Column(columnDefinition = "TEXT")
-    private String benchmarkCurveJson;
+    /**
+     * 차트 곡선 (날짜, equity, drawdown, benchmark, 월별 성과) 압축 바이너리
+     *
+     * @see com.trading.journal.service.BacktestCurves
+     */
+    @Column(name = "curve_data")
+    private byte[] curveData;
 
-    /** 정규화된 Equity Curve (0-100%, 비교 분석용) */
-    @Column(columnDefinition = "TEXT")
-    private String normalizedEquityCurveJson;
+    /** 비교 차트용으로 미리 다운샘플링한 곡선 (curveData와 같은 형식) */
+    @Column(name = "curve_summary")
+    private byte[] curveSummary;
 
     @PrePersist
     protected void onCreate() {
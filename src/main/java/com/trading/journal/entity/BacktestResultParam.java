@@ -0,0 +1,63 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.*;
+
+/** 백테스트 전략 파라미터 인덱스. strategyConfig(JSON)의 숫자 파라미터를 행으로 정규화하여 파라미터 범위 필터를 인덱스 조회로 처리 */
+@Entity
+@Table(
+        name = "backtest_result_params",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_backtest_param",
+                    columnNames = {"backtest_result_id", "param_name"})
+        },
+        indexes = {
+            @Index(name = "idx_backtest_param_value", columnList = "param_name, param_value")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BacktestResultParam {
+
+    /** 파라미터 이름 최대 길이 */
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "backtest_result_id", nullable = false)
+    private BacktestResult backtestResult;
+
+    /** 파라미터 이름 (예: shortPeriod) */
+    @Column(name = "param_name", nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    /** 파라미터 값 */
+    @Column(name = "param_value", nullable = false)
+    private Double value;
+
+    /** 전략 설정에서 인덱싱할 숫자 파라미터 추출 (숫자가 아니거나 이름이 너무 긴 항목은 제외). V16 백필 마이그레이션과 같은 규칙이다. */
+    public static Map<String, Double> numericValues(Map<String, ?> config) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (config == null) {
+            return result;
+        }
+        config.forEach(
+                (name, value) -> {
+                    if (value instanceof Number number
+                            && name != null
+                            && name.length() <= MAX_NAME_LENGTH
+                            && Double.isFinite(number.doubleValue())) {
+                        result.put(name, number.doubleValue());
+                    }
+                });
+        return result;
+    }
+}
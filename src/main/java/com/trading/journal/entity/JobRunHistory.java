@@ -0,0 +1,62 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/** 스케줄 작업 실행 이력. 리스를 획득해 실제로 실행한 경우에만 한 행을 남긴다. */
+@Entity
+@Table(
+        name = "job_run_history",
+        indexes = {
+            @Index(name = "idx_job_run_job_started", columnList = "job_name, started_at"),
+            @Index(name = "idx_job_run_started", columnList = "started_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRunHistory {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    /** 샤드 번호 (0부터, 샤딩하지 않는 작업은 0) */
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    /** 실행 시점의 샤드 수 (샤딩하지 않는 작업은 1) */
+    @Column(name = "shard_count", nullable = false)
+    private Integer shardCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    public enum RunStatus {
+        SUCCESS,
+        FAILED
+    }
+}
@@ -0,0 +1,69 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 종목별 기간 수익률 (과거 가격 저장 후 미리 계산). 기준일은 종목의 마지막 종가일이고, 시작 종가는 구간 시작일 당일 또는 직전 종가다(그 이전 데이터가 없으면 이후 첫
+ * 종가). 트리맵/기간 성과 위젯이 종목 수와 관계없이 한 번의 조회로 읽는다.
+ */
+@Entity
+@Table(
+        name = "period_returns",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_period_return_symbol_period",
+                        columnNames = {"symbol", "period"}),
+        indexes = {@Index(name = "idx_period_return_period_symbol", columnList = "period, symbol")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PeriodReturn {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 종목 심볼 */
+    @Column(nullable = false, length = 20)
+    private String symbol;
+
+    /** 기간 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReturnPeriod period;
+
+    /** 시작 종가일 */
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    /** 시작 종가 */
+    @Column(name = "start_close", nullable = false, precision = 15, scale = 4)
+    private BigDecimal startClose;
+
+    /** 기준일 (마지막 종가일) */
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    /** 기준일 종가 */
+    @Column(name = "end_close", nullable = false, precision = 15, scale = 4)
+    private BigDecimal endClose;
+
+    /** 수익률 (%) */
+    @Column(name = "return_percent", nullable = false, precision = 12, scale = 4)
+    private BigDecimal returnPercent;
+
+    /** 계산 시각 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
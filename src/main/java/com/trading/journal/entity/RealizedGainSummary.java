@@ -0,0 +1,88 @@
+package com.trading.journal.entity;
+
+import com.trading.journal.security.converter.EncryptedBigDecimalConverter;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 계좌/연도별 실현 손익 요약. 세금 로트 원장이 바뀐 트랜잭션이 커밋된 뒤 해당 계좌/연도의 로트를 다시 합산해 교체한다.
+ *
+ * <p>재합산끼리의 동시 갱신은 낙관적 잠금({@code version})으로 감지해 다시 합산한다. account_id가 null인 행(계좌 없는 거래)도 계좌/연도당 한
+ * 행이 되도록 유니크 키는 null 대신 {@link #NO_ACCOUNT_KEY}를 쓰는 account_key에 건다.
+ */
+@Entity
+@Table(
+        name = "realized_gain_summaries",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_gain_summary_account_year",
+                    columnNames = {"account_key", "tax_year"})
+        },
+        indexes = {@Index(name = "idx_gain_summary_year", columnList = "tax_year")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RealizedGainSummary {
+
+    /** 계좌 없는 거래의 account_key */
+    public static final long NO_ACCOUNT_KEY = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    /** 유니크 키용 계좌 ID (null이면 {@link #NO_ACCOUNT_KEY}) */
+    @Column(name = "account_key", nullable = false)
+    private Long accountKey;
+
+    @Column(name = "tax_year", nullable = false)
+    private Integer taxYear;
+
+    @Builder.Default
+    @Column(name = "sell_count", nullable = false)
+    private Integer sellCount = 0;
+
+    @Builder.Default
+    @Column(name = "lot_count", nullable = false)
+    private Integer lotCount = 0;
+
+    @Builder.Default
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private BigDecimal proceeds = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(name = "cost_basis", nullable = false, columnDefinition = "TEXT")
+    private BigDecimal costBasis = BigDecimal.ZERO;
+
+    /** 이익 로트 합계 */
+    @Builder.Default
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(name = "total_gain", nullable = false, columnDefinition = "TEXT")
+    private BigDecimal totalGain = BigDecimal.ZERO;
+
+    /** 손실 로트 합계 (양수) */
+    @Builder.Default
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(name = "total_loss", nullable = false, columnDefinition = "TEXT")
+    private BigDecimal totalLoss = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version private Long version;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        accountKey = accountId != null ? accountId : NO_ACCOUNT_KEY;
+    }
+}
@@ -0,0 +1,57 @@
+package com.trading.journal.entity;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/** 기간 수익률 구간 (기준일까지의 1일/1주/1개월/월초 이후/3개월/6개월/연초 이후/1년) */
+public enum ReturnPeriod {
+    D1("1D"),
+    W1("1W"),
+    M1("1M"),
+    MTD("MTD"),
+    M3("3M"),
+    M6("6M"),
+    YTD("YTD"),
+    Y1("1Y");
+
+    private final String code;
+
+    ReturnPeriod(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /** 기준일에 대한 구간 시작일 */
+    public LocalDate startDate(LocalDate endDate) {
+        return switch (this) {
+            case D1 -> endDate.minusDays(1);
+            case W1 -> endDate.minusWeeks(1);
+            case M1 -> endDate.minusMonths(1);
+            case MTD -> YearMonth.from(endDate).atDay(1);
+            case M3 -> endDate.minusMonths(3);
+            case M6 -> endDate.minusMonths(6);
+            case YTD -> endDate.withDayOfYear(1);
+            case Y1 -> endDate.minusYears(1);
+        };
+    }
+
+    /** 기간 코드(1D, 1W, ...)로 조회 */
+    public static ReturnPeriod fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(p -> p.code.equals(code))
+                .findFirst()
+                .orElseThrow(
+                        () ->
+                                new IllegalArgumentException(
+                                        "Invalid period: "
+                                                + code
+                                                + ". Valid periods: "
+                                                + Arrays.stream(values())
+                                                        .map(ReturnPeriod::getCode)
+                                                        .toList()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 스케줄 작업 리스. 작업(또는 작업 샤드)마다 한 행이며, {@code lockedUntil}이 지나기 전에는 소유 노드만 다시 획득할 수 있다.
+ *
+ * <p>획득은 조건부 UPDATE 한 번으로 이뤄지므로 H2/PostgreSQL/MySQL 모두에서 별도 잠금 기능 없이 동작한다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    /** 리스 이름 (작업 이름, 샤드 작업은 "작업#샤드/샤드수") */
+    @Id
+    @Column(name = "lease_name", length = 150)
+    private String name;
+
+    /** 현재 소유 노드 ID */
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    /** 리스 만료 시각 (이 시각 이후 다른 노드가 획득 가능) */
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /** 마지막 획득 시각 */
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+}
@@ -0,0 +1,28 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/** 스케줄러 클러스터 노드. 각 인스턴스가 주기적으로 하트비트를 기록하고, 하트비트가 최근인 노드 목록으로 샤드 작업을 나눈다. */
+@Entity
+@Table(
+        name = "scheduler_nodes",
+        indexes = {@Index(name = "idx_scheduler_node_heartbeat", columnList = "last_heartbeat")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "last_heartbeat", nullable = false)
+    private LocalDateTime lastHeartbeat;
+}
@@ -0,0 +1,81 @@
+package com.trading.journal.entity;
+
+import com.trading.journal.security.converter.EncryptedBigDecimalConverter;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 세금 로트 원장. 매도 1건이 FIFO로 소진한 매수 로트마다 한 행을 가진다 (매수 기록 없이 매도한 수량은 매수 ID 없는 로트 1행).
+ *
+ * <p>FifoCalculationService의 계산 결과로만 갱신되는 파생 데이터이므로 거래는 FK 대신 ID로 참조하며, 같은 매도의 로트 손익 합은 매도 거래의
+ * realizedPnl과 같다. 수량/금액은 거래와 같이 암호화해 저장하므로 합계는 애플리케이션에서 계산한다.
+ */
+@Entity
+@Table(
+        name = "tax_lots",
+        indexes = {
+            @Index(name = "idx_tax_lot_year_account", columnList = "tax_year, account_id"),
+            @Index(name = "idx_tax_lot_account_stock", columnList = "account_id, stock_id"),
+            @Index(name = "idx_tax_lot_sell", columnList = "sell_transaction_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaxLot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id", nullable = false)
+    private Stock stock;
+
+    @Column(name = "sell_transaction_id", nullable = false)
+    private Long sellTransactionId;
+
+    /** 소진한 매수 거래 ID (매수 기록 없는 매도 수량이면 null) */
+    @Column(name = "buy_transaction_id")
+    private Long buyTransactionId;
+
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private BigDecimal quantity;
+
+    /** 소진한 매수 원가 (수수료 포함) */
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(name = "cost_basis", nullable = false, columnDefinition = "TEXT")
+    private BigDecimal costBasis;
+
+    /** 매도 금액 중 이 로트 수량에 배분된 금액 */
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private BigDecimal proceeds;
+
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(name = "realized_gain", nullable = false, columnDefinition = "TEXT")
+    private BigDecimal realizedGain;
+
+    /** 매수 일시 (매수 기록이 없으면 null) */
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "disposed_at", nullable = false)
+    private LocalDateTime disposedAt;
+
+    @Column(name = "tax_year", nullable = false)
+    private Integer taxYear;
+
+    @Column(name = "holding_days", nullable = false)
+    private Integer holdingDays;
+
+    @Column(name = "long_term", nullable = false)
+    private Boolean longTerm;
+}
@@ -0,0 +1,53 @@
+package com.trading.journal.entity;
+
+import jakarta.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.*;
+
+/** 복기 태그 인덱스. TradeReview.tags(쉼표 구분)를 태그 단위 행으로 정규화하여 태그 검색을 인덱스 조회로 처리 */
+@Entity
+@Table(
+        name = "trade_review_tags",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_review_tag",
+                    columnNames = {"review_id", "tag"})
+        },
+        indexes = {@Index(name = "idx_review_tag_tag", columnList = "tag, review_id")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeReviewTag {
+
+    /** 태그 최대 길이 */
+    public static final int MAX_TAG_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private TradeReview review;
+
+    @Column(nullable = false, length = MAX_TAG_LENGTH)
+    private String tag;
+
+    /** 쉼표 구분 태그 문자열을 정규화된 태그 집합으로 변환 (공백 제거, 빈 태그/중복 제외, 최대 길이로 자름). V9 백필 마이그레이션과 같은 규칙이다. */
+    public static Set<String> parse(String tags) {
+        Set<String> result = new LinkedHashSet<>();
+        if (tags == null || tags.isBlank()) {
+            return result;
+        }
+        for (String raw : tags.split(",")) {
+            String tag = raw.trim();
+            if (!tag.isEmpty()) {
+                result.add(tag.length() > MAX_TAG_LENGTH ? tag.substring(0, MAX_TAG_LENGTH) : tag);
+            }
+        }
+        return result;
+    }
+}
@@ -20,7 +20,10 @@ import lombok.*;
                     columnList = "account_id, transactionDate"),
             @Index(
                     name = "idx_transaction_fifo",
-                    columnList = "account_id, stock_id, type, transactionDate, remainingQuantity")
+                    columnList = "account_id, stock_id, type, transactionDate, remainingQuantity"),
+            @Index(
+                    name = "idx_transaction_position_replay",
+                    columnList = "account_id, stock_id, transactionDate, id")
         })
 @Getter
 @Setter
@@ -75,6 +78,17 @@ public class Transaction extends BaseEntity {
     @Column(precision = 19, scale = 4)
     private BigDecimal remainingQuantity;
 
+    // 포지션 스냅샷 필드 (이 거래 반영 직후 계좌/종목 포지션)
+    /** 누적 보유 수량 스냅샷 */
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private BigDecimal positionQuantity;
+
+    /** 누적 투자금 스냅샷 */
+    @Convert(converter = EncryptedBigDecimalConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private BigDecimal positionInvestment;
+
     // 리스크 관리 필드
     /** 손절가 */
     @Column(precision = 19, scale = 4)
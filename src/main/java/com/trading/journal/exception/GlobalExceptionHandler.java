@@ -142,6 +142,14 @@ public class GlobalExceptionHandler {
                 HttpStatus.SERVICE_UNAVAILABLE, "Price Data Unavailable", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleJobQueueFullException(
+            JobQueueFullException ex, WebRequest request) {
+        log.warn("Job queue full: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, "Job Queue Full", ex.getMessage(), request);
+    }
+
     // ==================== Analysis & Backtest Exceptions (500) ====================
 
     @ExceptionHandler(AnalysisException.class)
@@ -0,0 +1,18 @@
+package com.trading.journal.exception;
+
+/** 비동기 작업 큐가 가득 차 새 작업을 받을 수 없을 때 발생하는 예외 */
+public class JobQueueFullException extends RuntimeException {
+
+    private final String jobType;
+
+    public JobQueueFullException(String jobType, int queueCapacity) {
+        super(
+                String.format(
+                        "%s 작업 대기열이 가득 찼습니다 (최대 %d건). 잠시 후 다시 시도해주세요.", jobType, queueCapacity));
+        this.jobType = jobType;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+}
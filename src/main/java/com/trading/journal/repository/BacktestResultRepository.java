@@ -26,15 +26,6 @@ public interface BacktestResultRepository extends JpaRepository<BacktestResult,
     List<BacktestResult> findByExecutedAtBetweenOrderByExecutedAtDesc(
             LocalDateTime startTime, LocalDateTime endTime);
 
-    /** 수익률 기준 상위 백테스트 조회 */
-    @Query("SELECT b FROM BacktestResult b ORDER BY b.totalReturn DESC")
-    List<BacktestResult> findTopPerformingBacktests();
-
-    /** 샤프비율 기준 상위 백테스트 조회 */
-    @Query(
-            "SELECT b FROM BacktestResult b WHERE b.sharpeRatio IS NOT NULL ORDER BY b.sharpeRatio DESC")
-    List<BacktestResult> findByBestSharpeRatio();
-
     /** 특정 전략 유형으로 조회 (인덱스 활용) */
     @Query(
             "SELECT b FROM BacktestResult b WHERE b.strategyType = :strategyType ORDER BY b.executedAt DESC")
@@ -44,9 +35,18 @@ public interface BacktestResultRepository extends JpaRepository<BacktestResult,
     @Query("SELECT DISTINCT b FROM BacktestResult b LEFT JOIN FETCH b.trades WHERE b.id = :id")
     java.util.Optional<BacktestResult> findByIdWithTrades(@Param("id") Long id);
 
-    /** 여러 ID로 조회 + trades 즉시 로딩 (N+1 방지) */
-    @Query("SELECT DISTINCT b FROM BacktestResult b LEFT JOIN FETCH b.trades WHERE b.id IN :ids")
-    List<BacktestResult> findAllByIdWithTrades(@Param("ids") List<Long> ids);
+    /** 콘텐츠 해시가 같은 결과 ID (최신순) - 동일 요청 재사용 */
+    @Query(
+            "SELECT b.id FROM BacktestResult b WHERE b.contentHash = :contentHash ORDER BY b.id DESC")
+    List<Long> findIdsByContentHash(@Param("contentHash") String contentHash);
+
+    /** 곡선 바이너리만 조회 (거래·지표 컬럼 없이 차트 구간 조회용) */
+    @Query("SELECT b.curveData FROM BacktestResult b WHERE b.id = :id")
+    java.util.Optional<byte[]> findCurveDataById(@Param("id") Long id);
+
+    /** 비교용 곡선 요약 조회 (id, curveSummary) - 거래·전체 곡선 없이 */
+    @Query("SELECT b.id, b.curveSummary FROM BacktestResult b WHERE b.id IN :ids")
+    List<Object[]> findCurveSummariesByIds(@Param("ids") List<Long> ids);
 
     /** 전략별 평균 성과 조회 */
     @Query(
@@ -4,6 +4,7 @@ import com.trading.journal.entity.Dividend;
 import com.trading.journal.entity.Stock;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -101,6 +102,12 @@ public interface DividendRepository extends JpaRepository<Dividend, Long> {
     @Query("SELECT COALESCE(SUM(d.netAmount), 0) FROM Dividend d")
     BigDecimal sumTotalNetAmount();
 
+    /** 계좌별 실수령 배당 합계 [accountId, sum] (목표 진행률 평가용) */
+    @Query(
+            "SELECT d.account.id, COALESCE(SUM(d.netAmount), 0) FROM Dividend d "
+                    + "WHERE d.account.id IN :accountIds GROUP BY d.account.id")
+    List<Object[]> sumNetAmountByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
     /** 전체 세금 합계 */
     @Query("SELECT COALESCE(SUM(d.taxAmount), 0) FROM Dividend d")
     BigDecimal sumTotalTaxAmount();
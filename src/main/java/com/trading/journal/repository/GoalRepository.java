@@ -4,6 +4,7 @@ import com.trading.journal.entity.Goal;
 import com.trading.journal.entity.GoalStatus;
 import com.trading.journal.entity.GoalType;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -35,6 +36,18 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     /** 계좌별 목표 조회 */
     List<Goal> findByAccountIdOrderByCreatedAtDesc(Long accountId);
 
+    /** 여러 계좌의 상태별 목표 조회 (소유자 단위 진행률 평가용) */
+    List<Goal> findByStatusAndAccountIdIn(GoalStatus status, Collection<Long> accountIds);
+
+    /** 계좌가 지정되지 않은(전체 포트폴리오 기준) 상태별 목표 조회 */
+    List<Goal> findByStatusAndAccountIdIsNull(GoalStatus status);
+
+    /** 활성 목표가 걸려 있는 계좌 ID */
+    @Query(
+            "SELECT DISTINCT g.accountId FROM Goal g "
+                    + "WHERE g.status = 'ACTIVE' AND g.accountId IS NOT NULL")
+    List<Long> findActiveGoalAccountIds();
+
     /** 알림이 활성화된 목표 조회 */
     List<Goal> findByStatusAndNotificationEnabledTrue(GoalStatus status);
 
@@ -2,6 +2,7 @@ package com.trading.journal.repository;
 
 import com.trading.journal.entity.HistoricalPrice;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -65,6 +66,23 @@ public interface HistoricalPriceRepository extends JpaRepository<HistoricalPrice
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /** 여러 심볼의 지정 날짜 가격 (기간 시작일 전후만 읽는 가격 창 조회용) */
+    @Query(
+            "SELECT h FROM HistoricalPrice h "
+                    + "WHERE h.symbol IN :symbols "
+                    + "AND h.priceDate IN :dates "
+                    + "ORDER BY h.symbol, h.priceDate ASC")
+    List<HistoricalPrice> findBySymbolsAndPriceDates(
+            @Param("symbols") Collection<String> symbols,
+            @Param("dates") Collection<LocalDate> dates);
+
+    /** 여러 심볼의 최신 가격 (심볼별 가장 최근 거래일 1건) */
+    @Query(
+            "SELECT h FROM HistoricalPrice h WHERE h.symbol IN :symbols "
+                    + "AND h.priceDate = (SELECT MAX(h2.priceDate) FROM HistoricalPrice h2 "
+                    + "WHERE h2.symbol = h.symbol)")
+    List<HistoricalPrice> findLatestBySymbols(@Param("symbols") Collection<String> symbols);
+
     /** 캐시에 있는 최신 날짜 조회 */
     @Query("SELECT MAX(h.priceDate) FROM HistoricalPrice h WHERE h.symbol = :symbol")
     Optional<LocalDate> findLatestPriceDateBySymbol(@Param("symbol") String symbol);
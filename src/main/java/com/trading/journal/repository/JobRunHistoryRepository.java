@@ -0,0 +1,36 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.JobRunHistory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** 스케줄 작업 실행 이력 Repository */
+@Repository
+public interface JobRunHistoryRepository extends JpaRepository<JobRunHistory, Long> {
+
+    List<JobRunHistory> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    List<JobRunHistory> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    /**
+     * 작업별 실행 통계
+     *
+     * @return [jobName, 실행 수, 실패 수, 평균 ms, 최대 ms, 마지막 시작 시각]
+     */
+    @Query(
+            "SELECT h.jobName, COUNT(h), SUM(CASE WHEN h.status = 'FAILED' THEN 1 ELSE 0 END),"
+                    + " AVG(h.durationMs), MAX(h.durationMs), MAX(h.startedAt)"
+                    + " FROM JobRunHistory h WHERE h.startedAt >= :since"
+                    + " GROUP BY h.jobName ORDER BY h.jobName")
+    List<Object[]> summarizeSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM JobRunHistory h WHERE h.startedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
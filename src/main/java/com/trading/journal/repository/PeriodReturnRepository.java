@@ -0,0 +1,18 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.PeriodReturn;
+import com.trading.journal.entity.ReturnPeriod;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PeriodReturnRepository extends JpaRepository<PeriodReturn, Long> {
+
+    /** 여러 종목의 특정 기간 수익률 */
+    List<PeriodReturn> findByPeriodAndSymbolIn(ReturnPeriod period, Collection<String> symbols);
+
+    /** 여러 종목의 모든 기간 수익률 (재계산 대상) */
+    List<PeriodReturn> findBySymbolIn(Collection<String> symbols);
+}
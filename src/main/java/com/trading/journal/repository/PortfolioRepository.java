@@ -1,6 +1,7 @@
 package com.trading.journal.repository;
 
 import com.trading.journal.entity.Portfolio;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -27,6 +28,12 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT p FROM Portfolio p JOIN FETCH p.stock WHERE p.account.id = :accountId")
     List<Portfolio> findByAccountIdWithStock(@Param("accountId") Long accountId);
 
+    /** 여러 계좌 포지션 조회 (Stock, Account 포함) - 가구 단위 리밸런싱용 */
+    @Query(
+            "SELECT p FROM Portfolio p JOIN FETCH p.stock JOIN FETCH p.account "
+                    + "WHERE p.account.id IN :accountIds")
+    List<Portfolio> findByAccountIdInWithStock(@Param("accountIds") Collection<Long> accountIds);
+
     @Query("SELECT p FROM Portfolio p JOIN FETCH p.stock LEFT JOIN FETCH p.account")
     List<Portfolio> findAllWithStockAndAccount();
 
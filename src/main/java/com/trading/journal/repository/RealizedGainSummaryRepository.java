@@ -0,0 +1,23 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.RealizedGainSummary;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RealizedGainSummaryRepository extends JpaRepository<RealizedGainSummary, Long> {
+
+    /** 연도별 요약 조회 (계좌 ID가 null이면 전체 계좌) */
+    @Query(
+            "SELECT s FROM RealizedGainSummary s "
+                    + "WHERE s.taxYear = :year AND (:accountId IS NULL OR s.accountId = :accountId)")
+    List<RealizedGainSummary> findByYear(
+            @Param("year") Integer year, @Param("accountId") Long accountId);
+
+    /** 계좌/연도 요약 조회 (account_key 기준, 요약 재합산용) */
+    Optional<RealizedGainSummary> findByAccountKeyAndTaxYear(Long accountKey, Integer taxYear);
+}
@@ -0,0 +1,40 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.SchedulerLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** 스케줄 작업 리스 Repository */
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 만료됐거나 이미 자신이 소유한 리스를 획득
+     *
+     * @return 획득하면 1, 다른 노드가 보유 중이거나 행이 없으면 0
+     */
+    @Modifying
+    @Query(
+            "UPDATE SchedulerLease l SET l.owner = :owner, l.lockedAt = :now,"
+                    + " l.lockedUntil = :until WHERE l.name = :name"
+                    + " AND (l.lockedUntil <= :now OR l.owner = :owner)")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until);
+
+    /** 소유한 리스의 만료 시각을 앞당겨 반납 */
+    @Modifying
+    @Query(
+            "UPDATE SchedulerLease l SET l.lockedUntil = :until"
+                    + " WHERE l.name = :name AND l.owner = :owner")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,41 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.SchedulerNode;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** 스케줄러 클러스터 노드 Repository */
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    /** 하트비트 갱신 (행이 없으면 0) */
+    @Modifying
+    @Query("UPDATE SchedulerNode n SET n.lastHeartbeat = :now WHERE n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    /** 기준 시각 이후 하트비트가 있는 노드 ID (정렬 순서가 샤드 번호) */
+    @Query(
+            "SELECT n.nodeId FROM SchedulerNode n WHERE n.lastHeartbeat >= :since"
+                    + " ORDER BY n.nodeId")
+    List<String> findLiveNodeIds(@Param("since") LocalDateTime since);
+
+    /**
+     * 멤버십 에포크의 노드 ID. 에포크 시작 전에 등록됐고 그 직전 타임아웃 안에 하트비트가 있던 노드만 세므로, 같은 에포크 안에서는 어느 노드가 조회해도 같은 목록이
+     * 나온다 (정렬 순서가 샤드 번호).
+     */
+    @Query(
+            "SELECT n.nodeId FROM SchedulerNode n WHERE n.startedAt <= :epochStart"
+                    + " AND n.lastHeartbeat >= :since ORDER BY n.nodeId")
+    List<String> findMemberNodeIds(
+            @Param("epochStart") LocalDateTime epochStart, @Param("since") LocalDateTime since);
+
+    /** 오래 하트비트가 없는 노드 정리 */
+    @Modifying
+    @Query("DELETE FROM SchedulerNode n WHERE n.lastHeartbeat < :before")
+    int deleteStale(@Param("before") LocalDateTime before);
+}
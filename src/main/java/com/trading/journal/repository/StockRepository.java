@@ -1,6 +1,7 @@
 package com.trading.journal.repository;
 
 import com.trading.journal.entity.Stock;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -10,4 +11,6 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
     Optional<Stock> findBySymbol(String symbol);
 
     boolean existsBySymbol(String symbol);
+
+    List<Stock> findBySymbolIn(List<String> symbols);
 }
@@ -2,6 +2,7 @@ package com.trading.journal.repository;
 
 import com.trading.journal.entity.TargetAllocation;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,6 +34,15 @@ public interface TargetAllocationRepository extends JpaRepository<TargetAllocati
                     + "ORDER BY ta.priority ASC, ta.targetPercent DESC")
     List<TargetAllocation> findByAccountIdWithStock(@Param("accountId") Long accountId);
 
+    /** 여러 계정의 활성 목표 배분 조회 (Stock, Account 포함) */
+    @Query(
+            "SELECT ta FROM TargetAllocation ta "
+                    + "JOIN FETCH ta.stock JOIN FETCH ta.account "
+                    + "WHERE ta.account.id IN :accountIds AND ta.isActive = true "
+                    + "ORDER BY ta.priority ASC, ta.targetPercent DESC")
+    List<TargetAllocation> findByAccountIdInWithStock(
+            @Param("accountIds") Collection<Long> accountIds);
+
     /** 특정 계정 및 종목의 목표 배분 조회 */
     Optional<TargetAllocation> findByAccountIdAndStockId(Long accountId, Long stockId);
 
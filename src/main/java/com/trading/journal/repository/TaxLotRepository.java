@@ -0,0 +1,44 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.TaxLot;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaxLotRepository extends JpaRepository<TaxLot, Long> {
+
+    /** 매도 거래의 로트 조회 */
+    List<TaxLot> findBySellTransactionIdIn(Collection<Long> sellTransactionIds);
+
+    /** 계좌/종목의 전체 로트 조회 (계좌 ID가 null이면 계좌 없는 거래의 로트) */
+    @Query(
+            "SELECT l FROM TaxLot l WHERE l.stock.id = :stockId AND "
+                    + "((:accountId IS NULL AND l.accountId IS NULL) OR l.accountId = :accountId)")
+    List<TaxLot> findByAccountAndStock(
+            @Param("accountId") Long accountId, @Param("stockId") Long stockId);
+
+    /** 계좌/연도의 로트 조회 (계좌 ID가 null이면 계좌 없는 거래의 로트, 요약 재합산용) */
+    @Query(
+            "SELECT l FROM TaxLot l WHERE l.taxYear = :year AND "
+                    + "((:accountId IS NULL AND l.accountId IS NULL) OR l.accountId = :accountId)")
+    List<TaxLot> findByAccountAndYear(
+            @Param("accountId") Long accountId, @Param("year") Integer year);
+
+    /** 연도별 로트 조회 (종목 정보 포함, 계좌 ID가 null이면 전체 계좌) */
+    @Query(
+            "SELECT l FROM TaxLot l JOIN FETCH l.stock "
+                    + "WHERE l.taxYear = :year AND (:accountId IS NULL OR l.accountId = :accountId) "
+                    + "ORDER BY l.disposedAt ASC, l.id ASC")
+    List<TaxLot> findByYearWithStock(
+            @Param("year") Integer year, @Param("accountId") Long accountId);
+
+    /** 계좌의 종목별 최근 매도 일시 (stockId, max(disposedAt)) */
+    @Query(
+            "SELECT l.stock.id, MAX(l.disposedAt) FROM TaxLot l "
+                    + "WHERE l.accountId = :accountId GROUP BY l.stock.id")
+    List<Object[]> findLastDisposalByStock(@Param("accountId") Long accountId);
+}
@@ -2,13 +2,18 @@ package com.trading.journal.repository;
 
 import com.trading.journal.entity.TradeReview;
 import com.trading.journal.entity.TradeStrategy;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -44,9 +49,31 @@ public interface TradeReviewRepository extends JpaRepository<TradeReview, Long>
     @Query("SELECT AVG(r.ratingScore) FROM TradeReview r WHERE r.ratingScore IS NOT NULL")
     Double getAverageRating();
 
-    /** 태그 검색 */
-    @Query("SELECT r FROM TradeReview r WHERE r.tags LIKE %:tag% ORDER BY r.createdAt DESC")
-    List<TradeReview> findByTagContaining(@Param("tag") String tag);
+    /** 태그 검색 (하나라도 포함, OR) - 정규화된 태그 인덱스 조회 */
+    @Query(
+            value =
+                    "SELECT r FROM TradeReview r WHERE r.id IN ("
+                            + "SELECT t.review.id FROM TradeReviewTag t WHERE t.tag IN :tags) "
+                            + "ORDER BY r.createdAt DESC",
+            countQuery =
+                    "SELECT COUNT(DISTINCT t.review.id) FROM TradeReviewTag t WHERE t.tag IN :tags")
+    Page<TradeReview> findByAnyTag(@Param("tags") Collection<String> tags, Pageable pageable);
+
+    /** 태그 검색 (모든 태그 포함, AND) - tagCount는 중복 제거된 태그 수 */
+    @Query(
+            value =
+                    "SELECT r FROM TradeReview r WHERE r.id IN ("
+                            + "SELECT t.review.id FROM TradeReviewTag t WHERE t.tag IN :tags "
+                            + "GROUP BY t.review.id HAVING COUNT(t) = :tagCount) "
+                            + "ORDER BY r.createdAt DESC",
+            countQuery =
+                    "SELECT COUNT(r) FROM TradeReview r WHERE r.id IN ("
+                            + "SELECT t.review.id FROM TradeReviewTag t WHERE t.tag IN :tags "
+                            + "GROUP BY t.review.id HAVING COUNT(t) = :tagCount)")
+    Page<TradeReview> findByAllTags(
+            @Param("tags") Collection<String> tags,
+            @Param("tagCount") long tagCount,
+            Pageable pageable);
 
     /** 계획 준수 여부별 통계 */
     @Query(
@@ -65,18 +92,16 @@ public interface TradeReviewRepository extends JpaRepository<TradeReview, Long>
     @Query("SELECT r FROM TradeReview r LEFT JOIN FETCH r.transaction")
     List<TradeReview> findAllWithTransaction();
 
-    /** 심리 분석: 감정 전환 통계 */
+    /** 심리 분석: 집계용 복기 스트림 (거래 함께 로딩, 읽기 전용. 호출 측 @Transactional(readOnly = true) 필요) */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query(
-            "SELECT tr.emotionBefore, tr.emotionAfter, COUNT(tr), "
-                    + "SUM(CASE WHEN t.realizedPnl >= 0 THEN 1 ELSE 0 END) * 100.0 / COUNT(tr), "
-                    + "AVG(t.realizedPnl) "
-                    + "FROM TradeReview tr JOIN tr.transaction t "
+            "SELECT tr FROM TradeReview tr JOIN FETCH tr.transaction t "
                     + "WHERE t.account.id = :accountId "
-                    + "AND tr.emotionBefore IS NOT NULL AND tr.emotionAfter IS NOT NULL "
-                    + "AND t.transactionDate BETWEEN :startDate AND :endDate "
-                    + "GROUP BY tr.emotionBefore, tr.emotionAfter "
-                    + "ORDER BY COUNT(tr) DESC")
-    List<Object[]> getEmotionTransitionStats(
+                    + "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    Stream<TradeReview> streamReviewsForAggregation(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
@@ -93,15 +118,14 @@ public interface TradeReviewRepository extends JpaRepository<TradeReview, Long>
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    /** 심리 분석: 감정-실수 상관관계 (tags를 실수 유형으로 사용) */
+    /** 심리 분석: 감정-실수 상관관계 (태그를 실수 유형으로 사용, 태그 단위 집계) */
     @Query(
-            "SELECT tr.emotionBefore, tr.tags, COUNT(tr) "
-                    + "FROM TradeReview tr JOIN tr.transaction t "
+            "SELECT tr.emotionBefore, tg.tag, COUNT(tr) "
+                    + "FROM TradeReviewTag tg JOIN tg.review tr JOIN tr.transaction t "
                     + "WHERE t.account.id = :accountId "
                     + "AND tr.emotionBefore IS NOT NULL "
-                    + "AND tr.tags IS NOT NULL "
                     + "AND t.transactionDate BETWEEN :startDate AND :endDate "
-                    + "GROUP BY tr.emotionBefore, tr.tags")
+                    + "GROUP BY tr.emotionBefore, tg.tag")
     List<Object[]> getEmotionMistakeCorrelation(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -120,52 +144,6 @@ public interface TradeReviewRepository extends JpaRepository<TradeReview, Long>
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    /** 심리 분석: 요일별 통계 */
-    @Query(
-            "SELECT FUNCTION('DAYOFWEEK', t.transactionDate), COUNT(tr), "
-                    + "SUM(CASE WHEN t.realizedPnl >= 0 THEN 1 ELSE 0 END) * 100.0 / COUNT(tr), "
-                    + "AVG(t.realizedPnl), tr.emotionBefore "
-                    + "FROM TradeReview tr JOIN tr.transaction t "
-                    + "WHERE t.account.id = :accountId "
-                    + "AND t.transactionDate BETWEEN :startDate AND :endDate "
-                    + "GROUP BY FUNCTION('DAYOFWEEK', t.transactionDate), tr.emotionBefore")
-    List<Object[]> getDayOfWeekStats(
-            @Param("accountId") Long accountId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
-
-    /** 심리-성과 상관관계: 감정 상태별 성과 통계 */
-    @Query(
-            "SELECT tr.emotionBefore, COUNT(tr), "
-                    + "SUM(CASE WHEN t.realizedPnl > 0 THEN 1 ELSE 0 END), "
-                    + "AVG(t.realizedPnl), SUM(t.realizedPnl), AVG(t.rMultiple) "
-                    + "FROM TradeReview tr JOIN tr.transaction t "
-                    + "WHERE t.account.id = :accountId "
-                    + "AND tr.emotionBefore IS NOT NULL "
-                    + "AND t.realizedPnl IS NOT NULL "
-                    + "AND t.transactionDate BETWEEN :startDate AND :endDate "
-                    + "GROUP BY tr.emotionBefore")
-    List<Object[]> getEmotionPerformanceStats(
-            @Param("accountId") Long accountId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
-
-    /** 심리-성과 상관관계: 계획 준수 여부별 성과 */
-    @Query(
-            "SELECT tr.followedPlan, COUNT(tr), "
-                    + "SUM(CASE WHEN t.realizedPnl > 0 THEN 1 ELSE 0 END), "
-                    + "AVG(t.realizedPnl), SUM(t.realizedPnl) "
-                    + "FROM TradeReview tr JOIN tr.transaction t "
-                    + "WHERE t.account.id = :accountId "
-                    + "AND tr.followedPlan IS NOT NULL "
-                    + "AND t.realizedPnl IS NOT NULL "
-                    + "AND t.transactionDate BETWEEN :startDate AND :endDate "
-                    + "GROUP BY tr.followedPlan")
-    List<Object[]> getPlanAdherencePerformance(
-            @Param("accountId") Long accountId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
-
     /** 심리-성과 상관관계: 감정별 거래 상세 (집중도/규율 점수 상관관계 분석용) */
     @Query(
             "SELECT tr FROM TradeReview tr JOIN FETCH tr.transaction t "
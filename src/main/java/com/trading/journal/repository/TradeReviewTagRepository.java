@@ -0,0 +1,43 @@
+package com.trading.journal.repository;
+
+import com.trading.journal.entity.TradeReviewTag;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TradeReviewTagRepository extends JpaRepository<TradeReviewTag, Long> {
+
+    /** 복기의 태그 행 삭제 (복기 수정/삭제 시) */
+    @Modifying
+    @Query("DELETE FROM TradeReviewTag t WHERE t.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    /** 태그별 복기 수 (많은 순) */
+    @Query("SELECT t.tag, COUNT(t) FROM TradeReviewTag t GROUP BY t.tag ORDER BY COUNT(t) DESC")
+    List<Object[]> countByTag(Pageable pageable);
+
+    /** 실수 패턴: 계좌/기간 내 손실 매도 거래의 태그 (tag, transactionId) */
+    @Query(
+            "SELECT tg.tag, t.id FROM TradeReviewTag tg JOIN tg.review tr JOIN tr.transaction t "
+                    + "WHERE t.account.id = :accountId "
+                    + "AND t.realizedPnl < 0 "
+                    + "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findLosingTradeTagsByAccount(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    /** 실수 패턴: 전체 계좌 기간 내 손실 매도 거래의 태그 (tag, transactionId) */
+    @Query(
+            "SELECT tg.tag, t.id FROM TradeReviewTag tg JOIN tg.review tr JOIN tr.transaction t "
+                    + "WHERE t.realizedPnl < 0 "
+                    + "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findLosingTradeTags(
+            @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+}
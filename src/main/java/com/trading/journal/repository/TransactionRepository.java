@@ -1,16 +1,22 @@
 package com.trading.journal.repository;
 
+import com.trading.journal.dto.TransactionListItemDto;
 import com.trading.journal.entity.Account;
 import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.entity.TransactionType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -98,6 +104,96 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDateTime endDate,
             @Param("userId") Long userId);
 
+    // ===== 커서(keyset) 페이지네이션 목록 쿼리 =====
+    // (transactionDate, id) 내림차순 seek - 페이지 깊이와 무관하게 일정한 비용. 목록 DTO 프로젝션으로 필요한 컬럼만 조회
+
+    String LIST_ITEM_COLUMNS =
+            "t.id, t.transactionDate, t.type, s.symbol, s.name, a.id, a.name, t.realizedPnl";
+
+    String LIST_ITEM_AMOUNT_COLUMNS = LIST_ITEM_COLUMNS + ", t.quantity, t.price, t.commission";
+
+    String KEYSET_FROM =
+            " FROM Transaction t JOIN t.stock s LEFT JOIN t.account a "
+                    + "WHERE (a IS NULL OR a.userId = :userId) "
+                    + "AND (:accountId IS NULL OR a.id = :accountId) "
+                    + "AND (:symbol IS NULL OR s.symbol = :symbol) ";
+
+    String KEYSET_AFTER =
+            "AND (t.transactionDate < :cursorDate "
+                    + "OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) ";
+
+    String KEYSET_ORDER = "ORDER BY t.transactionDate DESC, t.id DESC";
+
+    /** 첫 페이지 (금액 제외 - 암호화 컬럼 미조회) */
+    @Query(
+            "SELECT new com.trading.journal.dto.TransactionListItemDto("
+                    + LIST_ITEM_COLUMNS
+                    + ")"
+                    + KEYSET_FROM
+                    + KEYSET_ORDER)
+    List<TransactionListItemDto> findListItemsFirstPage(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("symbol") String symbol,
+            Pageable pageable);
+
+    /** 커서 이후 페이지 (금액 제외 - 암호화 컬럼 미조회) */
+    @Query(
+            "SELECT new com.trading.journal.dto.TransactionListItemDto("
+                    + LIST_ITEM_COLUMNS
+                    + ")"
+                    + KEYSET_FROM
+                    + KEYSET_AFTER
+                    + KEYSET_ORDER)
+    List<TransactionListItemDto> findListItemsAfter(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("symbol") String symbol,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /** 첫 페이지 (금액 포함) */
+    @Query(
+            "SELECT new com.trading.journal.dto.TransactionListItemDto("
+                    + LIST_ITEM_AMOUNT_COLUMNS
+                    + ")"
+                    + KEYSET_FROM
+                    + KEYSET_ORDER)
+    List<TransactionListItemDto> findListItemsWithAmountsFirstPage(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("symbol") String symbol,
+            Pageable pageable);
+
+    /** 커서 이후 페이지 (금액 포함) */
+    @Query(
+            "SELECT new com.trading.journal.dto.TransactionListItemDto("
+                    + LIST_ITEM_AMOUNT_COLUMNS
+                    + ")"
+                    + KEYSET_FROM
+                    + KEYSET_AFTER
+                    + KEYSET_ORDER)
+    List<TransactionListItemDto> findListItemsWithAmountsAfter(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("symbol") String symbol,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // ===== 분석용 스트리밍 쿼리 =====
+    // 전체 이력을 List로 적재하지 않고 커서로 순회 (호출 측 @Transactional(readOnly = true) 필요)
+
+    /** 전체 거래 스트림 (거래일시 오름차순, 읽기 전용) */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            "SELECT t FROM Transaction t JOIN FETCH t.stock ORDER BY t.transactionDate ASC, t.id ASC")
+    Stream<Transaction> streamAllWithStock();
+
     // ===== FIFO 계산용 쿼리 =====
 
     /** FIFO용: 잔여 수량이 있는 매수 거래 조회 (날짜 오름차순) 매도 날짜 이전의 매수 거래만 조회 */
@@ -118,6 +214,57 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT DISTINCT t.account.id, t.stock.id FROM Transaction t")
     List<Object[]> findDistinctAccountStockPairs();
 
+    // ===== 세금 로트 원장 동기화용 쿼리 =====
+
+    /** 기간 내 계좌별 매도 건수 (accountId, count) - 계좌 없는 거래는 accountId null */
+    @Query(
+            "SELECT a.id, COUNT(t) FROM Transaction t LEFT JOIN t.account a "
+                    + "WHERE t.type = 'SELL' AND t.transactionDate >= :start AND t.transactionDate < :end "
+                    + "GROUP BY a.id")
+    List<Object[]> countSellsByAccountBetween(
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /** 계좌별 거래 최종 수정 시각 (accountId, max(updatedAt)) - 기준 시각 이전 거래만, 세금 원장 신선도 비교용 */
+    @Query(
+            "SELECT a.id, MAX(t.updatedAt) FROM Transaction t LEFT JOIN t.account a "
+                    + "WHERE t.transactionDate < :end GROUP BY a.id")
+    List<Object[]> findLastUpdateByAccountBefore(@Param("end") LocalDateTime end);
+
+    /** 기간 내 매도가 있는 계좌-종목 쌍 (accountId, stockId) */
+    @Query(
+            "SELECT DISTINCT a.id, t.stock.id FROM Transaction t LEFT JOIN t.account a "
+                    + "WHERE t.type = 'SELL' AND t.transactionDate >= :start AND t.transactionDate < :end")
+    List<Object[]> findSellAccountStockPairsBetween(
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /** 가장 이른 매도 일시 (매도가 없으면 null, 세금 원장 동기화 범위) */
+    @Query("SELECT MIN(t.transactionDate) FROM Transaction t WHERE t.type = 'SELL'")
+    LocalDateTime findEarliestSellDate();
+
+    /** 여러 계좌의 미청산 매수 로트 (계좌, 종목, 날짜 오름차순) - 리밸런싱 세금 추정용 */
+    @Query(
+            "SELECT t FROM Transaction t WHERE t.account.id IN :accountIds "
+                    + "AND t.type = 'BUY' AND t.remainingQuantity > 0 "
+                    + "ORDER BY t.account.id, t.stock.id, t.transactionDate ASC, t.id ASC")
+    List<Transaction> findOpenBuyLotsByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    /** 계좌의 종목별 가장 오래된 미청산 매수 일시 (stockId, min(transactionDate)) */
+    @Query(
+            "SELECT t.stock.id, MIN(t.transactionDate) FROM Transaction t "
+                    + "WHERE t.account.id = :accountId AND t.type = 'BUY' AND t.remainingQuantity > 0 "
+                    + "GROUP BY t.stock.id")
+    List<Object[]> findOldestOpenLotDateByStock(@Param("accountId") Long accountId);
+
+    /** 계좌의 종목별 가장 최근 매수의 손절가 (stockId, stopLossPrice) - 보유 종목만, 같은 일시는 ID 오름차순 */
+    @Query(
+            "SELECT t.stock.id, t.stopLossPrice FROM Transaction t "
+                    + "WHERE t.account.id = :accountId AND t.type = 'BUY' AND t.stock.id IN :stockIds "
+                    + "AND t.transactionDate = (SELECT MAX(t2.transactionDate) FROM Transaction t2 "
+                    + "WHERE t2.account.id = :accountId AND t2.stock.id = t.stock.id AND t2.type = 'BUY') "
+                    + "ORDER BY t.id ASC")
+    List<Object[]> findLatestBuyStopLossByStock(
+            @Param("accountId") Long accountId, @Param("stockIds") Collection<Long> stockIds);
+
     /** 계좌/종목별 거래 조회 (날짜 오름차순) - FIFO 재계산용 */
     @Query(
             "SELECT t FROM Transaction t WHERE "
@@ -127,6 +274,40 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByAccountIdAndStockIdOrderByTransactionDateAsc(
             @Param("accountId") Long accountId, @Param("stockId") Long stockId);
 
+    // ===== 포지션 스냅샷 재생용 쿼리 =====
+
+    /** 거래일 이후 거래 존재 여부 - 증분 반영 가능 판단용 */
+    boolean existsByAccountIdAndStockIdAndTransactionDateAfter(
+            Long accountId, Long stockId, LocalDateTime transactionDate);
+
+    /** (거래일, ID) 순서에서 주어진 거래 직전 거래 - 증분 반영 기준 스냅샷 */
+    @Query(
+            "SELECT t FROM Transaction t WHERE t.account.id = :accountId "
+                    + "AND t.stock.id = :stockId "
+                    + "AND (t.transactionDate < :transactionDate "
+                    + "OR (t.transactionDate = :transactionDate AND t.id < :id)) "
+                    + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPrecedingPositions(
+            @Param("accountId") Long accountId,
+            @Param("stockId") Long stockId,
+            @Param("transactionDate") LocalDateTime transactionDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /** 재생 시작일 직전 마지막 거래 - 재생 기준 스냅샷 */
+    Optional<Transaction>
+            findFirstByAccountIdAndStockIdAndTransactionDateBeforeOrderByTransactionDateDescIdDesc(
+                    Long accountId, Long stockId, LocalDateTime transactionDate);
+
+    /** 재생 시작일 이후 거래 (거래일, ID 오름차순) */
+    List<Transaction>
+            findByAccountIdAndStockIdAndTransactionDateGreaterThanEqualOrderByTransactionDateAscIdAsc(
+                    Long accountId, Long stockId, LocalDateTime transactionDate);
+
+    /** 계좌/종목 전체 거래 (거래일, ID 오름차순) - 스냅샷 최초 생성용 */
+    List<Transaction> findByAccountIdAndStockIdOrderByTransactionDateAscIdAsc(
+            Long accountId, Long stockId);
+
     /** 실현 손익 합계 조회 (계좌별/기간별) */
     @Query(
             "SELECT COALESCE(SUM(t.realizedPnl), 0) FROM Transaction t WHERE "
@@ -142,6 +323,12 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT COALESCE(SUM(t.realizedPnl), 0) FROM Transaction t WHERE t.type = 'SELL'")
     java.math.BigDecimal sumTotalRealizedPnl();
 
+    /** 계좌 실현 손익 합계 조회 (계좌의 모든 SELL 거래) */
+    @Query(
+            "SELECT COALESCE(SUM(t.realizedPnl), 0) FROM Transaction t WHERE t.type = 'SELL' "
+                    + "AND t.account.id = :accountId")
+    java.math.BigDecimal sumTotalRealizedPnlByAccount(@Param("accountId") Long accountId);
+
     // ===== 리스크 관리용 쿼리 =====
 
     /** 계좌/종목/타입별 거래 조회 (날짜 오름차순) - R-multiple 계산용 */
@@ -209,4 +396,10 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Optional<Transaction>
             findFirstByAccountAndStockAndTypeAndTransactionDateBeforeOrderByTransactionDateDesc(
                     Account account, Stock stock, TransactionType type, LocalDateTime beforeDate);
+
+    // ===== 캐시 무효화용 데이터 버전 =====
+
+    /** 거래 데이터 버전 지표 [건수, 최종 수정 시각, 최대 ID] - 추가/수정/삭제 시 하나 이상이 바뀐다 (리포트 결과 캐시 키용) */
+    @Query("SELECT COUNT(t), MAX(t.updatedAt), MAX(t.id) FROM Transaction t")
+    List<Object[]> getDataVersionStats();
 }
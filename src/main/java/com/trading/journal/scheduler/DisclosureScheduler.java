@@ -1,5 +1,6 @@
 package com.trading.journal.scheduler;
 
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.service.DisclosureService;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +15,9 @@ public class DisclosureScheduler {
 
     private final DisclosureService disclosureService;
 
-    /** 매일 오전 9시와 오후 6시에 공시 정보 동기화 한국 주식시장 개장 전후로 설정 */
+    /** 매일 오전 9시와 오후 6시에 공시 정보 동기화 한국 주식시장 개장 전후로 설정 (클러스터에서는 종목별로 노드에 분배) */
     @Scheduled(cron = "0 0 9,18 * * *")
+    @ClusterJob(value = "disclosure-sync", sharded = true, lockAtMostForSeconds = 3600)
     public void syncDisclosures() {
         log.info("공시 정보 동기화 시작: {}", LocalDateTime.now());
 
@@ -29,6 +31,7 @@ public class DisclosureScheduler {
 
     /** 매 시간마다 중요 공시 확인 (장중) 평일 오전 9시부터 오후 6시까지 */
     @Scheduled(cron = "0 0 9-18 * * MON-FRI")
+    @ClusterJob(value = "disclosure-important-check", sharded = true, lockAtMostForSeconds = 3600)
     public void checkImportantDisclosures() {
         log.debug("중요 공시 확인: {}", LocalDateTime.now());
 
@@ -1,5 +1,6 @@
 package com.trading.journal.scheduler;
 
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.service.EconomicCalendarService;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
@@ -8,7 +9,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-/** 경제 캘린더 동기화 스케줄러 */
+/**
+ * 경제 캘린더 동기화 스케줄러
+ *
+ * <p>동기화는 비동기로 구독하고 바로 반환하므로, 진행 중인 동기화가 다른 노드에서 반복되지 않도록 리스를 최소 5분 유지한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -27,6 +32,7 @@ public class EconomicCalendarScheduler {
 
     /** 매일 오전 6시에 경제 캘린더 동기화 */
     @Scheduled(cron = "0 0 6 * * *")
+    @ClusterJob(value = "economic-calendar-daily", lockAtLeastForSeconds = 300)
     public void syncDailyCalendar() {
         if (isSyncDisabled()) return;
 
@@ -36,6 +42,7 @@ public class EconomicCalendarScheduler {
 
     /** 매주 일요일 자정에 주간 캘린더 동기화 */
     @Scheduled(cron = "0 0 0 * * SUN")
+    @ClusterJob(value = "economic-calendar-weekly", lockAtLeastForSeconds = 300)
     public void syncWeeklyCalendar() {
         if (isSyncDisabled()) return;
 
@@ -45,6 +52,7 @@ public class EconomicCalendarScheduler {
 
     /** 매월 1일 오전 1시에 오래된 이벤트 정리 및 월간 동기화 */
     @Scheduled(cron = "0 0 1 1 * *")
+    @ClusterJob(value = "economic-calendar-monthly", lockAtLeastForSeconds = 300)
     public void monthlyCleanupAndSync() {
         log.info("경제 캘린더 월간 정리 시작");
 
@@ -62,6 +70,7 @@ public class EconomicCalendarScheduler {
 
     /** 평일 장 시작 30분 전 당일 이벤트 업데이트 확인 */
     @Scheduled(cron = "0 30 8 * * MON-FRI")
+    @ClusterJob(value = "economic-calendar-today", lockAtLeastForSeconds = 300)
     public void updateTodayEvents() {
         if (isSyncDisabled()) return;
 
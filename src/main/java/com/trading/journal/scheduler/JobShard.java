@@ -0,0 +1,62 @@
+package com.trading.journal.scheduler;
+
+/**
+ * 클러스터 샤드 작업에서 현재 노드가 맡은 몫.
+ *
+ * <p>{@code @ClusterJob(sharded = true)} 작업이 실행되는 동안 {@link #current()}가 이 노드의 샤드를 돌려주며, 작업은 처리 대상
+ * 키(사용자 ID, 종목 코드 등)를 {@link #owns(Object)}로 걸러 자기 몫만 처리한다. 작업 밖(수동 호출, 단위 테스트)에서는 전체를 맡는 {@link
+ * #ALL}이다.
+ *
+ * <p>키는 {@code hashCode()}로 나누므로 노드 간에 같은 값을 내는 타입(String, Long 등)만 사용한다.
+ */
+public record JobShard(int index, int count) {
+
+    /** 샤딩하지 않음 (모든 키를 처리) */
+    public static final JobShard ALL = new JobShard(0, 1);
+
+    private static final ThreadLocal<JobShard> CURRENT = new ThreadLocal<>();
+
+    public JobShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("잘못된 샤드: " + index + "/" + count);
+        }
+    }
+
+    /** 키가 이 샤드 몫인지 (null 키는 0번 샤드) */
+    public boolean owns(Object key) {
+        if (count == 1) {
+            return true;
+        }
+        int hash = key != null ? key.hashCode() : 0;
+        return Math.floorMod(hash, count) == index;
+    }
+
+    /** 클러스터 전체에 한 번만 하면 되는 부수 작업을 이 샤드가 맡는지 */
+    public boolean isPrimary() {
+        return index == 0;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /** 실행 중인 샤드 작업의 샤드 (샤드 작업 밖에서는 {@link #ALL}) */
+    public static JobShard current() {
+        JobShard shard = CURRENT.get();
+        return shard != null ? shard : ALL;
+    }
+
+    /** ClusterJobAspect가 작업 실행 동안 현재 스레드에 샤드를 바인딩한다. */
+    public static void bind(JobShard shard) {
+        CURRENT.set(shard);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
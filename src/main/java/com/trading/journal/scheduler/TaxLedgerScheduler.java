@@ -0,0 +1,50 @@
+package com.trading.journal.scheduler;
+
+import com.trading.journal.annotation.ClusterJob;
+import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.service.FifoCalculationService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세금 로트 원장 동기화 스케줄러
+ *
+ * <p>거래 생성/수정/삭제는 FIFO 재계산 시 원장을 함께 갱신하므로, 이 작업은 원장 도입 이전 매도의 백필과 누락 보정만 맡는다. 세금 계산/손실 수확 조회는 노드의
+ * 연도별 첫 조회 때만 같은 동기화를 거치고 이후에는 원장을 읽기만 한다. 연도마다 별도 트랜잭션으로 처리하고, 원장이 최신이면 연도당 매도 건수와 최종 수정 시각 비교 쿼리만
+ * 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaxLedgerScheduler {
+
+    private final TransactionRepository transactionRepository;
+    private final FifoCalculationService fifoCalculationService;
+
+    /** 기동 1분 후, 이후 6시간마다 매도가 있는 모든 연도의 원장을 동기화 */
+    @Scheduled(
+            initialDelayString = "${tax.ledger.sync-initial-delay-ms:60000}",
+            fixedDelayString = "${tax.ledger.sync-delay-ms:21600000}")
+    @ClusterJob(value = "tax-ledger-sync", lockAtMostForSeconds = 3600)
+    public void syncLedger() {
+        LocalDateTime earliest = transactionRepository.findEarliestSellDate();
+        if (earliest == null) {
+            return;
+        }
+        int rebuilt = 0;
+        for (int year = earliest.getYear(); year <= LocalDate.now().getYear(); year++) {
+            try {
+                rebuilt += fifoCalculationService.syncLedgerForYear(year);
+            } catch (Exception e) {
+                log.error("{}년 세금 원장 동기화 실패", year, e);
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("세금 원장 동기화 완료: 계좌/종목 {}쌍 재계산", rebuilt);
+        }
+    }
+}
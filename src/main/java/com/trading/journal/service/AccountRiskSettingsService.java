@@ -15,6 +15,7 @@ import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +29,7 @@ public class AccountRiskSettingsService {
     private final AccountService accountService;
     private final TransactionRepository transactionRepository;
     private final PortfolioRepository portfolioRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 계정 리스크 설정 조회 (없으면 기본값으로 생성) */
     @Transactional(readOnly = true)
@@ -78,6 +80,7 @@ public class AccountRiskSettingsService {
 
         settings = riskSettingsRepository.save(settings);
         log.info("Created risk settings for account: {}", accountId);
+        eventPublisher.publishEvent(new RiskSettingsChangedEvent(accountId));
 
         return convertToDto(settings);
     }
@@ -112,6 +115,7 @@ public class AccountRiskSettingsService {
 
         settings = riskSettingsRepository.save(settings);
         log.info("Updated risk settings for account: {}", targetAccountId);
+        eventPublisher.publishEvent(new RiskSettingsChangedEvent(targetAccountId));
 
         return convertToDto(settings);
     }
@@ -134,6 +138,7 @@ public class AccountRiskSettingsService {
         settings = riskSettingsRepository.save(settings);
 
         log.info("Updated account capital for account {}: {}", targetAccountId, capital);
+        eventPublisher.publishEvent(new RiskSettingsChangedEvent(targetAccountId));
 
         return convertToDto(settings);
     }
@@ -4,14 +4,11 @@ import com.trading.journal.dto.AdvancedWidgetDto.*;
 import com.trading.journal.dto.HarvestingOpportunityDto;
 import com.trading.journal.dto.MonteCarloRequestDto;
 import com.trading.journal.dto.MonteCarloResultDto;
-import com.trading.journal.dto.StressTestRequestDto;
 import com.trading.journal.dto.StressTestResultDto;
 import com.trading.journal.dto.TaxLossHarvestingDto;
-import com.trading.journal.entity.StressScenario;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -201,25 +198,8 @@ public class AdvancedWidgetService {
 
     /** 모든 시나리오에 대해 스트레스 테스트 실행 */
     private List<StressTestResultDto> runAllScenarios() {
-        List<StressScenario> scenarios = stressTestService.getAvailableScenarios();
-        List<StressTestResultDto> results = new ArrayList<>();
-
-        for (StressScenario scenario : scenarios) {
-            try {
-                StressTestRequestDto request =
-                        StressTestRequestDto.builder()
-                                .accountId(DEFAULT_ACCOUNT_ID)
-                                .scenarioId(scenario.getId())
-                                .build();
-
-                StressTestResultDto result = stressTestService.runStressTest(request);
-                results.add(result);
-            } catch (Exception e) {
-                log.warn("스트레스 테스트 실행 실패 - scenarioId: {}", scenario.getId(), e);
-            }
-        }
-
-        return results;
+        // 시나리오 라이브러리를 한 번에 실행 (포지션과 가격 이력은 한 번만 조회)
+        return stressTestService.runScenarioLibrary(DEFAULT_ACCOUNT_ID).getResults();
     }
 
     private String determineSeverity(BigDecimal percentageLoss) {
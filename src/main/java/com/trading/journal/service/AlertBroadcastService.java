@@ -76,6 +76,30 @@ public class AlertBroadcastService {
         }
     }
 
+    /**
+     * 특정 사용자에게 커스텀 메시지 전송
+     *
+     * @param userId 수신 사용자 ID
+     * @param messageType 메시지 타입
+     * @param data 메시지 데이터
+     */
+    public void sendToUser(Long userId, String messageType, Map<String, Object> data) {
+        try {
+            Map<String, Object> message = new HashMap<>();
+            message.put("type", messageType);
+            message.put("timestamp", LocalDateTime.now().toString());
+            message.put("data", data);
+
+            String json = objectMapper.writeValueAsString(message);
+            sessionRegistry.sendToUser(userId, json);
+
+            log.info("User message sent - Type: {}, User: {}", messageType, userId);
+
+        } catch (Exception e) {
+            log.error("Failed to send user message: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * 시스템 알림 브로드캐스트
      *
@@ -1,5 +1,6 @@
 package com.trading.journal.service;
 
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.dto.AlertDto;
 import com.trading.journal.dto.AlertSummaryDto;
 import com.trading.journal.entity.*;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /** 알림 서비스 */
@@ -210,6 +212,32 @@ public class AlertService {
                 LocalDateTime.now().plusDays(3));
     }
 
+    /** 틸트 경고 알림 (커밋 후 이벤트 리스너에서 호출되므로 별도 트랜잭션으로 저장) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createTiltAlert(Long accountId, String tiltLevel, int tiltScore, int threshold) {
+        AlertPriority priority =
+                switch (tiltLevel) {
+                    case "SEVERE" -> AlertPriority.CRITICAL;
+                    case "MODERATE" -> AlertPriority.HIGH;
+                    default -> AlertPriority.MEDIUM;
+                };
+        String title = String.format("틸트 경고 (%s)", tiltLevel);
+        String message = String.format("최근 거래의 틸트 점수가 %d점입니다. 감정 상태를 점검하고 거래 속도를 늦추세요.", tiltScore);
+
+        createAlert(
+                AlertType.TILT_WARNING,
+                priority,
+                title,
+                message,
+                BigDecimal.valueOf(tiltScore),
+                BigDecimal.valueOf(threshold),
+                null,
+                null,
+                accountId,
+                "/reviews.html",
+                LocalDateTime.now().plusDays(1));
+    }
+
     /** 알림 조회 */
     @Transactional(readOnly = true)
     public AlertDto getAlert(Long id) {
@@ -320,6 +348,7 @@ public class AlertService {
     /** 오래된 알림 정리 (30일 이상) */
     @Transactional
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+    @ClusterJob("alert-cleanup")
     public void cleanupOldAlerts() {
         LocalDateTime before = LocalDateTime.now().minusDays(30);
         int deleted = alertRepository.deleteOldAlerts(before);
@@ -377,6 +406,7 @@ public class AlertService {
             case TRADE_EXECUTED -> "거래 체결";
             case WINNING_STREAK -> "연승";
             case LOSING_STREAK -> "연패";
+            case TILT_WARNING -> "틸트 경고";
             case SYSTEM_INFO -> "시스템 정보";
             case SYSTEM_WARNING -> "시스템 경고";
             case CUSTOM -> "사용자 정의";
@@ -432,6 +462,7 @@ public class AlertService {
             case TRADE_EXECUTED -> "bi-arrow-left-right";
             case WINNING_STREAK -> "bi-emoji-smile";
             case LOSING_STREAK -> "bi-emoji-frown";
+            case TILT_WARNING -> "bi-emoji-dizzy";
             case SYSTEM_INFO -> "bi-info-circle";
             case SYSTEM_WARNING -> "bi-exclamation-circle";
             case CUSTOM -> "bi-bell";
@@ -1,25 +1,40 @@
 package com.trading.journal.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trading.journal.dto.BacktestComparisonDto;
 import com.trading.journal.dto.BacktestComparisonDto.*;
+import com.trading.journal.dto.BacktestResultDto;
+import com.trading.journal.dto.BacktestSearchRequestDto;
 import com.trading.journal.entity.BacktestResult;
+import com.trading.journal.entity.BacktestResultParam;
 import com.trading.journal.repository.BacktestResultRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 백테스트 결과 비교 서비스
  *
- * <p>여러 백테스트 결과를 비교 분석하여 성과 순위, 차트 데이터, 통계 요약 제공
+ * <p>여러 백테스트 결과를 비교 분석하여 성과 순위, 차트 데이터, 통계 요약 제공. 거래 행은 읽지 않고 지표 컬럼과 저장 시 미리 다운샘플링한 곡선 요약({@code
+ * curveSummary})만 조회하며, 상위 K개 검색은 지표 컬럼 인덱스 정렬과 파라미터 인덱스({@link BacktestResultParam}) EXISTS 필터로
+ * 처리한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,7 +42,7 @@ import org.springframework.stereotype.Service;
 public class BacktestComparisonService {
 
     private final BacktestResultRepository backtestResultRepository;
-    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     /** 차트 색상 팔레트 */
     private static final List<String> COLOR_PALETTE =
@@ -45,6 +60,55 @@ public class BacktestComparisonService {
     /** 소수점 자릿수 */
     private static final int SCALE = 4;
 
+    /** 한 번에 비교할 수 있는 최대 백테스트 수 */
+    private static final int MAX_COMPARE = 100;
+
+    /** 비교·검색에 필요한 지표 컬럼 (조회 순서 = {@link MetricRow} 생성자 인자 순서) */
+    private static final List<String> METRIC_COLUMNS =
+            List.of(
+                    "id",
+                    "strategyName",
+                    "strategyType",
+                    "symbol",
+                    "startDate",
+                    "endDate",
+                    "initialCapital",
+                    "finalCapital",
+                    "totalReturn",
+                    "cagr",
+                    "maxDrawdown",
+                    "sharpeRatio",
+                    "sortinoRatio",
+                    "profitFactor",
+                    "winRate",
+                    "totalTrades",
+                    "avgHoldingDays",
+                    "executedAt");
+
+    /** 거래·곡선 없이 지표 컬럼만 담은 비교 행 */
+    @Value
+    @Builder
+    static class MetricRow {
+        Long id;
+        String strategyName;
+        String strategyType;
+        String symbol;
+        LocalDate startDate;
+        LocalDate endDate;
+        BigDecimal initialCapital;
+        BigDecimal finalCapital;
+        BigDecimal totalReturn;
+        BigDecimal cagr;
+        BigDecimal maxDrawdown;
+        BigDecimal sharpeRatio;
+        BigDecimal sortinoRatio;
+        BigDecimal profitFactor;
+        BigDecimal winRate;
+        Integer totalTrades;
+        BigDecimal avgHoldingDays;
+        LocalDateTime executedAt;
+    }
+
     /**
      * 여러 백테스트 결과 비교
      *
@@ -52,21 +116,31 @@ public class BacktestComparisonService {
      * @return 비교 결과 DTO
      */
     @Cacheable(value = "backtest_comparison", key = "#backtestIds.hashCode()")
+    @Transactional(readOnly = true)
     @com.trading.journal.annotation.MeasurePerformance("백테스트 비교 분석")
     public BacktestComparisonDto compareBacktests(List<Long> backtestIds) {
-        log.info("Comparing {} backtests: {}", backtestIds.size(), backtestIds);
-
         if (backtestIds == null || backtestIds.size() < 2) {
             throw new IllegalArgumentException("비교하려면 최소 2개의 백테스트가 필요합니다.");
         }
+        if (backtestIds.size() > MAX_COMPARE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_COMPARE + "개까지 비교할 수 있습니다.");
+        }
+        log.info("Comparing {} backtests: {}", backtestIds.size(), backtestIds);
 
-        // trades 즉시 로딩으로 N+1 쿼리 방지
-        List<BacktestResult> results = backtestResultRepository.findAllByIdWithTrades(backtestIds);
+        // 요청 순서 유지, 지표 컬럼만 조회 (거래/전체 곡선 미로딩)
+        Map<Long, MetricRow> byId = new HashMap<>();
+        for (MetricRow row : queryMetricRows(null, backtestIds, backtestIds.size())) {
+            byId.put(row.getId(), row);
+        }
+        List<MetricRow> results =
+                backtestIds.stream().distinct().map(byId::get).filter(Objects::nonNull).toList();
 
         if (results.size() < 2) {
             throw new IllegalArgumentException("유효한 백테스트가 2개 미만입니다.");
         }
 
+        Map<Long, BacktestCurves> curves = loadCurveSummaries(results);
+
         // 비교 대상 백테스트 목록 생성
         List<ComparedBacktest> comparedBacktests = buildComparedBacktests(results);
 
@@ -74,7 +148,7 @@ public class BacktestComparisonService {
         MetricRankings rankings = buildMetricRankings(results);
 
         // 차트 데이터 생성
-        ChartData chartData = buildChartData(results);
+        ChartData chartData = buildChartData(results, curves);
 
         // 비교 통계 요약 생성
         ComparisonSummary summary = buildComparisonSummary(results);
@@ -100,14 +174,19 @@ public class BacktestComparisonService {
     public BacktestComparisonDto compareTopPerformers(String metric, int limit) {
         log.info("Comparing top {} performers by {}", limit, metric);
 
-        List<BacktestResult> topResults = fetchTopByMetric(metric, limit);
+        List<MetricRow> topResults =
+                queryMetricRows(
+                        BacktestSearchRequestDto.builder()
+                                .metric(BacktestSearchRequestDto.Metric.from(metric))
+                                .build(),
+                        null,
+                        Math.min(limit, MAX_COMPARE));
 
         if (topResults.size() < 2) {
             throw new IllegalArgumentException("비교할 백테스트가 충분하지 않습니다.");
         }
 
-        List<Long> ids = topResults.stream().map(BacktestResult::getId).toList();
-        return compareBacktests(ids);
+        return compareBacktests(topResults.stream().map(MetricRow::getId).toList());
     }
 
     /**
@@ -120,34 +199,172 @@ public class BacktestComparisonService {
     public BacktestComparisonDto compareStrategyVariants(String strategyName, int limit) {
         log.info("Comparing variants of strategy: {}", strategyName);
 
-        List<BacktestResult> variants =
-                backtestResultRepository
-                        .findByStrategyNameContainingIgnoreCaseOrderByExecutedAtDesc(strategyName);
+        List<MetricRow> variants =
+                queryMetricRows(
+                        BacktestSearchRequestDto.builder()
+                                .metric(BacktestSearchRequestDto.Metric.EXECUTED_AT)
+                                .strategyName(strategyName)
+                                .build(),
+                        null,
+                        Math.min(limit, MAX_COMPARE));
 
         if (variants.size() < 2) {
             throw new IllegalArgumentException("비교할 전략 변형이 충분하지 않습니다.");
         }
 
-        List<Long> ids = variants.stream().limit(limit).map(BacktestResult::getId).toList();
-        return compareBacktests(ids);
+        return compareBacktests(variants.stream().map(MetricRow::getId).toList());
+    }
+
+    /**
+     * 저장된 백테스트 상위 K개 검색
+     *
+     * <p>전략/종목/최소 거래 수/파라미터 범위로 거른 뒤 지표 순으로 정렬한다. 지표 값이 없는 결과는 제외한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ComparedBacktest> searchTopBacktests(BacktestSearchRequestDto request) {
+        return buildComparedBacktests(queryMetricRows(request, null, request.getLimit()));
+    }
+
+    // ============================================================
+    // Private Methods - 지표 조회
+    // ============================================================
+
+    /**
+     * 지표 컬럼 튜플 조회
+     *
+     * @param search 필터·정렬 조건 (null이면 필터 없음)
+     * @param ids 조회할 ID (null이면 전체)
+     */
+    private List<MetricRow> queryMetricRows(
+            BacktestSearchRequestDto search, Collection<Long> ids, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BacktestResult> root = query.from(BacktestResult.class);
+        query.multiselect(
+                METRIC_COLUMNS.stream().<Selection<?>>map(name -> root.get(name)).toList());
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (ids != null) {
+            predicates.add(root.get("id").in(ids));
+        }
+        if (search != null) {
+            addSearchPredicates(search, cb, query, root, predicates);
+            BacktestSearchRequestDto.Metric metric = search.getMetric();
+            Path<?> metricPath = root.get(metric.getAttribute());
+            predicates.add(cb.isNotNull(metricPath));
+            query.orderBy(
+                    metric.isAscending() ? cb.asc(metricPath) : cb.desc(metricPath),
+                    cb.desc(root.get("id")));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .map(this::toMetricRow)
+                .toList();
+    }
+
+    private void addSearchPredicates(
+            BacktestSearchRequestDto search,
+            CriteriaBuilder cb,
+            CriteriaQuery<Tuple> query,
+            Root<BacktestResult> root,
+            List<Predicate> predicates) {
+        if (search.getStrategyType() != null && !search.getStrategyType().isBlank()) {
+            predicates.add(
+                    cb.equal(root.get("strategyType"), search.getStrategyType().toUpperCase()));
+        }
+        if (search.getSymbol() != null && !search.getSymbol().isBlank()) {
+            predicates.add(cb.equal(root.get("symbol"), search.getSymbol().toUpperCase()));
+        }
+        if (search.getStrategyName() != null && !search.getStrategyName().isBlank()) {
+            predicates.add(
+                    cb.like(
+                            cb.lower(root.<String>get("strategyName")),
+                            "%" + search.getStrategyName().toLowerCase() + "%"));
+        }
+        if (search.getMinTrades() != null) {
+            predicates.add(cb.ge(root.<Integer>get("totalTrades"), search.getMinTrades()));
+        }
+        if (search.getParamRanges() == null) {
+            return;
+        }
+        // 파라미터 범위마다 (backtest_result_id, name) 인덱스를 타는 상관 EXISTS 서브쿼리
+        for (BacktestSearchRequestDto.ParamRange range : search.getParamRanges()) {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<BacktestResultParam> param = sub.from(BacktestResultParam.class);
+            List<Predicate> conditions = new ArrayList<>();
+            conditions.add(cb.equal(param.get("backtestResult"), root));
+            conditions.add(cb.equal(param.get("name"), range.getName()));
+            if (range.getMin() != null) {
+                conditions.add(cb.ge(param.<Double>get("value"), range.getMin()));
+            }
+            if (range.getMax() != null) {
+                conditions.add(cb.le(param.<Double>get("value"), range.getMax()));
+            }
+            sub.select(param.get("id")).where(conditions.toArray(Predicate[]::new));
+            predicates.add(cb.exists(sub));
+        }
+    }
+
+    private MetricRow toMetricRow(Tuple t) {
+        return MetricRow.builder()
+                .id(t.get(0, Long.class))
+                .strategyName(t.get(1, String.class))
+                .strategyType(t.get(2, String.class))
+                .symbol(t.get(3, String.class))
+                .startDate(t.get(4, LocalDate.class))
+                .endDate(t.get(5, LocalDate.class))
+                .initialCapital(t.get(6, BigDecimal.class))
+                .finalCapital(t.get(7, BigDecimal.class))
+                .totalReturn(t.get(8, BigDecimal.class))
+                .cagr(t.get(9, BigDecimal.class))
+                .maxDrawdown(t.get(10, BigDecimal.class))
+                .sharpeRatio(t.get(11, BigDecimal.class))
+                .sortinoRatio(t.get(12, BigDecimal.class))
+                .profitFactor(t.get(13, BigDecimal.class))
+                .winRate(t.get(14, BigDecimal.class))
+                .totalTrades(t.get(15, Integer.class))
+                .avgHoldingDays(t.get(16, BigDecimal.class))
+                .executedAt(t.get(17, LocalDateTime.class))
+                .build();
+    }
+
+    /** 미리 다운샘플링한 곡선 요약 로드 (손상되었거나 없는 결과는 제외) */
+    private Map<Long, BacktestCurves> loadCurveSummaries(List<MetricRow> results) {
+        Map<Long, BacktestCurves> curves = new HashMap<>();
+        List<Long> ids = results.stream().map(MetricRow::getId).toList();
+        for (Object[] row : backtestResultRepository.findCurveSummariesByIds(ids)) {
+            Long id = (Long) row[0];
+            byte[] data = (byte[]) row[1];
+            if (data == null) {
+                continue;
+            }
+            try {
+                curves.put(id, BacktestCurves.decode(data));
+            } catch (IllegalArgumentException e) {
+                log.warn("Failed to decode chart data for backtest {}: {}", id, e.getMessage());
+            }
+        }
+        return curves;
     }
 
     // ============================================================
     // Private Methods - 비교 대상 생성
     // ============================================================
 
-    private List<ComparedBacktest> buildComparedBacktests(List<BacktestResult> results) {
+    private List<ComparedBacktest> buildComparedBacktests(List<MetricRow> results) {
         List<ComparedBacktest> list = new ArrayList<>();
 
         for (int i = 0; i < results.size(); i++) {
-            BacktestResult r = results.get(i);
+            MetricRow r = results.get(i);
             String color = COLOR_PALETTE.get(i % COLOR_PALETTE.size());
 
             list.add(
                     ComparedBacktest.builder()
                             .id(r.getId())
                             .strategyName(r.getStrategyName())
-                            .strategyType(extractStrategyType(r.getStrategyConfig()))
+                            .strategyType(
+                                    r.getStrategyType() != null ? r.getStrategyType() : "UNKNOWN")
                             .symbol(r.getSymbol())
                             .startDate(r.getStartDate())
                             .endDate(r.getEndDate())
@@ -174,24 +391,24 @@ public class BacktestComparisonService {
     // Private Methods - 순위 계산
     // ============================================================
 
-    private MetricRankings buildMetricRankings(List<BacktestResult> results) {
+    private MetricRankings buildMetricRankings(List<MetricRow> results) {
         return MetricRankings.builder()
-                .byTotalReturn(rankBy(results, BacktestResult::getTotalReturn, true))
-                .bySharpeRatio(rankBy(results, BacktestResult::getSharpeRatio, true))
-                .byMaxDrawdown(rankBy(results, BacktestResult::getMaxDrawdown, false))
-                .byWinRate(rankBy(results, BacktestResult::getWinRate, true))
-                .byProfitFactor(rankBy(results, BacktestResult::getProfitFactor, true))
-                .byCagr(rankBy(results, BacktestResult::getCagr, true))
+                .byTotalReturn(rankBy(results, MetricRow::getTotalReturn, true))
+                .bySharpeRatio(rankBy(results, MetricRow::getSharpeRatio, true))
+                .byMaxDrawdown(rankBy(results, MetricRow::getMaxDrawdown, false))
+                .byWinRate(rankBy(results, MetricRow::getWinRate, true))
+                .byProfitFactor(rankBy(results, MetricRow::getProfitFactor, true))
+                .byCagr(rankBy(results, MetricRow::getCagr, true))
                 .byOverallScore(rankByOverallScore(results))
                 .build();
     }
 
     private List<RankEntry> rankBy(
-            List<BacktestResult> results,
-            java.util.function.Function<BacktestResult, BigDecimal> extractor,
+            List<MetricRow> results,
+            java.util.function.Function<MetricRow, BigDecimal> extractor,
             boolean descending) {
 
-        List<BacktestResult> sorted =
+        List<MetricRow> sorted =
                 results.stream()
                         .filter(r -> extractor.apply(r) != null)
                         .sorted(
@@ -203,7 +420,7 @@ public class BacktestComparisonService {
 
         List<RankEntry> rankings = new ArrayList<>();
         for (int i = 0; i < sorted.size(); i++) {
-            BacktestResult r = sorted.get(i);
+            MetricRow r = sorted.get(i);
             rankings.add(
                     RankEntry.builder()
                             .rank(i + 1)
@@ -215,16 +432,16 @@ public class BacktestComparisonService {
         return rankings;
     }
 
-    private List<RankEntry> rankByOverallScore(List<BacktestResult> results) {
+    private List<RankEntry> rankByOverallScore(List<MetricRow> results) {
         // 종합 점수 = 정규화된 (수익률 + 샤프 + 승률 - 낙폭)
         Map<Long, BigDecimal> scores = new HashMap<>();
 
-        BigDecimal maxReturn = getMax(results, BacktestResult::getTotalReturn);
-        BigDecimal maxSharpe = getMax(results, BacktestResult::getSharpeRatio);
-        BigDecimal maxWinRate = getMax(results, BacktestResult::getWinRate);
-        BigDecimal maxDrawdown = getMax(results, BacktestResult::getMaxDrawdown);
+        BigDecimal maxReturn = getMax(results, MetricRow::getTotalReturn);
+        BigDecimal maxSharpe = getMax(results, MetricRow::getSharpeRatio);
+        BigDecimal maxWinRate = getMax(results, MetricRow::getWinRate);
+        BigDecimal maxDrawdown = getMax(results, MetricRow::getMaxDrawdown);
 
-        for (BacktestResult r : results) {
+        for (MetricRow r : results) {
             BigDecimal score = BigDecimal.ZERO;
 
             if (r.getTotalReturn() != null && maxReturn.compareTo(BigDecimal.ZERO) > 0) {
@@ -273,7 +490,7 @@ public class BacktestComparisonService {
         List<RankEntry> rankings = new ArrayList<>();
         for (int i = 0; i < sorted.size(); i++) {
             Map.Entry<Long, BigDecimal> entry = sorted.get(i);
-            BacktestResult r =
+            MetricRow r =
                     results.stream()
                             .filter(x -> x.getId().equals(entry.getKey()))
                             .findFirst()
@@ -293,8 +510,7 @@ public class BacktestComparisonService {
     }
 
     private BigDecimal getMax(
-            List<BacktestResult> results,
-            java.util.function.Function<BacktestResult, BigDecimal> extractor) {
+            List<MetricRow> results, java.util.function.Function<MetricRow, BigDecimal> extractor) {
         return results.stream()
                 .map(extractor)
                 .filter(Objects::nonNull)
@@ -306,49 +522,29 @@ public class BacktestComparisonService {
     // Private Methods - 차트 데이터 생성
     // ============================================================
 
-    private ChartData buildChartData(List<BacktestResult> results) {
+    private ChartData buildChartData(
+            List<MetricRow> results, Map<Long, BacktestCurves> curvesById) {
         Map<Long, List<BigDecimal>> equityCurves = new HashMap<>();
         Map<Long, List<BigDecimal>> drawdownCurves = new HashMap<>();
         List<String> commonLabels = null;
 
-        for (BacktestResult r : results) {
-            try {
-                // 수익률 곡선 파싱
-                if (r.getEquityCurveJson() != null) {
-                    List<BigDecimal> curve =
-                            objectMapper.readValue(
-                                    r.getEquityCurveJson(),
-                                    new TypeReference<List<BigDecimal>>() {});
-                    // 정규화 (시작=100)
-                    List<BigDecimal> normalized = normalizeToPercent(curve);
-                    equityCurves.put(r.getId(), normalized);
-                }
-
-                // 낙폭 곡선 파싱
-                if (r.getDrawdownCurveJson() != null) {
-                    List<BigDecimal> drawdown =
-                            objectMapper.readValue(
-                                    r.getDrawdownCurveJson(),
-                                    new TypeReference<List<BigDecimal>>() {});
-                    drawdownCurves.put(r.getId(), drawdown);
-                }
-
-                // 라벨 (첫 번째 결과에서 가져옴)
-                if (commonLabels == null && r.getEquityLabelsJson() != null) {
-                    commonLabels =
-                            objectMapper.readValue(
-                                    r.getEquityLabelsJson(), new TypeReference<List<String>>() {});
-                }
-            } catch (Exception e) {
-                log.warn(
-                        "Failed to parse chart data for backtest {}: {}",
-                        r.getId(),
-                        e.getMessage());
+        for (MetricRow r : results) {
+            BacktestCurves curves = curvesById.get(r.getId());
+            if (curves == null) {
+                continue;
+            }
+            // 수익률 곡선 정규화 (시작=100)
+            equityCurves.put(r.getId(), normalizeToPercent(curves.equityCurve()));
+            drawdownCurves.put(r.getId(), curves.drawdownCurve());
+
+            // 라벨 (첫 번째 결과에서 가져옴)
+            if (commonLabels == null) {
+                commonLabels = curves.labels();
             }
         }
 
         // 월별 수익률 비교
-        List<MonthlyComparison> monthlyReturns = buildMonthlyComparison(results);
+        List<MonthlyComparison> monthlyReturns = buildMonthlyComparison(results, curvesById);
 
         return ChartData.builder()
                 .labels(commonLabels != null ? commonLabels : Collections.emptyList())
@@ -377,35 +573,19 @@ public class BacktestComparisonService {
                 .toList();
     }
 
-    private List<MonthlyComparison> buildMonthlyComparison(List<BacktestResult> results) {
+    private List<MonthlyComparison> buildMonthlyComparison(
+            List<MetricRow> results, Map<Long, BacktestCurves> curvesById) {
         Map<String, Map<Long, BigDecimal>> monthlyData = new LinkedHashMap<>();
 
-        for (BacktestResult r : results) {
-            if (r.getMonthlyPerformanceJson() != null) {
-                try {
-                    List<Map<String, Object>> monthly =
-                            objectMapper.readValue(
-                                    r.getMonthlyPerformanceJson(),
-                                    new TypeReference<List<Map<String, Object>>>() {});
-
-                    for (Map<String, Object> m : monthly) {
-                        String month = (String) m.get("month");
-                        Object returnObj = m.get("returnPct");
-                        BigDecimal returnPct =
-                                returnObj instanceof Number
-                                        ? BigDecimal.valueOf(((Number) returnObj).doubleValue())
-                                        : BigDecimal.ZERO;
-
-                        monthlyData
-                                .computeIfAbsent(month, k -> new HashMap<>())
-                                .put(r.getId(), returnPct);
-                    }
-                } catch (Exception e) {
-                    log.warn(
-                            "Failed to parse monthly data for backtest {}: {}",
-                            r.getId(),
-                            e.getMessage());
-                }
+        for (MetricRow r : results) {
+            BacktestCurves curves = curvesById.get(r.getId());
+            if (curves == null) {
+                continue;
+            }
+            for (BacktestResultDto.MonthlyPerformance m : curves.monthlyPerformance()) {
+                monthlyData
+                        .computeIfAbsent(m.getMonth(), k -> new HashMap<>())
+                        .put(r.getId(), m.getReturnPct());
             }
         }
 
@@ -423,28 +603,28 @@ public class BacktestComparisonService {
     // Private Methods - 통계 요약 생성
     // ============================================================
 
-    private ComparisonSummary buildComparisonSummary(List<BacktestResult> results) {
-        BacktestResult bestReturn =
+    private ComparisonSummary buildComparisonSummary(List<MetricRow> results) {
+        MetricRow bestReturn =
                 results.stream()
                         .filter(r -> r.getTotalReturn() != null)
-                        .max(Comparator.comparing(BacktestResult::getTotalReturn))
+                        .max(Comparator.comparing(MetricRow::getTotalReturn))
                         .orElse(null);
 
-        BacktestResult lowestDrawdown =
+        MetricRow lowestDrawdown =
                 results.stream()
                         .filter(r -> r.getMaxDrawdown() != null)
-                        .min(Comparator.comparing(BacktestResult::getMaxDrawdown))
+                        .min(Comparator.comparing(MetricRow::getMaxDrawdown))
                         .orElse(null);
 
-        BacktestResult bestSharpe =
+        MetricRow bestSharpe =
                 results.stream()
                         .filter(r -> r.getSharpeRatio() != null)
-                        .max(Comparator.comparing(BacktestResult::getSharpeRatio))
+                        .max(Comparator.comparing(MetricRow::getSharpeRatio))
                         .orElse(null);
 
-        BigDecimal avgReturn = calculateAverage(results, BacktestResult::getTotalReturn);
-        BigDecimal avgSharpe = calculateAverage(results, BacktestResult::getSharpeRatio);
-        BigDecimal avgDrawdown = calculateAverage(results, BacktestResult::getMaxDrawdown);
+        BigDecimal avgReturn = calculateAverage(results, MetricRow::getTotalReturn);
+        BigDecimal avgSharpe = calculateAverage(results, MetricRow::getSharpeRatio);
+        BigDecimal avgDrawdown = calculateAverage(results, MetricRow::getMaxDrawdown);
 
         long profitable =
                 results.stream()
@@ -461,14 +641,14 @@ public class BacktestComparisonService {
 
         LocalDate commonStart =
                 results.stream()
-                        .map(BacktestResult::getStartDate)
+                        .map(MetricRow::getStartDate)
                         .filter(Objects::nonNull)
                         .max(LocalDate::compareTo)
                         .orElse(null);
 
         LocalDate commonEnd =
                 results.stream()
-                        .map(BacktestResult::getEndDate)
+                        .map(MetricRow::getEndDate)
                         .filter(Objects::nonNull)
                         .min(LocalDate::compareTo)
                         .orElse(null);
@@ -492,8 +672,7 @@ public class BacktestComparisonService {
     }
 
     private BigDecimal calculateAverage(
-            List<BacktestResult> results,
-            java.util.function.Function<BacktestResult, BigDecimal> extractor) {
+            List<MetricRow> results, java.util.function.Function<MetricRow, BigDecimal> extractor) {
 
         List<BigDecimal> values = results.stream().map(extractor).filter(Objects::nonNull).toList();
 
@@ -504,37 +683,4 @@ public class BacktestComparisonService {
         BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
         return sum.divide(BigDecimal.valueOf(values.size()), SCALE, RoundingMode.HALF_UP);
     }
-
-    // ============================================================
-    // Private Methods - 유틸리티
-    // ============================================================
-
-    private List<BacktestResult> fetchTopByMetric(String metric, int limit) {
-        return switch (metric.toLowerCase()) {
-            case "return", "totalreturn" ->
-                    backtestResultRepository.findTopPerformingBacktests().stream()
-                            .limit(limit)
-                            .toList();
-            case "sharpe", "sharperatio" ->
-                    backtestResultRepository.findByBestSharpeRatio().stream().limit(limit).toList();
-            default ->
-                    backtestResultRepository.findTop20ByOrderByExecutedAtDesc().stream()
-                            .limit(limit)
-                            .toList();
-        };
-    }
-
-    private String extractStrategyType(String strategyConfig) {
-        if (strategyConfig == null) {
-            return "UNKNOWN";
-        }
-        try {
-            Map<String, Object> config =
-                    objectMapper.readValue(
-                            strategyConfig, new TypeReference<Map<String, Object>>() {});
-            return (String) config.getOrDefault("strategyType", "UNKNOWN");
-        } catch (Exception e) {
-            return "UNKNOWN";
-        }
-    }
 }
@@ -0,0 +1,493 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.BacktestResultDto.MonthlyPerformance;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 백테스트 차트 곡선의 컬럼형 바이너리 인코딩.
+ *
+ * <p>날짜는 epoch day 델타, 금액은 원 단위 이하 2자리, 비율은 4자리 고정소수 long의 델타를 zigzag varint로 기록한 뒤 Deflate로 압축한다.
+ * 헤더에 컬럼별 바이트 길이를 두어 디코더는 요청된 컬럼만 처음 접근할 때 풀어 메모이즈한다. 정규화 곡선(0-100%)은 저장하지 않고 equity 곡선에서 계산한다.
+ *
+ * <pre>
+ * version(1) | points | months | len(dates) | len(equity) | len(drawdown) | len(benchmark) | len(monthly)
+ * | dates | equity | drawdown | benchmark | monthly
+ * </pre>
+ */
+public final class BacktestCurves {
+
+    static final int FORMAT_VERSION = 1;
+
+    /** 비교 차트용 곡선 요약({@code curveSummary}) 포인트 수 */
+    public static final int SUMMARY_POINTS = 120;
+
+    /** 금액 컬럼 (equity, benchmark, 월별 손익) 소수 자릿수 */
+    static final int AMOUNT_SCALE = 2;
+
+    /** 비율 컬럼 (drawdown, 월별 수익률) 소수 자릿수 */
+    static final int RATIO_SCALE = 4;
+
+    private static final int COLUMN_COUNT = 5;
+    private static final int DATES = 0;
+    private static final int EQUITY = 1;
+    private static final int DRAWDOWN = 2;
+    private static final int BENCHMARK = 3;
+    private static final int MONTHLY = 4;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final byte[] payload;
+    private final int points;
+    private final int months;
+    private final int[] columnOffsets = new int[COLUMN_COUNT];
+
+    private LocalDate[] dates;
+    private long[] equity;
+    private long[] drawdown;
+    private long[] benchmark;
+
+    /** 지정 날짜 구간을 최대 maxPoints개로 다운샘플링한 차트 구간 */
+    public record Range(
+            List<String> labels,
+            List<BigDecimal> equityCurve,
+            List<BigDecimal> drawdownCurve,
+            List<BigDecimal> benchmarkCurve,
+            int totalPoints) {}
+
+    private BacktestCurves(byte[] payload) {
+        this.payload = payload;
+        Reader header = new Reader(payload, 0);
+        int version = (int) header.readVarLong();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 곡선 데이터 버전: " + version);
+        }
+        points = (int) header.readVarLong();
+        months = (int) header.readVarLong();
+        int[] lengths = new int[COLUMN_COUNT];
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            lengths[c] = (int) header.readVarLong();
+        }
+        int offset = header.position;
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            columnOffsets[c] = offset;
+            offset += lengths[c];
+        }
+    }
+
+    // === Encoding ===
+
+    /**
+     * 곡선 데이터를 압축된 바이너리로 인코딩
+     *
+     * @param dates 날짜 (오름차순, equity/drawdown/benchmark와 같은 길이)
+     */
+    public static byte[] encode(
+            List<LocalDate> dates,
+            List<BigDecimal> equity,
+            List<BigDecimal> drawdown,
+            List<BigDecimal> benchmark,
+            List<MonthlyPerformance> monthly) {
+        int n = dates.size();
+        if (equity.size() != n || drawdown.size() != n || benchmark.size() != n) {
+            throw new IllegalArgumentException("곡선 길이가 날짜 수와 다릅니다");
+        }
+
+        Writer[] columns = new Writer[COLUMN_COUNT];
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            columns[c] = new Writer();
+        }
+        long previousDay = 0;
+        for (LocalDate date : dates) {
+            long day = date.toEpochDay();
+            columns[DATES].writeSignedVarLong(day - previousDay);
+            previousDay = day;
+        }
+        writeDeltas(columns[EQUITY], equity, AMOUNT_SCALE);
+        writeDeltas(columns[DRAWDOWN], drawdown, RATIO_SCALE);
+        writeDeltas(columns[BENCHMARK], benchmark, AMOUNT_SCALE);
+
+        long previousMonth = 0;
+        for (MonthlyPerformance mp : monthly) {
+            long month = toEpochMonth(YearMonth.parse(mp.getMonth()));
+            columns[MONTHLY].writeSignedVarLong(month - previousMonth);
+            previousMonth = month;
+            columns[MONTHLY].writeVarLong(mp.getTradeCount() != null ? mp.getTradeCount() : 0);
+            columns[MONTHLY].writeSignedVarLong(toScaled(mp.getProfit(), AMOUNT_SCALE));
+            columns[MONTHLY].writeSignedVarLong(toScaled(mp.getReturnPct(), RATIO_SCALE));
+        }
+
+        Writer out = new Writer();
+        out.writeVarLong(FORMAT_VERSION);
+        out.writeVarLong(n);
+        out.writeVarLong(monthly.size());
+        for (Writer column : columns) {
+            out.writeVarLong(column.size());
+        }
+        for (Writer column : columns) {
+            column.writeTo(out);
+        }
+        return deflate(out.toByteArray());
+    }
+
+    private static void writeDeltas(Writer column, List<BigDecimal> values, int scale) {
+        long previous = 0;
+        for (BigDecimal value : values) {
+            long scaled = toScaled(value, scale);
+            column.writeSignedVarLong(scaled - previous);
+            previous = scaled;
+        }
+    }
+
+    private static long toScaled(BigDecimal value, int scale) {
+        return value != null
+                ? value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue()
+                : 0L;
+    }
+
+    // === Decoding ===
+
+    /** 압축된 바이너리를 지연 디코더로 연다 (컬럼은 처음 접근할 때 디코딩) */
+    public static BacktestCurves decode(byte[] data) {
+        return new BacktestCurves(inflate(data));
+    }
+
+    /** 곡선 포인트 수 */
+    public int size() {
+        return points;
+    }
+
+    public List<String> labels() {
+        List<String> labels = new ArrayList<>(points);
+        for (LocalDate date : dates()) {
+            labels.add(date.toString());
+        }
+        return labels;
+    }
+
+    public List<BigDecimal> equityCurve() {
+        return toDecimals(equity(), AMOUNT_SCALE);
+    }
+
+    public List<BigDecimal> drawdownCurve() {
+        return toDecimals(drawdown(), RATIO_SCALE);
+    }
+
+    public List<BigDecimal> benchmarkCurve() {
+        return toDecimals(benchmark(), AMOUNT_SCALE);
+    }
+
+    /** equity 곡선을 0-100% 스케일로 정규화 (비교 분석용, 값이 모두 같으면 50) */
+    public List<BigDecimal> normalizedEquityCurve() {
+        long[] values = equity();
+        if (values.length == 0) {
+            return new ArrayList<>();
+        }
+        long min = Arrays.stream(values).min().getAsLong();
+        long range = Arrays.stream(values).max().getAsLong() - min;
+        List<BigDecimal> normalized = new ArrayList<>(values.length);
+        for (long value : values) {
+            normalized.add(
+                    range == 0
+                            ? BigDecimal.valueOf(50)
+                            : BigDecimal.valueOf(value - min)
+                                    .multiply(HUNDRED)
+                                    .divide(
+                                            BigDecimal.valueOf(range),
+                                            RATIO_SCALE,
+                                            RoundingMode.HALF_UP));
+        }
+        return normalized;
+    }
+
+    /** 월별 성과 (호출할 때마다 새 DTO 목록) */
+    public List<MonthlyPerformance> monthlyPerformance() {
+        Reader reader = new Reader(payload, columnOffsets[MONTHLY]);
+        List<MonthlyPerformance> list = new ArrayList<>(months);
+        long month = 0;
+        for (int i = 0; i < months; i++) {
+            month += reader.readSignedVarLong();
+            int tradeCount = (int) reader.readVarLong();
+            BigDecimal profit = BigDecimal.valueOf(reader.readSignedVarLong(), AMOUNT_SCALE);
+            BigDecimal returnPct = BigDecimal.valueOf(reader.readSignedVarLong(), RATIO_SCALE);
+            list.add(
+                    MonthlyPerformance.builder()
+                            .month(fromEpochMonth(month).toString())
+                            .returnPct(returnPct)
+                            .tradeCount(tradeCount)
+                            .profit(profit)
+                            .build());
+        }
+        return list;
+    }
+
+    /**
+     * 날짜 구간을 최대 maxPoints개로 다운샘플링
+     *
+     * <p>구간을 균등 간격으로 나눠 각 간격의 첫 포인트를 취하고, 구간의 마지막 포인트는 항상 포함한다.
+     *
+     * @param from 시작일 (null이면 처음부터)
+     * @param to 종료일 (null이면 끝까지)
+     * @param maxPoints 최대 포인트 수 (2 이상)
+     */
+    public Range range(LocalDate from, LocalDate to, int maxPoints) {
+        LocalDate[] allDates = dates();
+        int start = from != null ? lowerBound(allDates, from) : 0;
+        int end = to != null ? upperBound(allDates, to) : points;
+        int[] indices = sampleIndices(start, end, maxPoints);
+
+        List<String> labels = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            labels.add(allDates[i].toString());
+        }
+        return new Range(
+                labels,
+                toDecimals(equity(), AMOUNT_SCALE, indices),
+                toDecimals(drawdown(), RATIO_SCALE, indices),
+                toDecimals(benchmark(), AMOUNT_SCALE, indices),
+                Math.max(0, end - start));
+    }
+
+    /** 전체 구간을 최대 maxPoints개로 다운샘플링해 다시 인코딩 (월별 성과는 그대로 유지) */
+    public byte[] downsample(int maxPoints) {
+        int[] indices = sampleIndices(0, points, maxPoints);
+        LocalDate[] allDates = dates();
+        List<LocalDate> sampledDates = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            sampledDates.add(allDates[i]);
+        }
+        return encode(
+                sampledDates,
+                toDecimals(equity(), AMOUNT_SCALE, indices),
+                toDecimals(drawdown(), RATIO_SCALE, indices),
+                toDecimals(benchmark(), AMOUNT_SCALE, indices),
+                monthlyPerformance());
+    }
+
+    /** [start, end) 구간에서 균등 간격 인덱스 + 마지막 인덱스 (최대 maxPoints개) */
+    private static int[] sampleIndices(int start, int end, int maxPoints) {
+        int count = Math.max(0, end - start);
+        if (count <= maxPoints) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = start + i;
+            }
+            return all;
+        }
+        // 마지막 포인트를 따로 붙일 자리를 남겨 두고 간격을 정한다
+        int step = (int) Math.ceil((double) (count - 1) / Math.max(1, maxPoints - 2));
+        boolean appendLast = (count - 1) % step != 0;
+        int[] indices = new int[(count - 1) / step + 1 + (appendLast ? 1 : 0)];
+        int n = 0;
+        for (int i = start; i < end; i += step) {
+            indices[n++] = i;
+        }
+        if (appendLast) {
+            indices[n] = end - 1;
+        }
+        return indices;
+    }
+
+    private static int lowerBound(LocalDate[] sorted, LocalDate key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].isBefore(key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(LocalDate[] sorted, LocalDate key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (!sorted[mid].isAfter(key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private LocalDate[] dates() {
+        if (dates == null) {
+            Reader reader = new Reader(payload, columnOffsets[DATES]);
+            LocalDate[] decoded = new LocalDate[points];
+            long day = 0;
+            for (int i = 0; i < points; i++) {
+                day += reader.readSignedVarLong();
+                decoded[i] = LocalDate.ofEpochDay(day);
+            }
+            dates = decoded;
+        }
+        return dates;
+    }
+
+    private long[] equity() {
+        if (equity == null) {
+            equity = readDeltas(EQUITY);
+        }
+        return equity;
+    }
+
+    private long[] drawdown() {
+        if (drawdown == null) {
+            drawdown = readDeltas(DRAWDOWN);
+        }
+        return drawdown;
+    }
+
+    private long[] benchmark() {
+        if (benchmark == null) {
+            benchmark = readDeltas(BENCHMARK);
+        }
+        return benchmark;
+    }
+
+    private long[] readDeltas(int column) {
+        Reader reader = new Reader(payload, columnOffsets[column]);
+        long[] values = new long[points];
+        long value = 0;
+        for (int i = 0; i < points; i++) {
+            value += reader.readSignedVarLong();
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static List<BigDecimal> toDecimals(long[] values, int scale) {
+        List<BigDecimal> list = new ArrayList<>(values.length);
+        for (long value : values) {
+            list.add(BigDecimal.valueOf(value, scale));
+        }
+        return list;
+    }
+
+    private static List<BigDecimal> toDecimals(long[] values, int scale, int[] indices) {
+        List<BigDecimal> list = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            list.add(BigDecimal.valueOf(values[i], scale));
+        }
+        return list;
+    }
+
+    private static long toEpochMonth(YearMonth month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth fromEpochMonth(long epochMonth) {
+        return YearMonth.of(
+                (int) Math.floorDiv(epochMonth, 12), (int) Math.floorMod(epochMonth, 12) + 1);
+    }
+
+    // === Compression ===
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("손상된 곡선 데이터");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("손상된 곡선 데이터", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // === Varint I/O ===
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        @Override
+        public void writeTo(java.io.OutputStream out) {
+            try {
+                super.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                byte b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+            }
+        }
+
+        long readSignedVarLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.BacktestJobDto;
+import com.trading.journal.dto.BacktestJobDto.JobPriority;
+import com.trading.journal.dto.BacktestJobDto.JobStatus;
+import com.trading.journal.dto.BacktestRequestDto;
+import com.trading.journal.dto.BacktestResultDto;
+import com.trading.journal.exception.JobQueueFullException;
+import com.trading.journal.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 비동기 백테스트 작업 서비스
+ *
+ * <p>긴 백테스트가 요청 스레드와 DB 커넥션을 잡지 않도록 우선순위 대기열과 제한된 작업 풀에서 실행한다. 요청 내용과 가격 데이터 버전의 콘텐츠 해시로 저장된 결과를 찾아
+ * 같은 요청은 재계산 없이 즉시 완료하고, 같은 사용자의 동일 요청이 실행 중이면 기존 작업을 반환한다. 결과 저장은 계산이 끝난 뒤 한 번만 일어난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacktestJobService {
+
+    private static final String JOB_TYPE = "백테스트";
+
+    /** 진행 스트림 폴링 간격 */
+    private static final Duration PROGRESS_POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final BacktestService backtestService;
+    private final SecurityContextService securityContextService;
+
+    @Value("${backtest.jobs.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${backtest.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${backtest.jobs.result-ttl-minutes:30}")
+    private long resultTtlMinutes;
+
+    private ThreadPoolExecutor backtestExecutor;
+
+    /** 같은 우선순위 안에서 제출 순서를 지키기 위한 순번 */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** 작업 ID → 작업 */
+    private final Map<String, BacktestJob> jobs = new ConcurrentHashMap<>();
+
+    /** 사용자 + 콘텐츠 해시 → 진행 중인 작업 ID (동일 요청 중복 실행 방지) */
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 우선순위 큐는 용량 제한이 없으므로 제출 시 queueCapacity로 직접 제한한다
+        backtestExecutor =
+                new ThreadPoolExecutor(
+                        workerThreads,
+                        workerThreads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new PriorityBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "backtest-worker-" + threadIndex.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        log.info(
+                "Backtest job executor initialized: {} workers, queue capacity {}",
+                workerThreads,
+                queueCapacity);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (backtestExecutor != null) {
+            jobs.values().forEach(job -> job.cancelRequested = true);
+            backtestExecutor.shutdown();
+            try {
+                if (!backtestExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    backtestExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                backtestExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 백테스트 작업 제출
+     *
+     * <p>같은 콘텐츠 해시의 저장 결과가 있으면 즉시 완료 상태로, 같은 요청이 실행 중이면 기존 작업을 반환한다.
+     *
+     * @throws JobQueueFullException 대기열이 가득 찬 경우
+     */
+    public BacktestJobDto submit(BacktestRequestDto request, JobPriority priority) {
+        validatePeriod(request);
+
+        Long userId = securityContextService.getCurrentUserId().orElse(null);
+        String contentHash = backtestService.contentHash(request);
+        JobPriority effectivePriority = priority != null ? priority : JobPriority.NORMAL;
+
+        Optional<Long> storedResultId = backtestService.findResultIdByContentHash(contentHash);
+        if (storedResultId.isPresent()) {
+            BacktestJob job = newJob(userId, request, contentHash, effectivePriority);
+            job.complete(storedResultId.get(), true);
+            jobs.put(job.jobId, job);
+            log.debug("백테스트 결과 재사용: jobId={}, resultId={}", job.jobId, storedResultId.get());
+            return toDto(job);
+        }
+
+        String inFlightKey = userId + ":" + contentHash;
+        synchronized (inFlight) {
+            String runningJobId = inFlight.get(inFlightKey);
+            BacktestJob running = runningJobId != null ? jobs.get(runningJobId) : null;
+            if (running != null && !running.status.isDone()) {
+                return toDto(running);
+            }
+            if (backtestExecutor.getQueue().size() >= queueCapacity) {
+                throw new JobQueueFullException(JOB_TYPE, queueCapacity);
+            }
+
+            BacktestJob job = newJob(userId, request, contentHash, effectivePriority);
+            jobs.put(job.jobId, job);
+            inFlight.put(inFlightKey, job.jobId);
+            backtestExecutor.execute(job.task);
+            log.info(
+                    "백테스트 작업 제출: jobId={}, symbol={}, strategy={}, priority={}",
+                    job.jobId,
+                    request.getSymbol(),
+                    request.getStrategyType(),
+                    effectivePriority);
+            return toDto(job);
+        }
+    }
+
+    /** 작업 상태 조회 (다른 사용자의 작업은 존재하지 않는 것으로 취급) */
+    public BacktestJobDto getJob(String jobId) {
+        return toDto(findOwnedJob(jobId));
+    }
+
+    /** 작업 취소 - 대기 중이면 즉시, 실행 중이면 다음 진행 보고 시점에 저장 없이 중단 */
+    public BacktestJobDto cancel(String jobId) {
+        BacktestJob job = findOwnedJob(jobId);
+        if (job.status.isDone()) {
+            return toDto(job);
+        }
+        job.cancelRequested = true;
+        if (backtestExecutor.remove(job.task)) {
+            job.cancel();
+            inFlight.remove(job.inFlightKey(), job.jobId);
+            log.info("대기 중인 백테스트 작업 취소: jobId={}", job.jobId);
+        }
+        return toDto(job);
+    }
+
+    /** 진행 상황 스트림 - 상태나 진행 봉 수가 바뀔 때만 내보내고 작업이 끝나면 종료 */
+    public Flux<BacktestJobDto> streamProgress(String jobId) {
+        // 소유자 확인은 요청 스레드의 인증 정보로 먼저 수행
+        BacktestJob job = findOwnedJob(jobId);
+        return Flux.interval(Duration.ZERO, PROGRESS_POLL_INTERVAL)
+                .map(tick -> toDto(job))
+                .distinctUntilChanged(dto -> dto.getStatus() + ":" + dto.getProcessedBars())
+                .takeUntil(dto -> dto.getStatus().isDone());
+    }
+
+    /** 만료된 작업 정리 */
+    @Scheduled(fixedDelay = 300000) // 5분
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(resultTtlMinutes);
+        int removed = 0;
+        for (BacktestJob job : jobs.values()) {
+            if (job.status.isDone() && job.completedAt.isBefore(threshold)) {
+                jobs.remove(job.jobId);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("만료된 백테스트 작업 {}건 정리", removed);
+        }
+    }
+
+    // === Worker ===
+
+    private void runJob(BacktestJob job) {
+        try {
+            if (job.cancelRequested) {
+                job.cancel();
+                return;
+            }
+            job.start();
+            BacktestResultDto result =
+                    backtestService.runBacktest(
+                            job.request,
+                            job.contentHash,
+                            (processed, total) -> {
+                                job.processedBars = processed;
+                                job.totalBars = total;
+                                if (job.cancelRequested) {
+                                    throw new CancellationException();
+                                }
+                            });
+            job.complete(result.getId(), false);
+            log.info(
+                    "백테스트 작업 완료: jobId={}, resultId={}, {}ms",
+                    job.jobId,
+                    result.getId(),
+                    Duration.between(job.startedAt, job.completedAt).toMillis());
+        } catch (CancellationException e) {
+            job.cancel();
+            log.info("실행 중인 백테스트 작업 취소: jobId={}", job.jobId);
+        } catch (Exception e) {
+            log.error("백테스트 작업 실패: jobId={}", job.jobId, e);
+            job.fail(e.getMessage());
+        } finally {
+            inFlight.remove(job.inFlightKey(), job.jobId);
+        }
+    }
+
+    // === Helpers ===
+
+    private void validatePeriod(BacktestRequestDto request) {
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new IllegalArgumentException("시작일과 종료일은 필수입니다");
+        }
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+    }
+
+    private BacktestJob findOwnedJob(String jobId) {
+        BacktestJob job = jobs.get(jobId);
+        Long userId = securityContextService.getCurrentUserId().orElse(null);
+        if (job == null || !Objects.equals(job.userId, userId)) {
+            throw new ResourceNotFoundException("백테스트 작업", "jobId", jobId);
+        }
+        return job;
+    }
+
+    private BacktestJob newJob(
+            Long userId, BacktestRequestDto request, String contentHash, JobPriority priority) {
+        BacktestJob job =
+                new BacktestJob(
+                        UUID.randomUUID().toString(), userId, request, contentHash, priority);
+        job.task = new PrioritizedTask(priority, sequence.incrementAndGet(), () -> runJob(job));
+        return job;
+    }
+
+    private BacktestJobDto toDto(BacktestJob job) {
+        int progressPercent =
+                job.status == JobStatus.COMPLETED
+                        ? 100
+                        : job.totalBars > 0 ? job.processedBars * 100 / job.totalBars : 0;
+        return BacktestJobDto.builder()
+                .jobId(job.jobId)
+                .status(job.status)
+                .priority(job.priority)
+                .symbol(job.request.getSymbol())
+                .strategyType(String.valueOf(job.request.getStrategyType()))
+                .processedBars(job.processedBars)
+                .totalBars(job.totalBars)
+                .progressPercent(progressPercent)
+                .cacheHit(job.cacheHit)
+                .resultId(job.resultId)
+                .resultUrl(job.resultId != null ? "/api/backtest/" + job.resultId : null)
+                .errorMessage(job.errorMessage)
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .build();
+    }
+
+    // === Internal Types ===
+
+    /** 우선순위 → 제출 순으로 정렬되는 대기열 항목 */
+    private record PrioritizedTask(JobPriority priority, long sequence, Runnable body)
+            implements Runnable, Comparable<PrioritizedTask> {
+
+        private static final Comparator<PrioritizedTask> ORDER =
+                Comparator.comparing(PrioritizedTask::priority)
+                        .thenComparingLong(PrioritizedTask::sequence);
+
+        @Override
+        public void run() {
+            body.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /** 작업 상태 (상태 전이는 작업 스레드 또는 대기 중 취소 한 곳에서만 일어나며, 조회 스레드를 위해 volatile) */
+    private static class BacktestJob {
+        private final String jobId;
+        private final Long userId;
+        private final BacktestRequestDto request;
+        private final String contentHash;
+        private final JobPriority priority;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private PrioritizedTask task;
+
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile boolean cancelRequested;
+        private volatile boolean cacheHit;
+        private volatile int processedBars;
+        private volatile int totalBars;
+        private volatile Long resultId;
+        private volatile String errorMessage;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+
+        BacktestJob(
+                String jobId,
+                Long userId,
+                BacktestRequestDto request,
+                String contentHash,
+                JobPriority priority) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.request = request;
+            this.contentHash = contentHash;
+            this.priority = priority;
+        }
+
+        String inFlightKey() {
+            return userId + ":" + contentHash;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = JobStatus.RUNNING;
+        }
+
+        void complete(Long id, boolean fromStore) {
+            resultId = id;
+            cacheHit = fromStore;
+            if (startedAt == null) {
+                startedAt = submittedAt;
+            }
+            completedAt = LocalDateTime.now();
+            status = JobStatus.COMPLETED;
+        }
+
+        void fail(String message) {
+            errorMessage = message;
+            completedAt = LocalDateTime.now();
+            status = JobStatus.FAILED;
+        }
+
+        void cancel() {
+            completedAt = LocalDateTime.now();
+            status = JobStatus.CANCELLED;
+        }
+    }
+}
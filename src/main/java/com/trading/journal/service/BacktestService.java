@@ -1,8 +1,8 @@
 package com.trading.journal.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.journal.dto.BacktestCurveRangeDto;
 import com.trading.journal.dto.BacktestRequestDto;
 import com.trading.journal.dto.BacktestResultDto;
 import com.trading.journal.dto.BacktestSummaryDto;
@@ -11,6 +11,7 @@ import com.trading.journal.dto.OptimizationRequestDto.ParameterRange;
 import com.trading.journal.dto.OptimizationResultDto;
 import com.trading.journal.dto.OptimizationResultDto.ParameterResult;
 import com.trading.journal.entity.BacktestResult;
+import com.trading.journal.entity.BacktestResultParam;
 import com.trading.journal.entity.BacktestTrade;
 import com.trading.journal.repository.BacktestResultRepository;
 import com.trading.journal.strategy.TradingStrategy;
@@ -23,6 +24,9 @@ import com.trading.journal.strategy.impl.MovingAverageCrossStrategy;
 import com.trading.journal.strategy.impl.RSIStrategy;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
@@ -91,6 +95,9 @@ public class BacktestService {
     /** 주말을 구분하는 요일 값 (월~금: 1~5) */
     private static final int LAST_WEEKDAY = 5;
 
+    /** 진행 보고(및 취소 확인) 간격 (가격 봉 수) */
+    private static final int PROGRESS_REPORT_INTERVAL = 50;
+
     // === Dependencies ===
 
     private final BacktestResultRepository backtestResultRepository;
@@ -99,6 +106,17 @@ public class BacktestService {
 
     // === Inner Helper Classes ===
 
+    /** 시뮬레이션 진행 보고 - 작업 취소 시 CancellationException을 던져 중단한다 */
+    @FunctionalInterface
+    public interface ProgressListener {
+        ProgressListener NONE = (processed, total) -> {};
+
+        void onProgress(int processed, int total);
+    }
+
+    /** 조회한 가격 시계열 (sample이면 조회 실패로 샘플 데이터 대체) */
+    private record PriceSeries(List<PriceData> prices, boolean sample) {}
+
     /** 포지션 상태를 관리하는 헬퍼 클래스 */
     private static class PositionState {
         private BigDecimal capital;
@@ -223,22 +241,42 @@ public class BacktestService {
 
     // === Public API ===
 
-    /** 백테스트 실행 */
-    @Transactional
+    /** 백테스트 실행 - 같은 요청·가격 데이터 버전의 저장 결과가 있으면 재계산 없이 반환 */
     @com.trading.journal.annotation.MeasurePerformance("백테스트 실행")
     public BacktestResultDto runBacktest(BacktestRequestDto request) {
+        String contentHash = contentHash(request);
+        Optional<Long> existingId = findResultIdByContentHash(contentHash);
+        if (existingId.isPresent()) {
+            log.debug("백테스트 결과 재사용: id={}, hash={}", existingId.get(), contentHash);
+            return getResult(existingId.get());
+        }
+        return runBacktest(request, contentHash, ProgressListener.NONE);
+    }
+
+    /**
+     * 백테스트 계산 후 결과만 저장
+     *
+     * <p>가격 조회·시뮬레이션·차트 계산 동안에는 트랜잭션과 DB 커넥션을 잡지 않고, 마지막 저장만 짧은 트랜잭션으로 수행한다.
+     *
+     * @param contentHash 저장할 콘텐츠 해시 (샘플 가격으로 대체된 결과에는 기록하지 않음)
+     * @param listener 진행 보고 (CancellationException을 던지면 저장 없이 중단)
+     */
+    @com.trading.journal.annotation.MeasurePerformance("백테스트 실행")
+    public BacktestResultDto runBacktest(
+            BacktestRequestDto request, String contentHash, ProgressListener listener) {
         long startTime = System.currentTimeMillis();
 
         // 1. 전략 생성
         TradingStrategy strategy = createStrategy(request);
 
         // 2. 실제 가격 데이터 조회 (Yahoo Finance API)
-        List<PriceData> prices =
+        PriceSeries series =
                 fetchHistoricalPriceData(
                         request.getSymbol(), request.getStartDate(), request.getEndDate());
+        List<PriceData> prices = series.prices();
 
         // 3. 백테스트 시뮬레이션 실행
-        BacktestResult result = executeBacktest(request, strategy, prices);
+        BacktestResult result = executeBacktest(request, strategy, prices, listener);
 
         // 4. 실행 시간 기록
         result.setExecutionTimeMs(System.currentTimeMillis() - startTime);
@@ -246,13 +284,65 @@ public class BacktestService {
         // 5. 차트 데이터 계산 및 캐싱
         cacheComputedData(result, prices);
 
-        // 6. 결과 저장
+        // 6. 파라미터 범위 검색용 인덱스
+        indexParams(result, strategy.getParameters());
+
+        // 7. 결과 저장 (repository 트랜잭션 하나로 끝남)
+        result.setContentHash(series.sample() ? null : contentHash);
         BacktestResult saved = backtestResultRepository.save(result);
 
-        // 7. DTO 변환 및 반환
+        // 8. DTO 변환 및 반환
         return convertToDto(saved, prices);
     }
 
+    /** 저장된 결과 중 같은 콘텐츠 해시의 최신 결과 ID */
+    @Transactional(readOnly = true)
+    public Optional<Long> findResultIdByContentHash(String contentHash) {
+        return backtestResultRepository.findIdsByContentHash(contentHash).stream().findFirst();
+    }
+
+    /** 요청 내용(파라미터는 키 정렬, 금액·비율은 정규화)과 가격 데이터 버전으로 만든 SHA-256 해시 */
+    public String contentHash(BacktestRequestDto request) {
+        Map<String, Object> params =
+                request.getStrategyParams() != null
+                        ? new TreeMap<>(request.getStrategyParams())
+                        : Map.of();
+        String canonical =
+                String.join(
+                        "|",
+                        request.getSymbol().toUpperCase(),
+                        String.valueOf(request.getStrategyType()),
+                        params.toString(),
+                        String.valueOf(request.getStartDate()),
+                        String.valueOf(request.getEndDate()),
+                        plain(request.getInitialCapital()),
+                        plain(request.getPositionSizePercent()),
+                        String.valueOf(request.getMaxPositions()),
+                        plain(request.getCommissionRate()),
+                        plain(request.getSlippage()),
+                        plain(request.getStopLossPercent()),
+                        plain(request.getTakeProfitPercent()),
+                        plain(request.getTrailingStopPercent()),
+                        priceDataVersion(request.getEndDate()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 가격 데이터 버전 - 종료일이 지난 구간은 확정, 오늘을 포함하면 날짜가 바뀔 때마다 새 버전 */
+    private String priceDataVersion(LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        return endDate != null && endDate.isBefore(today) ? "closed" : today.toString();
+    }
+
+    private String plain(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "-";
+    }
+
     /** 전략 생성 */
     private TradingStrategy createStrategy(BacktestRequestDto request) {
         Map<String, Object> params = request.getStrategyParams();
@@ -300,9 +390,17 @@ public class BacktestService {
         }
     }
 
-    /** 백테스트 시뮬레이션 실행 */
-    private BacktestResult executeBacktest(
+    /** 백테스트 시뮬레이션 실행 (벤치마크에서 직접 호출하므로 package-private) */
+    BacktestResult executeBacktest(
             BacktestRequestDto request, TradingStrategy strategy, List<PriceData> prices) {
+        return executeBacktest(request, strategy, prices, ProgressListener.NONE);
+    }
+
+    private BacktestResult executeBacktest(
+            BacktestRequestDto request,
+            TradingStrategy strategy,
+            List<PriceData> prices,
+            ProgressListener listener) {
         // 상태 초기화
         PositionState positionState = new PositionState(request.getInitialCapital());
         TradeStatistics stats = new TradeStatistics();
@@ -338,6 +436,10 @@ public class BacktestService {
                     currentPrice,
                     commissionRate,
                     slippage);
+
+            if ((i + 1) % PROGRESS_REPORT_INTERVAL == 0 || i == prices.size() - 1) {
+                listener.onProgress(i + 1, prices.size());
+            }
         }
 
         // 잔여 포지션 청산
@@ -795,7 +897,7 @@ public class BacktestService {
     // === Price Data Fetching ===
 
     /** Yahoo Finance API로 실제 가격 데이터 조회 실패 시 샘플 데이터로 폴백 */
-    private List<PriceData> fetchHistoricalPriceData(
+    private PriceSeries fetchHistoricalPriceData(
             String symbol, LocalDate startDate, LocalDate endDate) {
         try {
             log.info("Yahoo Finance에서 가격 데이터 조회: {} ({} ~ {})", symbol, startDate, endDate);
@@ -804,7 +906,7 @@ public class BacktestService {
 
             if (quotes == null || quotes.isEmpty()) {
                 log.warn("가격 데이터가 없습니다. 샘플 데이터 사용: {}", symbol);
-                return generateSamplePriceData(symbol, startDate, endDate);
+                return new PriceSeries(generateSamplePriceData(symbol, startDate, endDate), true);
             }
 
             List<PriceData> prices =
@@ -840,16 +942,15 @@ public class BacktestService {
                             .collect(Collectors.toList());
 
             log.info("가격 데이터 {} 건 조회 완료", prices.size());
-            return prices;
+            return new PriceSeries(prices, false);
         } catch (Exception e) {
             log.warn("실제 데이터 조회 실패, 샘플 데이터 사용: {}", e.getMessage());
-            return generateSamplePriceData(symbol, startDate, endDate);
+            return new PriceSeries(generateSamplePriceData(symbol, startDate, endDate), true);
         }
     }
 
-    /** 샘플 가격 데이터 생성 (테스트용 / 폴백용) */
-    private List<PriceData> generateSamplePriceData(
-            String symbol, LocalDate startDate, LocalDate endDate) {
+    /** 샘플 가격 데이터 생성 (테스트용 / 폴백용 / 벤치마크용) */
+    List<PriceData> generateSamplePriceData(String symbol, LocalDate startDate, LocalDate endDate) {
         List<PriceData> prices = new ArrayList<>();
         Random random = new Random(symbol.hashCode());
 
@@ -902,31 +1003,44 @@ public class BacktestService {
                 .build();
     }
 
-    /** 계산된 차트 데이터를 엔티티에 캐싱 (저장 시 한 번만 계산) */
+    /** 계산된 차트 데이터를 엔티티에 캐싱 (저장 시 한 번만 계산해 압축 바이너리로 저장) */
     private void cacheComputedData(BacktestResult result, List<PriceData> prices) {
         try {
-            cacheMonthlyPerformance(result);
-            cacheEquityCurveData(result, prices);
-        } catch (JsonProcessingException e) {
-            log.warn("차트 데이터 직렬화 실패: {}", e.getMessage());
+            List<LocalDate> dates = new ArrayList<>();
+            List<BigDecimal> equityCurve = new ArrayList<>();
+            List<BigDecimal> drawdownCurve = new ArrayList<>();
+            List<BigDecimal> benchmarkCurve = new ArrayList<>();
+            if (!prices.isEmpty()) {
+                computeEquityCurves(
+                        result, prices, dates, equityCurve, drawdownCurve, benchmarkCurve);
+            }
+            byte[] curveData =
+                    BacktestCurves.encode(
+                            dates,
+                            equityCurve,
+                            drawdownCurve,
+                            benchmarkCurve,
+                            computeMonthlyPerformance(result));
+            result.setCurveData(curveData);
+            result.setCurveSummary(
+                    BacktestCurves.decode(curveData).downsample(BacktestCurves.SUMMARY_POINTS));
         } catch (ArithmeticException e) {
             log.warn("차트 데이터 계산 실패: {}", e.getMessage());
         }
     }
 
-    /** 월별 성과 데이터 캐싱 */
-    private void cacheMonthlyPerformance(BacktestResult result) throws JsonProcessingException {
-        Map<String, BacktestResultDto.MonthlyPerformance> monthlyMap = new LinkedHashMap<>();
-
-        for (BacktestTrade trade : result.getTrades()) {
-            String month = extractMonth(trade.getExitDate());
-            BacktestResultDto.MonthlyPerformance mp =
-                    monthlyMap.computeIfAbsent(month, this::createEmptyMonthlyPerformance);
-            updateMonthlyPerformance(mp, trade);
-        }
-
-        result.setMonthlyPerformanceJson(
-                objectMapper.writeValueAsString(new ArrayList<>(monthlyMap.values())));
+    /** 숫자 전략 파라미터를 인덱스 행으로 연결 */
+    private void indexParams(BacktestResult result, Map<String, Object> parameters) {
+        BacktestResultParam.numericValues(parameters)
+                .forEach(
+                        (name, value) ->
+                                result.getParams()
+                                        .add(
+                                                BacktestResultParam.builder()
+                                                        .backtestResult(result)
+                                                        .name(name)
+                                                        .value(value)
+                                                        .build()));
     }
 
     /** 날짜에서 월 문자열 추출 (YYYY-MM) */
@@ -952,57 +1066,11 @@ public class BacktestService {
         mp.setReturnPct(mp.getReturnPct().add(trade.getProfitPercent()));
     }
 
-    /** Equity curve 및 관련 차트 데이터 캐싱 */
-    private void cacheEquityCurveData(BacktestResult result, List<PriceData> prices)
-            throws JsonProcessingException {
-        List<String> equityLabels = new ArrayList<>();
-        List<BigDecimal> equityCurve = new ArrayList<>();
-        List<BigDecimal> drawdownCurve = new ArrayList<>();
-        List<BigDecimal> benchmarkCurve = new ArrayList<>();
-
-        if (!prices.isEmpty()) {
-            computeEquityCurves(
-                    result, prices, equityLabels, equityCurve, drawdownCurve, benchmarkCurve);
-        }
-
-        result.setEquityLabelsJson(objectMapper.writeValueAsString(equityLabels));
-        result.setEquityCurveJson(objectMapper.writeValueAsString(equityCurve));
-        result.setDrawdownCurveJson(objectMapper.writeValueAsString(drawdownCurve));
-        result.setBenchmarkCurveJson(objectMapper.writeValueAsString(benchmarkCurve));
-
-        // 정규화된 equity curve 계산 (0-100% 스케일, 비교 분석용)
-        List<BigDecimal> normalizedCurve = normalizeToPercent(equityCurve);
-        result.setNormalizedEquityCurveJson(objectMapper.writeValueAsString(normalizedCurve));
-    }
-
-    /** Equity curve를 0-100% 스케일로 정규화 */
-    private List<BigDecimal> normalizeToPercent(List<BigDecimal> curve) {
-        if (curve.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        BigDecimal min = curve.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-        BigDecimal max = curve.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ONE);
-        BigDecimal range = max.subtract(min);
-
-        if (range.compareTo(BigDecimal.ZERO) == 0) {
-            return curve.stream().map(v -> BigDecimal.valueOf(50)).collect(Collectors.toList());
-        }
-
-        return curve.stream()
-                .map(
-                        v ->
-                                v.subtract(min)
-                                        .divide(range, DECIMAL_SCALE, RoundingMode.HALF_UP)
-                                        .multiply(HUNDRED))
-                .collect(Collectors.toList());
-    }
-
     /** Equity curve 계산 */
     private void computeEquityCurves(
             BacktestResult result,
             List<PriceData> prices,
-            List<String> equityLabels,
+            List<LocalDate> equityDates,
             List<BigDecimal> equityCurve,
             List<BigDecimal> drawdownCurve,
             List<BigDecimal> benchmarkCurve) {
@@ -1012,7 +1080,7 @@ public class BacktestService {
 
         for (int i = 0; i < prices.size(); i += CHART_SAMPLING_INTERVAL) {
             PriceData price = prices.get(i);
-            equityLabels.add(price.getDate().toString());
+            equityDates.add(price.getDate());
 
             // 선형 보간된 equity 계산
             double progress = (double) i / prices.size();
@@ -1079,22 +1147,28 @@ public class BacktestService {
                         .collect(Collectors.toList());
 
         // 캐시된 데이터 사용 시도
-        List<String> equityLabels =
-                loadCachedList(result.getEquityLabelsJson(), new TypeReference<>() {});
-        List<BigDecimal> equityCurve =
-                loadCachedList(result.getEquityCurveJson(), new TypeReference<>() {});
-        List<BigDecimal> drawdownCurve =
-                loadCachedList(result.getDrawdownCurveJson(), new TypeReference<>() {});
-        List<BigDecimal> benchmarkCurve =
-                loadCachedList(result.getBenchmarkCurveJson(), new TypeReference<>() {});
-        List<BacktestResultDto.MonthlyPerformance> monthlyPerformance =
-                loadCachedList(result.getMonthlyPerformanceJson(), new TypeReference<>() {});
+        List<String> equityLabels = new ArrayList<>();
+        List<BigDecimal> equityCurve = new ArrayList<>();
+        List<BigDecimal> drawdownCurve = new ArrayList<>();
+        List<BigDecimal> benchmarkCurve = new ArrayList<>();
+        List<BacktestResultDto.MonthlyPerformance> monthlyPerformance = new ArrayList<>();
+        BacktestCurves curves = decodeCurves(result);
+        if (curves != null) {
+            equityLabels = curves.labels();
+            equityCurve = curves.equityCurve();
+            drawdownCurve = curves.drawdownCurve();
+            benchmarkCurve = curves.benchmarkCurve();
+            monthlyPerformance = curves.monthlyPerformance();
+        }
 
         // 캐시가 없으면 실시간 계산 (하위 호환성)
         if (equityLabels.isEmpty() && !prices.isEmpty()) {
             log.debug("캐시된 차트 데이터 없음, 실시간 계산 수행: {}", result.getId());
-            computeChartDataRealtime(
-                    result, prices, equityLabels, equityCurve, drawdownCurve, benchmarkCurve);
+            List<LocalDate> equityDates = new ArrayList<>();
+            computeEquityCurves(
+                    result, prices, equityDates, equityCurve, drawdownCurve, benchmarkCurve);
+            equityLabels =
+                    equityDates.stream().map(LocalDate::toString).collect(Collectors.toList());
         }
 
         if (monthlyPerformance.isEmpty()) {
@@ -1142,32 +1216,19 @@ public class BacktestService {
                 .build();
     }
 
-    /** 캐시된 JSON 데이터를 리스트로 로드 */
-    private <T> List<T> loadCachedList(String json, TypeReference<List<T>> typeRef) {
-        if (json == null || json.isEmpty()) {
-            return new ArrayList<>();
+    /** 저장된 곡선 바이너리 디코더 (없거나 손상되면 null) */
+    private BacktestCurves decodeCurves(BacktestResult result) {
+        if (result.getCurveData() == null) {
+            return null;
         }
         try {
-            return objectMapper.readValue(json, typeRef);
-        } catch (JsonProcessingException e) {
-            log.warn("캐시 데이터 파싱 실패: {}", e.getMessage());
-            return new ArrayList<>();
+            return BacktestCurves.decode(result.getCurveData());
+        } catch (IllegalArgumentException e) {
+            log.warn("곡선 데이터 디코딩 실패: id={}, {}", result.getId(), e.getMessage());
+            return null;
         }
     }
 
-    /** 차트 데이터 실시간 계산 (캐시 미스 시) */
-    private void computeChartDataRealtime(
-            BacktestResult result,
-            List<PriceData> prices,
-            List<String> equityLabels,
-            List<BigDecimal> equityCurve,
-            List<BigDecimal> drawdownCurve,
-            List<BigDecimal> benchmarkCurve) {
-        // 기존 computeEquityCurves 메서드 재사용
-        computeEquityCurves(
-                result, prices, equityLabels, equityCurve, drawdownCurve, benchmarkCurve);
-    }
-
     /** 월별 성과 계산 */
     private List<BacktestResultDto.MonthlyPerformance> computeMonthlyPerformance(
             BacktestResult result) {
@@ -1230,6 +1291,35 @@ public class BacktestService {
         return convertToDto(result, prices);
     }
 
+    /**
+     * 차트 곡선 구간 조회 - 곡선 바이너리만 읽어 요청 구간을 다운샘플링
+     *
+     * @param from 시작일 (null이면 처음부터)
+     * @param to 종료일 (null이면 끝까지)
+     * @param maxPoints 최대 포인트 수
+     */
+    @Transactional(readOnly = true)
+    public BacktestCurveRangeDto getCurveRange(
+            Long id, LocalDate from, LocalDate to, int maxPoints) {
+        if (maxPoints < 2) {
+            throw new IllegalArgumentException("maxPoints는 2 이상이어야 합니다");
+        }
+        byte[] curveData =
+                backtestResultRepository
+                        .findCurveDataById(id)
+                        .orElseThrow(
+                                () -> new IllegalArgumentException("백테스트 결과를 찾을 수 없습니다: " + id));
+        BacktestCurves.Range range = BacktestCurves.decode(curveData).range(from, to, maxPoints);
+        return BacktestCurveRangeDto.builder()
+                .backtestId(id)
+                .labels(range.labels())
+                .equityCurve(range.equityCurve())
+                .drawdownCurve(range.drawdownCurve())
+                .benchmarkCurve(range.benchmarkCurve())
+                .totalPoints(range.totalPoints())
+                .build();
+    }
+
     /** 사용 가능한 전략 목록 */
     public List<Map<String, Object>> getAvailableStrategies() {
         return Arrays.stream(TradingStrategy.StrategyType.values())
@@ -1306,7 +1396,8 @@ public class BacktestService {
         // 2. 가격 데이터 미리 조회 (재사용)
         List<PriceData> prices =
                 fetchHistoricalPriceData(
-                        request.getSymbol(), request.getStartDate(), request.getEndDate());
+                                request.getSymbol(), request.getStartDate(), request.getEndDate())
+                        .prices();
 
         // 3. 각 조합에 대해 백테스트 실행 (제한된 병렬 처리)
         List<ParameterResult> results = Collections.synchronizedList(new ArrayList<>());
@@ -0,0 +1,242 @@
+package com.trading.journal.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 날짜 정렬된 double[] 수익률 시계열 위에서 벤치마크 비교 지표를 계산하는 엔진.
+ *
+ * <p>입력 수익률은 모두 % 단위 일간 수익률이며, 누적 수익률은 복리((1+r1)(1+r2)...-1)로 계산한다. 알파, 베타, 상관계수, 추적오차, 정보비율, 상승/하락
+ * 포착률, 롤링 베타를 한 번의 순회로 구한다.
+ */
+final class BenchmarkComparisonEngine {
+
+    static final int TRADING_DAYS_PER_YEAR = 252;
+
+    private BenchmarkComparisonEngine() {}
+
+    /** 날짜 인덱스가 붙은 일간 수익률(%) 시계열 (날짜 오름차순) */
+    record Series(LocalDate[] dates, double[] returns) {
+        static final Series EMPTY = new Series(new LocalDate[0], new double[0]);
+
+        int size() {
+            return dates.length;
+        }
+    }
+
+    /** 두 시계열의 공통 날짜만 남긴 정렬 결과 */
+    record AlignedSeries(LocalDate[] dates, double[] portfolio, double[] benchmark) {
+        int size() {
+            return dates.length;
+        }
+    }
+
+    /** 비교 지표 계산 결과 (수익률/변동성/알파는 %, 나머지는 비율) */
+    record Result(
+            double[] portfolioCumulative,
+            double[] benchmarkCumulative,
+            double[] rollingBeta,
+            double portfolioTotalReturn,
+            double benchmarkTotalReturn,
+            double alpha,
+            double beta,
+            double correlation,
+            double trackingError,
+            double informationRatio,
+            double treynorRatio,
+            double portfolioVolatility,
+            double benchmarkVolatility,
+            double portfolioSharpe,
+            double benchmarkSharpe,
+            double portfolioMaxDrawdown,
+            double benchmarkMaxDrawdown,
+            double upCaptureRatio,
+            double downCaptureRatio) {}
+
+    /** 두 날짜 오름차순 시계열을 병합 조인하여 공통 날짜만 남긴다 */
+    static AlignedSeries align(Series portfolio, Series benchmark) {
+        int capacity = Math.min(portfolio.size(), benchmark.size());
+        LocalDate[] dates = new LocalDate[capacity];
+        double[] p = new double[capacity];
+        double[] b = new double[capacity];
+
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < portfolio.size() && j < benchmark.size()) {
+            int cmp = portfolio.dates()[i].compareTo(benchmark.dates()[j]);
+            if (cmp == 0) {
+                dates[n] = portfolio.dates()[i];
+                p[n] = portfolio.returns()[i];
+                b[n] = benchmark.returns()[j];
+                n++;
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return new AlignedSeries(Arrays.copyOf(dates, n), Arrays.copyOf(p, n), Arrays.copyOf(b, n));
+    }
+
+    /**
+     * 정렬된 두 수익률 시계열의 비교 지표 계산
+     *
+     * @param portfolio 포트폴리오 일간 수익률 (%)
+     * @param benchmark 벤치마크 일간 수익률 (%), portfolio와 같은 길이
+     * @param riskFreeRatePct 연간 무위험 이자율 (%)
+     * @param rollingWindow 롤링 베타 윈도우 (거래일). 윈도우가 채워지기 전 구간은 NaN
+     */
+    static Result compare(
+            double[] portfolio, double[] benchmark, double riskFreeRatePct, int rollingWindow) {
+        int n = Math.min(portfolio.length, benchmark.length);
+        double dailyRiskFree = riskFreeRatePct / TRADING_DAYS_PER_YEAR;
+
+        double[] portfolioCumulative = new double[n];
+        double[] benchmarkCumulative = new double[n];
+        double[] rollingBeta = new double[n];
+
+        double sumP = 0, sumB = 0, sumPP = 0, sumBB = 0, sumPB = 0;
+        double sumExcess = 0, sumExcessSq = 0;
+        double wealthP = 1, wealthB = 1, peakP = 1, peakB = 1, maxDdP = 0, maxDdB = 0;
+        double upLogP = 0, upLogB = 0, downLogP = 0, downLogB = 0;
+        int upDays = 0, downDays = 0;
+        double winB = 0, winP = 0, winBB = 0, winPB = 0;
+
+        for (int i = 0; i < n; i++) {
+            double p = portfolio[i];
+            double b = benchmark[i];
+            double rp = p / 100.0;
+            double rb = b / 100.0;
+
+            sumP += p;
+            sumB += b;
+            sumPP += p * p;
+            sumBB += b * b;
+            sumPB += p * b;
+            double excess = p - b;
+            sumExcess += excess;
+            sumExcessSq += excess * excess;
+
+            // 복리 누적 및 최대 낙폭
+            wealthP *= 1 + rp;
+            wealthB *= 1 + rb;
+            portfolioCumulative[i] = (wealthP - 1) * 100;
+            benchmarkCumulative[i] = (wealthB - 1) * 100;
+            peakP = Math.max(peakP, wealthP);
+            peakB = Math.max(peakB, wealthB);
+            maxDdP = Math.max(maxDdP, (peakP - wealthP) / peakP * 100);
+            maxDdB = Math.max(maxDdB, (peakB - wealthB) / peakB * 100);
+
+            // 상승/하락장 포착률 (기하평균 비교)
+            if (b > 0) {
+                upLogP += Math.log1p(rp);
+                upLogB += Math.log1p(rb);
+                upDays++;
+            } else if (b < 0) {
+                downLogP += Math.log1p(rp);
+                downLogB += Math.log1p(rb);
+                downDays++;
+            }
+
+            // 롤링 베타 (슬라이딩 합계)
+            winP += p;
+            winB += b;
+            winBB += b * b;
+            winPB += p * b;
+            if (i >= rollingWindow) {
+                double op = portfolio[i - rollingWindow];
+                double ob = benchmark[i - rollingWindow];
+                winP -= op;
+                winB -= ob;
+                winBB -= ob * ob;
+                winPB -= op * ob;
+            }
+            rollingBeta[i] =
+                    i + 1 >= rollingWindow && rollingWindow > 1
+                            ? slope(winP, winB, winBB, winPB, rollingWindow)
+                            : Double.NaN;
+        }
+
+        double meanP = n > 0 ? sumP / n : 0;
+        double meanB = n > 0 ? sumB / n : 0;
+        double varP = sampleVariance(sumP, sumPP, n);
+        double varB = sampleVariance(sumB, sumBB, n);
+        double cov = n > 1 ? (sumPB - sumP * sumB / n) / (n - 1) : 0;
+
+        double beta = n > 1 && varB > 0 ? cov / varB : 1;
+        double correlation = varP > 0 && varB > 0 ? cov / Math.sqrt(varP * varB) : 0;
+        // 젠센 알파 (연환산): (Rp - Rf) - beta * (Rm - Rf)
+        double alpha =
+                n > 0
+                        ? ((meanP - dailyRiskFree) - beta * (meanB - dailyRiskFree))
+                                * TRADING_DAYS_PER_YEAR
+                        : 0;
+
+        double annualizer = Math.sqrt(TRADING_DAYS_PER_YEAR);
+        double trackingError = Math.sqrt(sampleVariance(sumExcess, sumExcessSq, n)) * annualizer;
+        double informationRatio =
+                trackingError > 0
+                        ? (sumExcess / Math.max(n, 1)) * TRADING_DAYS_PER_YEAR / trackingError
+                        : 0;
+
+        double portfolioVolatility = Math.sqrt(varP) * annualizer;
+        double benchmarkVolatility = Math.sqrt(varB) * annualizer;
+        double annualP = meanP * TRADING_DAYS_PER_YEAR;
+        double annualB = meanB * TRADING_DAYS_PER_YEAR;
+
+        return new Result(
+                portfolioCumulative,
+                benchmarkCumulative,
+                rollingBeta,
+                n > 0 ? portfolioCumulative[n - 1] : 0,
+                n > 0 ? benchmarkCumulative[n - 1] : 0,
+                alpha,
+                beta,
+                correlation,
+                trackingError,
+                informationRatio,
+                beta != 0 ? (annualP - riskFreeRatePct) / beta : 0,
+                portfolioVolatility,
+                benchmarkVolatility,
+                portfolioVolatility > 0 ? (annualP - riskFreeRatePct) / portfolioVolatility : 0,
+                benchmarkVolatility > 0 ? (annualB - riskFreeRatePct) / benchmarkVolatility : 0,
+                maxDdP,
+                maxDdB,
+                captureRatio(upLogP, upLogB, upDays),
+                captureRatio(downLogP, downLogB, downDays));
+    }
+
+    /** 구간 복리 수익률 (%) */
+    static double compound(double[] returns, int from, int to) {
+        double wealth = 1;
+        for (int i = from; i < to; i++) {
+            wealth *= 1 + returns[i] / 100.0;
+        }
+        return (wealth - 1) * 100;
+    }
+
+    private static double sampleVariance(double sum, double sumSq, int n) {
+        if (n < 2) {
+            return 0;
+        }
+        return Math.max(0, (sumSq - sum * sum / n) / (n - 1));
+    }
+
+    private static double slope(double sumP, double sumB, double sumBB, double sumPB, int n) {
+        double varB = sumBB - sumB * sumB / n;
+        return varB > 0 ? (sumPB - sumP * sumB / n) / varB : Double.NaN;
+    }
+
+    /** 포착률 (%) = 포트폴리오 기하평균 수익률 / 벤치마크 기하평균 수익률 * 100 */
+    private static double captureRatio(double logP, double logB, int days) {
+        if (days == 0) {
+            return 0;
+        }
+        double geoB = Math.expm1(logB / days);
+        return geoB != 0 ? Math.expm1(logP / days) / geoB * 100 : 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.BenchmarkType;
+import java.util.Set;
+
+/**
+ * 벤치마크 가격 데이터가 저장되었음을 알리는 이벤트. 커밋 후 {@link BenchmarkService}가 받아 해당 유형의 수익률 시계열 캐시와 비교 결과 캐시를 비운다.
+ *
+ * @param benchmarks 가격이 바뀐 벤치마크 유형
+ */
+public record BenchmarkPricesChangedEvent(Set<BenchmarkType> benchmarks) {}
@@ -1,10 +1,15 @@
 package com.trading.journal.service;
 
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.dto.BenchmarkComparisonDto;
 import com.trading.journal.dto.BenchmarkComparisonDto.*;
+import com.trading.journal.dto.BenchmarkComparisonDto.MultiBenchmarkComparison.BenchmarkData;
 import com.trading.journal.entity.BenchmarkPrice;
 import com.trading.journal.entity.BenchmarkType;
 import com.trading.journal.repository.BenchmarkPriceRepository;
+import com.trading.journal.scheduler.JobShard;
+import com.trading.journal.service.BenchmarkComparisonEngine.AlignedSeries;
+import com.trading.journal.service.BenchmarkComparisonEngine.Series;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
@@ -12,13 +17,16 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +37,27 @@ public class BenchmarkService {
     private final BenchmarkPriceRepository benchmarkPriceRepository;
     private final AnalysisService analysisService;
     private final List<com.trading.journal.provider.BenchmarkDataProvider> dataProviders;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final MathContext MC = new MathContext(10, RoundingMode.HALF_UP);
-    private static final BigDecimal RISK_FREE_RATE = new BigDecimal("0.03"); // 3% 연간 무위험 이자율
+    private static final double RISK_FREE_RATE_PCT = 3.0; // 3% 연간 무위험 이자율
+    private static final int ROLLING_BETA_WINDOW = 60; // 롤링 베타 윈도우 (약 3개월)
+    private static final int SERIES_CACHE_MAX_ENTRIES = 64;
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    /** 벤치마크 일간 수익률 시계열 캐시 (유형+기간 단위, 가격 데이터 변경 시 해당 유형 무효화) */
+    private final Map<SeriesKey, Series> benchmarkSeriesCache =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<SeriesKey, Series> eldest) {
+                            return size() > SERIES_CACHE_MAX_ENTRIES;
+                        }
+                    });
+
+    private record SeriesKey(BenchmarkType benchmark, LocalDate startDate, LocalDate endDate) {}
 
     /** 포트폴리오와 벤치마크 비교 분석 */
     @Cacheable(
@@ -46,101 +72,40 @@ public class BenchmarkService {
                 startDate,
                 endDate);
 
-        // 포트폴리오 일간 수익률 가져오기
-        List<BigDecimal> portfolioDailyReturns =
-                getPortfolioDailyReturns(accountId, startDate, endDate);
-        List<LocalDate> portfolioDates = getPortfolioDates(accountId, startDate, endDate);
-
-        // 벤치마크 가격 데이터 가져오기
-        List<BenchmarkPrice> benchmarkPrices =
-                benchmarkPriceRepository.findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
-                        benchmark, startDate, endDate);
-
-        if (benchmarkPrices.isEmpty()) {
+        Series portfolioSeries = loadPortfolioSeries(accountId, startDate, endDate);
+        Series benchmarkSeries = getBenchmarkSeries(benchmark, startDate, endDate);
+        if (benchmarkSeries.size() == 0) {
             return buildEmptyComparison(benchmark, startDate, endDate);
         }
 
-        // 날짜 매칭 - 포트폴리오와 벤치마크 모두 있는 날짜만 사용
-        Map<LocalDate, BigDecimal> benchmarkReturnMap = new HashMap<>();
-        Map<LocalDate, BigDecimal> benchmarkPriceMap = new HashMap<>();
-        for (BenchmarkPrice bp : benchmarkPrices) {
-            if (bp.getDailyReturn() != null) {
-                benchmarkReturnMap.put(bp.getPriceDate(), bp.getDailyReturn());
-            }
-            benchmarkPriceMap.put(bp.getPriceDate(), bp.getClosePrice());
+        // 날짜 매칭 - 포트폴리오와 벤치마크 모두 있는 날짜만 사용 (정렬 병합)
+        AlignedSeries aligned = BenchmarkComparisonEngine.align(portfolioSeries, benchmarkSeries);
+        BenchmarkComparisonEngine.Result result =
+                BenchmarkComparisonEngine.compare(
+                        aligned.portfolio(),
+                        aligned.benchmark(),
+                        RISK_FREE_RATE_PCT,
+                        ROLLING_BETA_WINDOW);
+
+        int n = aligned.size();
+        List<String> labels = new ArrayList<>(n);
+        List<BigDecimal> portfolioCumulativeReturns = new ArrayList<>(n);
+        List<BigDecimal> benchmarkCumulativeReturns = new ArrayList<>(n);
+        List<BigDecimal> excessReturns = new ArrayList<>(n);
+        List<BigDecimal> rollingBeta = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double portfolioCumulative = result.portfolioCumulative()[i];
+            double benchmarkCumulative = result.benchmarkCumulative()[i];
+            labels.add(aligned.dates()[i].format(DATE_FORMATTER));
+            portfolioCumulativeReturns.add(scaled(portfolioCumulative, 4));
+            benchmarkCumulativeReturns.add(scaled(benchmarkCumulative, 4));
+            excessReturns.add(scaled(portfolioCumulative - benchmarkCumulative, 4));
+            rollingBeta.add(scaled(result.rollingBeta()[i], 4));
         }
 
-        // 누적 수익률 계산
-        List<String> labels = new ArrayList<>();
-        List<BigDecimal> portfolioCumulativeReturns = new ArrayList<>();
-        List<BigDecimal> benchmarkCumulativeReturns = new ArrayList<>();
-        List<BigDecimal> excessReturns = new ArrayList<>();
-
-        List<BigDecimal> matchedPortfolioReturns = new ArrayList<>();
-        List<BigDecimal> matchedBenchmarkReturns = new ArrayList<>();
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-        BigDecimal portfolioCumulative = BigDecimal.ZERO;
-        BigDecimal benchmarkCumulative = BigDecimal.ZERO;
-
-        for (int i = 0; i < portfolioDates.size() && i < portfolioDailyReturns.size(); i++) {
-            LocalDate date = portfolioDates.get(i);
-            BigDecimal portfolioReturn = portfolioDailyReturns.get(i);
-            BigDecimal benchmarkReturn = benchmarkReturnMap.get(date);
-
-            if (benchmarkReturn != null) {
-                labels.add(date.format(formatter));
-
-                // 누적 수익률 계산 (복리)
-                portfolioCumulative = portfolioCumulative.add(portfolioReturn);
-                benchmarkCumulative = benchmarkCumulative.add(benchmarkReturn);
-
-                portfolioCumulativeReturns.add(portfolioCumulative);
-                benchmarkCumulativeReturns.add(benchmarkCumulative);
-                excessReturns.add(portfolioCumulative.subtract(benchmarkCumulative));
-
-                matchedPortfolioReturns.add(portfolioReturn);
-                matchedBenchmarkReturns.add(benchmarkReturn);
-            }
-        }
-
-        // 성과 지표 계산
-        BigDecimal portfolioTotalReturn = portfolioCumulative;
-        BigDecimal benchmarkTotalReturn = benchmarkCumulative;
-        BigDecimal excessReturn = portfolioTotalReturn.subtract(benchmarkTotalReturn);
-
-        BigDecimal beta = calculateBeta(matchedPortfolioReturns, matchedBenchmarkReturns);
-        BigDecimal alpha = calculateAlpha(matchedPortfolioReturns, matchedBenchmarkReturns, beta);
-        BigDecimal correlation =
-                calculateCorrelation(matchedPortfolioReturns, matchedBenchmarkReturns);
-        BigDecimal rSquared = correlation.pow(2);
-        BigDecimal trackingError =
-                calculateTrackingError(matchedPortfolioReturns, matchedBenchmarkReturns);
-        BigDecimal informationRatio = calculateInformationRatio(excessReturn, trackingError);
-        BigDecimal treynorRatio = calculateTreynorRatio(portfolioTotalReturn, beta);
-
-        // 변동성 계산
-        BigDecimal portfolioVolatility = calculateVolatility(matchedPortfolioReturns);
-        BigDecimal benchmarkVolatility = calculateVolatility(matchedBenchmarkReturns);
-
-        // 샤프비율 계산
-        BigDecimal portfolioSharpe =
-                calculateSharpe(
-                        portfolioTotalReturn, portfolioVolatility, matchedPortfolioReturns.size());
-        BigDecimal benchmarkSharpe =
-                calculateSharpe(
-                        benchmarkTotalReturn, benchmarkVolatility, matchedBenchmarkReturns.size());
-
-        // 최대 낙폭 계산
-        BigDecimal portfolioMaxDrawdown = calculateMaxDrawdown(portfolioCumulativeReturns);
-        BigDecimal benchmarkMaxDrawdown = calculateMaxDrawdown(benchmarkCumulativeReturns);
-
-        // 월별 비교
-        List<MonthlyComparison> monthlyComparisons =
-                calculateMonthlyComparisons(
-                        portfolioDates, portfolioDailyReturns, benchmarkReturnMap);
+        double excessReturn = result.portfolioTotalReturn() - result.benchmarkTotalReturn();
 
+        List<MonthlyComparison> monthlyComparisons = calculateMonthlyComparisons(aligned);
         int portfolioWinMonths =
                 (int)
                         monthlyComparisons.stream()
@@ -157,25 +122,100 @@ public class BenchmarkService {
                 .portfolioReturns(portfolioCumulativeReturns)
                 .benchmarkReturns(benchmarkCumulativeReturns)
                 .excessReturns(excessReturns)
-                .portfolioTotalReturn(portfolioTotalReturn.setScale(2, RoundingMode.HALF_UP))
-                .benchmarkTotalReturn(benchmarkTotalReturn.setScale(2, RoundingMode.HALF_UP))
-                .excessReturn(excessReturn.setScale(2, RoundingMode.HALF_UP))
-                .alpha(alpha.setScale(4, RoundingMode.HALF_UP))
-                .beta(beta.setScale(4, RoundingMode.HALF_UP))
-                .correlation(correlation.setScale(4, RoundingMode.HALF_UP))
-                .rSquared(rSquared.setScale(4, RoundingMode.HALF_UP))
-                .informationRatio(informationRatio.setScale(4, RoundingMode.HALF_UP))
-                .trackingError(trackingError.setScale(4, RoundingMode.HALF_UP))
-                .treynorRatio(treynorRatio.setScale(4, RoundingMode.HALF_UP))
-                .portfolioSharpe(portfolioSharpe.setScale(4, RoundingMode.HALF_UP))
-                .benchmarkSharpe(benchmarkSharpe.setScale(4, RoundingMode.HALF_UP))
-                .portfolioVolatility(portfolioVolatility.setScale(4, RoundingMode.HALF_UP))
-                .benchmarkVolatility(benchmarkVolatility.setScale(4, RoundingMode.HALF_UP))
-                .portfolioMaxDrawdown(portfolioMaxDrawdown.setScale(2, RoundingMode.HALF_UP))
-                .benchmarkMaxDrawdown(benchmarkMaxDrawdown.setScale(2, RoundingMode.HALF_UP))
+                .portfolioTotalReturn(scaled(result.portfolioTotalReturn(), 2))
+                .benchmarkTotalReturn(scaled(result.benchmarkTotalReturn(), 2))
+                .excessReturn(scaled(excessReturn, 2))
+                .alpha(scaled(result.alpha(), 4))
+                .beta(scaled(result.beta(), 4))
+                .correlation(scaled(result.correlation(), 4))
+                .rSquared(scaled(result.correlation() * result.correlation(), 4))
+                .informationRatio(scaled(result.informationRatio(), 4))
+                .trackingError(scaled(result.trackingError(), 4))
+                .treynorRatio(scaled(result.treynorRatio(), 4))
+                .upCaptureRatio(scaled(result.upCaptureRatio(), 2))
+                .downCaptureRatio(scaled(result.downCaptureRatio(), 2))
+                .rollingBeta(rollingBeta)
+                .rollingBetaWindow(ROLLING_BETA_WINDOW)
+                .portfolioSharpe(scaled(result.portfolioSharpe(), 4))
+                .benchmarkSharpe(scaled(result.benchmarkSharpe(), 4))
+                .portfolioVolatility(scaled(result.portfolioVolatility(), 4))
+                .benchmarkVolatility(scaled(result.benchmarkVolatility(), 4))
+                .portfolioMaxDrawdown(scaled(result.portfolioMaxDrawdown(), 2))
+                .benchmarkMaxDrawdown(scaled(result.benchmarkMaxDrawdown(), 2))
                 .monthlyComparisons(monthlyComparisons)
                 .portfolioWinMonths(portfolioWinMonths)
                 .benchmarkWinMonths(benchmarkWinMonths)
+                .yearlyComparisons(calculateYearlyComparisons(aligned))
+                .build();
+    }
+
+    /** 포트폴리오와 여러 벤치마크 동시 비교 (포트폴리오 수익률은 한 번만 계산) */
+    @Cacheable(
+            value = "benchmarkComparison",
+            key = "'multi_' + #accountId + '_' + #benchmarks + '_' + #startDate + '_' + #endDate")
+    public MultiBenchmarkComparison compareToBenchmarks(
+            Long accountId,
+            List<BenchmarkType> benchmarks,
+            LocalDate startDate,
+            LocalDate endDate) {
+        Collection<BenchmarkType> types =
+                benchmarks == null || benchmarks.isEmpty()
+                        ? Arrays.asList(BenchmarkType.values())
+                        : new LinkedHashSet<>(benchmarks);
+        log.info(
+                "Comparing portfolio {} to benchmarks {} from {} to {}",
+                accountId,
+                types,
+                startDate,
+                endDate);
+
+        Series portfolioSeries = loadPortfolioSeries(accountId, startDate, endDate);
+        LocalDate[] dates = portfolioSeries.dates();
+
+        List<String> labels = new ArrayList<>(dates.length);
+        for (LocalDate date : dates) {
+            labels.add(date.format(DATE_FORMATTER));
+        }
+
+        List<BenchmarkData> benchmarkData = new ArrayList<>();
+        for (BenchmarkType type : types) {
+            Series benchmarkSeries = getBenchmarkSeries(type, startDate, endDate);
+            AlignedSeries aligned =
+                    BenchmarkComparisonEngine.align(portfolioSeries, benchmarkSeries);
+            BenchmarkComparisonEngine.Result result =
+                    BenchmarkComparisonEngine.compare(
+                            aligned.portfolio(),
+                            aligned.benchmark(),
+                            RISK_FREE_RATE_PCT,
+                            ROLLING_BETA_WINDOW);
+
+            benchmarkData.add(
+                    BenchmarkData.builder()
+                            .type(type)
+                            .label(type.getLabel())
+                            .returns(toScaledList(cumulativeOnDates(dates, benchmarkSeries)))
+                            .totalReturn(scaled(result.benchmarkTotalReturn(), 2))
+                            .excessReturn(
+                                    scaled(
+                                            result.portfolioTotalReturn()
+                                                    - result.benchmarkTotalReturn(),
+                                            2))
+                            .correlation(scaled(result.correlation(), 4))
+                            .beta(scaled(result.beta(), 4))
+                            .alpha(scaled(result.alpha(), 4))
+                            .trackingError(scaled(result.trackingError(), 4))
+                            .informationRatio(scaled(result.informationRatio(), 4))
+                            .upCaptureRatio(scaled(result.upCaptureRatio(), 2))
+                            .downCaptureRatio(scaled(result.downCaptureRatio(), 2))
+                            .build());
+        }
+
+        return MultiBenchmarkComparison.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .labels(labels)
+                .portfolioReturns(toScaledList(cumulativeOnDates(dates, portfolioSeries)))
+                .benchmarks(benchmarkData)
                 .build();
     }
 
@@ -225,13 +265,19 @@ public class BenchmarkService {
     /** 벤치마크 가격 데이터 저장 (동기화용) */
     @Transactional
     public BenchmarkPrice saveBenchmarkPrice(BenchmarkPrice price) {
-        return benchmarkPriceRepository.save(price);
+        BenchmarkPrice saved = benchmarkPriceRepository.save(price);
+        eventPublisher.publishEvent(new BenchmarkPricesChangedEvent(Set.of(price.getBenchmark())));
+        return saved;
     }
 
     /** 벤치마크 가격 데이터 일괄 저장 */
     @Transactional
     public List<BenchmarkPrice> saveBenchmarkPrices(List<BenchmarkPrice> prices) {
-        return benchmarkPriceRepository.saveAll(prices);
+        List<BenchmarkPrice> saved = benchmarkPriceRepository.saveAll(prices);
+        Set<BenchmarkType> benchmarks = EnumSet.noneOf(BenchmarkType.class);
+        prices.forEach(price -> benchmarks.add(price.getBenchmark()));
+        eventPublisher.publishEvent(new BenchmarkPricesChangedEvent(benchmarks));
+        return saved;
     }
 
     /** 외부 데이터 소스에서 벤치마크 데이터 동기화 */
@@ -289,6 +335,7 @@ public class BenchmarkService {
                 }
             }
 
+            eventPublisher.publishEvent(new BenchmarkPricesChangedEvent(Set.of(benchmark)));
             result.put("success", true);
             result.put("message", provider.getProviderName() + "에서 데이터를 성공적으로 동기화했습니다.");
             result.put("fetchedCount", prices.size());
@@ -325,15 +372,20 @@ public class BenchmarkService {
         return results;
     }
 
-    /** 일일 벤치마크 데이터 동기화 (스케줄러) - 매일 오후 11시 실행 */
+    /** 일일 벤치마크 데이터 동기화 (스케줄러) - 매일 오후 11시 실행, 클러스터에서는 벤치마크별로 노드에 분배 */
     @Transactional
     @Scheduled(cron = "0 0 23 * * *")
+    @ClusterJob(value = "benchmark-daily-sync", sharded = true, lockAtMostForSeconds = 1800)
     public void scheduledDailySync() {
         log.info("Starting scheduled daily benchmark sync");
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(7); // 최근 7일 동기화 (누락 방지)
 
+        JobShard shard = JobShard.current();
         for (BenchmarkType benchmark : BenchmarkType.values()) {
+            if (!shard.owns(benchmark.name())) {
+                continue;
+            }
             try {
                 syncBenchmarkData(benchmark, startDate, endDate);
             } catch (Exception e) {
@@ -409,149 +461,119 @@ public class BenchmarkService {
         }
 
         benchmarkPriceRepository.saveAll(prices);
+        eventPublisher.publishEvent(new BenchmarkPricesChangedEvent(Set.of(benchmark)));
         log.info("Generated {} sample benchmark prices for {}", prices.size(), benchmark);
     }
 
-    // === Private Helper Methods ===
-
-    private List<BigDecimal> getPortfolioDailyReturns(
-            Long accountId, LocalDate startDate, LocalDate endDate) {
-        // AnalysisService를 통해 포트폴리오 일간 수익률 가져오기
-        try {
-            var equityCurve = analysisService.getEquityCurve(accountId, startDate, endDate);
-            if (equityCurve != null && equityCurve.getDailyReturns() != null) {
-                return equityCurve.getDailyReturns();
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get portfolio daily returns: {}", e.getMessage());
+    /**
+     * 가격 저장이 커밋된 뒤 해당 유형의 시계열 캐시와 비교 결과 캐시 무효화 (커밋 전 재조회로 이전 값이 다시 캐시되는 것 방지). 비교 결과 키에는 여러 유형이
+     * 섞이므로 전체를 비운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "benchmarkComparison", allEntries = true)
+    public void onBenchmarkPricesChanged(BenchmarkPricesChangedEvent event) {
+        synchronized (benchmarkSeriesCache) {
+            benchmarkSeriesCache
+                    .keySet()
+                    .removeIf(key -> event.benchmarks().contains(key.benchmark()));
         }
-        return Collections.emptyList();
     }
 
-    private List<LocalDate> getPortfolioDates(
-            Long accountId, LocalDate startDate, LocalDate endDate) {
-        try {
-            var equityCurve = analysisService.getEquityCurve(accountId, startDate, endDate);
-            if (equityCurve != null && equityCurve.getLabels() != null) {
-                return equityCurve.getLabels().stream()
-                        .map(LocalDate::parse)
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get portfolio dates: {}", e.getMessage());
-        }
-        return Collections.emptyList();
-    }
-
-    private BigDecimal calculateBeta(
-            List<BigDecimal> portfolioReturns, List<BigDecimal> benchmarkReturns) {
-        if (portfolioReturns.size() < 2 || benchmarkReturns.size() < 2) {
-            return BigDecimal.ONE;
-        }
-
-        BigDecimal covariance = calculateCovariance(portfolioReturns, benchmarkReturns);
-        BigDecimal variance = calculateVariance(benchmarkReturns);
-
-        if (variance.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ONE;
-        }
-
-        return covariance.divide(variance, MC);
-    }
-
-    private BigDecimal calculateAlpha(
-            List<BigDecimal> portfolioReturns, List<BigDecimal> benchmarkReturns, BigDecimal beta) {
-        if (portfolioReturns.isEmpty() || benchmarkReturns.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal portfolioMean = calculateMean(portfolioReturns);
-        BigDecimal benchmarkMean = calculateMean(benchmarkReturns);
-
-        // Alpha = Rp - (Rf + Beta * (Rm - Rf))
-        // 단순화: Alpha = Rp - Beta * Rm
-        return portfolioMean.subtract(beta.multiply(benchmarkMean));
+    /** 거래가 추가되면 포트폴리오 수익률이 바뀌므로 커밋 후 비교 결과 캐시를 비운다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "benchmarkComparison", allEntries = true)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        log.debug("Evicted benchmark comparisons after new transaction");
     }
 
-    private BigDecimal calculateCorrelation(List<BigDecimal> list1, List<BigDecimal> list2) {
-        if (list1.size() < 2 || list2.size() < 2) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal covariance = calculateCovariance(list1, list2);
-        BigDecimal std1 = calculateStdDev(list1);
-        BigDecimal std2 = calculateStdDev(list2);
-
-        if (std1.compareTo(BigDecimal.ZERO) == 0 || std2.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        return covariance.divide(std1.multiply(std2), MC);
+    /** 거래 수정/삭제, 일괄 반영 커밋 후 비교 결과 캐시를 비운다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "benchmarkComparison", allEntries = true)
+    public void onTradeHistoryChanged(TradeHistoryChangedEvent event) {
+        log.debug("Evicted benchmark comparisons after trade history change");
     }
 
-    private BigDecimal calculateTrackingError(
-            List<BigDecimal> portfolioReturns, List<BigDecimal> benchmarkReturns) {
-        if (portfolioReturns.size() != benchmarkReturns.size() || portfolioReturns.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        List<BigDecimal> excessReturns = new ArrayList<>();
-        for (int i = 0; i < portfolioReturns.size(); i++) {
-            excessReturns.add(portfolioReturns.get(i).subtract(benchmarkReturns.get(i)));
-        }
-
-        return calculateStdDev(excessReturns);
-    }
+    // === Private Helper Methods ===
 
-    private BigDecimal calculateInformationRatio(
-            BigDecimal excessReturn, BigDecimal trackingError) {
-        if (trackingError.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
+    /** 포트폴리오 일간 수익률 시계열 (자산 곡선 1회 조회) */
+    private Series loadPortfolioSeries(Long accountId, LocalDate startDate, LocalDate endDate) {
+        try {
+            var equityCurve = analysisService.getEquityCurve(accountId, startDate, endDate);
+            if (equityCurve != null
+                    && equityCurve.getLabels() != null
+                    && equityCurve.getDailyReturns() != null) {
+                List<String> labels = equityCurve.getLabels();
+                List<BigDecimal> dailyReturns = equityCurve.getDailyReturns();
+                int n = Math.min(labels.size(), dailyReturns.size());
+                LocalDate[] dates = new LocalDate[n];
+                double[] returns = new double[n];
+                for (int i = 0; i < n; i++) {
+                    dates[i] = LocalDate.parse(labels.get(i));
+                    BigDecimal dailyReturn = dailyReturns.get(i);
+                    returns[i] = dailyReturn != null ? dailyReturn.doubleValue() : 0;
+                }
+                return new Series(dates, returns);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get portfolio daily returns: {}", e.getMessage());
         }
-        return excessReturn.divide(trackingError, MC);
+        return Series.EMPTY;
     }
 
-    private BigDecimal calculateTreynorRatio(BigDecimal portfolioReturn, BigDecimal beta) {
-        if (beta.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
+    /** 벤치마크 일간 수익률 시계열 (캐시) */
+    private Series getBenchmarkSeries(
+            BenchmarkType benchmark, LocalDate startDate, LocalDate endDate) {
+        SeriesKey key = new SeriesKey(benchmark, startDate, endDate);
+        Series cached = benchmarkSeriesCache.get(key);
+        if (cached != null) {
+            return cached;
         }
-        // Treynor = (Rp - Rf) / Beta
-        BigDecimal excessReturn =
-                portfolioReturn.subtract(RISK_FREE_RATE.multiply(portfolioReturn.abs()));
-        return excessReturn.divide(beta, MC);
+        Series series = loadBenchmarkSeries(benchmark, startDate, endDate);
+        benchmarkSeriesCache.put(key, series);
+        return series;
     }
 
-    private BigDecimal calculateVolatility(List<BigDecimal> returns) {
-        return calculateStdDev(returns).multiply(BigDecimal.valueOf(Math.sqrt(252))); // 연환산
-    }
+    private Series loadBenchmarkSeries(
+            BenchmarkType benchmark, LocalDate startDate, LocalDate endDate) {
+        List<BenchmarkPrice> prices =
+                benchmarkPriceRepository.findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                        benchmark, startDate, endDate);
 
-    private BigDecimal calculateSharpe(BigDecimal totalReturn, BigDecimal volatility, int days) {
-        if (volatility.compareTo(BigDecimal.ZERO) == 0 || days == 0) {
-            return BigDecimal.ZERO;
+        LocalDate[] dates = new LocalDate[prices.size()];
+        double[] returns = new double[prices.size()];
+        int n = 0;
+        BigDecimal previousClose = null;
+        for (BenchmarkPrice bp : prices) {
+            BigDecimal close = bp.getClosePrice();
+            if (bp.getDailyReturn() != null) {
+                dates[n] = bp.getPriceDate();
+                returns[n++] = bp.getDailyReturn().doubleValue();
+            } else if (previousClose != null && previousClose.signum() > 0 && close != null) {
+                // 일간 수익률 누락 시 종가로 보정
+                dates[n] = bp.getPriceDate();
+                returns[n++] = (close.doubleValue() / previousClose.doubleValue() - 1) * 100;
+            }
+            previousClose = close;
         }
-        BigDecimal annualizedReturn = totalReturn.multiply(BigDecimal.valueOf(252.0 / days));
-        return annualizedReturn.subtract(RISK_FREE_RATE).divide(volatility, MC);
+        return new Series(Arrays.copyOf(dates, n), Arrays.copyOf(returns, n));
     }
 
-    private BigDecimal calculateMaxDrawdown(List<BigDecimal> cumulativeReturns) {
-        if (cumulativeReturns.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal maxDrawdown = BigDecimal.ZERO;
-        BigDecimal peak = cumulativeReturns.get(0);
-
-        for (BigDecimal value : cumulativeReturns) {
-            if (value.compareTo(peak) > 0) {
-                peak = value;
-            }
-            BigDecimal drawdown = peak.subtract(value);
-            if (drawdown.compareTo(maxDrawdown) > 0) {
-                maxDrawdown = drawdown;
+    /** 기준 날짜별 복리 누적 수익률 (%) - 해당 날짜에 데이터가 없으면 직전 값을 유지 */
+    private double[] cumulativeOnDates(LocalDate[] dates, Series series) {
+        double[] cumulative = new double[dates.length];
+        double wealth = 1;
+        int j = 0;
+        for (int i = 0; i < dates.length; i++) {
+            while (j < series.size() && !series.dates()[j].isAfter(dates[i])) {
+                wealth *= 1 + series.returns()[j] / 100.0;
+                j++;
             }
+            cumulative[i] = (wealth - 1) * 100;
         }
-
-        return maxDrawdown;
+        return cumulative;
     }
 
     private BigDecimal calculatePeriodReturn(
@@ -582,48 +604,51 @@ public class BenchmarkService {
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private List<MonthlyComparison> calculateMonthlyComparisons(
-            List<LocalDate> dates,
-            List<BigDecimal> portfolioReturns,
-            Map<LocalDate, BigDecimal> benchmarkReturnMap) {
-
-        Map<YearMonth, List<BigDecimal>> portfolioByMonth = new LinkedHashMap<>();
-        Map<YearMonth, List<BigDecimal>> benchmarkByMonth = new LinkedHashMap<>();
-
-        for (int i = 0; i < dates.size() && i < portfolioReturns.size(); i++) {
-            LocalDate date = dates.get(i);
-            YearMonth ym = YearMonth.from(date);
-
-            portfolioByMonth
-                    .computeIfAbsent(ym, k -> new ArrayList<>())
-                    .add(portfolioReturns.get(i));
-
-            BigDecimal benchmarkReturn = benchmarkReturnMap.get(date);
-            if (benchmarkReturn != null) {
-                benchmarkByMonth.computeIfAbsent(ym, k -> new ArrayList<>()).add(benchmarkReturn);
-            }
-        }
-
+    /** 월별 비교 (정렬된 공통 날짜 기준 월 단위 복리 수익률) */
+    private List<MonthlyComparison> calculateMonthlyComparisons(AlignedSeries aligned) {
         List<MonthlyComparison> comparisons = new ArrayList<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-
-        for (YearMonth ym : portfolioByMonth.keySet()) {
-            List<BigDecimal> pReturns = portfolioByMonth.get(ym);
-            List<BigDecimal> bReturns = benchmarkByMonth.getOrDefault(ym, Collections.emptyList());
-
-            BigDecimal pTotal = pReturns.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal bTotal = bReturns.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-
+        int from = 0;
+        for (int i = 1; i <= aligned.size(); i++) {
+            YearMonth month = YearMonth.from(aligned.dates()[from]);
+            if (i < aligned.size() && YearMonth.from(aligned.dates()[i]).equals(month)) {
+                continue;
+            }
+            double pReturn = BenchmarkComparisonEngine.compound(aligned.portfolio(), from, i);
+            double bReturn = BenchmarkComparisonEngine.compound(aligned.benchmark(), from, i);
             comparisons.add(
                     MonthlyComparison.builder()
-                            .month(ym.format(formatter))
-                            .portfolioReturn(pTotal.setScale(2, RoundingMode.HALF_UP))
-                            .benchmarkReturn(bTotal.setScale(2, RoundingMode.HALF_UP))
-                            .excessReturn(pTotal.subtract(bTotal).setScale(2, RoundingMode.HALF_UP))
-                            .portfolioWin(pTotal.compareTo(bTotal) > 0)
+                            .month(month.format(MONTH_FORMATTER))
+                            .portfolioReturn(scaled(pReturn, 2))
+                            .benchmarkReturn(scaled(bReturn, 2))
+                            .excessReturn(scaled(pReturn - bReturn, 2))
+                            .portfolioWin(pReturn > bReturn)
                             .build());
+            from = i;
         }
+        return comparisons;
+    }
 
+    /** 연간 비교 (정렬된 공통 날짜 기준 연 단위 복리 수익률) */
+    private List<YearlyComparison> calculateYearlyComparisons(AlignedSeries aligned) {
+        List<YearlyComparison> comparisons = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= aligned.size(); i++) {
+            int year = aligned.dates()[from].getYear();
+            if (i < aligned.size() && aligned.dates()[i].getYear() == year) {
+                continue;
+            }
+            double pReturn = BenchmarkComparisonEngine.compound(aligned.portfolio(), from, i);
+            double bReturn = BenchmarkComparisonEngine.compound(aligned.benchmark(), from, i);
+            comparisons.add(
+                    YearlyComparison.builder()
+                            .year(year)
+                            .portfolioReturn(scaled(pReturn, 2))
+                            .benchmarkReturn(scaled(bReturn, 2))
+                            .excessReturn(scaled(pReturn - bReturn, 2))
+                            .portfolioWin(pReturn > bReturn)
+                            .build());
+            from = i;
+        }
         return comparisons;
     }
 
@@ -647,41 +672,18 @@ public class BenchmarkService {
                 .build();
     }
 
-    // === Statistical Helper Methods ===
-
-    private BigDecimal calculateMean(List<BigDecimal> values) {
-        if (values.isEmpty()) return BigDecimal.ZERO;
-        BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-        return sum.divide(BigDecimal.valueOf(values.size()), MC);
-    }
-
-    private BigDecimal calculateVariance(List<BigDecimal> values) {
-        if (values.size() < 2) return BigDecimal.ZERO;
-        BigDecimal mean = calculateMean(values);
-        BigDecimal sumSquares =
-                values.stream()
-                        .map(v -> v.subtract(mean).pow(2))
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return sumSquares.divide(BigDecimal.valueOf(values.size() - 1), MC);
-    }
-
-    private BigDecimal calculateStdDev(List<BigDecimal> values) {
-        BigDecimal variance = calculateVariance(values);
-        if (variance.compareTo(BigDecimal.ZERO) == 0) return BigDecimal.ZERO;
-        return BigDecimal.valueOf(Math.sqrt(variance.doubleValue()));
+    private static BigDecimal scaled(double value, int scale) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateCovariance(List<BigDecimal> list1, List<BigDecimal> list2) {
-        if (list1.size() != list2.size() || list1.size() < 2) return BigDecimal.ZERO;
-
-        BigDecimal mean1 = calculateMean(list1);
-        BigDecimal mean2 = calculateMean(list2);
-
-        BigDecimal sum = BigDecimal.ZERO;
-        for (int i = 0; i < list1.size(); i++) {
-            sum = sum.add(list1.get(i).subtract(mean1).multiply(list2.get(i).subtract(mean2)));
+    private static List<BigDecimal> toScaledList(double[] values) {
+        List<BigDecimal> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(scaled(value, 4));
         }
-
-        return sum.divide(BigDecimal.valueOf(list1.size() - 1), MC);
+        return list;
     }
 }
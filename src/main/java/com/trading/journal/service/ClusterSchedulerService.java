@@ -0,0 +1,340 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.SchedulerStatusDto;
+import com.trading.journal.entity.JobRunHistory;
+import com.trading.journal.entity.JobRunHistory.RunStatus;
+import com.trading.journal.entity.SchedulerLease;
+import com.trading.journal.entity.SchedulerNode;
+import com.trading.journal.repository.JobRunHistoryRepository;
+import com.trading.journal.repository.SchedulerLeaseRepository;
+import com.trading.journal.repository.SchedulerNodeRepository;
+import com.trading.journal.scheduler.JobShard;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 클러스터 스케줄링 기반. 노드 하트비트, DB 리스, 작업 실행 이력을 관리한다.
+ *
+ * <p>리스는 {@code scheduler_leases} 행에 대한 조건부 UPDATE로 획득하고, 노드는 {@code scheduler_nodes}에 하트비트를 남긴다.
+ * 샤드는 멤버십 에포크(노드 타임아웃 단위로 자른 시간 구간) 시작 시점의 노드 목록을 ID 순으로 정렬한 위치이므로 노드를 추가하면 다음 에포크부터 샤드 작업의 처리량이
+ * 늘어난다. 에포크 안에서는 모든 노드가 같은 목록을 보므로 샤드 수가 어긋나 키가 빠지거나 중복 처리되지 않는다. 리스/이력 쓰기는 호출한 작업의 트랜잭션과 무관하게 즉시
+ * 커밋되도록 별도 트랜잭션(REQUIRES_NEW)으로 처리한다.
+ *
+ * <p>시각은 애플리케이션 서버 시계를 쓰므로 노드 간 시계 차이는 {@code lockAtLeastForSeconds}보다 작아야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterSchedulerService {
+
+    /** 처음 만드는 리스 행의 만료 시각 (즉시 획득 가능) */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private static final String HISTORY_CLEANUP_LEASE = "job-history-cleanup";
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final SchedulerNodeRepository nodeRepository;
+    private final JobRunHistoryRepository historyRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scheduler.cluster.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${scheduler.cluster.node-id:}")
+    private String configuredNodeId = "";
+
+    /** 하트비트가 이 시간(ms) 동안 없으면 죽은 노드로 보고 샤드에서 뺀다 (하트비트 주기의 3배 이상) */
+    @Value("${scheduler.cluster.node-timeout-ms:45000}")
+    private long nodeTimeoutMs = 45000;
+
+    @Value("${scheduler.cluster.history-retention-days:30}")
+    private int historyRetentionDays = 30;
+
+    private String nodeId;
+    private TransactionTemplate requiresNew;
+
+    @PostConstruct
+    public void init() {
+        nodeId =
+                configuredNodeId != null && !configuredNodeId.isBlank()
+                        ? configuredNodeId
+                        : hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (enabled) {
+            heartbeat();
+            log.info("Cluster scheduler node registered: {}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> nodeRepository.deleteById(nodeId));
+        } catch (RuntimeException e) {
+            log.debug("Failed to deregister scheduler node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** 노드 하트비트 기록 및 오래된 노드 정리 */
+    @Scheduled(
+            fixedDelayString = "${scheduler.cluster.heartbeat-ms:15000}",
+            initialDelayString = "${scheduler.cluster.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            requiresNew.executeWithoutResult(
+                    status -> {
+                        if (nodeRepository.heartbeat(nodeId, now) == 0) {
+                            nodeRepository.save(
+                                    SchedulerNode.builder()
+                                            .nodeId(nodeId)
+                                            .startedAt(now)
+                                            .lastHeartbeat(now)
+                                            .build());
+                        }
+                        nodeRepository.deleteStale(now.minus(nodeTimeout().multipliedBy(10)));
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Scheduler heartbeat failed for {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /** 살아있는 노드 ID (자기 자신 포함, 정렬) */
+    public List<String> liveNodeIds() {
+        TreeSet<String> nodes =
+                new TreeSet<>(
+                        nodeRepository.findLiveNodeIds(LocalDateTime.now().minus(nodeTimeout())));
+        nodes.add(nodeId);
+        return List.copyOf(nodes);
+    }
+
+    /**
+     * 현재 노드의 샤드 (현재 멤버십 에포크의 노드 목록에서의 위치)
+     *
+     * @return 에포크 시작 뒤에 합류해 아직 멤버가 아니면 empty - 그동안 이 노드의 몫은 기존 멤버들이 처리한다
+     */
+    public Optional<JobShard> currentShard() {
+        long timeoutMs = nodeTimeout().toMillis();
+        LocalDateTime epochStart =
+                LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(System.currentTimeMillis() / timeoutMs * timeoutMs),
+                        ZoneId.systemDefault());
+        List<String> members =
+                nodeRepository.findMemberNodeIds(epochStart, epochStart.minus(nodeTimeout()));
+        int index = members.indexOf(nodeId);
+        return index < 0 ? Optional.empty() : Optional.of(new JobShard(index, members.size()));
+    }
+
+    /**
+     * 리스 획득 시도. 리스 행이 없으면 만들고 다시 시도한다.
+     *
+     * @return 획득 여부 (DB 오류 시에도 false - 중복 실행보다 한 번 건너뛰는 쪽을 택한다)
+     */
+    public boolean tryAcquire(String lease, LocalDateTime now, Duration lockAtMostFor) {
+        LocalDateTime until = now.plus(lockAtMostFor);
+        try {
+            if (acquire(lease, now, until)) {
+                return true;
+            }
+            if (Boolean.TRUE.equals(
+                    requiresNew.execute(status -> leaseRepository.existsById(lease)))) {
+                return false;
+            }
+            try {
+                requiresNew.executeWithoutResult(
+                        status ->
+                                leaseRepository.saveAndFlush(
+                                        SchedulerLease.builder()
+                                                .name(lease)
+                                                .lockedUntil(EPOCH)
+                                                .build()));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만든 경우 - 아래 획득 시도에서 경쟁
+            }
+            return acquire(lease, now, until);
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire scheduler lease {}: {}", lease, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean acquire(String lease, LocalDateTime now, LocalDateTime until) {
+        Integer updated =
+                requiresNew.execute(
+                        status -> leaseRepository.tryAcquire(lease, nodeId, now, until));
+        return updated != null && updated > 0;
+    }
+
+    /** 리스 반납. 획득 후 lockAtLeastFor가 지나기 전이면 그 시각까지 유지한다. */
+    public void release(String lease, LocalDateTime acquiredAt, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimum = acquiredAt.plus(lockAtLeastFor);
+        LocalDateTime until = minimum.isAfter(now) ? minimum : now;
+        try {
+            requiresNew.executeWithoutResult(
+                    status -> leaseRepository.release(lease, nodeId, until));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release scheduler lease {}: {}", lease, e.getMessage());
+        }
+    }
+
+    /** 실행 이력 저장 (실패해도 작업 결과에 영향을 주지 않음) */
+    public void recordRun(
+            String jobName,
+            JobShard shard,
+            LocalDateTime startedAt,
+            long durationMs,
+            Throwable failure) {
+        JobRunHistory run =
+                JobRunHistory.builder()
+                        .jobName(jobName)
+                        .nodeId(nodeId)
+                        .shardIndex(shard.index())
+                        .shardCount(shard.count())
+                        .startedAt(startedAt)
+                        .finishedAt(startedAt.plus(Duration.ofMillis(durationMs)))
+                        .durationMs(durationMs)
+                        .status(failure == null ? RunStatus.SUCCESS : RunStatus.FAILED)
+                        .errorMessage(failure == null ? null : truncate(failure.toString()))
+                        .build();
+        try {
+            requiresNew.executeWithoutResult(status -> historyRepository.save(run));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record run of {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    /** 오래된 실행 이력 정리 (매일 새벽 4시, 클러스터에서 한 노드만) */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void cleanupHistory() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!tryAcquire(HISTORY_CLEANUP_LEASE, now, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            Integer deleted =
+                    requiresNew.execute(
+                            status ->
+                                    historyRepository.deleteOlderThan(
+                                            now.minusDays(historyRetentionDays)));
+            log.info(
+                    "Deleted {} scheduler job runs older than {} days",
+                    deleted,
+                    historyRetentionDays);
+        } finally {
+            release(HISTORY_CLEANUP_LEASE, now, Duration.ofMinutes(1));
+        }
+    }
+
+    /** 노드 목록과 작업별 실행 통계 */
+    public SchedulerStatusDto getStatus(int hours) {
+        LocalDateTime since = LocalDateTime.now().minusHours(hours);
+        List<SchedulerStatusDto.JobStats> jobs =
+                historyRepository.summarizeSince(since).stream()
+                        .map(
+                                row ->
+                                        SchedulerStatusDto.JobStats.builder()
+                                                .jobName((String) row[0])
+                                                .runs(((Number) row[1]).longValue())
+                                                .failures(
+                                                        row[2] != null
+                                                                ? ((Number) row[2]).longValue()
+                                                                : 0)
+                                                .avgDurationMs(
+                                                        row[3] != null
+                                                                ? ((Number) row[3]).doubleValue()
+                                                                : null)
+                                                .maxDurationMs(
+                                                        row[4] != null
+                                                                ? ((Number) row[4]).longValue()
+                                                                : null)
+                                                .lastStartedAt((LocalDateTime) row[5])
+                                                .build())
+                        .toList();
+        return SchedulerStatusDto.builder()
+                .nodeId(nodeId)
+                .liveNodes(liveNodeIds())
+                .since(since)
+                .jobs(jobs)
+                .build();
+    }
+
+    /** 최근 실행 이력 (jobName이 없으면 전체) */
+    public List<SchedulerStatusDto.JobRun> getRecentRuns(String jobName, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, 500)));
+        List<JobRunHistory> runs =
+                jobName == null || jobName.isBlank()
+                        ? historyRepository.findAllByOrderByStartedAtDesc(page)
+                        : historyRepository.findByJobNameOrderByStartedAtDesc(jobName, page);
+        return runs.stream()
+                .map(
+                        run ->
+                                SchedulerStatusDto.JobRun.builder()
+                                        .id(run.getId())
+                                        .jobName(run.getJobName())
+                                        .nodeId(run.getNodeId())
+                                        .shardIndex(run.getShardIndex())
+                                        .shardCount(run.getShardCount())
+                                        .startedAt(run.getStartedAt())
+                                        .durationMs(run.getDurationMs())
+                                        .status(run.getStatus().name())
+                                        .errorMessage(run.getErrorMessage())
+                                        .build())
+                .toList();
+    }
+
+    private Duration nodeTimeout() {
+        return Duration.ofMillis(nodeTimeoutMs);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= JobRunHistory.MAX_ERROR_LENGTH
+                ? message
+                : message.substring(0, JobRunHistory.MAX_ERROR_LENGTH);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
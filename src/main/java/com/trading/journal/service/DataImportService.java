@@ -48,6 +48,8 @@ public class DataImportService {
                         .failureCount(0)
                         .errors(new ArrayList<>())
                         .build();
+        // 포지션은 행마다가 아니라 가져오기가 끝난 뒤 계좌/종목별로 한 번씩 반영
+        List<Long> importedIds = new ArrayList<>();
 
         try {
             RFC4180Parser parser = new RFC4180ParserBuilder().build();
@@ -69,7 +71,8 @@ public class DataImportService {
                 try {
                     ImportTransactionDto importDto = parseCSVLine(line);
                     TransactionDto transactionDto = convertToTransactionDto(importDto);
-                    transactionService.createTransaction(transactionDto);
+                    importedIds.add(
+                            transactionService.createTransaction(transactionDto, true).getId());
                     result.setSuccessCount(result.getSuccessCount() + 1);
                 } catch (Exception e) {
                     result.setFailureCount(result.getFailureCount() + 1);
@@ -89,6 +92,8 @@ public class DataImportService {
         } catch (Exception e) {
             log.error("Failed to read CSV file", e);
             throw new RuntimeException("CSV 파일 읽기 실패: " + e.getMessage());
+        } finally {
+            transactionService.rebuildPositions(importedIds);
         }
 
         return result;
@@ -102,6 +107,8 @@ public class DataImportService {
                         .failureCount(0)
                         .errors(new ArrayList<>())
                         .build();
+        // 포지션은 행마다가 아니라 가져오기가 끝난 뒤 계좌/종목별로 한 번씩 반영
+        List<Long> importedIds = new ArrayList<>();
 
         try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
             Sheet sheet = workbook.getSheetAt(0);
@@ -115,7 +122,8 @@ public class DataImportService {
                 try {
                     ImportTransactionDto importDto = parseExcelRow(row);
                     TransactionDto transactionDto = convertToTransactionDto(importDto);
-                    transactionService.createTransaction(transactionDto);
+                    importedIds.add(
+                            transactionService.createTransaction(transactionDto, true).getId());
                     result.setSuccessCount(result.getSuccessCount() + 1);
                 } catch (Exception e) {
                     result.setFailureCount(result.getFailureCount() + 1);
@@ -133,6 +141,8 @@ public class DataImportService {
         } catch (Exception e) {
             log.error("Failed to read Excel file", e);
             throw new RuntimeException("Excel 파일 읽기 실패: " + e.getMessage());
+        } finally {
+            transactionService.rebuildPositions(importedIds);
         }
 
         return result;
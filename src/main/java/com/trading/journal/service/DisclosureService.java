@@ -7,6 +7,7 @@ import com.trading.journal.entity.Stock;
 import com.trading.journal.repository.DisclosureRepository;
 import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.StockRepository;
+import com.trading.journal.scheduler.JobShard;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -126,10 +127,13 @@ public class DisclosureService {
     /** 포트폴리오 전체 공시 동기화 */
     public void syncAllPortfolioDisclosures() {
         // FETCH JOIN으로 Stock 함께 로딩하여 N+1 쿼리 방지
+        // 클러스터 샤드 작업으로 실행되면 이 노드 몫의 종목만 동기화
+        JobShard shard = JobShard.current();
         List<Stock> portfolioStocks =
                 portfolioRepository.findAllWithStockAndAccount().stream()
                         .map(portfolio -> portfolio.getStock())
                         .distinct()
+                        .filter(stock -> shard.owns(stock.getSymbol()))
                         .collect(Collectors.toList());
 
         for (Stock stock : portfolioStocks) {
@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +29,7 @@ public class DividendService {
     private final DividendRepository dividendRepository;
     private final StockRepository stockRepository;
     private final PortfolioAnalysisService portfolioAnalysisService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @CacheEvict(value = "dividend", allEntries = true)
     public DividendDto createDividend(DividendDto dto) {
@@ -60,6 +62,7 @@ public class DividendService {
                         .build();
 
         dividend = dividendRepository.save(dividend);
+        publishChange(dividend);
         log.info("Created dividend: {} for stock: {}", dividend.getId(), stock.getSymbol());
 
         return convertToDto(dividend);
@@ -104,6 +107,7 @@ public class DividendService {
         if (dto.getMemo() != null) dividend.setMemo(dto.getMemo());
 
         dividend = dividendRepository.save(dividend);
+        publishChange(dividend);
         log.info("Updated dividend: {}", dividend.getId());
 
         return convertToDto(dividend);
@@ -111,10 +115,18 @@ public class DividendService {
 
     @CacheEvict(value = "dividend", allEntries = true)
     public void deleteDividend(Long id) {
+        dividendRepository.findById(id).ifPresent(this::publishChange);
         dividendRepository.deleteById(id);
         log.info("Deleted dividend: {}", id);
     }
 
+    /** 배당 수익 목표가 재평가되도록 변경을 알린다 */
+    private void publishChange(Dividend dividend) {
+        eventPublisher.publishEvent(
+                new PortfolioChangedEvent(
+                        dividend.getAccount() != null ? dividend.getAccount().getId() : null));
+    }
+
     @Transactional(readOnly = true)
     public DividendDto getDividend(Long id) {
         Dividend dividend =
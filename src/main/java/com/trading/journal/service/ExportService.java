@@ -44,6 +44,11 @@ public class ExportService {
     private static final String SHEET_PORTFOLIO_SUMMARY = "포트폴리오 요약";
     private static final String SHEET_HOLDINGS = "보유 종목";
     private static final String SHEET_GOALS = "목표 현황";
+    private static final String SHEET_CHARTS = "차트";
+
+    // 차트 시트 배치 (이미지 1개당 점유하는 행 수)
+    private static final int CHART_ROW_SPAN = 22;
+    private static final int CHART_COL_SPAN = 10;
 
     // 헤더 배열
     private static final String[] HEADERS_TRANSACTIONS = {
@@ -145,8 +150,8 @@ public class ExportService {
         try (Workbook workbook = new XSSFWorkbook()) {
             ExcelStyles styles = createExcelStyles(workbook);
 
-            createPortfolioSummarySheet(workbook, styles);
-            createHoldingsSheet(workbook, styles);
+            createPortfolioSummarySheet(workbook, styles, null);
+            createHoldingsSheet(workbook, styles, null);
 
             byte[] result = writeWorkbook(workbook);
             log.debug("포트폴리오 분석 Excel 내보내기 완료 - 크기: {} bytes", result.length);
@@ -158,9 +163,10 @@ public class ExportService {
         }
     }
 
-    private void createPortfolioSummarySheet(Workbook workbook, ExcelStyles styles) {
+    private void createPortfolioSummarySheet(
+            Workbook workbook, ExcelStyles styles, Long accountId) {
         Sheet sheet = workbook.createSheet(SHEET_PORTFOLIO_SUMMARY);
-        PortfolioSummaryDto summary = portfolioAnalysisService.getPortfolioSummary();
+        PortfolioSummaryDto summary = getPortfolioSummary(accountId);
 
         int rowNum = 0;
 
@@ -190,9 +196,9 @@ public class ExportService {
         autoSizeColumns(sheet, 2);
     }
 
-    private void createHoldingsSheet(Workbook workbook, ExcelStyles styles) {
+    private void createHoldingsSheet(Workbook workbook, ExcelStyles styles, Long accountId) {
         Sheet sheet = workbook.createSheet(SHEET_HOLDINGS);
-        PortfolioSummaryDto summary = portfolioAnalysisService.getPortfolioSummary();
+        PortfolioSummaryDto summary = getPortfolioSummary(accountId);
         List<PortfolioDto> holdings =
                 summary.getHoldings() != null ? summary.getHoldings() : List.of();
 
@@ -247,9 +253,9 @@ public class ExportService {
         try (Workbook workbook = new XSSFWorkbook()) {
             ExcelStyles styles = createExcelStyles(workbook);
 
-            createPortfolioSummarySheet(workbook, styles);
-            createHoldingsSheet(workbook, styles);
-            createTransactionsSheet(workbook, styles, startDate, endDate);
+            createPortfolioSummarySheet(workbook, styles, null);
+            createHoldingsSheet(workbook, styles, null);
+            createTransactionsSheet(workbook, styles, null, startDate, endDate);
             createGoalsSheet(workbook, styles);
 
             byte[] result = writeWorkbook(workbook);
@@ -262,10 +268,66 @@ public class ExportService {
         }
     }
 
+    /**
+     * 기간 리포트 Excel 내보내기 (종합 리포트 + 차트 시트)
+     *
+     * @param accountId 리포트 대상 계좌 (null이면 전체 계좌)
+     * @param charts PDF 리포트와 공유하는 차트 렌더링 결과
+     */
+    public byte[] exportPeriodReportToExcel(
+            Long accountId, LocalDate startDate, LocalDate endDate, ReportCharts charts) {
+        log.debug("기간 리포트 Excel 내보내기 시작 - 계좌: {}, 기간: {} ~ {}", accountId, startDate, endDate);
+
+        try (Workbook workbook = new XSSFWorkbook()) {
+            ExcelStyles styles = createExcelStyles(workbook);
+
+            createPortfolioSummarySheet(workbook, styles, accountId);
+            createHoldingsSheet(workbook, styles, accountId);
+            createTransactionsSheet(workbook, styles, accountId, startDate, endDate);
+            createChartsSheet(workbook, charts);
+
+            byte[] result = writeWorkbook(workbook);
+            log.debug("기간 리포트 Excel 내보내기 완료 - 크기: {} bytes", result.length);
+            return result;
+
+        } catch (IOException e) {
+            log.error("기간 리포트 Excel 내보내기 실패", e);
+            throw new ExportException(EXPORT_TYPE_EXCEL, "기간 리포트", e.getMessage(), e);
+        }
+    }
+
+    /** 렌더링된 PNG 차트를 세로로 배치 */
+    private void createChartsSheet(Workbook workbook, ReportCharts charts) {
+        Map<String, byte[]> images = charts.snapshot();
+        if (images.isEmpty()) {
+            return;
+        }
+
+        Sheet sheet = workbook.createSheet(SHEET_CHARTS);
+        Drawing<?> drawing = sheet.createDrawingPatriarch();
+        CreationHelper helper = workbook.getCreationHelper();
+
+        int row = 0;
+        for (byte[] png : images.values()) {
+            int pictureIndex = workbook.addPicture(png, Workbook.PICTURE_TYPE_PNG);
+            ClientAnchor anchor = helper.createClientAnchor();
+            anchor.setCol1(0);
+            anchor.setRow1(row);
+            anchor.setCol2(CHART_COL_SPAN);
+            anchor.setRow2(row + CHART_ROW_SPAN - 1);
+            drawing.createPicture(anchor, pictureIndex);
+            row += CHART_ROW_SPAN;
+        }
+    }
+
     private void createTransactionsSheet(
-            Workbook workbook, ExcelStyles styles, LocalDate startDate, LocalDate endDate) {
+            Workbook workbook,
+            ExcelStyles styles,
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate) {
         Sheet sheet = workbook.createSheet(SHEET_TRANSACTIONS);
-        List<Transaction> transactions = getTransactions(startDate, endDate);
+        List<Transaction> transactions = getTransactions(accountId, startDate, endDate);
 
         createHeaderRow(sheet, HEADERS_TRANSACTIONS_SHORT, styles.header());
 
@@ -457,11 +519,28 @@ public class ExportService {
 
     // ==================== 유틸리티 메서드 ====================
 
+    private PortfolioSummaryDto getPortfolioSummary(Long accountId) {
+        return accountId == null
+                ? portfolioAnalysisService.getPortfolioSummary()
+                : portfolioAnalysisService.getPortfolioSummary(accountId);
+    }
+
     private List<Transaction> getTransactions(LocalDate startDate, LocalDate endDate) {
+        return getTransactions(null, startDate, endDate);
+    }
+
+    private List<Transaction> getTransactions(
+            Long accountId, LocalDate startDate, LocalDate endDate) {
         if (startDate != null && endDate != null) {
             LocalDateTime startDateTime = startDate.atStartOfDay();
             LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-            return transactionRepository.findByDateRange(startDateTime, endDateTime);
+            return accountId == null
+                    ? transactionRepository.findByDateRange(startDateTime, endDateTime)
+                    : transactionRepository.findByAccountIdAndDateRange(
+                            accountId, startDateTime, endDateTime);
+        }
+        if (accountId != null) {
+            return transactionRepository.findByAccountIdWithStock(accountId);
         }
         // FETCH JOIN으로 Stock 함께 로딩하여 N+1 쿼리 방지
         return transactionRepository.findAllWithStock();
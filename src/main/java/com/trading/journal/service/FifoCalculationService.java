@@ -2,6 +2,7 @@ package com.trading.journal.service;
 
 import com.trading.journal.dto.FifoResult;
 import com.trading.journal.dto.FifoResult.BuyConsumption;
+import com.trading.journal.entity.RealizedGainSummary;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.entity.TransactionType;
 import com.trading.journal.repository.TransactionRepository;
@@ -10,10 +11,16 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /** FIFO(선입선출) 방식 실현 손익 계산 서비스 */
@@ -23,6 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class FifoCalculationService {
 
     private final TransactionRepository transactionRepository;
+    private final TaxLotLedgerService taxLotLedgerService;
+
+    /** 이 노드에서 조회 전 원장 확인을 마친 연도 */
+    private final Set<Integer> checkedLedgerYears = ConcurrentHashMap.newKeySet();
 
     /**
      * FIFO 방식으로 매도 거래의 실현 손익 계산
@@ -129,6 +140,9 @@ public class FifoCalculationService {
         modifiedBuyTransactions.add(sellTransaction);
         transactionRepository.saveAll(modifiedBuyTransactions);
 
+        // 세금 로트 원장에 매도 로트 기록
+        taxLotLedgerService.recordSell(sellTransaction, result.getConsumptions());
+
         log.debug(
                 "FIFO 적용 완료 - 매도 ID: {}, 실현손익: {}, 원가: {}, 수정된 매수거래: {}건",
                 sellTransaction.getId(),
@@ -172,11 +186,15 @@ public class FifoCalculationService {
         }
 
         // 인메모리 FIFO 계산 (DB 재조회 없이)
-        calculateFifoInMemory(buyTransactions, sellTransactions);
+        List<List<BuyConsumption>> consumptions =
+                calculateFifoInMemory(buyTransactions, sellTransactions);
 
         // 모든 거래 한 번에 저장
         transactionRepository.saveAll(allTransactions);
 
+        // 세금 로트 원장 교체
+        taxLotLedgerService.replaceAccountStock(accountId, stockId, sellTransactions, consumptions);
+
         log.info(
                 "FIFO 재계산 완료 - Account: {}, Stock: {}, 매수: {}건, 매도: {}건",
                 accountId,
@@ -185,18 +203,24 @@ public class FifoCalculationService {
                 sellTransactions.size());
     }
 
-    /** 인메모리 FIFO 계산 (DB 재조회 없이 최적화) */
-    private void calculateFifoInMemory(
+    /**
+     * 인메모리 FIFO 계산 (DB 재조회 없이 최적화, 벤치마크에서 직접 호출)
+     *
+     * @return 매도별 매수 소진 내역 (sellTransactions와 같은 순서)
+     */
+    List<List<BuyConsumption>> calculateFifoInMemory(
             List<Transaction> buyTransactions, List<Transaction> sellTransactions) {
         // 매수 거래의 잔여 수량 추적용 Map
-        java.util.Map<Long, BigDecimal> remainingQuantities = new java.util.HashMap<>();
+        Map<Long, BigDecimal> remainingQuantities = new HashMap<>();
         for (Transaction buy : buyTransactions) {
             remainingQuantities.put(buy.getId(), buy.getQuantity());
         }
 
+        List<List<BuyConsumption>> consumptionsBySell = new ArrayList<>(sellTransactions.size());
         for (Transaction sellTx : sellTransactions) {
             BigDecimal remainingToSell = sellTx.getQuantity();
             BigDecimal totalCostBasis = BigDecimal.ZERO;
+            List<BuyConsumption> consumptions = new ArrayList<>();
 
             // FIFO 순서로 매수 거래 소진
             for (Transaction buyTx : buyTransactions) {
@@ -222,6 +246,12 @@ public class FifoCalculationService {
 
                 totalCostBasis = totalCostBasis.add(consumedCost);
                 remainingToSell = remainingToSell.subtract(consumed);
+                consumptions.add(
+                        BuyConsumption.builder()
+                                .buyTransaction(buyTx)
+                                .consumedQuantity(consumed)
+                                .consumedCost(consumedCost)
+                                .build());
 
                 // 잔여 수량 업데이트
                 BigDecimal newRemaining = available.subtract(consumed).max(BigDecimal.ZERO);
@@ -234,6 +264,77 @@ public class FifoCalculationService {
             BigDecimal realizedPnl = sellAmount.subtract(totalCostBasis);
             sellTx.setRealizedPnl(realizedPnl);
             sellTx.setCostBasis(totalCostBasis);
+            consumptionsBySell.add(consumptions);
+        }
+        return consumptionsBySell;
+    }
+
+    /**
+     * 연도 세금 원장 동기화
+     *
+     * <p>계좌별로 해당 연도 매도 건수가 원장 요약과 다르거나, 연말 이전 거래 중 요약 갱신 이후 수정된 거래가 있으면 그 계좌에서 매도가 있었던 종목을 재계산한다.
+     * 원장 도입 이전 거래의 백필과 원장 밖에서 바뀐 거래의 보정도 이 경로로 처리된다. {@link
+     * com.trading.journal.scheduler.TaxLedgerScheduler}가 주기적으로, 조회 경로는 {@link #ensureLedgerSynced}로
+     * 노드당 연도별 첫 조회 때 한 번 호출한다.
+     *
+     * @return 재계산한 계좌/종목 쌍 수
+     */
+    @Transactional
+    public int syncLedgerForYear(int year) {
+        LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0);
+        LocalDateTime end = start.plusYears(1);
+
+        Map<Long, RealizedGainSummary> summaries = new HashMap<>();
+        for (RealizedGainSummary summary : taxLotLedgerService.findSummaries(year, null)) {
+            summaries.put(summary.getAccountId(), summary);
+        }
+        Map<Long, LocalDateTime> lastUpdates = new HashMap<>();
+        for (Object[] row : transactionRepository.findLastUpdateByAccountBefore(end)) {
+            lastUpdates.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        Set<Long> staleAccounts = new HashSet<>();
+        for (Object[] row : transactionRepository.countSellsByAccountBetween(start, end)) {
+            Long accountId = (Long) row[0];
+            RealizedGainSummary summary = summaries.get(accountId);
+            LocalDateTime lastUpdate = lastUpdates.get(accountId);
+            boolean stale =
+                    summary == null
+                            || ((Long) row[1]) != summary.getSellCount().longValue()
+                            || summary.getUpdatedAt() == null
+                            || (lastUpdate != null && lastUpdate.isAfter(summary.getUpdatedAt()));
+            if (stale) {
+                staleAccounts.add(accountId);
+            }
+        }
+        if (staleAccounts.isEmpty()) {
+            return 0;
+        }
+
+        int rebuilt = 0;
+        for (Object[] pair : transactionRepository.findSellAccountStockPairsBetween(start, end)) {
+            if (staleAccounts.contains((Long) pair[0])) {
+                recalculateFifoForAccountStock((Long) pair[0], (Long) pair[1]);
+                rebuilt++;
+            }
+        }
+        log.info("{}년 세금 원장 동기화: 계좌 {}개, 계좌/종목 {}쌍 재계산", year, staleAccounts.size(), rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 조회 전 원장 확인 - 이 노드에서 해당 연도를 처음 조회할 때만 {@link #syncLedgerForYear}를 별도 트랜잭션으로 실행한다. 기동 직후 스케줄러의
+     * 첫 동기화 전에도 기존 거래의 세금 계산이 비거나 틀리지 않게 하며, 이후 조회는 건너뛴다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureLedgerSynced(int year) {
+        if (!checkedLedgerYears.add(year)) {
+            return;
+        }
+        try {
+            syncLedgerForYear(year);
+        } catch (RuntimeException e) {
+            checkedLedgerYears.remove(year);
+            throw e;
         }
     }
 
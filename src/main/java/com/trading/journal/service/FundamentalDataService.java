@@ -2,14 +2,15 @@ package com.trading.journal.service;
 
 import com.trading.journal.entity.StockFundamentals;
 import com.trading.journal.repository.StockFundamentalsRepository;
-import com.trading.journal.repository.StockRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -30,8 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class FundamentalDataService {
 
     private final StockFundamentalsRepository fundamentalsRepository;
-    private final StockRepository stockRepository;
-    private final StockPriceService stockPriceService;
+    private final FundamentalsRefreshService fundamentalsRefreshService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get fundamental data by symbol.
@@ -89,54 +90,28 @@ public class FundamentalDataService {
         }
 
         toSave.setLastUpdated(LocalDate.now());
-        return fundamentalsRepository.save(toSave);
+        StockFundamentals saved = fundamentalsRepository.save(toSave);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(symbol));
+        return saved;
     }
 
     /**
      * Batch update fundamentals from external source.
      *
-     * <p>This method would typically integrate with external APIs (e.g., Yahoo Finance, Alpha
-     * Vantage) to fetch and update fundamental data for multiple stocks.
+     * <p>Runs the {@link FundamentalsRefreshService} pipeline synchronously: existing rows are
+     * loaded per chunk, quotes are fetched in parallel under the rate limiter and circuit breaker,
+     * and each chunk is written as one batch in its own transaction, so this method does not join
+     * the class-level read-only transaction. Use {@link FundamentalsRefreshService#submit} for a
+     * background job with progress.
      *
      * @param symbols List of symbols to update
      * @return Number of successfully updated stocks
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int batchUpdateFundamentals(List<String> symbols) {
         log.info("Batch updating fundamentals for {} symbols", symbols.size());
 
-        int successCount = 0;
-        for (String symbol : symbols) {
-            try {
-                Optional<StockFundamentals> existing = fundamentalsRepository.findBySymbol(symbol);
-                StockFundamentals fundamentals = existing.orElseGet(StockFundamentals::new);
-
-                fundamentals.setSymbol(symbol);
-                stockRepository
-                        .findBySymbol(symbol)
-                        .ifPresent(
-                                stock -> {
-                                    fundamentals.setCompanyName(stock.getName());
-                                    fundamentals.setSector(stock.getSector());
-                                    fundamentals.setIndustry(stock.getIndustry());
-                                });
-
-                try {
-                    BigDecimal currentPrice = stockPriceService.getCurrentPrice(symbol);
-                    if (currentPrice != null && currentPrice.compareTo(BigDecimal.ZERO) > 0) {
-                        fundamentals.setCurrentPrice(currentPrice);
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to fetch current price for symbol: {}", symbol, e);
-                }
-
-                fundamentals.setLastUpdated(LocalDate.now());
-                fundamentalsRepository.save(fundamentals);
-                successCount++;
-            } catch (Exception e) {
-                log.error("Failed to update fundamentals for symbol: {}", symbol, e);
-            }
-        }
+        int successCount = fundamentalsRefreshService.refreshNow(symbols);
 
         log.info("Successfully updated {} out of {} symbols", successCount, symbols.size());
         return successCount;
@@ -153,7 +128,9 @@ public class FundamentalDataService {
         log.info("Saving fundamentals for symbol: {}", fundamentals.getSymbol());
 
         fundamentals.setLastUpdated(LocalDate.now());
-        return fundamentalsRepository.save(fundamentals);
+        StockFundamentals saved = fundamentalsRepository.save(fundamentals);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(saved.getSymbol()));
+        return saved;
     }
 
     /**
@@ -167,6 +144,7 @@ public class FundamentalDataService {
 
         Optional<StockFundamentals> existing = fundamentalsRepository.findBySymbol(symbol);
         existing.ifPresent(fundamentalsRepository::delete);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(symbol));
     }
 
     /**
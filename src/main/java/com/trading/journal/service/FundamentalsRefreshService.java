@@ -0,0 +1,539 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.FundamentalsRefreshJobDto;
+import com.trading.journal.dto.FundamentalsRefreshJobDto.JobStatus;
+import com.trading.journal.entity.StockFundamentals;
+import com.trading.journal.exception.ResourceNotFoundException;
+import com.trading.journal.repository.StockFundamentalsRepository;
+import com.trading.journal.repository.StockRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yahoofinance.Stock;
+import yahoofinance.quotes.stock.StockDividend;
+import yahoofinance.quotes.stock.StockQuote;
+import yahoofinance.quotes.stock.StockStats;
+
+/**
+ * Batch refresh pipeline for stock fundamentals.
+ *
+ * <p>The universe is processed in chunks of {@code fundamentals.refresh.batch-size}. For each
+ * chunk, quotes and key statistics are fetched concurrently on a fixed pool, every call waiting on
+ * the {@code fundamentalsRefresh} rate limiter and going through the {@code yahooFinance} circuit
+ * breaker. The chunk is then written in one transaction: existing rows are loaded with a single
+ * {@code findBySymbolIn}, updated in place and flushed together with the new rows as a JDBC batch.
+ *
+ * <p>Jobs run one at a time on a background worker and report progress. A job pauses (instead of
+ * failing every remaining symbol) when the circuit breaker opens or a pause is requested, and can
+ * be resumed from where it stopped. The screener index is rebuilt once when a job finishes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FundamentalsRefreshService {
+
+    private static final String RATE_LIMITER = "fundamentalsRefresh";
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final StockFundamentalsRepository fundamentalsRepository;
+    private final StockRepository stockRepository;
+    private final StockPriceService stockPriceService;
+    private final StockScreenerIndex stockScreenerIndex;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${fundamentals.refresh.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${fundamentals.refresh.fetch-threads:8}")
+    private int fetchThreads = 8;
+
+    @Value("${fundamentals.refresh.job-ttl-hours:24}")
+    private long jobTtlHours = 24;
+
+    private ExecutorService jobExecutor;
+    private ExecutorService fetchExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    /** Job ID → job */
+    private final Map<String, RefreshJob> jobs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        jobExecutor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> daemon(runnable, "fundamentals-refresh-job"));
+        fetchExecutor =
+                Executors.newFixedThreadPool(
+                        fetchThreads,
+                        runnable ->
+                                daemon(
+                                        runnable,
+                                        "fundamentals-fetch-" + threadIndex.incrementAndGet()));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info(
+                "Fundamentals refresh pipeline initialized: {} fetch threads, batch size {}",
+                fetchThreads,
+                batchSize);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        for (ExecutorService executor : new ExecutorService[] {jobExecutor, fetchExecutor}) {
+            if (executor == null) {
+                continue;
+            }
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Submit a refresh job.
+     *
+     * @param symbols Symbols to refresh; empty or null refreshes every registered stock
+     * @return The new job, or the job that is already queued or running
+     */
+    public FundamentalsRefreshJobDto submit(Collection<String> symbols) {
+        evictExpiredJobs();
+        synchronized (jobs) {
+            RefreshJob active =
+                    jobs.values().stream()
+                            .filter(job -> job.status == JobStatus.QUEUED || job.isRunning())
+                            .findFirst()
+                            .orElse(null);
+            if (active != null) {
+                return toDto(active);
+            }
+
+            List<String> universe =
+                    symbols == null || symbols.isEmpty() ? allSymbols() : normalize(symbols);
+            RefreshJob job = new RefreshJob(UUID.randomUUID().toString(), universe);
+            jobs.put(job.jobId, job);
+            jobExecutor.execute(() -> run(job));
+            log.info(
+                    "Fundamentals refresh job submitted: jobId={}, {} symbols",
+                    job.jobId,
+                    universe.size());
+            return toDto(job);
+        }
+    }
+
+    /** Job progress. */
+    public FundamentalsRefreshJobDto getJob(String jobId) {
+        return toDto(findJob(jobId));
+    }
+
+    /** Request a running job to pause after the current chunk. */
+    public FundamentalsRefreshJobDto pause(String jobId) {
+        RefreshJob job = findJob(jobId);
+        job.pauseRequested = true;
+        return toDto(job);
+    }
+
+    /**
+     * Resume a paused or failed job from the first unprocessed symbol.
+     *
+     * @throws IllegalArgumentException if the job is not paused or failed
+     */
+    public FundamentalsRefreshJobDto resume(String jobId) {
+        RefreshJob job = findJob(jobId);
+        synchronized (jobs) {
+            if (job.status != JobStatus.PAUSED && job.status != JobStatus.FAILED) {
+                throw new IllegalArgumentException(
+                        "Only paused or failed jobs can be resumed: " + job.status);
+            }
+            job.status = JobStatus.QUEUED;
+            job.pauseRequested = false;
+            job.message = null;
+            jobExecutor.execute(() -> run(job));
+        }
+        log.info("Fundamentals refresh job resumed: jobId={}, cursor={}", jobId, job.cursor);
+        return toDto(job);
+    }
+
+    /**
+     * Refresh symbols synchronously on the caller thread (fetches still run in parallel).
+     *
+     * @return Number of symbols updated
+     */
+    public int refreshNow(Collection<String> symbols) {
+        RefreshJob job = new RefreshJob(UUID.randomUUID().toString(), normalize(symbols));
+        run(job);
+        return job.updated;
+    }
+
+    // === Pipeline ===
+
+    private void run(RefreshJob job) {
+        job.start();
+        try {
+            while (job.cursor < job.symbols.size()) {
+                if (job.pauseRequested) {
+                    job.pause("Paused on request");
+                    break;
+                }
+                int end = Math.min(job.cursor + batchSize, job.symbols.size());
+                List<String> chunk = job.symbols.subList(job.cursor, end);
+                List<String> deferred = processChunk(job, chunk);
+                if (!deferred.isEmpty()) {
+                    // 서킷이 열려 호출하지 못한 종목은 재개 시 먼저 처리
+                    job.defer(deferred, end);
+                    job.pause("Upstream circuit breaker is open; resume once it recovers");
+                    break;
+                }
+                job.cursor = end;
+            }
+            if (job.cursor >= job.symbols.size()) {
+                job.complete();
+            }
+        } catch (Exception e) {
+            log.error("Fundamentals refresh job failed: jobId={}", job.jobId, e);
+            job.fail(e.getMessage());
+        }
+
+        if (job.updatedSinceRefresh > 0) {
+            job.updatedSinceRefresh = 0;
+            stockScreenerIndex.refresh();
+        }
+        log.info(
+                "Fundamentals refresh job {}: jobId={}, {}/{} processed, {} updated, {} failed, {}ms",
+                job.status,
+                job.jobId,
+                job.processed,
+                job.symbols.size(),
+                job.updated,
+                job.failed,
+                Duration.between(job.startedAt, LocalDateTime.now()).toMillis());
+    }
+
+    /**
+     * Fetch and upsert one chunk.
+     *
+     * @return Symbols that were not attempted because the circuit breaker was open
+     */
+    private List<String> processChunk(RefreshJob job, List<String> chunk) {
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER);
+        Map<String, CompletableFuture<Stock>> futures = new LinkedHashMap<>();
+        for (String symbol : chunk) {
+            futures.put(
+                    symbol,
+                    CompletableFuture.supplyAsync(
+                            RateLimiter.decorateSupplier(
+                                    rateLimiter, () -> stockPriceService.fetchStockQuote(symbol)),
+                            fetchExecutor));
+        }
+
+        Map<String, Stock> fetched = new LinkedHashMap<>();
+        List<String> deferred = new ArrayList<>();
+        futures.forEach(
+                (symbol, future) -> {
+                    try {
+                        Stock quote = future.join();
+                        if (quote != null) {
+                            fetched.put(symbol, quote);
+                        } else {
+                            job.recordFailure(symbol);
+                        }
+                    } catch (CompletionException e) {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        if (cause instanceof CallNotPermittedException
+                                || cause instanceof RequestNotPermitted) {
+                            deferred.add(symbol);
+                        } else {
+                            log.warn(
+                                    "Failed to fetch fundamentals for {}: {}",
+                                    symbol,
+                                    cause.getMessage());
+                            job.recordFailure(symbol);
+                        }
+                    }
+                });
+
+        int updated = fetched.isEmpty() ? 0 : upsert(fetched);
+        job.recordChunk(chunk.size() - deferred.size(), updated);
+        return deferred;
+    }
+
+    /** Write fetched values for a chunk in one transaction. */
+    private int upsert(Map<String, Stock> fetched) {
+        Integer written =
+                transactionTemplate.execute(
+                        status -> {
+                            List<String> symbols = new ArrayList<>(fetched.keySet());
+                            Map<String, StockFundamentals> existing =
+                                    fundamentalsRepository.findBySymbolIn(symbols).stream()
+                                            .collect(
+                                                    Collectors.toMap(
+                                                            StockFundamentals::getSymbol,
+                                                            f -> f,
+                                                            (a, b) -> a));
+                            Map<String, com.trading.journal.entity.Stock> stocks =
+                                    stockRepository.findBySymbolIn(symbols).stream()
+                                            .collect(
+                                                    Collectors.toMap(
+                                                            com.trading.journal.entity.Stock
+                                                                    ::getSymbol,
+                                                            s -> s,
+                                                            (a, b) -> a));
+
+                            List<StockFundamentals> created = new ArrayList<>();
+                            LocalDate today = LocalDate.now();
+                            fetched.forEach(
+                                    (symbol, quote) -> {
+                                        StockFundamentals fundamentals = existing.get(symbol);
+                                        if (fundamentals == null) {
+                                            fundamentals =
+                                                    StockFundamentals.builder()
+                                                            .symbol(symbol)
+                                                            .build();
+                                            created.add(fundamentals);
+                                        }
+                                        applyStock(fundamentals, stocks.get(symbol));
+                                        applyQuote(fundamentals, quote);
+                                        fundamentals.setLastUpdated(today);
+                                    });
+                            // 기존 행은 변경 감지로, 신규 행은 saveAll로 커밋 시 함께 flush
+                            fundamentalsRepository.saveAll(created);
+                            return fetched.size();
+                        });
+        return written != null ? written : 0;
+    }
+
+    private void applyStock(StockFundamentals target, com.trading.journal.entity.Stock stock) {
+        if (stock == null) {
+            return;
+        }
+        copyIfNotNull(stock.getName(), target::setCompanyName);
+        copyIfNotNull(stock.getSector(), target::setSector);
+        copyIfNotNull(stock.getIndustry(), target::setIndustry);
+    }
+
+    private void applyQuote(StockFundamentals target, Stock source) {
+        if (target.getCompanyName() == null) {
+            copyIfNotNull(source.getName(), target::setCompanyName);
+        }
+
+        StockQuote quote = source.getQuote();
+        if (quote != null) {
+            if (quote.getPrice() != null && quote.getPrice().signum() > 0) {
+                target.setCurrentPrice(quote.getPrice());
+            }
+            copyIfNotNull(quote.getYearHigh(), target::setFiftyTwoWeekHigh);
+            copyIfNotNull(quote.getYearLow(), target::setFiftyTwoWeekLow);
+            if (quote.getAvgVolume() != null) {
+                target.setAverageVolume(BigDecimal.valueOf(quote.getAvgVolume()));
+            }
+        }
+
+        StockStats stats = source.getStats();
+        if (stats != null) {
+            copyIfNotNull(stats.getMarketCap(), target::setMarketCap);
+            copyIfNotNull(stats.getPe(), target::setPeRatio);
+            copyIfNotNull(stats.getPeg(), target::setPegRatio);
+            copyIfNotNull(stats.getPriceBook(), target::setPbRatio);
+            copyIfNotNull(stats.getPriceSales(), target::setPsRatio);
+            copyIfNotNull(stats.getROE(), target::setReturnOnEquity);
+            copyIfNotNull(stats.getEps(), target::setEarningsPerShare);
+            copyIfNotNull(stats.getBookValuePerShare(), target::setBookValuePerShare);
+        }
+
+        StockDividend dividend = source.getDividend();
+        if (dividend != null) {
+            copyIfNotNull(dividend.getAnnualYieldPercent(), target::setDividendYield);
+        }
+    }
+
+    private <T> void copyIfNotNull(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    // === Helpers ===
+
+    private List<String> allSymbols() {
+        return normalize(
+                stockRepository.findAll().stream()
+                        .map(com.trading.journal.entity.Stock::getSymbol)
+                        .toList());
+    }
+
+    private List<String> normalize(Collection<String> symbols) {
+        LinkedHashSet<String> unique = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (symbol != null && !symbol.isBlank()) {
+                unique.add(symbol.trim());
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    private RefreshJob findJob(String jobId) {
+        RefreshJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("펀더멘털 갱신 작업", "jobId", jobId);
+        }
+        return job;
+    }
+
+    /** Drop completed, paused and failed jobs that have not run for longer than the TTL. */
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(jobTtlHours);
+        jobs.values()
+                .removeIf(
+                        job ->
+                                (job.status == JobStatus.COMPLETED
+                                                || job.status == JobStatus.PAUSED
+                                                || job.status == JobStatus.FAILED)
+                                        && job.stoppedAt != null
+                                        && job.stoppedAt.isBefore(threshold));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private FundamentalsRefreshJobDto toDto(RefreshJob job) {
+        int total = job.symbols.size();
+        return FundamentalsRefreshJobDto.builder()
+                .jobId(job.jobId)
+                .status(job.status)
+                .totalSymbols(total)
+                .processedSymbols(job.processed)
+                .updatedCount(job.updated)
+                .failedCount(job.failed)
+                .progressPercent(
+                        total > 0 ? Math.round(job.processed * 1000.0 / total) / 10.0 : 100.0)
+                .failedSymbols(List.copyOf(job.failedSymbols))
+                .message(job.message)
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .build();
+    }
+
+    // === Internal Types ===
+
+    /** Job state; mutated only by the worker running it, volatile for progress readers. */
+    private static class RefreshJob {
+        private final String jobId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<String> failedSymbols = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile List<String> symbols;
+        private volatile int cursor;
+        private volatile int processed;
+        private volatile int updated;
+        private volatile int failed;
+        private volatile int updatedSinceRefresh;
+        private volatile boolean pauseRequested;
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile LocalDateTime stoppedAt;
+
+        RefreshJob(String jobId, List<String> symbols) {
+            this.jobId = jobId;
+            this.symbols = symbols;
+        }
+
+        boolean isRunning() {
+            return status == JobStatus.RUNNING;
+        }
+
+        void start() {
+            if (startedAt == null) {
+                startedAt = LocalDateTime.now();
+            }
+            completedAt = null;
+            stoppedAt = null;
+            status = JobStatus.RUNNING;
+        }
+
+        void recordFailure(String symbol) {
+            failed++;
+            if (failedSymbols.size() < MAX_REPORTED_FAILURES) {
+                failedSymbols.add(symbol);
+            }
+        }
+
+        void recordChunk(int attempted, int written) {
+            processed += attempted;
+            updated += written;
+            updatedSinceRefresh += written;
+        }
+
+        /** Put deferred symbols right after the processed prefix so a resume retries them. */
+        void defer(List<String> deferred, int chunkEnd) {
+            List<String> reordered = new ArrayList<>(symbols.size());
+            reordered.addAll(symbols.subList(0, cursor));
+            reordered.addAll(
+                    symbols.subList(cursor, chunkEnd).stream()
+                            .filter(symbol -> !deferred.contains(symbol))
+                            .toList());
+            int resumeAt = reordered.size();
+            reordered.addAll(deferred);
+            reordered.addAll(symbols.subList(chunkEnd, symbols.size()));
+            symbols = reordered;
+            cursor = resumeAt;
+        }
+
+        void pause(String reason) {
+            message = reason;
+            stoppedAt = LocalDateTime.now();
+            status = JobStatus.PAUSED;
+        }
+
+        void complete() {
+            completedAt = LocalDateTime.now();
+            stoppedAt = completedAt;
+            status = JobStatus.COMPLETED;
+        }
+
+        void fail(String reason) {
+            message = reason;
+            completedAt = LocalDateTime.now();
+            stoppedAt = completedAt;
+            status = JobStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.trading.journal.service;
+
+import com.trading.journal.annotation.ClusterJob;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.Goal;
+import com.trading.journal.entity.GoalStatus;
+import com.trading.journal.entity.GoalType;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.repository.AccountRepository;
+import com.trading.journal.repository.DividendRepository;
+import com.trading.journal.repository.GoalRepository;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.scheduler.JobShard;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 목표 진행률 평가 서비스.
+ *
+ * <p>포지션/배당이 바뀌면 {@link PortfolioChangedEvent}로 해당 계좌를 대기열에 넣고, 짧은 주기로 모아서 소유자(사용자)별로 한 번씩 평가한다.
+ * 소유자마다 포트폴리오 조회 한 번과 현재가 일괄 조회 한 번으로 스냅샷을 만들어 그 소유자의 목표를 모두 평가하고, 값이 바뀐 목표만 한 번에 저장한다. 계좌가 지정되지 않은
+ * 목표는 전체 포트폴리오 기준이므로 어떤 변경이든 재평가 대상이다.
+ *
+ * <p>가격 변동만으로 바뀌는 평가금액은 장 마감 후 전체 갱신({@link #scheduledRefresh()})이 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GoalProgressService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final GoalRepository goalRepository;
+    private final AccountRepository accountRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final DividendRepository dividendRepository;
+    private final StockPriceService stockPriceService;
+    private final AlertService alertService;
+    private final CacheManager cacheManager;
+
+    /** 변경 이벤트를 받고 아직 평가하지 않은 계좌 */
+    private final Set<Long> pendingAccounts = ConcurrentHashMap.newKeySet();
+
+    /** 전체 포트폴리오 기준 목표를 재평가해야 하는지 */
+    private final AtomicBoolean pendingGlobal = new AtomicBoolean();
+
+    /** 커밋된 변경만 대기열에 넣는다 (트랜잭션 밖에서 발행되면 바로 넣는다) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.accountId() != null) {
+            pendingAccounts.add(event.accountId());
+        }
+        pendingGlobal.set(true);
+    }
+
+    /** 대기열의 계좌를 소유자별로 묶어 평가 (이벤트는 노드 로컬이므로 각 노드가 자기 대기열을 처리) */
+    @Scheduled(fixedDelayString = "${goal.progress.debounce-ms:5000}")
+    public void evaluatePending() {
+        Set<Long> accountIds = new HashSet<>();
+        for (Iterator<Long> it = pendingAccounts.iterator(); it.hasNext(); ) {
+            accountIds.add(it.next());
+            it.remove();
+        }
+        boolean global = pendingGlobal.getAndSet(false);
+        if (accountIds.isEmpty() && !global) {
+            return;
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> owner : groupByOwner(accountIds).entrySet()) {
+            updated += evaluateOwner(owner.getKey(), owner.getValue());
+        }
+        if (global) {
+            updated += evaluateGlobal();
+        }
+        if (updated > 0) {
+            evictGoalSummary();
+        }
+        log.debug("목표 진행률 이벤트 평가: 계좌 {}개, 갱신 {}개", accountIds.size(), updated);
+    }
+
+    /** 장 마감 후 가격 변동을 반영하는 전체 갱신 (클러스터에서는 소유자별로 샤드를 나눠 노드마다 자기 몫만 갱신) */
+    @Scheduled(cron = "${goal.progress.refresh-cron:0 0 18 * * *}")
+    @ClusterJob(value = "goal-progress", sharded = true, lockAtMostForSeconds = 1800)
+    public void scheduledRefresh() {
+        refreshAll();
+    }
+
+    /** 모든 활성 목표 재평가 (샤드 작업 밖에서 호출하면 전체 대상) */
+    public void refreshAll() {
+        JobShard shard = JobShard.current();
+        int updated = 0;
+        Map<Long, List<Long>> owners = groupByOwner(goalRepository.findActiveGoalAccountIds());
+        for (Map.Entry<Long, List<Long>> owner : owners.entrySet()) {
+            if (shard.owns(owner.getKey())) {
+                updated += evaluateOwner(owner.getKey(), owner.getValue());
+            }
+        }
+        // 전체 포트폴리오 기준 목표는 한 샤드에서만
+        if (shard.isPrimary()) {
+            updated += evaluateGlobal();
+        }
+        if (updated > 0) {
+            evictGoalSummary();
+        }
+        log.info("목표 진행률 전체 갱신 ({}): 소유자 {}명, 갱신 {}개", shard, owners.size(), updated);
+    }
+
+    /** 목표 유형의 현재 값 (계좌가 없으면 전체 포트폴리오 기준, 자동 추적하지 않는 유형은 0) */
+    public BigDecimal getCurrentValue(GoalType goalType, Long accountId) {
+        if (!isTracked(goalType)) {
+            log.debug("GoalType {} 자동 추적 미지원 - 수동 업데이트 필요", goalType);
+            return BigDecimal.ZERO;
+        }
+        try {
+            Snapshot snapshot =
+                    accountId != null
+                            ? snapshotsByAccount(List.of(accountId)).get(accountId)
+                            : globalSnapshot();
+            return snapshot.valueFor(goalType);
+        } catch (Exception e) {
+            log.warn("현재 값 조회 실패 (goalType={}): {}", goalType, e.getMessage());
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private int evaluateOwner(Long userId, Collection<Long> accountIds) {
+        List<Goal> goals =
+                goalRepository.findByStatusAndAccountIdIn(GoalStatus.ACTIVE, accountIds).stream()
+                        .filter(goal -> isTracked(goal.getGoalType()))
+                        .toList();
+        if (goals.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Snapshot> snapshots;
+        try {
+            snapshots =
+                    snapshotsByAccount(
+                            goals.stream().map(Goal::getAccountId).collect(Collectors.toSet()));
+        } catch (Exception e) {
+            log.warn("목표 평가용 스냅샷 생성 실패 (userId={}): {}", userId, e.getMessage());
+            return 0;
+        }
+        return apply(goals, goal -> snapshots.get(goal.getAccountId()));
+    }
+
+    private int evaluateGlobal() {
+        List<Goal> goals =
+                goalRepository.findByStatusAndAccountIdIsNull(GoalStatus.ACTIVE).stream()
+                        .filter(goal -> isTracked(goal.getGoalType()))
+                        .toList();
+        if (goals.isEmpty()) {
+            return 0;
+        }
+
+        Snapshot snapshot;
+        try {
+            snapshot = globalSnapshot();
+        } catch (Exception e) {
+            log.warn("전체 포트폴리오 스냅샷 생성 실패: {}", e.getMessage());
+            return 0;
+        }
+        return apply(goals, goal -> snapshot);
+    }
+
+    /** 값이 바뀐 목표만 한 번에 저장하고, 커밋 후 마일스톤/달성 알림을 보낸다 */
+    private int apply(List<Goal> goals, Function<Goal, Snapshot> snapshotOf) {
+        List<Goal> changed = new ArrayList<>();
+        List<Runnable> alerts = new ArrayList<>();
+        for (Goal goal : goals) {
+            Snapshot snapshot = snapshotOf.apply(goal);
+            if (snapshot != null && update(goal, snapshot.valueFor(goal.getGoalType()), alerts)) {
+                changed.add(goal);
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            goalRepository.saveAll(changed);
+        } catch (OptimisticLockingFailureException e) {
+            // 동시에 수정된 목표가 있으면 이번 평가는 버리고 다음 변경/전체 갱신에서 다시 평가
+            log.warn("목표 진행률 저장 충돌로 건너뜀: {}", e.getMessage());
+            return 0;
+        }
+
+        for (Runnable alert : alerts) {
+            try {
+                alert.run();
+            } catch (Exception e) {
+                log.warn("목표 알림 생성 실패: {}", e.getMessage());
+            }
+        }
+        return changed.size();
+    }
+
+    private boolean update(Goal goal, BigDecimal value, List<Runnable> alerts) {
+        if (goal.getCurrentValue() != null && goal.getCurrentValue().compareTo(value) == 0) {
+            return false;
+        }
+
+        GoalStatus before = goal.getStatus();
+        goal.setCurrentValue(value);
+        goal.updateProgress();
+
+        boolean notify = Boolean.TRUE.equals(goal.getNotificationEnabled());
+        Long goalId = goal.getId();
+        String name = goal.getName();
+        if (before == GoalStatus.ACTIVE && goal.getStatus() == GoalStatus.COMPLETED) {
+            log.info("목표 달성: {}", name);
+            if (notify) {
+                alerts.add(() -> alertService.createGoalCompletedAlert(goalId, name));
+            }
+        } else if (goal.checkNewMilestone()) {
+            int milestone = goal.getLastMilestone();
+            log.info("목표 마일스톤 달성: {} - {}% 도달", name, milestone);
+            if (notify) {
+                alerts.add(() -> alertService.createGoalMilestoneAlert(goalId, name, milestone));
+            }
+        }
+        return true;
+    }
+
+    /** 계좌들의 포지션과 배당을 한 번에 읽어 계좌별 스냅샷을 만든다 (현재가는 한 번에 일괄 조회) */
+    private Map<Long, Snapshot> snapshotsByAccount(Collection<Long> accountIds) {
+        List<Portfolio> portfolios = portfolioRepository.findByAccountIdInWithStock(accountIds);
+        Map<String, BigDecimal> prices = currentPrices(portfolios);
+
+        Map<Long, Snapshot> snapshots = new HashMap<>();
+        for (Long accountId : accountIds) {
+            snapshots.put(accountId, Snapshot.EMPTY);
+        }
+        for (Object[] row : dividendRepository.sumNetAmountByAccountIds(accountIds)) {
+            snapshots.merge(
+                    (Long) row[0],
+                    Snapshot.EMPTY.withDividends((BigDecimal) row[1]),
+                    Snapshot::plus);
+        }
+        for (Portfolio portfolio : portfolios) {
+            snapshots.merge(
+                    portfolio.getAccount().getId(),
+                    Snapshot.position(portfolio, prices),
+                    Snapshot::plus);
+        }
+        return snapshots;
+    }
+
+    private Snapshot globalSnapshot() {
+        List<Portfolio> portfolios = portfolioRepository.findAllWithStockAndAccount();
+        Map<String, BigDecimal> prices = currentPrices(portfolios);
+
+        Snapshot snapshot = Snapshot.EMPTY.withDividends(dividendRepository.sumTotalNetAmount());
+        for (Portfolio portfolio : portfolios) {
+            snapshot = snapshot.plus(Snapshot.position(portfolio, prices));
+        }
+        return snapshot;
+    }
+
+    private Map<String, BigDecimal> currentPrices(List<Portfolio> portfolios) {
+        Set<String> symbols =
+                portfolios.stream()
+                        .map(portfolio -> portfolio.getStock().getSymbol())
+                        .collect(Collectors.toSet());
+        return symbols.isEmpty() ? Map.of() : stockPriceService.getCurrentPrices(symbols);
+    }
+
+    /** 계좌 → 소유자(userId) 묶음. 사용자가 없는 계좌(단일 사용자 데이터)는 null 소유자로 묶는다. */
+    private Map<Long, List<Long>> groupByOwner(Collection<Long> accountIds) {
+        Map<Long, List<Long>> owners = new LinkedHashMap<>();
+        if (accountIds.isEmpty()) {
+            return owners;
+        }
+        Map<Long, Long> userByAccount = new HashMap<>();
+        for (Account account : accountRepository.findAllById(accountIds)) {
+            userByAccount.put(account.getId(), account.getUserId());
+        }
+        for (Long accountId : accountIds) {
+            owners.computeIfAbsent(userByAccount.get(accountId), k -> new ArrayList<>())
+                    .add(accountId);
+        }
+        return owners;
+    }
+
+    private void evictGoalSummary() {
+        Cache cache = cacheManager.getCache("goalSummary");
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static boolean isTracked(GoalType goalType) {
+        return switch (goalType) {
+            case RETURN_RATE, TARGET_AMOUNT, SAVINGS_AMOUNT, DIVIDEND_INCOME -> true;
+            case WIN_RATE, TRADE_COUNT, MAX_DRAWDOWN_LIMIT, SHARPE_RATIO, CUSTOM -> false;
+        };
+    }
+
+    /** 목표 평가에 쓰는 소유자/계좌의 포트폴리오 값 */
+    private record Snapshot(BigDecimal investment, BigDecimal currentValue, BigDecimal dividends) {
+
+        static final Snapshot EMPTY =
+                new Snapshot(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        /** 현재가가 없으면 투자 원금으로 평가해 일시적인 시세 누락이 진행률을 떨어뜨리지 않게 한다 */
+        static Snapshot position(Portfolio portfolio, Map<String, BigDecimal> prices) {
+            BigDecimal investment =
+                    portfolio.getTotalInvestment() != null
+                            ? portfolio.getTotalInvestment()
+                            : BigDecimal.ZERO;
+            BigDecimal price = prices.get(portfolio.getStock().getSymbol());
+            BigDecimal value =
+                    price != null && portfolio.getQuantity() != null
+                            ? price.multiply(portfolio.getQuantity())
+                            : investment;
+            return new Snapshot(investment, value, BigDecimal.ZERO);
+        }
+
+        Snapshot withDividends(BigDecimal amount) {
+            return new Snapshot(
+                    investment, currentValue, amount != null ? amount : BigDecimal.ZERO);
+        }
+
+        Snapshot plus(Snapshot other) {
+            return new Snapshot(
+                    investment.add(other.investment),
+                    currentValue.add(other.currentValue),
+                    dividends.add(other.dividends));
+        }
+
+        BigDecimal valueFor(GoalType goalType) {
+            return switch (goalType) {
+                case RETURN_RATE ->
+                        investment.signum() > 0
+                                ? currentValue
+                                        .subtract(investment)
+                                        .divide(investment, 6, RoundingMode.HALF_UP)
+                                        .multiply(HUNDRED)
+                                        .setScale(4, RoundingMode.HALF_UP)
+                                : BigDecimal.ZERO;
+                case TARGET_AMOUNT -> currentValue;
+                case SAVINGS_AMOUNT -> investment;
+                case DIVIDEND_INCOME -> dividends;
+                default -> BigDecimal.ZERO;
+            };
+        }
+    }
+}
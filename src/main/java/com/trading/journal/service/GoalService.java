@@ -1,9 +1,8 @@
 package com.trading.journal.service;
 
-import com.trading.journal.dto.DividendSummaryDto;
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.dto.GoalDto;
 import com.trading.journal.dto.GoalSummaryDto;
-import com.trading.journal.dto.PortfolioSummaryDto;
 import com.trading.journal.entity.Goal;
 import com.trading.journal.entity.GoalStatus;
 import com.trading.journal.entity.GoalType;
@@ -28,10 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class GoalService {
 
     private final GoalRepository goalRepository;
-    private final PortfolioAnalysisService portfolioAnalysisService;
-    private final AnalysisService analysisService;
-    private final AlertService alertService;
-    private final DividendService dividendService;
+    private final GoalProgressService goalProgressService;
 
     /** 새 목표 생성 */
     @Transactional
@@ -60,9 +56,10 @@ public class GoalService {
                         .notes(dto.getNotes())
                         .build();
 
-        // 시작값 자동 설정 (현재 포트폴리오 상태 기반)
+        // 시작값 자동 설정 (목표 계좌, 계좌가 없으면 전체 포트폴리오 기준)
         if (goal.getStartValue() == null) {
-            goal.setStartValue(getCurrentValueForGoalType(goal.getGoalType()));
+            goal.setStartValue(
+                    goalProgressService.getCurrentValue(goal.getGoalType(), goal.getAccountId()));
         }
 
         // 현재값 설정 및 진행률 계산
@@ -260,90 +257,26 @@ public class GoalService {
                 .build();
     }
 
-    /** 모든 활성 목표 진행률 갱신 */
-    @Transactional
-    @Scheduled(cron = "0 0 * * * *") // 매시간 실행
+    /** 모든 활성 목표 진행률 수동 갱신 (평소에는 포트폴리오 변경 이벤트와 장 마감 후 갱신이 반영) */
+    @org.springframework.cache.annotation.CacheEvict(value = "goalSummary", allEntries = true)
     public void updateAllGoalsProgress() {
-        log.debug("목표 진행률 갱신 시작");
-
-        List<Goal> activeGoals = goalRepository.findByStatusOrderByDeadlineAsc(GoalStatus.ACTIVE);
-
-        for (Goal goal : activeGoals) {
-            try {
-                BigDecimal newValue = getCurrentValueForGoalType(goal.getGoalType());
-                goal.setCurrentValue(newValue);
-                goal.updateProgress();
-
-                // 마일스톤 달성 확인
-                if (goal.checkNewMilestone()) {
-                    log.info("목표 마일스톤 달성: {} - {}% 도달", goal.getName(), goal.getLastMilestone());
-                    // 알림 발송
-                    if (goal.getNotificationEnabled() != null && goal.getNotificationEnabled()) {
-                        if (goal.getLastMilestone() >= 100) {
-                            alertService.createGoalCompletedAlert(goal.getId(), goal.getName());
-                        } else {
-                            alertService.createGoalMilestoneAlert(
-                                    goal.getId(), goal.getName(), goal.getLastMilestone());
-                        }
-                    }
-                }
-
-                goalRepository.save(goal);
-            } catch (Exception e) {
-                log.warn("목표 진행률 갱신 실패: {} - {}", goal.getId(), e.getMessage());
-            }
-        }
-
-        // 기한 초과 목표 상태 업데이트
+        goalProgressService.refreshAll();
         updateOverdueGoals();
-
-        log.debug("목표 진행률 갱신 완료: {} 개", activeGoals.size());
     }
 
     /** 기한 초과 목표 상태 업데이트 */
     @Transactional
+    @Scheduled(cron = "0 5 0 * * *") // 매일 자정 직후
+    @ClusterJob("goal-overdue")
+    @org.springframework.cache.annotation.CacheEvict(value = "goalSummary", allEntries = true)
     public void updateOverdueGoals() {
         List<Goal> overdueGoals = goalRepository.findOverdueGoals(LocalDate.now());
         for (Goal goal : overdueGoals) {
             goal.setStatus(GoalStatus.FAILED);
-            goalRepository.save(goal);
             log.info("목표 기한 초과로 실패 처리: {}", goal.getName());
         }
-    }
-
-    /** 목표 유형에 따른 현재 값 조회 */
-    private BigDecimal getCurrentValueForGoalType(GoalType goalType) {
-        try {
-            PortfolioSummaryDto portfolio = portfolioAnalysisService.getPortfolioSummary();
-
-            return switch (goalType) {
-                case RETURN_RATE ->
-                        portfolio.getTotalProfitLossPercent() != null
-                                ? portfolio.getTotalProfitLossPercent()
-                                : BigDecimal.ZERO;
-                case TARGET_AMOUNT ->
-                        portfolio.getTotalCurrentValue() != null
-                                ? portfolio.getTotalCurrentValue()
-                                : BigDecimal.ZERO;
-                case SAVINGS_AMOUNT ->
-                        portfolio.getTotalInvestment() != null
-                                ? portfolio.getTotalInvestment()
-                                : BigDecimal.ZERO;
-                case DIVIDEND_INCOME -> {
-                    DividendSummaryDto dividendSummary = dividendService.getDividendSummary();
-                    yield dividendSummary.getTotalDividends() != null
-                            ? dividendSummary.getTotalDividends()
-                            : BigDecimal.ZERO;
-                }
-                case WIN_RATE, TRADE_COUNT, MAX_DRAWDOWN_LIMIT, SHARPE_RATIO -> {
-                    log.warn("GoalType {} 자동 추적 미지원 - 수동 업데이트 필요", goalType);
-                    yield BigDecimal.ZERO;
-                }
-                case CUSTOM -> BigDecimal.ZERO; // CUSTOM은 수동 관리
-            };
-        } catch (Exception e) {
-            log.warn("현재 값 조회 실패 (goalType={}): {}", goalType, e.getMessage());
-            return BigDecimal.ZERO;
+        if (!overdueGoals.isEmpty()) {
+            goalRepository.saveAll(overdueGoals);
         }
     }
 
@@ -0,0 +1,9 @@
+package com.trading.journal.service;
+
+/**
+ * 종목의 새 과거 가격(일봉)이 저장되었음을 알리는 이벤트. 커밋 후 {@link PeriodReturnService}가 받아 해당 종목의 기간 수익률을 다시 계산하고,
+ * {@link PositionVaRService}는 그 종목이 들어간 위험 모델을 버린다.
+ *
+ * @param symbol 가격이 저장된 종목 심볼
+ */
+public record HistoricalPricesSavedEvent(String symbol) {}
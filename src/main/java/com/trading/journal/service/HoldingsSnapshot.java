@@ -0,0 +1,85 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.Sector;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시세를 반영한 보유 종목 스냅샷과 섹터/업종 합계. {@link HoldingsSnapshotService}가 만들며 불변이다.
+ *
+ * @param accountId 계좌 (전체 계좌 스냅샷이면 null)
+ * @param positions 평가금액 내림차순 보유 종목 (수량 0 이하는 제외)
+ * @param sectors 섹터별 합계, 평가금액 내림차순 (섹터 미지정은 OTHER)
+ * @param industries 업종별 합계, 평가금액 내림차순 (업종 미지정은 {@link #UNCLASSIFIED_INDUSTRY})
+ * @param totalValue 총 평가금액
+ * @param totalInvestment 총 투자금액
+ */
+record HoldingsSnapshot(
+        Long accountId,
+        List<Position> positions,
+        Map<Sector, Rollup> sectors,
+        Map<String, Rollup> industries,
+        BigDecimal totalValue,
+        BigDecimal totalInvestment) {
+
+    static final String UNCLASSIFIED_INDUSTRY = "미분류";
+
+    boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * 보유 종목 한 건 (계좌별 포트폴리오 행)
+     *
+     * @param sector 종목 섹터 (미지정이면 null)
+     * @param currentPrice 현재가 (시세가 없으면 평균 매수가)
+     * @param previousClose 전일 종가 (알 수 없으면 null)
+     * @param priced 시세를 받았는지 여부
+     */
+    record Position(
+            Long accountId,
+            Long stockId,
+            String symbol,
+            String name,
+            Sector sector,
+            String industry,
+            BigDecimal quantity,
+            BigDecimal averagePrice,
+            BigDecimal totalInvestment,
+            BigDecimal currentPrice,
+            BigDecimal previousClose,
+            boolean priced) {
+
+        BigDecimal marketValue() {
+            return quantity.multiply(currentPrice);
+        }
+
+        BigDecimal unrealizedPnl() {
+            return marketValue().subtract(totalInvestment);
+        }
+
+        Sector sectorOrOther() {
+            return sector != null ? sector : Sector.OTHER;
+        }
+    }
+
+    /** 섹터/업종 합계 */
+    record Rollup(BigDecimal value, BigDecimal investment, int positions) {
+
+        static Rollup of(Position position) {
+            return new Rollup(position.marketValue(), position.totalInvestment(), 1);
+        }
+
+        Rollup plus(Rollup other) {
+            return new Rollup(
+                    value.add(other.value),
+                    investment.add(other.investment),
+                    positions + other.positions);
+        }
+
+        BigDecimal unrealizedPnl() {
+            return value.subtract(investment);
+        }
+    }
+}
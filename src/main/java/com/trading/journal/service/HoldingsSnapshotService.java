@@ -0,0 +1,283 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.service.HoldingsSnapshot.Position;
+import com.trading.journal.service.HoldingsSnapshot.Rollup;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 계좌별 보유 종목 스냅샷 서비스
+ *
+ * <p>보유 종목(수량, 평균가, 투자금액, 섹터/업종)을 계좌별로 메모리에 유지하고, 시세는 종목별로 공유한다. 섹터 분석, 트리맵, 집중도 알림, 리스크 대시보드가 같은
+ * 스냅샷을 읽으므로 포지션 조회와 시세 조회가 각각 한 번으로 줄어든다. 포지션이 바뀌면({@link PortfolioChangedEvent}) 커밋 후 해당 계좌만 다음 조회
+ * 때 다시 읽고, 시세는 TTL이 지난 종목만 일괄 조회하거나 가격 모니터가 받은 체결가로 갱신한다.
+ *
+ * <p>이벤트는 이 노드의 쓰기만 알려 주므로 보유 종목도 {@code portfolio.snapshot.max-age-seconds}가 지나면 다시 읽어 다른 노드의 변경을
+ * 반영한다. 조회는 잠금 밖에서 하고 결과만 교체하며, 조회 중에 무효화가 있었으면 그 결과는 캐시하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldingsSnapshotService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final StockPriceService stockPriceService;
+
+    @Value("${portfolio.snapshot.price-ttl-seconds:60}")
+    private long priceTtlSeconds = 60;
+
+    @Value("${portfolio.snapshot.max-age-seconds:120}")
+    private long maxAgeSeconds = 120;
+
+    @Value("${portfolio.snapshot.max-accounts:1000}")
+    private int maxAccounts = 1000;
+
+    /** 계좌 ID → 보유 종목 (계좌 없이 기록된 포지션은 null 키, LRU) */
+    private final Map<Long, Loaded> holdingsByAccount =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<Long, Loaded> eldest) {
+                            return size() > maxAccounts;
+                        }
+                    });
+
+    /** 전체 계좌 보유 종목 (전체 스냅샷용) */
+    private volatile Loaded allHoldings;
+
+    /** 무효화 횟수 - 조회 시작 후 바뀌었으면 조회 결과를 캐시하지 않는다 */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 심볼 → 시세 (계좌 간 공유, 시세가 없던 종목도 TTL 동안 다시 조회하지 않도록 기록) */
+    private final Map<String, PricePoint> prices = new ConcurrentHashMap<>();
+
+    /** 트랜잭션 밖에서 보관하는 포트폴리오 행 */
+    private record Holding(
+            Long accountId,
+            Long stockId,
+            String symbol,
+            String name,
+            Sector sector,
+            String industry,
+            BigDecimal quantity,
+            BigDecimal averagePrice,
+            BigDecimal totalInvestment) {}
+
+    private record PricePoint(BigDecimal price, BigDecimal previousClose, Instant at) {}
+
+    /** 한 번에 읽은 보유 종목과 읽은 시각 */
+    private record Loaded(List<Holding> holdings, Instant at) {}
+
+    /** 계좌 스냅샷 (null이면 전체 계좌) */
+    HoldingsSnapshot snapshot(Long accountId) {
+        if (accountId == null) {
+            return snapshotAll();
+        }
+        return build(accountId, holdingsOf(accountId));
+    }
+
+    /** 전체 계좌 스냅샷 (계좌 없이 기록된 포지션 포함) */
+    HoldingsSnapshot snapshotAll() {
+        return build(null, allHoldings());
+    }
+
+    /** 가격 피드가 받은 현재가 반영 (스냅샷에 있는 종목만, 전일 종가는 유지) */
+    public void applyPrice(String symbol, BigDecimal price) {
+        if (price == null || price.signum() <= 0) {
+            return;
+        }
+        prices.computeIfPresent(
+                symbol, (s, old) -> new PricePoint(price, old.previousClose(), Instant.now()));
+    }
+
+    /** 포지션이 바뀐 계좌는 다음 조회 때 다시 읽는다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        invalidations.incrementAndGet();
+        holdingsByAccount.remove(event.accountId());
+        allHoldings = null;
+    }
+
+    /** 종목 섹터/업종처럼 모든 계좌에 걸친 값이 바뀌면 커밋 후 전부 다시 읽는다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockSectorChanged(StockSectorChangedEvent event) {
+        invalidations.incrementAndGet();
+        holdingsByAccount.clear();
+        allHoldings = null;
+    }
+
+    private List<Holding> holdingsOf(Long accountId) {
+        Loaded cached = holdingsByAccount.get(accountId);
+        if (isFresh(cached)) {
+            return cached.holdings();
+        }
+        long generation = invalidations.get();
+        Loaded loaded =
+                new Loaded(
+                        toHoldings(portfolioRepository.findByAccountIdWithStock(accountId)),
+                        Instant.now());
+        if (invalidations.get() == generation) {
+            holdingsByAccount.put(accountId, loaded);
+        }
+        return loaded.holdings();
+    }
+
+    private List<Holding> allHoldings() {
+        Loaded cached = allHoldings;
+        if (isFresh(cached)) {
+            return cached.holdings();
+        }
+        long generation = invalidations.get();
+        Loaded loaded =
+                new Loaded(
+                        toHoldings(portfolioRepository.findAllWithStockAndAccount()),
+                        Instant.now());
+        if (invalidations.get() == generation) {
+            allHoldings = loaded;
+            // 전체 조회 결과로 계좌별 항목도 교체 (보유 종목이 없어진 계좌는 다음 조회 때 다시 읽는다)
+            Map<Long, List<Holding>> byAccount = new HashMap<>();
+            for (Holding holding : loaded.holdings()) {
+                byAccount.computeIfAbsent(holding.accountId(), k -> new ArrayList<>()).add(holding);
+            }
+            synchronized (holdingsByAccount) {
+                holdingsByAccount.clear();
+                byAccount.forEach(
+                        (accountId, holdings) ->
+                                holdingsByAccount.put(
+                                        accountId, new Loaded(List.copyOf(holdings), loaded.at())));
+            }
+        }
+        return loaded.holdings();
+    }
+
+    private boolean isFresh(Loaded loaded) {
+        return loaded != null && loaded.at().plusSeconds(maxAgeSeconds).isAfter(Instant.now());
+    }
+
+    private List<Holding> toHoldings(List<Portfolio> portfolios) {
+        return portfolios.stream()
+                .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
+                .map(
+                        p ->
+                                new Holding(
+                                        p.getAccount() != null ? p.getAccount().getId() : null,
+                                        p.getStock().getId(),
+                                        p.getStock().getSymbol(),
+                                        p.getStock().getName(),
+                                        p.getStock().getSector(),
+                                        p.getStock().getIndustry(),
+                                        p.getQuantity(),
+                                        p.getAveragePrice(),
+                                        p.getTotalInvestment()))
+                .toList();
+    }
+
+    /** TTL이 지난 종목만 한 번에 조회 (실패하면 이전 시세 유지) */
+    private void refreshPrices(Collection<String> symbols) {
+        Instant now = Instant.now();
+        Instant cutoff = now.minusSeconds(priceTtlSeconds);
+        List<String> stale =
+                symbols.stream()
+                        .filter(
+                                symbol -> {
+                                    PricePoint point = prices.get(symbol);
+                                    return point == null || point.at().isBefore(cutoff);
+                                })
+                        .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, StockPriceService.Quote> quotes = stockPriceService.getCurrentQuotes(stale);
+            for (String symbol : stale) {
+                StockPriceService.Quote quote = quotes.get(symbol);
+                PricePoint old = prices.get(symbol);
+                prices.put(
+                        symbol,
+                        quote != null
+                                ? new PricePoint(quote.price(), quote.previousClose(), now)
+                                : new PricePoint(
+                                        old != null ? old.price() : null,
+                                        old != null ? old.previousClose() : null,
+                                        now));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh prices for {} symbols: {}", stale.size(), e.getMessage());
+        }
+    }
+
+    private HoldingsSnapshot build(Long accountId, List<Holding> holdings) {
+        refreshPrices(holdings.stream().map(Holding::symbol).distinct().toList());
+
+        List<Position> positions = new ArrayList<>(holdings.size());
+        Map<Sector, Rollup> sectors = new EnumMap<>(Sector.class);
+        Map<String, Rollup> industries = new HashMap<>();
+        BigDecimal totalValue = BigDecimal.ZERO;
+        BigDecimal totalInvestment = BigDecimal.ZERO;
+        for (Holding holding : holdings) {
+            PricePoint point = prices.get(holding.symbol());
+            boolean priced = point != null && point.price() != null;
+            Position position =
+                    new Position(
+                            holding.accountId(),
+                            holding.stockId(),
+                            holding.symbol(),
+                            holding.name(),
+                            holding.sector(),
+                            holding.industry(),
+                            holding.quantity(),
+                            holding.averagePrice(),
+                            holding.totalInvestment(),
+                            priced ? point.price() : holding.averagePrice(),
+                            point != null ? point.previousClose() : null,
+                            priced);
+            positions.add(position);
+            sectors.merge(position.sectorOrOther(), Rollup.of(position), Rollup::plus);
+            industries.merge(
+                    position.industry() != null && !position.industry().isBlank()
+                            ? position.industry()
+                            : HoldingsSnapshot.UNCLASSIFIED_INDUSTRY,
+                    Rollup.of(position),
+                    Rollup::plus);
+            totalValue = totalValue.add(position.marketValue());
+            totalInvestment = totalInvestment.add(position.totalInvestment());
+        }
+        positions.sort(Comparator.comparing(Position::marketValue).reversed());
+
+        return new HoldingsSnapshot(
+                accountId,
+                List.copyOf(positions),
+                byValue(sectors),
+                byValue(industries),
+                totalValue,
+                totalInvestment);
+    }
+
+    /** 평가금액 내림차순으로 정렬한 읽기 전용 맵 */
+    private <K> Map<K, Rollup> byValue(Map<K, Rollup> rollups) {
+        Map<K, Rollup> sorted = new LinkedHashMap<>();
+        rollups.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(Rollup::value).reversed()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+}
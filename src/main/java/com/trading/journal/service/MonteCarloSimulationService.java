@@ -232,7 +232,7 @@ public class MonteCarloSimulationService {
      *
      * <p>Formula: S(t+1) = S(t) * exp((mu - sigma^2/2)*dt + sigma*sqrt(dt)*Z)
      */
-    private SimulationResult simulatePath(
+    SimulationResult simulatePath(
             BigDecimal initialValue,
             double mu,
             double sigma,
@@ -490,8 +490,7 @@ public class MonteCarloSimulationService {
     }
 
     /** Record to hold simulation path results. */
-    private record SimulationResult(
-            List<BigDecimal> path, BigDecimal finalValue, BigDecimal maxDrawdown) {}
+    record SimulationResult(List<BigDecimal> path, BigDecimal finalValue, BigDecimal maxDrawdown) {}
 
     /** Record to hold chart data. */
     private record ChartData(
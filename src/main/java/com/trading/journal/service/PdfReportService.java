@@ -47,6 +47,16 @@ public class PdfReportService {
 
     /** 포트폴리오 성과 리포트 생성 */
     public byte[] generatePortfolioReport(Long accountId, LocalDate startDate, LocalDate endDate) {
+        return generatePortfolioReport(accountId, startDate, endDate, new ReportCharts());
+    }
+
+    /**
+     * 포트폴리오 성과 리포트 생성 (차트 렌더링 결과 공유)
+     *
+     * @param charts 이미 렌더링된 차트는 재사용하고, 새로 렌더링한 차트는 여기에 보관
+     */
+    public byte[] generatePortfolioReport(
+            Long accountId, LocalDate startDate, LocalDate endDate, ReportCharts charts) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4, 40, 40, 50, 50);
             PdfWriter writer = PdfWriter.getInstance(document, baos);
@@ -55,7 +65,6 @@ public class PdfReportService {
             writer.setPageEvent(new ReportHeaderFooter());
 
             document.open();
-            initializeFonts();
 
             // 1. 표지
             addCoverPage(document, startDate, endDate);
@@ -66,11 +75,11 @@ public class PdfReportService {
             document.newPage();
 
             // 3. 포트폴리오 구성
-            addPortfolioComposition(document, accountId);
+            addPortfolioComposition(document, accountId, charts);
             document.newPage();
 
             // 4. 성과 분석
-            addPerformanceAnalysis(document, accountId, startDate, endDate);
+            addPerformanceAnalysis(document, accountId, startDate, endDate, charts);
             document.newPage();
 
             // 5. 리스크 분석
@@ -78,7 +87,7 @@ public class PdfReportService {
             document.newPage();
 
             // 6. 거래 내역 요약
-            addTradeSummary(document, accountId, startDate, endDate);
+            addTradeSummary(document, accountId, startDate, endDate, charts);
 
             document.close();
             return baos.toByteArray();
@@ -89,7 +98,9 @@ public class PdfReportService {
         }
     }
 
-    private void initializeFonts() {
+    /** 폰트는 한 번만 초기화 (리포트 작업 스레드 간 공유, 생성 중 재할당 경쟁 방지) */
+    @jakarta.annotation.PostConstruct
+    void initializeFonts() {
         try {
             // 시스템 폰트 사용 (한글 지원)
             BaseFont baseFont =
@@ -235,7 +246,38 @@ public class PdfReportService {
         document.add(kpiTable);
     }
 
-    private void addPortfolioComposition(Document document, Long accountId)
+    /**
+     * 리포트 표준 차트를 모두 렌더링 (PDF 없이 Excel 리포트만 만들 때 사용)
+     *
+     * <p>PDF 섹션과 같은 데이터·같은 렌더러를 사용하므로 어느 쪽이 먼저 실행되든 결과 이미지가 동일하다.
+     */
+    public ReportCharts renderReportCharts(
+            Long accountId, LocalDate startDate, LocalDate endDate, ReportCharts charts) {
+        try {
+            PortfolioSummaryDto summary = portfolioAnalysisService.getPortfolioSummary();
+            if (summary.getHoldings() != null && !summary.getHoldings().isEmpty()) {
+                portfolioPieChart(summary, charts);
+            }
+
+            EquityCurveDto equityCurve =
+                    analysisService.getEquityCurve(accountId, startDate, endDate);
+            if (hasEquityCurve(equityCurve)) {
+                equityCurveChart(equityCurve, charts);
+                drawdownChart(equityCurve, charts);
+            }
+
+            PeriodAnalysisDto analysis = analysisService.analyzePeriod(startDate, endDate);
+            if (analysis.getMonthlyAnalysis() != null && !analysis.getMonthlyAnalysis().isEmpty()) {
+                monthlyProfitChart(analysis, charts);
+            }
+            profitDistributionChart(analysis, charts);
+        } catch (IOException e) {
+            log.warn("리포트 차트 렌더링 실패", e);
+        }
+        return charts;
+    }
+
+    private void addPortfolioComposition(Document document, Long accountId, ReportCharts charts)
             throws DocumentException, IOException {
 
         addSectionTitle(document, "2. Portfolio Composition");
@@ -269,17 +311,7 @@ public class PdfReportService {
 
             // 파이 차트 추가
             try {
-                Map<String, BigDecimal> holdings =
-                        summary.getHoldings().stream()
-                                .collect(
-                                        Collectors.toMap(
-                                                PortfolioDto::getStockSymbol,
-                                                h ->
-                                                        h.getCurrentValue() != null
-                                                                ? h.getCurrentValue()
-                                                                : BigDecimal.ZERO));
-
-                byte[] chartBytes = chartGenerationService.generatePortfolioPieChart(holdings);
+                byte[] chartBytes = portfolioPieChart(summary, charts);
                 Image chartImage = Image.getInstance(chartBytes);
                 chartImage.setAlignment(Element.ALIGN_CENTER);
                 chartImage.scaleToFit(400, 300);
@@ -294,7 +326,11 @@ public class PdfReportService {
     }
 
     private void addPerformanceAnalysis(
-            Document document, Long accountId, LocalDate startDate, LocalDate endDate)
+            Document document,
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            ReportCharts charts)
             throws DocumentException, IOException {
 
         addSectionTitle(document, "3. Performance Analysis");
@@ -304,14 +340,10 @@ public class PdfReportService {
             EquityCurveDto equityCurve =
                     analysisService.getEquityCurve(accountId, startDate, endDate);
 
-            if (equityCurve != null
-                    && equityCurve.getLabels() != null
-                    && !equityCurve.getLabels().isEmpty()) {
+            if (hasEquityCurve(equityCurve)) {
                 addSubSectionTitle(document, "Equity Curve");
 
-                byte[] chartBytes =
-                        chartGenerationService.generateEquityCurveChart(
-                                equityCurve.getLabels(), equityCurve.getValues());
+                byte[] chartBytes = equityCurveChart(equityCurve, charts);
                 Image chartImage = Image.getInstance(chartBytes);
                 chartImage.setAlignment(Element.ALIGN_CENTER);
                 chartImage.scaleToFit(500, 300);
@@ -323,13 +355,8 @@ public class PdfReportService {
                     document.add(Chunk.NEWLINE);
                     addSubSectionTitle(document, "Daily Returns Distribution");
 
-                    // 누적 수익률을 낙폭 계산에 사용
-                    List<BigDecimal> drawdowns =
-                            calculateDrawdowns(equityCurve.getCumulativeReturns());
-                    if (!drawdowns.isEmpty()) {
-                        byte[] ddChartBytes =
-                                chartGenerationService.generateDrawdownChart(
-                                        equityCurve.getLabels(), drawdowns);
+                    byte[] ddChartBytes = drawdownChart(equityCurve, charts);
+                    if (ddChartBytes != null) {
                         Image ddChartImage = Image.getInstance(ddChartBytes);
                         ddChartImage.setAlignment(Element.ALIGN_CENTER);
                         ddChartImage.scaleToFit(500, 200);
@@ -349,13 +376,7 @@ public class PdfReportService {
         PeriodAnalysisDto analysis = analysisService.analyzePeriod(startDate, endDate);
         if (analysis.getMonthlyAnalysis() != null && !analysis.getMonthlyAnalysis().isEmpty()) {
             try {
-                Map<String, BigDecimal> monthlyProfits = new LinkedHashMap<>();
-                for (PeriodAnalysisDto.MonthlyAnalysisDto monthly : analysis.getMonthlyAnalysis()) {
-                    monthlyProfits.put(monthly.getYearMonth(), monthly.getProfit());
-                }
-
-                byte[] monthlyChartBytes =
-                        chartGenerationService.generateMonthlyProfitChart(monthlyProfits);
+                byte[] monthlyChartBytes = monthlyProfitChart(analysis, charts);
                 Image monthlyChartImage = Image.getInstance(monthlyChartBytes);
                 monthlyChartImage.setAlignment(Element.ALIGN_CENTER);
                 monthlyChartImage.scaleToFit(500, 250);
@@ -366,6 +387,86 @@ public class PdfReportService {
         }
     }
 
+    // === Shared Chart Renderers (PDF/Excel 공용) ===
+
+    private boolean hasEquityCurve(EquityCurveDto equityCurve) {
+        return equityCurve != null
+                && equityCurve.getLabels() != null
+                && !equityCurve.getLabels().isEmpty();
+    }
+
+    private byte[] portfolioPieChart(PortfolioSummaryDto summary, ReportCharts charts)
+            throws IOException {
+        return charts.get(
+                ReportCharts.PORTFOLIO_PIE,
+                () -> {
+                    Map<String, BigDecimal> holdings =
+                            summary.getHoldings().stream()
+                                    .collect(
+                                            Collectors.toMap(
+                                                    PortfolioDto::getStockSymbol,
+                                                    h ->
+                                                            h.getCurrentValue() != null
+                                                                    ? h.getCurrentValue()
+                                                                    : BigDecimal.ZERO));
+                    return chartGenerationService.generatePortfolioPieChart(holdings);
+                });
+    }
+
+    private byte[] equityCurveChart(EquityCurveDto equityCurve, ReportCharts charts)
+            throws IOException {
+        return charts.get(
+                ReportCharts.EQUITY_CURVE,
+                () ->
+                        chartGenerationService.generateEquityCurveChart(
+                                equityCurve.getLabels(), equityCurve.getValues()));
+    }
+
+    /** 낙폭 차트 (데이터가 없으면 null) */
+    private byte[] drawdownChart(EquityCurveDto equityCurve, ReportCharts charts)
+            throws IOException {
+        if (equityCurve.getDailyReturns() == null || equityCurve.getDailyReturns().isEmpty()) {
+            return null;
+        }
+        // 누적 수익률을 낙폭 계산에 사용
+        List<BigDecimal> drawdowns = calculateDrawdowns(equityCurve.getCumulativeReturns());
+        if (drawdowns.isEmpty()) {
+            return null;
+        }
+        return charts.get(
+                ReportCharts.DRAWDOWN,
+                () ->
+                        chartGenerationService.generateDrawdownChart(
+                                equityCurve.getLabels(), drawdowns));
+    }
+
+    private byte[] monthlyProfitChart(PeriodAnalysisDto analysis, ReportCharts charts)
+            throws IOException {
+        return charts.get(
+                ReportCharts.MONTHLY_PROFIT,
+                () -> {
+                    Map<String, BigDecimal> monthlyProfits = new LinkedHashMap<>();
+                    for (PeriodAnalysisDto.MonthlyAnalysisDto monthly :
+                            analysis.getMonthlyAnalysis()) {
+                        monthlyProfits.put(monthly.getYearMonth(), monthly.getProfit());
+                    }
+                    return chartGenerationService.generateMonthlyProfitChart(monthlyProfits);
+                });
+    }
+
+    /** 수익/손실 분포 차트 (거래가 없으면 null) */
+    private byte[] profitDistributionChart(PeriodAnalysisDto analysis, ReportCharts charts)
+            throws IOException {
+        int winCount = analysis.getWinCount() != null ? analysis.getWinCount() : 0;
+        int lossCount = analysis.getLossCount() != null ? analysis.getLossCount() : 0;
+        if (winCount == 0 && lossCount == 0) {
+            return null;
+        }
+        return charts.get(
+                ReportCharts.PROFIT_DISTRIBUTION,
+                () -> chartGenerationService.generateProfitDistributionChart(winCount, lossCount));
+    }
+
     /** 누적 수익률로부터 낙폭(Drawdown) 계산 */
     private List<BigDecimal> calculateDrawdowns(List<BigDecimal> cumulativeReturns) {
         List<BigDecimal> drawdowns = new ArrayList<>();
@@ -450,7 +551,11 @@ public class PdfReportService {
     }
 
     private void addTradeSummary(
-            Document document, Long accountId, LocalDate startDate, LocalDate endDate)
+            Document document,
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            ReportCharts charts)
             throws DocumentException {
 
         addSectionTitle(document, "5. Trading Summary");
@@ -477,13 +582,9 @@ public class PdfReportService {
 
         // 수익/손실 분포 차트
         try {
-            int winCount = analysis.getWinCount() != null ? analysis.getWinCount() : 0;
-            int lossCount = analysis.getLossCount() != null ? analysis.getLossCount() : 0;
-
-            if (winCount > 0 || lossCount > 0) {
+            byte[] distChartBytes = profitDistributionChart(analysis, charts);
+            if (distChartBytes != null) {
                 document.add(Chunk.NEWLINE);
-                byte[] distChartBytes =
-                        chartGenerationService.generateProfitDistributionChart(winCount, lossCount);
                 Image distChartImage = Image.getInstance(distChartBytes);
                 distChartImage.setAlignment(Element.ALIGN_CENTER);
                 distChartImage.scaleToFit(350, 250);
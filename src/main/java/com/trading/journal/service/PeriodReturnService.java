@@ -0,0 +1,288 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.HistoricalPrice;
+import com.trading.journal.entity.PeriodReturn;
+import com.trading.journal.entity.ReturnPeriod;
+import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.repository.PeriodReturnRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기간 수익률 서비스
+ *
+ * <p>종목별 1D~1Y 수익률을 period_returns 테이블에 미리 계산해 두고, 트리맵/기간 성과 위젯은 종목 수와 관계없이 한 번의 조회로 읽는다. 과거 가격이
+ * 저장되면({@link HistoricalPricesSavedEvent}) 종목을 대기열에 넣었다가 모아서 다시 계산한다. 계산은 종목별 마지막 종가(기준일)와 구간 시작일
+ * 전후 종가만 읽으므로 종목·기간 수와 관계없이 쿼리 두 번이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PeriodReturnService {
+
+    /** 구간 시작일 이전으로 찾는 거래일 범위 (주말/연휴) */
+    private static final int LOOKBACK_DAYS = 10;
+
+    /** 시작일 이전 가격이 없을 때(신규 상장 등) 이후로 찾는 범위 */
+    private static final int LOOKAHEAD_DAYS = 5;
+
+    private final HistoricalPriceRepository historicalPriceRepository;
+    private final PeriodReturnRepository periodReturnRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 가격이 저장되어 다시 계산할 종목 */
+    private final Set<String> pendingSymbols = ConcurrentHashMap.newKeySet();
+
+    /** 구간 시작 종가와 기준일(마지막 종가일) 종가 */
+    public record PriceWindow(
+            LocalDate startDate, BigDecimal startClose, LocalDate endDate, BigDecimal endClose) {
+
+        /** 수익률 (%) */
+        public BigDecimal returnPercent() {
+            return endClose.subtract(startClose)
+                    .divide(startClose, 6, RoundingMode.HALF_UP)
+                    .multiply(new BigDecimal("100"))
+                    .setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 여러 종목의 기간 수익률. 미리 계산된 값을 읽고, 아직 없는 종목만 가격 창으로 바로 계산한다(저장하지 않음).
+     *
+     * @return 심볼 → 수익률(%), 가격 데이터가 없는 종목은 빠짐
+     */
+    public Map<String, BigDecimal> getReturns(Collection<String> symbols, ReturnPeriod period) {
+        Map<String, BigDecimal> returns = new HashMap<>();
+        if (symbols.isEmpty()) {
+            return returns;
+        }
+        for (PeriodReturn row : periodReturnRepository.findByPeriodAndSymbolIn(period, symbols)) {
+            returns.put(row.getSymbol(), row.getReturnPercent().setScale(2, RoundingMode.HALF_UP));
+        }
+        List<String> missing =
+                symbols.stream().filter(s -> !returns.containsKey(s)).distinct().toList();
+        if (!missing.isEmpty()) {
+            getPriceWindows(missing, List.of(period))
+                    .forEach(
+                            (symbol, windows) ->
+                                    returns.put(symbol, windows.get(period).returnPercent()));
+        }
+        return returns;
+    }
+
+    /**
+     * 여러 종목·기간의 가격 창 일괄 조회. 종목별 마지막 종가를 한 번, 각 구간 시작일 전후 날짜의 종가를 한 번 읽는다. 시작 종가는 시작일 당일 또는 직전 종가이며,
+     * 그 이전 데이터가 없으면 시작일 이후 첫 종가를 쓴다.
+     *
+     * @return 심볼 → 기간 → 가격 창 (데이터가 없는 조합은 빠짐)
+     */
+    public Map<String, Map<ReturnPeriod, PriceWindow>> getPriceWindows(
+            Collection<String> symbols, Collection<ReturnPeriod> periods) {
+        if (symbols.isEmpty() || periods.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, HistoricalPrice> latest = new HashMap<>();
+        for (HistoricalPrice price : historicalPriceRepository.findLatestBySymbols(symbols)) {
+            if (price.getClosePrice() != null) {
+                latest.put(price.getSymbol(), price);
+            }
+        }
+        if (latest.isEmpty()) {
+            return Map.of();
+        }
+
+        // 기준일별로 구간 시작일 전후 날짜만 모아 한 번에 조회
+        Set<LocalDate> dates = new HashSet<>();
+        Set<LocalDate> endDates =
+                latest.values().stream()
+                        .map(HistoricalPrice::getPriceDate)
+                        .collect(Collectors.toSet());
+        for (LocalDate endDate : endDates) {
+            for (ReturnPeriod period : periods) {
+                LocalDate start = period.startDate(endDate);
+                for (int d = -LOOKBACK_DAYS; d <= LOOKAHEAD_DAYS; d++) {
+                    LocalDate date = start.plusDays(d);
+                    if (date.isBefore(endDate)) {
+                        dates.add(date);
+                    }
+                }
+            }
+        }
+        Map<String, List<HistoricalPrice>> candidates =
+                historicalPriceRepository
+                        .findBySymbolsAndPriceDates(latest.keySet(), dates)
+                        .stream()
+                        .filter(p -> p.getClosePrice() != null && p.getClosePrice().signum() > 0)
+                        .collect(Collectors.groupingBy(HistoricalPrice::getSymbol));
+
+        Map<String, Map<ReturnPeriod, PriceWindow>> windows = new HashMap<>();
+        for (HistoricalPrice end : latest.values()) {
+            List<HistoricalPrice> closes = candidates.getOrDefault(end.getSymbol(), List.of());
+            Map<ReturnPeriod, PriceWindow> bySymbol = new EnumMap<>(ReturnPeriod.class);
+            for (ReturnPeriod period : periods) {
+                LocalDate endDate = end.getPriceDate();
+                HistoricalPrice start = startClose(closes, period.startDate(endDate), endDate);
+                if (start != null) {
+                    bySymbol.put(
+                            period,
+                            new PriceWindow(
+                                    start.getPriceDate(),
+                                    start.getClosePrice(),
+                                    end.getPriceDate(),
+                                    end.getClosePrice()));
+                }
+            }
+            if (!bySymbol.isEmpty()) {
+                windows.put(end.getSymbol(), bySymbol);
+            }
+        }
+        return windows;
+    }
+
+    /** 가격이 저장된 종목은 커밋 후 대기열에 넣는다 (트랜잭션 밖에서 발행되면 바로 넣는다) */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onHistoricalPricesSaved(HistoricalPricesSavedEvent event) {
+        pendingSymbols.add(event.symbol());
+    }
+
+    /** 대기열의 종목을 모아 한 번에 재계산 (가격 동기화가 종목마다 이벤트를 내도 계산은 묶어서 한다) */
+    @Scheduled(fixedDelayString = "${period-return.refresh-delay-ms:5000}")
+    @Transactional
+    public void refreshPending() {
+        Set<String> symbols = new HashSet<>();
+        for (Iterator<String> it = pendingSymbols.iterator(); it.hasNext(); ) {
+            symbols.add(it.next());
+            it.remove();
+        }
+        if (!symbols.isEmpty()) {
+            refresh(symbols);
+        }
+    }
+
+    /**
+     * 종목들의 모든 기간 수익률을 다시 계산해 저장 (가격 데이터가 없어진 기간은 삭제)
+     *
+     * @return 저장한 행 수
+     */
+    @Transactional
+    public int refresh(Collection<String> symbols) {
+        if (symbols.isEmpty()) {
+            return 0;
+        }
+        Map<String, Map<ReturnPeriod, PriceWindow>> windows =
+                getPriceWindows(symbols, EnumSet.allOf(ReturnPeriod.class));
+
+        Map<String, Map<ReturnPeriod, PeriodReturn>> existing = new HashMap<>();
+        for (PeriodReturn row : periodReturnRepository.findBySymbolIn(symbols)) {
+            existing.computeIfAbsent(row.getSymbol(), k -> new EnumMap<>(ReturnPeriod.class))
+                    .put(row.getPeriod(), row);
+        }
+
+        List<PeriodReturn> toSave = new ArrayList<>();
+        List<PeriodReturn> toDelete = new ArrayList<>();
+        for (String symbol : new HashSet<>(symbols)) {
+            Map<ReturnPeriod, PriceWindow> bySymbol = windows.getOrDefault(symbol, Map.of());
+            Map<ReturnPeriod, PeriodReturn> rows = existing.getOrDefault(symbol, Map.of());
+            for (ReturnPeriod period : ReturnPeriod.values()) {
+                PriceWindow window = bySymbol.get(period);
+                PeriodReturn row = rows.get(period);
+                if (window == null) {
+                    if (row != null) {
+                        toDelete.add(row);
+                    }
+                    continue;
+                }
+                if (row == null) {
+                    row = PeriodReturn.builder().symbol(symbol).period(period).build();
+                }
+                row.setStartDate(window.startDate());
+                row.setStartClose(window.startClose());
+                row.setEndDate(window.endDate());
+                row.setEndClose(window.endClose());
+                row.setReturnPercent(window.returnPercent());
+                toSave.add(row);
+            }
+        }
+
+        if (!toDelete.isEmpty()) {
+            periodReturnRepository.deleteAll(toDelete);
+        }
+        if (!toSave.isEmpty()) {
+            periodReturnRepository.saveAll(toSave);
+        }
+        if (!toSave.isEmpty() || !toDelete.isEmpty()) {
+            eventPublisher.publishEvent(new PeriodReturnsRefreshedEvent(new HashSet<>(symbols)));
+        }
+        log.debug(
+                "기간 수익률 재계산: 종목 {}개, 저장 {}건, 삭제 {}건",
+                symbols.size(),
+                toSave.size(),
+                toDelete.size());
+        return toSave.size();
+    }
+
+    /** 수익률이 커밋된 뒤 트리맵 캐시를 비운다 (커밋 전에 비우면 이전 값으로 다시 채워질 수 있다) */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPeriodReturnsRefreshed(PeriodReturnsRefreshedEvent event) {
+        Cache cache = cacheManager.getCache("treemap");
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 시작일 당일/직전 종가(시작일 {@value #LOOKBACK_DAYS}일 전까지), 없으면 시작일 이후 며칠 안의 첫 종가 (closes는 날짜 오름차순). 기준일이
+     * 다른 종목과 함께 조회하면 다른 기준일의 구간 날짜도 섞여 오므로 하한을 둔다.
+     */
+    private HistoricalPrice startClose(
+            List<HistoricalPrice> closes, LocalDate startDate, LocalDate endDate) {
+        LocalDate lowerBound = startDate.minusDays(LOOKBACK_DAYS);
+        HistoricalPrice onOrBefore = null;
+        for (HistoricalPrice close : closes) {
+            if (close.getPriceDate().isBefore(lowerBound)) {
+                continue;
+            }
+            if (!close.getPriceDate().isAfter(startDate)) {
+                onOrBefore = close;
+            } else if (onOrBefore != null) {
+                break;
+            }
+        }
+        if (onOrBefore != null) {
+            return onOrBefore;
+        }
+        return closes.stream()
+                .filter(c -> c.getPriceDate().isAfter(startDate))
+                .filter(c -> !c.getPriceDate().isAfter(startDate.plusDays(LOOKAHEAD_DAYS)))
+                .filter(c -> c.getPriceDate().isBefore(endDate))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.trading.journal.service;
+
+import java.util.Set;
+
+/**
+ * 기간 수익률(period_returns)이 다시 계산되었음을 알리는 이벤트. 커밋 후 {@link PeriodReturnService}가 받아 트리맵 캐시를 비운다.
+ *
+ * @param symbols 수익률이 바뀐 종목 심볼
+ */
+public record PeriodReturnsRefreshedEvent(Set<String> symbols) {}
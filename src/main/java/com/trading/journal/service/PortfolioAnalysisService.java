@@ -3,20 +3,16 @@ package com.trading.journal.service;
 import com.trading.journal.dto.PortfolioDto;
 import com.trading.journal.dto.PortfolioSummaryDto;
 import com.trading.journal.dto.PortfolioTreemapDto;
-import com.trading.journal.entity.HistoricalPrice;
 import com.trading.journal.entity.Portfolio;
-import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.entity.ReturnPeriod;
 import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -32,16 +28,22 @@ public class PortfolioAnalysisService {
     private final PortfolioRepository portfolioRepository;
     private final TransactionRepository transactionRepository;
     private final StockPriceService stockPriceService;
-    private final HistoricalPriceRepository historicalPriceRepository;
-
-    private static final Set<String> VALID_PERIODS =
-            Set.of("1D", "1W", "1M", "MTD", "3M", "6M", "1Y");
+    private final HoldingsSnapshotService holdingsSnapshotService;
+    private final PeriodReturnService periodReturnService;
 
     @Cacheable(value = "portfolio", key = "'summary'")
     public PortfolioSummaryDto getPortfolioSummary() {
         // FETCH JOIN으로 Stock과 Account를 함께 로딩하여 N+1 쿼리 방지
-        List<Portfolio> portfolios = portfolioRepository.findAllWithStockAndAccount();
+        return buildSummary(portfolioRepository.findAllWithStockAndAccount(), null);
+    }
+
+    /** 계좌 포트폴리오 요약 (보유 종목과 실현 손익 모두 해당 계좌만) */
+    @Cacheable(value = "portfolio", key = "'summary:' + #accountId")
+    public PortfolioSummaryDto getPortfolioSummary(Long accountId) {
+        return buildSummary(portfolioRepository.findByAccountIdWithStock(accountId), accountId);
+    }
 
+    private PortfolioSummaryDto buildSummary(List<Portfolio> portfolios, Long accountId) {
         if (portfolios.isEmpty()) {
             return buildEmptySummary();
         }
@@ -93,7 +95,10 @@ public class PortfolioAnalysisService {
         }
 
         // 실현 손익 계산 - DB 집계 쿼리 사용 (인메모리 연산 대신 성능 최적화)
-        BigDecimal totalRealizedPnl = transactionRepository.sumTotalRealizedPnl();
+        BigDecimal totalRealizedPnl =
+                accountId == null
+                        ? transactionRepository.sumTotalRealizedPnl()
+                        : transactionRepository.sumTotalRealizedPnlByAccount(accountId);
 
         return PortfolioSummaryDto.builder()
                 .totalInvestment(totalInvestment)
@@ -265,21 +270,12 @@ public class PortfolioAnalysisService {
     public PortfolioTreemapDto getPortfolioTreemap(String period) {
         log.info("Getting portfolio treemap for period: {}", period);
 
-        if (!VALID_PERIODS.contains(period)) {
-            throw new IllegalArgumentException(
-                    "Invalid period: " + period + ". Valid periods: " + VALID_PERIODS);
-        }
-
-        // FETCH JOIN으로 Stock과 Account를 함께 로딩하여 N+1 쿼리 방지
-        List<Portfolio> portfolios = portfolioRepository.findAllWithStockAndAccount();
+        ReturnPeriod returnPeriod = ReturnPeriod.fromCode(period);
 
-        // 빈 포지션 필터링
-        List<Portfolio> activePortfolios =
-                portfolios.stream()
-                        .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
-                        .collect(java.util.stream.Collectors.toList());
+        // 전체 계좌 보유 종목 스냅샷 (시세 포함, 빈 포지션 제외)
+        HoldingsSnapshot holdings = holdingsSnapshotService.snapshotAll();
 
-        if (activePortfolios.isEmpty()) {
+        if (holdings.isEmpty()) {
             return PortfolioTreemapDto.builder()
                     .cells(new ArrayList<>())
                     .period(period)
@@ -289,38 +285,37 @@ public class PortfolioAnalysisService {
                     .build();
         }
 
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = calculateStartDate(period, endDate);
-
-        // 병렬로 가격 데이터 조회 (성능 최적화)
-        Map<String, BigDecimal[]> priceMap = fetchPricesInParallel(activePortfolios);
+        // 미리 계산된 기간 수익률을 보유 종목 전체에 대해 한 번에 조회
+        Map<String, BigDecimal> performances =
+                periodReturnService.getReturns(
+                        holdings.positions().stream()
+                                .map(HoldingsSnapshot.Position::symbol)
+                                .distinct()
+                                .toList(),
+                        returnPeriod);
 
         List<PortfolioTreemapDto.TreemapCell> cells = new ArrayList<>();
         BigDecimal totalInvestment = BigDecimal.ZERO;
         BigDecimal weightedPerformanceSum = BigDecimal.ZERO;
 
-        for (Portfolio portfolio : activePortfolios) {
-            String symbol = portfolio.getStock().getSymbol();
-            BigDecimal performance = calculatePeriodPerformance(symbol, startDate, endDate);
+        for (HoldingsSnapshot.Position position : holdings.positions()) {
+            String symbol = position.symbol();
+            BigDecimal performance = performances.get(symbol);
             boolean hasData = performance != null;
 
-            BigDecimal[] prices =
-                    priceMap.getOrDefault(
-                            symbol, new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
-            BigDecimal currentPrice = prices[0];
-            BigDecimal previousClose = prices[1];
-            BigDecimal priceChange = currentPrice.subtract(previousClose);
+            BigDecimal currentPrice = position.priced() ? position.currentPrice() : BigDecimal.ZERO;
+            BigDecimal priceChange =
+                    position.priced() && position.previousClose() != null
+                            ? currentPrice.subtract(position.previousClose())
+                            : BigDecimal.ZERO;
 
-            String sector =
-                    portfolio.getStock().getSector() != null
-                            ? portfolio.getStock().getSector().name()
-                            : "UNKNOWN";
+            String sector = position.sector() != null ? position.sector().name() : "UNKNOWN";
 
             PortfolioTreemapDto.TreemapCell cell =
                     PortfolioTreemapDto.TreemapCell.builder()
                             .symbol(symbol)
-                            .name(portfolio.getStock().getName())
-                            .investmentAmount(portfolio.getTotalInvestment())
+                            .name(position.name())
+                            .investmentAmount(position.totalInvestment())
                             .performancePercent(hasData ? performance : BigDecimal.ZERO)
                             .currentPrice(currentPrice)
                             .priceChange(priceChange)
@@ -330,11 +325,11 @@ public class PortfolioAnalysisService {
 
             cells.add(cell);
 
-            totalInvestment = totalInvestment.add(portfolio.getTotalInvestment());
-            if (hasData && portfolio.getTotalInvestment().compareTo(BigDecimal.ZERO) > 0) {
+            totalInvestment = totalInvestment.add(position.totalInvestment());
+            if (hasData && position.totalInvestment().compareTo(BigDecimal.ZERO) > 0) {
                 weightedPerformanceSum =
                         weightedPerformanceSum.add(
-                                performance.multiply(portfolio.getTotalInvestment()));
+                                performance.multiply(position.totalInvestment()));
             }
         }
 
@@ -353,74 +348,4 @@ public class PortfolioAnalysisService {
                 .totalPerformance(totalPerformance)
                 .build();
     }
-
-    /** 기간 문자열에서 시작일 계산 */
-    private LocalDate calculateStartDate(String period, LocalDate endDate) {
-        return switch (period) {
-            case "1D" -> endDate.minusDays(1);
-            case "1W" -> endDate.minusWeeks(1);
-            case "1M" -> endDate.minusMonths(1);
-            case "MTD" -> YearMonth.from(endDate).atDay(1);
-            case "3M" -> endDate.minusMonths(3);
-            case "6M" -> endDate.minusMonths(6);
-            case "1Y" -> endDate.minusYears(1);
-            default -> endDate.minusDays(1);
-        };
-    }
-
-    /** 특정 기간의 수익률 계산 시작일과 종료일의 종가를 비교하여 백분율 수익률 반환 */
-    private BigDecimal calculatePeriodPerformance(
-            String symbol, LocalDate startDate, LocalDate endDate) {
-        try {
-            List<HistoricalPrice> prices =
-                    historicalPriceRepository.findBySymbolAndPriceDateBetweenOrderByPriceDateAsc(
-                            symbol, startDate, endDate);
-
-            if (prices.isEmpty()) {
-                log.debug(
-                        "No historical price data for {} between {} and {}",
-                        symbol,
-                        startDate,
-                        endDate);
-                return null;
-            }
-
-            // Get start price (first available price in range or closest before startDate)
-            BigDecimal startPrice = prices.get(0).getClosePrice();
-
-            // Try to get price closer to startDate if first price is much later
-            if (prices.get(0).getPriceDate().isAfter(startDate.plusDays(3))) {
-                // If first available price is more than 3 days after startDate, try to find earlier
-                // price
-                historicalPriceRepository
-                        .findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc(
-                                symbol, startDate)
-                        .ifPresent(
-                                p ->
-                                        log.debug(
-                                                "Found earlier price for {} on {}",
-                                                symbol,
-                                                p.getPriceDate()));
-            }
-
-            // Get end price (last available price in range)
-            BigDecimal endPrice = prices.get(prices.size() - 1).getClosePrice();
-
-            if (startPrice == null
-                    || endPrice == null
-                    || startPrice.compareTo(BigDecimal.ZERO) <= 0) {
-                return null;
-            }
-
-            // Calculate percentage return: ((endPrice - startPrice) / startPrice) * 100
-            return endPrice.subtract(startPrice)
-                    .divide(startPrice, 6, RoundingMode.HALF_UP)
-                    .multiply(new BigDecimal("100"))
-                    .setScale(2, RoundingMode.HALF_UP);
-
-        } catch (Exception e) {
-            log.warn("Failed to calculate period performance for {}: {}", symbol, e.getMessage());
-            return null;
-        }
-    }
 }
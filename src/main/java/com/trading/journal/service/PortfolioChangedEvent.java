@@ -0,0 +1,8 @@
+package com.trading.journal.service;
+
+/**
+ * 포지션(평가금액/실현손익)이나 배당이 바뀌었음을 알리는 이벤트. 트랜잭션 커밋 후 {@link GoalProgressService}가 받아 해당 소유자의 목표만 재평가한다.
+ *
+ * @param accountId 변경된 계좌 (계좌 없이 기록된 포지션/배당이면 null)
+ */
+public record PortfolioChangedEvent(Long accountId) {}
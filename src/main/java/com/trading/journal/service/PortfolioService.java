@@ -8,10 +8,17 @@ import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,40 +30,33 @@ public class PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
     private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /** 신규 거래 반영. 계좌/종목의 마지막 거래 이후라면 직전 스냅샷에 증분 적용하고, 과거 날짜 거래면 해당 일자부터 재생한다. */
     @CacheEvict(value = "portfolio", allEntries = true)
     public void updatePortfolio(Transaction transaction) {
         Account account = transaction.getAccount();
         Long stockId = transaction.getStock().getId();
+        eventPublisher.publishEvent(
+                new PortfolioChangedEvent(account != null ? account.getId() : null));
 
-        // Account 기반으로 Portfolio 조회 (같은 계좌 + 같은 종목)
-        Portfolio portfolio;
         if (account != null) {
-            portfolio =
-                    portfolioRepository
-                            .findByAccountIdAndStockId(account.getId(), stockId)
-                            .orElse(
-                                    Portfolio.builder()
-                                            .account(account)
-                                            .stock(transaction.getStock())
-                                            .quantity(BigDecimal.ZERO)
-                                            .averagePrice(BigDecimal.ZERO)
-                                            .totalInvestment(BigDecimal.ZERO)
-                                            .build());
-        } else {
-            // 하위 호환성: account가 없으면 기존 방식
-            portfolio =
-                    portfolioRepository
-                            .findByStockId(stockId)
-                            .orElse(
-                                    Portfolio.builder()
-                                            .stock(transaction.getStock())
-                                            .quantity(BigDecimal.ZERO)
-                                            .averagePrice(BigDecimal.ZERO)
-                                            .totalInvestment(BigDecimal.ZERO)
-                                            .build());
+            applyIncrementally(account.getId(), stockId, transaction);
+            return;
         }
 
+        // 하위 호환성: account가 없으면 기존 방식
+        Portfolio portfolio =
+                portfolioRepository
+                        .findByStockId(stockId)
+                        .orElse(
+                                Portfolio.builder()
+                                        .stock(transaction.getStock())
+                                        .quantity(BigDecimal.ZERO)
+                                        .averagePrice(BigDecimal.ZERO)
+                                        .totalInvestment(BigDecimal.ZERO)
+                                        .build());
+
         if (transaction.getType() == TransactionType.BUY) {
             BigDecimal newTotalQuantity = portfolio.getQuantity().add(transaction.getQuantity());
             BigDecimal newTotalInvestment =
@@ -100,26 +100,20 @@ public class PortfolioService {
         portfolioRepository.save(portfolio);
     }
 
+    /** 전체 이력 재계산 (계좌가 있으면 스냅샷도 처음부터 다시 기록) */
     @CacheEvict(value = "portfolio", allEntries = true)
     public void recalculatePortfolio(Long accountId, Long stockId) {
-        List<Transaction> transactions;
-
         if (accountId != null) {
-            transactions =
-                    transactionRepository.findByAccountIdAndStockIdOrderByTransactionDateDesc(
-                            accountId, stockId);
-        } else {
-            transactions = transactionRepository.findByStockIdOrderByTransactionDateDesc(stockId);
+            replayPositions(accountId, stockId, null);
+            return;
         }
+        eventPublisher.publishEvent(new PortfolioChangedEvent(null));
+
+        List<Transaction> transactions =
+                transactionRepository.findByStockIdOrderByTransactionDateDesc(stockId);
 
         if (transactions.isEmpty()) {
-            if (accountId != null) {
-                portfolioRepository
-                        .findByAccountIdAndStockId(accountId, stockId)
-                        .ifPresent(portfolioRepository::delete);
-            } else {
-                portfolioRepository.findByStockId(stockId).ifPresent(portfolioRepository::delete);
-            }
+            portfolioRepository.findByStockId(stockId).ifPresent(portfolioRepository::delete);
             return;
         }
 
@@ -153,35 +147,14 @@ public class PortfolioService {
         }
 
         if (totalQuantity.compareTo(BigDecimal.ZERO) <= 0) {
-            if (accountId != null) {
-                portfolioRepository
-                        .findByAccountIdAndStockId(accountId, stockId)
-                        .ifPresent(portfolioRepository::delete);
-            } else {
-                portfolioRepository.findByStockId(stockId).ifPresent(portfolioRepository::delete);
-            }
+            portfolioRepository.findByStockId(stockId).ifPresent(portfolioRepository::delete);
             return;
         }
 
-        Portfolio portfolio;
-        if (accountId != null) {
-            portfolio =
-                    portfolioRepository
-                            .findByAccountIdAndStockId(accountId, stockId)
-                            .orElse(
-                                    Portfolio.builder()
-                                            .account(transactions.get(0).getAccount())
-                                            .stock(transactions.get(0).getStock())
-                                            .build());
-        } else {
-            portfolio =
-                    portfolioRepository
-                            .findByStockId(stockId)
-                            .orElse(
-                                    Portfolio.builder()
-                                            .stock(transactions.get(0).getStock())
-                                            .build());
-        }
+        Portfolio portfolio =
+                portfolioRepository
+                        .findByStockId(stockId)
+                        .orElse(Portfolio.builder().stock(transactions.get(0).getStock()).build());
 
         portfolio.setQuantity(totalQuantity);
         portfolio.setTotalInvestment(totalInvestment);
@@ -195,4 +168,173 @@ public class PortfolioService {
     public void recalculatePortfolio(Long stockId) {
         recalculatePortfolio(null, stockId);
     }
+
+    /**
+     * from 일자 이후 거래만 재생해 스냅샷과 포트폴리오를 갱신한다. from 직전 거래의 스냅샷을 시작점으로 쓰며, 스냅샷이 없는 이력(도입 이전 데이터)이거나
+     * from이 null이면 처음부터 재생한다.
+     */
+    @CacheEvict(value = "portfolio", allEntries = true)
+    public void replayPositions(Long accountId, Long stockId, LocalDateTime from) {
+        if (accountId == null) {
+            recalculatePortfolio(null, stockId);
+            return;
+        }
+        eventPublisher.publishEvent(new PortfolioChangedEvent(accountId));
+
+        Transaction anchor = null;
+        if (from != null) {
+            anchor =
+                    transactionRepository
+                            .findFirstByAccountIdAndStockIdAndTransactionDateBeforeOrderByTransactionDateDescIdDesc(
+                                    accountId, stockId, from)
+                            .orElse(null);
+            if (anchor != null && anchor.getPositionQuantity() == null) {
+                anchor = null;
+                from = null;
+            }
+        }
+
+        List<Transaction> replayed =
+                from != null
+                        ? transactionRepository
+                                .findByAccountIdAndStockIdAndTransactionDateGreaterThanEqualOrderByTransactionDateAscIdAsc(
+                                        accountId, stockId, from)
+                        : transactionRepository
+                                .findByAccountIdAndStockIdOrderByTransactionDateAscIdAsc(
+                                        accountId, stockId);
+
+        PositionState state = anchor != null ? PositionState.of(anchor) : PositionState.EMPTY;
+        for (Transaction transaction : replayed) {
+            state = state.apply(transaction);
+            state.stamp(transaction);
+        }
+        if (!replayed.isEmpty()) {
+            transactionRepository.saveAll(replayed);
+        }
+        log.debug(
+                "Replayed {} transactions for account {} stock {} from {}",
+                replayed.size(),
+                accountId,
+                stockId,
+                from);
+
+        Transaction latest = replayed.isEmpty() ? anchor : replayed.get(replayed.size() - 1);
+        savePosition(accountId, stockId, state, latest);
+    }
+
+    /** 일괄 반영: 계좌/종목별 가장 이른 거래일부터 한 번씩만 재생 */
+    @CacheEvict(value = "portfolio", allEntries = true)
+    public void replayPositions(Collection<Transaction> transactions) {
+        Map<Long, Map<Long, LocalDateTime>> earliest = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            Long accountId =
+                    transaction.getAccount() != null ? transaction.getAccount().getId() : null;
+            earliest.computeIfAbsent(accountId, k -> new LinkedHashMap<>())
+                    .merge(
+                            transaction.getStock().getId(),
+                            transaction.getTransactionDate(),
+                            (a, b) -> a.isBefore(b) ? a : b);
+        }
+        earliest.forEach(
+                (accountId, byStock) ->
+                        byStock.forEach(
+                                (stockId, from) -> replayPositions(accountId, stockId, from)));
+    }
+
+    private void applyIncrementally(Long accountId, Long stockId, Transaction transaction) {
+        if (transactionRepository.existsByAccountIdAndStockIdAndTransactionDateAfter(
+                accountId, stockId, transaction.getTransactionDate())) {
+            replayPositions(accountId, stockId, transaction.getTransactionDate());
+            return;
+        }
+
+        Optional<Transaction> previous =
+                transactionRepository
+                        .findPrecedingPositions(
+                                accountId,
+                                stockId,
+                                transaction.getTransactionDate(),
+                                transaction.getId(),
+                                PageRequest.of(0, 1))
+                        .stream()
+                        .findFirst();
+        if (previous.isPresent() && previous.get().getPositionQuantity() == null) {
+            // 스냅샷 도입 이전 이력: 한 번 전체 재생해 스냅샷을 채운다
+            replayPositions(accountId, stockId, null);
+            return;
+        }
+
+        PositionState state = previous.map(PositionState::of).orElse(PositionState.EMPTY);
+        state = state.apply(transaction);
+        state.stamp(transaction);
+        transactionRepository.save(transaction);
+        savePosition(accountId, stockId, state, transaction);
+    }
+
+    private void savePosition(
+            Long accountId, Long stockId, PositionState state, Transaction latest) {
+        Optional<Portfolio> existing =
+                portfolioRepository.findByAccountIdAndStockId(accountId, stockId);
+        if (state.quantity().compareTo(BigDecimal.ZERO) <= 0) {
+            existing.ifPresent(portfolioRepository::delete);
+            return;
+        }
+
+        Portfolio portfolio =
+                existing.orElseGet(
+                        () ->
+                                Portfolio.builder()
+                                        .account(latest.getAccount())
+                                        .stock(latest.getStock())
+                                        .build());
+        portfolio.setQuantity(state.quantity());
+        portfolio.setTotalInvestment(state.investment());
+        portfolio.setAveragePrice(
+                state.investment().divide(state.quantity(), 2, RoundingMode.HALF_UP));
+        portfolioRepository.save(portfolio);
+    }
+
+    /** 거래 반영 직후 누적 포지션 (전체 재계산과 같은 규칙으로 누적) */
+    private record PositionState(BigDecimal quantity, BigDecimal investment) {
+
+        static final PositionState EMPTY = new PositionState(BigDecimal.ZERO, BigDecimal.ZERO);
+
+        static PositionState of(Transaction snapshot) {
+            return new PositionState(
+                    snapshot.getPositionQuantity(),
+                    snapshot.getPositionInvestment() != null
+                            ? snapshot.getPositionInvestment()
+                            : BigDecimal.ZERO);
+        }
+
+        PositionState apply(Transaction transaction) {
+            if (transaction.getType() == TransactionType.BUY) {
+                BigDecimal cost =
+                        transaction
+                                .getPrice()
+                                .multiply(transaction.getQuantity())
+                                .add(
+                                        transaction.getCommission() != null
+                                                ? transaction.getCommission()
+                                                : BigDecimal.ZERO);
+                return new PositionState(
+                        quantity.add(transaction.getQuantity()), investment.add(cost));
+            }
+
+            BigDecimal remainingInvestment = investment;
+            if (quantity.compareTo(BigDecimal.ZERO) > 0
+                    && investment.compareTo(BigDecimal.ZERO) > 0) {
+                BigDecimal soldRatio =
+                        transaction.getQuantity().divide(quantity, 6, RoundingMode.HALF_UP);
+                remainingInvestment = investment.subtract(investment.multiply(soldRatio));
+            }
+            return new PositionState(
+                    quantity.subtract(transaction.getQuantity()), remainingInvestment);
+        }
+
+        void stamp(Transaction transaction) {
+            transaction.setPositionQuantity(quantity);
+            transaction.setPositionInvestment(investment);
+        }
+    }
 }
@@ -0,0 +1,276 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.PositionVaRDto;
+import com.trading.journal.entity.HistoricalPrice;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.service.VaREngine.Parametric;
+import com.trading.journal.service.VaREngine.ReturnMatrix;
+import com.trading.journal.service.VaREngine.Tail;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 포지션 단위 가격 이력 기반 VaR/ES 서비스.
+ *
+ * <p>계좌 보유 종목의 {@link HistoricalPrice} 종가로 포지션 × 날짜 수익률 행렬과 공분산을 만들어 계좌별로 하루 동안 캐시한다. 같은 날 같은 종목
+ * 구성이면 포지션 금액만 바꿔 다시 계산하므로 체결마다 호출하는 장중 리스크 체크에도 쓸 수 있다. 종목의 새 종가가 저장되면({@link
+ * HistoricalPricesSavedEvent}) 커밋 후 그 종목을 포함한 모델만 버린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PositionVaRService {
+
+    private static final BigDecimal DEFAULT_CONFIDENCE = new BigDecimal("0.95");
+    private static final BigDecimal PERCENT_MULTIPLIER = BigDecimal.valueOf(100);
+
+    private final PortfolioRepository portfolioRepository;
+    private final HistoricalPriceRepository historicalPriceRepository;
+    private final StockPriceService stockPriceService;
+    private final AccountService accountService;
+
+    @Value("${risk.var.lookback-days:500}")
+    private int lookbackDays = 500;
+
+    @Value("${risk.var.ewma-lambda:0.94}")
+    private double ewmaLambda = 0.94;
+
+    @Value("${risk.var.cache-max-entries:200}")
+    private int cacheMaxEntries = 200;
+
+    /** 계좌별 위험 모델 (기준일과 종목 구성이 맞는 동안 재사용) */
+    private final Map<Long, RiskModel> models =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<Long, RiskModel> eldest) {
+                            return size() > cacheMaxEntries;
+                        }
+                    });
+
+    /**
+     * 현재 보유 포지션의 VaR/ES
+     *
+     * @param accountId 계좌 ID (null이면 기본 계좌)
+     * @param confidence 신뢰수준 (null이면 0.95)
+     */
+    public PositionVaRDto calculate(Long accountId, BigDecimal confidence) {
+        Long targetAccountId = resolveAccountId(accountId);
+        return calculate(targetAccountId, currentValues(targetAccountId), confidence);
+    }
+
+    /**
+     * 주어진 포지션 금액으로 VaR/ES 계산 (가상 체결 후 포지션 평가용)
+     *
+     * @param accountId 계좌 ID (null이면 기본 계좌)
+     * @param values 종목 → 평가 금액 (매도 포지션은 음수)
+     * @param confidence 신뢰수준 (null이면 0.95)
+     */
+    public PositionVaRDto calculate(
+            Long accountId, Map<String, BigDecimal> values, BigDecimal confidence) {
+        Long targetAccountId = resolveAccountId(accountId);
+        BigDecimal level = confidence != null ? confidence : DEFAULT_CONFIDENCE;
+        if (level.compareTo(BigDecimal.ZERO) <= 0 || level.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IllegalArgumentException("신뢰수준은 0과 1 사이여야 합니다: " + level);
+        }
+
+        RiskModel model = model(targetAccountId, values.keySet());
+        ReturnMatrix matrix = model.matrix();
+        double[] exposures = new double[matrix.positions()];
+        values.forEach(
+                (symbol, value) -> exposures[model.index().get(symbol)] = value.doubleValue());
+
+        double c = level.doubleValue();
+        double[] pnl = VaREngine.pnl(exposures, matrix);
+        Tail historical = VaREngine.historical(pnl, c);
+        Tail filtered = VaREngine.filteredHistorical(pnl, c, ewmaLambda);
+        Parametric parametric = VaREngine.parametric(exposures, model.covariance(), c);
+
+        double total = 0;
+        for (double exposure : exposures) {
+            total += exposure;
+        }
+        List<PositionVaRDto.PositionContribution> positions = new ArrayList<>();
+        for (int p = 0; p < exposures.length; p++) {
+            if (exposures[p] == 0) {
+                continue;
+            }
+            positions.add(
+                    PositionVaRDto.PositionContribution.builder()
+                            .symbol(matrix.symbols()[p])
+                            .value(amount(exposures[p]))
+                            .weight(percent(exposures[p], total))
+                            .marginalVaR(
+                                    BigDecimal.valueOf(parametric.marginal()[p])
+                                            .setScale(6, RoundingMode.HALF_UP))
+                            .componentVaR(amount(parametric.component()[p]))
+                            .componentPercent(percent(parametric.component()[p], parametric.var()))
+                            .build());
+        }
+        positions.sort(
+                Comparator.comparing(PositionVaRDto.PositionContribution::getComponentVaR)
+                        .reversed());
+
+        LocalDate[] dates = matrix.dates();
+        return PositionVaRDto.builder()
+                .accountId(targetAccountId)
+                .confidenceLevel(level)
+                .portfolioValue(amount(total))
+                .observations(dates.length)
+                .historyStart(dates.length > 0 ? dates[0] : null)
+                .historyEnd(dates.length > 0 ? dates[dates.length - 1] : null)
+                .missingHistorySymbols(
+                        model.missing().stream().filter(values::containsKey).sorted().toList())
+                .historicalVaR(amount(historical.var()))
+                .historicalES(amount(historical.es()))
+                .parametricVaR(amount(parametric.var()))
+                .parametricES(amount(parametric.es()))
+                .filteredHistoricalVaR(amount(filtered.var()))
+                .filteredHistoricalES(amount(filtered.es()))
+                .positions(positions)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 보유 수량 × 현재가 (시세가 없으면 평균 매수가) */
+    public Map<String, BigDecimal> currentValues(Long accountId) {
+        List<Portfolio> portfolios =
+                portfolioRepository.findByAccountIdWithStock(accountId).stream()
+                        .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
+                        .toList();
+        Map<String, BigDecimal> prices =
+                stockPriceService.getCurrentPrices(
+                        portfolios.stream()
+                                .map(p -> p.getStock().getSymbol())
+                                .collect(Collectors.toSet()));
+
+        Map<String, BigDecimal> values = new HashMap<>();
+        for (Portfolio portfolio : portfolios) {
+            String symbol = portfolio.getStock().getSymbol();
+            BigDecimal price = prices.getOrDefault(symbol, portfolio.getAveragePrice());
+            values.merge(symbol, portfolio.getQuantity().multiply(price), BigDecimal::add);
+        }
+        return values;
+    }
+
+    /** 종목의 새 종가가 커밋되면 그 종목을 포함한 위험 모델 제거 */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onHistoricalPricesSaved(HistoricalPricesSavedEvent event) {
+        synchronized (models) {
+            models.values().removeIf(model -> model.index().containsKey(event.symbol()));
+        }
+    }
+
+    /** 오늘 기준 위험 모델. 종목이 추가되면 기존 종목과 합쳐 다시 만든다. */
+    private RiskModel model(Long accountId, Collection<String> symbols) {
+        LocalDate today = LocalDate.now();
+        RiskModel cached = models.get(accountId);
+        if (cached != null && cached.covers(today, symbols)) {
+            return cached;
+        }
+
+        TreeSet<String> universe = new TreeSet<>(symbols);
+        if (cached != null && cached.asOf().equals(today)) {
+            universe.addAll(cached.index().keySet());
+        }
+        RiskModel model = buildModel(today, universe);
+        models.put(accountId, model);
+        log.debug(
+                "Built VaR model for account {}: {} positions x {} days",
+                accountId,
+                model.matrix().positions(),
+                model.matrix().observations());
+        return model;
+    }
+
+    private RiskModel buildModel(LocalDate asOf, TreeSet<String> universe) {
+        String[] symbols = universe.toArray(String[]::new);
+        Map<String, List<HistoricalPrice>> bySymbol =
+                symbols.length == 0
+                        ? Map.of()
+                        : historicalPriceRepository
+                                .findBySymbolsAndPriceDateBetween(
+                                        List.of(symbols), asOf.minusDays(lookbackDays), asOf)
+                                .stream()
+                                .collect(Collectors.groupingBy(HistoricalPrice::getSymbol));
+
+        LocalDate[][] dates = new LocalDate[symbols.length][];
+        double[][] closes = new double[symbols.length][];
+        Map<String, Integer> index = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int p = 0; p < symbols.length; p++) {
+            index.put(symbols[p], p);
+            List<HistoricalPrice> prices = bySymbol.getOrDefault(symbols[p], List.of());
+            if (prices.isEmpty()) {
+                missing.add(symbols[p]);
+            }
+            dates[p] = new LocalDate[prices.size()];
+            closes[p] = new double[prices.size()];
+            for (int i = 0; i < prices.size(); i++) {
+                HistoricalPrice price = prices.get(i);
+                dates[p][i] = price.getPriceDate();
+                closes[p][i] =
+                        (price.getAdjClose() != null ? price.getAdjClose() : price.getClosePrice())
+                                .doubleValue();
+            }
+        }
+
+        ReturnMatrix matrix = VaREngine.returnMatrix(symbols, dates, closes);
+        return new RiskModel(asOf, matrix, VaREngine.covariance(matrix.returns()), index, missing);
+    }
+
+    private Long resolveAccountId(Long accountId) {
+        if (accountId == null) {
+            return accountService.getDefaultAccount().getId();
+        }
+        return accountId;
+    }
+
+    private BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal percent(double part, double total) {
+        if (total == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(part / total)
+                .multiply(PERCENT_MULTIPLIER)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /** 기준일의 수익률 행렬과 공분산 (index: 종목 → 행 번호) */
+    private record RiskModel(
+            LocalDate asOf,
+            ReturnMatrix matrix,
+            double[][] covariance,
+            Map<String, Integer> index,
+            List<String> missing) {
+        boolean covers(LocalDate date, Collection<String> symbols) {
+            return asOf.equals(date) && index.keySet().containsAll(symbols);
+        }
+    }
+}
@@ -0,0 +1,589 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.AccountRiskSettingsDto;
+import com.trading.journal.dto.PreTradeCheckRequestDto;
+import com.trading.journal.dto.PreTradeCheckResultDto;
+import com.trading.journal.dto.PreTradeCheckResultDto.Violation;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.repository.StockRepository;
+import com.trading.journal.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 전 리스크 체크 서비스
+ *
+ * <p>계좌별로 종목/섹터 노출, 오늘 실현손익, 오픈 리스크, 오늘 R-multiple과 한도 설정을 메모리에 유지하고, 거래가 생성될 때마다 해당 종목분만 갱신한다. 체크는
+ * 메모리 상태만 읽으므로 DB 트랜잭션을 열지 않는다. 날짜가 바뀌거나 설정/과거 거래가 바뀌면 다음 요청 때 계좌 상태를 다시 읽고, 다른 노드에서 생긴 변경은 {@code
+ * risk.pre-trade.max-age-seconds}가 지나면 반영된다. 재구성에 필요한 DB 조회와 시세 조회는 계좌 락 밖에서 하고 결과만 락 안에서 교체한다.
+ *
+ * <p>거래 변경은 이벤트로 받아 커밋 후에만 반영하므로 롤백된 거래는 상태에 남지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PreTradeRiskService {
+
+    static final String RULE_DAILY_LOSS = "DAILY_LOSS";
+    static final String RULE_OPEN_POSITIONS = "OPEN_POSITIONS";
+    static final String RULE_POSITION_SIZE = "POSITION_SIZE";
+    static final String RULE_STOCK_CONCENTRATION = "STOCK_CONCENTRATION";
+    static final String RULE_SECTOR_CONCENTRATION = "SECTOR_CONCENTRATION";
+    static final String RULE_RISK_PER_TRADE = "RISK_PER_TRADE";
+
+    private final AccountRiskSettingsService riskSettingsService;
+    private final AccountService accountService;
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionRepository transactionRepository;
+    private final StockRepository stockRepository;
+    private final StockPriceService stockPriceService;
+
+    @Value("${risk.pre-trade.max-accounts:1000}")
+    private int maxAccounts = 1000;
+
+    /** 계좌 상태를 다시 읽기까지의 최대 시간(초) - 다른 노드의 거래/설정 변경 반영 주기 */
+    @Value("${risk.pre-trade.max-age-seconds:60}")
+    private long maxAgeSeconds = 60;
+
+    private final Map<Long, AccountRiskState> states =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<Long, AccountRiskState> eldest) {
+                            return size() > maxAccounts;
+                        }
+                    });
+
+    /** 보유하지 않은 종목의 섹터 (체크마다 종목 테이블을 읽지 않도록) */
+    private final Map<String, Sector> sectorsBySymbol = new ConcurrentHashMap<>();
+
+    /** 계좌 리스크 상태 (인스턴스 모니터로 동기화, 한도 비율은 소수) */
+    private static final class AccountRiskState {
+        private LocalDate tradingDay;
+
+        /** 마지막 재구성 반영 시각 ({@link System#nanoTime()}) */
+        private long builtAtNanos;
+
+        private double capital;
+        private double maxRiskPerTrade;
+        private double maxDailyLoss;
+        private double maxPositionSize;
+        private double maxStockConcentration;
+        private double maxSectorConcentration;
+        private int maxOpenPositions;
+
+        private double realizedToday;
+        private double rMultipleToday;
+        private int closedToday;
+        private double openRisk;
+        private final Map<String, Holding> holdings = new HashMap<>();
+        private final Map<Sector, Double> sectorExposure = new EnumMap<>(Sector.class);
+
+        double dailyLossLimit() {
+            return capital * maxDailyLoss;
+        }
+
+        boolean dailyLossBreached() {
+            return capital > 0 && realizedToday < -dailyLossLimit();
+        }
+
+        double sectorExposure(Sector sector) {
+            return sectorExposure.getOrDefault(sector, 0.0);
+        }
+
+        void remove(Holding holding) {
+            openRisk -= holding.risk();
+            sectorExposure.merge(holding.sector, -holding.exposure(), Double::sum);
+        }
+
+        void add(Holding holding) {
+            openRisk += holding.risk();
+            sectorExposure.merge(holding.sector, holding.exposure(), Double::sum);
+        }
+    }
+
+    /** 락 밖에서 읽은 계좌 상태 재구성 재료 */
+    private record Snapshot(
+            LocalDate tradingDay,
+            AccountRiskSettingsDto settings,
+            List<Portfolio> portfolios,
+            Map<String, BigDecimal> prices,
+            Map<Long, BigDecimal> stopLosses,
+            double rMultipleToday,
+            int closedToday) {}
+
+    /** 종목 보유분 (평가는 마지막 체결가 또는 상태 생성 시 현재가) */
+    private static final class Holding {
+        private final Sector sector;
+        private double quantity;
+        private double averagePrice;
+        private double mark;
+        private double stopLoss = Double.NaN;
+
+        private Holding(Sector sector) {
+            this.sector = sector;
+        }
+
+        double exposure() {
+            return quantity * mark;
+        }
+
+        /** 대시보드 오픈 리스크와 같은 정의: |평균가 - 손절가| × 수량 */
+        double risk() {
+            return Double.isNaN(stopLoss) ? 0 : Math.abs(averagePrice - stopLoss) * quantity;
+        }
+    }
+
+    /**
+     * 주문 가능 여부와 최대 수량. 매수는 일일 손실, 포지션 수, 포지션 크기, 종목/섹터 집중도, 거래당 리스크 한도를 모두 적용하고, 매도는 노출을 줄이므로 보유
+     * 수량까지 항상 허용한다. 자본금이 없으면 자본 기반 한도는 건너뛴다.
+     */
+    public PreTradeCheckResultDto check(PreTradeCheckRequestDto request) {
+        Long accountId = resolveAccountId(request.getAccountId());
+        String symbol = request.getSymbol().toUpperCase();
+        double price = request.getPrice().doubleValue();
+        double quantity = request.getQuantity() != null ? request.getQuantity().doubleValue() : 0;
+        double stop =
+                request.getStopLossPrice() != null
+                        ? request.getStopLossPrice().doubleValue()
+                        : Double.NaN;
+
+        Sector sector = request.getType() == TransactionType.SELL ? null : sectorOf(symbol);
+        AccountRiskState state = stateFor(accountId);
+        synchronized (state) {
+            if (!isStale(state)) {
+                return check(accountId, symbol, sector, state, price, quantity, stop);
+            }
+        }
+        Snapshot snapshot = load(accountId);
+        synchronized (state) {
+            // 다른 요청이 먼저 다시 읽었다면 그 뒤 반영된 거래를 덮어쓰지 않는다
+            if (isStale(state)) {
+                apply(accountId, state, snapshot);
+            }
+            return check(accountId, symbol, sector, state, price, quantity, stop);
+        }
+    }
+
+    private PreTradeCheckResultDto check(
+            Long accountId,
+            String symbol,
+            Sector sector,
+            AccountRiskState state,
+            double price,
+            double quantity,
+            double stop) {
+        return sector == null
+                ? checkSell(accountId, symbol, state, price, quantity)
+                : checkBuy(accountId, symbol, sector, state, price, quantity, stop);
+    }
+
+    /**
+     * 거래 생성 커밋 후. 상태가 최신이면 해당 종목 보유분, 섹터 노출, 오픈 리스크, 오늘 실현손익/R만 갱신한다. 상태를 새로 읽어야 하거나 이벤트 발행 이후에 다시
+     * 반영한 상태(커밋된 포지션을 이미 읽었을 수 있음)라면 중복으로 더하지 않도록 버린다. 포지션 반영을 미룬 거래는 일괄 반영 후 {@link
+     * TradeHistoryChangedEvent}로 버린다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        Transaction transaction = event.transaction();
+        Long accountId = transaction.getAccount() != null ? transaction.getAccount().getId() : null;
+        AccountRiskState state = accountId != null ? states.get(accountId) : null;
+        if (state == null || !event.positionsApplied()) {
+            return; // 다음 체크 때 생성
+        }
+
+        synchronized (state) {
+            if (isStale(state) || state.builtAtNanos - event.publishedAtNanos() > 0) {
+                states.remove(accountId);
+                return;
+            }
+            String symbol = transaction.getStock().getSymbol();
+            double quantity = transaction.getQuantity().doubleValue();
+            double price = transaction.getPrice().doubleValue();
+            Holding holding = state.holdings.get(symbol);
+
+            if (transaction.getType() == TransactionType.BUY) {
+                if (holding == null) {
+                    holding = new Holding(sectorOrOther(transaction.getStock().getSector()));
+                    state.holdings.put(symbol, holding);
+                } else {
+                    state.remove(holding);
+                }
+                double total = holding.quantity + quantity;
+                holding.averagePrice =
+                        (holding.quantity * holding.averagePrice + quantity * price) / total;
+                holding.quantity = total;
+                holding.mark = price;
+                holding.stopLoss =
+                        transaction.getStopLossPrice() != null
+                                ? transaction.getStopLossPrice().doubleValue()
+                                : Double.NaN;
+                state.add(holding);
+            } else {
+                if (holding != null) {
+                    state.remove(holding);
+                    holding.quantity -= quantity;
+                    holding.mark = price;
+                    if (holding.quantity > 0) {
+                        state.add(holding);
+                    } else {
+                        state.holdings.remove(symbol);
+                    }
+                }
+                if (isToday(transaction.getTransactionDate())) {
+                    recordClosedTrade(state, transaction);
+                }
+            }
+        }
+    }
+
+    /** 계좌 상태 제거 (설정이나 과거 포지션이 바뀐 경우) */
+    public void evict(Long accountId) {
+        if (accountId != null) {
+            states.remove(accountId);
+        }
+    }
+
+    /** 거래 수정/삭제, 일괄 반영 커밋 후 다음 체크 때 계좌 상태를 다시 읽는다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeHistoryChanged(TradeHistoryChangedEvent event) {
+        evict(event.accountId());
+    }
+
+    /** 리스크 설정이 바뀌면 다음 체크 때 한도를 다시 읽는다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRiskSettingsChanged(RiskSettingsChangedEvent event) {
+        evict(event.accountId());
+    }
+
+    /** 종목 섹터가 바뀌면 섹터 캐시와 모든 계좌의 섹터 노출을 버린다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockSectorChanged(StockSectorChangedEvent event) {
+        sectorsBySymbol.clear();
+        states.clear();
+    }
+
+    private PreTradeCheckResultDto checkBuy(
+            Long accountId,
+            String symbol,
+            Sector sector,
+            AccountRiskState state,
+            double price,
+            double quantity,
+            double stop) {
+        Holding held = state.holdings.get(symbol);
+        if (held != null) {
+            sector = held.sector;
+        }
+        double stockExposure = held != null ? held.exposure() : 0;
+        double sectorExposure = state.sectorExposure(sector);
+        double tradeValue = quantity * price;
+        double riskPerShare = !Double.isNaN(stop) && price > stop ? price - stop : 0;
+        int positions = state.holdings.size() + (held == null ? 1 : 0);
+        List<Violation> violations = new ArrayList<>();
+
+        boolean blocked = false;
+        if (state.dailyLossBreached()) {
+            blocked = true;
+            violations.add(
+                    violation(
+                            RULE_DAILY_LOSS,
+                            "일일 손실 한도에 도달해 신규 매수를 할 수 없습니다",
+                            state.dailyLossLimit(),
+                            -state.realizedToday));
+        }
+        if (held == null && state.holdings.size() >= state.maxOpenPositions) {
+            blocked = true;
+            violations.add(
+                    violation(
+                            RULE_OPEN_POSITIONS,
+                            "최대 보유 종목 수를 초과합니다",
+                            state.maxOpenPositions,
+                            positions));
+        }
+
+        BigDecimal maxQuantity = null;
+        if (state.capital > 0) {
+            double capital = state.capital;
+            double maxValue =
+                    Math.min(
+                            capital * state.maxPositionSize,
+                            Math.min(
+                                    capital * state.maxStockConcentration - stockExposure,
+                                    capital * state.maxSectorConcentration - sectorExposure));
+            double max = maxValue / price;
+            if (riskPerShare > 0) {
+                max = Math.min(max, capital * state.maxRiskPerTrade / riskPerShare);
+            }
+            maxQuantity = BigDecimal.valueOf(blocked ? 0 : Math.max(Math.floor(max), 0));
+
+            if (quantity > 0) {
+                if (tradeValue > capital * state.maxPositionSize) {
+                    violations.add(
+                            violation(
+                                    RULE_POSITION_SIZE,
+                                    "포지션 크기 한도를 초과합니다",
+                                    state.maxPositionSize * 100,
+                                    tradeValue / capital * 100));
+                }
+                if (stockExposure + tradeValue > capital * state.maxStockConcentration) {
+                    violations.add(
+                            violation(
+                                    RULE_STOCK_CONCENTRATION,
+                                    "종목 집중도 한도를 초과합니다",
+                                    state.maxStockConcentration * 100,
+                                    (stockExposure + tradeValue) / capital * 100));
+                }
+                if (sectorExposure + tradeValue > capital * state.maxSectorConcentration) {
+                    violations.add(
+                            violation(
+                                    RULE_SECTOR_CONCENTRATION,
+                                    "섹터 집중도 한도를 초과합니다: " + sector.getLabel(),
+                                    state.maxSectorConcentration * 100,
+                                    (sectorExposure + tradeValue) / capital * 100));
+                }
+                if (riskPerShare * quantity > capital * state.maxRiskPerTrade) {
+                    violations.add(
+                            violation(
+                                    RULE_RISK_PER_TRADE,
+                                    "거래당 리스크 한도를 초과합니다",
+                                    state.maxRiskPerTrade * 100,
+                                    riskPerShare * quantity / capital * 100));
+                }
+            }
+        }
+
+        boolean allowed =
+                quantity > 0
+                        ? violations.isEmpty()
+                        : !blocked && (maxQuantity == null || maxQuantity.signum() > 0);
+        return result(accountId, symbol, TransactionType.BUY, state)
+                .allowed(allowed)
+                .maxQuantity(maxQuantity)
+                .tradeValue(amount(tradeValue))
+                .projectedStockConcentration(percent(stockExposure + tradeValue, state))
+                .projectedSectorConcentration(percent(sectorExposure + tradeValue, state))
+                .projectedOpenRiskPercent(percent(state.openRisk + riskPerShare * quantity, state))
+                .projectedOpenPositions(positions)
+                .violations(violations)
+                .build();
+    }
+
+    private PreTradeCheckResultDto checkSell(
+            Long accountId, String symbol, AccountRiskState state, double price, double quantity) {
+        Holding held = state.holdings.get(symbol);
+        double heldQuantity = held != null ? held.quantity : 0;
+        double sold = Math.min(quantity, heldQuantity);
+        double remaining = held != null ? (heldQuantity - sold) * price : 0;
+        Sector sector = held != null ? held.sector : null;
+        double sectorExposure =
+                sector != null ? state.sectorExposure(sector) - held.exposure() + remaining : 0;
+        double heldRisk = held != null ? held.risk() : 0;
+        double riskLeft = heldQuantity > 0 ? heldRisk * (heldQuantity - sold) / heldQuantity : 0;
+
+        return result(accountId, symbol, TransactionType.SELL, state)
+                .allowed(true)
+                .maxQuantity(BigDecimal.valueOf(heldQuantity))
+                .tradeValue(amount(quantity * price))
+                .projectedStockConcentration(percent(remaining, state))
+                .projectedSectorConcentration(percent(sectorExposure, state))
+                .projectedOpenRiskPercent(percent(state.openRisk - heldRisk + riskLeft, state))
+                .projectedOpenPositions(
+                        state.holdings.size() - (held != null && sold >= heldQuantity ? 1 : 0))
+                .violations(List.of())
+                .build();
+    }
+
+    private PreTradeCheckResultDto.PreTradeCheckResultDtoBuilder result(
+            Long accountId, String symbol, TransactionType type, AccountRiskState state) {
+        return PreTradeCheckResultDto.builder()
+                .accountId(accountId)
+                .symbol(symbol)
+                .type(type)
+                .todayRealizedPnl(amount(state.realizedToday))
+                .dailyLossLimit(state.capital > 0 ? amount(state.dailyLossLimit()) : null)
+                .todayRMultiple(
+                        BigDecimal.valueOf(state.rMultipleToday).setScale(2, RoundingMode.HALF_UP))
+                .todayClosedTrades(state.closedToday);
+    }
+
+    private AccountRiskState stateFor(Long accountId) {
+        synchronized (states) {
+            return states.computeIfAbsent(accountId, k -> new AccountRiskState());
+        }
+    }
+
+    private boolean isStale(AccountRiskState state) {
+        return !LocalDate.now().equals(state.tradingDay)
+                || System.nanoTime() - state.builtAtNanos > maxAgeSeconds * 1_000_000_000L;
+    }
+
+    /** 설정, 보유 포지션과 현재가, 보유 종목의 최근 매수 손절가, 오늘 R을 읽는다 (계좌 락 밖에서 호출) */
+    private Snapshot load(Long accountId) {
+        LocalDate today = LocalDate.now();
+        AccountRiskSettingsDto settings = riskSettingsService.getRiskSettings(accountId);
+        List<Portfolio> portfolios =
+                portfolioRepository.findByAccountIdWithStock(accountId).stream()
+                        .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
+                        .toList();
+        Map<String, BigDecimal> prices = Map.of();
+        Map<Long, BigDecimal> stopLosses = new HashMap<>();
+        if (!portfolios.isEmpty()) {
+            prices =
+                    stockPriceService.getCurrentPrices(
+                            portfolios.stream()
+                                    .map(p -> p.getStock().getSymbol())
+                                    .collect(Collectors.toSet()));
+            // 같은 일시의 매수가 여럿이면 ID 오름차순이라 뒤 거래가 덮어쓴다
+            for (Object[] row :
+                    transactionRepository.findLatestBuyStopLossByStock(
+                            accountId,
+                            portfolios.stream().map(p -> p.getStock().getId()).toList())) {
+                stopLosses.put((Long) row[0], (BigDecimal) row[1]);
+            }
+        }
+
+        double rMultipleToday = 0;
+        int closedToday = 0;
+        for (Transaction sell :
+                transactionRepository.findSellTransactionsWithRMultiple(
+                        accountId, today.atStartOfDay(), today.atTime(23, 59, 59))) {
+            rMultipleToday += sell.getRMultiple().doubleValue();
+            closedToday++;
+        }
+        return new Snapshot(
+                today, settings, portfolios, prices, stopLosses, rMultipleToday, closedToday);
+    }
+
+    /** 읽어 둔 재료로 상태 재구성 (계좌 락 안에서 호출) */
+    private void apply(Long accountId, AccountRiskState state, Snapshot snapshot) {
+        AccountRiskSettingsDto settings = snapshot.settings();
+        state.capital =
+                settings.getAccountCapital() != null
+                        ? settings.getAccountCapital().doubleValue()
+                        : 0;
+        state.maxRiskPerTrade = fraction(settings.getMaxRiskPerTradePercent());
+        state.maxDailyLoss = fraction(settings.getMaxDailyLossPercent());
+        state.maxPositionSize = fraction(settings.getMaxPositionSizePercent());
+        state.maxStockConcentration = fraction(settings.getMaxStockConcentrationPercent());
+        state.maxSectorConcentration = fraction(settings.getMaxSectorConcentrationPercent());
+        state.maxOpenPositions =
+                settings.getMaxOpenPositions() != null
+                        ? settings.getMaxOpenPositions()
+                        : Integer.MAX_VALUE;
+        state.realizedToday =
+                settings.getCurrentDayPnl() != null ? settings.getCurrentDayPnl().doubleValue() : 0;
+
+        state.holdings.clear();
+        state.sectorExposure.clear();
+        state.openRisk = 0;
+        for (Portfolio portfolio : snapshot.portfolios()) {
+            String symbol = portfolio.getStock().getSymbol();
+            Holding holding = new Holding(sectorOrOther(portfolio.getStock().getSector()));
+            holding.quantity = portfolio.getQuantity().doubleValue();
+            holding.averagePrice = portfolio.getAveragePrice().doubleValue();
+            holding.mark =
+                    snapshot.prices()
+                            .getOrDefault(symbol, portfolio.getAveragePrice())
+                            .doubleValue();
+            BigDecimal stopLoss = snapshot.stopLosses().get(portfolio.getStock().getId());
+            if (stopLoss != null) {
+                holding.stopLoss = stopLoss.doubleValue();
+            }
+            state.holdings.put(symbol, holding);
+            state.add(holding);
+        }
+
+        state.rMultipleToday = snapshot.rMultipleToday();
+        state.closedToday = snapshot.closedToday();
+        state.tradingDay = snapshot.tradingDay();
+        // 조회 도중 발행된 거래 이벤트는 이미 읽었을 수 있으므로 반영 시각 이전 이벤트는 모두 버린다
+        state.builtAtNanos = System.nanoTime();
+        log.debug(
+                "Rebuilt pre-trade risk state for account {}: {} holdings, open risk {}",
+                accountId,
+                state.holdings.size(),
+                state.openRisk);
+    }
+
+    /** 오늘 청산된 매도의 실현손익과 R-multiple 누적 (실현손익은 계좌 당일 합계와 같은 기준) */
+    private void recordClosedTrade(AccountRiskState state, Transaction sell) {
+        if (sell.getRealizedPnl() != null) {
+            state.realizedToday += sell.getRealizedPnl().doubleValue();
+        }
+        if (sell.getRMultiple() != null) {
+            state.rMultipleToday += sell.getRMultiple().doubleValue();
+            state.closedToday++;
+        }
+    }
+
+    private Sector sectorOf(String symbol) {
+        return sectorsBySymbol.computeIfAbsent(
+                symbol,
+                s ->
+                        stockRepository
+                                .findBySymbol(s)
+                                .map(stock -> sectorOrOther(stock.getSector()))
+                                .orElse(Sector.OTHER));
+    }
+
+    private Sector sectorOrOther(Sector sector) {
+        return sector != null ? sector : Sector.OTHER;
+    }
+
+    private boolean isToday(LocalDateTime dateTime) {
+        return dateTime != null && dateTime.toLocalDate().equals(LocalDate.now());
+    }
+
+    private Long resolveAccountId(Long accountId) {
+        if (accountId == null) {
+            return accountService.getDefaultAccount().getId();
+        }
+        return accountId;
+    }
+
+    private double fraction(BigDecimal percent) {
+        return percent != null ? percent.doubleValue() / 100 : 0;
+    }
+
+    private Violation violation(String rule, String message, double limit, double projected) {
+        return Violation.builder()
+                .rule(rule)
+                .message(message)
+                .limit(BigDecimal.valueOf(limit).setScale(2, RoundingMode.HALF_UP))
+                .projected(BigDecimal.valueOf(projected).setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal percent(double value, AccountRiskState state) {
+        if (state.capital <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(value / state.capital * 100).setScale(2, RoundingMode.HALF_UP);
+    }
+}
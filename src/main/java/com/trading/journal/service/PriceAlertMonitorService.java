@@ -1,8 +1,10 @@
 package com.trading.journal.service;
 
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.entity.PriceAlert;
 import com.trading.journal.entity.PriceAlert.PriceAlertCondition;
 import com.trading.journal.repository.PriceAlertRepository;
+import com.trading.journal.scheduler.JobShard;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
@@ -21,20 +23,26 @@ public class PriceAlertMonitorService {
     private final PriceAlertRepository priceAlertRepository;
     private final StockPriceService stockPriceService;
     private final AlertBroadcastService alertBroadcastService;
+    private final HoldingsSnapshotService holdingsSnapshotService;
 
     /**
      * 가격 알림 모니터링 (1분마다 실행)
      *
-     * <p>활성 상태인 모든 가격 알림을 조회하여 현재 가격과 비교하고, 조건이 충족되면 알림을 트리거하고 브로드캐스트합니다.
+     * <p>활성 상태인 모든 가격 알림을 조회하여 현재 가격과 비교하고, 조건이 충족되면 알림을 트리거하고 브로드캐스트합니다. 클러스터에서는 종목 코드 해시로 샤드를 나눠
+     * 각 노드가 자기 몫의 종목만 시세를 조회합니다.
      */
     @Scheduled(fixedRate = 60000) // 1분 = 60,000ms
+    @ClusterJob(value = "price-alert-monitor", sharded = true, lockAtMostForSeconds = 120)
     @Transactional
     public void monitorPriceAlerts() {
         log.debug("Starting price alert monitoring cycle...");
 
         try {
+            JobShard shard = JobShard.current();
             List<PriceAlert> activeAlerts =
-                    priceAlertRepository.findByIsActiveTrueAndIsTriggeredFalse();
+                    priceAlertRepository.findByIsActiveTrueAndIsTriggeredFalse().stream()
+                            .filter(alert -> shard.owns(alert.getSymbol()))
+                            .toList();
 
             if (activeAlerts.isEmpty()) {
                 log.debug("No active price alerts to monitor");
@@ -136,7 +144,7 @@ public class PriceAlertMonitorService {
     /**
      * 현재 가격 조회
      *
-     * <p>StockPriceService를 통해 현재 가격을 조회합니다.
+     * <p>StockPriceService를 통해 현재 가격을 조회하고, 받은 가격은 보유 종목 스냅샷 시세에도 반영합니다.
      *
      * @param symbol 종목 코드
      * @return 현재 가격 (실패 시 null)
@@ -148,6 +156,7 @@ public class PriceAlertMonitorService {
                 log.warn("Invalid current price for symbol {}: {}", symbol, currentPrice);
                 return null;
             }
+            holdingsSnapshotService.applyPrice(symbol, currentPrice);
             return currentPrice;
         } catch (Exception e) {
             log.error("Error getting current price for {}: {}", symbol, e.getMessage(), e);
@@ -0,0 +1,214 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.EmotionState;
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.Transaction;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 심리 분석 집계. 복기와 실현손익을 한 번씩 받아 감정 전환, 요일, 거래 전 감정, 계획 준수 여부별 그룹 통계를 동시에 갱신한다.
+ *
+ * <p>모든 그룹은 합계/건수만 보관하므로 입력 순서와 무관하고, 새 복기는 기존 집계의 복사본에 그대로 더할 수 있다({@link #withReview}). 인스턴스 모니터로
+ * 동기화한다.
+ */
+final class PsychologyAggregates {
+
+    /** 요일 인덱스 (1=일요일 ... 7=토요일) */
+    static final String[] DAY_NAMES = {"", "일요일", "월요일", "화요일", "수요일", "목요일", "금요일", "토요일"};
+
+    /** 감정 전환 키 */
+    record Transition(EmotionState before, EmotionState after) {}
+
+    /** 그룹 통계 스냅샷 (평균은 손익이 있는 거래 기준) */
+    record GroupStats(
+            int count,
+            int winCount,
+            BigDecimal winRate,
+            BigDecimal nonNegativeRate,
+            BigDecimal avgPnl,
+            BigDecimal totalPnl,
+            BigDecimal avgRMultiple,
+            EmotionState dominantEmotion) {}
+
+    private final Map<Transition, Group> transitions = new LinkedHashMap<>();
+    private final Group[] days = new Group[8];
+    private final Map<EmotionState, Group> emotionPerformance = new EnumMap<>(EmotionState.class);
+    private final Group followedPlan = new Group();
+    private final Group notFollowedPlan = new Group();
+
+    PsychologyAggregates() {
+        for (int day = 1; day <= 7; day++) {
+            days[day] = new Group();
+        }
+    }
+
+    /** 복기 한 건 반영 */
+    synchronized void accept(TradeReview review) {
+        Transaction transaction = review.getTransaction();
+        if (transaction == null || transaction.getTransactionDate() == null) {
+            return;
+        }
+        EmotionState before = review.getEmotionBefore();
+        EmotionState after = review.getEmotionAfter();
+        BigDecimal pnl = transaction.getRealizedPnl();
+        BigDecimal rMultiple = transaction.getRMultiple();
+
+        if (before != null && after != null) {
+            transitions
+                    .computeIfAbsent(new Transition(before, after), k -> new Group())
+                    .add(pnl, null, null);
+        }
+
+        days[dayIndex(transaction.getTransactionDate())].add(pnl, null, before);
+
+        if (pnl == null) {
+            return;
+        }
+        if (before != null) {
+            emotionPerformance.computeIfAbsent(before, k -> new Group()).add(pnl, rMultiple, null);
+        }
+        if (review.getFollowedPlan() != null) {
+            (review.getFollowedPlan() ? followedPlan : notFollowedPlan).add(pnl, null, null);
+        }
+    }
+
+    /** 이 집계에 복기 한 건을 더한 복사본 (이미 반환된 집계는 바뀌지 않는다) */
+    synchronized PsychologyAggregates withReview(TradeReview review) {
+        PsychologyAggregates copy = new PsychologyAggregates();
+        transitions.forEach((transition, group) -> copy.transitions.put(transition, group.copy()));
+        for (int day = 1; day <= 7; day++) {
+            copy.days[day] = days[day].copy();
+        }
+        emotionPerformance.forEach(
+                (emotion, group) -> copy.emotionPerformance.put(emotion, group.copy()));
+        copy.followedPlan.copyFrom(followedPlan);
+        copy.notFollowedPlan.copyFrom(notFollowedPlan);
+        copy.accept(review);
+        return copy;
+    }
+
+    /** 감정 전환별 통계 (건수 내림차순) */
+    synchronized Map<Transition, GroupStats> transitionStats() {
+        Map<Transition, GroupStats> result = new LinkedHashMap<>();
+        transitions.entrySet().stream()
+                .sorted(
+                        Comparator.comparingInt(
+                                        (Map.Entry<Transition, Group> e) -> e.getValue().count)
+                                .reversed())
+                .forEach(e -> result.put(e.getKey(), e.getValue().snapshot()));
+        return result;
+    }
+
+    /** 요일별 통계 (인덱스 1=일요일 ... 7=토요일) */
+    synchronized GroupStats dayStats(int day) {
+        return days[day].snapshot();
+    }
+
+    /** 거래 전 감정별 성과 (실현손익이 있는 거래) */
+    synchronized Map<EmotionState, GroupStats> emotionPerformanceStats() {
+        Map<EmotionState, GroupStats> result = new EnumMap<>(EmotionState.class);
+        emotionPerformance.forEach((emotion, group) -> result.put(emotion, group.snapshot()));
+        return result;
+    }
+
+    /** 계획 준수 여부별 성과 (실현손익이 있는 거래) */
+    synchronized GroupStats planAdherenceStats(boolean followed) {
+        return (followed ? followedPlan : notFollowedPlan).snapshot();
+    }
+
+    /** SQL DAYOFWEEK와 같은 인덱스 (1=일요일) */
+    static int dayIndex(LocalDateTime dateTime) {
+        return dateTime.getDayOfWeek().getValue() % 7 + 1;
+    }
+
+    /** 그룹 누적기 */
+    private static final class Group {
+        private int count;
+        private int winCount; // 손익 > 0
+        private int nonNegativeCount; // 손익 >= 0
+        private int pnlCount;
+        private BigDecimal pnlSum = BigDecimal.ZERO;
+        private int rMultipleCount;
+        private BigDecimal rMultipleSum = BigDecimal.ZERO;
+        private Map<EmotionState, Integer> emotionCounts;
+
+        void add(BigDecimal pnl, BigDecimal rMultiple, EmotionState emotion) {
+            count++;
+            if (pnl != null) {
+                pnlCount++;
+                pnlSum = pnlSum.add(pnl);
+                int sign = pnl.signum();
+                if (sign > 0) {
+                    winCount++;
+                }
+                if (sign >= 0) {
+                    nonNegativeCount++;
+                }
+            }
+            if (rMultiple != null) {
+                rMultipleCount++;
+                rMultipleSum = rMultipleSum.add(rMultiple);
+            }
+            if (emotion != null) {
+                if (emotionCounts == null) {
+                    emotionCounts = new EnumMap<>(EmotionState.class);
+                }
+                emotionCounts.merge(emotion, 1, Integer::sum);
+            }
+        }
+
+        Group copy() {
+            Group copy = new Group();
+            copy.copyFrom(this);
+            return copy;
+        }
+
+        void copyFrom(Group other) {
+            count = other.count;
+            winCount = other.winCount;
+            nonNegativeCount = other.nonNegativeCount;
+            pnlCount = other.pnlCount;
+            pnlSum = other.pnlSum;
+            rMultipleCount = other.rMultipleCount;
+            rMultipleSum = other.rMultipleSum;
+            emotionCounts = other.emotionCounts != null ? new EnumMap<>(other.emotionCounts) : null;
+        }
+
+        GroupStats snapshot() {
+            EmotionState dominant =
+                    emotionCounts == null
+                            ? null
+                            : emotionCounts.entrySet().stream()
+                                    .max(Map.Entry.comparingByValue())
+                                    .map(Map.Entry::getKey)
+                                    .orElse(null);
+            return new GroupStats(
+                    count,
+                    winCount,
+                    percent(winCount, count),
+                    percent(nonNegativeCount, count),
+                    average(pnlSum, pnlCount),
+                    pnlSum.setScale(2, RoundingMode.HALF_UP),
+                    average(rMultipleSum, rMultipleCount),
+                    dominant);
+        }
+
+        private static BigDecimal percent(int part, int total) {
+            return total > 0
+                    ? BigDecimal.valueOf(part * 100.0 / total).setScale(2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+        }
+
+        private static BigDecimal average(BigDecimal sum, int n) {
+            return n > 0
+                    ? sum.divide(BigDecimal.valueOf(n), 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO.setScale(2);
+        }
+    }
+}
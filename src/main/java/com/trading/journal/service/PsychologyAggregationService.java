@@ -0,0 +1,145 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.repository.TradeReviewRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 심리 분석 집계 서비스
+ *
+ * <p>요청 기간의 복기를 한 번만 스트리밍해 {@link PsychologyAggregates}를 만들고 계좌/기간별로 캐시한다. 새 복기는 해당 계좌의 캐시된 집계 중
+ * 거래일이 기간에 포함되는 항목을 복기를 더한 복사본으로 바꾸고, 복기 수정/삭제나 거래 변경(FIFO 재계산으로 실현손익이 바뀜)은 해당 계좌의 집계를 무효화한다. 변경은
+ * 이벤트로 받아 커밋 후에만 반영하므로 롤백된 복기는 집계에 남지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PsychologyAggregationService {
+
+    private final TradeReviewRepository tradeReviewRepository;
+    private final EntityManager entityManager;
+
+    @Value("${psychology.aggregates.cache-max-entries:200}")
+    private int cacheMaxEntries = 200;
+
+    private record Key(Long accountId, LocalDateTime start, LocalDateTime end) {
+        boolean covers(Long account, LocalDateTime tradeTime) {
+            return Objects.equals(accountId, account)
+                    && start != null
+                    && end != null
+                    && !tradeTime.isBefore(start)
+                    && !tradeTime.isAfter(end);
+        }
+    }
+
+    // 계좌별 변경 카운터 - 스트리밍 중 변경된 집계는 캐시하지 않는다
+    private final Map<Long, Integer> accountVersions = new ConcurrentHashMap<>();
+
+    private final Map<Key, PsychologyAggregates> cache =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<Key, PsychologyAggregates> eldest) {
+                            return size() > cacheMaxEntries;
+                        }
+                    });
+
+    /**
+     * 계좌/기간 집계 조회 (없으면 한 번 스트리밍하여 생성)
+     *
+     * @param accountId 계좌 ID
+     * @param start 시작 일시
+     * @param end 종료 일시
+     */
+    public PsychologyAggregates aggregate(Long accountId, LocalDateTime start, LocalDateTime end) {
+        Key key = new Key(accountId, start, end);
+        PsychologyAggregates cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Integer version = accountVersions.get(accountKey(accountId));
+        PsychologyAggregates aggregates = new PsychologyAggregates();
+        int[] count = new int[1];
+        try (Stream<TradeReview> reviews =
+                tradeReviewRepository.streamReviewsForAggregation(accountId, start, end)) {
+            reviews.forEach(
+                    review -> {
+                        aggregates.accept(review);
+                        count[0]++;
+                        entityManager.detach(review);
+                        entityManager.detach(review.getTransaction());
+                    });
+        }
+        log.debug(
+                "Aggregated {} reviews for account {} ({} ~ {})", count[0], accountId, start, end);
+
+        synchronized (cache) {
+            if (Objects.equals(version, accountVersions.get(accountKey(accountId)))) {
+                cache.put(key, aggregates);
+            }
+        }
+        return aggregates;
+    }
+
+    /** 복기 저장 커밋 후. 신규 복기는 캐시된 집계를 복기를 더한 복사본으로 바꾸고, 수정은 계좌 집계를 무효화한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onReviewSaved(TradeReviewSavedEvent event) {
+        TradeReview review = event.review();
+        Transaction transaction = review.getTransaction();
+        Long accountId = transaction.getAccount() != null ? transaction.getAccount().getId() : null;
+        if (!event.created() || transaction.getTransactionDate() == null) {
+            evictAccount(accountId);
+            return;
+        }
+        synchronized (cache) {
+            bumpVersion(accountId);
+            cache.replaceAll(
+                    (key, aggregates) ->
+                            key.covers(accountId, transaction.getTransactionDate())
+                                    ? aggregates.withReview(review)
+                                    : aggregates);
+        }
+    }
+
+    /** 복기 삭제, 거래 수정/삭제 커밋 후 계좌 집계 무효화 */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTradeHistoryChanged(TradeHistoryChangedEvent event) {
+        evictAccount(event.accountId());
+    }
+
+    /** 계좌 집계 무효화 */
+    public void evictAccount(Long accountId) {
+        synchronized (cache) {
+            bumpVersion(accountId);
+            cache.keySet().removeIf(key -> Objects.equals(key.accountId(), accountId));
+        }
+    }
+
+    private void bumpVersion(Long accountId) {
+        accountVersions.merge(accountKey(accountId), 1, Integer::sum);
+    }
+
+    private static Long accountKey(Long accountId) {
+        return accountId != null ? accountId : -1L;
+    }
+}
@@ -1,5 +1,9 @@
 package com.trading.journal.service;
 
+import com.trading.journal.dto.RebalancePlanDto;
+import com.trading.journal.dto.RebalancePlanDto.AccountPlan;
+import com.trading.journal.dto.RebalancePlanDto.PlannedTrade;
+import com.trading.journal.dto.RebalancePlanRequestDto;
 import com.trading.journal.dto.RebalancingDashboardDto;
 import com.trading.journal.dto.RebalancingDashboardDto.*;
 import com.trading.journal.dto.TargetAllocationBatchDto;
@@ -9,16 +13,21 @@ import com.trading.journal.entity.Portfolio;
 import com.trading.journal.entity.Sector;
 import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.TargetAllocation;
+import com.trading.journal.entity.Transaction;
 import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.StockRepository;
 import com.trading.journal.repository.TargetAllocationRepository;
+import com.trading.journal.repository.TransactionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -43,6 +52,29 @@ public class RebalancingService {
     private final StockRepository stockRepository;
     private final AccountService accountService;
     private final StockPriceService stockPriceService;
+    private final TransactionRepository transactionRepository;
+
+    /** 가격 스냅샷 유효 시간 (초) - 이보다 오래된 가격만 일괄 재조회 */
+    @Value("${rebalancing.price-max-age-seconds:60}")
+    private long priceMaxAgeSeconds = 60;
+
+    /** 계좌 조합별로 보관할 최근 플랜 수 */
+    @Value("${rebalancing.plan-cache-size:256}")
+    private int planCacheSize = 256;
+
+    /** 심볼 → 최근 조회 가격 */
+    private final Map<String, PricePoint> priceSnapshot = new ConcurrentHashMap<>();
+
+    /** 계좌 조합 → 최근 플랜 (입력이 모두 같으면 재사용) */
+    private final Map<List<Long>, CachedPlan> planCache =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<List<Long>, CachedPlan> eldest) {
+                            return size() > planCacheSize;
+                        }
+                    });
 
     // ===== 목표 배분 CRUD =====
 
@@ -265,8 +297,8 @@ public class RebalancingService {
         List<TargetAllocation> allocations =
                 targetAllocationRepository.findByAccountIdWithStock(targetAccountId);
 
-        // 총 포트폴리오 가치 계산
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
+        // 총 포트폴리오 가치 계산 (보유 종목과 목표 종목 가격을 한 번에 조회)
+        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios, allocations);
         BigDecimal totalPortfolioValue = calculateTotalValue(portfolios, priceMap);
 
         // 목표 배분율 합계
@@ -334,7 +366,7 @@ public class RebalancingService {
 
         // 포트폴리오 조회
         List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(targetAccountId);
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
+        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios, List.of());
         BigDecimal totalPortfolioValue = calculateTotalValue(portfolios, priceMap);
 
         // 해당 종목 포트폴리오 찾기
@@ -360,21 +392,129 @@ public class RebalancingService {
         }
     }
 
-    /** 리밸런싱 추천 계산 */
+    /** 리밸런싱 추천 계산 (최소 거래 플랜을 추천 형식으로 변환) */
     public List<RebalanceRecommendation> calculateRecommendations(
             Long accountId, BigDecimal minTradeAmount) {
-        RebalancingDashboardDto dashboard = getRebalancingDashboard(accountId);
-
-        if (minTradeAmount == null) {
-            minTradeAmount = BigDecimal.valueOf(10000);
+        RebalancePlanRequestDto request =
+                RebalancePlanRequestDto.builder()
+                        .accountIds(List.of(resolveAccountId(accountId)))
+                        .build();
+        if (minTradeAmount != null) {
+            request.setMinTradeAmount(minTradeAmount);
         }
 
-        final BigDecimal threshold = minTradeAmount;
-        return dashboard.getRecommendations().stream()
-                .filter(r -> r.getEstimatedAmount().abs().compareTo(threshold) >= 0)
+        return planRebalance(request).getAccountPlans().stream()
+                .flatMap(plan -> plan.getTrades().stream())
+                .map(
+                        trade ->
+                                RebalanceRecommendation.builder()
+                                        .stockId(trade.getStockId())
+                                        .stockSymbol(trade.getStockSymbol())
+                                        .stockName(trade.getStockName())
+                                        .action(trade.getAction())
+                                        .quantity(trade.getQuantity())
+                                        .currentPrice(trade.getPrice())
+                                        .estimatedAmount(trade.getAmount())
+                                        .drift(trade.getDriftBefore())
+                                        .priority(trade.getPriority())
+                                        .reason(trade.getReason())
+                                        .build())
                 .collect(Collectors.toList());
     }
 
+    // ===== 리밸런싱 플랜 =====
+
+    /**
+     * 여러 계좌의 최소 거래 리밸런싱 플랜
+     *
+     * <p>포지션, 목표 배분, 미청산 로트를 계좌 목록 단위로 한 번씩 조회하고 가격은 일괄 조회한다. 포지션/목표/로트/가격/옵션이 이전 계산과 같으면 저장된 플랜을
+     * 그대로 반환한다.
+     */
+    public RebalancePlanDto planRebalance(RebalancePlanRequestDto request) {
+        List<Long> accountIds = resolveAccountIds(request.getAccountIds());
+
+        List<Portfolio> portfolios = portfolioRepository.findByAccountIdInWithStock(accountIds);
+        List<TargetAllocation> allocations =
+                targetAllocationRepository.findByAccountIdInWithStock(accountIds);
+        Map<String, BigDecimal> prices = batchFetchCurrentPrices(portfolios, allocations);
+        Map<Long, Map<Long, List<RebalancingSolver.Lot>>> lotsByAccount = loadOpenLots(accountIds);
+
+        List<Object> inputs = planInputs(request, portfolios, allocations, lotsByAccount, prices);
+        CachedPlan cached = planCache.get(accountIds);
+        if (cached != null && cached.inputs().equals(inputs)) {
+            log.debug("리밸런싱 플랜 재사용: accounts={}", accountIds);
+            return cached.plan().toBuilder().cached(true).build();
+        }
+
+        RebalancingSolver.Options options =
+                new RebalancingSolver.Options(
+                        request.getMinTradeAmount() != null
+                                ? request.getMinTradeAmount()
+                                : BigDecimal.valueOf(10000),
+                        request.getDefaultLotSize() != null ? request.getDefaultLotSize() : 1,
+                        request.getLotSizes(),
+                        Boolean.TRUE.equals(request.getTaxAware()),
+                        request.getAvailableCash());
+
+        Map<Long, List<RebalancingSolver.Holding>> holdingsByAccount = new HashMap<>();
+        for (Portfolio portfolio : portfolios) {
+            String symbol = portfolio.getStock().getSymbol();
+            holdingsByAccount
+                    .computeIfAbsent(portfolio.getAccount().getId(), id -> new ArrayList<>())
+                    .add(
+                            new RebalancingSolver.Holding(
+                                    portfolio.getStock(),
+                                    portfolio.getQuantity(),
+                                    getPrice(prices, symbol, portfolio.getAveragePrice())));
+        }
+        Map<Long, List<RebalancingSolver.Target>> targetsByAccount = new HashMap<>();
+        for (TargetAllocation allocation : allocations) {
+            targetsByAccount
+                    .computeIfAbsent(allocation.getAccount().getId(), id -> new ArrayList<>())
+                    .add(
+                            new RebalancingSolver.Target(
+                                    allocation.getStock(),
+                                    allocation.getTargetPercent(),
+                                    allocation.getDriftThresholdPercent(),
+                                    allocation.getPriority()));
+        }
+        List<AccountPlan> accountPlans = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            accountPlans.add(
+                    RebalancingSolver.solve(
+                            accountId,
+                            holdingsByAccount.getOrDefault(accountId, List.of()),
+                            targetsByAccount.getOrDefault(accountId, List.of()),
+                            prices,
+                            lotsByAccount.getOrDefault(accountId, Map.of()),
+                            options));
+        }
+
+        List<PlannedTrade> trades =
+                accountPlans.stream().flatMap(plan -> plan.getTrades().stream()).toList();
+        RebalancePlanDto plan =
+                RebalancePlanDto.builder()
+                        .accountPlans(accountPlans)
+                        .totalTrades(trades.size())
+                        .totalBuyAmount(sumAmount(trades, ACTION_BUY))
+                        .totalSellAmount(sumAmount(trades, ACTION_SELL))
+                        .estimatedRealizedGain(
+                                accountPlans.stream()
+                                        .map(AccountPlan::getEstimatedRealizedGain)
+                                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                        .generatedAt(LocalDateTime.now())
+                        .cached(false)
+                        .build();
+        planCache.put(accountIds, new CachedPlan(inputs, plan));
+
+        log.info(
+                "리밸런싱 플랜 계산: accounts={}, positions={}, trades={}",
+                accountIds.size(),
+                portfolios.size(),
+                trades.size());
+        return plan;
+    }
+
     // ===== Helper Methods =====
 
     private Long resolveAccountId(Long accountId) {
@@ -384,28 +524,124 @@ public class RebalancingService {
         return accountId;
     }
 
-    private Map<String, BigDecimal> batchFetchCurrentPrices(List<Portfolio> portfolios) {
-        Map<String, BigDecimal> priceMap = new HashMap<>();
-
-        List<String> symbols =
-                portfolios.stream()
-                        .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
-                        .map(p -> p.getStock().getSymbol())
-                        .distinct()
-                        .collect(Collectors.toList());
+    private List<Long> resolveAccountIds(List<Long> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return List.of(resolveAccountId(null));
+        }
+        List<Long> resolved = accountIds.stream().distinct().sorted().toList();
+        // 소유권 검증
+        resolved.forEach(accountService::getAccountEntity);
+        return resolved;
+    }
 
-        for (String symbol : symbols) {
+    /**
+     * 보유 종목과 목표 종목의 현재가 조회
+     *
+     * <p>스냅샷에서 유효 시간이 지난 심볼만 모아 한 번에 조회한다. 조회되지 않은 심볼은 이전 스냅샷 값이 있으면 그대로 쓴다.
+     */
+    private Map<String, BigDecimal> batchFetchCurrentPrices(
+            List<Portfolio> portfolios, List<TargetAllocation> allocations) {
+        Set<String> symbols = new LinkedHashSet<>();
+        portfolios.stream()
+                .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
+                .forEach(p -> symbols.add(p.getStock().getSymbol()));
+        allocations.forEach(a -> symbols.add(a.getStock().getSymbol()));
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(priceMaxAgeSeconds);
+        List<String> stale =
+                symbols.stream()
+                        .filter(
+                                symbol -> {
+                                    PricePoint point = priceSnapshot.get(symbol);
+                                    return point == null || point.fetchedAt().isBefore(staleBefore);
+                                })
+                        .toList();
+        if (!stale.isEmpty()) {
             try {
-                BigDecimal price = stockPriceService.getCurrentPrice(symbol);
-                priceMap.put(symbol, price);
+                LocalDateTime now = LocalDateTime.now();
+                stockPriceService
+                        .getCurrentPrices(stale)
+                        .forEach(
+                                (symbol, price) ->
+                                        priceSnapshot.put(symbol, new PricePoint(price, now)));
             } catch (Exception e) {
-                log.debug("Price fetch failed for {}: {}", symbol, e.getMessage());
+                log.debug("Price fetch failed for {} symbols: {}", stale.size(), e.getMessage());
             }
         }
 
+        Map<String, BigDecimal> priceMap = new HashMap<>();
+        for (String symbol : symbols) {
+            PricePoint point = priceSnapshot.get(symbol);
+            if (point != null) {
+                priceMap.put(symbol, point.price());
+            }
+        }
         return priceMap;
     }
 
+    /** 계좌 → 종목 → 미청산 매수 로트 (FIFO 순서) */
+    private Map<Long, Map<Long, List<RebalancingSolver.Lot>>> loadOpenLots(List<Long> accountIds) {
+        Map<Long, Map<Long, List<RebalancingSolver.Lot>>> lots = new HashMap<>();
+        for (Transaction buy : transactionRepository.findOpenBuyLotsByAccountIds(accountIds)) {
+            BigDecimal unitCost =
+                    buy.getQuantity().signum() > 0
+                            ? buy.getTotalAmount()
+                                    .divide(buy.getQuantity(), DECIMAL_SCALE, RoundingMode.HALF_UP)
+                            : BigDecimal.ZERO;
+            lots.computeIfAbsent(buy.getAccount().getId(), id -> new HashMap<>())
+                    .computeIfAbsent(buy.getStock().getId(), id -> new ArrayList<>())
+                    .add(
+                            new RebalancingSolver.Lot(
+                                    buy.getId(), buy.getRemainingQuantity(), unitCost));
+        }
+        return lots;
+    }
+
+    /** 플랜 입력 전체 (옵션, 포지션, 목표 배분, 미청산 로트, 가격). 해시가 아닌 값 비교로 재사용 여부를 정한다. */
+    private List<Object> planInputs(
+            RebalancePlanRequestDto request,
+            List<Portfolio> portfolios,
+            List<TargetAllocation> allocations,
+            Map<Long, Map<Long, List<RebalancingSolver.Lot>>> lotsByAccount,
+            Map<String, BigDecimal> prices) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(request.getMinTradeAmount());
+        parts.add(request.getDefaultLotSize());
+        parts.add(request.getLotSizes());
+        parts.add(request.getTaxAware());
+        parts.add(request.getAvailableCash());
+        portfolios.stream()
+                .sorted(Comparator.comparing(Portfolio::getId))
+                .forEach(
+                        p ->
+                                parts.add(
+                                        List.of(
+                                                p.getId(),
+                                                p.getQuantity().stripTrailingZeros(),
+                                                p.getAveragePrice().stripTrailingZeros())));
+        allocations.stream()
+                .sorted(Comparator.comparing(TargetAllocation::getId))
+                .forEach(
+                        a ->
+                                parts.add(
+                                        Arrays.asList(
+                                                a.getId(),
+                                                a.getTargetPercent().stripTrailingZeros(),
+                                                a.getDriftThresholdPercent(),
+                                                a.getPriority())));
+        // 세금 고려 매도는 로트 원가에 따라 달라진다
+        parts.add(lotsByAccount);
+        parts.add(new TreeMap<>(prices));
+        return parts;
+    }
+
+    private BigDecimal sumAmount(List<PlannedTrade> trades, String action) {
+        return trades.stream()
+                .filter(t -> action.equals(t.getAction()))
+                .map(PlannedTrade::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     private BigDecimal getPrice(
             Map<String, BigDecimal> priceMap, String symbol, BigDecimal fallbackPrice) {
         return priceMap.getOrDefault(symbol, fallbackPrice);
@@ -525,13 +761,7 @@ public class RebalancingService {
         Stock stock = allocation.getStock();
         String symbol = stock.getSymbol();
 
-        BigDecimal currentPrice = BigDecimal.ZERO;
-        try {
-            currentPrice = stockPriceService.getCurrentPrice(symbol);
-            priceMap.put(symbol, currentPrice);
-        } catch (Exception e) {
-            log.warn("Cannot fetch price for {}: {}", symbol, e.getMessage());
-        }
+        BigDecimal currentPrice = getPrice(priceMap, symbol, BigDecimal.ZERO);
 
         BigDecimal targetPercent = allocation.getTargetPercent();
         BigDecimal drift = BigDecimal.ZERO.subtract(targetPercent).negate(); // 현재 0% - 목표 = -목표
@@ -689,4 +919,8 @@ public class RebalancingService {
                 .notes(allocation.getNotes())
                 .build();
     }
+
+    private record PricePoint(BigDecimal price, LocalDateTime fetchedAt) {}
+
+    private record CachedPlan(List<Object> inputs, RebalancePlanDto plan) {}
 }
@@ -0,0 +1,364 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.RebalancePlanDto.AccountPlan;
+import com.trading.journal.dto.RebalancePlanDto.PlannedTrade;
+import com.trading.journal.entity.Stock;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리밸런싱 최소 거래 계산기
+ *
+ * <p>허용 범위(목표 ± 드리프트 임계값)를 벗어난 종목만 거래하고, 수량은 매매 단위로 내림한 뒤 최소 거래 금액 미만은 버린다. 가격과 포지션이 주어지면 DB나 외부 호출
+ * 없이 계산하므로 여러 계좌를 한 번에 풀어도 비용은 종목 수에 비례한다.
+ */
+final class RebalancingSolver {
+
+    static final String ACTION_BUY = "BUY";
+    static final String ACTION_SELL = "SELL";
+
+    /** 목표 배분이 없는 보유 종목의 허용 범위 (RebalancingService 대시보드와 동일) */
+    static final BigDecimal DEFAULT_BAND = BigDecimal.valueOf(5);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int SCALE = 4;
+
+    private RebalancingSolver() {}
+
+    /** 보유 포지션 */
+    record Holding(Stock stock, BigDecimal quantity, BigDecimal price) {}
+
+    /** 목표 배분 (band: 허용 드리프트 %) */
+    record Target(Stock stock, BigDecimal targetPercent, BigDecimal band, Integer priority) {}
+
+    /** 미청산 매수 로트 (FIFO 순서) */
+    record Lot(Long transactionId, BigDecimal quantity, BigDecimal unitCost) {}
+
+    /** 계산 옵션 */
+    record Options(
+            BigDecimal minTradeAmount,
+            int defaultLotSize,
+            Map<String, Integer> lotSizes,
+            boolean taxAware,
+            BigDecimal availableCash) {
+
+        int lotSize(String symbol) {
+            Integer size = lotSizes != null ? lotSizes.get(symbol) : null;
+            return size != null && size > 0 ? size : Math.max(1, defaultLotSize);
+        }
+    }
+
+    /**
+     * 계좌 1개의 최소 거래 플랜 계산
+     *
+     * @param holdings 보유 포지션 (가격 포함)
+     * @param targets 활성 목표 배분
+     * @param prices 목표만 있고 보유하지 않은 종목의 가격 (심볼 → 가격)
+     * @param lotsByStock 종목별 미청산 매수 로트 (FIFO 순서)
+     */
+    static AccountPlan solve(
+            Long accountId,
+            List<Holding> holdings,
+            List<Target> targets,
+            Map<String, BigDecimal> prices,
+            Map<Long, List<Lot>> lotsByStock,
+            Options options) {
+        BigDecimal holdingsValue = BigDecimal.ZERO;
+        Map<Long, Position> positions = new LinkedHashMap<>();
+        for (Holding holding : holdings) {
+            if (holding.quantity().signum() <= 0) {
+                continue;
+            }
+            Position position =
+                    positions.computeIfAbsent(holding.stock().getId(), id -> new Position());
+            position.stock = holding.stock();
+            position.quantity = holding.quantity();
+            position.price = holding.price();
+            holdingsValue = holdingsValue.add(holding.quantity().multiply(holding.price()));
+        }
+        for (Target target : targets) {
+            Position position =
+                    positions.computeIfAbsent(target.stock().getId(), id -> new Position());
+            if (position.stock == null) {
+                position.stock = target.stock();
+                position.price = prices.get(target.stock().getSymbol());
+            }
+            position.target = target;
+        }
+
+        BigDecimal cash =
+                options.availableCash() != null ? options.availableCash() : BigDecimal.ZERO;
+        BigDecimal base = holdingsValue.add(cash);
+
+        List<PlannedTrade> sells = new ArrayList<>();
+        List<PlannedTrade> buys = new ArrayList<>();
+        int outOfBand = 0;
+        if (base.signum() > 0) {
+            for (Position position : positions.values()) {
+                if (position.price == null || position.price.signum() <= 0) {
+                    continue;
+                }
+                BigDecimal drift = position.currentPercent(base).subtract(position.targetPercent());
+                if (drift.abs().compareTo(position.band()) <= 0) {
+                    continue;
+                }
+                outOfBand++;
+                PlannedTrade trade =
+                        drift.signum() > 0
+                                ? planSell(accountId, position, base, drift, lotsByStock, options)
+                                : planBuy(accountId, position, base, drift, options);
+                if (trade != null) {
+                    (ACTION_SELL.equals(trade.getAction()) ? sells : buys).add(trade);
+                }
+            }
+        }
+
+        Comparator<PlannedTrade> order =
+                Comparator.comparing(
+                                (PlannedTrade t) ->
+                                        t.getPriority() != null
+                                                ? t.getPriority()
+                                                : Integer.MAX_VALUE)
+                        .thenComparing(t -> t.getDriftBefore().abs(), Comparator.reverseOrder());
+        sells.sort(order);
+        buys.sort(order);
+
+        BigDecimal sellAmount = sum(sells);
+        if (options.availableCash() != null) {
+            buys =
+                    fitToBudget(
+                            buys,
+                            options.availableCash().add(sellAmount),
+                            base,
+                            positions,
+                            options);
+        }
+
+        List<PlannedTrade> trades = new ArrayList<>(sells);
+        trades.addAll(buys);
+        BigDecimal realized =
+                sells.stream()
+                        .map(PlannedTrade::getEstimatedRealizedGain)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return AccountPlan.builder()
+                .accountId(accountId)
+                .totalValue(holdingsValue)
+                .outOfBandCount(outOfBand)
+                .trades(trades)
+                .netCashFlow(sellAmount.subtract(sum(buys)))
+                .estimatedRealizedGain(realized)
+                .build();
+    }
+
+    private static PlannedTrade planSell(
+            Long accountId,
+            Position position,
+            BigDecimal base,
+            BigDecimal drift,
+            Map<Long, List<Lot>> lotsByStock,
+            Options options) {
+        List<Lot> lots = lotsByStock.getOrDefault(position.stock.getId(), List.of());
+        String reason = String.format("드리프트 %.2f%% (허용 범위 ±%.2f%% 초과)", drift, position.band());
+
+        BigDecimal quantity;
+        if (position.targetPercent().signum() == 0) {
+            // 목표가 없는 종목은 매매 단위와 무관하게 전량 매도
+            quantity = position.quantity;
+            reason = "목표 배분 없음 - 전량 매도";
+        } else {
+            quantity =
+                    sellQuantity(position, base, position.targetPercent(), options)
+                            .min(position.quantity);
+            if (options.taxAware() && quantity.signum() > 0) {
+                FifoEstimate toTarget = estimate(lots, quantity, position.price);
+                if (toTarget.gain().signum() > 0) {
+                    // 이익 실현은 허용 범위 경계까지만
+                    quantity =
+                            sellQuantity(
+                                            position,
+                                            base,
+                                            position.targetPercent().add(position.band()),
+                                            options)
+                                    .min(position.quantity);
+                    reason += " - 이익 실현 최소화를 위해 허용 범위 경계까지 매도";
+                }
+            }
+        }
+        if (quantity.signum() <= 0) {
+            return null;
+        }
+        BigDecimal amount = quantity.multiply(position.price);
+        if (amount.compareTo(options.minTradeAmount()) < 0) {
+            return null;
+        }
+
+        FifoEstimate fifo = estimate(lots, quantity, position.price);
+        return trade(accountId, position, ACTION_SELL, quantity, amount.negate(), base, drift)
+                .lotTransactionIds(fifo.lotIds())
+                .estimatedRealizedGain(fifo.gain())
+                .reason(reason)
+                .amount(amount)
+                .build();
+    }
+
+    private static PlannedTrade planBuy(
+            Long accountId, Position position, BigDecimal base, BigDecimal drift, Options options) {
+        BigDecimal targetValue = percentOf(base, position.targetPercent());
+        BigDecimal quantity =
+                roundToLot(
+                        targetValue.subtract(position.value()),
+                        position.price,
+                        position.lotSize(options));
+        if (quantity.signum() <= 0) {
+            return null;
+        }
+        BigDecimal amount = quantity.multiply(position.price);
+        if (amount.compareTo(options.minTradeAmount()) < 0) {
+            return null;
+        }
+        return trade(accountId, position, ACTION_BUY, quantity, amount, base, drift)
+                .lotTransactionIds(List.of())
+                .estimatedRealizedGain(BigDecimal.ZERO)
+                .reason(String.format("드리프트 %.2f%% (허용 범위 ±%.2f%% 초과)", drift, position.band()))
+                .amount(amount)
+                .build();
+    }
+
+    /** 매수 금액을 예산 안으로 줄인다 (우선순위 순, 매매 단위 내림, 최소 금액 미만은 제외) */
+    private static List<PlannedTrade> fitToBudget(
+            List<PlannedTrade> buys,
+            BigDecimal budget,
+            BigDecimal base,
+            Map<Long, Position> positions,
+            Options options) {
+        List<PlannedTrade> fitted = new ArrayList<>();
+        BigDecimal remaining = budget;
+        for (PlannedTrade buy : buys) {
+            if (buy.getAmount().compareTo(remaining) > 0) {
+                Position position = positions.get(buy.getStockId());
+                BigDecimal quantity =
+                        roundToLot(remaining, buy.getPrice(), position.lotSize(options));
+                BigDecimal amount = quantity.multiply(buy.getPrice());
+                if (quantity.signum() <= 0 || amount.compareTo(options.minTradeAmount()) < 0) {
+                    continue;
+                }
+                buy.setQuantity(quantity);
+                buy.setAmount(amount);
+                buy.setDriftAfter(driftAfter(position, amount, base));
+                buy.setReason(buy.getReason() + " - 가용 현금 한도로 축소");
+            }
+            remaining = remaining.subtract(buy.getAmount());
+            fitted.add(buy);
+        }
+        return fitted;
+    }
+
+    private static PlannedTrade.PlannedTradeBuilder trade(
+            Long accountId,
+            Position position,
+            String action,
+            BigDecimal quantity,
+            BigDecimal valueChange,
+            BigDecimal base,
+            BigDecimal drift) {
+        Stock stock = position.stock;
+        return PlannedTrade.builder()
+                .accountId(accountId)
+                .stockId(stock.getId())
+                .stockSymbol(stock.getSymbol())
+                .stockName(stock.getName())
+                .action(action)
+                .quantity(quantity)
+                .price(position.price)
+                .driftBefore(drift.setScale(SCALE, RoundingMode.HALF_UP))
+                .driftAfter(driftAfter(position, valueChange, base))
+                .priority(position.target != null ? position.target.priority() : null);
+    }
+
+    private static BigDecimal sellQuantity(
+            Position position, BigDecimal base, BigDecimal desiredPercent, Options options) {
+        BigDecimal excess = position.value().subtract(percentOf(base, desiredPercent));
+        return roundToLot(excess, position.price, position.lotSize(options));
+    }
+
+    /** 금액을 수량으로 바꾸고 매매 단위 배수로 내림 */
+    private static BigDecimal roundToLot(BigDecimal amount, BigDecimal price, int lotSize) {
+        if (amount.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal lots =
+                amount.divide(price.multiply(BigDecimal.valueOf(lotSize)), 0, RoundingMode.DOWN);
+        return lots.multiply(BigDecimal.valueOf(lotSize));
+    }
+
+    private static BigDecimal driftAfter(
+            Position position, BigDecimal valueChange, BigDecimal base) {
+        BigDecimal after = position.value().add(valueChange);
+        return after.multiply(HUNDRED)
+                .divide(base, SCALE, RoundingMode.HALF_UP)
+                .subtract(position.targetPercent());
+    }
+
+    private static BigDecimal percentOf(BigDecimal base, BigDecimal percent) {
+        return base.multiply(percent).divide(HUNDRED, SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal sum(List<PlannedTrade> trades) {
+        return trades.stream()
+                .map(PlannedTrade::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /** FIFO로 매도 수량을 로트에 배정했을 때의 예상 실현 손익 (로트가 모자라면 나머지는 손익 0으로 본다) */
+    static FifoEstimate estimate(List<Lot> lots, BigDecimal quantity, BigDecimal price) {
+        BigDecimal remaining = quantity;
+        BigDecimal gain = BigDecimal.ZERO;
+        List<Long> lotIds = new ArrayList<>();
+        for (Lot lot : lots) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            BigDecimal consumed = remaining.min(lot.quantity());
+            gain = gain.add(price.subtract(lot.unitCost()).multiply(consumed));
+            lotIds.add(lot.transactionId());
+            remaining = remaining.subtract(consumed);
+        }
+        return new FifoEstimate(gain.setScale(SCALE, RoundingMode.HALF_UP), lotIds);
+    }
+
+    record FifoEstimate(BigDecimal gain, List<Long> lotIds) {}
+
+    /** 계산 중 종목 상태 */
+    private static class Position {
+        Stock stock;
+        BigDecimal quantity = BigDecimal.ZERO;
+        BigDecimal price;
+        Target target;
+
+        BigDecimal value() {
+            return quantity.multiply(price);
+        }
+
+        BigDecimal currentPercent(BigDecimal base) {
+            return value().multiply(HUNDRED).divide(base, SCALE, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal targetPercent() {
+            return target != null ? target.targetPercent() : BigDecimal.ZERO;
+        }
+
+        BigDecimal band() {
+            return target != null && target.band() != null ? target.band() : DEFAULT_BAND;
+        }
+
+        int lotSize(Options options) {
+            return options.lotSize(stock.getSymbol());
+        }
+    }
+}
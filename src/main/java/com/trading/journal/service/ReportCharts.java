@@ -0,0 +1,72 @@
+package com.trading.journal.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포트 차트 렌더링 결과(PNG) 메모이제이션.
+ *
+ * <p>같은 계좌/기간/데이터 버전의 PDF와 Excel 리포트가 하나의 인스턴스를 공유하여 JFreeChart 렌더링을 한 번만 수행한다.
+ */
+public class ReportCharts {
+
+    public static final String PORTFOLIO_PIE = "portfolio-pie";
+    public static final String EQUITY_CURVE = "equity-curve";
+    public static final String DRAWDOWN = "drawdown";
+    public static final String MONTHLY_PROFIT = "monthly-profit";
+    public static final String PROFIT_DISTRIBUTION = "profit-distribution";
+
+    /** 차트 렌더러 */
+    @FunctionalInterface
+    public interface ChartRenderer {
+        byte[] render() throws IOException;
+    }
+
+    private final Map<String, byte[]> rendered = new ConcurrentHashMap<>();
+
+    /** 렌더링된 차트를 반환하고, 없으면 렌더링 후 보관 */
+    public byte[] get(String chartName, ChartRenderer renderer) throws IOException {
+        try {
+            return rendered.computeIfAbsent(
+                    chartName,
+                    name -> {
+                        try {
+                            return renderer.render();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** 차트 존재 여부 */
+    public boolean contains(String chartName) {
+        return rendered.containsKey(chartName);
+    }
+
+    /** 렌더링된 차트 목록 (리포트 표시 순서) */
+    public Map<String, byte[]> snapshot() {
+        Map<String, byte[]> ordered = new LinkedHashMap<>();
+        for (String name :
+                new String[] {
+                    PORTFOLIO_PIE, EQUITY_CURVE, DRAWDOWN, MONTHLY_PROFIT, PROFIT_DISTRIBUTION
+                }) {
+            byte[] png = rendered.get(name);
+            if (png != null) {
+                ordered.put(name, png);
+            }
+        }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    /** 보관 중인 PNG 총 바이트 수 */
+    public long sizeInBytes() {
+        return rendered.values().stream().mapToLong(png -> png.length).sum();
+    }
+}
@@ -0,0 +1,492 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.ReportJobDto;
+import com.trading.journal.dto.ReportJobDto.JobStatus;
+import com.trading.journal.dto.ReportJobDto.ReportFormat;
+import com.trading.journal.dto.ReportJobRequestDto;
+import com.trading.journal.exception.JobQueueFullException;
+import com.trading.journal.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 리포트 생성 작업 서비스
+ *
+ * <p>요청 스레드에서 PDF/Excel을 만들지 않고 제한된 작업 풀에 위임한다. 결과는 사용자/형식/계좌/기간/데이터 버전으로 만든 콘텐츠 해시로 캐싱되어 같은
+ * 월간·연간·YTD 리포트 재요청은 생성 없이 즉시 완료되며, 차트 렌더링은 같은 데이터의 PDF와 Excel이 공유한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private static final String JOB_TYPE = "리포트";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final PdfReportService pdfReportService;
+    private final ExportService exportService;
+    private final TransactionDataVersionService dataVersionService;
+    private final SecurityContextService securityContextService;
+
+    @Value("${report.jobs.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${report.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${report.jobs.result-ttl-minutes:30}")
+    private long resultTtlMinutes;
+
+    @Value("${report.jobs.cache-max-entries:50}")
+    private int cacheMaxEntries;
+
+    private ExecutorService reportExecutor;
+
+    /** 작업 ID → 작업 */
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    /** 콘텐츠 키 → 진행 중인 작업 ID (동일 요청 중복 생성 방지) */
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+    /** 콘텐츠 키 → 완성된 리포트 (LRU) */
+    private Map<String, CachedReport> resultCache;
+
+    /** 차트 키(형식 무관) → 공유 차트 렌더링 결과 (LRU) */
+    private Map<String, CachedCharts> chartCache;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        workerThreads,
+                        workerThreads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "report-worker-" + threadIndex.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+        // 작업 스레드에서도 제출자의 인증 정보로 조회하도록 SecurityContext 전파
+        reportExecutor = new DelegatingSecurityContextExecutorService(executor);
+        resultCache = lruMap(cacheMaxEntries);
+        chartCache = lruMap(cacheMaxEntries);
+        log.info(
+                "Report job executor initialized: {} workers, queue capacity {}",
+                workerThreads,
+                queueCapacity);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (reportExecutor != null) {
+            reportExecutor.shutdown();
+            try {
+                if (!reportExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    reportExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                reportExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 리포트 생성 작업 제출
+     *
+     * <p>캐시 적중 시 즉시 완료 상태로, 같은 리포트가 생성 중이면 기존 작업을 반환한다.
+     *
+     * @throws JobQueueFullException 대기열이 가득 찬 경우
+     */
+    public ReportJobDto submit(ReportJobRequestDto request) {
+        validatePeriod(request.getStartDate(), request.getEndDate());
+
+        Long userId = securityContextService.getCurrentUserId().orElse(null);
+        String dataVersion = dataVersionService.currentVersion();
+        String contentKey = contentKey(userId, request, dataVersion);
+
+        CachedReport cached = getCachedReport(contentKey);
+        if (cached != null) {
+            ReportJob job = newJob(userId, request, contentKey, dataVersion);
+            job.complete(cached.content(), true);
+            jobs.put(job.jobId, job);
+            log.debug("리포트 캐시 적중: jobId={}, key={}", job.jobId, contentKey);
+            return toDto(job);
+        }
+
+        synchronized (inFlight) {
+            String runningJobId = inFlight.get(contentKey);
+            ReportJob running = runningJobId != null ? jobs.get(runningJobId) : null;
+            if (running != null && !running.isDone()) {
+                return toDto(running);
+            }
+
+            ReportJob job = newJob(userId, request, contentKey, dataVersion);
+            jobs.put(job.jobId, job);
+            try {
+                reportExecutor.execute(() -> runJob(job));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.jobId);
+                throw new JobQueueFullException(JOB_TYPE, queueCapacity);
+            }
+            inFlight.put(contentKey, job.jobId);
+            log.info(
+                    "리포트 작업 제출: jobId={}, format={}, period={} ~ {}",
+                    job.jobId,
+                    job.format,
+                    job.startDate,
+                    job.endDate);
+            return toDto(job);
+        }
+    }
+
+    /** 작업 상태 조회 (다른 사용자의 작업은 존재하지 않는 것으로 취급) */
+    public ReportJobDto getJob(String jobId) {
+        return toDto(findOwnedJob(jobId));
+    }
+
+    /**
+     * 완료된 리포트 다운로드
+     *
+     * @return 완료되지 않았으면 null
+     */
+    public ReportFile download(String jobId) {
+        ReportJob job = findOwnedJob(jobId);
+        if (job.status != JobStatus.COMPLETED) {
+            return null;
+        }
+        return new ReportFile(
+                job.result, fileName(job.format, job.startDate, job.endDate), job.format);
+    }
+
+    /** 동기 리포트 생성 (기존 GET 엔드포인트용) - 캐시를 공유하므로 반복 요청은 생성 없이 반환 */
+    public byte[] generateNow(ReportJobRequestDto request) {
+        validatePeriod(request.getStartDate(), request.getEndDate());
+
+        Long userId = securityContextService.getCurrentUserId().orElse(null);
+        String dataVersion = dataVersionService.currentVersion();
+        String contentKey = contentKey(userId, request, dataVersion);
+
+        CachedReport cached = getCachedReport(contentKey);
+        if (cached != null) {
+            return cached.content();
+        }
+        byte[] content = render(request.getFormat(), userId, request, dataVersion);
+        putCachedReport(contentKey, content);
+        return content;
+    }
+
+    /** 만료된 작업/캐시 정리 */
+    @Scheduled(fixedDelay = 300000) // 5분
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(resultTtlMinutes);
+        int removedJobs = 0;
+        for (ReportJob job : jobs.values()) {
+            if (job.isDone() && job.completedAt.isBefore(threshold)) {
+                jobs.remove(job.jobId);
+                removedJobs++;
+            }
+        }
+        synchronized (resultCache) {
+            resultCache.values().removeIf(entry -> entry.cachedAt().isBefore(threshold));
+        }
+        synchronized (chartCache) {
+            chartCache.values().removeIf(entry -> entry.cachedAt().isBefore(threshold));
+        }
+        if (removedJobs > 0) {
+            log.debug("만료된 리포트 작업 {}건 정리", removedJobs);
+        }
+    }
+
+    // === Worker ===
+
+    private void runJob(ReportJob job) {
+        job.start();
+        try {
+            ReportJobRequestDto request =
+                    ReportJobRequestDto.builder()
+                            .format(job.format)
+                            .accountId(job.accountId)
+                            .startDate(job.startDate)
+                            .endDate(job.endDate)
+                            .build();
+            byte[] content = render(job.format, job.userId, request, job.dataVersion);
+            putCachedReport(job.contentKey, content);
+            job.complete(content, false);
+            log.info(
+                    "리포트 작업 완료: jobId={}, {} bytes, {}ms",
+                    job.jobId,
+                    content.length,
+                    Duration.between(job.startedAt, job.completedAt).toMillis());
+        } catch (Exception e) {
+            log.error("리포트 작업 실패: jobId={}", job.jobId, e);
+            job.fail(e.getMessage());
+        } finally {
+            inFlight.remove(job.contentKey, job.jobId);
+        }
+    }
+
+    private byte[] render(
+            ReportFormat format, Long userId, ReportJobRequestDto request, String dataVersion) {
+        ReportCharts charts = sharedCharts(userId, request, dataVersion);
+        return switch (format) {
+            case PDF ->
+                    pdfReportService.generatePortfolioReport(
+                            request.getAccountId(),
+                            request.getStartDate(),
+                            request.getEndDate(),
+                            charts);
+            case EXCEL -> {
+                pdfReportService.renderReportCharts(
+                        request.getAccountId(),
+                        request.getStartDate(),
+                        request.getEndDate(),
+                        charts);
+                yield exportService.exportPeriodReportToExcel(
+                        request.getAccountId(),
+                        request.getStartDate(),
+                        request.getEndDate(),
+                        charts);
+            }
+        };
+    }
+
+    /** 형식과 무관한 차트 키로 렌더링 결과 공유 */
+    private ReportCharts sharedCharts(
+            Long userId, ReportJobRequestDto request, String dataVersion) {
+        String chartKey =
+                hash(
+                        String.join(
+                                "|",
+                                "charts",
+                                String.valueOf(userId),
+                                String.valueOf(request.getAccountId()),
+                                request.getStartDate().toString(),
+                                request.getEndDate().toString(),
+                                dataVersion));
+        synchronized (chartCache) {
+            CachedCharts entry = chartCache.get(chartKey);
+            if (entry == null) {
+                entry = new CachedCharts(new ReportCharts(), LocalDateTime.now());
+                chartCache.put(chartKey, entry);
+            }
+            return entry.charts();
+        }
+    }
+
+    // === Cache Keys ===
+
+    private String contentKey(Long userId, ReportJobRequestDto request, String dataVersion) {
+        return hash(
+                String.join(
+                        "|",
+                        request.getFormat().name(),
+                        String.valueOf(userId),
+                        String.valueOf(request.getAccountId()),
+                        request.getStartDate().toString(),
+                        request.getEndDate().toString(),
+                        dataVersion));
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private CachedReport getCachedReport(String contentKey) {
+        synchronized (resultCache) {
+            CachedReport cached = resultCache.get(contentKey);
+            if (cached != null
+                    && cached.cachedAt()
+                            .isBefore(LocalDateTime.now().minusMinutes(resultTtlMinutes))) {
+                resultCache.remove(contentKey);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void putCachedReport(String contentKey, byte[] content) {
+        synchronized (resultCache) {
+            resultCache.put(contentKey, new CachedReport(content, LocalDateTime.now()));
+        }
+    }
+
+    // === Helpers ===
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("시작일과 종료일은 필수입니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+    }
+
+    private ReportJob findOwnedJob(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        Long userId = securityContextService.getCurrentUserId().orElse(null);
+        if (job == null || !Objects.equals(job.userId, userId)) {
+            throw new ResourceNotFoundException("리포트 작업", "jobId", jobId);
+        }
+        return job;
+    }
+
+    private ReportJob newJob(
+            Long userId, ReportJobRequestDto request, String contentKey, String dataVersion) {
+        return new ReportJob(
+                UUID.randomUUID().toString(),
+                userId,
+                request.getFormat(),
+                request.getAccountId(),
+                request.getStartDate(),
+                request.getEndDate(),
+                contentKey,
+                dataVersion);
+    }
+
+    public static String fileName(ReportFormat format, LocalDate startDate, LocalDate endDate) {
+        return String.format(
+                "portfolio_report_%s_%s.%s",
+                startDate.format(FILE_DATE), endDate.format(FILE_DATE), format.getExtension());
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        return ReportJobDto.builder()
+                .jobId(job.jobId)
+                .format(job.format)
+                .status(job.status)
+                .accountId(job.accountId)
+                .startDate(job.startDate)
+                .endDate(job.endDate)
+                .cacheHit(job.cacheHit)
+                .sizeBytes(job.result != null ? job.result.length : null)
+                .errorMessage(job.errorMessage)
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .downloadUrl(
+                        job.status == JobStatus.COMPLETED
+                                ? "/api/reports/jobs/" + job.jobId + "/download"
+                                : null)
+                .build();
+    }
+
+    private static <V> Map<String, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // === Internal Types ===
+
+    /** 다운로드용 리포트 파일 */
+    public record ReportFile(byte[] content, String fileName, ReportFormat format) {}
+
+    private record CachedReport(byte[] content, LocalDateTime cachedAt) {}
+
+    private record CachedCharts(ReportCharts charts, LocalDateTime cachedAt) {}
+
+    /** 작업 상태 (상태 전이는 작업 스레드 한 곳에서만 일어나며, 조회 스레드를 위해 volatile) */
+    private static class ReportJob {
+        private final String jobId;
+        private final Long userId;
+        private final ReportFormat format;
+        private final Long accountId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final String contentKey;
+        private final String dataVersion;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile boolean cacheHit;
+        private volatile byte[] result;
+        private volatile String errorMessage;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+
+        ReportJob(
+                String jobId,
+                Long userId,
+                ReportFormat format,
+                Long accountId,
+                LocalDate startDate,
+                LocalDate endDate,
+                String contentKey,
+                String dataVersion) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.format = format;
+            this.accountId = accountId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.contentKey = contentKey;
+            this.dataVersion = dataVersion;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = JobStatus.RUNNING;
+        }
+
+        void complete(byte[] content, boolean fromCache) {
+            result = content;
+            cacheHit = fromCache;
+            if (startedAt == null) {
+                startedAt = submittedAt;
+            }
+            completedAt = LocalDateTime.now();
+            status = JobStatus.COMPLETED;
+        }
+
+        void fail(String message) {
+            errorMessage = message;
+            completedAt = LocalDateTime.now();
+            status = JobStatus.FAILED;
+        }
+
+        boolean isDone() {
+            return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+        }
+    }
+}
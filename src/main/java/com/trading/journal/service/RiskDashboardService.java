@@ -4,11 +4,11 @@ import com.trading.journal.dto.AccountRiskSettingsDto;
 import com.trading.journal.dto.RiskDashboardDto;
 import com.trading.journal.dto.RiskDashboardDto.*;
 import com.trading.journal.dto.RiskMetricsDto;
-import com.trading.journal.entity.Portfolio;
 import com.trading.journal.entity.Sector;
 import com.trading.journal.entity.Transaction;
-import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.service.HoldingsSnapshot.Position;
+import com.trading.journal.service.HoldingsSnapshot.Rollup;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -67,10 +67,9 @@ public class RiskDashboardService {
 
     private final AccountRiskSettingsService riskSettingsService;
     private final TransactionRepository transactionRepository;
-    private final PortfolioRepository portfolioRepository;
     private final PortfolioAnalysisService portfolioAnalysisService;
     private final RiskMetricsService riskMetricsService;
-    private final StockPriceService stockPriceService;
+    private final HoldingsSnapshotService holdingsSnapshotService;
     private final AccountService accountService;
 
     /** 종합 리스크 대시보드 조회 */
@@ -84,11 +83,16 @@ public class RiskDashboardService {
                         ? settings.getAccountCapital()
                         : BigDecimal.ZERO;
 
-        // 포트폴리오 가치 계산
-        BigDecimal totalPortfolioValue = calculateTotalPortfolioValue(targetAccountId);
+        // 보유 종목 스냅샷 (포지션/시세를 한 번만 읽어 아래 항목이 모두 공유)
+        HoldingsSnapshot holdings = holdingsSnapshotService.snapshot(targetAccountId);
+        BigDecimal totalPortfolioValue = holdings.totalValue();
 
-        // 오픈 리스크 계산
-        BigDecimal totalOpenRisk = calculateTotalOpenRisk(targetAccountId);
+        // 포지션별 리스크와 오픈 리스크 합계
+        List<PositionRiskSummary> positionRisks = positionRisks(targetAccountId, holdings, capital);
+        BigDecimal totalOpenRisk =
+                positionRisks.stream()
+                        .map(PositionRiskSummary::getRiskAmount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
         BigDecimal openRiskPercent =
                 capital.compareTo(BigDecimal.ZERO) > 0
                         ? totalOpenRisk
@@ -109,20 +113,18 @@ public class RiskDashboardService {
         RiskLimitStatus dailyStatus = calculateDailyLossStatus(targetAccountId, settings, todayPnl);
         RiskLimitStatus weeklyStatus =
                 calculateWeeklyLossStatus(targetAccountId, settings, weekPnl);
-        RiskLimitStatus positionStatus = calculatePositionCountStatus(targetAccountId, settings);
+        RiskLimitStatus positionStatus =
+                calculatePositionCountStatus(holdings.positions().size(), settings);
 
         // 집중도 알림
-        List<ConcentrationAlert> alerts = checkConcentrationLimits(targetAccountId, settings);
+        List<ConcentrationAlert> alerts = concentrationAlerts(holdings, settings);
 
         // R-multiple 분석
         RMultipleAnalysis rMultipleAnalysis =
                 analyzeRMultiples(targetAccountId, LocalDate.now().minusMonths(3), LocalDate.now());
 
-        // 포지션별 리스크
-        List<PositionRiskSummary> positionRisks = getPositionRisks(targetAccountId);
-
         // 섹터 노출
-        List<SectorExposure> sectorExposures = getSectorExposures(targetAccountId, settings);
+        List<SectorExposure> sectorExposures = sectorExposures(holdings, settings);
 
         // 기존 리스크 지표
         RiskMetricsDto riskMetrics = null;
@@ -227,38 +229,63 @@ public class RiskDashboardService {
     /** 포지션별 리스크 요약 */
     public List<PositionRiskSummary> getPositionRisks(Long accountId) {
         Long targetAccountId = resolveAccountId(accountId);
-        List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(targetAccountId);
-
         AccountRiskSettingsDto settings = riskSettingsService.getRiskSettings(targetAccountId);
         BigDecimal capital =
                 settings.getAccountCapital() != null
                         ? settings.getAccountCapital()
                         : BigDecimal.ZERO;
+        return positionRisks(
+                targetAccountId, holdingsSnapshotService.snapshot(targetAccountId), capital);
+    }
 
-        // 배치 로딩: 모든 BUY 거래를 한 번에 조회 (N+1 쿼리 최적화)
-        Map<Long, List<Transaction>> buyTransactionsByStock =
-                batchFetchBuyTransactions(targetAccountId);
+    /** 집중도 한도 체크 */
+    public List<ConcentrationAlert> checkConcentrationLimits(
+            Long accountId, AccountRiskSettingsDto settings) {
+        Long targetAccountId = resolveAccountId(accountId);
+        if (settings == null) {
+            settings = riskSettingsService.getRiskSettings(targetAccountId);
+        }
+        return concentrationAlerts(holdingsSnapshotService.snapshot(targetAccountId), settings);
+    }
 
-        // 배치로 가격 조회 (N+1 쿼리 방지)
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
+    /** 섹터 노출 조회 */
+    public List<SectorExposure> getSectorExposures(
+            Long accountId, AccountRiskSettingsDto settings) {
+        Long targetAccountId = resolveAccountId(accountId);
+        if (settings == null) {
+            settings = riskSettingsService.getRiskSettings(targetAccountId);
+        }
+        return sectorExposures(holdingsSnapshotService.snapshot(targetAccountId), settings);
+    }
 
-        List<PositionRiskSummary> risks = new ArrayList<>();
+    // ===== Helper Methods =====
 
-        for (Portfolio portfolio : portfolios) {
-            if (portfolio.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
+    private Long resolveAccountId(Long accountId) {
+        if (accountId == null) {
+            return accountService.getDefaultAccount().getId();
+        }
+        return accountId;
+    }
+
+    private List<PositionRiskSummary> positionRisks(
+            Long accountId, HoldingsSnapshot holdings, BigDecimal capital) {
+        if (holdings.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            String symbol = portfolio.getStock().getSymbol();
-            BigDecimal currentPrice = getPrice(priceMap, symbol, portfolio.getAveragePrice());
+        // 배치 로딩: 모든 BUY 거래를 한 번에 조회 (N+1 쿼리 최적화)
+        Map<Long, List<Transaction>> buyTransactionsByStock = batchFetchBuyTransactions(accountId);
+
+        List<PositionRiskSummary> risks = new ArrayList<>();
 
-            BigDecimal positionValue = portfolio.getQuantity().multiply(currentPrice);
-            BigDecimal unrealizedPnl = positionValue.subtract(portfolio.getTotalInvestment());
+        for (Position position : holdings.positions()) {
+            BigDecimal currentPrice = position.currentPrice();
+            BigDecimal unrealizedPnl = position.unrealizedPnl();
             BigDecimal unrealizedPnlPercent =
-                    portfolio.getTotalInvestment().compareTo(BigDecimal.ZERO) > 0
+                    position.totalInvestment().compareTo(BigDecimal.ZERO) > 0
                             ? unrealizedPnl
                                     .divide(
-                                            portfolio.getTotalInvestment(),
+                                            position.totalInvestment(),
                                             DECIMAL_SCALE,
                                             RoundingMode.HALF_UP)
                                     .multiply(PERCENT_MULTIPLIER)
@@ -273,7 +300,7 @@ public class RiskDashboardService {
             // Map에서 해당 종목의 BUY 거래 조회 (이미 로드된 데이터 사용)
             List<Transaction> buyTransactions =
                     buyTransactionsByStock.getOrDefault(
-                            portfolio.getStock().getId(), Collections.emptyList());
+                            position.stockId(), Collections.emptyList());
 
             if (!buyTransactions.isEmpty()) {
                 Transaction latestBuy = buyTransactions.get(buyTransactions.size() - 1);
@@ -282,15 +309,13 @@ public class RiskDashboardService {
 
                 if (stopLossPrice != null) {
                     riskAmount =
-                            portfolio
-                                    .getAveragePrice()
+                            position.averagePrice()
                                     .subtract(stopLossPrice)
                                     .abs()
-                                    .multiply(portfolio.getQuantity());
+                                    .multiply(position.quantity());
 
                     // 현재 R 계산
-                    currentR =
-                            calculateCurrentR(latestBuy, currentPrice, portfolio.getAveragePrice());
+                    currentR = calculateCurrentR(latestBuy, currentPrice, position.averagePrice());
                 }
             }
 
@@ -303,10 +328,10 @@ public class RiskDashboardService {
 
             risks.add(
                     PositionRiskSummary.builder()
-                            .stockSymbol(symbol)
-                            .stockName(portfolio.getStock().getName())
-                            .quantity(portfolio.getQuantity())
-                            .entryPrice(portfolio.getAveragePrice())
+                            .stockSymbol(position.symbol())
+                            .stockName(position.name())
+                            .quantity(position.quantity())
+                            .entryPrice(position.averagePrice())
                             .currentPrice(currentPrice)
                             .stopLossPrice(stopLossPrice)
                             .takeProfitPrice(takeProfitPrice)
@@ -321,47 +346,28 @@ public class RiskDashboardService {
         return risks;
     }
 
-    /** 집중도 한도 체크 */
-    public List<ConcentrationAlert> checkConcentrationLimits(
-            Long accountId, AccountRiskSettingsDto settings) {
-        Long targetAccountId = resolveAccountId(accountId);
+    private List<ConcentrationAlert> concentrationAlerts(
+            HoldingsSnapshot holdings, AccountRiskSettingsDto settings) {
         List<ConcentrationAlert> alerts = new ArrayList<>();
 
-        if (settings == null) {
-            settings = riskSettingsService.getRiskSettings(targetAccountId);
-        }
-
         BigDecimal capital = settings.getAccountCapital();
         if (capital == null || capital.compareTo(BigDecimal.ZERO) == 0) {
             return alerts;
         }
 
-        List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(targetAccountId);
-
-        // 배치로 가격 조회 (N+1 쿼리 방지)
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
-
         // 종목별 집중도 체크
-        for (Portfolio portfolio : portfolios) {
-            if (portfolio.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            String symbol = portfolio.getStock().getSymbol();
-            BigDecimal currentPrice = getPrice(priceMap, symbol, portfolio.getAveragePrice());
-
-            BigDecimal positionValue = portfolio.getQuantity().multiply(currentPrice);
+        for (Position position : holdings.positions()) {
             BigDecimal concentration =
-                    positionValue
+                    position.marketValue()
                             .divide(capital, DECIMAL_SCALE, RoundingMode.HALF_UP)
                             .multiply(PERCENT_MULTIPLIER);
 
             if (concentration.compareTo(settings.getMaxStockConcentrationPercent()) > 0) {
                 alerts.add(
                         ConcentrationAlert.builder()
-                                .stockSymbol(symbol)
-                                .stockName(portfolio.getStock().getName())
-                                .sector(portfolio.getStock().getSector())
+                                .stockSymbol(position.symbol())
+                                .stockName(position.name())
+                                .sector(position.sector())
                                 .concentration(concentration)
                                 .limit(settings.getMaxStockConcentrationPercent())
                                 .alertType(ALERT_TYPE_STOCK)
@@ -372,129 +378,34 @@ public class RiskDashboardService {
         return alerts;
     }
 
-    /** 섹터 노출 조회 */
-    public List<SectorExposure> getSectorExposures(
-            Long accountId, AccountRiskSettingsDto settings) {
-        Long targetAccountId = resolveAccountId(accountId);
-
-        if (settings == null) {
-            settings = riskSettingsService.getRiskSettings(targetAccountId);
-        }
-
+    private List<SectorExposure> sectorExposures(
+            HoldingsSnapshot holdings, AccountRiskSettingsDto settings) {
         BigDecimal capital = settings.getAccountCapital();
         if (capital == null || capital.compareTo(BigDecimal.ZERO) == 0) {
             capital = BigDecimal.ONE; // Avoid division by zero
         }
 
-        List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(targetAccountId);
-
-        // 배치로 가격 조회 (N+1 쿼리 방지)
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
-
-        // 섹터별 합계
-        Map<Sector, BigDecimal> sectorValues = new HashMap<>();
-
-        for (Portfolio portfolio : portfolios) {
-            if (portfolio.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            Sector sector = portfolio.getStock().getSector();
-            if (sector == null) {
-                sector = Sector.OTHER;
-            }
-
-            String symbol = portfolio.getStock().getSymbol();
-            BigDecimal currentPrice = getPrice(priceMap, symbol, portfolio.getAveragePrice());
-
-            BigDecimal positionValue = portfolio.getQuantity().multiply(currentPrice);
-            sectorValues.merge(sector, positionValue, BigDecimal::add);
-        }
-
         BigDecimal sectorLimit = settings.getMaxSectorConcentrationPercent();
-        final BigDecimal finalCapital = capital;
-
-        return sectorValues.entrySet().stream()
-                .map(
-                        entry -> {
-                            BigDecimal percentage =
-                                    entry.getValue()
-                                            .divide(
-                                                    finalCapital,
-                                                    DECIMAL_SCALE,
-                                                    RoundingMode.HALF_UP)
-                                            .multiply(PERCENT_MULTIPLIER);
-                            return SectorExposure.builder()
-                                    .sector(entry.getKey())
-                                    .sectorLabel(entry.getKey().getLabel())
-                                    .value(entry.getValue())
-                                    .percentage(percentage)
-                                    .limit(sectorLimit)
-                                    .exceedsLimit(percentage.compareTo(sectorLimit) > 0)
-                                    .build();
-                        })
-                .sorted((a, b) -> b.getPercentage().compareTo(a.getPercentage()))
-                .collect(Collectors.toList());
-    }
-
-    // ===== Helper Methods =====
+        List<SectorExposure> exposures = new ArrayList<>();
 
-    private Long resolveAccountId(Long accountId) {
-        if (accountId == null) {
-            return accountService.getDefaultAccount().getId();
-        }
-        return accountId;
-    }
-
-    /**
-     * 포트폴리오의 모든 종목에 대해 현재 가격을 배치로 조회합니다. (N+1 쿼리 방지) 가격 조회 실패 시 평균 매수가를 fallback으로 사용합니다.
-     *
-     * @param portfolios 포트폴리오 목록
-     * @return 종목 심볼 -> 현재 가격 Map
-     */
-    private Map<String, BigDecimal> batchFetchCurrentPrices(List<Portfolio> portfolios) {
-        Map<String, BigDecimal> priceMap = new HashMap<>();
-
-        // 활성 포지션의 심볼만 추출
-        List<String> symbols =
-                portfolios.stream()
-                        .filter(p -> p.getQuantity().compareTo(BigDecimal.ZERO) > 0)
-                        .map(p -> p.getStock().getSymbol())
-                        .distinct()
-                        .collect(Collectors.toList());
-
-        if (symbols.isEmpty()) {
-            return priceMap;
-        }
-
-        // 배치로 가격 조회 시도
-        for (String symbol : symbols) {
-            try {
-                BigDecimal price = stockPriceService.getCurrentPrice(symbol);
-                priceMap.put(symbol, price);
-            } catch (Exception e) {
-                log.debug(
-                        "Price fetch failed for {}, will use average price as fallback: {}",
-                        symbol,
-                        e.getMessage());
-                // fallback 가격은 호출 시점에 처리
-            }
+        // 스냅샷 섹터 합계는 평가금액 내림차순
+        for (Map.Entry<Sector, Rollup> entry : holdings.sectors().entrySet()) {
+            BigDecimal value = entry.getValue().value();
+            BigDecimal percentage =
+                    value.divide(capital, DECIMAL_SCALE, RoundingMode.HALF_UP)
+                            .multiply(PERCENT_MULTIPLIER);
+            exposures.add(
+                    SectorExposure.builder()
+                            .sector(entry.getKey())
+                            .sectorLabel(entry.getKey().getLabel())
+                            .value(value)
+                            .percentage(percentage)
+                            .limit(sectorLimit)
+                            .exceedsLimit(percentage.compareTo(sectorLimit) > 0)
+                            .build());
         }
 
-        return priceMap;
-    }
-
-    /**
-     * 캐시된 가격 Map에서 현재 가격을 조회합니다. 가격이 없으면 fallback 가격을 반환합니다.
-     *
-     * @param priceMap 캐시된 가격 Map
-     * @param symbol 종목 심볼
-     * @param fallbackPrice fallback 가격 (일반적으로 평균 매수가)
-     * @return 현재 가격 또는 fallback 가격
-     */
-    private BigDecimal getPrice(
-            Map<String, BigDecimal> priceMap, String symbol, BigDecimal fallbackPrice) {
-        return priceMap.getOrDefault(symbol, fallbackPrice);
+        return exposures;
     }
 
     /**
@@ -537,61 +448,6 @@ public class RiskDashboardService {
         return currentRiskPerShare.divide(avgRiskPerShare, DECIMAL_SCALE, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateTotalPortfolioValue(Long accountId) {
-        List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(accountId);
-
-        // 배치로 가격 조회 (N+1 쿼리 방지)
-        Map<String, BigDecimal> priceMap = batchFetchCurrentPrices(portfolios);
-
-        BigDecimal total = BigDecimal.ZERO;
-
-        for (Portfolio portfolio : portfolios) {
-            if (portfolio.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            String symbol = portfolio.getStock().getSymbol();
-            BigDecimal currentPrice = getPrice(priceMap, symbol, portfolio.getAveragePrice());
-
-            total = total.add(portfolio.getQuantity().multiply(currentPrice));
-        }
-
-        return total;
-    }
-
-    private BigDecimal calculateTotalOpenRisk(Long accountId) {
-        List<Portfolio> portfolios = portfolioRepository.findByAccountIdWithStock(accountId);
-        BigDecimal totalRisk = BigDecimal.ZERO;
-
-        // 배치 로딩: 모든 BUY 거래를 한 번에 조회 (N+1 쿼리 최적화)
-        Map<Long, List<Transaction>> buyTransactionsByStock = batchFetchBuyTransactions(accountId);
-
-        for (Portfolio portfolio : portfolios) {
-            if (portfolio.getQuantity().compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            // Map에서 해당 종목의 BUY 거래 조회 (이미 로드된 데이터 사용)
-            List<Transaction> buyTransactions =
-                    buyTransactionsByStock.getOrDefault(
-                            portfolio.getStock().getId(), Collections.emptyList());
-
-            if (!buyTransactions.isEmpty()) {
-                Transaction latestBuy = buyTransactions.get(buyTransactions.size() - 1);
-                if (latestBuy.getStopLossPrice() != null) {
-                    BigDecimal riskPerShare =
-                            portfolio
-                                    .getAveragePrice()
-                                    .subtract(latestBuy.getStopLossPrice())
-                                    .abs();
-                    totalRisk = totalRisk.add(riskPerShare.multiply(portfolio.getQuantity()));
-                }
-            }
-        }
-
-        return totalRisk;
-    }
-
     private BigDecimal getMonthPnl(Long accountId) {
         LocalDate today = LocalDate.now();
         LocalDate startOfMonth = today.with(TemporalAdjusters.firstDayOfMonth());
@@ -672,8 +528,7 @@ public class RiskDashboardService {
     }
 
     private RiskLimitStatus calculatePositionCountStatus(
-            Long accountId, AccountRiskSettingsDto settings) {
-        int currentPositions = portfolioRepository.countActivePositionsByAccountId(accountId);
+            int currentPositions, AccountRiskSettingsDto settings) {
         int limit = settings.getMaxOpenPositions();
         int remaining = limit - currentPositions;
         BigDecimal percentUsed =
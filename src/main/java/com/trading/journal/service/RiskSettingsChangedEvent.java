@@ -0,0 +1,9 @@
+package com.trading.journal.service;
+
+/**
+ * 계좌 리스크 설정(한도/자본금)이 바뀌었음을 알리는 이벤트. 트랜잭션 커밋 후 {@link PreTradeRiskService}가 받아 해당 계좌의 메모리 상태를 다시 읽게
+ * 한다.
+ *
+ * @param accountId 설정이 바뀐 계좌
+ */
+public record RiskSettingsChangedEvent(Long accountId) {}
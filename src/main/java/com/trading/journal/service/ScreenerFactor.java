@@ -0,0 +1,109 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.StockFundamentals;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Numeric columns of the in-memory screener index.
+ *
+ * <p>Each factor knows the {@link StockFundamentals} property it reads (also accepted as a sort
+ * key, matching the old JPA sort names) and whether a higher value is better. Percentiles and
+ * composite scores are direction-adjusted, so the "best" stock always has the highest percentile.
+ */
+public enum ScreenerFactor {
+    MARKET_CAP("marketCap", true, StockFundamentals::getMarketCap),
+    PE_RATIO("peRatio", false, StockFundamentals::getPeRatio),
+    PB_RATIO("pbRatio", false, StockFundamentals::getPbRatio),
+    PS_RATIO("psRatio", false, StockFundamentals::getPsRatio),
+    PEG_RATIO("pegRatio", false, StockFundamentals::getPegRatio),
+    EV_TO_EBITDA("evToEbitda", false, StockFundamentals::getEvToEbitda),
+    ROE("returnOnEquity", true, StockFundamentals::getReturnOnEquity),
+    ROA("returnOnAssets", true, StockFundamentals::getReturnOnAssets),
+    PROFIT_MARGIN("profitMargin", true, StockFundamentals::getProfitMargin),
+    OPERATING_MARGIN("operatingMargin", true, StockFundamentals::getOperatingMargin),
+    DIVIDEND_YIELD("dividendYield", true, StockFundamentals::getDividendYield),
+    REVENUE_GROWTH("revenueGrowth", true, StockFundamentals::getRevenueGrowth),
+    EPS_GROWTH("epsGrowth", true, StockFundamentals::getEpsGrowth),
+    DEBT_TO_EQUITY("debtToEquity", false, StockFundamentals::getDebtToEquity),
+    CURRENT_RATIO("currentRatio", true, StockFundamentals::getCurrentRatio),
+    BETA("beta", false, StockFundamentals::getBeta),
+    AVERAGE_VOLUME("averageVolume", true, StockFundamentals::getAverageVolume),
+    /** Current price relative to the 52-week high (0 = at the high, -0.25 = 25% below). */
+    FROM_52W_HIGH("from52WeekHigh", true, ScreenerFactor::from52WeekHigh),
+    /** Position of the current price inside the 52-week range (0 = low, 1 = high). */
+    RANGE_52W_POSITION("range52WeekPosition", true, ScreenerFactor::range52WeekPosition);
+
+    private final String property;
+    private final boolean higherIsBetter;
+    private final Function<StockFundamentals, BigDecimal> extractor;
+
+    ScreenerFactor(
+            String property,
+            boolean higherIsBetter,
+            Function<StockFundamentals, BigDecimal> extractor) {
+        this.property = property;
+        this.higherIsBetter = higherIsBetter;
+        this.extractor = extractor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isHigherBetter() {
+        return higherIsBetter;
+    }
+
+    BigDecimal valueOf(StockFundamentals fundamentals) {
+        return extractor.apply(fundamentals);
+    }
+
+    /**
+     * Resolve a factor by enum name or property name (case-insensitive).
+     *
+     * @throws IllegalArgumentException if no factor matches
+     */
+    public static ScreenerFactor resolve(String key) {
+        if (key != null) {
+            String normalized = key.trim();
+            for (ScreenerFactor factor : values()) {
+                if (factor.name().equalsIgnoreCase(normalized)
+                        || factor.property.equalsIgnoreCase(normalized)) {
+                    return factor;
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown screener factor: " + key + " (expected one of " + names() + ")");
+    }
+
+    private static String names() {
+        return Arrays.stream(values())
+                .map(factor -> factor.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static BigDecimal from52WeekHigh(StockFundamentals f) {
+        BigDecimal price = f.getCurrentPrice();
+        BigDecimal high = f.getFiftyTwoWeekHigh();
+        if (price == null || high == null || high.signum() <= 0) {
+            return null;
+        }
+        return price.divide(high, 6, RoundingMode.HALF_UP).subtract(BigDecimal.ONE);
+    }
+
+    private static BigDecimal range52WeekPosition(StockFundamentals f) {
+        BigDecimal price = f.getCurrentPrice();
+        BigDecimal high = f.getFiftyTwoWeekHigh();
+        BigDecimal low = f.getFiftyTwoWeekLow();
+        if (price == null || high == null || low == null || high.compareTo(low) <= 0) {
+            return null;
+        }
+        return price.subtract(low).divide(high.subtract(low), 6, RoundingMode.HALF_UP);
+    }
+}
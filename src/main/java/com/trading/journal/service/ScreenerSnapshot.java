@@ -0,0 +1,312 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.StockFundamentals;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar snapshot of all stock fundamentals used by the screener.
+ *
+ * <p>Rows are ordered by symbol. Every {@link ScreenerFactor} is stored as a {@code double[]}
+ * column (NaN for missing values) together with its non-null rows sorted by value, so range
+ * predicates become two binary searches that set a {@link BitSet}, and sorted output is a single
+ * pass over the precomputed order. Direction-adjusted percentiles (0-100, ties share the average
+ * rank) are computed once per snapshot. Category filters use one bitset per sector, industry and
+ * exchange.
+ */
+final class ScreenerSnapshot {
+
+    private static final ScreenerFactor[] FACTORS = ScreenerFactor.values();
+
+    /** Display fields of one row. */
+    record Row(
+            Long id,
+            String symbol,
+            String companyName,
+            String exchange,
+            Sector sector,
+            String industry,
+            LocalDate lastUpdated) {}
+
+    private final LocalDateTime builtAt;
+    private final Row[] rows;
+    private final BigDecimal[][] raw;
+    private final double[][] values;
+    private final int[][] sortedRows;
+    private final double[][] sortedValues;
+    private final double[][] percentiles;
+    private final Map<Sector, BitSet> bySector = new EnumMap<>(Sector.class);
+    private final Map<String, BitSet> byIndustry = new HashMap<>();
+    private final Map<String, BitSet> byExchange = new HashMap<>();
+
+    private ScreenerSnapshot(List<StockFundamentals> fundamentals, LocalDateTime builtAt) {
+        this.builtAt = builtAt;
+        List<StockFundamentals> ordered =
+                fundamentals.stream()
+                        .sorted(
+                                Comparator.comparing(
+                                        StockFundamentals::getSymbol,
+                                        Comparator.nullsLast(Comparator.naturalOrder())))
+                        .toList();
+        int n = ordered.size();
+        rows = new Row[n];
+        raw = new BigDecimal[FACTORS.length][n];
+        values = new double[FACTORS.length][n];
+        sortedRows = new int[FACTORS.length][];
+        sortedValues = new double[FACTORS.length][];
+        percentiles = new double[FACTORS.length][];
+
+        for (int i = 0; i < n; i++) {
+            StockFundamentals f = ordered.get(i);
+            String exchange = inferExchange(f.getSymbol());
+            rows[i] =
+                    new Row(
+                            f.getId(),
+                            f.getSymbol(),
+                            f.getCompanyName(),
+                            exchange,
+                            f.getSector(),
+                            f.getIndustry(),
+                            f.getLastUpdated());
+            for (ScreenerFactor factor : FACTORS) {
+                BigDecimal value = factor.valueOf(f);
+                raw[factor.ordinal()][i] = value;
+                values[factor.ordinal()][i] = value != null ? value.doubleValue() : Double.NaN;
+            }
+            if (f.getSector() != null) {
+                bySector.computeIfAbsent(f.getSector(), k -> new BitSet(n)).set(i);
+            }
+            if (f.getIndustry() != null) {
+                byIndustry.computeIfAbsent(f.getIndustry(), k -> new BitSet(n)).set(i);
+            }
+            if (exchange != null) {
+                byExchange.computeIfAbsent(exchange, k -> new BitSet(n)).set(i);
+            }
+        }
+        for (ScreenerFactor factor : FACTORS) {
+            indexColumn(factor);
+        }
+    }
+
+    static ScreenerSnapshot build(List<StockFundamentals> fundamentals, LocalDateTime builtAt) {
+        return new ScreenerSnapshot(fundamentals, builtAt);
+    }
+
+    private void indexColumn(ScreenerFactor factor) {
+        int c = factor.ordinal();
+        double[] column = values[c];
+        int[] order =
+                IntStream.range(0, column.length)
+                        .filter(i -> !Double.isNaN(column[i]))
+                        .boxed()
+                        .sorted(Comparator.comparingDouble(i -> column[i]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+        double[] sorted = new double[order.length];
+        for (int k = 0; k < order.length; k++) {
+            sorted[k] = column[order[k]];
+        }
+
+        double[] pct = new double[column.length];
+        Arrays.fill(pct, Double.NaN);
+        int m = order.length;
+        int start = 0;
+        while (start < m) {
+            int end = start;
+            while (end + 1 < m && sorted[end + 1] == sorted[start]) {
+                end++;
+            }
+            double rank = (start + end) / 2.0;
+            double p = m > 1 ? rank / (m - 1) * 100.0 : 100.0;
+            if (!factor.isHigherBetter()) {
+                p = 100.0 - p;
+            }
+            for (int k = start; k <= end; k++) {
+                pct[order[k]] = p;
+            }
+            start = end + 1;
+        }
+
+        sortedRows[c] = order;
+        sortedValues[c] = sorted;
+        percentiles[c] = pct;
+    }
+
+    LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    Row row(int index) {
+        return rows[index];
+    }
+
+    BigDecimal raw(ScreenerFactor factor, int index) {
+        return raw[factor.ordinal()][index];
+    }
+
+    /** Direction-adjusted percentile (0-100) of the row, NaN when the value is missing. */
+    double percentile(ScreenerFactor factor, int index) {
+        return percentiles[factor.ordinal()][index];
+    }
+
+    /** Every row. */
+    BitSet all() {
+        BitSet bits = new BitSet(rows.length);
+        bits.set(0, rows.length);
+        return bits;
+    }
+
+    /**
+     * Rows whose value lies in [min, max]; a null bound is open. Rows with a missing value never
+     * match, like the SQL comparison they replace.
+     */
+    BitSet range(ScreenerFactor factor, Double min, Double max) {
+        int c = factor.ordinal();
+        double[] sorted = sortedValues[c];
+        int from = min != null ? lowerBound(sorted, min) : 0;
+        int to = max != null ? upperBound(sorted, max) : sorted.length;
+        BitSet bits = new BitSet(rows.length);
+        int[] order = sortedRows[c];
+        for (int k = from; k < to; k++) {
+            bits.set(order[k]);
+        }
+        return bits;
+    }
+
+    /** Rows whose direction-adjusted percentile is at least {@code minPercentile}. */
+    BitSet percentileAtLeast(ScreenerFactor factor, double minPercentile) {
+        double[] pct = percentiles[factor.ordinal()];
+        BitSet bits = new BitSet(rows.length);
+        for (int i = 0; i < pct.length; i++) {
+            if (pct[i] >= minPercentile) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    BitSet sectors(Collection<Sector> sectors) {
+        BitSet bits = new BitSet(rows.length);
+        sectors.forEach(s -> bits.or(bySector.getOrDefault(s, new BitSet())));
+        return bits;
+    }
+
+    BitSet industries(Collection<String> industries) {
+        BitSet bits = new BitSet(rows.length);
+        industries.forEach(i -> bits.or(byIndustry.getOrDefault(i, new BitSet())));
+        return bits;
+    }
+
+    BitSet exchanges(Collection<String> exchanges) {
+        BitSet bits = new BitSet(rows.length);
+        exchanges.forEach(e -> bits.or(byExchange.getOrDefault(e, new BitSet())));
+        return bits;
+    }
+
+    /**
+     * Matching rows ordered by the factor value; rows with a missing value come last in symbol
+     * order.
+     */
+    int[] orderBy(ScreenerFactor factor, boolean descending, BitSet matches) {
+        int[] order = sortedRows[factor.ordinal()];
+        int[] result = new int[matches.cardinality()];
+        int k = 0;
+        for (int j = 0; j < order.length; j++) {
+            int row = order[descending ? order.length - 1 - j : j];
+            if (matches.get(row)) {
+                result[k++] = row;
+            }
+        }
+        double[] column = values[factor.ordinal()];
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            if (Double.isNaN(column[row])) {
+                result[k++] = row;
+            }
+        }
+        return result;
+    }
+
+    /** Matching rows in symbol order. */
+    int[] bySymbol(BitSet matches, boolean descending) {
+        int[] result = matches.stream().toArray();
+        if (descending) {
+            for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+                int tmp = result[i];
+                result[i] = result[j];
+                result[j] = tmp;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Weighted mean of direction-adjusted percentiles. Missing factors are skipped and the
+     * remaining weights renormalized; NaN when no weighted factor has a value.
+     */
+    double compositeScore(Map<ScreenerFactor, Double> weights, int index) {
+        double weighted = 0;
+        double totalWeight = 0;
+        for (Map.Entry<ScreenerFactor, Double> entry : weights.entrySet()) {
+            double p = percentiles[entry.getKey().ordinal()][index];
+            double w = entry.getValue();
+            if (!Double.isNaN(p) && w > 0) {
+                weighted += p * w;
+                totalWeight += w;
+            }
+        }
+        return totalWeight > 0 ? weighted / totalWeight : Double.NaN;
+    }
+
+    static String inferExchange(String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return null;
+        }
+        if (symbol.endsWith(".KS") || symbol.endsWith(".KQ")) {
+            return "KRX";
+        }
+        return "US";
+    }
+
+    private static int lowerBound(double[] sorted, double key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(double[] sorted, double key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -5,6 +5,8 @@ import com.trading.journal.dto.SectorAnalysisDto.*;
 import com.trading.journal.entity.*;
 import com.trading.journal.repository.StockRepository;
 import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.service.HoldingsSnapshot.Position;
+import com.trading.journal.service.HoldingsSnapshot.Rollup;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -16,6 +18,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +30,14 @@ public class SectorAnalysisService {
 
     private final TransactionRepository transactionRepository;
     private final StockRepository stockRepository;
-
-    /** 섹터별 종합 분석 */
+    private final HoldingsSnapshotService holdingsSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 섹터별 종합 분석
+     *
+     * <p>현재 배분과 미실현 손익은 보유 종목 스냅샷(현재가 평가)에서, 실현 성과와 로테이션은 기간 내 거래에서 계산한다. 계좌가 없으면 전체 계좌 기준.
+     */
     @Cacheable(value = "sectorAnalysis", key = "#accountId + '_' + #startDate + '_' + #endDate")
     public SectorAnalysisDto analyzeSectors(
             Long accountId, LocalDate startDate, LocalDate endDate) {
@@ -39,29 +48,38 @@ public class SectorAnalysisService {
 
         // 기간 내 거래 조회
         List<Transaction> transactions =
-                transactionRepository.findByDateRange(startDateTime, endDateTime);
+                accountId != null
+                        ? transactionRepository.findByAccountIdAndDateRange(
+                                accountId, startDateTime, endDateTime)
+                        : transactionRepository.findByDateRange(startDateTime, endDateTime);
+
+        // 현재 보유 종목 (시세 반영)
+        HoldingsSnapshot holdings = holdingsSnapshotService.snapshot(accountId);
 
-        if (transactions.isEmpty()) {
+        if (transactions.isEmpty() && holdings.isEmpty()) {
             return buildEmptyAnalysis(startDate, endDate);
         }
 
-        // 종목별 포지션 계산
-        Map<Stock, PositionInfo> positionMap = calculatePositions(transactions);
-
         // 섹터별 배분 계산
-        List<SectorAllocation> allocations = calculateSectorAllocations(positionMap);
+        List<SectorAllocation> allocations = calculateSectorAllocations(holdings);
 
         // 섹터별 성과 계산
-        List<SectorPerformance> performances =
-                calculateSectorPerformance(transactions, positionMap);
+        List<SectorPerformance> performances = calculateSectorPerformance(transactions, holdings);
 
         // 섹터 로테이션 히스토리
         List<SectorRotation> rotations = calculateSectorRotation(transactions);
 
         // 통계 계산
-        int totalStocks = positionMap.size();
-        int classifiedStocks =
-                (int) positionMap.keySet().stream().filter(s -> s.getSector() != null).count();
+        Set<String> symbols = new HashSet<>();
+        Set<String> classifiedSymbols = new HashSet<>();
+        for (Position position : holdings.positions()) {
+            symbols.add(position.symbol());
+            if (position.sector() != null) {
+                classifiedSymbols.add(position.symbol());
+            }
+        }
+        int totalStocks = symbols.size();
+        int classifiedStocks = classifiedSymbols.size();
         int unclassifiedStocks = totalStocks - classifiedStocks;
 
         // 최고/최저 성과 섹터
@@ -109,7 +127,9 @@ public class SectorAnalysisService {
         stock.setSector(sector);
         stock.setIndustry(industry);
 
-        return stockRepository.save(stock);
+        Stock saved = stockRepository.save(stock);
+        eventPublisher.publishEvent(new StockSectorChangedEvent(stockId));
+        return saved;
     }
 
     /** 모든 섹터 목록 조회 */
@@ -128,98 +148,44 @@ public class SectorAnalysisService {
 
     // === Private Helper Methods ===
 
-    private Map<Stock, PositionInfo> calculatePositions(List<Transaction> transactions) {
-        Map<Stock, PositionInfo> positionMap = new HashMap<>();
-
-        for (Transaction tx : transactions) {
-            Stock stock = tx.getStock();
-            PositionInfo position = positionMap.computeIfAbsent(stock, k -> new PositionInfo());
-
-            if (tx.getType() == TransactionType.BUY) {
-                position.quantity = position.quantity.add(tx.getQuantity());
-                position.totalCost = position.totalCost.add(tx.getTotalAmount());
-            } else if (tx.getType() == TransactionType.SELL) {
-                position.quantity = position.quantity.subtract(tx.getQuantity());
-                position.realizedPnl =
-                        position.realizedPnl.add(
-                                tx.getRealizedPnl() != null
-                                        ? tx.getRealizedPnl()
-                                        : BigDecimal.ZERO);
-            }
-        }
-
-        // 현재가 추정 (마지막 거래 가격 사용)
-        for (Transaction tx : transactions) {
-            Stock stock = tx.getStock();
-            PositionInfo position = positionMap.get(stock);
-            if (position != null && tx.getPrice() != null) {
-                position.lastPrice = tx.getPrice();
-            }
-        }
-
-        // 현재 가치 및 미실현 손익 계산
-        for (Map.Entry<Stock, PositionInfo> entry : positionMap.entrySet()) {
-            PositionInfo position = entry.getValue();
-            if (position.quantity.compareTo(BigDecimal.ZERO) > 0 && position.lastPrice != null) {
-                position.currentValue = position.quantity.multiply(position.lastPrice);
-                BigDecimal avgCost =
-                        position.totalCost.divide(position.quantity, 4, RoundingMode.HALF_UP);
-                position.unrealizedPnl =
-                        position.quantity.multiply(position.lastPrice.subtract(avgCost));
-            }
-        }
-
-        return positionMap;
-    }
-
-    private List<SectorAllocation> calculateSectorAllocations(
-            Map<Stock, PositionInfo> positionMap) {
-        Map<Sector, List<StockInSector>> sectorStocks = new LinkedHashMap<>();
-        Map<Sector, BigDecimal> sectorValues = new HashMap<>();
+    private List<SectorAllocation> calculateSectorAllocations(HoldingsSnapshot holdings) {
+        Map<Sector, List<StockInSector>> sectorStocks = new HashMap<>();
 
         // 섹터별 종목 그룹화
-        for (Map.Entry<Stock, PositionInfo> entry : positionMap.entrySet()) {
-            Stock stock = entry.getKey();
-            PositionInfo position = entry.getValue();
-
-            if (position.currentValue == null
-                    || position.currentValue.compareTo(BigDecimal.ZERO) <= 0) {
+        for (Position position : holdings.positions()) {
+            if (position.marketValue().compareTo(BigDecimal.ZERO) <= 0) {
                 continue;
             }
 
-            Sector sector = stock.getSector() != null ? stock.getSector() : Sector.OTHER;
-
+            BigDecimal investment = position.totalInvestment();
             StockInSector stockInfo =
                     StockInSector.builder()
-                            .symbol(stock.getSymbol())
-                            .name(stock.getName())
-                            .currentValue(position.currentValue)
-                            .profitLoss(position.unrealizedPnl)
+                            .symbol(position.symbol())
+                            .name(position.name())
+                            .currentValue(position.marketValue())
+                            .profitLoss(position.unrealizedPnl())
                             .profitLossPercent(
-                                    position.totalCost.compareTo(BigDecimal.ZERO) > 0
-                                            ? position.unrealizedPnl
-                                                    .divide(
-                                                            position.totalCost,
-                                                            4,
-                                                            RoundingMode.HALF_UP)
+                                    investment.compareTo(BigDecimal.ZERO) > 0
+                                            ? position.unrealizedPnl()
+                                                    .divide(investment, 4, RoundingMode.HALF_UP)
                                                     .multiply(BigDecimal.valueOf(100))
                                             : BigDecimal.ZERO)
                             .build();
 
-            sectorStocks.computeIfAbsent(sector, k -> new ArrayList<>()).add(stockInfo);
-            sectorValues.merge(sector, position.currentValue, BigDecimal::add);
+            sectorStocks
+                    .computeIfAbsent(position.sectorOrOther(), k -> new ArrayList<>())
+                    .add(stockInfo);
         }
 
         // 전체 가치
-        BigDecimal totalValue =
-                sectorValues.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalValue = holdings.totalValue();
 
-        // 배분 리스트 생성
+        // 배분 리스트 생성 (스냅샷 섹터 합계는 평가금액 내림차순)
         List<SectorAllocation> allocations = new ArrayList<>();
 
-        for (Sector sector : Sector.values()) {
-            List<StockInSector> stocks = sectorStocks.getOrDefault(sector, new ArrayList<>());
-            BigDecimal value = sectorValues.getOrDefault(sector, BigDecimal.ZERO);
+        for (Map.Entry<Sector, Rollup> entry : holdings.sectors().entrySet()) {
+            Sector sector = entry.getKey();
+            BigDecimal value = entry.getValue().value();
             BigDecimal weight =
                     totalValue.compareTo(BigDecimal.ZERO) > 0
                             ? value.divide(totalValue, 4, RoundingMode.HALF_UP)
@@ -227,6 +193,7 @@ public class SectorAnalysisService {
                             : BigDecimal.ZERO;
 
             if (value.compareTo(BigDecimal.ZERO) > 0) {
+                List<StockInSector> stocks = sectorStocks.getOrDefault(sector, new ArrayList<>());
                 allocations.add(
                         SectorAllocation.builder()
                                 .sector(sector)
@@ -239,14 +206,11 @@ public class SectorAnalysisService {
             }
         }
 
-        // 비중순 정렬
-        allocations.sort((a, b) -> b.getWeight().compareTo(a.getWeight()));
-
         return allocations;
     }
 
     private List<SectorPerformance> calculateSectorPerformance(
-            List<Transaction> transactions, Map<Stock, PositionInfo> positionMap) {
+            List<Transaction> transactions, HoldingsSnapshot holdings) {
 
         Map<Sector, SectorStats> sectorStats = new HashMap<>();
 
@@ -278,15 +242,10 @@ public class SectorAnalysisService {
             }
         }
 
-        // 미실현 손익 추가
-        for (Map.Entry<Stock, PositionInfo> entry : positionMap.entrySet()) {
-            Sector sector =
-                    entry.getKey().getSector() != null ? entry.getKey().getSector() : Sector.OTHER;
-            SectorStats stats = sectorStats.computeIfAbsent(sector, k -> new SectorStats());
-
-            if (entry.getValue().unrealizedPnl != null) {
-                stats.unrealizedPnl = stats.unrealizedPnl.add(entry.getValue().unrealizedPnl);
-            }
+        // 미실현 손익 추가 (보유 종목 스냅샷의 섹터 합계)
+        for (Map.Entry<Sector, Rollup> entry : holdings.sectors().entrySet()) {
+            SectorStats stats = sectorStats.computeIfAbsent(entry.getKey(), k -> new SectorStats());
+            stats.unrealizedPnl = stats.unrealizedPnl.add(entry.getValue().unrealizedPnl());
         }
 
         // 전체 실현손익
@@ -462,15 +421,6 @@ public class SectorAnalysisService {
     }
 
     // Helper classes
-    private static class PositionInfo {
-        BigDecimal quantity = BigDecimal.ZERO;
-        BigDecimal totalCost = BigDecimal.ZERO;
-        BigDecimal currentValue = BigDecimal.ZERO;
-        BigDecimal unrealizedPnl = BigDecimal.ZERO;
-        BigDecimal realizedPnl = BigDecimal.ZERO;
-        BigDecimal lastPrice;
-    }
-
     private static class SectorStats {
         BigDecimal realizedPnl = BigDecimal.ZERO;
         BigDecimal unrealizedPnl = BigDecimal.ZERO;
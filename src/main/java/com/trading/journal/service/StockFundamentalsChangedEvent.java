@@ -0,0 +1,10 @@
+package com.trading.journal.service;
+
+/**
+ * Published when a single symbol's fundamentals are saved or deleted. {@link StockScreenerIndex}
+ * marks its snapshot stale after the transaction commits, so a screen running in between cannot
+ * rebuild from rows that are later rolled back or cache the pre-commit state as fresh.
+ *
+ * @param symbol the symbol whose fundamentals changed
+ */
+public record StockFundamentalsChangedEvent(String symbol) {}
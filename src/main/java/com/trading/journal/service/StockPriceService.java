@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yahoofinance.Stock;
@@ -32,6 +33,7 @@ public class StockPriceService {
     private static final int MIN_COVERAGE_PERCENT = 80; // 최소 데이터 커버리지 비율
 
     private final HistoricalPriceRepository historicalPriceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Cacheable(value = "stockPrice", key = "#symbol")
     @CircuitBreaker(name = "yahooFinance", fallbackMethod = "getCurrentPriceFallback")
@@ -127,6 +129,121 @@ public class StockPriceService {
                 symbol, "Yahoo Finance", MAX_RETRIES + "회 시도 후 종목 정보 조회 실패", lastException);
     }
 
+    /**
+     * 캐시를 거치지 않는 시세/주요 지표 조회 (펀더멘털 일괄 갱신용)
+     *
+     * <p>폴백 없이 실패를 그대로 전달하므로 서킷이 열리면 {@code CallNotPermittedException}이 발생한다.
+     */
+    @CircuitBreaker(name = "yahooFinance")
+    public Stock fetchStockQuote(String symbol) {
+        try {
+            return YahooFinance.get(symbol);
+        } catch (IOException e) {
+            throw new PriceDataException(symbol, "Yahoo Finance", "시세/지표 조회 실패", e);
+        }
+    }
+
+    /**
+     * 여러 종목 현재가 일괄 조회 (Yahoo Finance 요청 1회)
+     *
+     * <p>시세가 없는 종목은 결과에서 빠진다. 서킷이 열리거나 요청이 실패하면 로컬 DB의 최신 종가로 대체한다.
+     *
+     * @return 심볼 → 현재가
+     */
+    @CircuitBreaker(name = "yahooFinance", fallbackMethod = "getCurrentPricesFallback")
+    public Map<String, BigDecimal> getCurrentPrices(Collection<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<String, Stock> stocks = YahooFinance.get(symbols.toArray(new String[0]));
+            Map<String, BigDecimal> prices = new HashMap<>();
+            for (String symbol : symbols) {
+                Stock stock = stocks != null ? stocks.get(symbol) : null;
+                if (stock != null
+                        && stock.getQuote() != null
+                        && stock.getQuote().getPrice() != null) {
+                    prices.put(symbol, stock.getQuote().getPrice());
+                }
+            }
+            return prices;
+        } catch (IOException e) {
+            log.error("Failed to fetch current prices for {} symbols", symbols.size(), e);
+            throw new PriceDataException(
+                    String.join(",", symbols), "Yahoo Finance", "현재가 일괄 조회 실패", e);
+        }
+    }
+
+    /** Circuit Breaker 폴백: 일괄 조회 실패 시 로컬 DB 최신 종가 (없는 종목은 제외) */
+    private Map<String, BigDecimal> getCurrentPricesFallback(
+            Collection<String> symbols, Throwable t) {
+        log.warn(
+                "Circuit breaker fallback for getCurrentPrices: {} symbols, error={}",
+                symbols.size(),
+                t.getMessage());
+        Map<String, BigDecimal> prices = new HashMap<>();
+        for (HistoricalPrice price : historicalPriceRepository.findLatestBySymbols(symbols)) {
+            prices.put(price.getSymbol(), price.getClosePrice());
+        }
+        return prices;
+    }
+
+    /**
+     * 여러 종목 현재가와 전일 종가 일괄 조회 (Yahoo Finance 요청 1회)
+     *
+     * <p>시세가 없는 종목은 결과에서 빠진다. 실패하면 로컬 DB 최신 종가를 현재가로 쓰고 전일 종가는 비워 둔다.
+     *
+     * @return 심볼 → 시세
+     */
+    @CircuitBreaker(name = "yahooFinance", fallbackMethod = "getCurrentQuotesFallback")
+    public Map<String, Quote> getCurrentQuotes(Collection<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<String, Stock> stocks = YahooFinance.get(symbols.toArray(new String[0]));
+            Map<String, Quote> quotes = new HashMap<>();
+            for (String symbol : symbols) {
+                Stock stock = stocks != null ? stocks.get(symbol) : null;
+                if (stock != null
+                        && stock.getQuote() != null
+                        && stock.getQuote().getPrice() != null) {
+                    quotes.put(
+                            symbol,
+                            new Quote(
+                                    stock.getQuote().getPrice(),
+                                    stock.getQuote().getPreviousClose()));
+                }
+            }
+            return quotes;
+        } catch (IOException e) {
+            log.error("Failed to fetch quotes for {} symbols", symbols.size(), e);
+            throw new PriceDataException(
+                    String.join(",", symbols), "Yahoo Finance", "시세 일괄 조회 실패", e);
+        }
+    }
+
+    /** Circuit Breaker 폴백: 일괄 시세 조회 실패 시 로컬 DB 최신 종가 (전일 종가 없음) */
+    private Map<String, Quote> getCurrentQuotesFallback(Collection<String> symbols, Throwable t) {
+        log.warn(
+                "Circuit breaker fallback for getCurrentQuotes: {} symbols, error={}",
+                symbols.size(),
+                t.getMessage());
+        Map<String, Quote> quotes = new HashMap<>();
+        for (HistoricalPrice price : historicalPriceRepository.findLatestBySymbols(symbols)) {
+            quotes.put(price.getSymbol(), new Quote(price.getClosePrice(), null));
+        }
+        return quotes;
+    }
+
+    /**
+     * 현재가와 전일 종가
+     *
+     * @param price 현재가
+     * @param previousClose 전일 종가 (알 수 없으면 null)
+     */
+    public record Quote(BigDecimal price, BigDecimal previousClose) {}
+
     /** Circuit Breaker 폴백: Stock 정보를 가져올 수 없을 때 기본 객체 반환 */
     private Stock getStockInfoFallback(String symbol, Throwable t) {
         log.warn(
@@ -289,6 +406,7 @@ public class StockPriceService {
         if (!pricesToSave.isEmpty()) {
             historicalPriceRepository.saveAll(pricesToSave);
             log.info("Saved {} new price records for {}", pricesToSave.size(), symbol);
+            eventPublisher.publishEvent(new HistoricalPricesSavedEvent(symbol));
         }
     }
 
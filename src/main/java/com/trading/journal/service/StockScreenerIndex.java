@@ -0,0 +1,83 @@
+package com.trading.journal.service;
+
+import com.trading.journal.repository.StockFundamentalsRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds the current {@link ScreenerSnapshot}.
+ *
+ * <p>The snapshot is rebuilt right after a fundamentals batch update, lazily after single-symbol
+ * writes (which only mark it stale once committed, see {@link StockFundamentalsChangedEvent}), and
+ * after {@code screener.index.max-age-minutes} so that writes made by other instances are
+ * eventually picked up. Readers always see a complete snapshot; a rebuild swaps the reference
+ * atomically.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StockScreenerIndex {
+
+    private final StockFundamentalsRepository fundamentalsRepository;
+
+    @Value("${screener.index.max-age-minutes:60}")
+    private long maxAgeMinutes = 60;
+
+    private volatile ScreenerSnapshot snapshot;
+    private volatile boolean stale = true;
+
+    /** Current snapshot, rebuilt first if missing, stale or expired. */
+    ScreenerSnapshot snapshot() {
+        ScreenerSnapshot current = snapshot;
+        if (current != null && !needsRebuild(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null || needsRebuild(snapshot)) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    /** Rebuild the snapshot now (e.g. after a fundamentals batch update). */
+    public synchronized void refresh() {
+        rebuild();
+    }
+
+    /** Mark the snapshot stale; the next screen rebuilds it. */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /** Single-symbol writes mark the snapshot stale once they have committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onFundamentalsChanged(StockFundamentalsChangedEvent event) {
+        invalidate();
+    }
+
+    private boolean needsRebuild(ScreenerSnapshot current) {
+        return stale
+                || current.getBuiltAt().plusMinutes(maxAgeMinutes).isBefore(LocalDateTime.now());
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        stale = false;
+        ScreenerSnapshot rebuilt =
+                ScreenerSnapshot.build(fundamentalsRepository.findAll(), LocalDateTime.now());
+        snapshot = rebuilt;
+        log.info(
+                "Rebuilt screener index: {} stocks in {} ms",
+                rebuilt.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -8,22 +8,25 @@ import com.trading.journal.dto.ScreenerResultDto.FilterSummary;
 import com.trading.journal.dto.ScreenerResultDto.StockResult;
 import com.trading.journal.entity.SavedScreen;
 import com.trading.journal.entity.Sector;
-import com.trading.journal.entity.StockFundamentals;
 import com.trading.journal.entity.User;
 import com.trading.journal.repository.SavedScreenRepository;
-import com.trading.journal.repository.StockFundamentalsRepository;
-import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,8 +36,10 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>This service provides:
  *
  * <ul>
- *   <li>Dynamic filtering using JPA Specifications
+ *   <li>Filtering, factor ranks and multi-factor scores over the in-memory {@link
+ *       StockScreenerIndex} (bitset predicates, no database round trip per request)
  *   <li>Pagination and sorting support
+ *   <li>Running saved screens in bulk against one snapshot
  *   <li>Saving and loading screen criteria
  *   <li>Converting between entities and DTOs
  * </ul>
@@ -45,7 +50,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class StockScreenerService {
 
-    private final StockFundamentalsRepository fundamentalsRepository;
+    private static final String SORT_SCORE = "score";
+    private static final String SORT_SYMBOL = "symbol";
+
+    private final StockScreenerIndex screenerIndex;
     private final SavedScreenRepository savedScreenRepository;
     private final ObjectMapper objectMapper;
 
@@ -57,30 +65,7 @@ public class StockScreenerService {
      */
     public ScreenerResultDto screenStocks(ScreenerRequestDto request) {
         log.info("Screening stocks with filters: {}", request);
-
-        // Build specification from request
-        Specification<StockFundamentals> spec = buildSpecification(request);
-
-        // Build pageable
-        Pageable pageable = buildPageable(request);
-
-        // Execute query
-        Page<StockFundamentals> page = fundamentalsRepository.findAll(spec, pageable);
-
-        // Convert to DTOs
-        List<StockResult> results =
-                page.getContent().stream().map(this::toStockResult).collect(Collectors.toList());
-
-        // Build filter summary
-        FilterSummary filterSummary = buildFilterSummary(request);
-
-        return ScreenerResultDto.builder()
-                .stocks(results)
-                .totalResults((int) page.getTotalElements())
-                .page(page.getNumber())
-                .totalPages(page.getTotalPages())
-                .appliedFilters(filterSummary)
-                .build();
+        return screen(screenerIndex.snapshot(), request);
     }
 
     /**
@@ -226,179 +211,292 @@ public class StockScreenerService {
     }
 
     /**
-     * Build JPA Specification from screening criteria.
+     * Run several saved screens against the same index snapshot.
      *
-     * @param request Screening criteria
-     * @return JPA Specification
+     * @param screenIds Screen IDs (unknown IDs are skipped)
+     * @return Results keyed by screen ID, in request order
      */
-    private Specification<StockFundamentals> buildSpecification(ScreenerRequestDto request) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
+    public Map<Long, ScreenerResultDto> runSavedScreens(Collection<Long> screenIds) {
+        log.info("Running {} saved screens", screenIds.size());
+        return runScreens(savedScreenRepository.findAllById(screenIds), screenIds);
+    }
 
-            // Valuation filters
-            if (request.getMinPe() != null) {
-                predicates.add(cb.greaterThanOrEqualTo(root.get("peRatio"), request.getMinPe()));
-            }
-            if (request.getMaxPe() != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("peRatio"), request.getMaxPe()));
-            }
-            if (request.getMinPb() != null) {
-                predicates.add(cb.greaterThanOrEqualTo(root.get("pbRatio"), request.getMinPb()));
-            }
-            if (request.getMaxPb() != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("pbRatio"), request.getMaxPb()));
-            }
-            if (request.getMinPeg() != null) {
-                predicates.add(cb.greaterThanOrEqualTo(root.get("pegRatio"), request.getMinPeg()));
-            }
-            if (request.getMaxPeg() != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("pegRatio"), request.getMaxPeg()));
-            }
+    /**
+     * Run every saved screen of a user against the same index snapshot.
+     *
+     * @param userId User ID
+     * @return Results keyed by screen ID
+     */
+    public Map<Long, ScreenerResultDto> runUserScreens(Long userId) {
+        List<SavedScreen> screens = savedScreenRepository.findByUserId(userId);
+        log.info("Running {} saved screens for user {}", screens.size(), userId);
+        return runScreens(screens, screens.stream().map(SavedScreen::getId).toList());
+    }
 
-            // Profitability filters
-            if (request.getMinRoe() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(root.get("returnOnEquity"), request.getMinRoe()));
-            }
-            if (request.getMaxRoe() != null) {
-                predicates.add(
-                        cb.lessThanOrEqualTo(root.get("returnOnEquity"), request.getMaxRoe()));
-            }
-            if (request.getMinRoa() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(root.get("returnOnAssets"), request.getMinRoa()));
-            }
-            if (request.getMinProfitMargin() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(
-                                root.get("profitMargin"), request.getMinProfitMargin()));
+    private Map<Long, ScreenerResultDto> runScreens(
+            List<SavedScreen> screens, Collection<Long> order) {
+        ScreenerSnapshot snapshot = screenerIndex.snapshot();
+        Map<Long, SavedScreen> byId =
+                screens.stream().collect(Collectors.toMap(SavedScreen::getId, s -> s));
+        Map<Long, ScreenerResultDto> results = new LinkedHashMap<>();
+        for (Long id : order) {
+            SavedScreen screen = byId.get(id);
+            if (screen != null && !results.containsKey(id)) {
+                results.put(id, screen(snapshot, parseCriteria(screen)));
             }
+        }
+        return results;
+    }
 
-            // Dividend filters
-            if (request.getMinDividendYield() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(
-                                root.get("dividendYield"), request.getMinDividendYield()));
-            }
-            if (request.getMaxDividendYield() != null) {
-                predicates.add(
-                        cb.lessThanOrEqualTo(
-                                root.get("dividendYield"), request.getMaxDividendYield()));
-            }
+    /**
+     * Evaluate a request against a snapshot: AND of all predicate bitsets, then sort and page.
+     *
+     * @param snapshot Index snapshot
+     * @param request Screening criteria
+     * @return Screening results with pagination
+     */
+    private ScreenerResultDto screen(ScreenerSnapshot snapshot, ScreenerRequestDto request) {
+        Map<ScreenerFactor, Double> weights = resolveWeights(request.getFactorWeights());
+        Map<ScreenerFactor, BigDecimal> minPercentiles =
+                resolveFactors(request.getMinPercentiles());
 
-            // Size filters
-            if (request.getMinMarketCap() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(root.get("marketCap"), request.getMinMarketCap()));
-            }
-            if (request.getMaxMarketCap() != null) {
-                predicates.add(
-                        cb.lessThanOrEqualTo(root.get("marketCap"), request.getMaxMarketCap()));
-            }
+        BitSet matches = buildFilter(snapshot, request, minPercentiles);
+        int[] ordered = sort(snapshot, matches, request, weights);
 
-            // Growth filters
-            if (request.getMinRevenueGrowth() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(
-                                root.get("revenueGrowth"), request.getMinRevenueGrowth()));
-            }
-            if (request.getMinEarningsGrowth() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(
-                                root.get("epsGrowth"), request.getMinEarningsGrowth()));
-            }
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null && request.getSize() > 0 ? request.getSize() : 50;
+        int from = (int) Math.min((long) page * size, ordered.length);
+        int to = Math.min(from + size, ordered.length);
+
+        Set<ScreenerFactor> shownFactors = new LinkedHashSet<>(weights.keySet());
+        shownFactors.addAll(minPercentiles.keySet());
+        List<StockResult> results = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            results.add(toStockResult(snapshot, ordered[k], weights, shownFactors));
+        }
 
-            // Debt filters
-            if (request.getMaxDebtToEquity() != null) {
-                predicates.add(
-                        cb.lessThanOrEqualTo(
-                                root.get("debtToEquity"), request.getMaxDebtToEquity()));
-            }
-            if (request.getMinCurrentRatio() != null) {
-                predicates.add(
-                        cb.greaterThanOrEqualTo(
-                                root.get("currentRatio"), request.getMinCurrentRatio()));
-            }
+        return ScreenerResultDto.builder()
+                .stocks(results)
+                .totalResults(ordered.length)
+                .page(page)
+                .totalPages((ordered.length + size - 1) / size)
+                .appliedFilters(buildFilterSummary(request))
+                .build();
+    }
 
-            // Category filters
-            if (request.getSectors() != null && !request.getSectors().isEmpty()) {
-                List<Sector> sectors =
-                        request.getSectors().stream()
-                                .map(Sector::valueOf)
-                                .collect(Collectors.toList());
-                predicates.add(root.get("sector").in(sectors));
-            }
-            if (request.getIndustries() != null && !request.getIndustries().isEmpty()) {
-                predicates.add(root.get("industry").in(request.getIndustries()));
-            }
+    /**
+     * Build the matching row set from screening criteria.
+     *
+     * @param snapshot Index snapshot
+     * @param request Screening criteria
+     * @param minPercentiles Factor rank filters
+     * @return Matching rows
+     */
+    private BitSet buildFilter(
+            ScreenerSnapshot snapshot,
+            ScreenerRequestDto request,
+            Map<ScreenerFactor, BigDecimal> minPercentiles) {
+        BitSet matches = snapshot.all();
+
+        // Valuation filters
+        and(matches, snapshot, ScreenerFactor.PE_RATIO, request.getMinPe(), request.getMaxPe());
+        and(matches, snapshot, ScreenerFactor.PB_RATIO, request.getMinPb(), request.getMaxPb());
+        and(matches, snapshot, ScreenerFactor.PEG_RATIO, request.getMinPeg(), request.getMaxPeg());
+
+        // Profitability filters
+        and(matches, snapshot, ScreenerFactor.ROE, request.getMinRoe(), request.getMaxRoe());
+        and(matches, snapshot, ScreenerFactor.ROA, request.getMinRoa(), null);
+        and(matches, snapshot, ScreenerFactor.PROFIT_MARGIN, request.getMinProfitMargin(), null);
+
+        // Dividend filters
+        and(
+                matches,
+                snapshot,
+                ScreenerFactor.DIVIDEND_YIELD,
+                request.getMinDividendYield(),
+                request.getMaxDividendYield());
+
+        // Size filters
+        and(
+                matches,
+                snapshot,
+                ScreenerFactor.MARKET_CAP,
+                request.getMinMarketCap(),
+                request.getMaxMarketCap());
+
+        // Growth filters
+        and(matches, snapshot, ScreenerFactor.REVENUE_GROWTH, request.getMinRevenueGrowth(), null);
+        and(matches, snapshot, ScreenerFactor.EPS_GROWTH, request.getMinEarningsGrowth(), null);
+
+        // Debt filters
+        and(matches, snapshot, ScreenerFactor.DEBT_TO_EQUITY, null, request.getMaxDebtToEquity());
+        and(matches, snapshot, ScreenerFactor.CURRENT_RATIO, request.getMinCurrentRatio(), null);
+
+        // Factor rank filters
+        minPercentiles.forEach(
+                (factor, min) ->
+                        matches.and(snapshot.percentileAtLeast(factor, min.doubleValue())));
+
+        // Category filters
+        if (request.getSectors() != null && !request.getSectors().isEmpty()) {
+            List<Sector> sectors =
+                    request.getSectors().stream().map(Sector::valueOf).collect(Collectors.toList());
+            matches.and(snapshot.sectors(sectors));
+        }
+        if (request.getIndustries() != null && !request.getIndustries().isEmpty()) {
+            matches.and(snapshot.industries(request.getIndustries()));
+        }
+        if (request.getExchanges() != null && !request.getExchanges().isEmpty()) {
+            matches.and(snapshot.exchanges(request.getExchanges()));
+        }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        return matches;
+    }
+
+    private void and(
+            BitSet matches,
+            ScreenerSnapshot snapshot,
+            ScreenerFactor factor,
+            BigDecimal min,
+            BigDecimal max) {
+        if (min != null || max != null) {
+            matches.and(
+                    snapshot.range(
+                            factor,
+                            min != null ? min.doubleValue() : null,
+                            max != null ? max.doubleValue() : null));
+        }
     }
 
     /**
-     * Build Pageable from request.
-     *
-     * @param request Screening criteria with pagination info
-     * @return Pageable
+     * Order matching rows by the requested sort key (factor property, "score" or "symbol").
+     * Defaults to score descending when factor weights are given, otherwise market cap descending.
      */
-    private Pageable buildPageable(ScreenerRequestDto request) {
-        int page = request.getPage() != null ? request.getPage() : 0;
-        int size = request.getSize() != null ? request.getSize() : 50;
-
-        // Build sort
-        Sort sort = Sort.unsorted();
-        if (request.getSortBy() != null && !request.getSortBy().isEmpty()) {
-            Sort.Direction direction =
-                    "desc".equalsIgnoreCase(request.getSortDirection())
-                            ? Sort.Direction.DESC
-                            : Sort.Direction.ASC;
-            sort = Sort.by(direction, request.getSortBy());
-        } else {
-            // Default sort by market cap descending
-            sort = Sort.by(Sort.Direction.DESC, "marketCap");
-        }
-
-        return PageRequest.of(page, size, sort);
+    private int[] sort(
+            ScreenerSnapshot snapshot,
+            BitSet matches,
+            ScreenerRequestDto request,
+            Map<ScreenerFactor, Double> weights) {
+        String sortBy = request.getSortBy();
+        boolean descending = "desc".equalsIgnoreCase(request.getSortDirection());
+        if (sortBy == null || sortBy.isEmpty()) {
+            sortBy = weights.isEmpty() ? ScreenerFactor.MARKET_CAP.getProperty() : SORT_SCORE;
+            descending = true;
+        }
+
+        if (SORT_SYMBOL.equalsIgnoreCase(sortBy)) {
+            return snapshot.bySymbol(matches, descending);
+        }
+        if (SORT_SCORE.equalsIgnoreCase(sortBy)) {
+            if (weights.isEmpty()) {
+                throw new IllegalArgumentException("Sorting by score requires factorWeights");
+            }
+            return sortByScore(snapshot, matches, weights, descending);
+        }
+        return snapshot.orderBy(ScreenerFactor.resolve(sortBy), descending, matches);
+    }
+
+    private int[] sortByScore(
+            ScreenerSnapshot snapshot,
+            BitSet matches,
+            Map<ScreenerFactor, Double> weights,
+            boolean descending) {
+        int[] rows = matches.stream().toArray();
+        double[] scores = new double[snapshot.size()];
+        for (int row : rows) {
+            scores[row] = snapshot.compositeScore(weights, row);
+        }
+        // Rows without any weighted factor value go last
+        Comparator<Integer> byScore = Comparator.comparingDouble(row -> scores[row]);
+        Comparator<Integer> comparator =
+                Comparator.<Integer, Boolean>comparing(row -> Double.isNaN(scores[row]))
+                        .thenComparing(descending ? byScore.reversed() : byScore);
+        return Arrays.stream(rows).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    private Map<ScreenerFactor, Double> resolveWeights(Map<String, Double> factorWeights) {
+        Map<ScreenerFactor, Double> weights = new EnumMap<>(ScreenerFactor.class);
+        if (factorWeights != null) {
+            factorWeights.forEach(
+                    (key, weight) -> {
+                        if (weight == null || weight < 0) {
+                            throw new IllegalArgumentException(
+                                    "Factor weight must be zero or positive: " + key);
+                        }
+                        if (weight > 0) {
+                            weights.put(ScreenerFactor.resolve(key), weight);
+                        }
+                    });
+        }
+        return weights;
+    }
+
+    private Map<ScreenerFactor, BigDecimal> resolveFactors(Map<String, BigDecimal> byName) {
+        Map<ScreenerFactor, BigDecimal> resolved = new EnumMap<>(ScreenerFactor.class);
+        if (byName != null) {
+            byName.forEach(
+                    (key, value) -> {
+                        if (value != null) {
+                            resolved.put(ScreenerFactor.resolve(key), value);
+                        }
+                    });
+        }
+        return resolved;
     }
 
     /**
-     * Convert StockFundamentals entity to StockResult DTO.
+     * Convert a snapshot row to StockResult DTO.
      *
-     * @param fundamentals Stock fundamentals entity
+     * @param snapshot Index snapshot
+     * @param row Row index
+     * @param weights Factor weights (for the score)
+     * @param shownFactors Factors whose percentiles are returned
      * @return StockResult DTO
      */
-    private StockResult toStockResult(StockFundamentals fundamentals) {
+    private StockResult toStockResult(
+            ScreenerSnapshot snapshot,
+            int row,
+            Map<ScreenerFactor, Double> weights,
+            Set<ScreenerFactor> shownFactors) {
+        ScreenerSnapshot.Row stock = snapshot.row(row);
+
+        BigDecimal score = null;
+        if (!weights.isEmpty()) {
+            score = toDisplay(snapshot.compositeScore(weights, row));
+        }
+        Map<String, BigDecimal> percentiles = null;
+        if (!shownFactors.isEmpty()) {
+            percentiles = new LinkedHashMap<>();
+            for (ScreenerFactor factor : shownFactors) {
+                percentiles.put(factor.name(), toDisplay(snapshot.percentile(factor, row)));
+            }
+        }
+
         return StockResult.builder()
-                .id(fundamentals.getId())
-                .symbol(fundamentals.getSymbol())
-                .companyName(fundamentals.getCompanyName())
-                .exchange(inferExchange(fundamentals.getSymbol()))
-                .sector(fundamentals.getSector() != null ? fundamentals.getSector().name() : null)
-                .industry(fundamentals.getIndustry())
-                .peRatio(fundamentals.getPeRatio())
-                .pbRatio(fundamentals.getPbRatio())
-                .roe(fundamentals.getReturnOnEquity())
-                .dividendYield(fundamentals.getDividendYield())
-                .marketCap(fundamentals.getMarketCap())
-                .revenueGrowth(fundamentals.getRevenueGrowth())
-                .earningsGrowth(fundamentals.getEpsGrowth())
-                .debtToEquity(fundamentals.getDebtToEquity())
-                .updatedAt(
-                        fundamentals.getLastUpdated() != null
-                                ? fundamentals.getLastUpdated().atStartOfDay()
-                                : null)
+                .id(stock.id())
+                .symbol(stock.symbol())
+                .companyName(stock.companyName())
+                .exchange(stock.exchange())
+                .sector(stock.sector() != null ? stock.sector().name() : null)
+                .industry(stock.industry())
+                .peRatio(snapshot.raw(ScreenerFactor.PE_RATIO, row))
+                .pbRatio(snapshot.raw(ScreenerFactor.PB_RATIO, row))
+                .roe(snapshot.raw(ScreenerFactor.ROE, row))
+                .dividendYield(snapshot.raw(ScreenerFactor.DIVIDEND_YIELD, row))
+                .marketCap(snapshot.raw(ScreenerFactor.MARKET_CAP, row))
+                .revenueGrowth(snapshot.raw(ScreenerFactor.REVENUE_GROWTH, row))
+                .earningsGrowth(snapshot.raw(ScreenerFactor.EPS_GROWTH, row))
+                .debtToEquity(snapshot.raw(ScreenerFactor.DEBT_TO_EQUITY, row))
+                .updatedAt(stock.lastUpdated() != null ? stock.lastUpdated().atStartOfDay() : null)
+                .score(score)
+                .percentiles(percentiles)
                 .build();
     }
 
-    private String inferExchange(String symbol) {
-        if (symbol == null || symbol.isBlank()) {
-            return null;
-        }
-        if (symbol.endsWith(".KS") || symbol.endsWith(".KQ")) {
-            return "KRX";
-        }
-        return "US";
+    private BigDecimal toDisplay(double value) {
+        return Double.isNaN(value)
+                ? null
+                : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
     }
 
     /**
@@ -453,6 +551,12 @@ public class StockScreenerService {
         if (request.getIndustries() != null && !request.getIndustries().isEmpty()) {
             activeFilters.add("Industries (" + request.getIndustries().size() + ")");
         }
+        if (request.getExchanges() != null && !request.getExchanges().isEmpty()) {
+            activeFilters.add("Exchanges (" + request.getExchanges().size() + ")");
+        }
+        if (request.getMinPercentiles() != null) {
+            request.getMinPercentiles().keySet().forEach(key -> activeFilters.add(key + " rank"));
+        }
 
         return FilterSummary.builder()
                 .filterCount(activeFilters.size())
@@ -0,0 +1,9 @@
+package com.trading.journal.service;
+
+/**
+ * 종목의 섹터/업종이 바뀌었음을 알리는 이벤트. 커밋 후 {@link HoldingsSnapshotService}와 {@link PreTradeRiskService}가 받아
+ * 모든 계좌의 보유 종목 스냅샷과 섹터 노출을 다시 읽게 한다.
+ *
+ * @param stockId 섹터가 바뀐 종목 ID
+ */
+public record StockSectorChangedEvent(Long stockId) {}
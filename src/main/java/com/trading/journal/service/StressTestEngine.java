@@ -0,0 +1,123 @@
+package com.trading.journal.service;
+
+import com.trading.journal.service.BenchmarkComparisonEngine.AlignedSeries;
+import com.trading.journal.service.BenchmarkComparisonEngine.Series;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포지션 배열 위에서 시나리오 행렬을 한 번에 적용하는 스트레스 테스트 엔진.
+ *
+ * <p>포지션은 인덱스로 정렬된 배열(종목, 섹터, 평가가치, 베타)로 한 번만 적재하고, 시나리오 × 포지션 충격 행렬을 만든 뒤 손실 행렬을 한 번의 순회로 구한다. 충격은
+ * 소수 단위(-0.3 = 30% 하락)이다.
+ */
+final class StressTestEngine {
+
+    /** 베타 추정에 필요한 최소 공통 관측일 */
+    static final int MIN_BETA_OBSERVATIONS = 20;
+
+    private StressTestEngine() {}
+
+    /** 스트레스 대상 포지션 (배열 인덱스가 포지션 번호, 섹터는 Sector 이름 또는 null) */
+    record Book(String[] symbols, String[] sectors, double[] values, double[] betas) {
+        int size() {
+            return values.length;
+        }
+    }
+
+    /**
+     * 시나리오 하나의 충격 정의
+     *
+     * @param market 시장 충격 (포지션 베타를 곱해 적용)
+     * @param sectors 섹터(Sector 이름)별 충격 (베타 없이 그대로 적용)
+     * @param replayed 과거 구간을 종목 자체 가격으로 재현한 수익률 (가장 우선)
+     */
+    record Shock(double market, Map<String, Double> sectors, Map<String, Double> replayed) {}
+
+    /** 시나리오 × 포지션 충격 행렬 (종목 재현 수익률 > 섹터 충격 > 베타 × 시장 충격, 하한 -100%) */
+    static double[][] shockMatrix(Book book, List<Shock> scenarios) {
+        int n = book.size();
+        double[][] shocks = new double[scenarios.size()][n];
+        for (int s = 0; s < scenarios.size(); s++) {
+            Shock shock = scenarios.get(s);
+            double[] row = shocks[s];
+            for (int p = 0; p < n; p++) {
+                Double replayed = shock.replayed().get(book.symbols()[p]);
+                Double sector =
+                        book.sectors()[p] != null ? shock.sectors().get(book.sectors()[p]) : null;
+                double value =
+                        replayed != null
+                                ? replayed
+                                : sector != null ? sector : shock.market() * book.betas()[p];
+                row[p] = Math.max(value, -1);
+            }
+        }
+        return shocks;
+    }
+
+    /** 충격 행렬을 평가가치에 적용한 시나리오 × 포지션 손실 (이익은 음수) */
+    static double[][] losses(double[] values, double[][] shocks) {
+        double[][] losses = new double[shocks.length][values.length];
+        for (int s = 0; s < shocks.length; s++) {
+            double[] shock = shocks[s];
+            double[] loss = losses[s];
+            for (int p = 0; p < values.length; p++) {
+                loss[p] = -values[p] * shock[p];
+            }
+        }
+        return losses;
+    }
+
+    /** 종가 시계열(날짜 오름차순)을 일간 수익률(%) 시계열로 변환 (첫날 제외) */
+    static Series dailyReturns(LocalDate[] dates, double[] closes) {
+        if (dates.length < 2) {
+            return Series.EMPTY;
+        }
+        LocalDate[] returnDates = new LocalDate[dates.length - 1];
+        double[] returns = new double[dates.length - 1];
+        for (int i = 1; i < dates.length; i++) {
+            returnDates[i - 1] = dates[i];
+            returns[i - 1] = closes[i - 1] > 0 ? (closes[i] / closes[i - 1] - 1) * 100 : 0;
+        }
+        return new Series(returnDates, returns);
+    }
+
+    /** 공통 날짜의 일간 수익률로 구한 베타 (관측치가 부족하거나 벤치마크 분산이 0이면 1) */
+    static double beta(Series asset, Series benchmark) {
+        AlignedSeries aligned = BenchmarkComparisonEngine.align(asset, benchmark);
+        int n = aligned.size();
+        if (n < MIN_BETA_OBSERVATIONS) {
+            return 1;
+        }
+        double sumA = 0, sumB = 0, sumBB = 0, sumAB = 0;
+        for (int i = 0; i < n; i++) {
+            double a = aligned.portfolio()[i];
+            double b = aligned.benchmark()[i];
+            sumA += a;
+            sumB += b;
+            sumBB += b * b;
+            sumAB += a * b;
+        }
+        double varB = sumBB - sumB * sumB / n;
+        return varB > 0 ? (sumAB - sumA * sumB / n) / varB : 1;
+    }
+
+    /**
+     * 과거 구간의 재현 수익률: start 전 마지막 종가 → end 이하 마지막 종가. 하루짜리 사건(start == end)도 전일 대비로 재현된다.
+     *
+     * @return 수익률 (소수), 구간 앞뒤 종가가 없으면 NaN
+     */
+    static double windowReturn(LocalDate[] dates, double[] closes, LocalDate start, LocalDate end) {
+        double before = Double.NaN;
+        double last = Double.NaN;
+        for (int i = 0; i < dates.length; i++) {
+            if (dates[i].isBefore(start)) {
+                before = closes[i];
+            } else if (!dates[i].isAfter(end)) {
+                last = closes[i];
+            }
+        }
+        return before > 0 && !Double.isNaN(last) ? last / before - 1 : Double.NaN;
+    }
+}
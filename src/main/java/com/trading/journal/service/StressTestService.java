@@ -1,22 +1,33 @@
 package com.trading.journal.service;
 
+import com.trading.journal.dto.StressTestLibraryResultDto;
 import com.trading.journal.dto.StressTestRequestDto;
 import com.trading.journal.dto.StressTestResultDto;
 import com.trading.journal.entity.Account;
+import com.trading.journal.entity.BenchmarkType;
+import com.trading.journal.entity.HistoricalPrice;
 import com.trading.journal.entity.Portfolio;
 import com.trading.journal.entity.Sector;
 import com.trading.journal.entity.StressScenario;
+import com.trading.journal.exception.UnauthorizedAccessException;
 import com.trading.journal.repository.AccountRepository;
+import com.trading.journal.repository.BenchmarkPriceRepository;
+import com.trading.journal.repository.HistoricalPriceRepository;
 import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.StressScenarioRepository;
+import com.trading.journal.service.BenchmarkComparisonEngine.Series;
+import com.trading.journal.service.StressTestEngine.Book;
+import com.trading.journal.service.StressTestEngine.Shock;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +35,9 @@ import org.springframework.transaction.annotation.Transactional;
  * 스트레스 테스트 서비스
  *
  * <p>포트폴리오에 대한 스트레스 시나리오 분석을 수행합니다. - 시장 충격 시뮬레이션 - 섹터별 차등 충격 적용 - 포지션별 영향 분석 - 섹터별 영향 집계
+ *
+ * <p>계산은 {@link StressTestEngine}이 포지션 배열 위에서 수행하며, 시나리오 라이브러리 실행은 포지션별 베타와 역사적 구간 재현을 더해 모든 시나리오를
+ * 한 번에 적용한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,9 +48,24 @@ public class StressTestService {
     private static final MathContext MC = new MathContext(10, RoundingMode.HALF_UP);
     private static final int SCALE = 2;
 
+    /** 과거 구간 재현 시 시작일 직전 종가를 찾기 위해 더 읽는 일수 (주말/휴장 포함) */
+    private static final int REPLAY_LOOKBACK_DAYS = 10;
+
     private final StressScenarioRepository scenarioRepository;
     private final PortfolioRepository portfolioRepository;
     private final AccountRepository accountRepository;
+    private final HistoricalPriceRepository historicalPriceRepository;
+    private final BenchmarkPriceRepository benchmarkPriceRepository;
+    private final AccountService accountService;
+    private final SecurityContextService securityContextService;
+
+    /** 베타 추정과 시장 구간 재현에 쓰는 벤치마크 */
+    @Value("${stress-test.beta-benchmark:SP500}")
+    private BenchmarkType betaBenchmark = BenchmarkType.SP500;
+
+    /** 베타 추정 기간 (일) */
+    @Value("${stress-test.beta-lookback-days:365}")
+    private int betaLookbackDays = 365;
 
     /**
      * 스트레스 테스트 실행
@@ -71,99 +100,93 @@ public class StressTestService {
         List<Portfolio> positions =
                 portfolioRepository.findByAccountIdWithStock(request.getAccountId());
 
-        if (positions.isEmpty()) {
-            log.warn("포트폴리오에 포지션이 없습니다 - accountId: {}", request.getAccountId());
-            return buildEmptyResult(scenario, account, request);
-        }
-
         // 5. 적용할 충격 비율 결정 (customShockPercent 또는 시나리오 기본값)
         BigDecimal effectiveShockPercent =
                 request.getCustomShockPercent() != null
                         ? request.getCustomShockPercent()
                         : scenario.getMarketShockPercent();
 
-        // 6. 포지션별 충격 적용 및 영향 계산
-        List<StressTestResultDto.PositionImpact> positionImpacts =
-                calculatePositionImpacts(positions, scenario, effectiveShockPercent);
-
-        // 7. 섹터별 영향 집계
-        List<StressTestResultDto.SectorImpact> sectorImpacts =
-                calculateSectorImpacts(positionImpacts, scenario);
-
-        // 8. 포트폴리오 전체 영향 계산
-        BigDecimal portfolioValueBefore =
-                positionImpacts.stream()
-                        .map(StressTestResultDto.PositionImpact::getValueBefore)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal portfolioValueAfter =
-                positionImpacts.stream()
-                        .map(StressTestResultDto.PositionImpact::getValueAfter)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal absoluteLoss = portfolioValueBefore.subtract(portfolioValueAfter);
-
-        BigDecimal percentageLoss =
-                portfolioValueBefore.compareTo(BigDecimal.ZERO) > 0
-                        ? absoluteLoss
-                                .divide(portfolioValueBefore, MC)
-                                .multiply(BigDecimal.valueOf(100))
-                                .setScale(SCALE, RoundingMode.HALF_UP)
-                        : BigDecimal.ZERO;
-
-        // 9. 통계 계산
-        BigDecimal maxPositionLoss =
-                positionImpacts.stream()
-                        .map(StressTestResultDto.PositionImpact::getAbsoluteLoss)
-                        .max(BigDecimal::compareTo)
-                        .orElse(BigDecimal.ZERO);
-
-        BigDecimal minPositionLoss =
-                positionImpacts.stream()
-                        .map(StressTestResultDto.PositionImpact::getAbsoluteLoss)
-                        .min(BigDecimal::compareTo)
-                        .orElse(BigDecimal.ZERO);
+        if (positions.isEmpty()) {
+            log.warn("포트폴리오에 포지션이 없습니다 - accountId: {}", request.getAccountId());
+            return buildEmptyResult(scenario, account, effectiveShockPercent);
+        }
 
-        BigDecimal avgPositionLossPercent =
-                positionImpacts.isEmpty()
-                        ? BigDecimal.ZERO
-                        : positionImpacts.stream()
-                                .map(StressTestResultDto.PositionImpact::getImpactPercent)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                                .divide(BigDecimal.valueOf(positionImpacts.size()), MC)
-                                .setScale(SCALE, RoundingMode.HALF_UP);
+        // 6. 단일 시나리오는 베타/과거 재현 없이 시장 충격과 섹터 충격만 적용
+        Book book = toBook(positions, Map.of());
+        Shock shock =
+                new Shock(
+                        effectiveShockPercent.doubleValue() / 100,
+                        sectorShocks(scenario),
+                        Map.of());
+        double[][] shocks = StressTestEngine.shockMatrix(book, List.of(shock));
+        double[][] losses = StressTestEngine.losses(book.values(), shocks);
 
-        // 10. 결과 DTO 구성
         StressTestResultDto result =
-                StressTestResultDto.builder()
-                        .scenarioId(scenario.getId())
-                        .scenarioCode(scenario.getScenarioCode())
-                        .scenarioName(scenario.getName())
-                        .scenarioDescription(scenario.getDescription())
-                        .shockPercent(effectiveShockPercent)
-                        .portfolioValueBefore(
-                                portfolioValueBefore.setScale(SCALE, RoundingMode.HALF_UP))
-                        .portfolioValueAfter(
-                                portfolioValueAfter.setScale(SCALE, RoundingMode.HALF_UP))
-                        .absoluteLoss(absoluteLoss.setScale(SCALE, RoundingMode.HALF_UP))
-                        .percentageLoss(percentageLoss)
-                        .maxPositionLoss(maxPositionLoss.setScale(SCALE, RoundingMode.HALF_UP))
-                        .minPositionLoss(minPositionLoss.setScale(SCALE, RoundingMode.HALF_UP))
-                        .avgPositionLossPercent(avgPositionLossPercent)
-                        .positionImpacts(positionImpacts)
-                        .sectorImpacts(sectorImpacts)
-                        .executedAt(LocalDateTime.now())
-                        .accountId(account.getId())
-                        .accountName(account.getName())
-                        .build();
+                toResult(
+                        scenario,
+                        account,
+                        positions,
+                        book,
+                        shocks[0],
+                        losses[0],
+                        effectiveShockPercent);
 
         log.info(
                 "스트레스 테스트 완료 - accountId: {}, totalLoss: {}, lossPercent: {}%",
-                request.getAccountId(), absoluteLoss, percentageLoss);
+                request.getAccountId(), result.getAbsoluteLoss(), result.getPercentageLoss());
 
         return result;
     }
 
+    /**
+     * 계좌 하나에 시나리오 라이브러리 전체를 실행한다. 포지션과 가격 이력은 한 번만 조회하며, 포지션별 베타와 과거 구간 재현을 적용한다.
+     *
+     * @param accountId 계좌 ID
+     * @return 시나리오별 결과
+     * @throws com.trading.journal.exception.AccountNotFoundException 계좌가 없을 때
+     * @throws UnauthorizedAccessException 현재 사용자의 계좌가 아닐 때
+     */
+    public StressTestLibraryResultDto runScenarioLibrary(Long accountId) {
+        Account account = accountService.getAccountEntity(accountId);
+        List<Portfolio> positions = portfolioRepository.findByAccountIdWithStock(accountId);
+        return runLibrary(List.of(new AccountPositions(account, positions))).get(0);
+    }
+
+    /**
+     * 현재 사용자의 전체 계좌 리포트: 사용자 계좌의 포지션을 한 번에 읽고 시나리오 충격과 베타를 한 번만 만든 뒤 계좌별 평가를 병렬로 수행한다. 포지션이 없는 계좌는
+     * 제외한다.
+     *
+     * @return 계좌별 시나리오 결과 (계좌 ID 순)
+     * @throws UnauthorizedAccessException 로그인하지 않았을 때
+     */
+    public List<StressTestLibraryResultDto> runScenarioLibraryForCurrentUser() {
+        Long userId =
+                securityContextService
+                        .getCurrentUserId()
+                        .orElseThrow(() -> new UnauthorizedAccessException("로그인이 필요합니다."));
+        Map<Long, Account> accounts = new HashMap<>();
+        for (Account account :
+                accountRepository.findByUserIdOrderByIsDefaultDescCreatedAtAsc(userId)) {
+            accounts.put(account.getId(), account);
+        }
+        if (accounts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AccountPositions> byAccount = new TreeMap<>();
+        for (Portfolio position :
+                portfolioRepository.findByAccountIdInWithStock(accounts.keySet())) {
+            Long accountId = position.getAccount().getId();
+            byAccount
+                    .computeIfAbsent(
+                            accountId,
+                            id -> new AccountPositions(accounts.get(id), new ArrayList<>()))
+                    .positions()
+                    .add(position);
+        }
+        return runLibrary(new ArrayList<>(byAccount.values()));
+    }
+
     /**
      * 사용 가능한 사전 정의 시나리오 목록 조회
      *
@@ -217,90 +240,287 @@ public class StressTestService {
         }
     }
 
-    /** 포지션별 영향 계산 */
-    private List<StressTestResultDto.PositionImpact> calculatePositionImpacts(
-            List<Portfolio> positions, StressScenario scenario, BigDecimal marketShockPercent) {
-
-        Map<String, BigDecimal> sectorImpacts =
-                scenario.getSectorImpacts() != null
-                        ? scenario.getSectorImpacts()
-                        : Collections.emptyMap();
+    /** 계좌별 평가를 병렬로 수행 (DB 조회는 모두 호출 스레드에서 끝낸다) */
+    private List<StressTestLibraryResultDto> runLibrary(List<AccountPositions> accounts) {
+        List<StressScenario> scenarios = scenarioRepository.findAllByOrderByNameAsc();
+        Set<String> symbols =
+                accounts.stream()
+                        .flatMap(a -> a.positions().stream())
+                        .map(p -> p.getStock().getSymbol())
+                        .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<String, Double> betas = estimateBetas(symbols);
+        List<Shock> shocks = scenarios.stream().map(s -> libraryShock(s, symbols)).toList();
+
+        long start = System.currentTimeMillis();
+        List<StressTestLibraryResultDto> results =
+                accounts.parallelStream()
+                        .map(a -> evaluateLibrary(a, scenarios, shocks, betas))
+                        .toList();
+        log.info(
+                "스트레스 시나리오 라이브러리 실행 - 계좌: {}, 시나리오: {}, 종목: {}, {}ms",
+                accounts.size(),
+                scenarios.size(),
+                symbols.size(),
+                System.currentTimeMillis() - start);
+        return results;
+    }
 
-        BigDecimal totalLoss = BigDecimal.ZERO;
+    private StressTestLibraryResultDto evaluateLibrary(
+            AccountPositions account,
+            List<StressScenario> scenarios,
+            List<Shock> shocks,
+            Map<String, Double> betas) {
+        List<Portfolio> positions = account.positions();
+        List<StressTestResultDto> results = new ArrayList<>();
+        BigDecimal portfolioValue = zero();
 
-        // First pass: calculate absolute losses
-        List<StressTestResultDto.PositionImpact> impacts = new ArrayList<>();
+        if (positions.isEmpty()) {
+            for (StressScenario scenario : scenarios) {
+                results.add(
+                        buildEmptyResult(
+                                scenario, account.account(), scenario.getMarketShockPercent()));
+            }
+        } else {
+            Book book = toBook(positions, betas);
+            double[][] shockMatrix = StressTestEngine.shockMatrix(book, shocks);
+            double[][] losses = StressTestEngine.losses(book.values(), shockMatrix);
+            for (int s = 0; s < scenarios.size(); s++) {
+                BigDecimal marketShockPercent =
+                        BigDecimal.valueOf(shocks.get(s).market() * 100)
+                                .setScale(SCALE, RoundingMode.HALF_UP);
+                results.add(
+                        toResult(
+                                scenarios.get(s),
+                                account.account(),
+                                positions,
+                                book,
+                                shockMatrix[s],
+                                losses[s],
+                                marketShockPercent));
+            }
+            portfolioValue = scaled(sum(book.values()));
+        }
 
-        for (Portfolio position : positions) {
-            // 현재 포지션 가치 (평균 단가 × 보유 수량)
-            BigDecimal valueBefore =
-                    position.getAveragePrice()
-                            .multiply(position.getQuantity())
-                            .setScale(SCALE, RoundingMode.HALF_UP);
+        StressTestResultDto worst =
+                results.stream()
+                        .max(Comparator.comparing(StressTestResultDto::getAbsoluteLoss))
+                        .orElse(null);
+
+        return StressTestLibraryResultDto.builder()
+                .accountId(account.account().getId())
+                .accountName(account.account().getName())
+                .positionCount(positions.size())
+                .portfolioValue(portfolioValue)
+                .worstScenarioCode(worst != null ? worst.getScenarioCode() : null)
+                .worstPercentageLoss(worst != null ? worst.getPercentageLoss() : null)
+                .results(results)
+                .executedAt(LocalDateTime.now())
+                .build();
+    }
 
-            // 적용할 충격 비율 결정 (섹터별 충격이 있으면 우선 적용)
-            BigDecimal effectiveShock = marketShockPercent;
+    /** 포지션을 엔진 배열로 적재 (평가가치는 평균 단가 × 보유 수량, 베타가 없으면 1) */
+    private Book toBook(List<Portfolio> positions, Map<String, Double> betas) {
+        int n = positions.size();
+        String[] symbols = new String[n];
+        String[] sectors = new String[n];
+        double[] values = new double[n];
+        double[] positionBetas = new double[n];
+        for (int p = 0; p < n; p++) {
+            Portfolio position = positions.get(p);
+            symbols[p] = position.getStock().getSymbol();
             Sector sector = position.getStock().getSector();
+            sectors[p] = sector != null ? sector.name() : null;
+            values[p] = position.getAveragePrice().multiply(position.getQuantity()).doubleValue();
+            positionBetas[p] = betas.getOrDefault(symbols[p], 1.0);
+        }
+        return new Book(symbols, sectors, values, positionBetas);
+    }
 
-            if (sector != null && sectorImpacts.containsKey(sector.name())) {
-                effectiveShock = sectorImpacts.get(sector.name());
-                log.debug(
-                        "섹터별 충격 적용 - symbol: {}, sector: {}, shock: {}%",
-                        position.getStock().getSymbol(), sector.name(), effectiveShock);
-            }
+    /**
+     * 라이브러리용 시나리오 충격. 기간이 있는 역사적 시나리오는 그 구간을 저장된 가격으로 재현한다: 가격 이력이 있는 종목은 자기 수익률을, 나머지는 벤치마크 구간
+     * 수익률(없으면 시나리오 기본값) × 베타를 적용한다.
+     */
+    private Shock libraryShock(StressScenario scenario, Set<String> symbols) {
+        Map<String, Double> sectors = sectorShocks(scenario);
+        double market = scenario.getMarketShockPercent().doubleValue() / 100;
+        LocalDate start = scenario.getStartDate();
+        LocalDate end = scenario.getEndDate();
+        if (start == null || end == null) {
+            return new Shock(market, sectors, Map.of());
+        }
 
-            // 충격 적용 후 가치
-            BigDecimal valueAfter = applyShock(valueBefore, effectiveShock);
+        LocalDate from = start.minusDays(REPLAY_LOOKBACK_DAYS);
+        Map<String, Double> replayed = new HashMap<>();
+        loadCloses(symbols, from, end)
+                .forEach(
+                        (symbol, closes) -> {
+                            double r =
+                                    StressTestEngine.windowReturn(
+                                            closes.dates(), closes.closes(), start, end);
+                            if (!Double.isNaN(r)) {
+                                replayed.put(symbol, r);
+                            }
+                        });
+
+        Closes benchmark = loadBenchmarkCloses(from, end);
+        double benchmarkReturn =
+                StressTestEngine.windowReturn(benchmark.dates(), benchmark.closes(), start, end);
+        return new Shock(
+                Double.isNaN(benchmarkReturn) ? market : benchmarkReturn, sectors, replayed);
+    }
 
-            // 손실 금액 및 비율
-            BigDecimal absoluteLoss = valueBefore.subtract(valueAfter);
-            BigDecimal impactPercent =
-                    valueBefore.compareTo(BigDecimal.ZERO) > 0
-                            ? absoluteLoss
-                                    .divide(valueBefore, MC)
-                                    .multiply(BigDecimal.valueOf(100))
-                                    .setScale(SCALE, RoundingMode.HALF_UP)
-                            : BigDecimal.ZERO;
+    /** 최근 가격 이력으로 종목별 베타 추정 (벤치마크 이력이 없으면 모두 1) */
+    private Map<String, Double> estimateBetas(Set<String> symbols) {
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(betaLookbackDays);
+        Closes benchmark = loadBenchmarkCloses(from, to);
+        if (symbols.isEmpty() || benchmark.dates().length == 0) {
+            return Map.of();
+        }
+
+        Series benchmarkReturns =
+                StressTestEngine.dailyReturns(benchmark.dates(), benchmark.closes());
+        Map<String, Double> betas = new HashMap<>();
+        loadCloses(symbols, from, to)
+                .forEach(
+                        (symbol, closes) ->
+                                betas.put(
+                                        symbol,
+                                        StressTestEngine.beta(
+                                                StressTestEngine.dailyReturns(
+                                                        closes.dates(), closes.closes()),
+                                                benchmarkReturns)));
+        return betas;
+    }
+
+    /** 여러 종목의 구간 종가를 한 번에 조회해 종목별 배열로 묶는다 (수정 종가 우선) */
+    private Map<String, Closes> loadCloses(Set<String> symbols, LocalDate from, LocalDate to) {
+        if (symbols.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<HistoricalPrice>> bySymbol =
+                historicalPriceRepository
+                        .findBySymbolsAndPriceDateBetween(new ArrayList<>(symbols), from, to)
+                        .stream()
+                        .collect(Collectors.groupingBy(HistoricalPrice::getSymbol));
+
+        Map<String, Closes> result = new HashMap<>();
+        bySymbol.forEach(
+                (symbol, prices) -> {
+                    LocalDate[] dates = new LocalDate[prices.size()];
+                    double[] closes = new double[prices.size()];
+                    for (int i = 0; i < prices.size(); i++) {
+                        HistoricalPrice price = prices.get(i);
+                        dates[i] = price.getPriceDate();
+                        closes[i] =
+                                (price.getAdjClose() != null
+                                                ? price.getAdjClose()
+                                                : price.getClosePrice())
+                                        .doubleValue();
+                    }
+                    result.put(symbol, new Closes(dates, closes));
+                });
+        return result;
+    }
+
+    private Closes loadBenchmarkCloses(LocalDate from, LocalDate to) {
+        List<Object[]> rows =
+                benchmarkPriceRepository.findClosePricesByBenchmarkAndPeriod(
+                        betaBenchmark, from, to);
+        LocalDate[] dates = new LocalDate[rows.size()];
+        double[] closes = new double[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            dates[i] = (LocalDate) rows.get(i)[0];
+            closes[i] = ((BigDecimal) rows.get(i)[1]).doubleValue();
+        }
+        return new Closes(dates, closes);
+    }
 
-            totalLoss = totalLoss.add(absoluteLoss);
+    /** 시나리오의 섹터별 충격 (% → 소수) */
+    private Map<String, Double> sectorShocks(StressScenario scenario) {
+        if (scenario.getSectorImpacts() == null) {
+            return Map.of();
+        }
+        Map<String, Double> shocks = new HashMap<>();
+        scenario.getSectorImpacts()
+                .forEach((sector, percent) -> shocks.put(sector, percent.doubleValue() / 100));
+        return shocks;
+    }
 
-            StressTestResultDto.PositionImpact impact =
+    /** 엔진의 손실 행 하나를 결과 DTO로 변환 */
+    private StressTestResultDto toResult(
+            StressScenario scenario,
+            Account account,
+            List<Portfolio> positions,
+            Book book,
+            double[] shocks,
+            double[] losses,
+            BigDecimal shockPercent) {
+        double totalValue = sum(book.values());
+        double totalLoss = sum(losses);
+
+        List<StressTestResultDto.PositionImpact> positionImpacts = new ArrayList<>();
+        for (int p = 0; p < positions.size(); p++) {
+            Portfolio position = positions.get(p);
+            Sector sector = position.getStock().getSector();
+            double valueBefore = book.values()[p];
+            double loss = losses[p];
+
+            positionImpacts.add(
                     StressTestResultDto.PositionImpact.builder()
                             .symbol(position.getStock().getSymbol())
                             .stockName(position.getStock().getName())
                             .sector(sector != null ? sector.getLabel() : "미분류")
                             .quantity(position.getQuantity())
-                            .valueBefore(valueBefore)
-                            .valueAfter(valueAfter.setScale(SCALE, RoundingMode.HALF_UP))
-                            .absoluteLoss(absoluteLoss.setScale(SCALE, RoundingMode.HALF_UP))
-                            .impactPercent(impactPercent)
+                            .beta(scaled(book.betas()[p]))
+                            .shockPercent(scaled(shocks[p] * 100))
+                            .valueBefore(scaled(valueBefore))
+                            .valueAfter(scaled(valueBefore - loss))
+                            .absoluteLoss(scaled(loss))
+                            .impactPercent(
+                                    valueBefore > 0 ? scaled(loss / valueBefore * 100) : zero())
                             .contributionToTotalLoss(
-                                    BigDecimal.ZERO) // Will be calculated in second pass
-                            .build();
-
-            impacts.add(impact);
+                                    totalLoss > 0 ? scaled(loss / totalLoss * 100) : zero())
+                            .build());
         }
 
-        // Second pass: calculate contribution to total loss
-        BigDecimal finalTotalLoss = totalLoss;
-        if (finalTotalLoss.compareTo(BigDecimal.ZERO) > 0) {
-            impacts.forEach(
-                    impact -> {
-                        BigDecimal contribution =
-                                impact.getAbsoluteLoss()
-                                        .divide(finalTotalLoss, MC)
-                                        .multiply(BigDecimal.valueOf(100))
-                                        .setScale(SCALE, RoundingMode.HALF_UP);
-                        impact.setContributionToTotalLoss(contribution);
-                    });
-        }
-
-        // Sort by absolute loss descending (highest impact first)
-        impacts.sort(
+        // 손실이 큰 포지션부터
+        positionImpacts.sort(
                 Comparator.comparing(StressTestResultDto.PositionImpact::getAbsoluteLoss)
                         .reversed());
 
-        return impacts;
+        List<StressTestResultDto.SectorImpact> sectorImpacts =
+                calculateSectorImpacts(positionImpacts, scenario);
+
+        double maxPositionLoss = Arrays.stream(losses).max().orElse(0);
+        double minPositionLoss = Arrays.stream(losses).min().orElse(0);
+        BigDecimal avgPositionLossPercent =
+                positionImpacts.stream()
+                        .map(StressTestResultDto.PositionImpact::getImpactPercent)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)
+                        .divide(BigDecimal.valueOf(positionImpacts.size()), MC)
+                        .setScale(SCALE, RoundingMode.HALF_UP);
+
+        return StressTestResultDto.builder()
+                .scenarioId(scenario.getId())
+                .scenarioCode(scenario.getScenarioCode())
+                .scenarioName(scenario.getName())
+                .scenarioDescription(scenario.getDescription())
+                .shockPercent(shockPercent)
+                .portfolioValueBefore(scaled(totalValue))
+                .portfolioValueAfter(scaled(totalValue - totalLoss))
+                .absoluteLoss(scaled(totalLoss))
+                .percentageLoss(totalValue > 0 ? scaled(totalLoss / totalValue * 100) : zero())
+                .maxPositionLoss(scaled(maxPositionLoss))
+                .minPositionLoss(scaled(minPositionLoss))
+                .avgPositionLossPercent(avgPositionLossPercent)
+                .positionImpacts(positionImpacts)
+                .sectorImpacts(sectorImpacts)
+                .executedAt(LocalDateTime.now())
+                .accountId(account.getId())
+                .accountName(account.getName())
+                .build();
     }
 
     /** 섹터별 영향 집계 */
@@ -403,12 +623,7 @@ public class StressTestService {
 
     /** 빈 포트폴리오에 대한 결과 생성 */
     private StressTestResultDto buildEmptyResult(
-            StressScenario scenario, Account account, StressTestRequestDto request) {
-
-        BigDecimal effectiveShockPercent =
-                request.getCustomShockPercent() != null
-                        ? request.getCustomShockPercent()
-                        : scenario.getMarketShockPercent();
+            StressScenario scenario, Account account, BigDecimal effectiveShockPercent) {
 
         return StressTestResultDto.builder()
                 .scenarioId(scenario.getId())
@@ -431,18 +646,25 @@ public class StressTestService {
                 .build();
     }
 
-    /**
-     * 충격 비율 적용
-     *
-     * @param value 원래 가치
-     * @param shockPercent 충격 비율 (%)
-     * @return 충격 적용 후 가치
-     */
-    private BigDecimal applyShock(BigDecimal value, BigDecimal shockPercent) {
-        // newValue = currentValue * (1 + shockPercent/100)
-        // 예: shockPercent = -30 -> newValue = value * 0.70
-        BigDecimal multiplier =
-                BigDecimal.ONE.add(shockPercent.divide(BigDecimal.valueOf(100), MC));
-        return value.multiply(multiplier);
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static BigDecimal scaled(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
     }
+
+    private static BigDecimal zero() {
+        return BigDecimal.ZERO.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /** 계좌와 그 포지션 */
+    private record AccountPositions(Account account, List<Portfolio> positions) {}
+
+    /** 날짜 오름차순 종가 배열 */
+    private record Closes(LocalDate[] dates, double[] closes) {}
 }
@@ -1,89 +1,70 @@
 package com.trading.journal.service;
 
 import com.trading.journal.dto.TaxCalculationDto;
-import com.trading.journal.entity.Transaction;
-import com.trading.journal.entity.TransactionType;
-import com.trading.journal.repository.StockRepository;
-import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.entity.RealizedGainSummary;
+import com.trading.journal.entity.TaxLot;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 양도소득세 계산 서비스
+ *
+ * <p>연도 합계는 계좌/연도별 실현 손익 요약에서, 상세는 세금 로트 원장에서 읽는다. 로트는 이전 연도 매수분까지 FIFO로 소진한 결과라 보유 기간과 원가가 로트마다
+ * 정확하며, 요청마다 거래를 다시 계산하지 않는다. 노드에서 연도를 처음 조회할 때만 원장이 최신인지 확인한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class TaxCalculationService {
 
-    private final TransactionRepository transactionRepository;
-    private final StockRepository stockRepository;
+    private final TaxLotLedgerService taxLotLedgerService;
+    private final FifoCalculationService fifoCalculationService;
 
     // 한국 주식 양도소득세율 (2024년 기준)
     private static final BigDecimal BASIC_DEDUCTION = new BigDecimal("2500000"); // 기본공제 250만원
     private static final BigDecimal TAX_RATE = new BigDecimal("0.22"); // 세율 22% (지방소득세 포함)
 
     public TaxCalculationDto calculateTax(Integer year) {
-        LocalDateTime startDate = LocalDateTime.of(year, 1, 1, 0, 0);
-        LocalDateTime endDate = LocalDateTime.of(year, 12, 31, 23, 59, 59);
-
-        List<Transaction> yearTransactions =
-                transactionRepository.findByDateRange(startDate, endDate);
-
-        // 매도 거래만 필터링
-        List<Transaction> sellTransactions =
-                yearTransactions.stream()
-                        .filter(t -> t.getType() == TransactionType.SELL)
-                        .collect(Collectors.toList());
-
-        if (sellTransactions.isEmpty()) {
-            return buildEmptyTaxCalculation(year);
-        }
-
-        // 종목별로 그룹화
-        Map<Long, List<Transaction>> transactionsByStock =
-                yearTransactions.stream().collect(Collectors.groupingBy(t -> t.getStock().getId()));
-
-        // 종목별 매수 거래 미리 필터링 및 정렬 (반복 필터링 방지)
-        Map<Long, List<Transaction>> buyTransactionsByStock = new HashMap<>();
-        for (Map.Entry<Long, List<Transaction>> entry : transactionsByStock.entrySet()) {
-            List<Transaction> sortedBuys =
-                    entry.getValue().stream()
-                            .filter(t -> t.getType() == TransactionType.BUY)
-                            .sorted(Comparator.comparing(Transaction::getTransactionDate))
-                            .collect(Collectors.toList());
-            buyTransactionsByStock.put(entry.getKey(), sortedBuys);
-        }
+        return calculateTax(year, null);
+    }
 
-        List<TaxCalculationDto.TaxDetailDto> taxDetails = new ArrayList<>();
+    /**
+     * 연도 양도소득세 계산
+     *
+     * @param year 과세 연도
+     * @param accountId 계좌 ID (null이면 전체 계좌)
+     */
+    public TaxCalculationDto calculateTax(Integer year, Long accountId) {
+        fifoCalculationService.ensureLedgerSynced(year);
+        List<RealizedGainSummary> summaries = taxLotLedgerService.findSummaries(year, accountId);
+        int sellCount = 0;
+        BigDecimal totalSellAmount = BigDecimal.ZERO;
+        BigDecimal totalBuyAmount = BigDecimal.ZERO;
         BigDecimal totalProfit = BigDecimal.ZERO;
         BigDecimal totalLoss = BigDecimal.ZERO;
+        for (RealizedGainSummary summary : summaries) {
+            sellCount += summary.getSellCount();
+            totalSellAmount = totalSellAmount.add(summary.getProceeds());
+            totalBuyAmount = totalBuyAmount.add(summary.getCostBasis());
+            totalProfit = totalProfit.add(summary.getTotalGain());
+            totalLoss = totalLoss.add(summary.getTotalLoss());
+        }
 
-        // 각 종목별로 세금 계산
-        for (Transaction sellTransaction : sellTransactions) {
-            Long stockId = sellTransaction.getStock().getId();
-            TaxCalculationDto.TaxDetailDto detail =
-                    calculateTaxDetail(
-                            sellTransaction,
-                            buyTransactionsByStock.getOrDefault(stockId, Collections.emptyList()));
-
-            if (detail != null) {
-                taxDetails.add(detail);
-                if (detail.getProfit().compareTo(BigDecimal.ZERO) > 0) {
-                    totalProfit = totalProfit.add(detail.getProfit());
-                } else {
-                    totalLoss = totalLoss.add(detail.getLoss());
-                }
-            }
+        if (sellCount == 0) {
+            return buildEmptyTaxCalculation(year);
         }
 
+        List<TaxCalculationDto.TaxDetailDto> taxDetails =
+                taxLotLedgerService.findLots(year, accountId).stream()
+                        .map(this::toTaxDetail)
+                        .toList();
+
         // 순이익 계산 (이익 - 손실)
         BigDecimal netProfit = totalProfit.subtract(totalLoss);
 
@@ -97,75 +78,42 @@ public class TaxCalculationService {
         BigDecimal estimatedTax =
                 taxableAmount.multiply(TAX_RATE).setScale(0, RoundingMode.HALF_UP);
 
-        // 총 매도금액 계산
-        BigDecimal totalSellAmount =
-                sellTransactions.stream()
-                        .map(Transaction::getTotalAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
         return TaxCalculationDto.builder()
                 .taxYear(year)
                 .totalSellAmount(totalSellAmount)
-                .totalBuyAmount(calculateTotalBuyAmount(taxDetails))
+                .totalBuyAmount(totalBuyAmount)
                 .totalProfit(totalProfit)
                 .totalLoss(totalLoss)
                 .netProfit(netProfit)
                 .taxableAmount(taxableAmount)
                 .estimatedTax(estimatedTax)
                 .taxRate(TAX_RATE.multiply(new BigDecimal("100")))
-                .taxDetails(taxDetails)
+                .taxDetails(new ArrayList<>(taxDetails))
                 .build();
     }
 
-    /**
-     * 세금 상세 계산 (최적화: 미리 필터링/정렬된 매수 거래 목록 사용)
-     *
-     * @param sellTransaction 매도 거래
-     * @param sortedBuyTransactions 이미 날짜순 정렬된 매수 거래 목록
-     */
-    private TaxCalculationDto.TaxDetailDto calculateTaxDetail(
-            Transaction sellTransaction, List<Transaction> sortedBuyTransactions) {
-
-        // FIFO 방식으로 계산된 realizedPnl과 costBasis 사용
-        BigDecimal realizedPnl = sellTransaction.getRealizedPnl();
-        BigDecimal costBasis = sellTransaction.getCostBasis();
-
-        if (realizedPnl == null || costBasis == null) {
-            log.warn("Missing FIFO data for transaction: {}. Skipping.", sellTransaction.getId());
-            return null;
-        }
-
-        BigDecimal sellAmount = sellTransaction.getTotalAmount();
-        LocalDate sellDate = sellTransaction.getTransactionDate().toLocalDate();
-
-        // 첫 매수일 찾기 (보유 기간 계산용) - 이미 정렬되어 있으므로 필터만 수행
-        LocalDate firstBuyDate =
-                sortedBuyTransactions.stream()
-                        .filter(
-                                t ->
-                                        t.getTransactionDate()
-                                                .isBefore(sellTransaction.getTransactionDate()))
-                        .findFirst()
-                        .map(t -> t.getTransactionDate().toLocalDate())
-                        .orElse(sellDate);
-
-        long holdingDays = ChronoUnit.DAYS.between(firstBuyDate, sellDate);
-        boolean isLongTerm = holdingDays >= 365;
-
+    /** 로트 1건의 세금 상세 (매수 기록이 없는 로트는 매도일을 매수일로 본다) */
+    private TaxCalculationDto.TaxDetailDto toTaxDetail(TaxLot lot) {
+        BigDecimal realizedGain = lot.getRealizedGain();
         return TaxCalculationDto.TaxDetailDto.builder()
-                .stockSymbol(sellTransaction.getStock().getSymbol())
-                .stockName(sellTransaction.getStock().getName())
-                .buyDate(firstBuyDate)
-                .sellDate(sellDate)
-                .buyAmount(costBasis)
-                .sellAmount(sellAmount)
-                .profit(realizedPnl.compareTo(BigDecimal.ZERO) > 0 ? realizedPnl : BigDecimal.ZERO)
+                .stockSymbol(lot.getStock().getSymbol())
+                .stockName(lot.getStock().getName())
+                .buyDate(
+                        (lot.getAcquiredAt() != null ? lot.getAcquiredAt() : lot.getDisposedAt())
+                                .toLocalDate())
+                .sellDate(lot.getDisposedAt().toLocalDate())
+                .buyAmount(lot.getCostBasis())
+                .sellAmount(lot.getProceeds())
+                .profit(
+                        realizedGain.compareTo(BigDecimal.ZERO) > 0
+                                ? realizedGain
+                                : BigDecimal.ZERO)
                 .loss(
-                        realizedPnl.compareTo(BigDecimal.ZERO) < 0
-                                ? realizedPnl.abs()
+                        realizedGain.compareTo(BigDecimal.ZERO) < 0
+                                ? realizedGain.abs()
                                 : BigDecimal.ZERO)
-                .isLongTerm(isLongTerm)
-                .taxAmount(calculateIndividualTax(realizedPnl))
+                .isLongTerm(lot.getLongTerm())
+                .taxAmount(calculateIndividualTax(realizedGain))
                 .build();
     }
 
@@ -179,12 +127,6 @@ public class TaxCalculationService {
         return profit.multiply(TAX_RATE).setScale(0, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateTotalBuyAmount(List<TaxCalculationDto.TaxDetailDto> details) {
-        return details.stream()
-                .map(TaxCalculationDto.TaxDetailDto::getBuyAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
     private TaxCalculationDto buildEmptyTaxCalculation(Integer year) {
         return TaxCalculationDto.builder()
                 .taxYear(year)
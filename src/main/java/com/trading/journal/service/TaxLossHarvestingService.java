@@ -4,8 +4,6 @@ import com.trading.journal.dto.HarvestingOpportunityDto;
 import com.trading.journal.dto.TaxLossHarvestingDto;
 import com.trading.journal.entity.Account;
 import com.trading.journal.entity.Portfolio;
-import com.trading.journal.entity.Transaction;
-import com.trading.journal.entity.TransactionType;
 import com.trading.journal.exception.AccountNotFoundException;
 import com.trading.journal.exception.UnauthorizedAccessException;
 import com.trading.journal.repository.AccountRepository;
@@ -18,7 +16,9 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +36,8 @@ public class TaxLossHarvestingService {
     private final TransactionRepository transactionRepository;
     private final StockPriceService stockPriceService;
     private final SecurityContextService securityContextService;
+    private final TaxLotLedgerService taxLotLedgerService;
+    private final FifoCalculationService fifoCalculationService;
 
     // 한국 주식 양도소득세율 (TaxCalculationService와 동일)
     private static final BigDecimal BASIC_DEDUCTION = new BigDecimal("2500000"); // 기본공제 250만원
@@ -93,12 +95,27 @@ public class TaxLossHarvestingService {
             return buildEmptyResult(accountId, "포지션 정보가 없습니다.");
         }
 
-        // 2. 각 포지션에 대해 손실 여부 확인 및 기회 계산
+        // 2. 계좌 단위로 최근 매도일(세금 로트 원장)과 잔여 매수 로트의 최초 매수일을 한 번에 조회
+        //    워시 세일 기간(30일)이 걸칠 수 있는 올해와 작년 원장은 노드의 첫 조회 때 확인
+        int currentYear = LocalDate.now().getYear();
+        fifoCalculationService.ensureLedgerSynced(currentYear - 1);
+        fifoCalculationService.ensureLedgerSynced(currentYear);
+        Map<Long, LocalDateTime> lastDisposals =
+                taxLotLedgerService.findLastDisposalByStock(accountId);
+        Map<Long, LocalDateTime> oldestOpenLots = new HashMap<>();
+        for (Object[] row : transactionRepository.findOldestOpenLotDateByStock(accountId)) {
+            oldestOpenLots.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        // 3. 각 포지션에 대해 손실 여부 확인 및 기회 계산
         List<HarvestingOpportunityDto> opportunities = new ArrayList<>();
 
         for (Portfolio portfolio : portfolios) {
             try {
-                HarvestingOpportunityDto opportunity = analyzePosition(accountId, portfolio);
+                Long stockId = portfolio.getStock().getId();
+                HarvestingOpportunityDto opportunity =
+                        analyzePosition(
+                                portfolio, lastDisposals.get(stockId), oldestOpenLots.get(stockId));
 
                 if (opportunity != null) {
                     opportunities.add(opportunity);
@@ -118,11 +135,13 @@ public class TaxLossHarvestingService {
     /**
      * 개별 포지션 분석
      *
-     * @param accountId 계좌 ID
      * @param portfolio 포지션 정보
+     * @param lastDisposal 같은 종목의 최근 매도 일시 (없으면 null)
+     * @param oldestOpenLot 잔여 수량이 남은 가장 오래된 매수 일시 (없으면 null)
      * @return 손실이 있는 경우 HarvestingOpportunityDto, 없으면 null
      */
-    private HarvestingOpportunityDto analyzePosition(Long accountId, Portfolio portfolio) {
+    private HarvestingOpportunityDto analyzePosition(
+            Portfolio portfolio, LocalDateTime lastDisposal, LocalDateTime oldestOpenLot) {
         String symbol = portfolio.getStock().getSymbol();
 
         // 현재가 조회
@@ -176,11 +195,10 @@ public class TaxLossHarvestingService {
                 unrealizedLoss.multiply(TAX_RATE).setScale(0, RoundingMode.HALF_UP);
 
         // Wash Sale 위험 체크
-        WashSaleInfo washSaleInfo = checkWashSaleRisk(accountId, portfolio.getStock().getId());
+        WashSaleInfo washSaleInfo = checkWashSaleRisk(lastDisposal);
 
         // 보유 기간 계산
-        HoldingPeriodInfo holdingInfo =
-                calculateHoldingPeriod(accountId, portfolio.getStock().getId());
+        HoldingPeriodInfo holdingInfo = calculateHoldingPeriod(oldestOpenLot);
 
         return HarvestingOpportunityDto.builder()
                 .stockId(portfolio.getStock().getId())
@@ -208,53 +226,26 @@ public class TaxLossHarvestingService {
     }
 
     /** Wash Sale 위험 체크 지난 30일 이내에 같은 종목을 매도한 적이 있는지 확인 */
-    private WashSaleInfo checkWashSaleRisk(Long accountId, Long stockId) {
+    private WashSaleInfo checkWashSaleRisk(LocalDateTime lastDisposal) {
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(WASH_SALE_DAYS);
-
-        // 최근 30일 이내의 매도 거래 조회
-        List<Transaction> recentSales =
-                transactionRepository.findByAccountIdAndStockIdAndTypeOrderByTransactionDateAsc(
-                        accountId, stockId, TransactionType.SELL);
-
-        List<Transaction> salesInWashPeriod =
-                recentSales.stream()
-                        .filter(t -> t.getTransactionDate().isAfter(thirtyDaysAgo))
-                        .collect(Collectors.toList());
-
-        if (salesInWashPeriod.isEmpty()) {
-            return new WashSaleInfo(false, null, null);
-        }
-
-        // 가장 최근 매도일
-        Transaction lastSale =
-                salesInWashPeriod.stream()
-                        .max(Comparator.comparing(Transaction::getTransactionDate))
-                        .orElse(null);
-
-        if (lastSale == null) {
+        if (lastDisposal == null || !lastDisposal.isAfter(thirtyDaysAgo)) {
             return new WashSaleInfo(false, null, null);
         }
 
-        LocalDate lastSaleDate = lastSale.getTransactionDate().toLocalDate();
+        LocalDate lastSaleDate = lastDisposal.toLocalDate();
         long daysSinceLastSale = ChronoUnit.DAYS.between(lastSaleDate, LocalDate.now());
         int daysUntilClears = (int) (WASH_SALE_DAYS - daysSinceLastSale);
 
         return new WashSaleInfo(true, lastSaleDate, daysUntilClears > 0 ? daysUntilClears : 0);
     }
 
-    /** 보유 기간 계산 */
-    private HoldingPeriodInfo calculateHoldingPeriod(Long accountId, Long stockId) {
-        // 가장 오래된 매수 거래 찾기
-        List<Transaction> buyTransactions =
-                transactionRepository.findByAccountIdAndStockIdAndTypeOrderByTransactionDateAsc(
-                        accountId, stockId, TransactionType.BUY);
-
-        if (buyTransactions.isEmpty()) {
+    /** 보유 기간 계산 (아직 남아 있는 가장 오래된 매수 로트 기준) */
+    private HoldingPeriodInfo calculateHoldingPeriod(LocalDateTime oldestOpenLot) {
+        if (oldestOpenLot == null) {
             return new HoldingPeriodInfo(LocalDate.now(), 0, false);
         }
 
-        Transaction firstBuy = buyTransactions.get(0);
-        LocalDate purchaseDate = firstBuy.getTransactionDate().toLocalDate();
+        LocalDate purchaseDate = oldestOpenLot.toLocalDate();
         long holdingDays = ChronoUnit.DAYS.between(purchaseDate, LocalDate.now());
         boolean isLongTerm = holdingDays >= 365;
 
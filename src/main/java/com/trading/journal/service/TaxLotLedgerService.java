@@ -0,0 +1,338 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.FifoResult.BuyConsumption;
+import com.trading.journal.entity.RealizedGainSummary;
+import com.trading.journal.entity.TaxLot;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.repository.RealizedGainSummaryRepository;
+import com.trading.journal.repository.TaxLotRepository;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 세금 로트 원장 서비스
+ *
+ * <p>FifoCalculationService가 계산한 매수 소진 내역을 매도별 로트 행({@link TaxLot})으로 저장한다. 계좌/연도별 실현 손익 요약({@link
+ * RealizedGainSummary})은 로트를 바꾼 트랜잭션이 커밋된 뒤 바뀐 계좌/연도만 로트에서 다시 합산하므로, 같은 계좌에서 동시에 들어온 매도가 사용자의 쓰기를
+ * 실패시키지 않는다. 재합산끼리 충돌하면 다시 읽어 재시도한다. 세금 계산, 손실 수확 분석, 세금 리포트는 거래를 다시 훑지 않고 이 원장을 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TaxLotLedgerService {
+
+    /** 장기 보유 기준 (일) */
+    static final int LONG_TERM_DAYS = 365;
+
+    /** 요약 재합산 최대 시도 횟수 (동시 재합산과 충돌 시) */
+    private static final int MAX_SUMMARY_ATTEMPTS = 3;
+
+    private final TaxLotRepository taxLotRepository;
+    private final RealizedGainSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate requiresNew;
+
+    @PostConstruct
+    public void init() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 신규 매도의 로트 기록 (같은 매도의 기존 로트는 교체)
+     *
+     * @param sell 매도 거래 (FIFO 결과 적용 후)
+     * @param consumptions FIFO로 소진한 매수 내역
+     */
+    @Transactional
+    public void recordSell(Transaction sell, List<BuyConsumption> consumptions) {
+        List<TaxLot> previous = taxLotRepository.findBySellTransactionIdIn(List.of(sell.getId()));
+        replace(previous, buildLots(sell, consumptions));
+    }
+
+    /**
+     * 계좌/종목 로트 전체 교체 (FIFO 재계산 후)
+     *
+     * <p>다른 계좌에서 옮겨온 매도의 로트도 매도 ID로 찾아 함께 교체한다.
+     *
+     * @param sells 매도 거래 (날짜 오름차순)
+     * @param consumptions 매도별 소진 내역 (sells와 같은 순서)
+     */
+    @Transactional
+    public void replaceAccountStock(
+            Long accountId,
+            Long stockId,
+            List<Transaction> sells,
+            List<List<BuyConsumption>> consumptions) {
+        Map<Long, TaxLot> previous = new LinkedHashMap<>();
+        taxLotRepository
+                .findByAccountAndStock(accountId, stockId)
+                .forEach(lot -> previous.put(lot.getId(), lot));
+        List<Long> sellIds =
+                sells.stream().map(Transaction::getId).filter(Objects::nonNull).toList();
+        if (!sellIds.isEmpty()) {
+            taxLotRepository
+                    .findBySellTransactionIdIn(sellIds)
+                    .forEach(lot -> previous.put(lot.getId(), lot));
+        }
+
+        List<TaxLot> lots = new ArrayList<>();
+        for (int i = 0; i < sells.size(); i++) {
+            lots.addAll(buildLots(sells.get(i), consumptions.get(i)));
+        }
+        replace(new ArrayList<>(previous.values()), lots);
+    }
+
+    /** 연도별 로트 (종목 포함, accountId가 null이면 전체 계좌) */
+    public List<TaxLot> findLots(int year, Long accountId) {
+        return taxLotRepository.findByYearWithStock(year, accountId);
+    }
+
+    /** 연도별 실현 손익 요약 (accountId가 null이면 전체 계좌) */
+    public List<RealizedGainSummary> findSummaries(int year, Long accountId) {
+        return summaryRepository.findByYear(year, accountId);
+    }
+
+    /** 계좌의 종목별 최근 매도 일시 */
+    public Map<Long, LocalDateTime> findLastDisposalByStock(Long accountId) {
+        Map<Long, LocalDateTime> result = new HashMap<>();
+        for (Object[] row : taxLotRepository.findLastDisposalByStock(accountId)) {
+            result.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        return result;
+    }
+
+    /** 로트가 바뀐 계좌/연도의 요약을 커밋 후 로트에서 다시 합산 */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTaxLotsChanged(TaxLotsChangedEvent event) {
+        for (TaxLotsChangedEvent.Key key : event.keys()) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    requiresNew.executeWithoutResult(status -> refreshSummary(key));
+                    break;
+                } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                    if (attempt >= MAX_SUMMARY_ATTEMPTS) {
+                        // 요약이 로트보다 오래되면 다음 원장 동기화가 다시 맞춘다
+                        log.warn(
+                                "실현 손익 요약 재합산 실패: 계좌 {}, {}년 - {}",
+                                key.accountId(),
+                                key.taxYear(),
+                                e.getMessage());
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // === 원장 갱신 ===
+
+    private void replace(List<TaxLot> previous, List<TaxLot> lots) {
+        Set<TaxLotsChangedEvent.Key> keys = new HashSet<>();
+        previous.forEach(lot -> keys.add(keyOf(lot)));
+        lots.forEach(lot -> keys.add(keyOf(lot)));
+
+        if (!previous.isEmpty()) {
+            taxLotRepository.deleteAllInBatch(previous);
+        }
+        taxLotRepository.saveAll(lots);
+        if (!keys.isEmpty()) {
+            eventPublisher.publishEvent(new TaxLotsChangedEvent(keys));
+        }
+
+        log.debug("세금 로트 원장 갱신: 삭제 {}건, 추가 {}건", previous.size(), lots.size());
+    }
+
+    private TaxLotsChangedEvent.Key keyOf(TaxLot lot) {
+        return new TaxLotsChangedEvent.Key(lot.getAccountId(), lot.getTaxYear());
+    }
+
+    /** 계좌/연도 요약을 로트 합계로 교체 (로트가 없으면 요약 삭제) */
+    private void refreshSummary(TaxLotsChangedEvent.Key key) {
+        List<TaxLot> lots = taxLotRepository.findByAccountAndYear(key.accountId(), key.taxYear());
+        long accountKey =
+                key.accountId() != null ? key.accountId() : RealizedGainSummary.NO_ACCOUNT_KEY;
+        RealizedGainSummary summary =
+                summaryRepository
+                        .findByAccountKeyAndTaxYear(accountKey, key.taxYear())
+                        .orElse(null);
+        if (lots.isEmpty()) {
+            if (summary != null) {
+                summaryRepository.delete(summary);
+            }
+            return;
+        }
+        if (summary == null) {
+            summary =
+                    RealizedGainSummary.builder()
+                            .accountId(key.accountId())
+                            .taxYear(key.taxYear())
+                            .build();
+        }
+        SummaryTotals.of(lots).applyTo(summary);
+        summary.setUpdatedAt(LocalDateTime.now());
+        summaryRepository.save(summary);
+    }
+
+    // === 로트 생성 ===
+
+    /** 매도 1건의 로트 생성. 매도 금액은 수량 비율로 배분하고 마지막 로트가 반올림 잔액을 가져가므로 로트 손익 합은 매도의 realizedPnl과 같다. */
+    List<TaxLot> buildLots(Transaction sell, List<BuyConsumption> consumptions) {
+        BigDecimal sellQuantity = sell.getQuantity();
+        BigDecimal sellAmount = sell.getTotalAmount();
+        LocalDateTime disposedAt = sell.getTransactionDate();
+        Long accountId = sell.getAccount() != null ? sell.getAccount().getId() : null;
+
+        BigDecimal matched =
+                consumptions.stream()
+                        .map(BuyConsumption::getConsumedQuantity)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal unmatched = sellQuantity.subtract(matched);
+        boolean hasUnmatched = unmatched.compareTo(BigDecimal.ZERO) > 0 || consumptions.isEmpty();
+
+        List<TaxLot> lots = new ArrayList<>(consumptions.size() + 1);
+        BigDecimal allocated = BigDecimal.ZERO;
+        for (int i = 0; i < consumptions.size(); i++) {
+            BuyConsumption consumption = consumptions.get(i);
+            boolean last = i == consumptions.size() - 1 && !hasUnmatched;
+            BigDecimal proceeds =
+                    last
+                            ? sellAmount.subtract(allocated)
+                            : allocate(sellAmount, consumption.getConsumedQuantity(), sellQuantity);
+            allocated = allocated.add(proceeds);
+
+            Transaction buy = consumption.getBuyTransaction();
+            lots.add(
+                    lot(
+                            sell,
+                            accountId,
+                            buy.getId(),
+                            buy.getTransactionDate(),
+                            consumption.getConsumedQuantity(),
+                            consumption.getConsumedCost(),
+                            proceeds,
+                            disposedAt));
+        }
+        if (hasUnmatched) {
+            lots.add(
+                    lot(
+                            sell,
+                            accountId,
+                            null,
+                            null,
+                            unmatched.max(BigDecimal.ZERO),
+                            BigDecimal.ZERO,
+                            sellAmount.subtract(allocated),
+                            disposedAt));
+        }
+        return lots;
+    }
+
+    private TaxLot lot(
+            Transaction sell,
+            Long accountId,
+            Long buyTransactionId,
+            LocalDateTime acquiredAt,
+            BigDecimal quantity,
+            BigDecimal costBasis,
+            BigDecimal proceeds,
+            LocalDateTime disposedAt) {
+        LocalDateTime holdingStart = acquiredAt != null ? acquiredAt : disposedAt;
+        int holdingDays =
+                (int)
+                        Math.max(
+                                0,
+                                ChronoUnit.DAYS.between(
+                                        holdingStart.toLocalDate(), disposedAt.toLocalDate()));
+        return TaxLot.builder()
+                .accountId(accountId)
+                .stock(sell.getStock())
+                .sellTransactionId(sell.getId())
+                .buyTransactionId(buyTransactionId)
+                .quantity(quantity)
+                .costBasis(costBasis)
+                .proceeds(proceeds)
+                .realizedGain(proceeds.subtract(costBasis))
+                .acquiredAt(acquiredAt)
+                .disposedAt(disposedAt)
+                .taxYear(disposedAt.getYear())
+                .holdingDays(holdingDays)
+                .longTerm(holdingDays >= LONG_TERM_DAYS)
+                .build();
+    }
+
+    private BigDecimal allocate(BigDecimal amount, BigDecimal quantity, BigDecimal total) {
+        if (total.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return amount.multiply(quantity).divide(total, 4, RoundingMode.HALF_UP);
+    }
+
+    // === 내부 타입 ===
+
+    /** 계좌/연도 로트 합계 */
+    private record SummaryTotals(
+            int sellCount,
+            int lotCount,
+            BigDecimal proceeds,
+            BigDecimal costBasis,
+            BigDecimal gain,
+            BigDecimal loss) {
+
+        static SummaryTotals of(List<TaxLot> lots) {
+            Set<Long> sells = new HashSet<>();
+            BigDecimal proceeds = BigDecimal.ZERO;
+            BigDecimal costBasis = BigDecimal.ZERO;
+            BigDecimal gain = BigDecimal.ZERO;
+            BigDecimal loss = BigDecimal.ZERO;
+            for (TaxLot lot : lots) {
+                sells.add(lot.getSellTransactionId());
+                proceeds = proceeds.add(lot.getProceeds());
+                costBasis = costBasis.add(lot.getCostBasis());
+                BigDecimal realized = lot.getRealizedGain();
+                if (realized.compareTo(BigDecimal.ZERO) > 0) {
+                    gain = gain.add(realized);
+                } else {
+                    loss = loss.add(realized.abs());
+                }
+            }
+            return new SummaryTotals(sells.size(), lots.size(), proceeds, costBasis, gain, loss);
+        }
+
+        void applyTo(RealizedGainSummary summary) {
+            summary.setSellCount(sellCount);
+            summary.setLotCount(lotCount);
+            summary.setProceeds(proceeds);
+            summary.setCostBasis(costBasis);
+            summary.setTotalGain(gain);
+            summary.setTotalLoss(loss);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.trading.journal.service;
+
+import java.util.Set;
+
+/**
+ * 세금 로트가 교체되었음을 알리는 이벤트. 커밋 후 {@link TaxLotLedgerService}가 받아 해당 계좌/연도의 실현 손익 요약을 로트에서 다시 합산한다.
+ *
+ * @param keys 로트가 바뀐 계좌/연도
+ */
+public record TaxLotsChangedEvent(Set<Key> keys) {
+
+    /**
+     * 요약 행 키
+     *
+     * @param accountId 계좌 ID (계좌 없는 거래면 null)
+     * @param taxYear 과세 연도
+     */
+    public record Key(Long accountId, Integer taxYear) {}
+}
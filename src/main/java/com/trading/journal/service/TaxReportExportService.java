@@ -5,7 +5,6 @@ import com.lowagie.text.Font;
 import com.lowagie.text.pdf.*;
 import com.lowagie.text.pdf.draw.LineSeparator;
 import com.trading.journal.dto.TaxCalculationDto;
-import com.trading.journal.repository.TransactionRepository;
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
@@ -27,7 +26,6 @@ import org.springframework.stereotype.Service;
 public class TaxReportExportService {
 
     private final TaxCalculationService taxCalculationService;
-    private final TransactionRepository transactionRepository;
 
     // Color scheme
     private static final Color PRIMARY_COLOR = new Color(13, 110, 253);
@@ -65,8 +63,8 @@ public class TaxReportExportService {
             addCoverPage(document, year, accountId);
             document.newPage();
 
-            // 2. Tax calculation from service
-            TaxCalculationDto taxCalc = taxCalculationService.calculateTax(year);
+            // 2. Tax calculation from the lot ledger (scoped to the account when given)
+            TaxCalculationDto taxCalc = taxCalculationService.calculateTax(year, accountId);
 
             // 3. Tax summary section
             addTaxSummarySection(document, taxCalc);
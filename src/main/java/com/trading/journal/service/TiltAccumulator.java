@@ -0,0 +1,222 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.TradingPsychologyDto.EmotionTransition;
+import com.trading.journal.dto.TradingPsychologyDto.TiltAnalysis;
+import com.trading.journal.dto.TradingPsychologyDto.TiltEvent;
+import com.trading.journal.dto.TradingPsychologyDto.TiltScoreBreakdown;
+import com.trading.journal.entity.EmotionState;
+import com.trading.journal.entity.TradeReview;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 틸트 점수 누적기. 거래일시 오름차순으로 복기를 한 건씩 받아 연속 부정 감정, 틸트 중 손실 비율, 감정 악화 속도, 틸트 빈도를 O(1)로 갱신한다.
+ *
+ * <p>기간 분석(전체 순회)과 실시간 감시(계좌별 상태 유지)가 같은 규칙을 사용한다. 인스턴스는 스레드 안전하지 않다.
+ */
+final class TiltAccumulator {
+
+    static final int TILT_THRESHOLD_SEVERE = 80;
+    static final int TILT_THRESHOLD_MODERATE = 60;
+    static final int TILT_THRESHOLD_MILD = 40;
+    static final List<String> TILT_LEVELS = List.of("NONE", "MILD", "MODERATE", "SEVERE");
+
+    private static final int CONSECUTIVE_NEGATIVE_SHIFT_THRESHOLD = 3;
+    private static final int RAPID_DETERIORATION_TRADES = 3;
+    private static final int MAX_RECENT_EVENTS = 5;
+
+    // 진행 중인 틸트 구간
+    private int consecutiveNegative;
+    private final List<EmotionTransition> sequence = new ArrayList<>();
+    private BigDecimal streakLoss = BigDecimal.ZERO;
+    private LocalDate streakStartDate;
+    private int tradesAffected;
+
+    // 구간 전체 집계
+    private int tradeCount;
+    private int eventCount;
+    private int maxConsecutive;
+    private int rapidDeteriorations;
+    private BigDecimal totalLoss = BigDecimal.ZERO;
+    private BigDecimal tiltLoss = BigDecimal.ZERO;
+    private final List<TiltEvent> recentEvents = new ArrayList<>();
+    private LocalDateTime lastTradeTime;
+
+    /** 복기 한 건 반영 (거래일시 오름차순으로 호출) */
+    void accept(TradeReview trade) {
+        tradeCount++;
+        BigDecimal pnl = pnlOf(trade);
+        boolean loss = pnl != null && pnl.compareTo(BigDecimal.ZERO) < 0;
+        if (loss) {
+            totalLoss = totalLoss.add(pnl.abs());
+        }
+        LocalDateTime tradeTime =
+                trade.getTransaction() != null ? trade.getTransaction().getTransactionDate() : null;
+        if (tradeTime != null) {
+            lastTradeTime = tradeTime;
+        }
+
+        EmotionState before = trade.getEmotionBefore();
+        EmotionState after = trade.getEmotionAfter();
+        if (before == null || after == null) {
+            return;
+        }
+
+        // 부정 감정으로 전환되었거나 부정 감정이 유지되면 틸트 구간 연장
+        if (TradingPsychologyService.NEGATIVE_EMOTIONS.contains(after)) {
+            consecutiveNegative++;
+            if (streakStartDate == null && tradeTime != null) {
+                streakStartDate = tradeTime.toLocalDate();
+            }
+            sequence.add(
+                    EmotionTransition.builder()
+                            .emotionBefore(before)
+                            .emotionBeforeLabel(before.getLabel())
+                            .emotionAfter(after)
+                            .emotionAfterLabel(after.getLabel())
+                            .build());
+            if (loss) {
+                streakLoss = streakLoss.add(pnl.abs());
+            }
+            tradesAffected++;
+
+            if (consecutiveNegative >= CONSECUTIVE_NEGATIVE_SHIFT_THRESHOLD) {
+                recordEvent();
+            }
+        } else {
+            consecutiveNegative = 0;
+            sequence.clear();
+            streakLoss = BigDecimal.ZERO;
+            streakStartDate = null;
+            tradesAffected = 0;
+        }
+    }
+
+    private void recordEvent() {
+        BigDecimal eventLoss = streakLoss.setScale(2, RoundingMode.HALF_UP);
+        eventCount++;
+        maxConsecutive = Math.max(maxConsecutive, consecutiveNegative);
+        tiltLoss = tiltLoss.add(eventLoss);
+        if (tradesAffected <= RAPID_DETERIORATION_TRADES) {
+            rapidDeteriorations++;
+        }
+        if (recentEvents.size() < MAX_RECENT_EVENTS) {
+            recentEvents.add(
+                    TiltEvent.builder()
+                            .date(streakStartDate)
+                            .consecutiveNegativeShifts(consecutiveNegative)
+                            .transitionSequence(new ArrayList<>(sequence))
+                            .totalLossDuringTilt(eventLoss)
+                            .tradesAffected(tradesAffected)
+                            .build());
+        }
+    }
+
+    /** 반영된 복기 수 */
+    int getTradeCount() {
+        return tradeCount;
+    }
+
+    /** 마지막으로 반영된 거래일시 */
+    LocalDateTime getLastTradeTime() {
+        return lastTradeTime;
+    }
+
+    TiltScoreBreakdown breakdown() {
+        int lossRatioScore =
+                totalLoss.compareTo(BigDecimal.ZERO) == 0
+                        ? 0
+                        : Math.min(
+                                30,
+                                tiltLoss.multiply(new BigDecimal("100"))
+                                                .divide(totalLoss, 0, RoundingMode.HALF_UP)
+                                                .intValue()
+                                        * 30
+                                        / 100);
+
+        return TiltScoreBreakdown.builder()
+                .consecutiveNegativeScore(Math.min(40, maxConsecutive * 10))
+                .lossRatioScore(lossRatioScore)
+                .emotionDeteriorationScore(Math.min(20, rapidDeteriorations * 5))
+                .frequencyScore(Math.min(10, eventCount * 2))
+                .build();
+    }
+
+    /** 현재까지 반영된 복기 기준 틸트 분석 결과 */
+    TiltAnalysis toAnalysis() {
+        if (tradeCount == 0) {
+            return TiltAnalysis.builder()
+                    .tiltScore(0)
+                    .tiltLevel("NONE")
+                    .recentTiltEvents(Collections.emptyList())
+                    .scoreBreakdown(
+                            TiltScoreBreakdown.builder()
+                                    .consecutiveNegativeScore(0)
+                                    .lossRatioScore(0)
+                                    .emotionDeteriorationScore(0)
+                                    .frequencyScore(0)
+                                    .build())
+                    .recommendations(List.of("분석할 충분한 데이터가 없습니다."))
+                    .build();
+        }
+
+        TiltScoreBreakdown breakdown = breakdown();
+        int totalScore =
+                breakdown.getConsecutiveNegativeScore()
+                        + breakdown.getLossRatioScore()
+                        + breakdown.getEmotionDeteriorationScore()
+                        + breakdown.getFrequencyScore();
+        String tiltLevel = tiltLevel(totalScore);
+
+        return TiltAnalysis.builder()
+                .tiltScore(totalScore)
+                .tiltLevel(tiltLevel)
+                .recentTiltEvents(new ArrayList<>(recentEvents))
+                .scoreBreakdown(breakdown)
+                .recommendations(recommendations(tiltLevel, breakdown))
+                .build();
+    }
+
+    static String tiltLevel(int score) {
+        if (score >= TILT_THRESHOLD_SEVERE) return "SEVERE";
+        if (score >= TILT_THRESHOLD_MODERATE) return "MODERATE";
+        if (score >= TILT_THRESHOLD_MILD) return "MILD";
+        return "NONE";
+    }
+
+    private static List<String> recommendations(String level, TiltScoreBreakdown breakdown) {
+        List<String> recommendations = new ArrayList<>();
+
+        switch (level) {
+            case "SEVERE":
+                recommendations.add("즉시 거래를 중단하고 휴식을 취하세요.");
+                recommendations.add("손실 한도를 설정하고 도달 시 자동으로 거래를 멈추세요.");
+                break;
+            case "MODERATE":
+                recommendations.add("포지션 크기를 줄이고 신중하게 거래하세요.");
+                recommendations.add("거래 전 감정 상태를 체크하는 습관을 들이세요.");
+                break;
+            case "MILD":
+                recommendations.add("감정 일기를 작성하여 패턴을 파악하세요.");
+                recommendations.add("스트레스 관리 기법을 연습하세요.");
+                break;
+            default:
+                recommendations.add("현재 감정 관리가 잘 되고 있습니다. 유지하세요!");
+        }
+
+        if (breakdown.getConsecutiveNegativeScore() > 20) {
+            recommendations.add("연속 손실 후 쉬어가는 규칙을 만드세요.");
+        }
+
+        return recommendations;
+    }
+
+    private static BigDecimal pnlOf(TradeReview trade) {
+        return trade.getTransaction() != null ? trade.getTransaction().getRealizedPnl() : null;
+    }
+}
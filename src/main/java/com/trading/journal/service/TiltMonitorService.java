@@ -0,0 +1,277 @@
+package com.trading.journal.service;
+
+import com.trading.journal.dto.TradingPsychologyDto.TiltAnalysis;
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.TradeReviewRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 실시간 틸트 감시 서비스
+ *
+ * <p>계좌별로 최근 N일 구간의 {@link TiltAccumulator} 상태를 유지하고, 복기 저장 시 O(1)로 갱신한다. 구간 시작일이 바뀌거나 과거 거래가 수정된
+ * 경우에만 해당 계좌의 구간을 다시 읽는다. 틸트 단계가 바뀌면 WebSocket으로 즉시 알리고, 단계가 올라간 경우 알림을 생성한다.
+ *
+ * <p>복기/거래 변경은 이벤트로 받아 커밋 후에만 반영하므로, 롤백된 변경은 누적 상태와 알림에 남지 않고 알림 생성 실패가 원래 트랜잭션에 영향을 주지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TiltMonitorService {
+
+    static final String MESSAGE_TYPE = "TILT_STATUS";
+
+    private final TradeReviewRepository tradeReviewRepository;
+    private final AlertService alertService;
+    private final AlertBroadcastService alertBroadcastService;
+
+    @Value("${tilt.monitor.window-days:7}")
+    private int windowDays = 7;
+
+    @Value("${tilt.monitor.max-accounts:1000}")
+    private int maxAccounts = 1000;
+
+    private final Map<Long, AccountTiltState> states =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<Long, AccountTiltState> eldest) {
+                            return size() > maxAccounts;
+                        }
+                    });
+
+    /** 계좌별 틸트 구간 상태 (인스턴스 모니터로 동기화) */
+    private static final class AccountTiltState {
+        private TiltAccumulator accumulator;
+        private LocalDate windowStart;
+        private String tiltLevel = "NONE";
+    }
+
+    /**
+     * 현재 틸트 상태 (최근 N일)
+     *
+     * @param accountId 계좌 ID
+     * @return 틸트 분석 결과
+     */
+    public TiltAnalysis getCurrentStatus(Long accountId) {
+        AccountTiltState state = stateFor(accountId);
+        synchronized (state) {
+            if (isStale(state)) {
+                rebuild(accountId, state, null);
+            }
+            return state.accumulator.toAnalysis();
+        }
+    }
+
+    /** 복기 저장 커밋 후. 새 복기가 구간의 마지막 거래라면 누적 상태에 바로 반영하고, 수정이나 과거 거래 복기라면 구간을 다시 읽는다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReviewSaved(TradeReviewSavedEvent event) {
+        TradeReview review = event.review();
+        boolean created = event.created();
+        Transaction transaction = review.getTransaction();
+        Long accountId = accountIdOf(transaction);
+        if (accountId == null) {
+            return;
+        }
+
+        AccountTiltState state = stateFor(accountId);
+        TiltAnalysis analysis;
+        String previousLevel;
+        synchronized (state) {
+            boolean rebuilt = false;
+            if (isStale(state)) {
+                // 신규 복기는 제외하고 기준 상태를 먼저 만든다 (수정은 반영된 상태로 재구성)
+                rebuild(accountId, state, created ? review.getId() : null);
+                rebuilt = !created;
+            }
+            previousLevel = state.tiltLevel;
+
+            LocalDateTime tradeTime = transaction.getTransactionDate();
+            boolean countable = isAnalyzable(review) && isInWindow(state, tradeTime);
+            LocalDateTime lastTradeTime = state.accumulator.getLastTradeTime();
+            if (created
+                    && countable
+                    && (lastTradeTime == null || !tradeTime.isBefore(lastTradeTime))) {
+                state.accumulator.accept(review);
+            } else if (!rebuilt && (!created || countable)) {
+                rebuild(accountId, state, null);
+            }
+
+            analysis = state.accumulator.toAnalysis();
+            state.tiltLevel = analysis.getTiltLevel();
+        }
+
+        publishIfChanged(accountId, userIdOf(transaction), previousLevel, analysis);
+    }
+
+    /** 거래 생성 커밋 후. 구간의 마지막 거래 이후 매도는 기존 복기의 실현손익을 바꾸지 않으므로 상태를 유지하고, 과거 일자로 입력된 매도만 구간을 다시 읽는다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        Transaction transaction = event.transaction();
+        if (transaction.getType() != TransactionType.SELL) {
+            return;
+        }
+        Long accountId = accountIdOf(transaction);
+        LocalDateTime lastTradeTime = lastTradeTimeOf(accountId);
+        if (lastTradeTime != null && transaction.getTransactionDate().isBefore(lastTradeTime)) {
+            rebuildIfInWindow(accountId, userIdOf(transaction), transaction.getTransactionDate());
+        }
+    }
+
+    /** 거래 수정/삭제, 복기 삭제 커밋 후. FIFO 재계산으로 복기된 매도의 실현손익이 바뀔 수 있으므로 구간을 다시 읽는다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTradeHistoryChanged(TradeHistoryChangedEvent event) {
+        rebuildIfInWindow(event.accountId(), event.userId(), event.tradeDate());
+    }
+
+    private void rebuildIfInWindow(Long accountId, Long userId, LocalDateTime tradeDate) {
+        if (accountId == null) {
+            return;
+        }
+        AccountTiltState state = states.get(accountId);
+        if (state == null) {
+            return; // 다음 조회 시 생성
+        }
+
+        TiltAnalysis analysis;
+        String previousLevel;
+        synchronized (state) {
+            if (state.accumulator == null || !isInWindow(state, tradeDate)) {
+                return;
+            }
+            previousLevel = state.tiltLevel;
+            rebuild(accountId, state, null);
+            analysis = state.accumulator.toAnalysis();
+            state.tiltLevel = analysis.getTiltLevel();
+        }
+
+        publishIfChanged(accountId, userId, previousLevel, analysis);
+    }
+
+    private AccountTiltState stateFor(Long accountId) {
+        synchronized (states) {
+            return states.computeIfAbsent(accountId, k -> new AccountTiltState());
+        }
+    }
+
+    private LocalDateTime lastTradeTimeOf(Long accountId) {
+        AccountTiltState state = accountId != null ? states.get(accountId) : null;
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            return state.accumulator != null ? state.accumulator.getLastTradeTime() : null;
+        }
+    }
+
+    private boolean isStale(AccountTiltState state) {
+        return state.accumulator == null || !currentWindowStart().equals(state.windowStart);
+    }
+
+    private LocalDate currentWindowStart() {
+        return LocalDate.now().minusDays(windowDays);
+    }
+
+    private boolean isInWindow(AccountTiltState state, LocalDateTime tradeTime) {
+        return tradeTime != null
+                && !tradeTime.toLocalDate().isBefore(state.windowStart)
+                && !tradeTime.toLocalDate().isAfter(LocalDate.now());
+    }
+
+    /** 틸트 분석 쿼리와 같은 조건 (감정 전/후가 모두 기록된 복기) */
+    private boolean isAnalyzable(TradeReview review) {
+        return review.getEmotionBefore() != null && review.getEmotionAfter() != null;
+    }
+
+    /** 구간 복기를 다시 읽어 누적 상태 재구성 */
+    private void rebuild(Long accountId, AccountTiltState state, Long excludedReviewId) {
+        LocalDate windowStart = currentWindowStart();
+        TiltAccumulator accumulator = new TiltAccumulator();
+        for (TradeReview trade :
+                tradeReviewRepository.findTradesForTiltAnalysis(
+                        accountId,
+                        windowStart.atStartOfDay(),
+                        LocalDate.now().atTime(23, 59, 59))) {
+            if (excludedReviewId == null || !excludedReviewId.equals(trade.getId())) {
+                accumulator.accept(trade);
+            }
+        }
+        state.accumulator = accumulator;
+        state.windowStart = windowStart;
+        state.tiltLevel = accumulator.toAnalysis().getTiltLevel();
+        log.debug(
+                "Rebuilt tilt state for account {}: {} trades since {}",
+                accountId,
+                accumulator.getTradeCount(),
+                windowStart);
+    }
+
+    /** 단계 변경 시 WebSocket 전송, 단계 상승 시 알림 생성 */
+    private void publishIfChanged(
+            Long accountId, Long userId, String previousLevel, TiltAnalysis analysis) {
+        String level = analysis.getTiltLevel();
+        if (level.equals(previousLevel)) {
+            return;
+        }
+        log.info("Tilt level changed for account {}: {} -> {}", accountId, previousLevel, level);
+
+        if (userId != null) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("accountId", accountId);
+            data.put("previousLevel", previousLevel);
+            data.put("tiltLevel", level);
+            data.put("tiltScore", analysis.getTiltScore());
+            data.put("scoreBreakdown", analysis.getScoreBreakdown());
+            data.put("recommendations", analysis.getRecommendations());
+            alertBroadcastService.sendToUser(userId, MESSAGE_TYPE, data);
+        }
+
+        if (TiltAccumulator.TILT_LEVELS.indexOf(level)
+                > TiltAccumulator.TILT_LEVELS.indexOf(previousLevel)) {
+            try {
+                alertService.createTiltAlert(
+                        accountId, level, analysis.getTiltScore(), thresholdOf(level));
+            } catch (Exception e) {
+                log.warn(
+                        "Failed to create tilt alert for account {}: {}",
+                        accountId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private int thresholdOf(String level) {
+        return switch (level) {
+            case "SEVERE" -> TiltAccumulator.TILT_THRESHOLD_SEVERE;
+            case "MODERATE" -> TiltAccumulator.TILT_THRESHOLD_MODERATE;
+            default -> TiltAccumulator.TILT_THRESHOLD_MILD;
+        };
+    }
+
+    private Long accountIdOf(Transaction transaction) {
+        return transaction != null && transaction.getAccount() != null
+                ? transaction.getAccount().getId()
+                : null;
+    }
+
+    private Long userIdOf(Transaction transaction) {
+        return transaction.getAccount() != null ? transaction.getAccount().getUserId() : null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.trading.journal.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과거 거래나 복기가 수정/삭제되어 계좌의 누적 상태를 다시 읽어야 함을 알리는 이벤트. FIFO 재계산으로 이미 복기된 매도의 실현손익이 바뀔 수 있으므로 커밋 후
+ * {@link TiltMonitorService}가 받아 해당 거래일이 구간에 들면 구간을 다시 읽고, {@link PreTradeRiskService}와 {@link
+ * PsychologyAggregationService}는 계좌 상태/집계를, {@link BenchmarkService}는 벤치마크 비교 결과 캐시를 버린다.
+ *
+ * @param accountId 변경된 계좌 (계좌 없이 기록된 거래면 null)
+ * @param userId 계좌 소유자 (WebSocket 전송 대상, 없으면 null)
+ * @param tradeDate 변경된 거래의 거래일시
+ */
+public record TradeHistoryChangedEvent(Long accountId, Long userId, LocalDateTime tradeDate) {}
@@ -2,12 +2,16 @@ package com.trading.journal.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.journal.annotation.ClusterJob;
 import com.trading.journal.dto.PositionSizingRequestDto;
 import com.trading.journal.dto.PositionSizingResultDto;
+import com.trading.journal.dto.PreTradeCheckRequestDto;
+import com.trading.journal.dto.PreTradeCheckResultDto;
 import com.trading.journal.dto.TradePlanDto;
 import com.trading.journal.dto.TradePlanDto.*;
 import com.trading.journal.dto.TransactionDto;
 import com.trading.journal.entity.*;
+import com.trading.journal.exception.InvalidTradeException;
 import com.trading.journal.repository.StockRepository;
 import com.trading.journal.repository.TradePlanRepository;
 import com.trading.journal.repository.TransactionRepository;
@@ -38,6 +42,7 @@ public class TradePlanService {
     private final TransactionRepository transactionRepository;
     private final TransactionService transactionService;
     private final PositionSizingService positionSizingService;
+    private final PreTradeRiskService preTradeRiskService;
     private final AccountService accountService;
     private final ObjectMapper objectMapper;
 
@@ -138,15 +143,40 @@ public class TradePlanService {
             throw new IllegalStateException("계획됨 상태의 플랜만 실행할 수 있습니다");
         }
 
+        TransactionType type =
+                plan.getPlanType() == TradePlanType.LONG
+                        ? TransactionType.BUY
+                        : TransactionType.SELL;
+        Long accountId = plan.getAccount() != null ? plan.getAccount().getId() : null;
+
+        // 주문 전 리스크 체크 (메모리 상태 기준)
+        PreTradeCheckResultDto riskCheck =
+                preTradeRiskService.check(
+                        PreTradeCheckRequestDto.builder()
+                                .accountId(accountId)
+                                .symbol(plan.getStock().getSymbol())
+                                .type(type)
+                                .quantity(request.getActualQuantity())
+                                .price(request.getActualEntryPrice())
+                                .stopLossPrice(plan.getPlannedStopLossPrice())
+                                .build());
+        if (!riskCheck.isAllowed()) {
+            String reasons =
+                    riskCheck.getViolations().stream()
+                            .map(PreTradeCheckResultDto.Violation::getMessage)
+                            .collect(Collectors.joining(", "));
+            if (!Boolean.TRUE.equals(request.getOverrideRiskCheck())) {
+                throw new InvalidTradeException(type.name(), reasons);
+            }
+            log.warn("리스크 한도 초과 플랜 실행: {} ({})", planId, reasons);
+        }
+
         // 거래 생성
         TransactionDto txDto =
                 TransactionDto.builder()
-                        .accountId(plan.getAccount() != null ? plan.getAccount().getId() : null)
+                        .accountId(accountId)
                         .stockSymbol(plan.getStock().getSymbol())
-                        .type(
-                                plan.getPlanType() == TradePlanType.LONG
-                                        ? TransactionType.BUY
-                                        : TransactionType.SELL)
+                        .type(type)
                         .quantity(request.getActualQuantity())
                         .price(request.getActualEntryPrice())
                         .commission(request.getCommission())
@@ -404,6 +434,7 @@ public class TradePlanService {
 
     /** 만료된 플랜 자동 처리 (스케줄러) */
     @Scheduled(cron = "0 0 * * * *") // 매시간
+    @ClusterJob("trade-plan-expiry")
     @Transactional
     public void processExpiredPlans() {
         int expired = planRepository.expirePlans(LocalDateTime.now());
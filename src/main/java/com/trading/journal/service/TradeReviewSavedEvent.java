@@ -0,0 +1,12 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.TradeReview;
+
+/**
+ * 복기가 생성되거나 수정되었음을 알리는 이벤트. 커밋 후 {@link TiltMonitorService}와 {@link PsychologyAggregationService}가
+ * 받아 틸트 구간과 심리 집계를 갱신하므로 롤백된 복기는 반영되지 않는다.
+ *
+ * @param review 저장된 복기 (거래 포함)
+ * @param created 신규 생성 여부
+ */
+public record TradeReviewSavedEvent(TradeReview review, boolean created) {}
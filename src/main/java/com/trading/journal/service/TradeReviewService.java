@@ -4,6 +4,7 @@ import com.trading.journal.dto.TradeReviewDto;
 import com.trading.journal.dto.TradeReviewDto.*;
 import com.trading.journal.entity.*;
 import com.trading.journal.repository.TradeReviewRepository;
+import com.trading.journal.repository.TradeReviewTagRepository;
 import com.trading.journal.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -12,6 +13,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,7 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class TradeReviewService {
 
     private final TradeReviewRepository reviewRepository;
+    private final TradeReviewTagRepository tagRepository;
     private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 복기 생성 */
     public TradeReviewDto createReview(Long transactionId, TradeReviewDto dto) {
@@ -60,7 +64,9 @@ public class TradeReviewService {
                         .build();
 
         TradeReview saved = reviewRepository.save(review);
+        saveTags(saved);
         log.info("Created review {} for transaction {}", saved.getId(), transactionId);
+        eventPublisher.publishEvent(new TradeReviewSavedEvent(saved, true));
 
         return toDto(saved);
     }
@@ -72,6 +78,8 @@ public class TradeReviewService {
                         .findById(reviewId)
                         .orElseThrow(
                                 () -> new IllegalArgumentException("복기를 찾을 수 없습니다: " + reviewId));
+        boolean tagsChanged =
+                !TradeReviewTag.parse(review.getTags()).equals(TradeReviewTag.parse(dto.getTags()));
 
         review.setStrategy(dto.getStrategy());
         review.setEntryReason(dto.getEntryReason());
@@ -87,7 +95,12 @@ public class TradeReviewService {
         review.setReviewedAt(LocalDateTime.now());
 
         TradeReview saved = reviewRepository.save(review);
+        if (tagsChanged) {
+            tagRepository.deleteByReviewId(reviewId);
+            saveTags(saved);
+        }
         log.info("Updated review {}", reviewId);
+        eventPublisher.publishEvent(new TradeReviewSavedEvent(saved, false));
 
         return toDto(saved);
     }
@@ -126,11 +139,50 @@ public class TradeReviewService {
 
     /** 복기 삭제 */
     public void deleteReview(Long reviewId) {
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new IllegalArgumentException("복기를 찾을 수 없습니다: " + reviewId);
-        }
-        reviewRepository.deleteById(reviewId);
+        TradeReview review =
+                reviewRepository
+                        .findById(reviewId)
+                        .orElseThrow(
+                                () -> new IllegalArgumentException("복기를 찾을 수 없습니다: " + reviewId));
+        Transaction transaction = review.getTransaction();
+        tagRepository.deleteByReviewId(reviewId);
+        reviewRepository.delete(review);
         log.info("Deleted review {}", reviewId);
+
+        Long accountId = transaction.getAccount() != null ? transaction.getAccount().getId() : null;
+        Long userId =
+                transaction.getAccount() != null ? transaction.getAccount().getUserId() : null;
+        eventPublisher.publishEvent(
+                new TradeHistoryChangedEvent(accountId, userId, transaction.getTransactionDate()));
+    }
+
+    /**
+     * 태그로 복기 검색
+     *
+     * @param tags 검색할 태그 목록
+     * @param matchAll true면 모든 태그 포함(AND), false면 하나라도 포함(OR)
+     */
+    @Transactional(readOnly = true)
+    public Page<TradeReviewDto> searchByTags(
+            Collection<String> tags, boolean matchAll, int page, int size) {
+        Set<String> normalized = TradeReviewTag.parse(tags == null ? null : String.join(",", tags));
+        Pageable pageable = PageRequest.of(page, size);
+        if (normalized.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Page<TradeReview> reviews =
+                matchAll
+                        ? reviewRepository.findByAllTags(normalized, normalized.size(), pageable)
+                        : reviewRepository.findByAnyTag(normalized, pageable);
+        return reviews.map(this::toDto);
+    }
+
+    /** 태그별 복기 수 (많은 순) */
+    @Transactional(readOnly = true)
+    public List<TagCount> getTagCounts(int limit) {
+        return tagRepository.countByTag(PageRequest.of(0, limit)).stream()
+                .map(row -> new TagCount((String) row[0], (Long) row[1]))
+                .collect(Collectors.toList());
     }
 
     /** 복기 통계 조회 */
@@ -263,21 +315,8 @@ public class TradeReviewService {
                         .collect(Collectors.toList());
 
         // 인기 태그
-        Map<String, Integer> tagCounts = new HashMap<>();
-        for (TradeReview r : allReviews) {
-            if (r.getTags() != null && !r.getTags().isEmpty()) {
-                for (String tag : r.getTags().split(",")) {
-                    String trimmed = tag.trim();
-                    tagCounts.put(trimmed, tagCounts.getOrDefault(trimmed, 0) + 1);
-                }
-            }
-        }
         List<String> topTags =
-                tagCounts.entrySet().stream()
-                        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                        .limit(10)
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
+                getTagCounts(10).stream().map(TagCount::getTag).collect(Collectors.toList());
 
         int totalReviews = allReviews.size();
         BigDecimal reviewRate =
@@ -300,6 +339,17 @@ public class TradeReviewService {
                 .build();
     }
 
+    /** 복기 태그 인덱스 저장 */
+    private void saveTags(TradeReview review) {
+        List<TradeReviewTag> rows =
+                TradeReviewTag.parse(review.getTags()).stream()
+                        .map(tag -> TradeReviewTag.builder().review(review).tag(tag).build())
+                        .collect(Collectors.toList());
+        if (!rows.isEmpty()) {
+            tagRepository.saveAll(rows);
+        }
+    }
+
     /** Entity -> DTO 변환 */
     private TradeReviewDto toDto(TradeReview review) {
         Transaction tx = review.getTransaction();
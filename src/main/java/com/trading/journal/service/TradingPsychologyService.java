@@ -26,16 +26,14 @@ public class TradingPsychologyService {
 
     private final TradeReviewRepository tradeReviewRepository;
     private final TradingJournalRepository tradingJournalRepository;
+    private final TiltMonitorService tiltMonitorService;
+    private final PsychologyAggregationService psychologyAggregationService;
 
     // Constants
-    private static final int TILT_THRESHOLD_SEVERE = 80;
-    private static final int TILT_THRESHOLD_MODERATE = 60;
-    private static final int TILT_THRESHOLD_MILD = 40;
-    private static final int CONSECUTIVE_NEGATIVE_SHIFT_THRESHOLD = 3;
     private static final BigDecimal CORRELATION_SIGNIFICANCE_THRESHOLD = new BigDecimal("0.3");
 
     // Negative emotions for tilt detection
-    private static final Set<EmotionState> NEGATIVE_EMOTIONS =
+    static final Set<EmotionState> NEGATIVE_EMOTIONS =
             Set.of(
                     EmotionState.FEARFUL,
                     EmotionState.ANXIOUS,
@@ -96,37 +94,30 @@ public class TradingPsychologyService {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
 
-        List<Object[]> stats =
-                tradeReviewRepository.getEmotionTransitionStats(
-                        accountId, startDateTime, endDateTime);
+        Map<PsychologyAggregates.Transition, PsychologyAggregates.GroupStats> stats =
+                psychologyAggregationService
+                        .aggregate(accountId, startDateTime, endDateTime)
+                        .transitionStats();
 
         List<EmotionTransition> transitions =
-                stats.stream()
+                stats.entrySet().stream()
                         .map(
-                                row -> {
-                                    EmotionState before = (EmotionState) row[0];
-                                    EmotionState after = (EmotionState) row[1];
-                                    Long count = (Long) row[2];
-                                    Double winRate = row[3] != null ? (Double) row[3] : 0.0;
-                                    Double avgPnl = row[4] != null ? (Double) row[4] : 0.0;
+                                entry -> {
+                                    EmotionState before = entry.getKey().before();
+                                    EmotionState after = entry.getKey().after();
+                                    PsychologyAggregates.GroupStats group = entry.getValue();
 
                                     return EmotionTransition.builder()
                                             .emotionBefore(before)
                                             .emotionBeforeLabel(before.getLabel())
                                             .emotionAfter(after)
                                             .emotionAfterLabel(after.getLabel())
-                                            .occurrences(count.intValue())
-                                            .winRate(
-                                                    BigDecimal.valueOf(winRate)
-                                                            .setScale(2, RoundingMode.HALF_UP))
-                                            .avgPnl(
-                                                    BigDecimal.valueOf(avgPnl)
-                                                            .setScale(2, RoundingMode.HALF_UP))
+                                            .occurrences(group.count())
+                                            .winRate(group.nonNegativeRate())
+                                            .avgPnl(group.avgPnl())
                                             .riskLevel(
                                                     calculateTransitionRisk(
-                                                            before,
-                                                            after,
-                                                            BigDecimal.valueOf(winRate)))
+                                                            before, after, group.nonNegativeRate()))
                                             .build();
                                 })
                         .collect(Collectors.toList());
@@ -170,60 +161,19 @@ public class TradingPsychologyService {
                 tradeReviewRepository.findTradesForTiltAnalysis(
                         accountId, startDateTime, endDateTime);
 
-        if (trades.isEmpty()) {
-            return TiltAnalysis.builder()
-                    .tiltScore(0)
-                    .tiltLevel("NONE")
-                    .recentTiltEvents(Collections.emptyList())
-                    .scoreBreakdown(
-                            TiltScoreBreakdown.builder()
-                                    .consecutiveNegativeScore(0)
-                                    .lossRatioScore(0)
-                                    .emotionDeteriorationScore(0)
-                                    .frequencyScore(0)
-                                    .build())
-                    .recommendations(List.of("분석할 충분한 데이터가 없습니다."))
-                    .build();
-        }
-
-        // Detect tilt events
-        List<TiltEvent> tiltEvents = detectTiltEvents(trades);
-
-        // Calculate tilt score components
-        TiltScoreBreakdown breakdown = calculateTiltScoreBreakdown(trades, tiltEvents);
-
-        int totalScore =
-                breakdown.getConsecutiveNegativeScore()
-                        + breakdown.getLossRatioScore()
-                        + breakdown.getEmotionDeteriorationScore()
-                        + breakdown.getFrequencyScore();
-
-        String tiltLevel = determineTiltLevel(totalScore);
-        List<String> recommendations = generateTiltRecommendations(tiltLevel, breakdown);
-
-        return TiltAnalysis.builder()
-                .tiltScore(totalScore)
-                .tiltLevel(tiltLevel)
-                .recentTiltEvents(tiltEvents.stream().limit(5).collect(Collectors.toList()))
-                .scoreBreakdown(breakdown)
-                .recommendations(recommendations)
-                .build();
+        TiltAccumulator accumulator = new TiltAccumulator();
+        trades.forEach(accumulator::accept);
+        return accumulator.toAnalysis();
     }
 
     /**
-     * 현재 틸트 상태 조회 (최근 7일)
+     * 현재 틸트 상태 조회 (최근 7일, 복기 저장 시 실시간 갱신)
      *
      * @param accountId 계좌 ID
      * @return 틸트 분석 결과
      */
-    @org.springframework.cache.annotation.Cacheable(
-            value = "tiltStatus",
-            key =
-                    "'tilt_' + (#accountId != null ? #accountId : 'all') + '_' + T(java.time.LocalDate).now()")
     public TiltAnalysis getCurrentTiltStatus(Long accountId) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(7);
-        return detectTilt(accountId, startDate, endDate);
+        return tiltMonitorService.getCurrentStatus(accountId);
     }
 
     /**
@@ -521,154 +471,6 @@ public class TradingPsychologyService {
         return "LOW";
     }
 
-    private List<TiltEvent> detectTiltEvents(List<TradeReview> trades) {
-        List<TiltEvent> events = new ArrayList<>();
-        int consecutiveNegative = 0;
-        List<EmotionTransition> sequence = new ArrayList<>();
-        BigDecimal tiltLoss = BigDecimal.ZERO;
-        LocalDate tiltStartDate = null;
-        int tradesAffected = 0;
-
-        for (TradeReview trade : trades) {
-            EmotionState before = trade.getEmotionBefore();
-            EmotionState after = trade.getEmotionAfter();
-
-            if (before == null || after == null) continue;
-
-            // Check for negative shift
-            boolean isNegativeShift =
-                    !NEGATIVE_EMOTIONS.contains(before) && NEGATIVE_EMOTIONS.contains(after);
-            boolean staysNegative =
-                    NEGATIVE_EMOTIONS.contains(before) && NEGATIVE_EMOTIONS.contains(after);
-
-            if (isNegativeShift || staysNegative) {
-                consecutiveNegative++;
-                if (tiltStartDate == null && trade.getTransaction() != null) {
-                    tiltStartDate = trade.getTransaction().getTransactionDate().toLocalDate();
-                }
-
-                sequence.add(
-                        EmotionTransition.builder()
-                                .emotionBefore(before)
-                                .emotionBeforeLabel(before.getLabel())
-                                .emotionAfter(after)
-                                .emotionAfterLabel(after.getLabel())
-                                .build());
-
-                BigDecimal pnl = getTradeReviewPnl(trade);
-                if (pnl != null && pnl.compareTo(BigDecimal.ZERO) < 0) {
-                    tiltLoss = tiltLoss.add(pnl.abs());
-                }
-                tradesAffected++;
-
-                // Record tilt event when threshold reached
-                if (consecutiveNegative >= CONSECUTIVE_NEGATIVE_SHIFT_THRESHOLD) {
-                    events.add(
-                            TiltEvent.builder()
-                                    .date(tiltStartDate)
-                                    .consecutiveNegativeShifts(consecutiveNegative)
-                                    .transitionSequence(new ArrayList<>(sequence))
-                                    .totalLossDuringTilt(tiltLoss.setScale(2, RoundingMode.HALF_UP))
-                                    .tradesAffected(tradesAffected)
-                                    .build());
-                }
-            } else {
-                // Reset on positive transition
-                consecutiveNegative = 0;
-                sequence.clear();
-                tiltLoss = BigDecimal.ZERO;
-                tiltStartDate = null;
-                tradesAffected = 0;
-            }
-        }
-
-        return events;
-    }
-
-    private TiltScoreBreakdown calculateTiltScoreBreakdown(
-            List<TradeReview> trades, List<TiltEvent> tiltEvents) {
-        // 1. Consecutive negative score (max 40)
-        int maxConsecutive =
-                tiltEvents.stream()
-                        .mapToInt(TiltEvent::getConsecutiveNegativeShifts)
-                        .max()
-                        .orElse(0);
-        int consecutiveScore = Math.min(40, maxConsecutive * 10);
-
-        // 2. Loss ratio during tilt (max 30)
-        BigDecimal totalLoss =
-                trades.stream()
-                        .map(this::getTradeReviewPnl)
-                        .filter(pnl -> pnl != null && pnl.compareTo(BigDecimal.ZERO) < 0)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-                        .abs();
-
-        BigDecimal tiltLoss =
-                tiltEvents.stream()
-                        .map(TiltEvent::getTotalLossDuringTilt)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        int lossRatioScore =
-                totalLoss.compareTo(BigDecimal.ZERO) == 0
-                        ? 0
-                        : Math.min(
-                                30,
-                                tiltLoss.multiply(new BigDecimal("100"))
-                                                .divide(totalLoss, 0, RoundingMode.HALF_UP)
-                                                .intValue()
-                                        * 30
-                                        / 100);
-
-        // 3. Emotion deterioration speed (max 20)
-        long rapidDeteriorations =
-                tiltEvents.stream().filter(e -> e.getTradesAffected() <= 3).count();
-        int deteriorationScore = Math.min(20, (int) rapidDeteriorations * 5);
-
-        // 4. Frequency score (max 10)
-        int frequencyScore = Math.min(10, tiltEvents.size() * 2);
-
-        return TiltScoreBreakdown.builder()
-                .consecutiveNegativeScore(consecutiveScore)
-                .lossRatioScore(lossRatioScore)
-                .emotionDeteriorationScore(deteriorationScore)
-                .frequencyScore(frequencyScore)
-                .build();
-    }
-
-    private String determineTiltLevel(int score) {
-        if (score >= TILT_THRESHOLD_SEVERE) return "SEVERE";
-        if (score >= TILT_THRESHOLD_MODERATE) return "MODERATE";
-        if (score >= TILT_THRESHOLD_MILD) return "MILD";
-        return "NONE";
-    }
-
-    private List<String> generateTiltRecommendations(String level, TiltScoreBreakdown breakdown) {
-        List<String> recommendations = new ArrayList<>();
-
-        switch (level) {
-            case "SEVERE":
-                recommendations.add("즉시 거래를 중단하고 휴식을 취하세요.");
-                recommendations.add("손실 한도를 설정하고 도달 시 자동으로 거래를 멈추세요.");
-                break;
-            case "MODERATE":
-                recommendations.add("포지션 크기를 줄이고 신중하게 거래하세요.");
-                recommendations.add("거래 전 감정 상태를 체크하는 습관을 들이세요.");
-                break;
-            case "MILD":
-                recommendations.add("감정 일기를 작성하여 패턴을 파악하세요.");
-                recommendations.add("스트레스 관리 기법을 연습하세요.");
-                break;
-            default:
-                recommendations.add("현재 감정 관리가 잘 되고 있습니다. 유지하세요!");
-        }
-
-        if (breakdown.getConsecutiveNegativeScore() > 20) {
-            recommendations.add("연속 손실 후 쉬어가는 규칙을 만드세요.");
-        }
-
-        return recommendations;
-    }
-
     private ScoreComponents calculateScoreComponents(
             List<TradeReview> trades, List<TradingJournal> journals) {
         if (trades.isEmpty() && journals.isEmpty()) {
@@ -916,24 +718,19 @@ public class TradingPsychologyService {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
 
-        List<Object[]> stats =
-                tradeReviewRepository.getDayOfWeekStats(accountId, startDateTime, endDateTime);
+        PsychologyAggregates aggregates =
+                psychologyAggregationService.aggregate(accountId, startDateTime, endDateTime);
 
-        String[] dayNames = {"", "일요일", "월요일", "화요일", "수요일", "목요일", "금요일", "토요일"};
         Map<String, DayPerformance> result = new LinkedHashMap<>();
-
-        // Group by day of week
-        Map<Integer, List<Object[]>> groupedByDay =
-                stats.stream().collect(Collectors.groupingBy(row -> ((Number) row[0]).intValue()));
-
         for (int day = 1; day <= 7; day++) {
-            List<Object[]> dayStats = groupedByDay.getOrDefault(day, Collections.emptyList());
+            String dayName = PsychologyAggregates.DAY_NAMES[day];
+            PsychologyAggregates.GroupStats dayStats = aggregates.dayStats(day);
 
-            if (dayStats.isEmpty()) {
+            if (dayStats.count() == 0) {
                 result.put(
-                        dayNames[day],
+                        dayName,
                         DayPerformance.builder()
-                                .dayOfWeek(dayNames[day])
+                                .dayOfWeek(dayName)
                                 .tradeCount(0)
                                 .winRate(BigDecimal.ZERO)
                                 .avgPnl(BigDecimal.ZERO)
@@ -941,41 +738,14 @@ public class TradingPsychologyService {
                                 .dominantEmotionLabel("데이터 없음")
                                 .build());
             } else {
-                int totalTrades =
-                        dayStats.stream().mapToInt(row -> ((Number) row[1]).intValue()).sum();
-                double avgWinRate =
-                        dayStats.stream()
-                                .mapToDouble(row -> ((Number) row[2]).doubleValue())
-                                .average()
-                                .orElse(0);
-                double avgPnl =
-                        dayStats.stream()
-                                .mapToDouble(
-                                        row ->
-                                                row[3] != null
-                                                        ? ((Number) row[3]).doubleValue()
-                                                        : 0.0)
-                                .average()
-                                .orElse(0);
-
-                // Find dominant emotion
-                EmotionState dominant =
-                        dayStats.stream()
-                                .max(Comparator.comparing(row -> ((Number) row[1]).intValue()))
-                                .map(row -> (EmotionState) row[4])
-                                .orElse(null);
-
+                EmotionState dominant = dayStats.dominantEmotion();
                 result.put(
-                        dayNames[day],
+                        dayName,
                         DayPerformance.builder()
-                                .dayOfWeek(dayNames[day])
-                                .tradeCount(totalTrades)
-                                .winRate(
-                                        BigDecimal.valueOf(avgWinRate)
-                                                .setScale(2, RoundingMode.HALF_UP))
-                                .avgPnl(
-                                        BigDecimal.valueOf(avgPnl)
-                                                .setScale(2, RoundingMode.HALF_UP))
+                                .dayOfWeek(dayName)
+                                .tradeCount(dayStats.count())
+                                .winRate(dayStats.nonNegativeRate())
+                                .avgPnl(dayStats.avgPnl())
                                 .dominantEmotion(dominant)
                                 .dominantEmotionLabel(
                                         dominant != null ? dominant.getLabel() : "데이터 없음")
@@ -1178,44 +948,29 @@ public class TradingPsychologyService {
     private List<EmotionPerformanceStats> calculateEmotionPerformanceStats(
             Long accountId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
 
-        List<Object[]> stats =
-                tradeReviewRepository.getEmotionPerformanceStats(
-                        accountId, startDateTime, endDateTime);
+        Map<EmotionState, PsychologyAggregates.GroupStats> stats =
+                psychologyAggregationService
+                        .aggregate(accountId, startDateTime, endDateTime)
+                        .emotionPerformanceStats();
 
-        return stats.stream()
+        return stats.entrySet().stream()
                 .map(
-                        row -> {
-                            EmotionState emotion = (EmotionState) row[0];
-                            Long count = (Long) row[1];
-                            Long winCount = (Long) row[2];
-                            Double avgPnl = row[3] != null ? (Double) row[3] : 0.0;
-                            Double totalPnl = row[4] != null ? (Double) row[4] : 0.0;
-                            Double avgRMultiple = row[5] != null ? (Double) row[5] : 0.0;
-
-                            BigDecimal winRate =
-                                    count > 0
-                                            ? BigDecimal.valueOf(winCount * 100.0 / count)
-                                                    .setScale(2, RoundingMode.HALF_UP)
-                                            : BigDecimal.ZERO;
+                        entry -> {
+                            EmotionState emotion = entry.getKey();
+                            PsychologyAggregates.GroupStats group = entry.getValue();
 
                             // 승률 기반 등급: 60%+ → A, 55%+ → B, 50%+ → C, 45%+ → D, else → F
-                            String performanceGrade = calculateWinRateGrade(winRate);
+                            String performanceGrade = calculateWinRateGrade(group.winRate());
 
                             return EmotionPerformanceStats.builder()
                                     .emotion(emotion)
                                     .emotionLabel(emotion.getLabel())
-                                    .tradeCount(count.intValue())
-                                    .winCount(winCount.intValue())
-                                    .winRate(winRate)
-                                    .avgPnl(
-                                            BigDecimal.valueOf(avgPnl)
-                                                    .setScale(2, RoundingMode.HALF_UP))
-                                    .totalPnl(
-                                            BigDecimal.valueOf(totalPnl)
-                                                    .setScale(2, RoundingMode.HALF_UP))
-                                    .avgRMultiple(
-                                            BigDecimal.valueOf(avgRMultiple)
-                                                    .setScale(2, RoundingMode.HALF_UP))
+                                    .tradeCount(group.count())
+                                    .winCount(group.winCount())
+                                    .winRate(group.winRate())
+                                    .avgPnl(group.avgPnl())
+                                    .totalPnl(group.totalPnl())
+                                    .avgRMultiple(group.avgRMultiple())
                                     .performanceGrade(performanceGrade)
                                     .build();
                         })
@@ -1537,51 +1292,28 @@ public class TradingPsychologyService {
     private PlanAdherenceStats calculatePlanAdherenceStats(
             Long accountId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
 
-        List<Object[]> stats =
-                tradeReviewRepository.getPlanAdherencePerformance(
-                        accountId, startDateTime, endDateTime);
+        PsychologyAggregates aggregates =
+                psychologyAggregationService.aggregate(accountId, startDateTime, endDateTime);
+        PsychologyAggregates.GroupStats followed = aggregates.planAdherenceStats(true);
+        PsychologyAggregates.GroupStats notFollowed = aggregates.planAdherenceStats(false);
 
-        // 준수/미준수 데이터 분리
-        Long followedCount = 0L;
-        BigDecimal followedWinRate = BigDecimal.ZERO;
-        BigDecimal followedAvgPnl = BigDecimal.ZERO;
-
-        Long notFollowedCount = 0L;
-        BigDecimal notFollowedWinRate = BigDecimal.ZERO;
-        BigDecimal notFollowedAvgPnl = BigDecimal.ZERO;
-
-        for (Object[] row : stats) {
-            Boolean followedPlan = (Boolean) row[0];
-            Long count = (Long) row[1];
-            Long winCount = (Long) row[2];
-            Double avgPnl = row[3] != null ? (Double) row[3] : 0.0;
-
-            BigDecimal winRate =
-                    count > 0
-                            ? BigDecimal.valueOf(winCount * 100.0 / count)
-                                    .setScale(2, RoundingMode.HALF_UP)
-                            : BigDecimal.ZERO;
-
-            if (Boolean.TRUE.equals(followedPlan)) {
-                followedCount = count;
-                followedWinRate = winRate;
-                followedAvgPnl = BigDecimal.valueOf(avgPnl).setScale(2, RoundingMode.HALF_UP);
-            } else {
-                notFollowedCount = count;
-                notFollowedWinRate = winRate;
-                notFollowedAvgPnl = BigDecimal.valueOf(avgPnl).setScale(2, RoundingMode.HALF_UP);
-            }
-        }
+        int followedCount = followed.count();
+        BigDecimal followedWinRate = followed.winRate();
+        BigDecimal followedAvgPnl = followed.avgPnl();
+
+        int notFollowedCount = notFollowed.count();
+        BigDecimal notFollowedWinRate = notFollowed.winRate();
+        BigDecimal notFollowedAvgPnl = notFollowed.avgPnl();
 
         // 차이 계산
         BigDecimal winRateDifference = followedWinRate.subtract(notFollowedWinRate);
         BigDecimal pnlDifference = followedAvgPnl.subtract(notFollowedAvgPnl);
 
         return PlanAdherenceStats.builder()
-                .followedCount(followedCount.intValue())
+                .followedCount(followedCount)
                 .followedWinRate(followedWinRate)
                 .followedAvgPnl(followedAvgPnl)
-                .notFollowedCount(notFollowedCount.intValue())
+                .notFollowedCount(notFollowedCount)
                 .notFollowedWinRate(notFollowedWinRate)
                 .notFollowedAvgPnl(notFollowedAvgPnl)
                 .winRateDifference(winRateDifference)
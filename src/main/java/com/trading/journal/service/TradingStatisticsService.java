@@ -6,7 +6,9 @@ import com.trading.journal.entity.AccountRiskSettings;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.entity.TransactionType;
 import com.trading.journal.repository.AccountRiskSettingsRepository;
+import com.trading.journal.repository.TradeReviewTagRepository;
 import com.trading.journal.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
 import java.time.format.TextStyle;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -98,6 +101,12 @@ public class TradingStatisticsService {
     /** 실수 예시 표시 개수 */
     private static final int MISTAKE_EXAMPLES_LIMIT = 3;
 
+    /** 복기 태그 실수 패턴 최소 발생 횟수 */
+    private static final int MIN_TAGGED_MISTAKES = 2;
+
+    /** 복기 태그 실수 패턴 표시 개수 */
+    private static final int TAGGED_MISTAKES_LIMIT = 3;
+
     /** 손실 종목 표시 개수 */
     private static final int LOSING_SYMBOLS_LIMIT = 3;
 
@@ -137,6 +146,8 @@ public class TradingStatisticsService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRiskSettingsRepository accountRiskSettingsRepository;
+    private final TradeReviewTagRepository tradeReviewTagRepository;
+    private final EntityManager entityManager;
 
     // ============================================================
     // Public API - 통계 조회 메서드
@@ -241,6 +252,7 @@ public class TradingStatisticsService {
         analyzeOvertradingPattern(sellTransactions, patterns);
         analyzeRevengeTradingPattern(sellTransactions, patterns);
         analyzeHoldingTooLongPattern(accountId, sellTransactions, patterns);
+        analyzeTaggedMistakePattern(accountId, startDate, endDate, sellTransactions, patterns);
 
         log.debug("실수 패턴 분석 완료 - {} 패턴 발견됨", patterns.size());
         return patterns;
@@ -319,26 +331,25 @@ public class TradingStatisticsService {
     public Map<String, Object> getOverallStatistics() {
         log.debug("전체 거래 통계 조회 시작");
 
-        // FETCH JOIN으로 Stock 함께 로딩하여 N+1 쿼리 방지
-        List<Transaction> allTx = transactionRepository.findAllWithStock();
+        // 날짜순 스트림을 한 번 순회하며 누적 - 전체 거래 목록을 메모리에 올리지 않음
+        TradeHistoryAccumulator history = accumulateTradeHistory();
         Map<String, Object> stats = new HashMap<>();
 
-        stats.put("totalTrades", allTx.size());
-        stats.put("uniqueStocks", allTx.stream().map(Transaction::getStock).distinct().count());
+        stats.put("totalTrades", history.totalTrades);
+        stats.put("uniqueStocks", (long) history.stockKeys.size());
 
-        List<Transaction> sells = filterSellTransactions(allTx);
-        ReturnStatistics returnStats = calculateReturnStatistics(allTx, sells);
-
-        stats.put("avgHoldingPeriod", calcAvgHoldingPeriod(allTx));
-        stats.put("winRate", sells.isEmpty() ? 0 : (double) returnStats.wins / sells.size() * 100);
-        stats.put("avgReturn", sells.isEmpty() ? 0 : returnStats.totalReturnPct / sells.size());
+        stats.put("avgHoldingPeriod", history.avgHoldingPeriod());
+        stats.put(
+                "winRate",
+                history.sellCount == 0 ? 0 : (double) history.wins / history.sellCount * 100);
         stats.put(
-                "maxReturn",
-                returnStats.maxReturnPct == Double.MIN_VALUE ? 0 : returnStats.maxReturnPct);
-        stats.put("sharpeRatio", calcSharpeRatio(allTx));
-        stats.put("maxDrawdown", calcMaxDrawdown(allTx));
+                "avgReturn",
+                history.sellCount == 0 ? 0 : history.totalReturnPct / history.sellCount);
+        stats.put("maxReturn", history.maxReturnPct == Double.MIN_VALUE ? 0 : history.maxReturnPct);
+        stats.put("sharpeRatio", calcSharpeRatio(history.monthlyFlows.values()));
+        stats.put("maxDrawdown", history.maxDrawdown);
 
-        log.debug("전체 거래 통계 조회 완료 - totalTrades: {}", allTx.size());
+        log.debug("전체 거래 통계 조회 완료 - totalTrades: {}", history.totalTrades);
         return stats;
     }
 
@@ -371,12 +382,9 @@ public class TradingStatisticsService {
     public List<Map<String, Object>> getMonthlyReturns() {
         log.debug("월별 수익률 조회 시작");
 
-        // FETCH JOIN으로 Stock 함께 로딩하여 N+1 쿼리 방지
-        List<Transaction> allTx = transactionRepository.findAllWithStock();
-        Map<String, List<Transaction>> byMonth = groupTransactionsByMonth(allTx);
-
-        List<Map<String, Object>> result = buildMonthlyReturnsResponse(byMonth);
-        result.sort((a, b) -> ((String) a.get("month")).compareTo((String) b.get("month")));
+        // 월별 매수/매도 금액만 누적 (월 수에 비례하는 메모리)
+        TradeHistoryAccumulator history = accumulateTradeHistory();
+        List<Map<String, Object>> result = buildMonthlyReturnsResponse(history.monthlyFlows);
 
         log.debug("월별 수익률 조회 완료 - {} 개월 분석됨", result.size());
         return result;
@@ -386,6 +394,24 @@ public class TradingStatisticsService {
     // Private Methods - 데이터 조회 및 필터링
     // ============================================================
 
+    /**
+     * 전체 거래를 날짜 오름차순 스트림으로 한 번 순회하며 누적
+     *
+     * <p>처리한 거래는 즉시 영속성 컨텍스트에서 분리하여 이력 길이와 무관하게 힙 사용량을 일정하게 유지한다. 호출자 트랜잭션의 다른 엔티티까지 분리하지 않도록
+     * clear() 대신 행 단위 detach를 사용한다.
+     */
+    private TradeHistoryAccumulator accumulateTradeHistory() {
+        TradeHistoryAccumulator history = new TradeHistoryAccumulator();
+        try (Stream<Transaction> transactions = transactionRepository.streamAllWithStock()) {
+            transactions.forEach(
+                    tx -> {
+                        history.accept(tx);
+                        entityManager.detach(tx);
+                    });
+        }
+        return history;
+    }
+
     /** 기간 내 거래 조회 */
     private List<Transaction> getTransactionsInRange(
             Long accountId, LocalDate startDate, LocalDate endDate) {
@@ -412,11 +438,6 @@ public class TradingStatisticsService {
         return transactions.stream().filter(t -> t.getType() == TransactionType.SELL).toList();
     }
 
-    /** 전체 거래에서 매도 거래만 필터링 */
-    private List<Transaction> filterSellTransactions(List<Transaction> allTx) {
-        return allTx.stream().filter(t -> t.getType() == TransactionType.SELL).toList();
-    }
-
     /** 실현손익이 있는 매도 거래인지 확인 */
     private boolean isSellTransactionWithPnl(Transaction t) {
         return t.getType() == TransactionType.SELL && t.getRealizedPnl() != null;
@@ -459,18 +480,6 @@ public class TradingStatisticsService {
                 .collect(Collectors.groupingBy(t -> t.getTransactionDate().toLocalDate()));
     }
 
-    private Map<String, List<Transaction>> groupTransactionsByMonth(
-            List<Transaction> transactions) {
-        return transactions.stream()
-                .collect(
-                        Collectors.groupingBy(
-                                t ->
-                                        t.getTransactionDate()
-                                                .format(
-                                                        java.time.format.DateTimeFormatter
-                                                                .ofPattern("yyyy-MM"))));
-    }
-
     // ============================================================
     // Private Methods - 통계 계산
     // ============================================================
@@ -554,8 +563,141 @@ public class TradingStatisticsService {
             BigDecimal winRate,
             BigDecimal totalReturn) {}
 
-    /** 수익률 통계 레코드 */
-    private record ReturnStatistics(int wins, double totalReturnPct, double maxReturnPct) {}
+    /** 월별 매수/매도 금액 */
+    private static final class MonthlyFlow {
+        private BigDecimal buy = BigDecimal.ZERO;
+        private BigDecimal sell = BigDecimal.ZERO;
+    }
+
+    /** 종목별 매수 단가 합계 - 같은 시각의 매수는 시각이 바뀐 뒤 반영 (매도 시점 이전 매수만 평균에 포함) */
+    private static final class BuyPriceStats {
+        private BigDecimal priceSum = BigDecimal.ZERO;
+        private int count;
+        private BigDecimal pendingPriceSum = BigDecimal.ZERO;
+        private int pendingCount;
+        private LocalDateTime pendingTime;
+
+        void settleBefore(LocalDateTime time) {
+            if (pendingTime != null && pendingTime.isBefore(time)) {
+                priceSum = priceSum.add(pendingPriceSum);
+                count += pendingCount;
+                pendingPriceSum = BigDecimal.ZERO;
+                pendingCount = 0;
+                pendingTime = null;
+            }
+        }
+
+        void addBuy(LocalDateTime time, BigDecimal price) {
+            settleBefore(time);
+            pendingPriceSum = pendingPriceSum.add(price);
+            pendingCount++;
+            pendingTime = time;
+        }
+    }
+
+    /**
+     * 날짜 오름차순 거래를 한 건씩 받아 전체 통계를 누적
+     *
+     * <p>종목 수/월 수에 비례하는 상태만 보관하며 거래 자체는 참조하지 않는다.
+     */
+    private static final class TradeHistoryAccumulator {
+        private int totalTrades;
+        private int sellCount;
+        private final Set<Object> stockKeys = new HashSet<>();
+        private final SortedMap<String, MonthlyFlow> monthlyFlows = new TreeMap<>();
+
+        // 수익률 통계 (매도 시점 이전 매수 평균 단가 대비)
+        private final Map<Object, BuyPriceStats> buyPrices = new HashMap<>();
+        private int wins;
+        private double totalReturnPct;
+        private double maxReturnPct = Double.MIN_VALUE;
+
+        // 보유 기간 (종목별 최초 매수 ~ 매도)
+        private final Map<String, LocalDateTime> firstBuyBySymbol = new HashMap<>();
+        private long holdingDays;
+        private int completedTrades;
+
+        // 누적 매수-매도 금액 기준 최대 낙폭
+        private BigDecimal running = BigDecimal.ZERO;
+        private BigDecimal peak = BigDecimal.ZERO;
+        private double maxDrawdown;
+
+        void accept(Transaction tx) {
+            totalTrades++;
+            Object stockKey =
+                    tx.getStock().getId() != null
+                            ? tx.getStock().getId()
+                            : tx.getStock().getSymbol();
+            stockKeys.add(stockKey);
+
+            boolean isBuy = tx.getType() == TransactionType.BUY;
+            LocalDateTime time = tx.getTransactionDate();
+            BigDecimal amount = tx.getTotalAmount();
+
+            MonthlyFlow flow =
+                    monthlyFlows.computeIfAbsent(
+                            java.time.YearMonth.from(time).toString(), k -> new MonthlyFlow());
+            if (isBuy) {
+                flow.buy = flow.buy.add(amount);
+                buyPrices
+                        .computeIfAbsent(stockKey, k -> new BuyPriceStats())
+                        .addBuy(time, tx.getPrice());
+                firstBuyBySymbol.putIfAbsent(tx.getStock().getSymbol(), time);
+            } else if (tx.getType() == TransactionType.SELL) {
+                flow.sell = flow.sell.add(amount);
+                sellCount++;
+                acceptSell(tx, stockKey, time);
+            }
+
+            running = isBuy ? running.add(amount) : running.subtract(amount);
+            if (running.compareTo(peak) > 0) {
+                peak = running;
+            }
+            if (peak.compareTo(BigDecimal.ZERO) > 0) {
+                double dd =
+                        peak.subtract(running)
+                                        .divide(peak, CALCULATION_SCALE, RoundingMode.HALF_UP)
+                                        .doubleValue()
+                                * 100;
+                maxDrawdown = Math.max(maxDrawdown, dd);
+            }
+        }
+
+        private void acceptSell(Transaction sell, Object stockKey, LocalDateTime time) {
+            BuyPriceStats buys = buyPrices.get(stockKey);
+            if (buys != null) {
+                buys.settleBefore(time);
+                if (buys.count > 0) {
+                    BigDecimal avgBuy =
+                            buys.priceSum.divide(
+                                    BigDecimal.valueOf(buys.count),
+                                    DISPLAY_SCALE,
+                                    RoundingMode.HALF_UP);
+                    double ret =
+                            sell.getPrice()
+                                    .subtract(avgBuy)
+                                    .divide(avgBuy, CALCULATION_SCALE, RoundingMode.HALF_UP)
+                                    .multiply(BigDecimal.valueOf(100))
+                                    .doubleValue();
+                    if (ret > 0) wins++;
+                    totalReturnPct += ret;
+                    maxReturnPct = Math.max(maxReturnPct, ret);
+                }
+            }
+
+            LocalDateTime firstBuy = firstBuyBySymbol.get(sell.getStock().getSymbol());
+            if (firstBuy != null && firstBuy.isBefore(time)) {
+                holdingDays +=
+                        java.time.temporal.ChronoUnit.DAYS.between(
+                                firstBuy.toLocalDate(), time.toLocalDate());
+                completedTrades++;
+            }
+        }
+
+        double avgHoldingPeriod() {
+            return completedTrades > 0 ? (double) holdingDays / completedTrades : 0;
+        }
+    }
 
     /** FIFO 시뮬레이션용 매수 항목 */
     private static class FifoBuyEntry {
@@ -769,6 +911,60 @@ public class TradingStatisticsService {
         }
     }
 
+    /** 복기 태그 실수 패턴 분석 - 손실 거래 복기에 자주 붙은 태그 (태그 인덱스 조회) */
+    private void analyzeTaggedMistakePattern(
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<Transaction> sellTransactions,
+            List<MistakePattern> patterns) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        List<Object[]> rows =
+                accountId != null
+                        ? tradeReviewTagRepository.findLosingTradeTagsByAccount(
+                                accountId, start, end)
+                        : tradeReviewTagRepository.findLosingTradeTags(start, end);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Transaction> byId =
+                sellTransactions.stream()
+                        .collect(Collectors.toMap(Transaction::getId, t -> t, (a, b) -> a));
+        Map<String, List<Transaction>> byTag = new HashMap<>();
+        for (Object[] row : rows) {
+            Transaction transaction = byId.get((Long) row[1]);
+            if (transaction != null) {
+                byTag.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add(transaction);
+            }
+        }
+
+        byTag.entrySet().stream()
+                .filter(e -> e.getValue().size() >= MIN_TAGGED_MISTAKES)
+                .sorted(
+                        Comparator.comparing(
+                                        (Map.Entry<String, List<Transaction>> e) ->
+                                                e.getValue().size())
+                                .reversed()
+                                .thenComparing(Map.Entry::getKey))
+                .limit(TAGGED_MISTAKES_LIMIT)
+                .forEach(
+                        e -> {
+                            log.debug(
+                                    "복기 태그 실수 패턴 발견 - '{}' {} 건", e.getKey(), e.getValue().size());
+                            patterns.add(
+                                    createMistakePattern(
+                                            MistakeTypes.REVIEW_TAG,
+                                            "복기 태그: " + e.getKey(),
+                                            String.format(
+                                                    "손실 거래 복기에 '%s' 태그가 %d회 기록되었습니다.",
+                                                    e.getKey(), e.getValue().size()),
+                                            e.getValue(),
+                                            PRIORITY_STR_MEDIUM));
+                        });
+    }
+
     /** 계좌 리스크 설정에서 maxHoldingDays 조회 (설정 없으면 기본값 사용) */
     private BigDecimal resolveMaxHoldingDays(Long accountId) {
         if (accountId != null) {
@@ -1062,89 +1258,18 @@ public class TradingStatisticsService {
     // Private Methods - 수익률 및 성과 계산
     // ============================================================
 
-    private ReturnStatistics calculateReturnStatistics(
-            List<Transaction> allTx, List<Transaction> sells) {
-        int wins = 0;
-        double totalReturnPct = 0;
-        double maxReturnPct = Double.MIN_VALUE;
-
-        for (Transaction sell : sells) {
-            List<Transaction> buys =
-                    allTx.stream()
-                            .filter(
-                                    t ->
-                                            t.getType() == TransactionType.BUY
-                                                    && t.getStock().equals(sell.getStock())
-                                                    && t.getTransactionDate()
-                                                            .isBefore(sell.getTransactionDate()))
-                            .toList();
-
-            if (!buys.isEmpty()) {
-                BigDecimal avgBuy =
-                        buys.stream()
-                                .map(Transaction::getPrice)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                                .divide(
-                                        BigDecimal.valueOf(buys.size()),
-                                        DISPLAY_SCALE,
-                                        RoundingMode.HALF_UP);
-
-                double ret =
-                        sell.getPrice()
-                                .subtract(avgBuy)
-                                .divide(avgBuy, CALCULATION_SCALE, RoundingMode.HALF_UP)
-                                .multiply(BigDecimal.valueOf(100))
-                                .doubleValue();
-
-                if (ret > 0) wins++;
-                totalReturnPct += ret;
-                maxReturnPct = Math.max(maxReturnPct, ret);
-            }
-        }
-
-        return new ReturnStatistics(wins, totalReturnPct, maxReturnPct);
-    }
-
-    private double calcAvgHoldingPeriod(List<Transaction> transactions) {
-        Map<String, List<Transaction>> byStock =
-                transactions.stream().collect(Collectors.groupingBy(t -> t.getStock().getSymbol()));
-
-        long totalDays = 0;
-        int completedTrades = 0;
-
-        for (List<Transaction> stockTx : byStock.values()) {
-            var buys =
-                    stockTx.stream()
-                            .filter(t -> t.getType() == TransactionType.BUY)
-                            .sorted(Comparator.comparing(Transaction::getTransactionDate))
-                            .toList();
-            var sells =
-                    stockTx.stream()
-                            .filter(t -> t.getType() == TransactionType.SELL)
-                            .sorted(Comparator.comparing(Transaction::getTransactionDate))
-                            .toList();
-
-            for (Transaction sell : sells) {
-                for (Transaction buy : buys) {
-                    if (buy.getTransactionDate().isBefore(sell.getTransactionDate())) {
-                        totalDays +=
-                                java.time.temporal.ChronoUnit.DAYS.between(
-                                        buy.getTransactionDate().toLocalDate(),
-                                        sell.getTransactionDate().toLocalDate());
-                        completedTrades++;
-                        break;
-                    }
-                }
+    /** 월별 매수/매도 금액 기반 월간 수익률의 샤프 비율 */
+    private double calcSharpeRatio(Collection<MonthlyFlow> monthlyFlows) {
+        List<Double> monthlyReturns = new ArrayList<>();
+        for (MonthlyFlow flow : monthlyFlows) {
+            if (flow.buy.compareTo(BigDecimal.ZERO) > 0) {
+                monthlyReturns.add(
+                        flow.sell
+                                .subtract(flow.buy)
+                                .divide(flow.buy, CALCULATION_SCALE, RoundingMode.HALF_UP)
+                                .doubleValue());
             }
         }
-        return completedTrades > 0 ? (double) totalDays / completedTrades : 0;
-    }
-
-    private double calcSharpeRatio(List<Transaction> transactions) {
-        if (transactions.isEmpty()) return 0;
-
-        Map<String, List<Transaction>> monthly = groupTransactionsByMonth(transactions);
-        List<Double> monthlyReturns = calculateMonthlyReturns(monthly);
 
         if (monthlyReturns.size() < 2) return 0;
 
@@ -1156,64 +1281,6 @@ public class TradingStatisticsService {
         return stdDev != 0 ? (avg - RISK_FREE_RATE_MONTHLY) / stdDev : 0;
     }
 
-    private List<Double> calculateMonthlyReturns(Map<String, List<Transaction>> monthly) {
-        List<Double> monthlyReturns = new ArrayList<>();
-
-        for (List<Transaction> monthTx : monthly.values()) {
-            BigDecimal buy =
-                    monthTx.stream()
-                            .filter(t -> t.getType() == TransactionType.BUY)
-                            .map(Transaction::getTotalAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal sell =
-                    monthTx.stream()
-                            .filter(t -> t.getType() == TransactionType.SELL)
-                            .map(Transaction::getTotalAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            if (buy.compareTo(BigDecimal.ZERO) > 0) {
-                monthlyReturns.add(
-                        sell.subtract(buy)
-                                .divide(buy, CALCULATION_SCALE, RoundingMode.HALF_UP)
-                                .doubleValue());
-            }
-        }
-
-        return monthlyReturns;
-    }
-
-    private double calcMaxDrawdown(List<Transaction> transactions) {
-        if (transactions.isEmpty()) return 0;
-
-        List<Transaction> sorted = new ArrayList<>(transactions);
-        sorted.sort(Comparator.comparing(Transaction::getTransactionDate));
-
-        BigDecimal running = BigDecimal.ZERO;
-        BigDecimal peak = BigDecimal.ZERO;
-        double maxDD = 0;
-
-        for (Transaction tx : sorted) {
-            running =
-                    (tx.getType() == TransactionType.BUY)
-                            ? running.add(tx.getTotalAmount())
-                            : running.subtract(tx.getTotalAmount());
-
-            if (running.compareTo(peak) > 0) {
-                peak = running;
-            }
-
-            if (peak.compareTo(BigDecimal.ZERO) > 0) {
-                double dd =
-                        peak.subtract(running)
-                                        .divide(peak, CALCULATION_SCALE, RoundingMode.HALF_UP)
-                                        .doubleValue()
-                                * 100;
-                maxDD = Math.max(maxDD, dd);
-            }
-        }
-        return maxDD;
-    }
-
     private BigDecimal calculateConsistencyScore(
             List<WeekdayStats> weekdayStats, List<TimeOfDayStats> timeStats) {
         List<BigDecimal> winRates = collectWinRatesForConsistency(weekdayStats, timeStats);
@@ -1310,24 +1377,12 @@ public class TradingStatisticsService {
     // ============================================================
 
     private List<Map<String, Object>> buildMonthlyReturnsResponse(
-            Map<String, List<Transaction>> byMonth) {
+            SortedMap<String, MonthlyFlow> monthlyFlows) {
         List<Map<String, Object>> result = new ArrayList<>();
 
-        for (Map.Entry<String, List<Transaction>> entry : byMonth.entrySet()) {
-            String month = entry.getKey();
-            List<Transaction> txs = entry.getValue();
-
-            BigDecimal buy =
-                    txs.stream()
-                            .filter(t -> t.getType() == TransactionType.BUY)
-                            .map(Transaction::getTotalAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal sell =
-                    txs.stream()
-                            .filter(t -> t.getType() == TransactionType.SELL)
-                            .map(Transaction::getTotalAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (Map.Entry<String, MonthlyFlow> entry : monthlyFlows.entrySet()) {
+            BigDecimal buy = entry.getValue().buy;
+            BigDecimal sell = entry.getValue().sell;
 
             BigDecimal rate =
                     buy.compareTo(BigDecimal.ZERO) > 0
@@ -1337,7 +1392,7 @@ public class TradingStatisticsService {
                             : BigDecimal.ZERO;
 
             Map<String, Object> monthData = new HashMap<>();
-            monthData.put("month", month);
+            monthData.put("month", entry.getKey());
             monthData.put("returnRate", rate);
             monthData.put("investment", buy);
             result.add(monthData);
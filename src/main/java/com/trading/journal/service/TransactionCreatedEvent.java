@@ -0,0 +1,19 @@
+package com.trading.journal.service;
+
+import com.trading.journal.entity.Transaction;
+
+/**
+ * 거래가 생성되었음을 알리는 이벤트. 커밋 후 {@link TiltMonitorService}가 받아 과거 일자로 입력된 매도만 구간을 다시 읽고, {@link
+ * PreTradeRiskService}가 받아 계좌 리스크 상태에 해당 종목분만 더하며, {@link BenchmarkService}는 벤치마크 비교 결과 캐시를 비운다.
+ *
+ * @param transaction 저장된 거래 (매도는 FIFO 실현손익 반영 후)
+ * @param positionsApplied 포트폴리오에 바로 반영되었는지 (일괄 가져오기로 미룬 거래는 false)
+ * @param publishedAtNanos 발행 시각 ({@link System#nanoTime()}, 이후에 다시 읽은 상태에는 이미 반영되어 있을 수 있다)
+ */
+public record TransactionCreatedEvent(
+        Transaction transaction, boolean positionsApplied, long publishedAtNanos) {
+
+    public TransactionCreatedEvent(Transaction transaction, boolean positionsApplied) {
+        this(transaction, positionsApplied, System.nanoTime());
+    }
+}
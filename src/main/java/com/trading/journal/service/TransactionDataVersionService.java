@@ -0,0 +1,32 @@
+package com.trading.journal.service;
+
+import com.trading.journal.repository.TransactionRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 거래 데이터 버전 서비스
+ *
+ * <p>리포트 결과와 AI 분석 컨텍스트처럼 거래 데이터로 만든 값을 캐시할 때 키에 넣는 버전 문자열을 만든다. 건수/최종 수정 시각/최대 ID 중 하나는 거래가
+ * 추가·수정·삭제되면 바뀌고, 오늘 날짜를 붙여 시세가 반영되는 기간(YTD 등)은 날짜가 바뀌면 자연히 새 키가 된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionDataVersionService {
+
+    private final TransactionRepository transactionRepository;
+
+    /** 현재 거래 데이터 버전 [건수:최종 수정:최대 ID:오늘] */
+    public String currentVersion() {
+        List<Object[]> stats = transactionRepository.getDataVersionStats();
+        if (stats == null || stats.isEmpty() || stats.get(0) == null) {
+            return "empty:" + LocalDate.now();
+        }
+        Object[] row = stats.get(0);
+        return row[0] + ":" + row[1] + ":" + row[2] + ":" + LocalDate.now();
+    }
+}
@@ -1,7 +1,9 @@
 package com.trading.journal.service;
 
 import com.trading.journal.dto.FifoResult;
+import com.trading.journal.dto.TransactionCursorPageDto;
 import com.trading.journal.dto.TransactionDto;
+import com.trading.journal.dto.TransactionListItemDto;
 import com.trading.journal.entity.Account;
 import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.Transaction;
@@ -12,12 +14,19 @@ import com.trading.journal.repository.StockRepository;
 import com.trading.journal.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TransactionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final StockRepository stockRepository;
     private final PortfolioService portfolioService;
@@ -35,8 +46,17 @@ public class TransactionService {
     private final AccountService accountService;
     private final FifoCalculationService fifoCalculationService;
     private final SecurityContextService securityContextService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TransactionDto createTransaction(TransactionDto dto) {
+        return createTransaction(dto, false);
+    }
+
+    /**
+     * 거래 생성. deferPositions가 true면 포트폴리오 반영을 미루고, 일괄 가져오기가 끝난 뒤 {@link #rebuildPositions}로 계좌/종목별 한
+     * 번씩 반영한다.
+     */
+    public TransactionDto createTransaction(TransactionDto dto, boolean deferPositions) {
         // Account 처리: accountId가 없으면 기본 계좌 사용
         Account account;
         if (dto.getAccountId() != null) {
@@ -89,11 +109,40 @@ public class TransactionService {
             calculateRMultipleForSell(transaction);
         }
 
-        portfolioService.updatePortfolio(transaction);
+        if (!deferPositions) {
+            portfolioService.updatePortfolio(transaction);
+        }
+        eventPublisher.publishEvent(new TransactionCreatedEvent(transaction, !deferPositions));
 
         return convertToDto(transaction);
     }
 
+    /** 반영을 미룬 거래들의 포지션을 계좌/종목별 가장 이른 거래일부터 한 번씩 재생 */
+    public void rebuildPositions(Collection<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        List<Transaction> transactions = transactionRepository.findAllById(transactionIds);
+        portfolioService.replayPositions(transactions);
+        // 계좌별 가장 이른 거래일로 한 번씩 알린다
+        Map<Long, Transaction> earliestByAccount = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            if (transaction.getAccount() != null) {
+                earliestByAccount.merge(
+                        transaction.getAccount().getId(),
+                        transaction,
+                        (a, b) -> a.getTransactionDate().isAfter(b.getTransactionDate()) ? b : a);
+            }
+        }
+        earliestByAccount.forEach(
+                (accountId, transaction) ->
+                        eventPublisher.publishEvent(
+                                new TradeHistoryChangedEvent(
+                                        accountId,
+                                        userIdOf(transaction),
+                                        transaction.getTransactionDate())));
+    }
+
     @Transactional(readOnly = true)
     public Page<TransactionDto> getAllTransactions(Pageable pageable) {
         Long userId = requireCurrentUserId();
@@ -108,6 +157,72 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커서(keyset) 기반 거래 목록 조회
+     *
+     * <p>(거래일시, ID) 내림차순으로 seek 하므로 깊은 페이지도 비용이 일정하다. 엔티티 대신 목록 프로젝션만 조회하며, includeAmounts가 false면
+     * 암호화 컬럼을 조회하지 않아 복호화 비용이 없다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param accountId 계좌 필터 (null이면 전체)
+     * @param symbol 종목 필터 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public TransactionCursorPageDto getTransactionsByCursor(
+            String cursor, int size, Long accountId, String symbol, boolean includeAmounts) {
+        Long userId = requireCurrentUserId();
+        if (accountId != null) {
+            accountService.getAccountEntity(accountId); // 소유권 검증
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String symbolFilter = symbol != null && !symbol.isBlank() ? symbol.toUpperCase() : null;
+
+        List<TransactionListItemDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows =
+                    includeAmounts
+                            ? transactionRepository.findListItemsWithAmountsFirstPage(
+                                    userId, accountId, symbolFilter, limit)
+                            : transactionRepository.findListItemsFirstPage(
+                                    userId, accountId, symbolFilter, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            rows =
+                    includeAmounts
+                            ? transactionRepository.findListItemsWithAmountsAfter(
+                                    userId,
+                                    accountId,
+                                    symbolFilter,
+                                    position.transactionDate(),
+                                    position.id(),
+                                    limit)
+                            : transactionRepository.findListItemsAfter(
+                                    userId,
+                                    accountId,
+                                    symbolFilter,
+                                    position.transactionDate(),
+                                    position.id(),
+                                    limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionListItemDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionListItemDto last = content.get(content.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        return TransactionCursorPageDto.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public Page<TransactionDto> getTransactionsByAccount(Long accountId, Pageable pageable) {
         accountService.getAccountEntity(accountId); // 소유권 검증
@@ -175,6 +290,10 @@ public class TransactionService {
                         .orElseThrow(() -> new TransactionNotFoundException(id));
         validateTransactionOwnership(transaction);
 
+        Long previousAccountId =
+                transaction.getAccount() != null ? transaction.getAccount().getId() : null;
+        LocalDateTime previousDate = transaction.getTransactionDate();
+
         // Account 변경 시
         if (dto.getAccountId() != null
                 && !dto.getAccountId()
@@ -212,8 +331,26 @@ public class TransactionService {
         Long accountId = transaction.getAccount() != null ? transaction.getAccount().getId() : null;
         Long stockId = transaction.getStock().getId();
 
+        // 포지션은 변경 전후 중 이른 거래일부터만 재생
+        LocalDateTime replayFrom =
+                previousDate.isBefore(transaction.getTransactionDate())
+                        ? previousDate
+                        : transaction.getTransactionDate();
+
         fifoCalculationService.recalculateFifoForAccountStock(accountId, stockId);
-        portfolioService.recalculatePortfolio(accountId, stockId);
+        portfolioService.replayPositions(accountId, stockId, replayFrom);
+        if (previousAccountId != null && !previousAccountId.equals(accountId)) {
+            fifoCalculationService.recalculateFifoForAccountStock(previousAccountId, stockId);
+            portfolioService.replayPositions(previousAccountId, stockId, previousDate);
+        }
+        eventPublisher.publishEvent(
+                new TradeHistoryChangedEvent(
+                        accountId, userIdOf(transaction), transaction.getTransactionDate()));
+        if (previousAccountId != null && !previousAccountId.equals(accountId)) {
+            eventPublisher.publishEvent(
+                    new TradeHistoryChangedEvent(
+                            previousAccountId, userIdOf(transaction), previousDate));
+        }
 
         return convertToDto(transaction);
     }
@@ -230,9 +367,16 @@ public class TransactionService {
 
         transactionRepository.delete(transaction);
 
-        // FIFO 및 포트폴리오 재계산
+        // FIFO 재계산, 포지션은 삭제된 거래일부터 재생
         fifoCalculationService.recalculateFifoForAccountStock(accountId, stockId);
-        portfolioService.recalculatePortfolio(accountId, stockId);
+        portfolioService.replayPositions(accountId, stockId, transaction.getTransactionDate());
+        eventPublisher.publishEvent(
+                new TradeHistoryChangedEvent(
+                        accountId, userIdOf(transaction), transaction.getTransactionDate()));
+    }
+
+    private Long userIdOf(Transaction transaction) {
+        return transaction.getAccount() != null ? transaction.getAccount().getUserId() : null;
     }
 
     private Stock createNewStock(String symbol) {
@@ -418,6 +562,30 @@ public class TransactionService {
         return realizedPnl.divide(initialRisk, 4, RoundingMode.HALF_UP);
     }
 
+    /** 불투명 커서 - 마지막 행의 (거래일시, ID)를 Base64URL로 인코딩 */
+    record TransactionCursor(LocalDateTime transactionDate, Long id) {
+
+        String encode() {
+            String raw = transactionDate + "|" + id;
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static TransactionCursor decode(String cursor) {
+            try {
+                String raw =
+                        new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new TransactionCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+
     /** 현재 인증된 유저 ID 반환. 미인증이면 예외. */
     private Long requireCurrentUserId() {
         return securityContextService
@@ -0,0 +1,240 @@
+package com.trading.journal.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.distribution.NormalDistribution;
+
+/**
+ * 포지션 × 날짜 수익률 행렬 위에서 VaR/ES를 계산하는 엔진.
+ *
+ * <p>수익률은 소수 단위, 손익·VaR·ES는 금액 단위이며 VaR·ES는 손실을 양수로 표시한다. 공분산과 포지션별 행렬 연산은 행 단위로 병렬 처리한다.
+ */
+final class VaREngine {
+
+    /** 병렬 처리로 넘어가는 최소 행 수 (작은 행렬은 순차 처리가 더 빠르다) */
+    private static final int PARALLEL_THRESHOLD = 32;
+
+    private static final NormalDistribution STANDARD_NORMAL = new NormalDistribution(0, 1);
+
+    private VaREngine() {}
+
+    /**
+     * 포지션 × 날짜 일간 수익률 행렬
+     *
+     * @param symbols 행 순서의 종목
+     * @param dates 열 순서의 수익률 날짜 (오름차순)
+     * @param returns returns[포지션][날짜]
+     */
+    record ReturnMatrix(String[] symbols, LocalDate[] dates, double[][] returns) {
+        int positions() {
+            return symbols.length;
+        }
+
+        int observations() {
+            return dates.length;
+        }
+    }
+
+    /** 꼬리 위험 (VaR와 ES, 손실 양수) */
+    record Tail(double var, double es) {
+        static final Tail ZERO = new Tail(0, 0);
+    }
+
+    /**
+     * 공분산 기반 파라메트릭 VaR
+     *
+     * @param sigma 포트폴리오 일간 손익 표준편차
+     * @param marginal 포지션 금액 1단위 증가 시 VaR 변화
+     * @param component 포지션별 VaR 기여도 (합계 = VaR)
+     */
+    record Parametric(double var, double es, double sigma, double[] marginal, double[] component) {}
+
+    /**
+     * 종목별 종가 배열을 모든 날짜의 합집합 위에 정렬해 수익률 행렬을 만든다. 거래가 없는 날은 직전 종가를 이어 쓰므로 수익률 0이 되고, 첫 종가 이전 구간도 0이다.
+     *
+     * @param dates dates[포지션] 오름차순 날짜
+     * @param closes closes[포지션] 날짜별 종가
+     */
+    static ReturnMatrix returnMatrix(String[] symbols, LocalDate[][] dates, double[][] closes) {
+        TreeSet<LocalDate> union = new TreeSet<>();
+        for (LocalDate[] d : dates) {
+            union.addAll(Arrays.asList(d));
+        }
+        LocalDate[] calendar = union.toArray(LocalDate[]::new);
+        if (calendar.length < 2) {
+            return new ReturnMatrix(symbols, new LocalDate[0], new double[symbols.length][0]);
+        }
+
+        double[][] returns = new double[symbols.length][calendar.length - 1];
+        rows(symbols.length)
+                .forEach(
+                        p -> {
+                            LocalDate[] d = dates[p];
+                            double[] c = closes[p];
+                            double[] row = returns[p];
+                            int k = 0;
+                            double previous = Double.NaN;
+                            for (int t = 0; t < calendar.length; t++) {
+                                double close = previous;
+                                while (k < d.length && !d[k].isAfter(calendar[t])) {
+                                    close = c[k++];
+                                }
+                                if (t > 0 && previous > 0 && close > 0) {
+                                    row[t - 1] = close / previous - 1;
+                                }
+                                previous = close;
+                            }
+                        });
+        return new ReturnMatrix(symbols, Arrays.copyOfRange(calendar, 1, calendar.length), returns);
+    }
+
+    /** 현재 포지션 금액을 과거 수익률에 적용한 날짜별 손익 시나리오 */
+    static double[] pnl(double[] values, ReturnMatrix matrix) {
+        double[] pnl = new double[matrix.observations()];
+        for (int p = 0; p < values.length; p++) {
+            double value = values[p];
+            if (value == 0) {
+                continue;
+            }
+            double[] row = matrix.returns()[p];
+            for (int t = 0; t < pnl.length; t++) {
+                pnl[t] += value * row[t];
+            }
+        }
+        return pnl;
+    }
+
+    /** 표본 공분산 행렬 (행별 병렬, 대칭 채움) */
+    static double[][] covariance(double[][] returns) {
+        int n = returns.length;
+        int t = n > 0 ? returns[0].length : 0;
+        double[][] cov = new double[n][n];
+        if (t < 2) {
+            return cov;
+        }
+
+        double[][] centered = new double[n][];
+        rows(n).forEach(
+                        i -> {
+                            double[] row = returns[i];
+                            double mean = 0;
+                            for (double r : row) {
+                                mean += r;
+                            }
+                            mean /= t;
+                            double[] c = new double[t];
+                            for (int k = 0; k < t; k++) {
+                                c[k] = row[k] - mean;
+                            }
+                            centered[i] = c;
+                        });
+        rows(n).forEach(
+                        i -> {
+                            double[] a = centered[i];
+                            for (int j = i; j < n; j++) {
+                                double[] b = centered[j];
+                                double sum = 0;
+                                for (int k = 0; k < t; k++) {
+                                    sum += a[k] * b[k];
+                                }
+                                cov[i][j] = sum / (t - 1);
+                            }
+                        });
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                cov[i][j] = cov[j][i];
+            }
+        }
+        return cov;
+    }
+
+    /**
+     * 역사적 시뮬레이션 VaR/ES. 기존 {@link RiskMetricsService#calculateVaR}와 같이 하위 floor((1-c)·n) 번째 손익을
+     * VaR로, 그 이하 손익의 평균을 ES로 본다.
+     */
+    static Tail historical(double[] pnl, double confidence) {
+        if (pnl.length == 0) {
+            return Tail.ZERO;
+        }
+        double[] sorted = pnl.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.floor((1 - confidence) * sorted.length);
+        index = Math.max(0, Math.min(index, sorted.length - 1));
+        double tail = 0;
+        for (int i = 0; i <= index; i++) {
+            tail += sorted[i];
+        }
+        return new Tail(Math.max(-sorted[index], 0), Math.max(-tail / (index + 1), 0));
+    }
+
+    /**
+     * 필터링된 역사적 시뮬레이션 (EWMA 변동성). 각 날짜의 손익을 그 시점 변동성으로 표준화한 뒤 다음 날 예측 변동성으로 다시 스케일해 최근 변동성 국면을 반영한다.
+     *
+     * @param lambda EWMA 감쇠 계수 (RiskMetrics 일간 0.94)
+     */
+    static Tail filteredHistorical(double[] pnl, double confidence, double lambda) {
+        int n = pnl.length;
+        if (n < 2) {
+            return historical(pnl, confidence);
+        }
+        double variance = 0;
+        for (double x : pnl) {
+            variance += x * x;
+        }
+        variance /= n;
+        if (variance == 0) {
+            return Tail.ZERO;
+        }
+
+        double[] standardized = new double[n];
+        for (int t = 0; t < n; t++) {
+            standardized[t] = pnl[t] / Math.sqrt(variance);
+            variance = lambda * variance + (1 - lambda) * pnl[t] * pnl[t];
+        }
+        double forecast = Math.sqrt(variance);
+        for (int t = 0; t < n; t++) {
+            standardized[t] *= forecast;
+        }
+        return historical(standardized, confidence);
+    }
+
+    /** 정규분포 가정의 공분산 VaR/ES와 포지션별 한계·기여 VaR (평균 0 가정) */
+    static Parametric parametric(double[] values, double[][] cov, double confidence) {
+        int n = values.length;
+        double[] sigmaV = new double[n];
+        rows(n).forEach(
+                        i -> {
+                            double[] row = cov[i];
+                            double sum = 0;
+                            for (int j = 0; j < n; j++) {
+                                sum += row[j] * values[j];
+                            }
+                            sigmaV[i] = sum;
+                        });
+        double variance = 0;
+        for (int i = 0; i < n; i++) {
+            variance += values[i] * sigmaV[i];
+        }
+        double sigma = Math.sqrt(Math.max(variance, 0));
+        double[] marginal = new double[n];
+        double[] component = new double[n];
+        if (sigma == 0) {
+            return new Parametric(0, 0, 0, marginal, component);
+        }
+
+        double z = STANDARD_NORMAL.inverseCumulativeProbability(confidence);
+        for (int i = 0; i < n; i++) {
+            marginal[i] = z * sigmaV[i] / sigma;
+            component[i] = values[i] * marginal[i];
+        }
+        double es = sigma * STANDARD_NORMAL.density(z) / (1 - confidence);
+        return new Parametric(z * sigma, es, sigma, marginal, component);
+    }
+
+    private static IntStream rows(int n) {
+        IntStream rows = IntStream.range(0, n);
+        return n >= PARALLEL_THRESHOLD ? rows.parallel() : rows;
+    }
+}
@@ -0,0 +1,270 @@
+package db.migration;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 백테스트 곡선 바이너리 포맷 버전 1의 마이그레이션 전용 고정 사본 (V14 인코딩, V16 곡선 요약 다운샘플링).
+ *
+ * <p>애플리케이션의 {@code BacktestCurves}가 바뀌어도 이미 실행된 마이그레이션이 같은 바이트를 만들도록 이 클래스는 수정하지 않는다. 포맷을 바꾸면 새
+ * 버전을 별도 클래스로 추가한다.
+ */
+final class BacktestCurvesV1 {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int RATIO_SCALE = 4;
+    private static final int COLUMN_COUNT = 5;
+    private static final int DATES = 0;
+    private static final int EQUITY = 1;
+    private static final int DRAWDOWN = 2;
+    private static final int BENCHMARK = 3;
+    private static final int MONTHLY = 4;
+
+    /** 월별 성과 (JSON 컬럼의 month/returnPct/tradeCount/profit) */
+    record Monthly(String month, BigDecimal returnPct, Integer tradeCount, BigDecimal profit) {}
+
+    private BacktestCurvesV1() {}
+
+    static byte[] encode(
+            List<LocalDate> dates,
+            List<BigDecimal> equity,
+            List<BigDecimal> drawdown,
+            List<BigDecimal> benchmark,
+            List<Monthly> monthly) {
+        int n = dates.size();
+        if (equity.size() != n || drawdown.size() != n || benchmark.size() != n) {
+            throw new IllegalArgumentException("곡선 길이가 날짜 수와 다릅니다");
+        }
+
+        Writer[] columns = new Writer[COLUMN_COUNT];
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            columns[c] = new Writer();
+        }
+        long previousDay = 0;
+        for (LocalDate date : dates) {
+            long day = date.toEpochDay();
+            columns[DATES].writeSignedVarLong(day - previousDay);
+            previousDay = day;
+        }
+        writeDeltas(columns[EQUITY], equity, AMOUNT_SCALE);
+        writeDeltas(columns[DRAWDOWN], drawdown, RATIO_SCALE);
+        writeDeltas(columns[BENCHMARK], benchmark, AMOUNT_SCALE);
+
+        long previousMonth = 0;
+        for (Monthly mp : monthly) {
+            YearMonth yearMonth = YearMonth.parse(mp.month());
+            long month = yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1;
+            columns[MONTHLY].writeSignedVarLong(month - previousMonth);
+            previousMonth = month;
+            columns[MONTHLY].writeVarLong(mp.tradeCount() != null ? mp.tradeCount() : 0);
+            columns[MONTHLY].writeSignedVarLong(toScaled(mp.profit(), AMOUNT_SCALE));
+            columns[MONTHLY].writeSignedVarLong(toScaled(mp.returnPct(), RATIO_SCALE));
+        }
+
+        Writer out = new Writer();
+        out.writeVarLong(FORMAT_VERSION);
+        out.writeVarLong(n);
+        out.writeVarLong(monthly.size());
+        for (Writer column : columns) {
+            out.writeVarLong(column.size());
+        }
+        for (Writer column : columns) {
+            out.write(column.toByteArray(), 0, column.size());
+        }
+        return deflate(out.toByteArray());
+    }
+
+    /**
+     * 전체 구간을 최대 maxPoints개로 다운샘플링해 다시 인코딩 (월별 성과는 그대로 유지). 균등 간격의 첫 포인트와 마지막 포인트를 취한다.
+     *
+     * @throws IllegalArgumentException 손상됐거나 다른 버전의 데이터
+     */
+    static byte[] downsample(byte[] data, int maxPoints) {
+        byte[] payload = inflate(data);
+        Reader reader = new Reader(payload);
+        int version = (int) reader.readVarLong();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 곡선 데이터 버전: " + version);
+        }
+        int points = (int) reader.readVarLong();
+        int months = (int) reader.readVarLong();
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            reader.readVarLong(); // 컬럼 길이 - 순서대로 읽으므로 쓰지 않는다
+        }
+
+        long[] days = reader.readDeltas(points);
+        long[] equity = reader.readDeltas(points);
+        long[] drawdown = reader.readDeltas(points);
+        long[] benchmark = reader.readDeltas(points);
+        List<Monthly> monthly = new ArrayList<>(months);
+        long month = 0;
+        for (int i = 0; i < months; i++) {
+            month += reader.readSignedVarLong();
+            int tradeCount = (int) reader.readVarLong();
+            BigDecimal profit = BigDecimal.valueOf(reader.readSignedVarLong(), AMOUNT_SCALE);
+            BigDecimal returnPct = BigDecimal.valueOf(reader.readSignedVarLong(), RATIO_SCALE);
+            YearMonth yearMonth =
+                    YearMonth.of(
+                            (int) Math.floorDiv(month, 12), (int) Math.floorMod(month, 12) + 1);
+            monthly.add(new Monthly(yearMonth.toString(), returnPct, tradeCount, profit));
+        }
+
+        int[] indices = sampleIndices(points, maxPoints);
+        List<LocalDate> sampledDates = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            sampledDates.add(LocalDate.ofEpochDay(days[i]));
+        }
+        return encode(
+                sampledDates,
+                sample(equity, AMOUNT_SCALE, indices),
+                sample(drawdown, RATIO_SCALE, indices),
+                sample(benchmark, AMOUNT_SCALE, indices),
+                monthly);
+    }
+
+    private static int[] sampleIndices(int count, int maxPoints) {
+        if (count <= maxPoints) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int step = (int) Math.ceil((double) (count - 1) / Math.max(1, maxPoints - 2));
+        boolean appendLast = (count - 1) % step != 0;
+        int[] indices = new int[(count - 1) / step + 1 + (appendLast ? 1 : 0)];
+        int n = 0;
+        for (int i = 0; i < count; i += step) {
+            indices[n++] = i;
+        }
+        if (appendLast) {
+            indices[n] = count - 1;
+        }
+        return indices;
+    }
+
+    private static List<BigDecimal> sample(long[] values, int scale, int[] indices) {
+        List<BigDecimal> list = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            list.add(BigDecimal.valueOf(values[i], scale));
+        }
+        return list;
+    }
+
+    private static void writeDeltas(Writer column, List<BigDecimal> values, int scale) {
+        long previous = 0;
+        for (BigDecimal value : values) {
+            long scaled = toScaled(value, scale);
+            column.writeSignedVarLong(scaled - previous);
+            previous = scaled;
+        }
+    }
+
+    private static long toScaled(BigDecimal value, int scale) {
+        return value != null
+                ? value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue()
+                : 0L;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("손상된 곡선 데이터");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("손상된 곡선 데이터", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        long readVarLong() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("손상된 곡선 데이터");
+            }
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                byte b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+            }
+        }
+
+        long readSignedVarLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long[] readDeltas(int count) {
+            long[] values = new long[count];
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                value += readSignedVarLong();
+                values[i] = value;
+            }
+            return values;
+        }
+    }
+}
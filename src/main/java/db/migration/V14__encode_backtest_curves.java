@@ -0,0 +1,124 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 기존 백테스트 결과의 JSON 차트 컬럼을 곡선 바이너리(포맷 버전 1)로 변환한 뒤 JSON 컬럼을 제거한다.
+ *
+ * <p>인코딩은 애플리케이션 코드가 아닌 고정 사본 {@link BacktestCurvesV1}을 쓴다. ID 순으로 배치 단위 변환하며, 파싱할 수 없는 행은 곡선 없이 남겨
+ * 조회 시 실시간 계산으로 대체된다.
+ */
+@Slf4j
+public class V14__encode_backtest_curves extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String[] JSON_COLUMNS = {
+        "equity_labels_json",
+        "equity_curve_json",
+        "drawdown_curve_json",
+        "benchmark_curve_json",
+        "monthly_performance_json",
+        "normalized_equity_curve_json"
+    };
+
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        int converted = 0;
+        int skipped = 0;
+        long lastId = 0;
+
+        try (PreparedStatement select =
+                        connection.prepareStatement(
+                                "SELECT id, equity_labels_json, equity_curve_json,"
+                                        + " drawdown_curve_json, benchmark_curve_json,"
+                                        + " monthly_performance_json FROM backtest_results"
+                                        + " WHERE id > ? AND curve_data IS NULL ORDER BY id");
+                PreparedStatement update =
+                        connection.prepareStatement(
+                                "UPDATE backtest_results SET curve_data = ? WHERE id = ?")) {
+            select.setMaxRows(BATCH_SIZE);
+            while (true) {
+                select.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        lastId = rs.getLong(1);
+                        byte[] curveData = encodeRow(rs);
+                        if (curveData == null) {
+                            skipped++;
+                            continue;
+                        }
+                        update.setBytes(1, curveData);
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        converted++;
+                    }
+                }
+                update.executeBatch();
+                if (rows < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String column : JSON_COLUMNS) {
+                statement.execute("ALTER TABLE backtest_results DROP COLUMN IF EXISTS " + column);
+            }
+        }
+        log.info("백테스트 곡선 바이너리 변환 완료: 변환 {}건, 건너뜀 {}건", converted, skipped);
+    }
+
+    private byte[] encodeRow(ResultSet rs) throws Exception {
+        List<String> labels = readList(rs.getString(2), new TypeReference<>() {});
+        List<BigDecimal> equity = readList(rs.getString(3), new TypeReference<>() {});
+        List<BigDecimal> drawdown = readList(rs.getString(4), new TypeReference<>() {});
+        List<BigDecimal> benchmark = readList(rs.getString(5), new TypeReference<>() {});
+        List<BacktestCurvesV1.Monthly> monthly =
+                readList(rs.getString(6), new TypeReference<>() {});
+        if (labels == null || equity == null || drawdown == null || benchmark == null) {
+            return null;
+        }
+        try {
+            List<LocalDate> dates = new ArrayList<>(labels.size());
+            for (String label : labels) {
+                dates.add(LocalDate.parse(label));
+            }
+            return BacktestCurvesV1.encode(
+                    dates, equity, drawdown, benchmark, monthly != null ? monthly : List.of());
+        } catch (RuntimeException e) {
+            log.warn("백테스트 곡선 변환 실패: id={}, {}", rs.getLong(1), e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> List<T> readList(String json, TypeReference<List<T>> typeRef) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, typeRef);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
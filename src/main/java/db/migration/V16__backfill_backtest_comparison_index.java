@@ -0,0 +1,127 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 기존 백테스트 결과에 비교 인덱스를 채운다: strategy_config의 숫자 파라미터를 backtest_result_params 행으로, curve_data를 다운샘플링한
+ * curve_summary로.
+ *
+ * <p>파라미터 추출과 곡선 요약은 이 마이그레이션 작성 시점의 애플리케이션 규칙(숫자이고 이름이 50자 이하인 항목, 120포인트 다운샘플링)을 고정한 사본을 쓰므로 이후
+ * 애플리케이션 코드가 바뀌어도 결과가 달라지지 않는다. ID 순으로 배치 단위 처리한다.
+ */
+@Slf4j
+public class V16__backfill_backtest_comparison_index extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 200;
+
+    /** 파라미터 이름 최대 길이 (backtest_result_params.param_name) */
+    private static final int MAX_NAME_LENGTH = 50;
+
+    /** 비교 차트용 곡선 요약 포인트 수 */
+    private static final int SUMMARY_POINTS = 120;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        int params = 0;
+        int summaries = 0;
+        long lastId = 0;
+
+        try (PreparedStatement select =
+                        connection.prepareStatement(
+                                "SELECT id, strategy_config, curve_data FROM backtest_results"
+                                        + " WHERE id > ? ORDER BY id");
+                PreparedStatement insertParam =
+                        connection.prepareStatement(
+                                "INSERT INTO backtest_result_params"
+                                        + " (backtest_result_id, param_name, param_value)"
+                                        + " VALUES (?, ?, ?)");
+                PreparedStatement updateSummary =
+                        connection.prepareStatement(
+                                "UPDATE backtest_results SET curve_summary = ? WHERE id = ?")) {
+            select.setMaxRows(BATCH_SIZE);
+            while (true) {
+                select.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        lastId = rs.getLong(1);
+
+                        for (Map.Entry<String, Double> param :
+                                numericValues(readConfig(rs.getString(2))).entrySet()) {
+                            insertParam.setLong(1, lastId);
+                            insertParam.setString(2, param.getKey());
+                            insertParam.setDouble(3, param.getValue());
+                            insertParam.addBatch();
+                            params++;
+                        }
+
+                        byte[] summary = summarize(lastId, rs.getBytes(3));
+                        if (summary != null) {
+                            updateSummary.setBytes(1, summary);
+                            updateSummary.setLong(2, lastId);
+                            updateSummary.addBatch();
+                            summaries++;
+                        }
+                    }
+                }
+                insertParam.executeBatch();
+                updateSummary.executeBatch();
+                if (rows < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+        log.info("백테스트 비교 인덱스 백필 완료: 파라미터 {}건, 곡선 요약 {}건", params, summaries);
+    }
+
+    private Map<String, Object> readConfig(String json) {
+        if (json == null || json.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<>() {});
+        } catch (Exception e) {
+            return Map.of();
+        }
+    }
+
+    /** 숫자가 아니거나 이름이 너무 긴 항목을 뺀 숫자 파라미터 */
+    private static Map<String, Double> numericValues(Map<String, ?> config) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        config.forEach(
+                (name, value) -> {
+                    if (value instanceof Number number
+                            && name != null
+                            && name.length() <= MAX_NAME_LENGTH
+                            && Double.isFinite(number.doubleValue())) {
+                        result.put(name, number.doubleValue());
+                    }
+                });
+        return result;
+    }
+
+    private byte[] summarize(long id, byte[] curveData) {
+        if (curveData == null) {
+            return null;
+        }
+        try {
+            return BacktestCurvesV1.downsample(curveData, SUMMARY_POINTS);
+        } catch (IllegalArgumentException e) {
+            log.warn("백테스트 곡선 요약 실패: id={}, {}", id, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 기존 복기의 콤마 구분 태그(trade_reviews.tags)를 trade_review_tags 행으로 채운다.
+ *
+ * <p>분리 규칙은 이 마이그레이션 작성 시점의 저장 규칙(공백 제거, 빈 태그 제외, 100자 제한, 중복 제거)을 고정한 사본이라 이후 애플리케이션 코드가 바뀌어도 결과가
+ * 달라지지 않고, DB 방언에도 의존하지 않는다. ID 순으로 배치 단위 처리한다.
+ */
+@Slf4j
+public class V9_1__backfill_trade_review_tags extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    /** trade_review_tags.tag 컬럼 길이 */
+    private static final int MAX_TAG_LENGTH = 100;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        int tags = 0;
+        long lastId = 0;
+
+        try (PreparedStatement select =
+                        connection.prepareStatement(
+                                "SELECT id, tags FROM trade_reviews"
+                                        + " WHERE id > ? AND tags IS NOT NULL ORDER BY id");
+                PreparedStatement insert =
+                        connection.prepareStatement(
+                                "INSERT INTO trade_review_tags (review_id, tag) VALUES (?, ?)")) {
+            select.setMaxRows(BATCH_SIZE);
+            while (true) {
+                select.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        lastId = rs.getLong(1);
+                        for (String tag : parse(rs.getString(2))) {
+                            insert.setLong(1, lastId);
+                            insert.setString(2, tag);
+                            insert.addBatch();
+                            tags++;
+                        }
+                    }
+                }
+                insert.executeBatch();
+                if (rows < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+        log.info("복기 태그 백필 완료: {}건", tags);
+    }
+
+    /** 쉼표 구분 태그 문자열을 정규화된 태그 집합으로 변환 (공백 제거, 빈 태그/중복 제외, 최대 길이로 자름) */
+    private static Set<String> parse(String tags) {
+        Set<String> result = new LinkedHashSet<>();
+        if (tags == null || tags.isBlank()) {
+            return result;
+        }
+        for (String raw : tags.split(",")) {
+            String tag = raw.trim();
+            if (!tag.isEmpty()) {
+                result.add(tag.length() > MAX_TAG_LENGTH ? tag.substring(0, MAX_TAG_LENGTH) : tag);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+-- FIFO tax lot ledger
+-- Tax reports re-ran FIFO over every transaction of the year on each request and could not see
+-- buys from earlier years. FifoCalculationService now records one row per (sell, consumed buy lot)
+-- and keeps per-account/year realized gain totals up to date incrementally.
+-- Existing sells are backfilled by TaxLedgerScheduler: FifoCalculationService.syncLedgerForYear
+-- recalculates any account whose sell count differs from its summary (or run POST /api/data/migrate/fifo).
+-- Amounts are encrypted like transactions (Base64 strings, TEXT); totals are summed in the application.
+-- account_key is account_id with 0 for "no account" so the unique key also covers those rows.
+
+CREATE TABLE IF NOT EXISTS tax_lots (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    account_id BIGINT,
+    stock_id BIGINT NOT NULL REFERENCES stocks(id),
+    sell_transaction_id BIGINT NOT NULL,
+    buy_transaction_id BIGINT,
+    quantity TEXT NOT NULL,
+    cost_basis TEXT NOT NULL,
+    proceeds TEXT NOT NULL,
+    realized_gain TEXT NOT NULL,
+    acquired_at TIMESTAMP,
+    disposed_at TIMESTAMP NOT NULL,
+    tax_year INTEGER NOT NULL,
+    holding_days INTEGER NOT NULL,
+    long_term BOOLEAN NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tax_lot_year_account ON tax_lots(tax_year, account_id);
+CREATE INDEX IF NOT EXISTS idx_tax_lot_account_stock ON tax_lots(account_id, stock_id);
+CREATE INDEX IF NOT EXISTS idx_tax_lot_sell ON tax_lots(sell_transaction_id);
+
+CREATE TABLE IF NOT EXISTS realized_gain_summaries (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    account_id BIGINT,
+    account_key BIGINT NOT NULL,
+    tax_year INTEGER NOT NULL,
+    sell_count INTEGER NOT NULL DEFAULT 0,
+    lot_count INTEGER NOT NULL DEFAULT 0,
+    proceeds TEXT NOT NULL,
+    cost_basis TEXT NOT NULL,
+    total_gain TEXT NOT NULL,
+    total_loss TEXT NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT,
+    CONSTRAINT uk_gain_summary_account_year UNIQUE (account_key, tax_year)
+);
+
+CREATE INDEX IF NOT EXISTS idx_gain_summary_year ON realized_gain_summaries(tax_year);
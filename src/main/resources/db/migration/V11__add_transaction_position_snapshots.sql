@@ -0,0 +1,11 @@
+-- Running position snapshots on transactions
+-- Each row stores the account/stock position (quantity, total investment) right after it,
+-- so portfolio maintenance applies new trades incrementally and back-dated edits replay
+-- only from the affected date instead of the whole history.
+-- Values are encrypted like the portfolio amounts they mirror, hence TEXT.
+
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS position_quantity TEXT;
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS position_investment TEXT;
+
+-- Replay seeks on (account, stock) in (transaction_date, id) order
+CREATE INDEX IF NOT EXISTS idx_transaction_position_replay ON transactions(account_id, stock_id, transaction_date, id);
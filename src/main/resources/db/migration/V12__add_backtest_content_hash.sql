@@ -0,0 +1,8 @@
+-- Backtest result deduplication
+-- Async backtest jobs hash the request (normalized parameters) together with a price-data
+-- version; a stored result with the same hash is returned instead of re-running the simulation.
+-- Results computed on fallback sample prices keep a NULL hash and are never reused.
+
+ALTER TABLE backtest_results ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_backtest_content_hash ON backtest_results(content_hash);
@@ -0,0 +1,6 @@
+-- Compact binary storage for backtest chart curves
+-- Dates, equity, drawdown, benchmark and monthly performance are stored as one deflated columnar
+-- payload (delta-encoded epoch days and scaled longs, see BacktestCurves) instead of six JSON TEXT
+-- columns. Existing rows are converted and the JSON columns dropped by the Java migration V14.
+
+ALTER TABLE backtest_results ADD COLUMN IF NOT EXISTS curve_data BYTEA;
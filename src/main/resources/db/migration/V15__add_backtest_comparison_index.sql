@@ -0,0 +1,28 @@
+-- Backtest comparison index
+-- Comparison and top-K search read only metric columns and a pre-downsampled curve summary,
+-- never trade rows. Metric columns are indexed so ORDER BY <metric> LIMIT k is an index scan,
+-- and numeric strategy parameters get their own rows so parameter range filters are index
+-- lookups instead of parsing strategy_config JSON.
+-- Existing rows are backfilled by the Java migration V16.
+
+ALTER TABLE backtest_results ADD COLUMN IF NOT EXISTS curve_summary BYTEA;
+
+CREATE TABLE IF NOT EXISTS backtest_result_params (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    backtest_result_id BIGINT NOT NULL REFERENCES backtest_results(id) ON DELETE CASCADE,
+    param_name VARCHAR(50) NOT NULL,
+    param_value DOUBLE PRECISION NOT NULL,
+    CONSTRAINT uk_backtest_param UNIQUE (backtest_result_id, param_name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_backtest_param_value ON backtest_result_params(param_name, param_value);
+
+CREATE INDEX IF NOT EXISTS idx_backtest_symbol ON backtest_results(symbol);
+CREATE INDEX IF NOT EXISTS idx_backtest_total_return ON backtest_results(total_return);
+CREATE INDEX IF NOT EXISTS idx_backtest_sharpe ON backtest_results(sharpe_ratio);
+CREATE INDEX IF NOT EXISTS idx_backtest_sortino ON backtest_results(sortino_ratio);
+CREATE INDEX IF NOT EXISTS idx_backtest_cagr ON backtest_results(cagr);
+CREATE INDEX IF NOT EXISTS idx_backtest_max_drawdown ON backtest_results(max_drawdown);
+CREATE INDEX IF NOT EXISTS idx_backtest_win_rate ON backtest_results(win_rate);
+CREATE INDEX IF NOT EXISTS idx_backtest_profit_factor ON backtest_results(profit_factor);
+CREATE INDEX IF NOT EXISTS idx_backtest_executed_at ON backtest_results(executed_at);
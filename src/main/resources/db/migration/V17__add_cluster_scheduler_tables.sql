@@ -0,0 +1,36 @@
+-- Cluster-safe scheduled jobs
+-- Scheduled jobs ran on every node. @ClusterJob methods now run only on the node holding the
+-- job's lease (a conditional UPDATE on scheduler_leases), sharded jobs split their keys across
+-- the nodes with a recent heartbeat in scheduler_nodes, and every executed run is recorded in
+-- job_run_history with its duration.
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    lease_name VARCHAR(150) PRIMARY KEY,
+    owner VARCHAR(100),
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS scheduler_nodes (
+    node_id VARCHAR(100) PRIMARY KEY,
+    started_at TIMESTAMP NOT NULL,
+    last_heartbeat TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduler_node_heartbeat ON scheduler_nodes(last_heartbeat);
+
+CREATE TABLE IF NOT EXISTS job_run_history (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    node_id VARCHAR(100) NOT NULL,
+    shard_index INTEGER NOT NULL,
+    shard_count INTEGER NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    status VARCHAR(20) NOT NULL,
+    error_message VARCHAR(500)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_run_job_started ON job_run_history(job_name, started_at);
+CREATE INDEX IF NOT EXISTS idx_job_run_started ON job_run_history(started_at);
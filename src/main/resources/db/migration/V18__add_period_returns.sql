@@ -0,0 +1,20 @@
+-- Precomputed period returns
+-- Treemap and period-performance widgets read one row per symbol for the requested period
+-- (1D/1W/1M/MTD/3M/6M/YTD/1Y) instead of scanning each holding's price history. Rows are
+-- recomputed for a symbol whenever new historical prices are saved; the end date is the
+-- symbol's latest close and the start close is the close on or just before the period start.
+
+CREATE TABLE IF NOT EXISTS period_returns (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    symbol VARCHAR(20) NOT NULL,
+    period VARCHAR(10) NOT NULL,
+    start_date DATE NOT NULL,
+    start_close DECIMAL(15,4) NOT NULL,
+    end_date DATE NOT NULL,
+    end_close DECIMAL(15,4) NOT NULL,
+    return_percent DECIMAL(12,4) NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_period_return_symbol_period UNIQUE (symbol, period)
+);
+
+CREATE INDEX IF NOT EXISTS idx_period_return_period_symbol ON period_returns(period, symbol);
@@ -0,0 +1,6 @@
+-- Keyset pagination indexes for transaction listing
+-- Transaction lists seek on (transaction_date, id) in descending order instead of OFFSET,
+-- so each page costs the same regardless of depth.
+
+CREATE INDEX IF NOT EXISTS idx_transaction_date_id ON transactions(transaction_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_transaction_account_date_id ON transactions(account_id, transaction_date DESC, id DESC);
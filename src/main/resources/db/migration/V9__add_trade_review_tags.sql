@@ -0,0 +1,15 @@
+-- Normalized trade review tags
+-- trade_reviews.tags is a comma-separated string; tag search used LIKE '%tag%' (full scan,
+-- substring matches). Each tag now gets its own row so tag filters are index lookups.
+-- Rows are maintained by TradeReviewService on create/update/delete.
+
+CREATE TABLE IF NOT EXISTS trade_review_tags (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    review_id BIGINT NOT NULL REFERENCES trade_reviews(id) ON DELETE CASCADE,
+    tag VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_review_tag UNIQUE (review_id, tag)
+);
+
+CREATE INDEX IF NOT EXISTS idx_review_tag_tag ON trade_review_tags(tag, review_id);
+
+-- Existing reviews are backfilled by V9_1__backfill_trade_review_tags (Java, reuses TradeReviewTag.parse)
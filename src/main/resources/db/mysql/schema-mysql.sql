@@ -211,6 +211,8 @@ create table transactions (
     commission TEXT,
     cost_basis TEXT,
     notes varchar(255),
+    position_investment TEXT,
+    position_quantity TEXT,
     price TEXT not null,
     quantity TEXT not null,
     type enum ('BUY','SELL') not null,
@@ -272,6 +274,51 @@ create table trade_reviews (
     primary key (id)
 ) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
 
+-- trade_review_tags depends on trade_reviews (normalized tag index, Flyway V9)
+create table trade_review_tags (
+    id bigint not null auto_increment,
+    review_id bigint not null,
+    tag varchar(100) not null,
+    primary key (id),
+    constraint uk_review_tag unique (review_id, tag)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
+-- tax_lots / realized_gain_summaries: FIFO tax lot ledger (Flyway V10)
+create table tax_lots (
+    id bigint not null auto_increment,
+    account_id bigint,
+    stock_id bigint not null,
+    sell_transaction_id bigint not null,
+    buy_transaction_id bigint,
+    quantity text not null,
+    cost_basis text not null,
+    proceeds text not null,
+    realized_gain text not null,
+    acquired_at datetime(6),
+    disposed_at datetime(6) not null,
+    tax_year integer not null,
+    holding_days integer not null,
+    long_term bit not null,
+    primary key (id)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
+create table realized_gain_summaries (
+    id bigint not null auto_increment,
+    account_id bigint,
+    account_key bigint not null,
+    tax_year integer not null,
+    sell_count integer not null,
+    lot_count integer not null,
+    proceeds text not null,
+    cost_basis text not null,
+    total_gain text not null,
+    total_loss text not null,
+    updated_at datetime(6),
+    version bigint,
+    primary key (id),
+    constraint uk_gain_summary_account_year unique (account_key, tax_year)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
 -- -----------------------------------------------------------------------------
 -- 4. backtest_results -> backtest_trades
 -- -----------------------------------------------------------------------------
@@ -299,19 +346,26 @@ create table backtest_results (
     executed_at datetime(6),
     execution_time_ms bigint,
     id bigint not null auto_increment,
+    content_hash varchar(64),
     strategy_type varchar(50),
     symbol varchar(50),
     strategy_name varchar(100) not null,
-    benchmark_curve_json TEXT,
-    drawdown_curve_json TEXT,
-    equity_curve_json TEXT,
-    equity_labels_json TEXT,
-    monthly_performance_json TEXT,
-    normalized_equity_curve_json TEXT,
+    curve_data longblob,
+    curve_summary blob,
     strategy_config TEXT,
     primary key (id)
 ) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
 
+-- backtest_result_params: numeric strategy parameter index for range filters (Flyway V15)
+create table backtest_result_params (
+    param_value double precision not null,
+    backtest_result_id bigint not null,
+    id bigint not null auto_increment,
+    param_name varchar(50) not null,
+    primary key (id),
+    constraint uk_backtest_param unique (backtest_result_id, param_name)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
 create table backtest_trades (
     entry_date date not null,
     entry_price decimal(15,2),
@@ -383,7 +437,7 @@ create table alerts (
     message TEXT,
     related_entity_type varchar(255),
     title varchar(255) not null,
-    alert_type enum ('CUSTOM','DAILY_LOSS_LIMIT','DRAWDOWN_WARNING','GOAL_COMPLETED','GOAL_DEADLINE','GOAL_MILESTONE','GOAL_OVERDUE','LOSING_STREAK','LOSS_LIMIT','PORTFOLIO_CHANGE','POSITION_SIZE','PROFIT_TARGET','SECTOR_CONCENTRATION','SYSTEM_INFO','SYSTEM_WARNING','TRADE_EXECUTED','WINNING_STREAK') not null,
+    alert_type enum ('CUSTOM','DAILY_LOSS_LIMIT','DRAWDOWN_WARNING','GOAL_COMPLETED','GOAL_DEADLINE','GOAL_MILESTONE','GOAL_OVERDUE','LOSING_STREAK','LOSS_LIMIT','PORTFOLIO_CHANGE','POSITION_SIZE','PROFIT_TARGET','SECTOR_CONCENTRATION','SYSTEM_INFO','SYSTEM_WARNING','TILT_WARNING','TRADE_EXECUTED','WINNING_STREAK') not null,
     priority enum ('CRITICAL','HIGH','LOW','MEDIUM') not null,
     status enum ('ARCHIVED','DISMISSED','READ','UNREAD') not null,
     primary key (id)
@@ -470,6 +524,36 @@ create table historical_prices (
     constraint UK2gt2lpndinaud5f5m78w8o1g9 unique (symbol, price_date)
 ) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
 
+-- period_returns: precomputed period returns (Flyway V18)
+create table period_returns (
+    end_close decimal(15,4) not null,
+    end_date date not null,
+    return_percent decimal(12,4) not null,
+    start_close decimal(15,4) not null,
+    start_date date not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    period varchar(10) not null,
+    symbol varchar(20) not null,
+    primary key (id),
+    constraint uk_period_return_symbol_period unique (symbol, period)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
+-- job_run_history / scheduler_leases / scheduler_nodes: cluster scheduler (Flyway V17)
+create table job_run_history (
+    id bigint not null auto_increment,
+    job_name varchar(100) not null,
+    node_id varchar(100) not null,
+    shard_index integer not null,
+    shard_count integer not null,
+    started_at datetime(6) not null,
+    finished_at datetime(6),
+    duration_ms bigint,
+    status enum ('FAILED','SUCCESS') not null,
+    error_message varchar(500),
+    primary key (id)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
 create table price_alert (
     current_price decimal(15,2),
     is_active bit not null,
@@ -494,6 +578,21 @@ create table price_alert (
         check (`condition` in ('GREATER_THAN','LESS_THAN','EQUALS','PERCENT_UP','PERCENT_DOWN'))
 ) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
 
+create table scheduler_leases (
+    lease_name varchar(150) not null,
+    owner varchar(100),
+    locked_until datetime(6) not null,
+    locked_at datetime(6),
+    primary key (lease_name)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
+create table scheduler_nodes (
+    node_id varchar(100) not null,
+    started_at datetime(6) not null,
+    last_heartbeat datetime(6) not null,
+    primary key (node_id)
+) engine=InnoDB default charset=utf8mb4 collate=utf8mb4_unicode_ci;
+
 create table stock_fundamentals (
     average_volume decimal(15,0),
     beta decimal(10,4),
@@ -652,6 +751,12 @@ alter table trade_plans
     add constraint FKs1am72uryx5mpa51ujcqwk6gb foreign key (account_id) references accounts (id);
 alter table trade_plans
     add constraint FK7qid2gnx0nki8aq5q2srcaxdu foreign key (stock_id) references stocks (id);
+alter table tax_lots
+    add constraint fk_tax_lot_stock foreign key (stock_id) references stocks (id);
+alter table backtest_result_params
+    add constraint fk_backtest_param_result foreign key (backtest_result_id) references backtest_results (id) on delete cascade;
+alter table trade_review_tags
+    add constraint fk_review_tag_review foreign key (review_id) references trade_reviews (id) on delete cascade;
 alter table trade_reviews
     add constraint FKeej316b673a3ir7l0r3xefb6d foreign key (transaction_id) references transactions (id);
 alter table transactions
@@ -682,6 +787,21 @@ create index idx_alert_type on alerts (alert_type);
 create index idx_alert_created on alerts (created_at);
 create index idx_alert_account on alerts (account_id);
 
+-- backtest_results (content hash dedup, Flyway V12)
+create index idx_backtest_content_hash on backtest_results (content_hash);
+
+-- backtest_results metric columns / backtest_result_params (comparison top-K search, Flyway V15)
+create index idx_backtest_symbol on backtest_results (symbol);
+create index idx_backtest_total_return on backtest_results (total_return);
+create index idx_backtest_sharpe on backtest_results (sharpe_ratio);
+create index idx_backtest_sortino on backtest_results (sortino_ratio);
+create index idx_backtest_cagr on backtest_results (cagr);
+create index idx_backtest_max_drawdown on backtest_results (max_drawdown);
+create index idx_backtest_win_rate on backtest_results (win_rate);
+create index idx_backtest_profit_factor on backtest_results (profit_factor);
+create index idx_backtest_executed_at on backtest_results (executed_at);
+create index idx_backtest_param_value on backtest_result_params (param_name, param_value);
+
 -- dashboard_configs
 create index idx_dashboard_user on dashboard_configs (user_id);
 
@@ -729,6 +849,13 @@ create index idx_historical_symbol on historical_prices (symbol);
 create index idx_historical_date on historical_prices (price_date);
 create index idx_historical_symbol_date on historical_prices (symbol, price_date);
 
+-- period_returns
+create index idx_period_return_period_symbol on period_returns (period, symbol);
+
+-- job_run_history
+create index idx_job_run_job_started on job_run_history (job_name, started_at);
+create index idx_job_run_started on job_run_history (started_at);
+
 -- portfolios
 create index idx_portfolio_stock_id on portfolios (stock_id);
 create index idx_portfolio_account_id on portfolios (account_id);
@@ -749,6 +876,9 @@ create index idx_price_alert_triggered on price_alert (is_triggered);
 create index idx_saved_screen_user_id on saved_screen (user_id);
 create index idx_saved_screen_name on saved_screen (name);
 
+-- scheduler_nodes
+create index idx_scheduler_node_heartbeat on scheduler_nodes (last_heartbeat);
+
 -- stock_fundamentals
 create index idx_fundamentals_symbol on stock_fundamentals (symbol);
 create index idx_fundamentals_sector on stock_fundamentals (sector);
@@ -784,6 +914,15 @@ create index idx_trade_plan_stock on trade_plans (stock_id);
 create index idx_trade_plan_valid_until on trade_plans (valid_until);
 create index idx_trade_plan_created on trade_plans (created_at);
 
+-- tax_lots / realized_gain_summaries
+create index idx_tax_lot_year_account on tax_lots (tax_year, account_id);
+create index idx_tax_lot_account_stock on tax_lots (account_id, stock_id);
+create index idx_tax_lot_sell on tax_lots (sell_transaction_id);
+create index idx_gain_summary_year on realized_gain_summaries (tax_year);
+
+-- trade_review_tags
+create index idx_review_tag_tag on trade_review_tags (tag, review_id);
+
 -- trading_journals
 create index idx_journal_date on trading_journals (journal_date);
 create index idx_journal_account on trading_journals (account_id);
@@ -794,12 +933,16 @@ create index idx_stock_date on transactions (stock_id, transaction_date);
 create index idx_transaction_account_stock on transactions (account_id, stock_id);
 create index idx_transaction_account_date on transactions (account_id, transaction_date);
 create index idx_transaction_fifo on transactions (account_id, stock_id, type, transaction_date, remaining_quantity);
+create index idx_transaction_position_replay on transactions (account_id, stock_id, transaction_date, id);
 -- V1 performance indexes
 create index idx_transaction_stock_date_perf on transactions (stock_id, transaction_date desc);
 create index idx_transaction_type_date_perf on transactions (type, transaction_date desc);
 create index idx_transaction_date_range on transactions (transaction_date desc);
 create index idx_transaction_audit_created on transactions (created_at);
 create index idx_transaction_audit_updated on transactions (updated_at);
+-- V8 keyset pagination indexes
+create index idx_transaction_date_id on transactions (transaction_date desc, id desc);
+create index idx_transaction_account_date_id on transactions (account_id, transaction_date desc, id desc);
 
 -- users
 create index idx_user_username on users (username);
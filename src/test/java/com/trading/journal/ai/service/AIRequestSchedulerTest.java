@@ -0,0 +1,173 @@
+package com.trading.journal.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.trading.journal.ai.client.OllamaClient;
+import com.trading.journal.ai.config.OllamaConfig;
+import com.trading.journal.exception.JobQueueFullException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class AIRequestSchedulerTest {
+
+    private AIRequestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AIRequestScheduler();
+        ReflectionTestUtils.setField(scheduler, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(scheduler, "queueCapacity", 3);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘는 요청은 대기 후 순서대로 실행된다")
+    void submit_limitsConcurrency() {
+        Sinks.One<String> first = Sinks.one();
+        Mono<String> a = scheduler.submit("u1", "k1", first::asMono).cache();
+        Mono<String> b = scheduler.submit("u1", "k2", () -> Mono.just("B")).cache();
+        a.subscribe();
+        b.subscribe();
+
+        assertThat(scheduler.getRunningCount()).isEqualTo(1);
+        assertThat(scheduler.getWaitingCount()).isEqualTo(1);
+
+        first.tryEmitValue("A");
+
+        assertThat(a.block(Duration.ofSeconds(1))).isEqualTo("A");
+        assertThat(b.block(Duration.ofSeconds(1))).isEqualTo("B");
+        assertThat(scheduler.getRunningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열은 사용자별 라운드로빈으로 처리된다")
+    void dispatch_isFairAcrossUsers() {
+        Sinks.One<String> blocker = Sinks.one();
+        List<String> order = new ArrayList<>();
+        scheduler.submit("u0", "block", blocker::asMono).subscribe();
+        for (String key : List.of("u1-a", "u1-b", "u2-a")) {
+            String user = key.substring(0, 2);
+            scheduler
+                    .submit(
+                            user,
+                            key,
+                            () ->
+                                    Mono.fromCallable(
+                                            () -> {
+                                                order.add(key);
+                                                return key;
+                                            }))
+                    .subscribe();
+        }
+
+        blocker.tryEmitValue("done");
+
+        assertThat(order).containsExactly("u1-a", "u2-a", "u1-b");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 JobQueueFullException")
+    void submit_queueFull_rejects() {
+        scheduler.submit("u1", "block", () -> Mono.never()).subscribe();
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit("u1", "w" + i, () -> Mono.just("x")).subscribe();
+        }
+
+        assertThatThrownBy(() -> scheduler.submit("u2", "overflow", () -> Mono.just("x")).block())
+                .isInstanceOf(JobQueueFullException.class);
+    }
+
+    @Test
+    @DisplayName("모의 Ollama 서버: 동일 프롬프트 동시 요청은 한 번만 생성하고 이후에는 캐시 응답")
+    void mockOllama_deduplicatesAndCaches() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/api/generate",
+                exchange -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    byte[] body =
+                            "{\"model\":\"llama3\",\"response\":\"분석 결과\",\"done\":true}"
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+        try {
+            OllamaConfig config = new OllamaConfig();
+            WebClient webClient =
+                    WebClient.builder()
+                            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                            .build();
+            OllamaClient ollamaClient = new OllamaClient(webClient, config);
+            String key = AIRequestScheduler.requestKey("v1", "system", "prompt");
+
+            List<Mono<String>> requests = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Mono<String> request =
+                        scheduler
+                                .submit(
+                                        "u" + i,
+                                        key,
+                                        () ->
+                                                ollamaClient
+                                                        .generate("prompt", "system")
+                                                        .map(r -> r.getContent()))
+                                .cache();
+                request.subscribe();
+                requests.add(request);
+            }
+            release.countDown();
+
+            for (Mono<String> request : requests) {
+                assertThat(request.block(Duration.ofSeconds(5))).isEqualTo("분석 결과");
+            }
+            String cached =
+                    scheduler
+                            .submit("u9", key, () -> Mono.error(new IllegalStateException()))
+                            .block(Duration.ofSeconds(1));
+
+            assertThat(cached).isEqualTo("분석 결과");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("컨텍스트는 같은 키로 재계산하지 않는다")
+    void cachedContext_reusesValue() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+
+        scheduler.cachedContext("PERFORMANCE|1|v1", () -> "ctx" + builds.incrementAndGet());
+        String second =
+                scheduler.cachedContext("PERFORMANCE|1|v1", () -> "ctx" + builds.incrementAndGet());
+
+        assertThat(second).isEqualTo("ctx1");
+        assertThat(builds.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,131 @@
+package com.trading.journal.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.ai.dto.ChatMessageDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatSessionStoreTest {
+
+    private static final String SYSTEM_PROMPT = "당신은 트레이딩 어시스턴트입니다.";
+
+    @Mock private ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    private ChatSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(null);
+        store = new ChatSessionStore(redisTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("컨텍스트는 시스템 프롬프트와 지금까지의 턴을 포함한다")
+    void appendUserMessage_returnsContext() {
+        store.appendUserMessage("s1", SYSTEM_PROMPT, "안녕");
+        store.appendAssistantMessage("s1", "반갑습니다");
+
+        List<ChatMessageDto> context = store.appendUserMessage("s1", SYSTEM_PROMPT, "질문");
+
+        assertThat(context)
+                .extracting(ChatMessageDto::getRole)
+                .containsExactly("system", "user", "assistant", "user");
+        assertThat(context.get(3).getContent()).isEqualTo("질문");
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘으면 오래된 턴은 잘라 낸 발췌로 접히고 최신 메시지는 유지된다")
+    void appendUserMessage_foldsOldTurnsIntoExcerpts() {
+        ReflectionTestUtils.setField(store, "contextTokenBudget", 200);
+        ReflectionTestUtils.setField(store, "excerptTokenBudget", 80);
+
+        List<ChatMessageDto> context = null;
+        for (int i = 0; i < 30; i++) {
+            context =
+                    store.appendUserMessage("s1", SYSTEM_PROMPT, "메시지 " + i + " " + "가".repeat(60));
+            store.appendAssistantMessage("s1", "응답 " + i);
+        }
+
+        int tokens =
+                context.stream()
+                        .mapToInt(m -> ChatSessionStore.estimateTokens(m.getContent()))
+                        .sum();
+        assertThat(tokens).isLessThanOrEqualTo(200 + 80 + 20);
+        assertThat(context.get(0).getContent()).isEqualTo(SYSTEM_PROMPT);
+        assertThat(context.get(1).getContent()).startsWith("이전 대화 발췌");
+        assertThat(context.get(context.size() - 1).getContent()).startsWith("메시지 29");
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션을 제거한다")
+    void maxSessions_evictsLeastRecentlyUsed() {
+        ReflectionTestUtils.setField(store, "maxSessions", 2);
+
+        store.appendUserMessage("a", SYSTEM_PROMPT, "1");
+        store.appendUserMessage("b", SYSTEM_PROMPT, "2");
+        store.appendUserMessage("a", SYSTEM_PROMPT, "3");
+        store.appendUserMessage("c", SYSTEM_PROMPT, "4");
+
+        assertThat(store.size()).isEqualTo(2);
+        List<ChatMessageDto> b = store.appendUserMessage("b", SYSTEM_PROMPT, "5");
+        assertThat(b).hasSize(2); // 새 세션으로 시작
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 세션은 정리된다")
+    void evictExpired_removesIdleSessions() throws InterruptedException {
+        ReflectionTestUtils.setField(store, "sessionTtlMinutes", 0L);
+        store.appendUserMessage("a", SYSTEM_PROMPT, "1");
+        Thread.sleep(5);
+
+        store.evictExpired();
+
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis가 있으면 세션 스냅샷을 저장하고 다른 노드에서 복원한다")
+    @SuppressWarnings("unchecked")
+    void redisPersistence_restoresSession() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        store.appendUserMessage("s1", SYSTEM_PROMPT, "안녕");
+
+        ArgumentCaptor<Object> snapshot = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations)
+                .set(eq("ai:chat:session:s1"), snapshot.capture(), any(Duration.class));
+
+        ChatSessionStore otherNode = new ChatSessionStore(redisTemplateProvider);
+        when(valueOperations.get(anyString())).thenReturn(snapshot.getValue());
+
+        List<ChatMessageDto> context = otherNode.appendUserMessage("s1", SYSTEM_PROMPT, "다음");
+
+        assertThat((Map<String, Object>) snapshot.getValue()).containsKey("messages");
+        assertThat(context)
+                .extracting(ChatMessageDto::getContent)
+                .containsExactly(SYSTEM_PROMPT, "안녕", "다음");
+    }
+}
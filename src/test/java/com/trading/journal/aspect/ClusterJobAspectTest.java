@@ -0,0 +1,168 @@
+package com.trading.journal.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.annotation.ClusterJob;
+import com.trading.journal.scheduler.JobShard;
+import com.trading.journal.service.ClusterSchedulerService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterJobAspectTest {
+
+    @Mock private ClusterSchedulerService clusterSchedulerService;
+    @Mock private ProceedingJoinPoint joinPoint;
+
+    @InjectMocks private ClusterJobAspect clusterJobAspect;
+
+    static class Jobs {
+        @ClusterJob("cleanup")
+        void cleanup() {}
+
+        @ClusterJob(value = "monitor", sharded = true, lockAtLeastForSeconds = 0)
+        void monitor() {}
+    }
+
+    private static ClusterJob annotation(String method) throws Exception {
+        return Jobs.class.getDeclaredMethod(method).getAnnotation(ClusterJob.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(clusterSchedulerService.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("리스를 얻지 못하면 실행하지 않고 이력도 남기지 않는다")
+    void runWithLease_leaseHeld_skips() throws Throwable {
+        when(clusterSchedulerService.tryAcquire(eq("cleanup"), any(), any())).thenReturn(false);
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("cleanup"));
+
+        verify(joinPoint, never()).proceed();
+        verify(clusterSchedulerService, never()).recordRun(any(), any(), any(), anyLong(), any());
+        verify(clusterSchedulerService, never()).release(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("리스를 얻으면 실행하고 성공 이력을 남긴 뒤 최소 유지 시간으로 반납한다")
+    void runWithLease_acquired_runsAndReleases() throws Throwable {
+        when(clusterSchedulerService.tryAcquire(
+                        eq("cleanup"), any(LocalDateTime.class), eq(Duration.ofSeconds(600))))
+                .thenReturn(true);
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("cleanup"));
+
+        verify(joinPoint).proceed();
+        verify(clusterSchedulerService)
+                .recordRun(eq("cleanup"), eq(JobShard.ALL), any(), anyLong(), isNull());
+        verify(clusterSchedulerService)
+                .release(eq("cleanup"), any(LocalDateTime.class), eq(Duration.ofSeconds(30)));
+        verify(clusterSchedulerService, never()).currentShard();
+    }
+
+    @Test
+    @DisplayName("샤드 작업은 샤드별 리스를 잡고 실행 중에만 현재 샤드를 바인딩한다")
+    void runWithLease_sharded_bindsShard() throws Throwable {
+        JobShard shard = new JobShard(1, 3);
+        when(clusterSchedulerService.currentShard()).thenReturn(Optional.of(shard));
+        when(clusterSchedulerService.tryAcquire(eq("monitor#1"), any(), any())).thenReturn(true);
+        JobShard[] seen = new JobShard[1];
+        when(joinPoint.proceed())
+                .thenAnswer(
+                        invocation -> {
+                            seen[0] = JobShard.current();
+                            return null;
+                        });
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("monitor"));
+
+        assertThat(seen[0]).isEqualTo(shard);
+        assertThat(JobShard.current()).isEqualTo(JobShard.ALL);
+        verify(clusterSchedulerService)
+                .recordRun(eq("monitor"), eq(shard), any(), anyLong(), isNull());
+        verify(clusterSchedulerService).release(eq("monitor#1"), any(), eq(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("샤드 리스 키는 샤드 수와 무관하게 작업 이름과 샤드 번호로 정해진다")
+    void runWithLease_sharded_leaseIgnoresCount() throws Throwable {
+        when(clusterSchedulerService.currentShard()).thenReturn(Optional.of(new JobShard(1, 2)));
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("monitor"));
+
+        verify(clusterSchedulerService).tryAcquire(eq("monitor#1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("아직 멤버십 에포크에 들지 않은 노드는 샤드 작업을 건너뛴다")
+    void runWithLease_sharded_notMember_skips() throws Throwable {
+        when(clusterSchedulerService.currentShard()).thenReturn(Optional.empty());
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("monitor"));
+
+        verify(joinPoint, never()).proceed();
+        verify(clusterSchedulerService, never()).tryAcquire(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 실패 이력을 남기고 리스를 반납한 뒤 예외를 전파한다")
+    void runWithLease_failure_recordedAndRethrown() throws Throwable {
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(clusterSchedulerService.tryAcquire(any(), any(), any())).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        assertThatThrownBy(() -> clusterJobAspect.runWithLease(joinPoint, annotation("cleanup")))
+                .isSameAs(failure);
+
+        verify(clusterSchedulerService)
+                .recordRun(eq("cleanup"), eq(JobShard.ALL), any(), anyLong(), eq(failure));
+        verify(clusterSchedulerService).release(eq("cleanup"), any(), any());
+    }
+
+    @Test
+    @DisplayName("클러스터 스케줄링이 꺼져 있으면 리스 없이 바로 실행한다")
+    void runWithLease_disabled_proceeds() throws Throwable {
+        when(clusterSchedulerService.isEnabled()).thenReturn(false);
+
+        clusterJobAspect.runWithLease(joinPoint, annotation("cleanup"));
+
+        verify(joinPoint).proceed();
+        verify(clusterSchedulerService, never()).tryAcquire(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("샤드들은 키를 빠짐없이 한 번씩 나눠 가진다")
+    void jobShard_partitionsKeys() {
+        int count = 3;
+        for (String key : new String[] {"AAPL", "MSFT", "005930", "TSLA", "NVDA"}) {
+            long owners =
+                    IntStream.range(0, count)
+                            .filter(index -> new JobShard(index, count).owns(key))
+                            .count();
+            assertThat(owners).isEqualTo(1);
+        }
+        assertThat(JobShard.ALL.owns("anything")).isTrue();
+        assertThatThrownBy(() -> new JobShard(3, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.trading.journal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trading.journal.entity.SchedulerLease;
+import com.trading.journal.entity.SchedulerNode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+@DisplayName("스케줄러 리스/노드 쿼리")
+class SchedulerLeaseRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired private SchedulerLeaseRepository leaseRepository;
+    @Autowired private SchedulerNodeRepository nodeRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.saveAndFlush(
+                SchedulerLease.builder().name("job").lockedUntil(NOW.minusMinutes(1)).build());
+    }
+
+    private SchedulerLease reload(String name) {
+        entityManager.clear();
+        return leaseRepository.findById(name).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("만료된 리스는 획득하고, 보유 중인 리스는 다른 노드가 획득하지 못한다")
+    void tryAcquire_isExclusiveUntilExpiry() {
+        assertThat(leaseRepository.tryAcquire("job", "node-a", NOW, NOW.plusMinutes(10)))
+                .isEqualTo(1);
+        assertThat(
+                        leaseRepository.tryAcquire(
+                                "job", "node-b", NOW.plusMinutes(5), NOW.plusMinutes(15)))
+                .isZero();
+
+        SchedulerLease lease = reload("job");
+        assertThat(lease.getOwner()).isEqualTo("node-a");
+        assertThat(lease.getLockedUntil()).isEqualTo(NOW.plusMinutes(10));
+
+        assertThat(
+                        leaseRepository.tryAcquire(
+                                "job", "node-b", NOW.plusMinutes(10), NOW.plusMinutes(20)))
+                .isEqualTo(1);
+        assertThat(reload("job").getOwner()).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("소유 노드는 만료 전에도 다시 획득할 수 있다")
+    void tryAcquire_ownerReacquires() {
+        leaseRepository.tryAcquire("job", "node-a", NOW, NOW.plusMinutes(10));
+
+        assertThat(
+                        leaseRepository.tryAcquire(
+                                "job", "node-a", NOW.plusMinutes(1), NOW.plusMinutes(11)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반납은 소유 노드만 할 수 있다")
+    void release_onlyByOwner() {
+        leaseRepository.tryAcquire("job", "node-a", NOW, NOW.plusMinutes(10));
+
+        assertThat(leaseRepository.release("job", "node-b", NOW)).isZero();
+        assertThat(leaseRepository.release("job", "node-a", NOW.plusSeconds(30))).isEqualTo(1);
+        assertThat(reload("job").getLockedUntil()).isEqualTo(NOW.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("행이 없는 리스는 획득되지 않는다")
+    void tryAcquire_missingRow() {
+        assertThat(leaseRepository.tryAcquire("other", "node-a", NOW, NOW.plusMinutes(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("하트비트가 최근인 노드만 ID 순으로 반환하고 오래된 노드를 정리한다")
+    void liveNodes_orderedAndStalePruned() {
+        nodeRepository.save(node("node-b", NOW));
+        nodeRepository.save(node("node-a", NOW.minusSeconds(10)));
+        nodeRepository.save(node("node-c", NOW.minusMinutes(5)));
+        nodeRepository.flush();
+
+        assertThat(nodeRepository.findLiveNodeIds(NOW.minusSeconds(45)))
+                .containsExactly("node-a", "node-b");
+        assertThat(nodeRepository.heartbeat("node-c", NOW)).isEqualTo(1);
+        assertThat(nodeRepository.heartbeat("node-x", NOW)).isZero();
+
+        entityManager.clear();
+        assertThat(nodeRepository.deleteStale(NOW.minusSeconds(5))).isEqualTo(1);
+        assertThat(nodeRepository.findLiveNodeIds(NOW.minusMinutes(10)))
+                .containsExactly("node-b", "node-c");
+    }
+
+    @Test
+    @DisplayName("멤버십 에포크는 에포크 시작 전에 등록됐고 그 직전 하트비트가 있던 노드만 센다")
+    void memberNodes_fixedForEpoch() {
+        LocalDateTime epochStart = NOW.minusSeconds(20);
+        nodeRepository.save(node("node-b", NOW));
+        nodeRepository.save(
+                SchedulerNode.builder()
+                        .nodeId("node-a")
+                        .startedAt(NOW.minusHours(1))
+                        .lastHeartbeat(NOW)
+                        .build());
+        nodeRepository.save(node("node-c", NOW.minusMinutes(5)));
+        nodeRepository.flush();
+
+        // node-b는 에포크 시작 뒤에 합류, node-c는 에포크 시작 전에 하트비트가 끊김
+        assertThat(nodeRepository.findMemberNodeIds(epochStart, epochStart.minusSeconds(45)))
+                .containsExactly("node-a");
+    }
+
+    private static SchedulerNode node(String id, LocalDateTime heartbeat) {
+        return SchedulerNode.builder()
+                .nodeId(id)
+                .startedAt(heartbeat)
+                .lastHeartbeat(heartbeat)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.trading.journal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.AccountType;
+import com.trading.journal.entity.EmotionState;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.TradeReviewTag;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@DisplayName("복기 태그 인덱스 쿼리")
+class TradeReviewTagRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired private TradeReviewRepository tradeReviewRepository;
+    @Autowired private TradeReviewTagRepository tradeReviewTagRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private StockRepository stockRepository;
+    @Autowired private AccountRepository accountRepository;
+
+    private Account account;
+    private Stock stock;
+
+    @BeforeEach
+    void setUp() {
+        stock = stockRepository.save(Stock.builder().symbol("AAPL").name("Apple").build());
+        account =
+                accountRepository.save(
+                        Account.builder()
+                                .name("main")
+                                .accountType(AccountType.GENERAL)
+                                .isDefault(true)
+                                .userId(1L)
+                                .build());
+
+        saveReview(BASE, "-100", EmotionState.FEARFUL, "추격매수, 손절지연");
+        saveReview(BASE.plusDays(1), "-50", EmotionState.FEARFUL, "추격매수");
+        saveReview(BASE.plusDays(2), "80", EmotionState.CALM, "손절지연,뉴스");
+        // 부분 문자열 "추격"만으로는 매칭되지 않아야 한다
+        saveReview(BASE.plusDays(3), "-20", EmotionState.CALM, "추격");
+    }
+
+    private void saveReview(LocalDateTime date, String pnl, EmotionState emotion, String tags) {
+        Transaction transaction =
+                transactionRepository.save(
+                        Transaction.builder()
+                                .account(account)
+                                .stock(stock)
+                                .type(TransactionType.SELL)
+                                .quantity(new BigDecimal("10"))
+                                .price(new BigDecimal("100.00"))
+                                .realizedPnl(new BigDecimal(pnl))
+                                .transactionDate(date)
+                                .build());
+        TradeReview review =
+                tradeReviewRepository.save(
+                        TradeReview.builder()
+                                .transaction(transaction)
+                                .emotionBefore(emotion)
+                                .tags(tags)
+                                .build());
+        TradeReviewTag.parse(tags)
+                .forEach(
+                        tag ->
+                                tradeReviewTagRepository.save(
+                                        TradeReviewTag.builder().review(review).tag(tag).build()));
+    }
+
+    @Test
+    @DisplayName("OR 검색은 태그가 하나라도 일치하는 복기를, AND 검색은 모든 태그가 있는 복기만 찾는다")
+    void findByTags_anyAndAll() {
+        Page<TradeReview> any =
+                tradeReviewRepository.findByAnyTag(Set.of("추격매수", "뉴스"), PageRequest.of(0, 10));
+        assertThat(any.getTotalElements()).isEqualTo(3);
+
+        Page<TradeReview> all =
+                tradeReviewRepository.findByAllTags(
+                        Set.of("추격매수", "손절지연"), 2, PageRequest.of(0, 10));
+        assertThat(all.getTotalElements()).isEqualTo(1);
+        assertThat(all.getContent().get(0).getTags()).isEqualTo("추격매수, 손절지연");
+    }
+
+    @Test
+    @DisplayName("태그별 복기 수와 손실 거래 태그, 감정-태그 상관관계를 태그 단위로 집계한다")
+    void aggregatesByTag() {
+        List<Object[]> counts = tradeReviewTagRepository.countByTag(PageRequest.of(0, 2));
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(0)[1]).isEqualTo(2L);
+
+        List<Object[]> losing =
+                tradeReviewTagRepository.findLosingTradeTagsByAccount(
+                        account.getId(), BASE, BASE.plusDays(10));
+        assertThat(losing)
+                .extracting(row -> (String) row[0])
+                .containsExactlyInAnyOrder("추격매수", "손절지연", "추격매수", "추격");
+
+        List<Object[]> correlation =
+                tradeReviewRepository.getEmotionMistakeCorrelation(
+                        account.getId(), BASE, BASE.plusDays(10));
+        assertThat(correlation)
+                .anySatisfy(
+                        row -> {
+                            assertThat(row[0]).isEqualTo(EmotionState.FEARFUL);
+                            assertThat(row[1]).isEqualTo("추격매수");
+                            assertThat(row[2]).isEqualTo(2L);
+                        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.trading.journal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trading.journal.dto.TransactionListItemDto;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.AccountType;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@DisplayName("TransactionRepository 커서 페이지네이션 쿼리")
+class TransactionRepositoryKeysetTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private StockRepository stockRepository;
+    @Autowired private AccountRepository accountRepository;
+
+    private Account user1Account;
+
+    @BeforeEach
+    void setUp() {
+        Stock apple = stockRepository.save(Stock.builder().symbol("AAPL").name("Apple").build());
+        Stock tesla = stockRepository.save(Stock.builder().symbol("TSLA").name("Tesla").build());
+        user1Account = accountRepository.save(account("u1", 1L));
+        Account user2Account = accountRepository.save(account("u2", 2L));
+
+        // 같은 거래일시가 섞인 7건 - ID로 순서가 결정되어야 한다
+        for (int i = 0; i < 7; i++) {
+            saveTx(user1Account, i % 2 == 0 ? apple : tesla, BASE.plusDays(i / 2));
+        }
+        saveTx(user2Account, apple, BASE.plusDays(10));
+    }
+
+    private Account account(String name, Long userId) {
+        return Account.builder()
+                .name(name)
+                .accountType(AccountType.GENERAL)
+                .isDefault(true)
+                .userId(userId)
+                .build();
+    }
+
+    private void saveTx(Account account, Stock stock, LocalDateTime date) {
+        transactionRepository.save(
+                Transaction.builder()
+                        .account(account)
+                        .stock(stock)
+                        .type(TransactionType.BUY)
+                        .quantity(new BigDecimal("10"))
+                        .price(new BigDecimal("100.00"))
+                        .commission(new BigDecimal("1.00"))
+                        .transactionDate(date)
+                        .build());
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 중복/누락 없이 거래일시, ID 내림차순으로 전체를 순회한다")
+    void seekPages_coverAllRowsInOrder() {
+        List<TransactionListItemDto> all = new ArrayList<>();
+        List<TransactionListItemDto> page =
+                transactionRepository.findListItemsFirstPage(1L, null, null, PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            TransactionListItemDto last = page.get(page.size() - 1);
+            page =
+                    transactionRepository.findListItemsAfter(
+                            1L,
+                            null,
+                            null,
+                            last.getTransactionDate(),
+                            last.getId(),
+                            PageRequest.of(0, 3));
+        }
+
+        assertThat(all).hasSize(7);
+        assertThat(all).extracting(TransactionListItemDto::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < all.size(); i++) {
+            TransactionListItemDto prev = all.get(i - 1);
+            TransactionListItemDto curr = all.get(i);
+            assertThat(
+                            curr.getTransactionDate().isBefore(prev.getTransactionDate())
+                                    || (curr.getTransactionDate().equals(prev.getTransactionDate())
+                                            && curr.getId() < prev.getId()))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("금액 제외 프로젝션은 암호화 컬럼을 채우지 않는다")
+    void listItems_withoutAmounts() {
+        List<TransactionListItemDto> page =
+                transactionRepository.findListItemsFirstPage(1L, null, null, PageRequest.of(0, 1));
+
+        assertThat(page.get(0).getStockSymbol()).isNotNull();
+        assertThat(page.get(0).getAccountName()).isEqualTo("u1");
+        assertThat(page.get(0).getPrice()).isNull();
+        assertThat(page.get(0).getTotalAmount()).isNull();
+    }
+
+    @Test
+    @DisplayName("금액 포함 프로젝션은 복호화된 금액과 총액을 반환한다")
+    void listItems_withAmounts() {
+        List<TransactionListItemDto> page =
+                transactionRepository.findListItemsWithAmountsFirstPage(
+                        1L, user1Account.getId(), "AAPL", PageRequest.of(0, 10));
+
+        assertThat(page).hasSize(4).allMatch(item -> item.getStockSymbol().equals("AAPL"));
+        assertThat(page.get(0).getPrice()).isEqualByComparingTo("100.00");
+        assertThat(page.get(0).getTotalAmount()).isEqualByComparingTo("1001.00");
+    }
+
+    @Test
+    @DisplayName("다른 유저의 거래는 조회되지 않는다")
+    void listItems_scopesToUser() {
+        List<TransactionListItemDto> page =
+                transactionRepository.findListItemsFirstPage(2L, null, null, PageRequest.of(0, 10));
+
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0).getAccountName()).isEqualTo("u2");
+    }
+}
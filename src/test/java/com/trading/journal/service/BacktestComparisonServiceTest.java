@@ -0,0 +1,192 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.trading.journal.dto.BacktestComparisonDto;
+import com.trading.journal.dto.BacktestComparisonDto.ComparedBacktest;
+import com.trading.journal.dto.BacktestResultDto.MonthlyPerformance;
+import com.trading.journal.dto.BacktestSearchRequestDto;
+import com.trading.journal.dto.BacktestSearchRequestDto.Metric;
+import com.trading.journal.dto.BacktestSearchRequestDto.ParamRange;
+import com.trading.journal.entity.BacktestResult;
+import com.trading.journal.entity.BacktestResultParam;
+import com.trading.journal.repository.BacktestResultRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(BacktestComparisonService.class)
+@DisplayName("백테스트 비교 인덱스 조회")
+class BacktestComparisonServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Autowired private BacktestComparisonService backtestComparisonService;
+    @Autowired private BacktestResultRepository backtestResultRepository;
+
+    private BacktestResult fast;
+    private BacktestResult slow;
+    private BacktestResult rsi;
+
+    @BeforeEach
+    void setUp() {
+        fast = save("MA 5/20", "MOVING_AVERAGE", "AAPL", "12.5", "1.8", "8.0", 5, 20);
+        slow = save("MA 20/60", "MOVING_AVERAGE", "AAPL", "20.0", "1.2", "15.0", 20, 60);
+        rsi = save("RSI 14", "RSI", "MSFT", "5.0", "2.1", "4.0", 14, null);
+        save("MA 10/30", "MOVING_AVERAGE", "AAPL", "-3.0", null, "12.0", 10, 30);
+    }
+
+    private BacktestResult save(
+            String name,
+            String type,
+            String symbol,
+            String totalReturn,
+            String sharpe,
+            String drawdown,
+            int shortPeriod,
+            Integer longPeriod) {
+        BacktestResult result =
+                BacktestResult.builder()
+                        .strategyName(name)
+                        .strategyType(type)
+                        .symbol(symbol)
+                        .startDate(START)
+                        .endDate(START.plusMonths(6))
+                        .initialCapital(new BigDecimal("10000000"))
+                        .finalCapital(new BigDecimal("11000000"))
+                        .totalReturn(new BigDecimal(totalReturn))
+                        .sharpeRatio(sharpe != null ? new BigDecimal(sharpe) : null)
+                        .maxDrawdown(new BigDecimal(drawdown))
+                        .totalTrades(10)
+                        .curveSummary(curve())
+                        .build();
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("shortPeriod", shortPeriod);
+        if (longPeriod != null) {
+            config.put("longPeriod", longPeriod);
+        }
+        config.put("label", "ignored");
+        BacktestResultParam.numericValues(config)
+                .forEach(
+                        (param, value) ->
+                                result.getParams()
+                                        .add(
+                                                BacktestResultParam.builder()
+                                                        .backtestResult(result)
+                                                        .name(param)
+                                                        .value(value)
+                                                        .build()));
+        return backtestResultRepository.save(result);
+    }
+
+    private static byte[] curve() {
+        List<LocalDate> dates = new ArrayList<>();
+        List<BigDecimal> equity = new ArrayList<>();
+        List<BigDecimal> drawdown = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dates.add(START.plusDays(i));
+            equity.add(BigDecimal.valueOf(10_000_000L + i * 100_000L));
+            drawdown.add(BigDecimal.ZERO);
+        }
+        return BacktestCurves.encode(
+                dates,
+                equity,
+                drawdown,
+                equity,
+                List.of(
+                        new MonthlyPerformance(
+                                "2024-01", new BigDecimal("2.5"), 3, new BigDecimal("50000"))));
+    }
+
+    private List<Long> ids(List<ComparedBacktest> rows) {
+        return rows.stream().map(ComparedBacktest::getId).toList();
+    }
+
+    @Test
+    @DisplayName("지표 순 상위 K개를 반환하고 지표 값이 없는 결과는 제외한다")
+    void searchTopBacktests_ordersByMetric() {
+        List<ComparedBacktest> top =
+                backtestComparisonService.searchTopBacktests(
+                        BacktestSearchRequestDto.builder()
+                                .metric(Metric.SHARPE_RATIO)
+                                .limit(10)
+                                .build());
+
+        assertThat(ids(top)).containsExactly(rsi.getId(), fast.getId(), slow.getId());
+    }
+
+    @Test
+    @DisplayName("최대 낙폭은 낮은 순으로 정렬한다")
+    void searchTopBacktests_drawdownAscending() {
+        List<ComparedBacktest> top =
+                backtestComparisonService.searchTopBacktests(
+                        BacktestSearchRequestDto.builder()
+                                .metric(Metric.MAX_DRAWDOWN)
+                                .limit(2)
+                                .build());
+
+        assertThat(ids(top)).containsExactly(rsi.getId(), fast.getId());
+    }
+
+    @Test
+    @DisplayName("전략 타입, 종목, 파라미터 범위로 거른다")
+    void searchTopBacktests_filtersByParamRange() {
+        List<ComparedBacktest> top =
+                backtestComparisonService.searchTopBacktests(
+                        BacktestSearchRequestDto.builder()
+                                .metric(Metric.TOTAL_RETURN)
+                                .strategyType("moving_average")
+                                .symbol("aapl")
+                                .paramRanges(
+                                        List.of(
+                                                ParamRange.builder()
+                                                        .name("shortPeriod")
+                                                        .max(10.0)
+                                                        .build(),
+                                                ParamRange.builder()
+                                                        .name("longPeriod")
+                                                        .min(20.0)
+                                                        .max(40.0)
+                                                        .build()))
+                                .build());
+
+        assertThat(ids(top)).hasSize(2).startsWith(fast.getId());
+    }
+
+    @Test
+    @DisplayName("비교는 거래 없이 지표와 곡선 요약으로 만든다")
+    void compareBacktests_usesCurveSummaries() {
+        BacktestComparisonDto comparison =
+                backtestComparisonService.compareBacktests(List.of(slow.getId(), fast.getId()));
+
+        assertThat(ids(comparison.getBacktests())).containsExactly(slow.getId(), fast.getId());
+        assertThat(comparison.getRankings().getByTotalReturn().get(0).getBacktestId())
+                .isEqualTo(slow.getId());
+        assertThat(comparison.getChartData().getLabels()).hasSize(10);
+        assertThat(comparison.getChartData().getEquityCurves().get(fast.getId()).get(0))
+                .isEqualByComparingTo("0");
+        assertThat(comparison.getChartData().getMonthlyReturns()).hasSize(1);
+        assertThat(comparison.getSummary().getBestReturnStrategy()).isEqualTo("MA 20/60");
+    }
+
+    @Test
+    @DisplayName("유효한 백테스트가 2개 미만이면 예외")
+    void compareBacktests_missingIds_throws() {
+        assertThatThrownBy(
+                        () ->
+                                backtestComparisonService.compareBacktests(
+                                        List.of(fast.getId(), -1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.trading.journal.dto.BacktestResultDto.MonthlyPerformance;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BacktestCurvesTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private static List<LocalDate> dates(int n) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            dates.add(START.plusDays(i * 7L));
+        }
+        return dates;
+    }
+
+    private static List<BigDecimal> series(int n, double start, double step) {
+        List<BigDecimal> values = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            values.add(BigDecimal.valueOf(start + i * step));
+        }
+        return values;
+    }
+
+    private static byte[] encode(int n) {
+        return BacktestCurves.encode(
+                dates(n),
+                series(n, 10_000_000, 12_345.678),
+                series(n, 0, -0.12345),
+                series(n, 10_000_000, 9_876.5),
+                List.of(
+                        new MonthlyPerformance(
+                                "2024-01", new BigDecimal("3.5"), 2, new BigDecimal("150000")),
+                        new MonthlyPerformance(
+                                "2024-03",
+                                new BigDecimal("-1.25"),
+                                1,
+                                new BigDecimal("-42000.5"))));
+    }
+
+    @Test
+    @DisplayName("인코딩한 곡선을 스케일에 맞춰 그대로 복원한다")
+    void encode_roundTrips() {
+        BacktestCurves curves = BacktestCurves.decode(encode(100));
+
+        assertThat(curves.size()).isEqualTo(100);
+        assertThat(curves.labels().get(0)).isEqualTo("2024-01-01");
+        assertThat(curves.labels().get(99)).isEqualTo(START.plusDays(99 * 7L).toString());
+        assertThat(curves.equityCurve().get(1)).isEqualByComparingTo("10012345.68");
+        assertThat(curves.drawdownCurve().get(1)).isEqualByComparingTo("-0.1235");
+        assertThat(curves.benchmarkCurve().get(99)).isEqualByComparingTo("10977773.50");
+
+        List<MonthlyPerformance> monthly = curves.monthlyPerformance();
+        assertThat(monthly).hasSize(2);
+        assertThat(monthly.get(1).getMonth()).isEqualTo("2024-03");
+        assertThat(monthly.get(1).getTradeCount()).isEqualTo(1);
+        assertThat(monthly.get(1).getProfit()).isEqualByComparingTo("-42000.50");
+        assertThat(monthly.get(1).getReturnPct()).isEqualByComparingTo("-1.25");
+    }
+
+    @Test
+    @DisplayName("정규화 곡선은 equity 곡선에서 0-100으로 계산한다")
+    void normalizedEquityCurve_scalesToPercent() {
+        List<BigDecimal> normalized = BacktestCurves.decode(encode(11)).normalizedEquityCurve();
+
+        assertThat(normalized.get(0)).isEqualByComparingTo("0");
+        assertThat(normalized.get(10)).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("구간 조회는 최대 포인트 수로 다운샘플링하고 마지막 포인트를 포함한다")
+    void range_downsamplesKeepingLastPoint() {
+        BacktestCurves curves = BacktestCurves.decode(encode(1000));
+
+        BacktestCurves.Range range = curves.range(null, null, 50);
+
+        assertThat(range.totalPoints()).isEqualTo(1000);
+        assertThat(range.labels()).hasSizeLessThanOrEqualTo(50);
+        assertThat(range.labels().get(0)).isEqualTo("2024-01-01");
+        assertThat(range.labels().get(range.labels().size() - 1))
+                .isEqualTo(START.plusDays(999 * 7L).toString());
+        assertThat(range.equityCurve()).hasSameSizeAs(range.labels());
+        assertThat(range.drawdownCurve()).hasSameSizeAs(range.labels());
+    }
+
+    @Test
+    @DisplayName("날짜 구간 밖의 포인트는 제외한다")
+    void range_filtersByDate() {
+        BacktestCurves curves = BacktestCurves.decode(encode(100));
+
+        BacktestCurves.Range range = curves.range(START.plusDays(7), START.plusDays(27), 100);
+
+        assertThat(range.labels()).containsExactly("2024-01-08", "2024-01-15", "2024-01-22");
+        assertThat(range.totalPoints()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("바이너리는 JSON보다 작다")
+    void encode_isSmallerThanJson() {
+        byte[] encoded = encode(1000);
+        String json = series(1000, 10_000_000, 12_345.678).toString();
+
+        assertThat(encoded.length).isLessThan(json.length() / 4);
+    }
+
+    @Test
+    @DisplayName("곡선 길이가 다르면 예외")
+    void encode_lengthMismatch_throws() {
+        assertThatThrownBy(
+                        () ->
+                                BacktestCurves.encode(
+                                        dates(3),
+                                        series(2, 0, 1),
+                                        series(3, 0, 1),
+                                        series(3, 0, 1),
+                                        List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
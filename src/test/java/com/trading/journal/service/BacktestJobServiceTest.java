@@ -0,0 +1,183 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.dto.BacktestJobDto;
+import com.trading.journal.dto.BacktestJobDto.JobPriority;
+import com.trading.journal.dto.BacktestJobDto.JobStatus;
+import com.trading.journal.dto.BacktestRequestDto;
+import com.trading.journal.dto.BacktestResultDto;
+import com.trading.journal.exception.ResourceNotFoundException;
+import com.trading.journal.strategy.TradingStrategy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BacktestJobServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 6, 30);
+    private static final String HASH = "hash-1";
+
+    @Mock private BacktestService backtestService;
+    @Mock private SecurityContextService securityContextService;
+
+    @InjectMocks private BacktestJobService backtestJobService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(backtestJobService, "workerThreads", 1);
+        ReflectionTestUtils.setField(backtestJobService, "queueCapacity", 5);
+        ReflectionTestUtils.setField(backtestJobService, "resultTtlMinutes", 30L);
+        backtestJobService.init();
+
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(1L));
+        when(backtestService.contentHash(any(BacktestRequestDto.class))).thenReturn(HASH);
+        when(backtestService.findResultIdByContentHash(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        backtestJobService.destroy();
+    }
+
+    private BacktestRequestDto request() {
+        return BacktestRequestDto.builder()
+                .symbol("AAPL")
+                .strategyType(TradingStrategy.StrategyType.MOVING_AVERAGE)
+                .startDate(START)
+                .endDate(END)
+                .initialCapital(new BigDecimal("10000000"))
+                .build();
+    }
+
+    private void waitForStatus(String jobId, JobStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (backtestJobService.getJob(jobId).getStatus() != status
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("제출한 작업이 완료되면 결과 ID를 반환한다")
+    void submit_completesWithResultId() throws InterruptedException {
+        when(backtestService.runBacktest(any(), eq(HASH), any()))
+                .thenReturn(BacktestResultDto.builder().id(42L).build());
+
+        BacktestJobDto submitted = backtestJobService.submit(request(), JobPriority.NORMAL);
+        waitForStatus(submitted.getJobId(), JobStatus.COMPLETED);
+
+        BacktestJobDto job = backtestJobService.getJob(submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getResultId()).isEqualTo(42L);
+        assertThat(job.getResultUrl()).isEqualTo("/api/backtest/42");
+        assertThat(job.isCacheHit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 콘텐츠 해시의 저장 결과가 있으면 계산 없이 즉시 완료한다")
+    void submit_storedResult_completesImmediately() {
+        when(backtestService.findResultIdByContentHash(HASH)).thenReturn(Optional.of(7L));
+
+        BacktestJobDto job = backtestJobService.submit(request(), JobPriority.NORMAL);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.isCacheHit()).isTrue();
+        assertThat(job.getResultId()).isEqualTo(7L);
+        verify(backtestService, never()).runBacktest(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("같은 요청이 실행 중이면 기존 작업을 반환한다")
+    void submit_sameRequestInFlight_returnsExistingJob() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(backtestService.runBacktest(any(), eq(HASH), any()))
+                .thenAnswer(
+                        invocation -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            return BacktestResultDto.builder().id(1L).build();
+                        });
+
+        BacktestJobDto first = backtestJobService.submit(request(), JobPriority.NORMAL);
+        BacktestJobDto second = backtestJobService.submit(request(), JobPriority.HIGH);
+        release.countDown();
+        waitForStatus(first.getJobId(), JobStatus.COMPLETED);
+
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        verify(backtestService, times(1)).runBacktest(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업을 취소하면 다음 진행 보고에서 중단된다")
+    void cancel_runningJob_stopsAtNextProgress() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        when(backtestService.runBacktest(any(), eq(HASH), any()))
+                .thenAnswer(
+                        invocation -> {
+                            BacktestService.ProgressListener listener = invocation.getArgument(2);
+                            listener.onProgress(50, 100);
+                            started.countDown();
+                            cancelled.await(5, TimeUnit.SECONDS);
+                            listener.onProgress(100, 100);
+                            return BacktestResultDto.builder().id(1L).build();
+                        });
+
+        BacktestJobDto submitted = backtestJobService.submit(request(), JobPriority.NORMAL);
+        started.await(5, TimeUnit.SECONDS);
+        assertThat(backtestJobService.getJob(submitted.getJobId()).getProgressPercent())
+                .isEqualTo(50);
+
+        backtestJobService.cancel(submitted.getJobId());
+        cancelled.countDown();
+        waitForStatus(submitted.getJobId(), JobStatus.CANCELLED);
+
+        BacktestJobDto job = backtestJobService.getJob(submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(job.getResultId()).isNull();
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외")
+    void submit_invalidPeriod_throws() {
+        BacktestRequestDto invalid = request();
+        invalid.setStartDate(END);
+        invalid.setEndDate(START);
+
+        assertThatThrownBy(() -> backtestJobService.submit(invalid, JobPriority.NORMAL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+    void getJob_otherUser_notFound() {
+        when(backtestService.findResultIdByContentHash(HASH)).thenReturn(Optional.of(7L));
+        BacktestJobDto job = backtestJobService.submit(request(), JobPriority.NORMAL);
+
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(2L));
+
+        assertThatThrownBy(() -> backtestJobService.getJob(job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trading.journal.entity.BenchmarkType;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(
+        properties = {
+            "jwt.secret=test-jwt-secret-key-for-unit-testing-minimum-32-characters-required",
+            "admin.password=TestAdminPassword123!"
+        })
+@DisplayName("벤치마크 비교 결과 캐시 무효화")
+class BenchmarkComparisonCacheTest {
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache("benchmarkComparison");
+        cache.put("1_SP500_2024-01-01_2024-12-31", "cached");
+    }
+
+    @Test
+    @DisplayName("벤치마크 가격이 바뀌면 비교 결과 캐시를 비운다")
+    void benchmarkPricesChanged_evicts() {
+        eventPublisher.publishEvent(new BenchmarkPricesChangedEvent(Set.of(BenchmarkType.SP500)));
+
+        assertThat(cache.get("1_SP500_2024-01-01_2024-12-31")).isNull();
+    }
+
+    @Test
+    @DisplayName("과거 거래가 바뀌면 비교 결과 캐시를 비운다")
+    void tradeHistoryChanged_evicts() {
+        eventPublisher.publishEvent(new TradeHistoryChangedEvent(1L, null, LocalDateTime.now()));
+
+        assertThat(cache.get("1_SP500_2024-01-01_2024-12-31")).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.trading.journal.service.BenchmarkComparisonEngine.AlignedSeries;
+import com.trading.journal.service.BenchmarkComparisonEngine.Result;
+import com.trading.journal.service.BenchmarkComparisonEngine.Series;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkComparisonEngineTest {
+
+    private static final double[] BENCHMARK = {1.0, -0.5, 0.8, -1.2, 0.3, 0.6, -0.4, 1.1};
+
+    @Test
+    @DisplayName("공통 날짜만 남기고 정렬 병합한다")
+    void align_keepsCommonDates() {
+        LocalDate d1 = LocalDate.of(2024, 1, 2);
+        Series portfolio =
+                new Series(
+                        new LocalDate[] {d1, d1.plusDays(1), d1.plusDays(3)},
+                        new double[] {1, 2, 3});
+        Series benchmark =
+                new Series(
+                        new LocalDate[] {d1.plusDays(1), d1.plusDays(2), d1.plusDays(3)},
+                        new double[] {10, 20, 30});
+
+        AlignedSeries aligned = BenchmarkComparisonEngine.align(portfolio, benchmark);
+
+        assertThat(aligned.dates()).containsExactly(d1.plusDays(1), d1.plusDays(3));
+        assertThat(aligned.portfolio()).containsExactly(2, 3);
+        assertThat(aligned.benchmark()).containsExactly(10, 30);
+    }
+
+    @Test
+    @DisplayName("벤치마크의 2배 레버리지 포트폴리오는 베타 2, 상관 1, 포착률 약 200%")
+    void compare_leveragedPortfolio() {
+        double[] portfolio = new double[BENCHMARK.length];
+        for (int i = 0; i < BENCHMARK.length; i++) {
+            portfolio[i] = BENCHMARK[i] * 2;
+        }
+
+        Result result = BenchmarkComparisonEngine.compare(portfolio, BENCHMARK, 0, 4);
+
+        assertThat(result.beta()).isCloseTo(2.0, within(1e-9));
+        assertThat(result.correlation()).isCloseTo(1.0, within(1e-9));
+        assertThat(result.upCaptureRatio()).isCloseTo(200.0, within(5.0));
+        assertThat(result.downCaptureRatio()).isCloseTo(200.0, within(5.0));
+        assertThat(result.rollingBeta()[2]).isNaN();
+        assertThat(result.rollingBeta()[3]).isCloseTo(2.0, within(1e-9));
+        assertThat(result.rollingBeta()[7]).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("동일한 시계열은 추적오차 0, 알파 0")
+    void compare_identicalSeries() {
+        Result result = BenchmarkComparisonEngine.compare(BENCHMARK, BENCHMARK, 3.0, 4);
+
+        assertThat(result.trackingError()).isCloseTo(0.0, within(1e-9));
+        assertThat(result.informationRatio()).isZero();
+        assertThat(result.alpha()).isCloseTo(0.0, within(1e-9));
+        assertThat(result.portfolioTotalReturn()).isEqualTo(result.benchmarkTotalReturn());
+    }
+
+    @Test
+    @DisplayName("누적 수익률과 최대 낙폭은 복리 기준")
+    void compare_compoundsReturns() {
+        Result result =
+                BenchmarkComparisonEngine.compare(
+                        new double[] {10, -50, 10}, new double[] {0, 0, 0}, 0, 2);
+
+        // 1.1 * 0.5 * 1.1 - 1 = -39.5%
+        assertThat(result.portfolioTotalReturn()).isCloseTo(-39.5, within(1e-9));
+        assertThat(result.portfolioMaxDrawdown()).isCloseTo(50.0, within(1e-9));
+        assertThat(BenchmarkComparisonEngine.compound(new double[] {10, 10}, 0, 2))
+                .isCloseTo(21.0, within(1e-9));
+    }
+}
@@ -2,10 +2,12 @@ package com.trading.journal.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.trading.journal.dto.BenchmarkComparisonDto;
 import com.trading.journal.dto.BenchmarkComparisonDto.BenchmarkSummary;
+import com.trading.journal.dto.BenchmarkComparisonDto.MultiBenchmarkComparison;
 import com.trading.journal.dto.EquityCurveDto;
 import com.trading.journal.entity.BenchmarkPrice;
 import com.trading.journal.entity.BenchmarkType;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BenchmarkServiceTest {
@@ -28,6 +31,7 @@ class BenchmarkServiceTest {
     @Mock private BenchmarkPriceRepository benchmarkPriceRepository;
     @Mock private AnalysisService analysisService;
     @Mock private BenchmarkDataProvider dataProvider;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private BenchmarkService benchmarkService;
 
@@ -38,7 +42,8 @@ class BenchmarkServiceTest {
     void setUp() {
         List<BenchmarkDataProvider> providers = Collections.singletonList(dataProvider);
         benchmarkService =
-                new BenchmarkService(benchmarkPriceRepository, analysisService, providers);
+                new BenchmarkService(
+                        benchmarkPriceRepository, analysisService, providers, eventPublisher);
 
         startDate = LocalDate.of(2024, 1, 1);
         endDate = LocalDate.of(2024, 3, 31);
@@ -126,6 +131,94 @@ class BenchmarkServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("복리 누적 및 다중 벤치마크 테스트")
+    class CompoundingAndMultiBenchmarkTests {
+
+        private void givenPortfolio(String... dailyReturns) {
+            List<String> dates =
+                    Arrays.asList("2024-01-02", "2024-01-03", "2024-01-04", "2024-01-05")
+                            .subList(0, dailyReturns.length);
+            EquityCurveDto equityCurve =
+                    EquityCurveDto.builder()
+                            .labels(dates)
+                            .dailyReturns(Arrays.stream(dailyReturns).map(BigDecimal::new).toList())
+                            .build();
+            when(analysisService.getEquityCurve(any(), any(), any())).thenReturn(equityCurve);
+        }
+
+        @Test
+        @DisplayName("누적 수익률은 단순 합산이 아닌 복리로 계산")
+        void compareToBenchmark_CompoundsCumulativeReturns() {
+            givenPortfolio("10", "10");
+            when(benchmarkPriceRepository.findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                            any(), any(), any()))
+                    .thenReturn(createBenchmarkPrices());
+
+            BenchmarkComparisonDto result =
+                    benchmarkService.compareToBenchmark(
+                            1L, BenchmarkType.SP500, startDate, endDate);
+
+            assertThat(result.getLabels()).containsExactly("2024-01-02", "2024-01-03");
+            assertThat(result.getPortfolioReturns().get(1)).isEqualByComparingTo("21.0000");
+            assertThat(result.getPortfolioTotalReturn()).isEqualByComparingTo("21.00");
+            assertThat(result.getMonthlyComparisons()).hasSize(1);
+            assertThat(result.getMonthlyComparisons().get(0).getPortfolioReturn())
+                    .isEqualByComparingTo("21.00");
+            assertThat(result.getYearlyComparisons()).hasSize(1);
+            assertThat(result.getRollingBeta()).hasSize(2).containsOnlyNulls();
+        }
+
+        @Test
+        @DisplayName("여러 벤치마크 비교 시 포트폴리오는 한 번만 조회하고 벤치마크 시계열은 캐시 재사용")
+        void compareToBenchmarks_ReusesSeries() {
+            givenPortfolio("0.01", "0.02", "-0.01", "0.015");
+            when(benchmarkPriceRepository.findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                            any(), any(), any()))
+                    .thenReturn(createBenchmarkPrices());
+
+            MultiBenchmarkComparison result =
+                    benchmarkService.compareToBenchmarks(
+                            1L,
+                            List.of(BenchmarkType.SP500, BenchmarkType.NASDAQ, BenchmarkType.SP500),
+                            startDate,
+                            endDate);
+            benchmarkService.compareToBenchmark(1L, BenchmarkType.SP500, startDate, endDate);
+
+            assertThat(result.getLabels()).hasSize(4);
+            assertThat(result.getBenchmarks())
+                    .extracting(MultiBenchmarkComparison.BenchmarkData::getType)
+                    .containsExactly(BenchmarkType.SP500, BenchmarkType.NASDAQ);
+            assertThat(result.getBenchmarks().get(0).getReturns()).hasSize(4);
+            assertThat(result.getBenchmarks().get(0).getBeta()).isNotNull();
+            verify(analysisService, times(2)).getEquityCurve(any(), any(), any());
+            verify(benchmarkPriceRepository, times(2))
+                    .findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("가격 변경 이벤트를 받으면 해당 벤치마크 시계열만 다시 조회")
+        void onBenchmarkPricesChanged_EvictsChangedBenchmarkOnly() {
+            givenPortfolio("0.01", "0.02", "-0.01", "0.015");
+            when(benchmarkPriceRepository.findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                            any(), any(), any()))
+                    .thenReturn(createBenchmarkPrices());
+            List<BenchmarkType> types = List.of(BenchmarkType.SP500, BenchmarkType.NASDAQ);
+            benchmarkService.compareToBenchmarks(1L, types, startDate, endDate);
+
+            benchmarkService.onBenchmarkPricesChanged(
+                    new BenchmarkPricesChangedEvent(Set.of(BenchmarkType.SP500)));
+            benchmarkService.compareToBenchmarks(1L, types, startDate, endDate);
+
+            verify(benchmarkPriceRepository, times(2))
+                    .findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                            eq(BenchmarkType.SP500), any(), any());
+            verify(benchmarkPriceRepository, times(1))
+                    .findByBenchmarkAndPriceDateBetweenOrderByPriceDateAsc(
+                            eq(BenchmarkType.NASDAQ), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("벤치마크 요약 테스트")
     class BenchmarkSummaryTests {
@@ -222,6 +315,8 @@ class BenchmarkServiceTest {
 
             assertThat(result).isNotNull();
             verify(benchmarkPriceRepository).save(price);
+            verify(eventPublisher)
+                    .publishEvent(new BenchmarkPricesChangedEvent(Set.of(BenchmarkType.SP500)));
         }
 
         @Test
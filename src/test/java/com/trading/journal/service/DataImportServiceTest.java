@@ -3,6 +3,7 @@ package com.trading.journal.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.trading.journal.dto.ImportResultDto;
@@ -10,6 +11,7 @@ import com.trading.journal.dto.TransactionDto;
 import com.trading.journal.entity.TransactionType;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,7 +49,7 @@ class DataImportServiceTest {
                         "text/csv",
                         csvContent.getBytes(StandardCharsets.UTF_8));
 
-        when(transactionService.createTransaction(any(TransactionDto.class)))
+        when(transactionService.createTransaction(any(TransactionDto.class), eq(true)))
                 .thenReturn(TransactionDto.builder().id(1L).build());
 
         // When
@@ -59,7 +61,8 @@ class DataImportServiceTest {
         assertThat(result.getFailureCount()).isEqualTo(0);
         assertThat(result.getErrors()).isEmpty();
 
-        verify(transactionService, times(2)).createTransaction(any(TransactionDto.class));
+        verify(transactionService, times(2)).createTransaction(any(TransactionDto.class), eq(true));
+        verify(transactionService).rebuildPositions(List.of(1L, 1L));
     }
 
     @Test
@@ -78,7 +81,7 @@ class DataImportServiceTest {
                         "text/csv",
                         csvContent.getBytes(StandardCharsets.UTF_8));
 
-        when(transactionService.createTransaction(any(TransactionDto.class)))
+        when(transactionService.createTransaction(any(TransactionDto.class), eq(true)))
                 .thenReturn(TransactionDto.builder().id(1L).build())
                 .thenThrow(new IllegalArgumentException("날짜 형식을 파싱할 수 없습니다"));
 
@@ -129,7 +132,7 @@ class DataImportServiceTest {
                         csvContent.getBytes(StandardCharsets.UTF_8));
 
         when(transactionService.createTransaction(
-                        argThat(dto -> dto.getType() == TransactionType.BUY)))
+                        argThat(dto -> dto.getType() == TransactionType.BUY), eq(true)))
                 .thenReturn(TransactionDto.builder().id(1L).build());
 
         // When
@@ -137,7 +140,7 @@ class DataImportServiceTest {
 
         // Then
         verify(transactionService)
-                .createTransaction(argThat(dto -> dto.getType() == TransactionType.BUY));
+                .createTransaction(argThat(dto -> dto.getType() == TransactionType.BUY), eq(true));
     }
 
     @Test
@@ -156,7 +159,7 @@ class DataImportServiceTest {
                         csvContent.getBytes(StandardCharsets.UTF_8));
 
         when(transactionService.createTransaction(
-                        argThat(dto -> dto.getType() == TransactionType.SELL)))
+                        argThat(dto -> dto.getType() == TransactionType.SELL), eq(true)))
                 .thenReturn(TransactionDto.builder().id(1L).build());
 
         // When
@@ -164,7 +167,7 @@ class DataImportServiceTest {
 
         // Then
         verify(transactionService)
-                .createTransaction(argThat(dto -> dto.getType() == TransactionType.SELL));
+                .createTransaction(argThat(dto -> dto.getType() == TransactionType.SELL), eq(true));
     }
 
     @Test
@@ -188,13 +191,14 @@ class DataImportServiceTest {
                                         dto.getQuantity().compareTo(new BigDecimal("1000")) == 0
                                                 && dto.getPrice()
                                                                 .compareTo(new BigDecimal("150.00"))
-                                                        == 0)))
+                                                        == 0),
+                        eq(true)))
                 .thenReturn(TransactionDto.builder().id(1L).build());
 
         // When
         dataImportService.importFromCsv(file);
 
         // Then
-        verify(transactionService).createTransaction(any());
+        verify(transactionService).createTransaction(any(), eq(true));
     }
 }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DividendServiceTest {
@@ -34,6 +35,8 @@ class DividendServiceTest {
 
     @Mock private PortfolioAnalysisService portfolioAnalysisService;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks private DividendService dividendService;
 
     private Stock mockStock;
@@ -88,6 +91,7 @@ class DividendServiceTest {
 
         verify(stockRepository).findById(1L);
         verify(dividendRepository).save(any(Dividend.class));
+        verify(eventPublisher).publishEvent(any(PortfolioChangedEvent.class));
     }
 
     @Test
@@ -103,6 +107,7 @@ class DividendServiceTest {
 
         verify(stockRepository).findById(1L);
         verify(dividendRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 import com.trading.journal.dto.FifoResult;
 import com.trading.journal.dto.FifoResult.BuyConsumption;
 import com.trading.journal.entity.Account;
+import com.trading.journal.entity.RealizedGainSummary;
 import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.entity.TransactionType;
@@ -35,6 +36,8 @@ class FifoCalculationServiceTest {
 
     @Mock private TransactionRepository transactionRepository;
 
+    @Mock private TaxLotLedgerService taxLotLedgerService;
+
     @InjectMocks private FifoCalculationService fifoCalculationService;
 
     private Account account;
@@ -425,6 +428,7 @@ class FifoCalculationServiceTest {
             assertThat(sellTx.getCostBasis()).isEqualByComparingTo("1005");
 
             verify(transactionRepository).saveAll(anyList());
+            verify(taxLotLedgerService).recordSell(sellTx, Collections.emptyList());
         }
 
         @Test
@@ -624,6 +628,7 @@ class FifoCalculationServiceTest {
             verify(transactionRepository)
                     .findByAccountIdAndStockIdOrderByTransactionDateAsc(1L, 1L);
             verify(transactionRepository).saveAll(allTransactions);
+            verify(taxLotLedgerService).replaceAccountStock(eq(1L), eq(1L), anyList(), anyList());
         }
 
         @Test
@@ -732,6 +737,61 @@ class FifoCalculationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("syncLedgerForYear 메서드")
+    class SyncLedgerForYearTests {
+
+        @Test
+        @DisplayName("매도 건수가 같아도 요약 이후 수정된 거래가 있는 계좌만 재계산")
+        void syncLedgerForYear_rebuildsAccountsEditedAfterSummary() {
+            LocalDateTime summarizedAt = LocalDateTime.of(2024, 6, 1, 0, 0);
+            when(taxLotLedgerService.findSummaries(2024, null))
+                    .thenReturn(
+                            List.of(summary(1L, 2, summarizedAt), summary(2L, 1, summarizedAt)));
+            when(transactionRepository.findLastUpdateByAccountBefore(any()))
+                    .thenReturn(
+                            List.<Object[]>of(
+                                    new Object[] {1L, summarizedAt.plusDays(1)},
+                                    new Object[] {2L, summarizedAt.minusDays(1)}));
+            when(transactionRepository.countSellsByAccountBetween(any(), any()))
+                    .thenReturn(List.<Object[]>of(new Object[] {1L, 2L}, new Object[] {2L, 1L}));
+            when(transactionRepository.findSellAccountStockPairsBetween(any(), any()))
+                    .thenReturn(List.<Object[]>of(new Object[] {1L, 10L}, new Object[] {2L, 20L}));
+            when(transactionRepository.findByAccountIdAndStockIdOrderByTransactionDateAsc(1L, 10L))
+                    .thenReturn(List.of());
+
+            int rebuilt = fifoCalculationService.syncLedgerForYear(2024);
+
+            assertThat(rebuilt).isEqualTo(1);
+            verify(transactionRepository, never())
+                    .findByAccountIdAndStockIdOrderByTransactionDateAsc(2L, 20L);
+        }
+
+        @Test
+        @DisplayName("조회 전 원장 확인은 노드에서 연도별로 한 번만 실행")
+        void ensureLedgerSynced_runsOncePerYear() {
+            when(taxLotLedgerService.findSummaries(2024, null)).thenReturn(List.of());
+            when(transactionRepository.findLastUpdateByAccountBefore(any())).thenReturn(List.of());
+            when(transactionRepository.countSellsByAccountBetween(any(), any()))
+                    .thenReturn(List.of());
+
+            fifoCalculationService.ensureLedgerSynced(2024);
+            fifoCalculationService.ensureLedgerSynced(2024);
+
+            verify(transactionRepository, times(1)).countSellsByAccountBetween(any(), any());
+        }
+
+        private RealizedGainSummary summary(
+                Long accountId, int sellCount, LocalDateTime updatedAt) {
+            return RealizedGainSummary.builder()
+                    .accountId(accountId)
+                    .taxYear(2024)
+                    .sellCount(sellCount)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("FIFO 통합 시나리오 테스트")
     class FifoIntegrationTests {
@@ -0,0 +1,170 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trading.journal.dto.FundamentalsRefreshJobDto;
+import com.trading.journal.dto.FundamentalsRefreshJobDto.JobStatus;
+import com.trading.journal.entity.StockFundamentals;
+import com.trading.journal.exception.ResourceNotFoundException;
+import com.trading.journal.repository.StockFundamentalsRepository;
+import com.trading.journal.repository.StockRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import yahoofinance.Stock;
+import yahoofinance.quotes.stock.StockQuote;
+import yahoofinance.quotes.stock.StockStats;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FundamentalsRefreshService 펀더멘털 일괄 갱신")
+class FundamentalsRefreshServiceTest {
+
+    @Mock private StockFundamentalsRepository fundamentalsRepository;
+    @Mock private StockRepository stockRepository;
+    @Mock private StockPriceService stockPriceService;
+    @Mock private StockScreenerIndex stockScreenerIndex;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private FundamentalsRefreshService refreshService;
+
+    @BeforeEach
+    void setUp() {
+        refreshService =
+                new FundamentalsRefreshService(
+                        fundamentalsRepository,
+                        stockRepository,
+                        stockPriceService,
+                        stockScreenerIndex,
+                        RateLimiterRegistry.ofDefaults(),
+                        transactionManager);
+        ReflectionTestUtils.setField(refreshService, "batchSize", 2);
+        ReflectionTestUtils.setField(refreshService, "fetchThreads", 2);
+        refreshService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshService.destroy();
+    }
+
+    @Test
+    @DisplayName("청크마다 기존 행을 한 번에 읽어 갱신하고 신규 행만 저장한다")
+    void refreshNow_upsertsPerChunk() {
+        StockFundamentals existing =
+                StockFundamentals.builder().id(1L).symbol("AAPL").peRatio(BigDecimal.ONE).build();
+        when(fundamentalsRepository.findBySymbolIn(anyList()))
+                .thenAnswer(
+                        invocation -> {
+                            List<String> symbols = invocation.getArgument(0);
+                            return symbols.contains("AAPL") ? List.of(existing) : List.of();
+                        });
+        when(stockPriceService.fetchStockQuote(any()))
+                .thenAnswer(invocation -> quote(invocation.getArgument(0), "30", "150.00"));
+
+        int updated = refreshService.refreshNow(List.of("AAPL", "MSFT", "JPM", "AAPL"));
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(existing.getPeRatio()).isEqualByComparingTo("30");
+        assertThat(existing.getCurrentPrice()).isEqualByComparingTo("150.00");
+        verify(fundamentalsRepository, times(2)).findBySymbolIn(anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockFundamentals>> saved = ArgumentCaptor.forClass(List.class);
+        verify(fundamentalsRepository, times(2)).saveAll(saved.capture());
+        assertThat(
+                        saved.getAllValues().stream()
+                                .flatMap(List::stream)
+                                .map(StockFundamentals::getSymbol)
+                                .collect(Collectors.toList()))
+                .containsExactly("MSFT", "JPM");
+        verify(stockScreenerIndex, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 작업을 일시 정지하고, 재개 시 호출하지 못한 종목부터 이어서 처리한다")
+    void job_pausesOnOpenCircuitAndResumes() throws InterruptedException {
+        CallNotPermittedException open =
+                CallNotPermittedException.createCallNotPermittedException(
+                        CircuitBreaker.ofDefaults("yahooFinance"));
+        when(stockPriceService.fetchStockQuote(any()))
+                .thenAnswer(invocation -> quote(invocation.getArgument(0), "10", "50.00"))
+                .thenThrow(open)
+                .thenAnswer(invocation -> quote(invocation.getArgument(0), "10", "50.00"));
+
+        FundamentalsRefreshJobDto job = refreshService.submit(List.of("A", "B", "C"));
+        FundamentalsRefreshJobDto paused = awaitDone(job.getJobId());
+
+        assertThat(paused.getStatus()).isEqualTo(JobStatus.PAUSED);
+        assertThat(paused.getProcessedSymbols()).isEqualTo(1);
+        assertThat(paused.getFailedCount()).isZero();
+
+        refreshService.resume(job.getJobId());
+        FundamentalsRefreshJobDto completed = awaitDone(job.getJobId());
+
+        assertThat(completed.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(completed.getProcessedSymbols()).isEqualTo(3);
+        assertThat(completed.getUpdatedCount()).isEqualTo(3);
+        assertThat(completed.getProgressPercent()).isEqualTo(100.0);
+        verify(stockPriceService, times(4)).fetchStockQuote(any());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 일시 정지 작업은 다음 제출 때 정리된다")
+    void submit_evictsExpiredPausedJob() throws InterruptedException {
+        CallNotPermittedException open =
+                CallNotPermittedException.createCallNotPermittedException(
+                        CircuitBreaker.ofDefaults("yahooFinance"));
+        when(stockPriceService.fetchStockQuote(any())).thenThrow(open);
+        FundamentalsRefreshJobDto job = refreshService.submit(List.of("A"));
+        assertThat(awaitDone(job.getJobId()).getStatus()).isEqualTo(JobStatus.PAUSED);
+        ReflectionTestUtils.setField(refreshService, "jobTtlHours", 0L);
+        Thread.sleep(5);
+
+        FundamentalsRefreshJobDto next = refreshService.submit(List.of("A"));
+
+        assertThat(next.getJobId()).isNotEqualTo(job.getJobId());
+        assertThatThrownBy(() -> refreshService.getJob(job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private FundamentalsRefreshJobDto awaitDone(String jobId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            FundamentalsRefreshJobDto job = refreshService.getJob(jobId);
+            if (job.getStatus() != JobStatus.QUEUED && job.getStatus() != JobStatus.RUNNING) {
+                return job;
+            }
+            Thread.sleep(25);
+        }
+        throw new AssertionError("Job did not finish: " + jobId);
+    }
+
+    private Stock quote(String symbol, String pe, String price) {
+        Stock stock = new Stock(symbol);
+        StockQuote quote = new StockQuote(symbol);
+        quote.setPrice(new BigDecimal(price));
+        stock.setQuote(quote);
+        StockStats stats = new StockStats(symbol);
+        stats.setPe(new BigDecimal(pe));
+        stock.setStats(stats);
+        return stock;
+    }
+}
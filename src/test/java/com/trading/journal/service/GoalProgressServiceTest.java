@@ -0,0 +1,194 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.Goal;
+import com.trading.journal.entity.GoalStatus;
+import com.trading.journal.entity.GoalType;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.repository.AccountRepository;
+import com.trading.journal.repository.DividendRepository;
+import com.trading.journal.repository.GoalRepository;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.scheduler.JobShard;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class GoalProgressServiceTest {
+
+    @Mock private GoalRepository goalRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private PortfolioRepository portfolioRepository;
+    @Mock private DividendRepository dividendRepository;
+    @Mock private StockPriceService stockPriceService;
+    @Mock private AlertService alertService;
+    @Mock private CacheManager cacheManager;
+    @Mock private Cache goalSummaryCache;
+
+    @InjectMocks private GoalProgressService goalProgressService;
+
+    private final Account account = Account.builder().id(7L).userId(1L).build();
+
+    @Test
+    @DisplayName("변경 이벤트 - 소유자 스냅샷 한 번으로 평가하고 바뀐 목표만 일괄 저장")
+    void evaluatePending_EvaluatesChangedAccountWithOneSnapshot() {
+        // Given
+        Goal goal = goal(GoalType.TARGET_AMOUNT, "10000", "1000");
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(account));
+        when(goalRepository.findByStatusAndAccountIdIn(GoalStatus.ACTIVE, List.of(7L)))
+                .thenReturn(List.of(goal));
+        when(portfolioRepository.findByAccountIdInWithStock(anyCollection()))
+                .thenReturn(List.of(position("AAPL", "10", "1000"), position("MSFT", "5", "1500")));
+        when(stockPriceService.getCurrentPrices(anyCollection()))
+                .thenReturn(Map.of("AAPL", new BigDecimal("150")));
+        when(cacheManager.getCache("goalSummary")).thenReturn(goalSummaryCache);
+
+        // When
+        goalProgressService.onPortfolioChanged(new PortfolioChangedEvent(7L));
+        goalProgressService.evaluatePending();
+
+        // Then - AAPL 10 x 150 + 시세 없는 MSFT는 원금 1500
+        assertThat(goal.getCurrentValue()).isEqualByComparingTo("3000");
+        assertThat(goal.getLastMilestone()).isEqualTo(25);
+        verify(stockPriceService, times(1)).getCurrentPrices(Set.of("AAPL", "MSFT"));
+        verify(goalRepository).saveAll(List.of(goal));
+        verify(goalRepository, never()).save(any());
+        verify(alertService).createGoalMilestoneAlert(1L, "목표", 25);
+        verify(goalSummaryCache).clear();
+    }
+
+    @Test
+    @DisplayName("대기 중인 변경이 없으면 아무것도 조회하지 않음")
+    void evaluatePending_NothingPending() {
+        goalProgressService.evaluatePending();
+
+        verifyNoInteractions(goalRepository, portfolioRepository, stockPriceService, cacheManager);
+    }
+
+    @Test
+    @DisplayName("값이 그대로면 저장하지 않음")
+    void evaluatePending_UnchangedValueNotSaved() {
+        // Given
+        Goal goal = goal(GoalType.SAVINGS_AMOUNT, "10000", "1000");
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(account));
+        when(goalRepository.findByStatusAndAccountIdIn(GoalStatus.ACTIVE, List.of(7L)))
+                .thenReturn(List.of(goal));
+        when(portfolioRepository.findByAccountIdInWithStock(anyCollection()))
+                .thenReturn(List.of(position("AAPL", "10", "1000")));
+        when(stockPriceService.getCurrentPrices(anyCollection())).thenReturn(Map.of());
+
+        // When
+        goalProgressService.onPortfolioChanged(new PortfolioChangedEvent(7L));
+        goalProgressService.evaluatePending();
+
+        // Then
+        verify(goalRepository, never()).saveAll(any());
+        verifyNoInteractions(alertService, cacheManager);
+    }
+
+    @Test
+    @DisplayName("전체 갱신 - 목표 달성 시 달성 알림")
+    void refreshAll_CompletesGoal() {
+        // Given
+        Goal goal = goal(GoalType.RETURN_RATE, "20", "10");
+        when(goalRepository.findActiveGoalAccountIds()).thenReturn(List.of(7L));
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(account));
+        when(goalRepository.findByStatusAndAccountIdIn(GoalStatus.ACTIVE, List.of(7L)))
+                .thenReturn(List.of(goal));
+        when(portfolioRepository.findByAccountIdInWithStock(anyCollection()))
+                .thenReturn(List.of(position("AAPL", "10", "1000")));
+        when(stockPriceService.getCurrentPrices(anyCollection()))
+                .thenReturn(Map.of("AAPL", new BigDecimal("125")));
+        when(cacheManager.getCache("goalSummary")).thenReturn(goalSummaryCache);
+
+        // When
+        goalProgressService.refreshAll();
+
+        // Then - 수익률 25%로 목표 20% 달성
+        assertThat(goal.getCurrentValue()).isEqualByComparingTo("25");
+        assertThat(goal.getStatus()).isEqualTo(GoalStatus.COMPLETED);
+        verify(alertService).createGoalCompletedAlert(1L, "목표");
+        verify(alertService, never()).createGoalMilestoneAlert(any(), any(), anyInt());
+        verify(goalRepository).findByStatusAndAccountIdIsNull(GoalStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("샤드 작업 - 다른 샤드 소유자와 전체 기준 목표는 건너뜀")
+    void refreshAll_SkipsOwnersOfOtherShards() {
+        // Given - userId 2는 0번 샤드 몫
+        when(goalRepository.findActiveGoalAccountIds()).thenReturn(List.of(8L));
+        when(accountRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(Account.builder().id(8L).userId(2L).build()));
+
+        // When
+        JobShard.bind(new JobShard(1, 2));
+        try {
+            goalProgressService.refreshAll();
+        } finally {
+            JobShard.unbind();
+        }
+
+        // Then
+        verify(goalRepository, never()).findByStatusAndAccountIdIn(any(), anyCollection());
+        verify(goalRepository, never()).findByStatusAndAccountIdIsNull(any());
+        verifyNoInteractions(stockPriceService);
+    }
+
+    @Test
+    @DisplayName("시작값 조회 - 계좌 없는 배당 목표는 전체 배당 합계")
+    void getCurrentValue_GlobalDividends() {
+        when(dividendRepository.sumTotalNetAmount()).thenReturn(new BigDecimal("500000"));
+
+        BigDecimal value = goalProgressService.getCurrentValue(GoalType.DIVIDEND_INCOME, null);
+
+        assertThat(value).isEqualByComparingTo("500000");
+    }
+
+    @Test
+    @DisplayName("시작값 조회 - 자동 추적하지 않는 유형은 0")
+    void getCurrentValue_UntrackedType() {
+        BigDecimal value = goalProgressService.getCurrentValue(GoalType.WIN_RATE, 7L);
+
+        assertThat(value).isEqualByComparingTo(BigDecimal.ZERO);
+        verifyNoInteractions(portfolioRepository, stockPriceService);
+    }
+
+    private Goal goal(GoalType type, String target, String current) {
+        return Goal.builder()
+                .id(1L)
+                .name("목표")
+                .goalType(type)
+                .targetValue(new BigDecimal(target))
+                .startValue(BigDecimal.ZERO)
+                .currentValue(new BigDecimal(current))
+                .status(GoalStatus.ACTIVE)
+                .milestoneInterval(25)
+                .accountId(7L)
+                .build();
+    }
+
+    private Portfolio position(String symbol, String quantity, String investment) {
+        return Portfolio.builder()
+                .account(account)
+                .stock(Stock.builder().symbol(symbol).build())
+                .quantity(new BigDecimal(quantity))
+                .totalInvestment(new BigDecimal(investment))
+                .build();
+    }
+}
@@ -5,10 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import com.trading.journal.dto.DividendSummaryDto;
 import com.trading.journal.dto.GoalDto;
 import com.trading.journal.dto.GoalSummaryDto;
-import com.trading.journal.dto.PortfolioSummaryDto;
 import com.trading.journal.entity.Goal;
 import com.trading.journal.entity.GoalStatus;
 import com.trading.journal.entity.GoalType;
@@ -34,10 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class GoalServiceTest {
 
     @Mock private GoalRepository goalRepository;
-    @Mock private PortfolioAnalysisService portfolioAnalysisService;
-    @Mock private AnalysisService analysisService;
-    @Mock private AlertService alertService;
-    @Mock private DividendService dividendService;
+    @Mock private GoalProgressService goalProgressService;
 
     @InjectMocks private GoalService goalService;
 
@@ -99,7 +94,7 @@ class GoalServiceTest {
         @Test
         @DisplayName("목표 생성 성공")
         void createGoal_Success() {
-            // createGoalDto has startValue already set, so no need for portfolioAnalysisService
+            // createGoalDto has startValue already set, so no need for goalProgressService
             Goal savedGoal =
                     Goal.builder()
                             .id(3L)
@@ -131,11 +126,8 @@ class GoalServiceTest {
                             .targetValue(new BigDecimal("100000000"))
                             .build();
 
-            PortfolioSummaryDto portfolioSummary =
-                    PortfolioSummaryDto.builder()
-                            .totalCurrentValue(new BigDecimal("50000000"))
-                            .build();
-            when(portfolioAnalysisService.getPortfolioSummary()).thenReturn(portfolioSummary);
+            when(goalProgressService.getCurrentValue(GoalType.TARGET_AMOUNT, null))
+                    .thenReturn(new BigDecimal("50000000"));
 
             Goal savedGoal =
                     Goal.builder()
@@ -156,7 +148,7 @@ class GoalServiceTest {
             Goal capturedGoal = captor.getValue();
 
             // 시작값이 현재 포트폴리오 값으로 설정되었는지 확인
-            assertThat(capturedGoal.getStartValue()).isNotNull();
+            assertThat(capturedGoal.getStartValue()).isEqualByComparingTo("50000000");
         }
 
         @Test
@@ -167,11 +159,11 @@ class GoalServiceTest {
                             .name("배당 수익 목표")
                             .goalType(GoalType.DIVIDEND_INCOME)
                             .targetValue(new BigDecimal("1000000"))
+                            .accountId(7L)
                             .build();
 
-            DividendSummaryDto dividendSummary =
-                    DividendSummaryDto.builder().totalDividends(new BigDecimal("500000")).build();
-            when(dividendService.getDividendSummary()).thenReturn(dividendSummary);
+            when(goalProgressService.getCurrentValue(GoalType.DIVIDEND_INCOME, 7L))
+                    .thenReturn(new BigDecimal("500000"));
 
             Goal savedGoal =
                     Goal.builder()
@@ -187,7 +179,8 @@ class GoalServiceTest {
 
             GoalDto result = goalService.createGoal(dividendGoalDto);
 
-            verify(dividendService).getDividendSummary();
+            // 목표 계좌 기준으로 시작값을 조회
+            verify(goalProgressService).getCurrentValue(GoalType.DIVIDEND_INCOME, 7L);
         }
     }
 
@@ -377,37 +370,15 @@ class GoalServiceTest {
     class UpdateProgressTests {
 
         @Test
-        @DisplayName("모든 활성 목표 진행률 갱신")
+        @DisplayName("수동 갱신은 진행률 평가 서비스에 위임하고 기한 초과도 처리")
         void updateAllGoalsProgress_Success() {
-            Goal goalWithMilestone =
-                    Goal.builder()
-                            .id(1L)
-                            .name("진행 중 목표")
-                            .goalType(GoalType.RETURN_RATE)
-                            .targetValue(new BigDecimal("20"))
-                            .startValue(BigDecimal.ZERO)
-                            .currentValue(new BigDecimal("10"))
-                            .status(GoalStatus.ACTIVE)
-                            .notificationEnabled(true)
-                            .milestoneInterval(25)
-                            .lastMilestone(25)
-                            .build();
-
-            when(goalRepository.findByStatusOrderByDeadlineAsc(GoalStatus.ACTIVE))
-                    .thenReturn(Collections.singletonList(goalWithMilestone));
-
-            PortfolioSummaryDto portfolioSummary =
-                    PortfolioSummaryDto.builder()
-                            .totalProfitLossPercent(new BigDecimal("12"))
-                            .build();
-            when(portfolioAnalysisService.getPortfolioSummary()).thenReturn(portfolioSummary);
-            when(goalRepository.save(any())).thenReturn(goalWithMilestone);
             when(goalRepository.findOverdueGoals(any())).thenReturn(Collections.emptyList());
 
             goalService.updateAllGoalsProgress();
 
-            verify(goalRepository).findByStatusOrderByDeadlineAsc(GoalStatus.ACTIVE);
-            verify(goalRepository, atLeastOnce()).save(any(Goal.class));
+            verify(goalProgressService).refreshAll();
+            verify(goalRepository).findOverdueGoals(any());
+            verify(goalRepository, never()).saveAll(any());
         }
 
         @Test
@@ -424,14 +395,11 @@ class GoalServiceTest {
 
             when(goalRepository.findOverdueGoals(any()))
                     .thenReturn(Collections.singletonList(overdueGoal));
-            when(goalRepository.save(any())).thenReturn(overdueGoal);
 
             goalService.updateOverdueGoals();
 
-            ArgumentCaptor<Goal> captor = ArgumentCaptor.forClass(Goal.class);
-            verify(goalRepository).save(captor.capture());
-
-            assertThat(captor.getValue().getStatus()).isEqualTo(GoalStatus.FAILED);
+            verify(goalRepository).saveAll(List.of(overdueGoal));
+            assertThat(overdueGoal.getStatus()).isEqualTo(GoalStatus.FAILED);
         }
     }
 
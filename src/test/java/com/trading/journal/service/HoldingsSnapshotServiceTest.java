@@ -0,0 +1,181 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.repository.PortfolioRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class HoldingsSnapshotServiceTest {
+
+    @Mock private PortfolioRepository portfolioRepository;
+    @Mock private StockPriceService stockPriceService;
+
+    @InjectMocks private HoldingsSnapshotService holdingsSnapshotService;
+
+    private final Account account = Account.builder().id(1L).build();
+    private final Stock aapl =
+            Stock.builder()
+                    .id(1L)
+                    .symbol("AAPL")
+                    .name("Apple")
+                    .sector(Sector.TECH)
+                    .industry("Hardware")
+                    .build();
+    private final Stock msft =
+            Stock.builder()
+                    .id(2L)
+                    .symbol("MSFT")
+                    .name("Microsoft")
+                    .sector(Sector.TECH)
+                    .industry("Software")
+                    .build();
+    private final Stock jnj = Stock.builder().id(3L).symbol("JNJ").name("J&J").build();
+
+    @Test
+    @DisplayName("스냅샷 - 시세 반영 평가금액과 섹터/업종 합계, 두 번째 조회는 DB/시세를 다시 읽지 않는다")
+    void snapshot_pricesAndRollups() {
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(
+                        List.of(
+                                position(account, aapl, "10", "100"),
+                                position(account, msft, "5", "300"),
+                                position(account, jnj, "20", "50"),
+                                position(account, jnj, "0", "50")));
+        when(stockPriceService.getCurrentQuotes(anyCollection()))
+                .thenReturn(
+                        Map.of(
+                                "AAPL", quote("120", "118"),
+                                "MSFT", quote("280", "290")));
+
+        HoldingsSnapshot snapshot = holdingsSnapshotService.snapshot(1L);
+        holdingsSnapshotService.snapshot(1L);
+
+        // AAPL 1,200 + MSFT 1,400 + JNJ(시세 없음, 평균가) 1,000
+        assertThat(snapshot.positions())
+                .extracting(HoldingsSnapshot.Position::symbol)
+                .containsExactly("MSFT", "AAPL", "JNJ");
+        assertThat(snapshot.totalValue()).isEqualByComparingTo("3600");
+        assertThat(snapshot.totalInvestment()).isEqualByComparingTo("3500");
+        assertThat(snapshot.positions().get(2).priced()).isFalse();
+        assertThat(snapshot.positions().get(2).sectorOrOther()).isEqualTo(Sector.OTHER);
+
+        assertThat(snapshot.sectors().keySet()).containsExactly(Sector.TECH, Sector.OTHER);
+        HoldingsSnapshot.Rollup tech = snapshot.sectors().get(Sector.TECH);
+        assertThat(tech.value()).isEqualByComparingTo("2600");
+        assertThat(tech.unrealizedPnl()).isEqualByComparingTo("100");
+        assertThat(tech.positions()).isEqualTo(2);
+        assertThat(snapshot.industries().keySet())
+                .containsExactly("Software", "Hardware", HoldingsSnapshot.UNCLASSIFIED_INDUSTRY);
+
+        verify(portfolioRepository, times(1)).findByAccountIdWithStock(1L);
+        verify(stockPriceService, times(1)).getCurrentQuotes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("포지션 변경 이벤트 후에는 해당 계좌만 다시 읽고, 가격 피드 시세는 조회 없이 반영된다")
+    void onPortfolioChanged_reloadsAccount() {
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(List.of(position(account, aapl, "10", "100")))
+                .thenReturn(List.of(position(account, aapl, "15", "100")));
+        when(stockPriceService.getCurrentQuotes(anyCollection()))
+                .thenReturn(Map.of("AAPL", quote("120", "118")));
+
+        holdingsSnapshotService.snapshot(1L);
+        holdingsSnapshotService.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        holdingsSnapshotService.applyPrice("AAPL", new BigDecimal("130"));
+        HoldingsSnapshot snapshot = holdingsSnapshotService.snapshot(1L);
+
+        HoldingsSnapshot.Position position = snapshot.positions().get(0);
+        assertThat(position.quantity()).isEqualByComparingTo("15");
+        assertThat(position.currentPrice()).isEqualByComparingTo("130");
+        assertThat(position.previousClose()).isEqualByComparingTo("118");
+        verify(portfolioRepository, times(2)).findByAccountIdWithStock(1L);
+        verify(stockPriceService, times(1)).getCurrentQuotes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("섹터 변경 이벤트 후에는 모든 계좌의 보유 종목을 다시 읽는다")
+    void onStockSectorChanged_reloadsAll() {
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(List.of(position(account, aapl, "10", "100")));
+        when(stockPriceService.getCurrentQuotes(anyCollection()))
+                .thenReturn(Map.of("AAPL", quote("120", "118")));
+
+        holdingsSnapshotService.snapshot(1L);
+        holdingsSnapshotService.onStockSectorChanged(new StockSectorChangedEvent(1L));
+        holdingsSnapshotService.snapshot(1L);
+
+        verify(portfolioRepository, times(2)).findByAccountIdWithStock(1L);
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지나면 이벤트가 없어도 다시 읽는다 (다른 노드의 변경 반영)")
+    void snapshot_reloadsAfterMaxAge() {
+        ReflectionTestUtils.setField(holdingsSnapshotService, "maxAgeSeconds", 0L);
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(List.of(position(account, aapl, "10", "100")))
+                .thenReturn(List.of(position(account, aapl, "20", "100")));
+        when(stockPriceService.getCurrentQuotes(anyCollection()))
+                .thenReturn(Map.of("AAPL", quote("120", "118")));
+
+        holdingsSnapshotService.snapshot(1L);
+        HoldingsSnapshot snapshot = holdingsSnapshotService.snapshot(1L);
+
+        assertThat(snapshot.positions().get(0).quantity()).isEqualByComparingTo("20");
+        verify(portfolioRepository, times(2)).findByAccountIdWithStock(1L);
+    }
+
+    @Test
+    @DisplayName("전체 스냅샷 - 한 번에 읽고 계좌 없는 포지션도 포함한다")
+    void snapshotAll_includesAllAccounts() {
+        Account other = Account.builder().id(2L).build();
+        when(portfolioRepository.findAllWithStockAndAccount())
+                .thenReturn(
+                        List.of(
+                                position(account, aapl, "10", "100"),
+                                position(other, aapl, "5", "100"),
+                                position(null, msft, "1", "300")));
+        when(stockPriceService.getCurrentQuotes(anyCollection())).thenReturn(Map.of());
+
+        HoldingsSnapshot all = holdingsSnapshotService.snapshotAll();
+        HoldingsSnapshot single = holdingsSnapshotService.snapshot(2L);
+
+        assertThat(all.accountId()).isNull();
+        assertThat(all.positions()).hasSize(3);
+        assertThat(all.totalValue()).isEqualByComparingTo("1800");
+        assertThat(single.positions()).hasSize(1);
+        verify(portfolioRepository, never()).findByAccountIdWithStock(2L);
+    }
+
+    private Portfolio position(Account owner, Stock stock, String quantity, String averagePrice) {
+        BigDecimal qty = new BigDecimal(quantity);
+        BigDecimal avg = new BigDecimal(averagePrice);
+        return Portfolio.builder()
+                .account(owner)
+                .stock(stock)
+                .quantity(qty)
+                .averagePrice(avg)
+                .totalInvestment(qty.multiply(avg))
+                .build();
+    }
+
+    private StockPriceService.Quote quote(String price, String previousClose) {
+        return new StockPriceService.Quote(new BigDecimal(price), new BigDecimal(previousClose));
+    }
+}
@@ -0,0 +1,166 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.entity.HistoricalPrice;
+import com.trading.journal.entity.PeriodReturn;
+import com.trading.journal.entity.ReturnPeriod;
+import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.repository.PeriodReturnRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodReturnServiceTest {
+
+    @Mock private HistoricalPriceRepository historicalPriceRepository;
+    @Mock private PeriodReturnRepository periodReturnRepository;
+    @Mock private CacheManager cacheManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private PeriodReturnService periodReturnService;
+
+    // 2026-10-12(월) 기준: 1D 시작일 10-11(일) → 직전 거래일 10-09(금)
+    private final LocalDate monday = LocalDate.of(2026, 10, 12);
+
+    @Test
+    @DisplayName("가격 창 - 시작일 당일/직전 종가를 쓰고, 이전 데이터가 없으면 이후 첫 종가를 쓴다")
+    void getPriceWindows_picksStartClose() {
+        when(historicalPriceRepository.findLatestBySymbols(anyCollection()))
+                .thenReturn(List.of(price("AAPL", monday, "110"), price("NEW", monday, "30")));
+        when(historicalPriceRepository.findBySymbolsAndPriceDates(anyCollection(), anyCollection()))
+                .thenReturn(
+                        List.of(
+                                price("AAPL", LocalDate.of(2026, 10, 2), "90"),
+                                price("AAPL", LocalDate.of(2026, 10, 5), "100"),
+                                price("AAPL", LocalDate.of(2026, 10, 8), "104"),
+                                price("AAPL", LocalDate.of(2026, 10, 9), "105"),
+                                price("NEW", LocalDate.of(2026, 10, 7), "20")));
+
+        Map<String, Map<ReturnPeriod, PeriodReturnService.PriceWindow>> windows =
+                periodReturnService.getPriceWindows(
+                        List.of("AAPL", "NEW", "NONE"), List.of(ReturnPeriod.D1, ReturnPeriod.W1));
+
+        PeriodReturnService.PriceWindow aaplDay = windows.get("AAPL").get(ReturnPeriod.D1);
+        assertThat(aaplDay.startDate()).isEqualTo(LocalDate.of(2026, 10, 9));
+        assertThat(aaplDay.returnPercent()).isEqualByComparingTo("4.76");
+        assertThat(windows.get("AAPL").get(ReturnPeriod.W1).startDate())
+                .isEqualTo(LocalDate.of(2026, 10, 5));
+        // NEW: 1W 시작일(10-05) 이전 데이터가 없어 이후 첫 종가 사용
+        assertThat(windows.get("NEW").get(ReturnPeriod.W1).returnPercent())
+                .isEqualByComparingTo("50.00");
+        assertThat(windows).doesNotContainKey("NONE");
+        verify(historicalPriceRepository, times(1))
+                .findBySymbolsAndPriceDates(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("재계산 - 기존 행은 갱신하고 새 기간은 추가하며 데이터가 없어진 기간은 삭제한다")
+    @SuppressWarnings("unchecked")
+    void refresh_upsertsRows() {
+        when(historicalPriceRepository.findLatestBySymbols(anyCollection()))
+                .thenReturn(List.of(price("AAPL", monday, "110")));
+        when(historicalPriceRepository.findBySymbolsAndPriceDates(anyCollection(), anyCollection()))
+                .thenReturn(List.of(price("AAPL", LocalDate.of(2026, 10, 9), "100")));
+        PeriodReturn existingDay =
+                PeriodReturn.builder().id(1L).symbol("AAPL").period(ReturnPeriod.D1).build();
+        PeriodReturn staleYear =
+                PeriodReturn.builder().id(2L).symbol("AAPL").period(ReturnPeriod.Y1).build();
+        when(periodReturnRepository.findBySymbolIn(anyCollection()))
+                .thenReturn(List.of(existingDay, staleYear));
+
+        int saved = periodReturnService.refresh(List.of("AAPL"));
+
+        // 10-09 종가만 있으므로 1D(직전 종가)와 1W(시작일 10-05 이후 5일 안의 첫 종가)만 계산된다
+        ArgumentCaptor<List<PeriodReturn>> captor = ArgumentCaptor.forClass(List.class);
+        verify(periodReturnRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PeriodReturn::getPeriod)
+                .containsExactlyInAnyOrder(ReturnPeriod.D1, ReturnPeriod.W1);
+        assertThat(saved).isEqualTo(2);
+        assertThat(existingDay.getReturnPercent()).isEqualByComparingTo("10.00");
+        assertThat(existingDay.getEndDate()).isEqualTo(monday);
+        verify(periodReturnRepository).deleteAll(List.of(staleYear));
+        // 트리맵 캐시는 커밋 후 이벤트로 비운다
+        verify(eventPublisher).publishEvent(any(PeriodReturnsRefreshedEvent.class));
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    @DisplayName("재계산 이벤트 - 커밋 후 트리맵 캐시를 비운다")
+    void onPeriodReturnsRefreshed_clearsTreemapCache() {
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("treemap")).thenReturn(cache);
+
+        periodReturnService.onPeriodReturnsRefreshed(
+                new PeriodReturnsRefreshedEvent(Set.of("AAPL")));
+
+        verify(cache).clear();
+    }
+
+    @Test
+    @DisplayName("가격 창 - 다른 기준일 구간의 오래된 종가는 시작 종가로 쓰지 않는다")
+    void getPriceWindows_ignoresClosesBeforeLookback() {
+        LocalDate staleEnd = LocalDate.of(2026, 9, 1);
+        when(historicalPriceRepository.findLatestBySymbols(anyCollection()))
+                .thenReturn(List.of(price("AAPL", monday, "110"), price("OLD", staleEnd, "50")));
+        // AAPL 1D 시작일(10-11) 기준 하한은 10-01 — 09-01 기준일 종목 구간의 08-31 종가는 범위 밖
+        when(historicalPriceRepository.findBySymbolsAndPriceDates(anyCollection(), anyCollection()))
+                .thenReturn(List.of(price("AAPL", LocalDate.of(2026, 8, 31), "80")));
+
+        Map<String, Map<ReturnPeriod, PeriodReturnService.PriceWindow>> windows =
+                periodReturnService.getPriceWindows(
+                        List.of("AAPL", "OLD"), List.of(ReturnPeriod.D1));
+
+        assertThat(windows).doesNotContainKey("AAPL");
+    }
+
+    @Test
+    @DisplayName("수익률 조회 - 저장된 값을 읽고 없는 종목만 가격 창으로 계산한다")
+    void getReturns_fallsBackForMissingSymbols() {
+        when(periodReturnRepository.findByPeriodAndSymbolIn(eq(ReturnPeriod.M1), anyCollection()))
+                .thenReturn(
+                        List.of(
+                                PeriodReturn.builder()
+                                        .symbol("AAPL")
+                                        .period(ReturnPeriod.M1)
+                                        .returnPercent(new BigDecimal("3.2100"))
+                                        .build()));
+        when(historicalPriceRepository.findLatestBySymbols(List.of("MSFT")))
+                .thenReturn(List.of(price("MSFT", monday, "220")));
+        when(historicalPriceRepository.findBySymbolsAndPriceDates(anyCollection(), anyCollection()))
+                .thenReturn(List.of(price("MSFT", LocalDate.of(2026, 9, 11), "200")));
+
+        Map<String, BigDecimal> returns =
+                periodReturnService.getReturns(List.of("AAPL", "MSFT"), ReturnPeriod.M1);
+
+        assertThat(returns.get("AAPL")).isEqualByComparingTo("3.21");
+        assertThat(returns.get("MSFT")).isEqualByComparingTo("10.00");
+        verify(periodReturnRepository, never()).saveAll(anyCollection());
+    }
+
+    private HistoricalPrice price(String symbol, LocalDate date, String close) {
+        return HistoricalPrice.builder()
+                .symbol(symbol)
+                .priceDate(date)
+                .closePrice(new BigDecimal(close))
+                .build();
+    }
+}
@@ -79,6 +79,23 @@ class PortfolioAnalysisServiceTest {
         assertThat(holding.getProfitLoss()).isEqualByComparingTo(new BigDecimal("100.00"));
     }
 
+    @Test
+    @DisplayName("계좌 포트폴리오 요약 - 해당 계좌의 보유 종목과 실현 손익만 집계")
+    void getPortfolioSummary_ScopedToAccount() {
+        when(portfolioRepository.findByAccountIdWithStock(7L)).thenReturn(List.of(mockPortfolio));
+        when(transactionRepository.sumTotalRealizedPnlByAccount(7L))
+                .thenReturn(new BigDecimal("250.00"));
+        when(stockPriceService.getCurrentPrice("AAPL")).thenReturn(new BigDecimal("160.00"));
+        when(stockPriceService.getPreviousClose("AAPL")).thenReturn(new BigDecimal("158.00"));
+
+        PortfolioSummaryDto summary = portfolioAnalysisService.getPortfolioSummary(7L);
+
+        assertThat(summary.getHoldings()).hasSize(1);
+        assertThat(summary.getTotalRealizedPnl()).isEqualByComparingTo(new BigDecimal("250.00"));
+        verify(portfolioRepository, never()).findAllWithStockAndAccount();
+        verify(transactionRepository, never()).sumTotalRealizedPnl();
+    }
+
     @Test
     @DisplayName("포트폴리오 요약 조회 - 여러 종목")
     void getPortfolioSummary_MultipleStocks() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.trading.journal.entity.Account;
 import com.trading.journal.entity.Portfolio;
 import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.Transaction;
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class PortfolioServiceTest {
@@ -30,6 +34,8 @@ class PortfolioServiceTest {
 
     @Mock private TransactionRepository transactionRepository;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks private PortfolioService portfolioService;
 
     private Stock mockStock;
@@ -269,4 +275,136 @@ class PortfolioServiceTest {
         verify(portfolioRepository).delete(mockPortfolio);
         verify(portfolioRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("계좌 거래 - 마지막 거래 이후면 직전 스냅샷에 증분 반영")
+    void updatePortfolio_AppliesIncrementallyFromPreviousSnapshot() {
+        // Given
+        Account account = Account.builder().id(7L).build();
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 10, 0);
+        Transaction previous =
+                accountTransaction(
+                        account, 1L, TransactionType.BUY, "10", "100", date.minusDays(1));
+        previous.setPositionQuantity(new BigDecimal("10"));
+        previous.setPositionInvestment(new BigDecimal("1000"));
+        Transaction sell = accountTransaction(account, 2L, TransactionType.SELL, "4", "120", date);
+
+        when(transactionRepository.existsByAccountIdAndStockIdAndTransactionDateAfter(7L, 1L, date))
+                .thenReturn(false);
+        when(transactionRepository.findPrecedingPositions(
+                        eq(7L), eq(1L), eq(date), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(previous));
+        when(portfolioRepository.findByAccountIdAndStockId(7L, 1L)).thenReturn(Optional.empty());
+
+        // When
+        portfolioService.updatePortfolio(sell);
+
+        // Then
+        assertThat(sell.getPositionQuantity()).isEqualByComparingTo("6");
+        assertThat(sell.getPositionInvestment()).isEqualByComparingTo("600");
+        verify(transactionRepository, never())
+                .findByAccountIdAndStockIdOrderByTransactionDateAscIdAsc(anyLong(), anyLong());
+        verify(portfolioRepository)
+                .save(
+                        argThat(
+                                portfolio ->
+                                        portfolio.getQuantity().compareTo(new BigDecimal("6")) == 0
+                                                && portfolio
+                                                                .getAveragePrice()
+                                                                .compareTo(new BigDecimal("100"))
+                                                        == 0));
+        verify(eventPublisher).publishEvent(new PortfolioChangedEvent(7L));
+    }
+
+    @Test
+    @DisplayName("과거 날짜 수정 - 해당 일자 직전 스냅샷부터 이후 거래만 재생")
+    void replayPositions_StartsFromSnapshotBeforeAffectedDate() {
+        // Given
+        Account account = Account.builder().id(7L).build();
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        Transaction anchor =
+                accountTransaction(
+                        account, 1L, TransactionType.BUY, "10", "100", from.minusDays(5));
+        anchor.setPositionQuantity(new BigDecimal("10"));
+        anchor.setPositionInvestment(new BigDecimal("1000"));
+        Transaction buy = accountTransaction(account, 2L, TransactionType.BUY, "10", "200", from);
+        Transaction sell =
+                accountTransaction(
+                        account, 3L, TransactionType.SELL, "20", "250", from.plusDays(1));
+
+        when(transactionRepository
+                        .findFirstByAccountIdAndStockIdAndTransactionDateBeforeOrderByTransactionDateDescIdDesc(
+                                7L, 1L, from))
+                .thenReturn(Optional.of(anchor));
+        when(transactionRepository
+                        .findByAccountIdAndStockIdAndTransactionDateGreaterThanEqualOrderByTransactionDateAscIdAsc(
+                                7L, 1L, from))
+                .thenReturn(List.of(buy, sell));
+        when(portfolioRepository.findByAccountIdAndStockId(7L, 1L))
+                .thenReturn(Optional.of(mockPortfolio));
+
+        // When
+        portfolioService.replayPositions(7L, 1L, from);
+
+        // Then
+        assertThat(buy.getPositionQuantity()).isEqualByComparingTo("20");
+        assertThat(buy.getPositionInvestment()).isEqualByComparingTo("3000");
+        assertThat(sell.getPositionQuantity()).isEqualByComparingTo("0");
+        verify(transactionRepository).saveAll(List.of(buy, sell));
+        verify(portfolioRepository).delete(mockPortfolio);
+        verify(portfolioRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 기존 이력 - 처음부터 한 번 재생해 스냅샷을 채운다")
+    void replayPositions_FallsBackToFullReplayWithoutSnapshot() {
+        // Given
+        Account account = Account.builder().id(7L).build();
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        Transaction legacy =
+                accountTransaction(
+                        account, 1L, TransactionType.BUY, "10", "100", from.minusDays(5));
+        Transaction buy = accountTransaction(account, 2L, TransactionType.BUY, "5", "100", from);
+
+        when(transactionRepository
+                        .findFirstByAccountIdAndStockIdAndTransactionDateBeforeOrderByTransactionDateDescIdDesc(
+                                7L, 1L, from))
+                .thenReturn(Optional.of(legacy));
+        when(transactionRepository.findByAccountIdAndStockIdOrderByTransactionDateAscIdAsc(7L, 1L))
+                .thenReturn(List.of(legacy, buy));
+        when(portfolioRepository.findByAccountIdAndStockId(7L, 1L)).thenReturn(Optional.empty());
+
+        // When
+        portfolioService.replayPositions(7L, 1L, from);
+
+        // Then
+        assertThat(legacy.getPositionQuantity()).isEqualByComparingTo("10");
+        assertThat(buy.getPositionQuantity()).isEqualByComparingTo("15");
+        verify(portfolioRepository)
+                .save(
+                        argThat(
+                                portfolio ->
+                                        portfolio
+                                                        .getTotalInvestment()
+                                                        .compareTo(new BigDecimal("1500"))
+                                                == 0));
+    }
+
+    private Transaction accountTransaction(
+            Account account,
+            Long id,
+            TransactionType type,
+            String quantity,
+            String price,
+            LocalDateTime date) {
+        return Transaction.builder()
+                .id(id)
+                .account(account)
+                .stock(mockStock)
+                .type(type)
+                .quantity(new BigDecimal(quantity))
+                .price(new BigDecimal(price))
+                .transactionDate(date)
+                .build();
+    }
 }
@@ -0,0 +1,165 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.dto.PositionVaRDto;
+import com.trading.journal.entity.HistoricalPrice;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.repository.PortfolioRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PositionVaRServiceTest {
+
+    @Mock private PortfolioRepository portfolioRepository;
+    @Mock private HistoricalPriceRepository historicalPriceRepository;
+    @Mock private StockPriceService stockPriceService;
+    @Mock private AccountService accountService;
+
+    @InjectMocks private PositionVaRService positionVaRService;
+
+    @Test
+    @DisplayName("현재 보유 포지션 VaR - 기여 VaR 합계는 공분산 VaR")
+    void calculate_currentHoldings() {
+        // Given
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(List.of(position("AAPL", "10", "100"), position("MSFT", "5", "200")));
+        when(stockPriceService.getCurrentPrices(anyCollection()))
+                .thenReturn(Map.of("AAPL", new BigDecimal("150")));
+        when(historicalPriceRepository.findBySymbolsAndPriceDateBetween(anyList(), any(), any()))
+                .thenReturn(history());
+
+        // When
+        PositionVaRDto result = positionVaRService.calculate(1L, new BigDecimal("0.99"));
+
+        // Then - AAPL 10 x 150 + 시세 없는 MSFT 5 x 평균가 200
+        assertThat(result.getPortfolioValue()).isEqualByComparingTo("2500");
+        assertThat(result.getObservations()).isEqualTo(59);
+        assertThat(result.getMissingHistorySymbols()).isEmpty();
+        assertThat(result.getHistoricalVaR()).isPositive();
+        assertThat(result.getParametricES()).isGreaterThan(result.getParametricVaR());
+        BigDecimal componentSum =
+                result.getPositions().stream()
+                        .map(PositionVaRDto.PositionContribution::getComponentVaR)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(componentSum.subtract(result.getParametricVaR()).abs())
+                .isLessThanOrEqualTo(new BigDecimal("0.02"));
+    }
+
+    @Test
+    @DisplayName("같은 날 같은 종목 구성이면 가격 이력을 다시 읽지 않고, 새 종목이 들어오면 다시 만든다")
+    void calculate_reusesCachedModel() {
+        when(historicalPriceRepository.findBySymbolsAndPriceDateBetween(anyList(), any(), any()))
+                .thenReturn(history());
+
+        positionVaRService.calculate(
+                1L, Map.of("AAPL", new BigDecimal("1500"), "MSFT", new BigDecimal("1000")), null);
+        PositionVaRDto hypothetical =
+                positionVaRService.calculate(
+                        1L,
+                        Map.of("AAPL", new BigDecimal("3000"), "MSFT", new BigDecimal("-500")),
+                        null);
+        verify(historicalPriceRepository, times(1))
+                .findBySymbolsAndPriceDateBetween(anyList(), any(), any());
+        assertThat(hypothetical.getConfidenceLevel()).isEqualByComparingTo("0.95");
+
+        positionVaRService.calculate(1L, Map.of("NVDA", new BigDecimal("500")), null);
+        verify(historicalPriceRepository, times(1))
+                .findBySymbolsAndPriceDateBetween(
+                        eq(List.of("AAPL", "MSFT", "NVDA")), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 종가가 저장된 종목을 포함한 모델은 다음 계산 때 다시 만든다")
+    void onHistoricalPricesSaved_evictsModelsWithSymbol() {
+        when(historicalPriceRepository.findBySymbolsAndPriceDateBetween(anyList(), any(), any()))
+                .thenReturn(history());
+        Map<String, BigDecimal> values =
+                Map.of("AAPL", new BigDecimal("1500"), "MSFT", new BigDecimal("1000"));
+
+        positionVaRService.calculate(1L, values, null);
+        positionVaRService.onHistoricalPricesSaved(new HistoricalPricesSavedEvent("NVDA"));
+        positionVaRService.calculate(1L, values, null);
+        verify(historicalPriceRepository, times(1))
+                .findBySymbolsAndPriceDateBetween(anyList(), any(), any());
+
+        positionVaRService.onHistoricalPricesSaved(new HistoricalPricesSavedEvent("MSFT"));
+        positionVaRService.calculate(1L, values, null);
+        verify(historicalPriceRepository, times(2))
+                .findBySymbolsAndPriceDateBetween(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가격 이력이 없는 종목은 VaR 0과 함께 누락 목록으로 알림")
+    void calculate_missingHistory() {
+        when(historicalPriceRepository.findBySymbolsAndPriceDateBetween(anyList(), any(), any()))
+                .thenReturn(List.of());
+
+        PositionVaRDto result =
+                positionVaRService.calculate(1L, Map.of("NEW", new BigDecimal("1000")), null);
+
+        assertThat(result.getMissingHistorySymbols()).containsExactly("NEW");
+        assertThat(result.getParametricVaR()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getObservations()).isZero();
+    }
+
+    @Test
+    @DisplayName("신뢰수준은 0과 1 사이")
+    void calculate_rejectsInvalidConfidence() {
+        assertThatThrownBy(
+                        () ->
+                                positionVaRService.calculate(
+                                        1L, Map.of("AAPL", BigDecimal.TEN), BigDecimal.ONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(historicalPriceRepository);
+    }
+
+    /** AAPL·MSFT 60거래일 종가 (MSFT는 AAPL과 반쯤 같이 움직임) */
+    private List<HistoricalPrice> history() {
+        List<HistoricalPrice> prices = new ArrayList<>();
+        double aapl = 100;
+        double msft = 200;
+        LocalDate date = LocalDate.now().minusDays(60);
+        for (int i = 0; i < 60; i++) {
+            double shock = Math.sin(i * 1.7) * 0.02;
+            aapl *= 1 + shock;
+            msft *= 1 + shock / 2 + Math.cos(i * 0.9) * 0.005;
+            prices.add(price("AAPL", date.plusDays(i), aapl));
+            prices.add(price("MSFT", date.plusDays(i), msft));
+        }
+        return prices;
+    }
+
+    private HistoricalPrice price(String symbol, LocalDate date, double close) {
+        return HistoricalPrice.builder()
+                .symbol(symbol)
+                .priceDate(date)
+                .closePrice(BigDecimal.valueOf(close))
+                .build();
+    }
+
+    private Portfolio position(String symbol, String quantity, String averagePrice) {
+        return Portfolio.builder()
+                .stock(Stock.builder().symbol(symbol).build())
+                .quantity(new BigDecimal(quantity))
+                .averagePrice(new BigDecimal(averagePrice))
+                .build();
+    }
+}
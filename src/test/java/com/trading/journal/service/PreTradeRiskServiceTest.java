@@ -0,0 +1,216 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.dto.AccountRiskSettingsDto;
+import com.trading.journal.dto.PreTradeCheckRequestDto;
+import com.trading.journal.dto.PreTradeCheckResultDto;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.repository.StockRepository;
+import com.trading.journal.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PreTradeRiskServiceTest {
+
+    @Mock private AccountRiskSettingsService riskSettingsService;
+    @Mock private AccountService accountService;
+    @Mock private PortfolioRepository portfolioRepository;
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private StockRepository stockRepository;
+    @Mock private StockPriceService stockPriceService;
+
+    @InjectMocks private PreTradeRiskService preTradeRiskService;
+
+    private final Account account = Account.builder().id(1L).build();
+    private final Stock aapl = Stock.builder().id(1L).symbol("AAPL").sector(Sector.TECH).build();
+    private final Stock msft = Stock.builder().id(2L).symbol("MSFT").sector(Sector.TECH).build();
+
+    @BeforeEach
+    void setUp() {
+        // 자본 10만, 종목 15% / 섹터 30% / 포지션 20% / 거래당 2% / 일일 손실 6%
+        when(riskSettingsService.getRiskSettings(1L))
+                .thenReturn(
+                        AccountRiskSettingsDto.builder()
+                                .accountId(1L)
+                                .accountCapital(new BigDecimal("100000"))
+                                .currentDayPnl(new BigDecimal("-5000"))
+                                .build());
+        // AAPL 50주 (현재가 120, 손절 90) + MSFT 100주 (시세 없음, 평균가 200) = TECH 26,000
+        when(portfolioRepository.findByAccountIdWithStock(1L))
+                .thenReturn(List.of(position(aapl, "50", "100"), position(msft, "100", "200")));
+        when(stockPriceService.getCurrentPrices(anyCollection()))
+                .thenReturn(Map.of("AAPL", new BigDecimal("120")));
+        when(transactionRepository.findLatestBuyStopLossByStock(eq(1L), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {1L, new BigDecimal("90")}));
+        when(transactionRepository.findSellTransactionsWithRMultiple(eq(1L), any(), any()))
+                .thenReturn(List.of());
+        when(stockRepository.findBySymbol("AAPL")).thenReturn(Optional.of(aapl));
+    }
+
+    @Test
+    @DisplayName("매수 체크 - 섹터 한도 위반과 모든 한도를 지키는 최대 수량")
+    void check_buyExceedingSectorLimit() {
+        PreTradeCheckResultDto result = preTradeRiskService.check(buy("50", "110"));
+
+        assertThat(result.isAllowed()).isFalse();
+        assertThat(result.getViolations())
+                .extracting(PreTradeCheckResultDto.Violation::getRule)
+                .containsExactly(PreTradeRiskService.RULE_SECTOR_CONCENTRATION);
+        // 섹터 여유 4,000 / 120 = 33주 (거래당 리스크 2,000 / 10 = 200주보다 작음)
+        assertThat(result.getMaxQuantity()).isEqualByComparingTo("33");
+        assertThat(result.getProjectedStockConcentration()).isEqualByComparingTo("12");
+        assertThat(result.getProjectedSectorConcentration()).isEqualByComparingTo("32");
+        // 기존 AAPL (100 - 90) x 50 = 500 + 신규 10 x 50 = 500
+        assertThat(result.getProjectedOpenRiskPercent()).isEqualByComparingTo("1");
+    }
+
+    @Test
+    @DisplayName("거래 반영은 메모리 상태만 갱신하고, 일일 손실 한도를 넘으면 매수를 막는다")
+    void onTransactionCreated_updatesStateIncrementally() {
+        preTradeRiskService.check(buy("50", "110"));
+
+        // MSFT 50주 매도 (실현손익 -1,500) -> TECH 6,000 + 10,500 = 16,500, 오늘 손익 -6,500
+        preTradeRiskService.onTransactionCreated(new TransactionCreatedEvent(msftSell(), true));
+
+        PreTradeCheckResultDto result = preTradeRiskService.check(buy("50", "110"));
+
+        assertThat(result.getProjectedSectorConcentration()).isEqualByComparingTo("22.5");
+        assertThat(result.isAllowed()).isFalse();
+        assertThat(result.getMaxQuantity()).isEqualByComparingTo("0");
+        assertThat(result.getViolations())
+                .extracting(PreTradeCheckResultDto.Violation::getRule)
+                .containsExactly(PreTradeRiskService.RULE_DAILY_LOSS);
+        assertThat(result.getTodayRealizedPnl()).isEqualByComparingTo("-6500");
+        assertThat(result.getTodayRMultiple()).isEqualByComparingTo("-1.5");
+        verify(portfolioRepository, times(1)).findByAccountIdWithStock(1L);
+        verify(riskSettingsService, times(1)).getRiskSettings(1L);
+
+        PreTradeCheckResultDto sell =
+                preTradeRiskService.check(
+                        PreTradeCheckRequestDto.builder()
+                                .accountId(1L)
+                                .symbol("MSFT")
+                                .type(TransactionType.SELL)
+                                .quantity(new BigDecimal("50"))
+                                .price(new BigDecimal("210"))
+                                .build());
+        assertThat(sell.isAllowed()).isTrue();
+        assertThat(sell.getProjectedOpenPositions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이벤트 발행 이후에 다시 읽은 상태에는 거래를 더하지 않고 버린다")
+    void onTransactionCreated_evictsStateRebuiltAfterPublish() {
+        TransactionCreatedEvent event = new TransactionCreatedEvent(msftSell(), true);
+        preTradeRiskService.check(buy("10", null));
+
+        preTradeRiskService.onTransactionCreated(event);
+        preTradeRiskService.check(buy("10", null));
+
+        verify(riskSettingsService, times(2)).getRiskSettings(1L);
+    }
+
+    @Test
+    @DisplayName("과거 거래가 바뀌면 다음 체크 때 상태를 다시 읽는다")
+    void onTradeHistoryChanged_rebuildsState() {
+        preTradeRiskService.check(buy("10", null));
+        preTradeRiskService.onTradeHistoryChanged(
+                new TradeHistoryChangedEvent(1L, null, LocalDateTime.now()));
+        preTradeRiskService.check(buy("10", null));
+
+        verify(riskSettingsService, times(2)).getRiskSettings(1L);
+    }
+
+    @Test
+    @DisplayName("리스크 설정이 바뀌면 다음 체크 때 상태를 다시 읽는다")
+    void onRiskSettingsChanged_rebuildsState() {
+        preTradeRiskService.check(buy("10", null));
+        preTradeRiskService.onRiskSettingsChanged(new RiskSettingsChangedEvent(1L));
+        PreTradeCheckResultDto result = preTradeRiskService.check(buy("10", null));
+
+        assertThat(result.isAllowed()).isTrue();
+        assertThat(result.getViolations()).isEmpty();
+        verify(riskSettingsService, times(2)).getRiskSettings(1L);
+        verify(stockRepository, times(1)).findBySymbol("AAPL");
+    }
+
+    @Test
+    @DisplayName("최대 보존 시간이 지나면 다른 노드의 변경을 반영하도록 상태를 다시 읽는다")
+    void check_rebuildsAfterMaxAge() {
+        ReflectionTestUtils.setField(preTradeRiskService, "maxAgeSeconds", 0L);
+
+        preTradeRiskService.check(buy("10", null));
+        preTradeRiskService.check(buy("10", null));
+
+        verify(riskSettingsService, times(2)).getRiskSettings(1L);
+        verify(transactionRepository, times(2))
+                .findLatestBuyStopLossByStock(eq(1L), eq(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("종목 섹터가 바뀌면 섹터 캐시와 계좌 상태를 다시 읽는다")
+    void onStockSectorChanged_clearsSectorsAndStates() {
+        preTradeRiskService.check(buy("10", null));
+        preTradeRiskService.onStockSectorChanged(new StockSectorChangedEvent(1L));
+        preTradeRiskService.check(buy("10", null));
+
+        verify(stockRepository, times(2)).findBySymbol("AAPL");
+        verify(riskSettingsService, times(2)).getRiskSettings(1L);
+    }
+
+    private PreTradeCheckRequestDto buy(String quantity, String stopLoss) {
+        return PreTradeCheckRequestDto.builder()
+                .accountId(1L)
+                .symbol("AAPL")
+                .type(TransactionType.BUY)
+                .quantity(new BigDecimal(quantity))
+                .price(new BigDecimal("120"))
+                .stopLossPrice(stopLoss != null ? new BigDecimal(stopLoss) : null)
+                .build();
+    }
+
+    private Portfolio position(Stock stock, String quantity, String averagePrice) {
+        return Portfolio.builder()
+                .account(account)
+                .stock(stock)
+                .quantity(new BigDecimal(quantity))
+                .averagePrice(new BigDecimal(averagePrice))
+                .build();
+    }
+
+    /** MSFT 50주 매도 (실현손익 -1,500) */
+    private Transaction msftSell() {
+        return Transaction.builder()
+                .account(account)
+                .stock(msft)
+                .type(TransactionType.SELL)
+                .quantity(new BigDecimal("50"))
+                .price(new BigDecimal("210"))
+                .realizedPnl(new BigDecimal("-1500"))
+                .rMultiple(new BigDecimal("-1.5"))
+                .transactionDate(LocalDateTime.now())
+                .build();
+    }
+}
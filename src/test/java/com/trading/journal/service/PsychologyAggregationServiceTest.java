@@ -0,0 +1,123 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.EmotionState;
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.repository.TradeReviewRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PsychologyAggregationService 심리 집계")
+class PsychologyAggregationServiceTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    // 2024-01-01은 월요일
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 31, 23, 59, 59);
+
+    @Mock private TradeReviewRepository tradeReviewRepository;
+    @Mock private EntityManager entityManager;
+
+    @InjectMocks private PsychologyAggregationService psychologyAggregationService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = Account.builder().id(ACCOUNT_ID).name("main").build();
+    }
+
+    @Test
+    @DisplayName("요일별 승률은 감정별 승률의 평균이 아니라 전체 거래 기준 비율이다")
+    void dayStats_weightsWinRateByTrades() {
+        List<TradeReview> reviews =
+                List.of(
+                        review(START.withHour(10), EmotionState.CALM, 100, true),
+                        review(START.withHour(11), EmotionState.CALM, 50, true),
+                        review(START.withHour(12), EmotionState.CALM, -30, false),
+                        review(START.withHour(13), EmotionState.FEARFUL, -80, false));
+        when(tradeReviewRepository.streamReviewsForAggregation(ACCOUNT_ID, START, END))
+                .thenAnswer(invocation -> reviews.stream());
+
+        PsychologyAggregates aggregates =
+                psychologyAggregationService.aggregate(ACCOUNT_ID, START, END);
+
+        PsychologyAggregates.GroupStats monday = aggregates.dayStats(2);
+        assertThat(monday.count()).isEqualTo(4);
+        assertThat(monday.nonNegativeRate()).isEqualByComparingTo("50.00");
+        assertThat(monday.avgPnl()).isEqualByComparingTo("10.00");
+        assertThat(monday.dominantEmotion()).isEqualTo(EmotionState.CALM);
+        assertThat(aggregates.dayStats(1).count()).isZero();
+
+        PsychologyAggregates.GroupStats followed = aggregates.planAdherenceStats(true);
+        assertThat(followed.count()).isEqualTo(2);
+        assertThat(followed.winRate()).isEqualByComparingTo("100.00");
+        assertThat(aggregates.emotionPerformanceStats().get(EmotionState.CALM).totalPnl())
+                .isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    @DisplayName("신규 복기는 캐시된 집계에 더하고, 수정은 계좌 집계를 다시 읽는다")
+    void onReviewSaved_updatesCachedAggregatesIncrementally() {
+        when(tradeReviewRepository.streamReviewsForAggregation(eq(ACCOUNT_ID), any(), any()))
+                .thenAnswer(
+                        invocation ->
+                                List.of(review(START.plusDays(2), EmotionState.CALM, 100, true))
+                                        .stream());
+
+        PsychologyAggregates before =
+                psychologyAggregationService.aggregate(ACCOUNT_ID, START, END);
+        TradeReview added = review(START.plusDays(3), EmotionState.CALM, -40, false);
+        psychologyAggregationService.onReviewSaved(new TradeReviewSavedEvent(added, true));
+        // 기간 밖 복기는 반영하지 않는다
+        psychologyAggregationService.onReviewSaved(
+                new TradeReviewSavedEvent(
+                        review(END.plusDays(1), EmotionState.CALM, 10, true), true));
+
+        PsychologyAggregates aggregates =
+                psychologyAggregationService.aggregate(ACCOUNT_ID, START, END);
+        assertThat(aggregates.emotionPerformanceStats().get(EmotionState.CALM).count())
+                .isEqualTo(2);
+        // 이미 반환된 집계는 바뀌지 않는다 (복사본으로 교체)
+        assertThat(before.emotionPerformanceStats().get(EmotionState.CALM).count()).isEqualTo(1);
+        verify(tradeReviewRepository, times(1)).streamReviewsForAggregation(any(), any(), any());
+
+        psychologyAggregationService.onReviewSaved(new TradeReviewSavedEvent(added, false));
+        psychologyAggregationService.aggregate(ACCOUNT_ID, START, END);
+        verify(tradeReviewRepository, times(2)).streamReviewsForAggregation(any(), any(), any());
+    }
+
+    private TradeReview review(
+            LocalDateTime tradeTime, EmotionState before, long pnl, boolean followedPlan) {
+        Transaction transaction =
+                Transaction.builder()
+                        .account(account)
+                        .transactionDate(tradeTime)
+                        .realizedPnl(BigDecimal.valueOf(pnl))
+                        .build();
+        return TradeReview.builder()
+                .transaction(transaction)
+                .emotionBefore(before)
+                .emotionAfter(EmotionState.NEUTRAL)
+                .followedPlan(followedPlan)
+                .build();
+    }
+}
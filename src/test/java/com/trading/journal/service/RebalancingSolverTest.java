@@ -0,0 +1,114 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.trading.journal.dto.RebalancePlanDto.AccountPlan;
+import com.trading.journal.dto.RebalancePlanDto.PlannedTrade;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.service.RebalancingSolver.Holding;
+import com.trading.journal.service.RebalancingSolver.Lot;
+import com.trading.journal.service.RebalancingSolver.Options;
+import com.trading.journal.service.RebalancingSolver.Target;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RebalancingSolver 최소 거래 계산")
+class RebalancingSolverTest {
+
+    private final Stock aapl = Stock.builder().id(1L).symbol("AAPL").name("Apple").build();
+    private final Stock msft = Stock.builder().id(2L).symbol("MSFT").name("Microsoft").build();
+    private final Stock jpm = Stock.builder().id(3L).symbol("JPM").name("JPMorgan").build();
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 종목만 매매 단위로 내림해 목표까지 거래하고 매도를 먼저 둔다")
+    void solve_tradesOutOfBandPositionsInLots() {
+        AccountPlan plan =
+                RebalancingSolver.solve(
+                        10L,
+                        List.of(holding(aapl, "65", "100"), holding(msft, "35", "100")),
+                        List.of(target(aapl, "40"), target(msft, "60")),
+                        Map.of(),
+                        Map.of(),
+                        options(10, false, null));
+
+        assertThat(plan.getOutOfBandCount()).isEqualTo(2);
+        assertThat(plan.getTrades())
+                .extracting(PlannedTrade::getStockSymbol, PlannedTrade::getAction)
+                .containsExactly(tuple("AAPL", "SELL"), tuple("MSFT", "BUY"));
+        // 초과 2,500 → 25주 → 10주 단위 내림 20주
+        assertThat(plan.getTrades().get(0).getQuantity()).isEqualByComparingTo("20");
+        assertThat(plan.getTrades().get(1).getQuantity()).isEqualByComparingTo("20");
+        assertThat(plan.getTrades().get(0).getDriftAfter()).isEqualByComparingTo("5");
+        assertThat(plan.getNetCashFlow()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("세금 고려 시 이익이 나는 매도는 허용 범위 경계까지만 줄이고 FIFO 로트로 손익을 추정한다")
+    void solve_taxAwareTrimsGainsToBandEdge() {
+        Map<Long, List<Lot>> lots =
+                Map.of(
+                        1L,
+                        List.of(
+                                new Lot(100L, new BigDecimal("10"), new BigDecimal("50")),
+                                new Lot(101L, new BigDecimal("60"), new BigDecimal("90"))));
+
+        AccountPlan plan =
+                RebalancingSolver.solve(
+                        10L,
+                        List.of(holding(aapl, "70", "100"), holding(msft, "30", "100")),
+                        List.of(target(aapl, "50"), target(msft, "50")),
+                        Map.of(),
+                        lots,
+                        options(1, true, BigDecimal.ZERO));
+
+        PlannedTrade sell = plan.getTrades().get(0);
+        // 목표 50%가 아니라 경계 55%까지: 7,000 - 5,500 = 1,500 → 15주
+        assertThat(sell.getQuantity()).isEqualByComparingTo("15");
+        assertThat(sell.getLotTransactionIds()).containsExactly(100L, 101L);
+        // 10주 × (100 - 50) + 5주 × (100 - 90)
+        assertThat(sell.getEstimatedRealizedGain()).isEqualByComparingTo("550");
+
+        // 가용 현금 0이면 매수는 매도 대금 안으로 줄어든다
+        PlannedTrade buy = plan.getTrades().get(1);
+        assertThat(buy.getQuantity()).isEqualByComparingTo("15");
+        assertThat(plan.getNetCashFlow()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("목표가 없는 종목은 전량 매도하고 최소 거래 금액 미만과 범위 안 종목은 건너뛴다")
+    void solve_liquidatesUntargetedAndSkipsSmallTrades() {
+        AccountPlan plan =
+                RebalancingSolver.solve(
+                        10L,
+                        List.of(
+                                holding(aapl, "48", "100"),
+                                holding(msft, "45", "100"),
+                                holding(jpm, "7", "100")),
+                        List.of(target(aapl, "50"), target(msft, "50")),
+                        Map.of(),
+                        Map.of(),
+                        new Options(new BigDecimal("500"), 1, Map.of(), false, null));
+
+        assertThat(plan.getTrades()).hasSize(1);
+        PlannedTrade sell = plan.getTrades().get(0);
+        assertThat(sell.getStockSymbol()).isEqualTo("JPM");
+        assertThat(sell.getQuantity()).isEqualByComparingTo("7");
+        assertThat(sell.getAmount()).isEqualByComparingTo("700");
+    }
+
+    private Holding holding(Stock stock, String quantity, String price) {
+        return new Holding(stock, new BigDecimal(quantity), new BigDecimal(price));
+    }
+
+    private Target target(Stock stock, String percent) {
+        return new Target(stock, new BigDecimal(percent), BigDecimal.valueOf(5), 0);
+    }
+
+    private Options options(int lotSize, boolean taxAware, BigDecimal cash) {
+        return new Options(BigDecimal.ZERO, lotSize, Map.of(), taxAware, cash);
+    }
+}
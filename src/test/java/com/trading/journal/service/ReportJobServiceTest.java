@@ -0,0 +1,173 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.dto.ReportJobDto;
+import com.trading.journal.dto.ReportJobDto.JobStatus;
+import com.trading.journal.dto.ReportJobDto.ReportFormat;
+import com.trading.journal.dto.ReportJobRequestDto;
+import com.trading.journal.exception.ResourceNotFoundException;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReportJobServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Mock private PdfReportService pdfReportService;
+    @Mock private ExportService exportService;
+    @Mock private TransactionDataVersionService dataVersionService;
+    @Mock private SecurityContextService securityContextService;
+
+    @InjectMocks private ReportJobService reportJobService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportJobService, "workerThreads", 1);
+        ReflectionTestUtils.setField(reportJobService, "queueCapacity", 5);
+        ReflectionTestUtils.setField(reportJobService, "resultTtlMinutes", 30L);
+        ReflectionTestUtils.setField(reportJobService, "cacheMaxEntries", 10);
+        reportJobService.init();
+
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(1L));
+        when(dataVersionService.currentVersion()).thenReturn("v1");
+        when(pdfReportService.generatePortfolioReport(
+                        isNull(), eq(START), eq(END), any(ReportCharts.class)))
+                .thenReturn(new byte[] {1, 2, 3});
+        when(exportService.exportPeriodReportToExcel(
+                        any(), eq(START), eq(END), any(ReportCharts.class)))
+                .thenReturn(new byte[] {4, 5});
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.destroy();
+    }
+
+    private ReportJobRequestDto request(ReportFormat format) {
+        return ReportJobRequestDto.builder().format(format).startDate(START).endDate(END).build();
+    }
+
+    private void waitForCompletion(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (reportJobService.getJob(jobId).getStatus() != JobStatus.COMPLETED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("제출한 작업이 완료되면 다운로드할 수 있다")
+    void submit_completesAndDownloads() throws InterruptedException {
+        ReportJobDto submitted = reportJobService.submit(request(ReportFormat.PDF));
+
+        waitForCompletion(submitted.getJobId());
+
+        ReportJobService.ReportFile file = reportJobService.download(submitted.getJobId());
+        assertThat(file.content()).containsExactly(1, 2, 3);
+        assertThat(file.fileName()).isEqualTo("portfolio_report_20240101_20241231.pdf");
+        assertThat(reportJobService.getJob(submitted.getJobId()).getDownloadUrl())
+                .endsWith("/download");
+    }
+
+    @Test
+    @DisplayName("같은 데이터 버전의 동일 리포트는 캐시에서 반환한다")
+    void submit_returnsCachedResult() {
+        reportJobService.generateNow(request(ReportFormat.PDF));
+
+        ReportJobDto second = reportJobService.submit(request(ReportFormat.PDF));
+
+        assertThat(second.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(second.isCacheHit()).isTrue();
+        verify(pdfReportService, times(1))
+                .generatePortfolioReport(any(), any(), any(), any(ReportCharts.class));
+    }
+
+    @Test
+    @DisplayName("거래 데이터가 바뀌면 캐시를 사용하지 않는다")
+    void generateNow_dataVersionChange_regenerates() {
+        reportJobService.generateNow(request(ReportFormat.PDF));
+        when(dataVersionService.currentVersion()).thenReturn("v2");
+
+        reportJobService.generateNow(request(ReportFormat.PDF));
+
+        verify(pdfReportService, times(2))
+                .generatePortfolioReport(any(), any(), any(), any(ReportCharts.class));
+    }
+
+    @Test
+    @DisplayName("PDF와 Excel은 같은 차트 렌더링 결과를 공유한다")
+    void generateNow_sharesChartsAcrossFormats() {
+        reportJobService.generateNow(request(ReportFormat.PDF));
+        reportJobService.generateNow(request(ReportFormat.EXCEL));
+
+        ArgumentCaptor<ReportCharts> pdfCharts = ArgumentCaptor.forClass(ReportCharts.class);
+        ArgumentCaptor<ReportCharts> excelCharts = ArgumentCaptor.forClass(ReportCharts.class);
+        verify(pdfReportService)
+                .generatePortfolioReport(isNull(), eq(START), eq(END), pdfCharts.capture());
+        verify(exportService)
+                .exportPeriodReportToExcel(isNull(), eq(START), eq(END), excelCharts.capture());
+        assertThat(excelCharts.getValue()).isSameAs(pdfCharts.getValue());
+    }
+
+    @Test
+    @DisplayName("Excel 리포트도 요청한 계좌로 범위를 좁힌다")
+    void generateNow_excelScopedToAccount() {
+        reportJobService.generateNow(
+                ReportJobRequestDto.builder()
+                        .format(ReportFormat.EXCEL)
+                        .accountId(7L)
+                        .startDate(START)
+                        .endDate(END)
+                        .build());
+
+        verify(exportService)
+                .exportPeriodReportToExcel(eq(7L), eq(START), eq(END), any(ReportCharts.class));
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외")
+    void submit_invalidPeriod_throws() {
+        ReportJobRequestDto invalid =
+                ReportJobRequestDto.builder()
+                        .format(ReportFormat.PDF)
+                        .startDate(END)
+                        .endDate(START)
+                        .build();
+
+        assertThatThrownBy(() -> reportJobService.submit(invalid))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+    void getJob_otherUser_notFound() {
+        reportJobService.generateNow(request(ReportFormat.PDF));
+        ReportJobDto job = reportJobService.submit(request(ReportFormat.PDF));
+
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(2L));
+
+        assertThatThrownBy(() -> reportJobService.getJob(job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -24,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import yahoofinance.Stock;
 import yahoofinance.YahooFinance;
 import yahoofinance.histquotes.HistoricalQuote;
@@ -34,6 +35,7 @@ import yahoofinance.quotes.stock.StockQuote;
 class StockPriceServiceTest {
 
     @Mock private HistoricalPriceRepository historicalPriceRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private StockPriceService stockPriceService;
 
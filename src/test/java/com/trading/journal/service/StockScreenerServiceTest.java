@@ -0,0 +1,125 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.journal.dto.ScreenerRequestDto;
+import com.trading.journal.dto.ScreenerResultDto;
+import com.trading.journal.entity.SavedScreen;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.StockFundamentals;
+import com.trading.journal.repository.SavedScreenRepository;
+import com.trading.journal.repository.StockFundamentalsRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockScreenerService 인메모리 스크리닝")
+class StockScreenerServiceTest {
+
+    @Mock private StockFundamentalsRepository fundamentalsRepository;
+    @Mock private SavedScreenRepository savedScreenRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StockScreenerService stockScreenerService;
+
+    @BeforeEach
+    void setUp() {
+        StockScreenerIndex index = new StockScreenerIndex(fundamentalsRepository);
+        stockScreenerService = new StockScreenerService(index, savedScreenRepository, objectMapper);
+        when(fundamentalsRepository.findAll())
+                .thenReturn(
+                        List.of(
+                                stock(1L, "AAPL", Sector.TECH, "3000", "30", "150"),
+                                stock(2L, "MSFT", Sector.TECH, "2800", "35", "40"),
+                                stock(3L, "JPM", Sector.FINANCE, "500", "12", "15"),
+                                stock(4L, "005930.KS", Sector.TECH, "400", "10", "9"),
+                                stock(5L, "XOM", Sector.ENERGY, "450", null, "20")));
+    }
+
+    @Test
+    @DisplayName("범위/섹터/거래소 필터를 AND로 결합하고 기본 정렬은 시가총액 내림차순이다")
+    void screenStocks_filtersAndSortsByMarketCap() {
+        ScreenerRequestDto request = new ScreenerRequestDto();
+        request.setSectors(List.of("TECH"));
+        request.setMaxPe(new BigDecimal("32"));
+
+        ScreenerResultDto result = stockScreenerService.screenStocks(request);
+
+        assertThat(result.getStocks())
+                .extracting(ScreenerResultDto.StockResult::getSymbol)
+                .containsExactly("AAPL", "005930.KS");
+        assertThat(result.getTotalResults()).isEqualTo(2);
+
+        request.setExchanges(List.of("KRX"));
+        assertThat(stockScreenerService.screenStocks(request).getStocks())
+                .extracting(ScreenerResultDto.StockResult::getSymbol)
+                .containsExactly("005930.KS");
+    }
+
+    @Test
+    @DisplayName("낮을수록 좋은 팩터는 백분위가 반전되고, 가중 점수 순으로 정렬된다")
+    void screenStocks_ranksByCompositeScore() {
+        ScreenerRequestDto request = new ScreenerRequestDto();
+        request.setFactorWeights(Map.of("peRatio", 1.0, "ROE", 1.0));
+        request.setMinPercentiles(Map.of("PE_RATIO", new BigDecimal("50")));
+
+        ScreenerResultDto result = stockScreenerService.screenStocks(request);
+
+        // PE 하위 절반(005930.KS 10, JPM 12)만 남는다: (100 + 0) / 2 > (66.67 + 25) / 2
+        assertThat(result.getStocks())
+                .extracting(ScreenerResultDto.StockResult::getSymbol)
+                .containsExactly("005930.KS", "JPM");
+        ScreenerResultDto.StockResult second = result.getStocks().get(1);
+        assertThat(second.getPercentiles().get("PE_RATIO")).isEqualByComparingTo("66.67");
+        assertThat(second.getPercentiles().get("ROE")).isEqualByComparingTo("25.00");
+        assertThat(second.getScore()).isEqualByComparingTo("45.83");
+    }
+
+    @Test
+    @DisplayName("저장된 스크린 여러 개를 한 스냅샷으로 실행하고, 알 수 없는 팩터는 400 대상 예외다")
+    void runSavedScreens_sharesOneSnapshot() {
+        SavedScreen large =
+                SavedScreen.builder().id(10L).criteriaJson("{\"minMarketCap\":1000}").build();
+        SavedScreen value = SavedScreen.builder().id(11L).criteriaJson("{\"maxPe\":15}").build();
+        when(savedScreenRepository.findAllById(List.of(11L, 10L)))
+                .thenReturn(List.of(large, value));
+
+        Map<Long, ScreenerResultDto> results =
+                stockScreenerService.runSavedScreens(List.of(11L, 10L));
+
+        assertThat(results.keySet()).containsExactly(11L, 10L);
+        assertThat(results.get(10L).getTotalResults()).isEqualTo(2);
+        assertThat(results.get(11L).getTotalResults()).isEqualTo(2);
+        verify(fundamentalsRepository, times(1)).findAll();
+
+        ScreenerRequestDto request = new ScreenerRequestDto();
+        request.setSortBy("unknownFactor");
+        assertThatThrownBy(() -> stockScreenerService.screenStocks(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StockFundamentals stock(
+            Long id, String symbol, Sector sector, String marketCap, String pe, String roe) {
+        return StockFundamentals.builder()
+                .id(id)
+                .symbol(symbol)
+                .companyName(symbol)
+                .sector(sector)
+                .marketCap(new BigDecimal(marketCap))
+                .peRatio(pe != null ? new BigDecimal(pe) : null)
+                .returnOnEquity(new BigDecimal(roe))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.trading.journal.service.BenchmarkComparisonEngine.Series;
+import com.trading.journal.service.StressTestEngine.Book;
+import com.trading.journal.service.StressTestEngine.Shock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StressTestEngineTest {
+
+    private static final Book BOOK =
+            new Book(
+                    new String[] {"AAPL", "JPM", "XOM"},
+                    new String[] {"TECH", "FINANCE", null},
+                    new double[] {1000, 2000, 500},
+                    new double[] {1.5, 1.0, 0.5});
+
+    @Test
+    @DisplayName("종목 재현 수익률 > 섹터 충격 > 베타 × 시장 충격 순으로 적용")
+    void shockMatrix_precedence() {
+        Shock market = new Shock(-0.2, Map.of(), Map.of());
+        Shock sector = new Shock(-0.2, Map.of("FINANCE", -0.5), Map.of());
+        Shock replay = new Shock(-0.2, Map.of("TECH", -0.4), Map.of("AAPL", -0.1));
+
+        double[][] shocks = StressTestEngine.shockMatrix(BOOK, List.of(market, sector, replay));
+
+        assertThat(shocks[0]).containsExactly(new double[] {-0.3, -0.2, -0.1}, within(1e-12));
+        assertThat(shocks[1]).containsExactly(new double[] {-0.3, -0.5, -0.1}, within(1e-12));
+        assertThat(shocks[2]).containsExactly(new double[] {-0.1, -0.2, -0.1}, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("고베타 포지션의 충격은 -100%에서 멈춘다")
+    void shockMatrix_floorsAtTotalLoss() {
+        double[][] shocks =
+                StressTestEngine.shockMatrix(BOOK, List.of(new Shock(-0.8, Map.of(), Map.of())));
+
+        assertThat(shocks[0][0]).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("손실 행렬은 평가가치 × 충격의 부호 반전")
+    void losses_perScenarioAndPosition() {
+        double[][] losses =
+                StressTestEngine.losses(
+                        BOOK.values(), new double[][] {{-0.1, -0.2, 0.1}, {0, -1, 0}});
+
+        assertThat(losses[0]).containsExactly(new double[] {100, 400, -50}, within(1e-9));
+        assertThat(losses[1]).containsExactly(new double[] {0, 2000, 0}, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("벤치마크의 2배로 움직이는 종목은 베타 2, 관측치가 부족하면 1")
+    void beta_fromAlignedDailyReturns() {
+        int n = 30;
+        LocalDate[] dates = new LocalDate[n];
+        double[] benchmark = new double[n];
+        double[] asset = new double[n];
+        benchmark[0] = 100;
+        asset[0] = 100;
+        for (int i = 0; i < n; i++) {
+            dates[i] = LocalDate.of(2024, 1, 1).plusDays(i);
+            if (i > 0) {
+                double r = (i % 3 == 0 ? -0.01 : 0.008);
+                benchmark[i] = benchmark[i - 1] * (1 + r);
+                asset[i] = asset[i - 1] * (1 + 2 * r);
+            }
+        }
+
+        Series b = StressTestEngine.dailyReturns(dates, benchmark);
+        Series a = StressTestEngine.dailyReturns(dates, asset);
+
+        assertThat(StressTestEngine.beta(a, b)).isCloseTo(2.0, within(1e-9));
+        assertThat(StressTestEngine.beta(a, Series.EMPTY)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구간 재현: 시작일 전 종가에서 종료일 이하 마지막 종가까지 (하루짜리 사건 포함)")
+    void windowReturn_usesCloseBeforeStart() {
+        LocalDate d = LocalDate.of(1987, 10, 16);
+        LocalDate[] dates = {d, d.plusDays(3), d.plusDays(4)};
+        double[] closes = {100, 78, 80};
+
+        assertThat(StressTestEngine.windowReturn(dates, closes, d.plusDays(3), d.plusDays(3)))
+                .isCloseTo(-0.22, within(1e-12));
+        assertThat(StressTestEngine.windowReturn(dates, closes, d, d.plusDays(4))).isNaN();
+    }
+}
@@ -0,0 +1,210 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.trading.journal.dto.StressTestLibraryResultDto;
+import com.trading.journal.dto.StressTestRequestDto;
+import com.trading.journal.dto.StressTestResultDto;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.BenchmarkType;
+import com.trading.journal.entity.HistoricalPrice;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Sector;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.StressScenario;
+import com.trading.journal.exception.UnauthorizedAccessException;
+import com.trading.journal.repository.AccountRepository;
+import com.trading.journal.repository.BenchmarkPriceRepository;
+import com.trading.journal.repository.HistoricalPriceRepository;
+import com.trading.journal.repository.PortfolioRepository;
+import com.trading.journal.repository.StressScenarioRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StressTestServiceTest {
+
+    @Mock private StressScenarioRepository scenarioRepository;
+    @Mock private PortfolioRepository portfolioRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private HistoricalPriceRepository historicalPriceRepository;
+    @Mock private BenchmarkPriceRepository benchmarkPriceRepository;
+    @Mock private AccountService accountService;
+    @Mock private SecurityContextService securityContextService;
+
+    @InjectMocks private StressTestService stressTestService;
+
+    private final Account account = Account.builder().id(1L).name("메인").build();
+    private StressScenario covid;
+    private StressScenario techSelloff;
+
+    @BeforeEach
+    void setUp() {
+        covid =
+                StressScenario.builder()
+                        .id(1L)
+                        .scenarioCode("COVID_2020")
+                        .name("COVID-19 Crash")
+                        .startDate(LocalDate.of(2020, 2, 19))
+                        .endDate(LocalDate.of(2020, 3, 23))
+                        .marketShockPercent(new BigDecimal("-33.90"))
+                        .build();
+        techSelloff =
+                StressScenario.builder()
+                        .id(2L)
+                        .scenarioCode("TECH_SELLOFF")
+                        .name("Tech Selloff")
+                        .marketShockPercent(new BigDecimal("-10"))
+                        .sectorImpacts(Map.of("TECH", new BigDecimal("-40")))
+                        .build();
+    }
+
+    @Test
+    @DisplayName("라이브러리 실행 - 포지션은 한 번만 읽고 모든 시나리오를 한 번에 적용")
+    void runScenarioLibrary_appliesWholeLibrary() {
+        // Given - 베타 추정용 벤치마크 이력은 없고, COVID 구간은 벤치마크 -30%, AAPL -25%
+        when(accountService.getAccountEntity(1L)).thenReturn(account);
+        when(portfolioRepository.findByAccountIdWithStock(1L)).thenReturn(positions());
+        when(scenarioRepository.findAllByOrderByNameAsc()).thenReturn(List.of(covid, techSelloff));
+        when(benchmarkPriceRepository.findClosePricesByBenchmarkAndPeriod(
+                        eq(BenchmarkType.SP500), any(), any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<LocalDate>getArgument(1).getYear() == 2020
+                                        ? List.of(
+                                                close(LocalDate.of(2020, 2, 14), "100"),
+                                                close(LocalDate.of(2020, 3, 23), "70"))
+                                        : List.of());
+        when(historicalPriceRepository.findBySymbolsAndPriceDateBetween(anyList(), any(), any()))
+                .thenReturn(
+                        List.of(
+                                price("AAPL", LocalDate.of(2020, 2, 18), "100"),
+                                price("AAPL", LocalDate.of(2020, 3, 20), "75")));
+
+        // When
+        StressTestLibraryResultDto result = stressTestService.runScenarioLibrary(1L);
+
+        // Then
+        assertThat(result.getResults()).hasSize(2);
+        StressTestResultDto covidResult = result.getResults().get(0);
+        // AAPL 자체 재현 -25% (250) + XOM 벤치마크 재현 -30% × 베타 1 (300)
+        assertThat(covidResult.getAbsoluteLoss()).isEqualByComparingTo("550");
+        assertThat(covidResult.getShockPercent()).isEqualByComparingTo("-30");
+        StressTestResultDto techResult = result.getResults().get(1);
+        // AAPL 섹터 충격 -40% (400) + XOM 시장 충격 -10% (100)
+        assertThat(techResult.getAbsoluteLoss()).isEqualByComparingTo("500");
+
+        assertThat(result.getPortfolioValue()).isEqualByComparingTo("2000");
+        assertThat(result.getWorstScenarioCode()).isEqualTo("COVID_2020");
+        assertThat(result.getWorstPercentageLoss()).isEqualByComparingTo("27.5");
+        verify(portfolioRepository, times(1)).findByAccountIdWithStock(1L);
+        // 가격 이력은 기간 있는 시나리오 구간당 한 번 (베타 추정은 벤치마크가 없어 생략)
+        verify(historicalPriceRepository, times(1))
+                .findBySymbolsAndPriceDateBetween(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("단일 시나리오 실행은 베타/재현 없이 시장·섹터 충격만 적용")
+    void runStressTest_flatShock() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(portfolioRepository.findByAccountIdWithStock(1L)).thenReturn(positions());
+        when(scenarioRepository.findByScenarioCode("TECH_SELLOFF"))
+                .thenReturn(Optional.of(techSelloff));
+
+        StressTestResultDto result =
+                stressTestService.runStressTest(
+                        StressTestRequestDto.builder()
+                                .accountId(1L)
+                                .scenarioCode("TECH_SELLOFF")
+                                .build());
+
+        assertThat(result.getAbsoluteLoss()).isEqualByComparingTo("500");
+        assertThat(result.getPercentageLoss()).isEqualByComparingTo("25");
+        assertThat(result.getPositionImpacts().get(0).getSymbol()).isEqualTo("AAPL");
+        assertThat(result.getPositionImpacts().get(0).getContributionToTotalLoss())
+                .isEqualByComparingTo("80");
+        verifyNoInteractions(historicalPriceRepository, benchmarkPriceRepository);
+    }
+
+    @Test
+    @DisplayName("라이브러리 실행 - 다른 사용자 계좌는 소유권 검사에서 막힌다")
+    void runScenarioLibrary_rejectsForeignAccount() {
+        when(accountService.getAccountEntity(2L))
+                .thenThrow(new UnauthorizedAccessException("Account", 2L, "user"));
+
+        assertThatThrownBy(() -> stressTestService.runScenarioLibrary(2L))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verifyNoInteractions(portfolioRepository, scenarioRepository);
+    }
+
+    @Test
+    @DisplayName("전체 리포트 - 현재 사용자의 계좌 포지션만 읽는다")
+    void runScenarioLibraryForCurrentUser_onlyOwnAccounts() {
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(7L));
+        when(accountRepository.findByUserIdOrderByIsDefaultDescCreatedAtAsc(7L))
+                .thenReturn(List.of(account));
+        when(portfolioRepository.findByAccountIdInWithStock(Set.of(1L))).thenReturn(positions());
+        when(scenarioRepository.findAllByOrderByNameAsc()).thenReturn(List.of(techSelloff));
+
+        List<StressTestLibraryResultDto> results =
+                stressTestService.runScenarioLibraryForCurrentUser();
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getAccountId()).isEqualTo(1L);
+        assertThat(results.get(0).getResults().get(0).getAbsoluteLoss())
+                .isEqualByComparingTo("500");
+        verify(portfolioRepository, never()).findAllWithStockAndAccount();
+    }
+
+    @Test
+    @DisplayName("전체 리포트 - 로그인하지 않으면 거부")
+    void runScenarioLibraryForCurrentUser_requiresLogin() {
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> stressTestService.runScenarioLibraryForCurrentUser())
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verifyNoInteractions(portfolioRepository);
+    }
+
+    private List<Portfolio> positions() {
+        return List.of(
+                position("AAPL", Sector.TECH, "100", "10"), position("XOM", null, "50", "20"));
+    }
+
+    private Portfolio position(String symbol, Sector sector, String averagePrice, String qty) {
+        return Portfolio.builder()
+                .account(account)
+                .stock(Stock.builder().symbol(symbol).name(symbol).sector(sector).build())
+                .averagePrice(new BigDecimal(averagePrice))
+                .quantity(new BigDecimal(qty))
+                .build();
+    }
+
+    private HistoricalPrice price(String symbol, LocalDate date, String close) {
+        return HistoricalPrice.builder()
+                .symbol(symbol)
+                .priceDate(date)
+                .closePrice(new BigDecimal(close))
+                .build();
+    }
+
+    private Object[] close(LocalDate date, String close) {
+        return new Object[] {date, new BigDecimal(close)};
+    }
+}
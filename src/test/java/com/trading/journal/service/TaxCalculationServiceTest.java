@@ -1,18 +1,15 @@
 package com.trading.journal.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.trading.journal.dto.TaxCalculationDto;
+import com.trading.journal.entity.RealizedGainSummary;
 import com.trading.journal.entity.Stock;
-import com.trading.journal.entity.Transaction;
-import com.trading.journal.entity.TransactionType;
-import com.trading.journal.repository.StockRepository;
-import com.trading.journal.repository.TransactionRepository;
+import com.trading.journal.entity.TaxLot;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,9 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class TaxCalculationServiceTest {
 
-    @Mock private TransactionRepository transactionRepository;
-
-    @Mock private StockRepository stockRepository;
+    @Mock private TaxLotLedgerService taxLotLedgerService;
+    @Mock private FifoCalculationService fifoCalculationService;
 
     @InjectMocks private TaxCalculationService taxCalculationService;
 
@@ -50,110 +46,69 @@ class TaxCalculationServiceTest {
     void calculateTax_WithProfitOverDeduction_ShouldCalculateTax() {
         Integer year = 2024;
 
-        // FIFO 계산:
-        // 삼성전자: 100주@80000 매도, 원가 100주@50000 -> 이익 = 100*(80000-50000) = 3,000,000
-        // SK하이닉스: 50주@110000 매도, 원가 50주@120000 -> 손실 = 50*(110000-120000) = -500,000
-        List<Transaction> transactions =
-                Arrays.asList(
-                        // 삼성전자 매수/매도 - 이익 300만원
-                        createTransaction(
-                                1L,
-                                stock1,
-                                TransactionType.BUY,
-                                new BigDecimal("100"),
-                                new BigDecimal("50000"),
-                                LocalDateTime.of(2024, 1, 10, 9, 0)),
-                        createTransaction(
-                                2L,
-                                stock1,
-                                TransactionType.SELL,
-                                new BigDecimal("100"),
-                                new BigDecimal("80000"),
-                                LocalDateTime.of(2024, 3, 15, 14, 30),
-                                new BigDecimal("3000000"),
-                                new BigDecimal("5000000")), // realizedPnl, costBasis
-
-                        // SK하이닉스 매수/매도 - 손실 50만원
-                        createTransaction(
-                                3L,
-                                stock2,
-                                TransactionType.BUY,
-                                new BigDecimal("50"),
-                                new BigDecimal("120000"),
-                                LocalDateTime.of(2024, 2, 5, 10, 0)),
-                        createTransaction(
-                                4L,
-                                stock2,
-                                TransactionType.SELL,
-                                new BigDecimal("50"),
-                                new BigDecimal("110000"),
-                                LocalDateTime.of(2024, 4, 20, 15, 0),
-                                new BigDecimal("-500000"),
-                                new BigDecimal("6000000")) // realizedPnl, costBasis
-                        );
-
-        when(transactionRepository.findByDateRange(any(), any())).thenReturn(transactions);
+        // 삼성전자: 매도 8,000,000, 원가 5,000,000 -> 이익 3,000,000
+        // SK하이닉스: 매도 5,500,000, 원가 6,000,000 -> 손실 500,000
+        when(taxLotLedgerService.findSummaries(year, null))
+                .thenReturn(List.of(summary(null, 2, "13500000", "11000000", "3000000", "500000")));
+        when(taxLotLedgerService.findLots(year, null))
+                .thenReturn(
+                        List.of(
+                                lot(
+                                        stock1,
+                                        "5000000",
+                                        "8000000",
+                                        LocalDateTime.of(2024, 1, 10, 9, 0),
+                                        LocalDateTime.of(2024, 3, 15, 14, 30)),
+                                lot(
+                                        stock2,
+                                        "6000000",
+                                        "5500000",
+                                        LocalDateTime.of(2024, 2, 5, 10, 0),
+                                        LocalDateTime.of(2024, 4, 20, 15, 0))));
 
         TaxCalculationDto result = taxCalculationService.calculateTax(year);
 
         assertThat(result).isNotNull();
         assertThat(result.getTaxYear()).isEqualTo(year);
-
-        // 총 매도금액: 8,000,000 + 5,500,000 = 13,500,000
         assertThat(result.getTotalSellAmount()).isEqualByComparingTo(new BigDecimal("13500000"));
-
-        // 총 이익: 3,000,000
+        assertThat(result.getTotalBuyAmount()).isEqualByComparingTo(new BigDecimal("11000000"));
         assertThat(result.getTotalProfit()).isEqualByComparingTo(new BigDecimal("3000000"));
-
-        // 총 손실: 500,000
         assertThat(result.getTotalLoss()).isEqualByComparingTo(new BigDecimal("500000"));
 
         // 순이익: 3,000,000 - 500,000 = 2,500,000
         assertThat(result.getNetProfit()).isEqualByComparingTo(new BigDecimal("2500000"));
+        // 원장 조회 전 해당 연도 동기화 여부 확인
+        verify(fifoCalculationService).ensureLedgerSynced(year);
 
         // 과세표준: 2,500,000 - 2,500,000(기본공제) = 0
         assertThat(result.getTaxableAmount()).isEqualByComparingTo(BigDecimal.ZERO);
-
-        // 예상 세금: 0 * 22% = 0
         assertThat(result.getEstimatedTax()).isEqualByComparingTo(BigDecimal.ZERO);
-
         assertThat(result.getTaxRate()).isEqualByComparingTo(new BigDecimal("22"));
 
-        verify(transactionRepository).findByDateRange(any(), any());
+        assertThat(result.getTaxDetails()).hasSize(2);
+        assertThat(result.getTaxDetails().get(1).getLoss())
+                .isEqualByComparingTo(new BigDecimal("500000"));
     }
 
     @Test
     void calculateTax_WithHighProfit_ShouldCalculateTax() {
         Integer year = 2024;
 
-        // FIFO 계산:
-        // 1000주@60000 매도, 원가 1000주@50000 -> 이익 = 1000*(60000-50000) = 10,000,000
-        List<Transaction> transactions =
-                Arrays.asList(
-                        // 큰 이익 발생 - 1000만원
-                        createTransaction(
-                                1L,
-                                stock1,
-                                TransactionType.BUY,
-                                new BigDecimal("1000"),
-                                new BigDecimal("50000"),
-                                LocalDateTime.of(2024, 1, 10, 9, 0)),
-                        createTransaction(
-                                2L,
-                                stock1,
-                                TransactionType.SELL,
-                                new BigDecimal("1000"),
-                                new BigDecimal("60000"),
-                                LocalDateTime.of(2024, 6, 15, 14, 30),
-                                new BigDecimal("10000000"),
-                                new BigDecimal("50000000")) // realizedPnl, costBasis
-                        );
-
-        when(transactionRepository.findByDateRange(any(), any())).thenReturn(transactions);
+        // 1000주 매도 60,000,000, 원가 50,000,000 -> 이익 10,000,000
+        when(taxLotLedgerService.findSummaries(year, null))
+                .thenReturn(List.of(summary(7L, 1, "60000000", "50000000", "10000000", "0")));
+        when(taxLotLedgerService.findLots(year, null))
+                .thenReturn(
+                        List.of(
+                                lot(
+                                        stock1,
+                                        "50000000",
+                                        "60000000",
+                                        LocalDateTime.of(2024, 1, 10, 9, 0),
+                                        LocalDateTime.of(2024, 6, 15, 14, 30))));
 
         TaxCalculationDto result = taxCalculationService.calculateTax(year);
 
-        // 순이익: 10,000,000
         assertThat(result.getNetProfit()).isEqualByComparingTo(new BigDecimal("10000000"));
 
         // 과세표준: 10,000,000 - 2,500,000 = 7,500,000
@@ -167,163 +122,121 @@ class TaxCalculationServiceTest {
     void calculateTax_WithNoSellTransactions_ShouldReturnEmptyTax() {
         Integer year = 2024;
 
-        List<Transaction> transactions =
-                Arrays.asList(
-                        // 매수만 있고 매도 없음
-                        createTransaction(
-                                1L,
-                                stock1,
-                                TransactionType.BUY,
-                                new BigDecimal("100"),
-                                new BigDecimal("50000"),
-                                LocalDateTime.of(2024, 1, 10, 9, 0)));
-
-        when(transactionRepository.findByDateRange(any(), any())).thenReturn(transactions);
+        when(taxLotLedgerService.findSummaries(year, 7L)).thenReturn(List.of());
 
-        TaxCalculationDto result = taxCalculationService.calculateTax(year);
+        TaxCalculationDto result = taxCalculationService.calculateTax(year, 7L);
 
         assertThat(result).isNotNull();
         assertThat(result.getTotalSellAmount()).isEqualByComparingTo(BigDecimal.ZERO);
         assertThat(result.getTotalProfit()).isEqualByComparingTo(BigDecimal.ZERO);
         assertThat(result.getEstimatedTax()).isEqualByComparingTo(BigDecimal.ZERO);
         assertThat(result.getTaxDetails()).isEmpty();
+        verify(taxLotLedgerService, never()).findLots(anyInt(), any());
     }
 
     @Test
     void calculateTax_WithLoss_ShouldNotCalculateTax() {
         Integer year = 2024;
 
-        // FIFO 계산:
-        // 100주@50000 매도, 원가 100주@60000 -> 손실 = 100*(50000-60000) = -1,000,000
-        List<Transaction> transactions =
-                Arrays.asList(
-                        // 손실만 발생
-                        createTransaction(
-                                1L,
-                                stock1,
-                                TransactionType.BUY,
-                                new BigDecimal("100"),
-                                new BigDecimal("60000"),
-                                LocalDateTime.of(2024, 1, 10, 9, 0)),
-                        createTransaction(
-                                2L,
-                                stock1,
-                                TransactionType.SELL,
-                                new BigDecimal("100"),
-                                new BigDecimal("50000"),
-                                LocalDateTime.of(2024, 3, 15, 14, 30),
-                                new BigDecimal("-1000000"),
-                                new BigDecimal("6000000")) // realizedPnl, costBasis
-                        );
-
-        when(transactionRepository.findByDateRange(any(), any())).thenReturn(transactions);
+        // 매도 5,000,000, 원가 6,000,000 -> 손실 1,000,000
+        when(taxLotLedgerService.findSummaries(year, null))
+                .thenReturn(List.of(summary(7L, 1, "5000000", "6000000", "0", "1000000")));
+        when(taxLotLedgerService.findLots(year, null))
+                .thenReturn(
+                        List.of(
+                                lot(
+                                        stock1,
+                                        "6000000",
+                                        "5000000",
+                                        LocalDateTime.of(2024, 1, 10, 9, 0),
+                                        LocalDateTime.of(2024, 3, 15, 14, 30))));
 
         TaxCalculationDto result = taxCalculationService.calculateTax(year);
 
-        // 순손실: -1,000,000
         assertThat(result.getNetProfit()).isEqualByComparingTo(new BigDecimal("-1000000"));
-
-        // 과세표준: 0 (손실인 경우)
         assertThat(result.getTaxableAmount()).isEqualByComparingTo(BigDecimal.ZERO);
-
-        // 예상 세금: 0
         assertThat(result.getEstimatedTax()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getTaxDetails().get(0).getTaxAmount()).isEqualByComparingTo("0");
     }
 
     @Test
     void calculateTaxDetail_ShouldDetermineIsLongTerm() {
         Integer year = 2024;
 
-        // FIFO 계산:
-        // 삼성전자: 100주@60000 매도, 원가 100주@50000 -> 이익 = 100*(60000-50000) = 1,000,000
-        // SK하이닉스: 50주@110000 매도, 원가 50주@100000 -> 이익 = 50*(110000-100000) = 500,000
-        List<Transaction> transactions =
-                Arrays.asList(
-                        // 1년 이상 보유
-                        createTransaction(
-                                1L,
-                                stock1,
-                                TransactionType.BUY,
-                                new BigDecimal("100"),
-                                new BigDecimal("50000"),
-                                LocalDateTime.of(2023, 1, 10, 9, 0)),
-                        createTransaction(
-                                2L,
-                                stock1,
-                                TransactionType.SELL,
-                                new BigDecimal("100"),
-                                new BigDecimal("60000"),
-                                LocalDateTime.of(2024, 3, 15, 14, 30),
-                                new BigDecimal("1000000"),
-                                new BigDecimal("5000000")), // realizedPnl, costBasis
-
-                        // 1년 미만 보유
-                        createTransaction(
-                                3L,
-                                stock2,
-                                TransactionType.BUY,
-                                new BigDecimal("50"),
-                                new BigDecimal("100000"),
-                                LocalDateTime.of(2024, 1, 5, 10, 0)),
-                        createTransaction(
-                                4L,
-                                stock2,
-                                TransactionType.SELL,
-                                new BigDecimal("50"),
-                                new BigDecimal("110000"),
-                                LocalDateTime.of(2024, 6, 20, 15, 0),
-                                new BigDecimal("500000"),
-                                new BigDecimal("5000000")) // realizedPnl, costBasis
-                        );
-
-        when(transactionRepository.findByDateRange(any(), any())).thenReturn(transactions);
+        when(taxLotLedgerService.findSummaries(year, null))
+                .thenReturn(List.of(summary(7L, 2, "11500000", "10000000", "1500000", "0")));
+        when(taxLotLedgerService.findLots(year, null))
+                .thenReturn(
+                        List.of(
+                                // 전년도 매수분 - 1년 이상 보유
+                                lot(
+                                        stock1,
+                                        "5000000",
+                                        "6000000",
+                                        LocalDateTime.of(2023, 1, 10, 9, 0),
+                                        LocalDateTime.of(2024, 3, 15, 14, 30)),
+                                // 1년 미만 보유
+                                lot(
+                                        stock2,
+                                        "5000000",
+                                        "5500000",
+                                        LocalDateTime.of(2024, 1, 5, 10, 0),
+                                        LocalDateTime.of(2024, 6, 20, 15, 0))));
 
         TaxCalculationDto result = taxCalculationService.calculateTax(year);
 
         assertThat(result.getTaxDetails()).hasSize(2);
 
-        // 첫 번째 거래 - 장기보유
         TaxCalculationDto.TaxDetailDto detail1 = result.getTaxDetails().get(0);
         assertThat(detail1.getStockSymbol()).isEqualTo("005930");
+        assertThat(detail1.getBuyDate()).hasYear(2023);
         assertThat(detail1.getIsLongTerm()).isTrue();
 
-        // 두 번째 거래 - 단기보유
         TaxCalculationDto.TaxDetailDto detail2 = result.getTaxDetails().get(1);
         assertThat(detail2.getStockSymbol()).isEqualTo("000660");
         assertThat(detail2.getIsLongTerm()).isFalse();
     }
 
-    private Transaction createTransaction(
-            Long id,
-            Stock stock,
-            TransactionType type,
-            BigDecimal quantity,
-            BigDecimal price,
-            LocalDateTime transactionDate) {
-        return createTransaction(id, stock, type, quantity, price, transactionDate, null, null);
+    private RealizedGainSummary summary(
+            Long accountId,
+            int sellCount,
+            String proceeds,
+            String costBasis,
+            String gain,
+            String loss) {
+        return RealizedGainSummary.builder()
+                .accountId(accountId)
+                .taxYear(2024)
+                .sellCount(sellCount)
+                .lotCount(sellCount)
+                .proceeds(new BigDecimal(proceeds))
+                .costBasis(new BigDecimal(costBasis))
+                .totalGain(new BigDecimal(gain))
+                .totalLoss(new BigDecimal(loss))
+                .build();
     }
 
-    private Transaction createTransaction(
-            Long id,
+    private TaxLot lot(
             Stock stock,
-            TransactionType type,
-            BigDecimal quantity,
-            BigDecimal price,
-            LocalDateTime transactionDate,
-            BigDecimal realizedPnl,
-            BigDecimal costBasis) {
-        Transaction transaction = new Transaction();
-        transaction.setId(id);
-        transaction.setStock(stock);
-        transaction.setType(type);
-        transaction.setQuantity(quantity);
-        transaction.setPrice(price);
-        // TotalAmount is calculated automatically by getTotalAmount() method
-        transaction.setTransactionDate(transactionDate);
-        if (type == TransactionType.SELL) {
-            transaction.setRealizedPnl(realizedPnl);
-            transaction.setCostBasis(costBasis);
-        }
-        return transaction;
+            String costBasis,
+            String proceeds,
+            LocalDateTime acquiredAt,
+            LocalDateTime disposedAt) {
+        long holdingDays =
+                ChronoUnit.DAYS.between(acquiredAt.toLocalDate(), disposedAt.toLocalDate());
+        BigDecimal cost = new BigDecimal(costBasis);
+        BigDecimal sell = new BigDecimal(proceeds);
+        return TaxLot.builder()
+                .stock(stock)
+                .quantity(BigDecimal.TEN)
+                .costBasis(cost)
+                .proceeds(sell)
+                .realizedGain(sell.subtract(cost))
+                .acquiredAt(acquiredAt)
+                .disposedAt(disposedAt)
+                .taxYear(disposedAt.getYear())
+                .holdingDays((int) holdingDays)
+                .longTerm(holdingDays >= 365)
+                .build();
     }
 }
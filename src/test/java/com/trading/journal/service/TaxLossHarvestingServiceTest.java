@@ -6,11 +6,17 @@ import static org.mockito.Mockito.when;
 
 import com.trading.journal.dto.TaxLossHarvestingDto;
 import com.trading.journal.entity.Account;
+import com.trading.journal.entity.Portfolio;
+import com.trading.journal.entity.Stock;
 import com.trading.journal.exception.UnauthorizedAccessException;
 import com.trading.journal.repository.AccountRepository;
 import com.trading.journal.repository.PortfolioRepository;
 import com.trading.journal.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +33,8 @@ class TaxLossHarvestingServiceTest {
     @Mock private TransactionRepository transactionRepository;
     @Mock private StockPriceService stockPriceService;
     @Mock private SecurityContextService securityContextService;
+    @Mock private TaxLotLedgerService taxLotLedgerService;
+    @Mock private FifoCalculationService fifoCalculationService;
 
     @InjectMocks private TaxLossHarvestingService taxLossHarvestingService;
 
@@ -80,4 +88,43 @@ class TaxLossHarvestingServiceTest {
         assertThat(result.getTotalOpportunities()).isZero();
         assertThat(result.getRecommendation()).contains("총 2개 계좌 기준 분석 결과입니다.");
     }
+
+    @Test
+    @DisplayName("최근 매도일은 세금 로트 원장에서, 보유 기간은 남은 매수 로트에서 계좌당 한 번에 읽는다")
+    void analyzeTaxLossHarvestingOpportunities_UsesLedgerAndOpenLots() {
+        Account account = Account.builder().id(10L).userId(1L).build();
+        Stock stock = Stock.builder().id(5L).symbol("AAPL").name("Apple").build();
+        Portfolio portfolio =
+                Portfolio.builder()
+                        .account(account)
+                        .stock(stock)
+                        .quantity(new BigDecimal("10"))
+                        .averagePrice(new BigDecimal("10000"))
+                        .totalInvestment(new BigDecimal("100000"))
+                        .build();
+        LocalDateTime lastSale = LocalDateTime.now().minusDays(5);
+        LocalDateTime firstOpenBuy = LocalDateTime.now().minusDays(400);
+
+        when(securityContextService.getCurrentUserId()).thenReturn(Optional.of(1L));
+        when(securityContextService.getCurrentUsername()).thenReturn(Optional.of("test-user"));
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(portfolioRepository.findByAccountIdWithStock(10L)).thenReturn(List.of(portfolio));
+        when(stockPriceService.getCurrentPrice("AAPL")).thenReturn(new BigDecimal("5000"));
+        when(taxLotLedgerService.findLastDisposalByStock(10L)).thenReturn(Map.of(5L, lastSale));
+        when(transactionRepository.findOldestOpenLotDateByStock(10L))
+                .thenReturn(List.<Object[]>of(new Object[] {5L, firstOpenBuy}));
+
+        TaxLossHarvestingDto result =
+                taxLossHarvestingService.analyzeTaxLossHarvestingOpportunities(10L);
+
+        assertThat(result.getTotalOpportunities()).isEqualTo(1);
+        var opportunity = result.getOpportunities().get(0);
+        assertThat(opportunity.getUnrealizedLoss()).isEqualByComparingTo("50000");
+        assertThat(opportunity.getWashSaleRisk()).isTrue();
+        assertThat(opportunity.getLastSaleDate()).isEqualTo(lastSale.toLocalDate());
+        assertThat(opportunity.getDaysUntilWashSaleClears()).isEqualTo(25);
+        assertThat(opportunity.getPurchaseDate()).isEqualTo(firstOpenBuy.toLocalDate());
+        assertThat(opportunity.getIsLongTerm()).isTrue();
+        assertThat(opportunity.getPurchaseDate()).isBefore(LocalDate.now());
+    }
 }
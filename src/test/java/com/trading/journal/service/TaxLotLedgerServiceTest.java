@@ -0,0 +1,220 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.trading.journal.dto.FifoResult.BuyConsumption;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.RealizedGainSummary;
+import com.trading.journal.entity.Stock;
+import com.trading.journal.entity.TaxLot;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.RealizedGainSummaryRepository;
+import com.trading.journal.repository.TaxLotRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaxLotLedgerService 세금 로트 원장")
+class TaxLotLedgerServiceTest {
+
+    @Mock private TaxLotRepository taxLotRepository;
+    @Mock private RealizedGainSummaryRepository summaryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks private TaxLotLedgerService taxLotLedgerService;
+
+    private Account account;
+    private Stock stock;
+
+    @BeforeEach
+    void setUp() {
+        account = Account.builder().id(1L).userId(100L).build();
+        stock = Stock.builder().id(1L).symbol("AAPL").build();
+        taxLotLedgerService.init();
+    }
+
+    @Test
+    @DisplayName("매도 금액을 수량 비율로 배분하고 로트 손익 합은 매도 실현 손익과 같다")
+    void buildLots_allocatesProceedsByQuantity() {
+        Transaction oldBuy = buy(10L, LocalDateTime.of(2023, 1, 2, 10, 0));
+        Transaction newBuy = buy(11L, LocalDateTime.of(2024, 2, 1, 10, 0));
+        Transaction sell = sell(20L, "3", "100", LocalDateTime.of(2024, 3, 1, 10, 0));
+
+        List<TaxLot> lots =
+                taxLotLedgerService.buildLots(
+                        sell,
+                        List.of(consumption(oldBuy, "1", "50"), consumption(newBuy, "2", "180")));
+
+        assertThat(lots).hasSize(2);
+        assertThat(lots.get(0).getProceeds()).isEqualByComparingTo("100.0000");
+        assertThat(lots.get(0).getLongTerm()).isTrue();
+        assertThat(lots.get(1).getProceeds()).isEqualByComparingTo("200.0000");
+        assertThat(lots.get(1).getLongTerm()).isFalse();
+        assertThat(lots.get(1).getTaxYear()).isEqualTo(2024);
+        assertThat(
+                        lots.stream()
+                                .map(TaxLot::getRealizedGain)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("70");
+    }
+
+    @Test
+    @DisplayName("매수로 덮이지 않은 수량은 원가 0인 로트로 남긴다")
+    void buildLots_keepsUnmatchedQuantity() {
+        Transaction sell = sell(20L, "5", "10", LocalDateTime.of(2024, 3, 1, 10, 0));
+
+        List<TaxLot> lots = taxLotLedgerService.buildLots(sell, List.of());
+
+        assertThat(lots).hasSize(1);
+        assertThat(lots.get(0).getBuyTransactionId()).isNull();
+        assertThat(lots.get(0).getCostBasis()).isEqualByComparingTo("0");
+        assertThat(lots.get(0).getRealizedGain()).isEqualByComparingTo("50");
+    }
+
+    @Test
+    @DisplayName("매도 재기록 시 이전 로트를 교체하고 요약은 커밋 후 재합산하도록 이벤트만 발행한다")
+    void recordSell_replacesLotsAndPublishesEvent() {
+        Transaction buy = buy(10L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        Transaction sell = sell(20L, "1", "100", LocalDateTime.of(2024, 3, 1, 10, 0));
+        TaxLot previous = lot(99L, 20L, 2023, "100", "120");
+        when(taxLotRepository.findBySellTransactionIdIn(List.of(20L)))
+                .thenReturn(List.of(previous));
+
+        taxLotLedgerService.recordSell(sell, List.of(consumption(buy, "1", "60")));
+
+        verify(taxLotRepository).deleteAllInBatch(List.of(previous));
+        verify(taxLotRepository).saveAll(anyList());
+        verify(eventPublisher)
+                .publishEvent(
+                        new TaxLotsChangedEvent(
+                                Set.of(
+                                        new TaxLotsChangedEvent.Key(1L, 2023),
+                                        new TaxLotsChangedEvent.Key(1L, 2024))));
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    @DisplayName("커밋 후 계좌/연도 요약을 로트 합계로 교체하고 로트가 없으면 삭제한다")
+    void onTaxLotsChanged_recomputesSummaryFromLots() {
+        RealizedGainSummary summary =
+                RealizedGainSummary.builder()
+                        .accountId(1L)
+                        .taxYear(2024)
+                        .sellCount(3)
+                        .lotCount(4)
+                        .proceeds(new BigDecimal("1000"))
+                        .build();
+        RealizedGainSummary emptied =
+                RealizedGainSummary.builder().accountId(1L).taxYear(2023).build();
+        when(taxLotRepository.findByAccountAndYear(1L, 2024))
+                .thenReturn(
+                        List.of(
+                                lot(1L, 20L, 2024, "100", "60"),
+                                lot(2L, 20L, 2024, "50", "40"),
+                                lot(3L, 21L, 2024, "80", "100")));
+        when(taxLotRepository.findByAccountAndYear(1L, 2023)).thenReturn(List.of());
+        when(summaryRepository.findByAccountKeyAndTaxYear(1L, 2024))
+                .thenReturn(Optional.of(summary));
+        when(summaryRepository.findByAccountKeyAndTaxYear(1L, 2023))
+                .thenReturn(Optional.of(emptied));
+
+        taxLotLedgerService.onTaxLotsChanged(
+                new TaxLotsChangedEvent(
+                        Set.of(
+                                new TaxLotsChangedEvent.Key(1L, 2024),
+                                new TaxLotsChangedEvent.Key(1L, 2023))));
+
+        verify(summaryRepository).save(summary);
+        assertThat(summary.getSellCount()).isEqualTo(2);
+        assertThat(summary.getLotCount()).isEqualTo(3);
+        assertThat(summary.getProceeds()).isEqualByComparingTo("230");
+        assertThat(summary.getCostBasis()).isEqualByComparingTo("200");
+        assertThat(summary.getTotalGain()).isEqualByComparingTo("50");
+        assertThat(summary.getTotalLoss()).isEqualByComparingTo("20");
+        verify(summaryRepository).delete(emptied);
+    }
+
+    @Test
+    @DisplayName("동시 재합산과 충돌하면 다시 읽어 재시도한다")
+    void onTaxLotsChanged_retriesOnVersionConflict() {
+        when(taxLotRepository.findByAccountAndYear(1L, 2024))
+                .thenReturn(List.of(lot(1L, 20L, 2024, "100", "60")));
+        when(summaryRepository.findByAccountKeyAndTaxYear(1L, 2024)).thenReturn(Optional.empty());
+        when(summaryRepository.save(any()))
+                .thenThrow(
+                        new ObjectOptimisticLockingFailureException(RealizedGainSummary.class, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        taxLotLedgerService.onTaxLotsChanged(
+                new TaxLotsChangedEvent(Set.of(new TaxLotsChangedEvent.Key(1L, 2024))));
+
+        verify(taxLotRepository, times(2)).findByAccountAndYear(1L, 2024);
+        verify(summaryRepository, times(2)).save(any());
+    }
+
+    private TaxLot lot(Long id, Long sellId, int year, String proceeds, String costBasis) {
+        BigDecimal proceedsAmount = new BigDecimal(proceeds);
+        BigDecimal cost = new BigDecimal(costBasis);
+        return TaxLot.builder()
+                .id(id)
+                .accountId(1L)
+                .sellTransactionId(sellId)
+                .proceeds(proceedsAmount)
+                .costBasis(cost)
+                .realizedGain(proceedsAmount.subtract(cost))
+                .taxYear(year)
+                .build();
+    }
+
+    private Transaction buy(Long id, LocalDateTime date) {
+        return Transaction.builder()
+                .id(id)
+                .account(account)
+                .stock(stock)
+                .type(TransactionType.BUY)
+                .transactionDate(date)
+                .build();
+    }
+
+    private Transaction sell(Long id, String quantity, String price, LocalDateTime date) {
+        return Transaction.builder()
+                .id(id)
+                .account(account)
+                .stock(stock)
+                .type(TransactionType.SELL)
+                .quantity(new BigDecimal(quantity))
+                .price(new BigDecimal(price))
+                .commission(BigDecimal.ZERO)
+                .transactionDate(date)
+                .build();
+    }
+
+    private BuyConsumption consumption(Transaction buy, String quantity, String cost) {
+        return BuyConsumption.builder()
+                .buyTransaction(buy)
+                .consumedQuantity(new BigDecimal(quantity))
+                .consumedCost(new BigDecimal(cost))
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trading.journal.dto.TradingPsychologyDto.TiltAnalysis;
+import com.trading.journal.entity.Account;
+import com.trading.journal.entity.EmotionState;
+import com.trading.journal.entity.TradeReview;
+import com.trading.journal.entity.Transaction;
+import com.trading.journal.entity.TransactionType;
+import com.trading.journal.repository.TradeReviewRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TiltMonitorService 실시간 틸트 감시")
+class TiltMonitorServiceTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    @Mock private TradeReviewRepository tradeReviewRepository;
+    @Mock private AlertService alertService;
+    @Mock private AlertBroadcastService alertBroadcastService;
+
+    @InjectMocks private TiltMonitorService tiltMonitorService;
+
+    private Account account;
+    private LocalDateTime base;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        account = Account.builder().id(ACCOUNT_ID).userId(USER_ID).name("main").build();
+        base = LocalDateTime.now().minusDays(3).withHour(10);
+    }
+
+    @Test
+    @DisplayName("복기를 한 건씩 반영한 결과가 구간 전체 계산과 같고, 구간 조회는 최초 한 번뿐이다")
+    void incrementalUpdates_matchBatchAnalysis() {
+        when(tradeReviewRepository.findTradesForTiltAnalysis(eq(ACCOUNT_ID), any(), any()))
+                .thenReturn(List.of());
+
+        EmotionState[][] emotions = {
+            {EmotionState.CALM, EmotionState.FEARFUL},
+            {EmotionState.FEARFUL, EmotionState.ANXIOUS},
+            {EmotionState.ANXIOUS, EmotionState.FRUSTRATED},
+            {EmotionState.FRUSTRATED, EmotionState.GREEDY},
+            {EmotionState.NEUTRAL, EmotionState.CALM},
+            {EmotionState.CONFIDENT, EmotionState.FEARFUL},
+        };
+        TiltAccumulator batch = new TiltAccumulator();
+        for (int i = 0; i < emotions.length; i++) {
+            TradeReview review =
+                    review(
+                            base.plusHours(i),
+                            emotions[i][0],
+                            emotions[i][1],
+                            i % 2 == 0 ? -100 : 40);
+            batch.accept(review);
+            tiltMonitorService.onReviewSaved(new TradeReviewSavedEvent(review, true));
+        }
+
+        TiltAnalysis live = tiltMonitorService.getCurrentStatus(ACCOUNT_ID);
+        TiltAnalysis expected = batch.toAnalysis();
+
+        assertThat(live.getTiltScore()).isEqualTo(expected.getTiltScore()).isPositive();
+        assertThat(live.getTiltLevel()).isEqualTo(expected.getTiltLevel());
+        assertThat(live.getScoreBreakdown()).isEqualTo(expected.getScoreBreakdown());
+        assertThat(live.getRecentTiltEvents()).hasSize(expected.getRecentTiltEvents().size());
+        verify(tradeReviewRepository, times(1)).findTradesForTiltAnalysis(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("틸트 단계가 올라가면 알림을 만들고 사용자에게 WebSocket으로 전송한다")
+    void levelEscalation_createsAlertAndPushes() {
+        when(tradeReviewRepository.findTradesForTiltAnalysis(eq(ACCOUNT_ID), any(), any()))
+                .thenReturn(List.of());
+
+        List<TradeReview> reviews = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reviews.add(
+                    review(base.plusHours(i), EmotionState.CALM, EmotionState.FRUSTRATED, -100));
+        }
+        reviews.forEach(
+                review ->
+                        tiltMonitorService.onReviewSaved(new TradeReviewSavedEvent(review, true)));
+
+        TiltAnalysis status = tiltMonitorService.getCurrentStatus(ACCOUNT_ID);
+        assertThat(status.getTiltLevel()).isEqualTo("SEVERE");
+        // NONE -> MODERATE -> SEVERE
+        verify(alertService).createTiltAlert(eq(ACCOUNT_ID), eq("MODERATE"), anyInt(), eq(60));
+        verify(alertService).createTiltAlert(eq(ACCOUNT_ID), eq("SEVERE"), anyInt(), eq(80));
+        verify(alertBroadcastService, times(2))
+                .sendToUser(eq(USER_ID), eq(TiltMonitorService.MESSAGE_TYPE), anyMap());
+
+        // 같은 단계가 유지되면 다시 알리지 않는다
+        tiltMonitorService.onReviewSaved(
+                new TradeReviewSavedEvent(
+                        review(base.plusHours(6), EmotionState.FEARFUL, EmotionState.FEARFUL, -10),
+                        true));
+        verify(alertService, times(2)).createTiltAlert(any(), any(), anyInt(), anyInt());
+        verify(alertBroadcastService, times(2)).sendToUser(any(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("복기 수정과 과거 일자 매도는 구간을 다시 읽고, 마지막 거래 이후 매도는 상태를 유지한다")
+    void outOfOrderChanges_rebuildWindow() {
+        TradeReview first = review(base, EmotionState.CALM, EmotionState.CALM, 10);
+        TradeReview second = review(base.plusHours(1), EmotionState.CALM, EmotionState.CALM, 10);
+        when(tradeReviewRepository.findTradesForTiltAnalysis(eq(ACCOUNT_ID), any(), any()))
+                .thenReturn(List.of(first, second));
+
+        tiltMonitorService.getCurrentStatus(ACCOUNT_ID);
+
+        tiltMonitorService.onTransactionCreated(
+                new TransactionCreatedEvent(sell(base.plusHours(2)), true));
+        verify(tradeReviewRepository, times(1)).findTradesForTiltAnalysis(any(), any(), any());
+
+        tiltMonitorService.onTransactionCreated(
+                new TransactionCreatedEvent(sell(base.minusHours(1)), true));
+        verify(tradeReviewRepository, times(2)).findTradesForTiltAnalysis(any(), any(), any());
+
+        first.setEmotionAfter(EmotionState.ANXIOUS);
+        tiltMonitorService.onReviewSaved(new TradeReviewSavedEvent(first, false));
+        verify(tradeReviewRepository, times(3)).findTradesForTiltAnalysis(any(), any(), any());
+        verify(alertService, never()).createTiltAlert(any(), any(), anyInt(), anyInt());
+    }
+
+    private TradeReview review(
+            LocalDateTime tradeTime, EmotionState before, EmotionState after, long pnl) {
+        Transaction transaction = sell(tradeTime);
+        transaction.setRealizedPnl(BigDecimal.valueOf(pnl));
+        return TradeReview.builder()
+                .id(++nextId)
+                .transaction(transaction)
+                .emotionBefore(before)
+                .emotionAfter(after)
+                .createdAt(tradeTime)
+                .build();
+    }
+
+    private Transaction sell(LocalDateTime tradeTime) {
+        return Transaction.builder()
+                .account(account)
+                .type(TransactionType.SELL)
+                .quantity(BigDecimal.TEN)
+                .price(new BigDecimal("100"))
+                .transactionDate(tradeTime)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.trading.journal.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.trading.journal.dto.TradingPsychologyDto;
@@ -12,15 +13,16 @@ import com.trading.journal.entity.TradingJournal;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.repository.TradeReviewRepository;
 import com.trading.journal.repository.TradingJournalRepository;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,8 +31,10 @@ class TradingPsychologyServiceTest {
 
     @Mock private TradeReviewRepository tradeReviewRepository;
     @Mock private TradingJournalRepository tradingJournalRepository;
+    @Mock private TiltMonitorService tiltMonitorService;
+    @Mock private EntityManager entityManager;
 
-    @InjectMocks private TradingPsychologyService tradingPsychologyService;
+    private TradingPsychologyService tradingPsychologyService;
 
     private Long accountId;
     private LocalDate startDate;
@@ -38,6 +42,12 @@ class TradingPsychologyServiceTest {
 
     @BeforeEach
     void setUp() {
+        tradingPsychologyService =
+                new TradingPsychologyService(
+                        tradeReviewRepository,
+                        tradingJournalRepository,
+                        tiltMonitorService,
+                        new PsychologyAggregationService(tradeReviewRepository, entityManager));
         accountId = 1L;
         startDate = LocalDate.of(2024, 1, 1);
         endDate = LocalDate.of(2024, 3, 31);
@@ -54,8 +64,8 @@ class TradingPsychologyServiceTest {
             List<TradeReview> tradeReviews = createSampleTradeReviews();
             List<TradingJournal> journals = createSampleJournals();
 
-            when(tradeReviewRepository.getEmotionTransitionStats(any(), any(), any()))
-                    .thenReturn(createEmotionTransitionStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
             when(tradeReviewRepository.findTradesForTiltAnalysis(any(), any(), any()))
                     .thenReturn(tradeReviews);
             when(tradeReviewRepository.getEmotionMistakeCorrelation(any(), any(), any()))
@@ -66,8 +76,6 @@ class TradingPsychologyServiceTest {
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(journals);
-            when(tradeReviewRepository.getDayOfWeekStats(any(), any(), any()))
-                    .thenReturn(createDayOfWeekStats());
 
             // When
             TradingPsychologyDto result =
@@ -92,9 +100,9 @@ class TradingPsychologyServiceTest {
         @DisplayName("감정 전환 패턴 분석 성공")
         void analyzeEmotionTransitions_WithData_ReturnsTransitionAnalysis() {
             // Given
-            List<Object[]> stats = createEmotionTransitionStats();
-            when(tradeReviewRepository.getEmotionTransitionStats(any(), any(), any()))
-                    .thenReturn(stats);
+            List<TradeReview> reviews = createAggregationReviews();
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> reviews.stream());
 
             // When
             EmotionTransitionAnalysis result =
@@ -120,8 +128,8 @@ class TradingPsychologyServiceTest {
         @DisplayName("데이터 없을 때 빈 결과 반환")
         void analyzeEmotionTransitions_NoData_ReturnsEmptyAnalysis() {
             // Given
-            when(tradeReviewRepository.getEmotionTransitionStats(any(), any(), any()))
-                    .thenReturn(Collections.emptyList());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> Stream.empty());
 
             // When
             EmotionTransitionAnalysis result =
@@ -139,11 +147,10 @@ class TradingPsychologyServiceTest {
         @DisplayName("위험한 감정 전환 패턴 감지")
         void analyzeEmotionTransitions_DetectsRiskyTransitions() {
             // Given - 긍정→부정 전환 (낮은 승률)
-            List<Object[]> stats = new ArrayList<>();
-            stats.add(
-                    new Object[] {EmotionState.CONFIDENT, EmotionState.FEARFUL, 5L, 30.0, -500.0});
-            when(tradeReviewRepository.getEmotionTransitionStats(any(), any(), any()))
-                    .thenReturn(stats);
+            List<TradeReview> reviews =
+                    transitionReviews(EmotionState.CONFIDENT, EmotionState.FEARFUL, 10, 3, -500);
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> reviews.stream());
 
             // When
             EmotionTransitionAnalysis result =
@@ -245,20 +252,18 @@ class TradingPsychologyServiceTest {
     class GetCurrentTiltStatusTests {
 
         @Test
-        @DisplayName("현재 틸트 상태 조회 - 최근 7일 데이터")
-        void getCurrentTiltStatus_ReturnsLast7DaysAnalysis() {
+        @DisplayName("현재 틸트 상태 조회 - 실시간 감시 상태 사용")
+        void getCurrentTiltStatus_DelegatesToMonitor() {
             // Given
-            List<TradeReview> recentTrades = createRecentTradeReviews();
-            when(tradeReviewRepository.findTradesForTiltAnalysis(any(), any(), any()))
-                    .thenReturn(recentTrades);
+            TiltAnalysis live = TiltAnalysis.builder().tiltScore(45).tiltLevel("MILD").build();
+            when(tiltMonitorService.getCurrentStatus(accountId)).thenReturn(live);
 
             // When
             TiltAnalysis result = tradingPsychologyService.getCurrentTiltStatus(accountId);
 
             // Then
-            assertThat(result).isNotNull();
-            assertThat(result.getTiltLevel()).isNotNull();
-            assertThat(result.getScoreBreakdown()).isNotNull();
+            assertThat(result).isSameAs(live);
+            verifyNoInteractions(tradeReviewRepository);
         }
     }
 
@@ -481,8 +486,8 @@ class TradingPsychologyServiceTest {
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(journals);
-            when(tradeReviewRepository.getDayOfWeekStats(any(), any(), any()))
-                    .thenReturn(createDayOfWeekStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
 
             // When
             DailyRhythmAnalysis result =
@@ -507,8 +512,8 @@ class TradingPsychologyServiceTest {
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(journals);
-            when(tradeReviewRepository.getDayOfWeekStats(any(), any(), any()))
-                    .thenReturn(createDayOfWeekStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
 
             // When
             DailyRhythmAnalysis result =
@@ -613,14 +618,12 @@ class TradingPsychologyServiceTest {
         @DisplayName("심리-성과 상관관계 분석 성공")
         void analyzePerformanceCorrelation_WithData_ReturnsCorrelationAnalysis() {
             // Given
-            when(tradeReviewRepository.getEmotionPerformanceStats(any(), any(), any()))
-                    .thenReturn(createEmotionPerformanceStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
             when(tradingJournalRepository
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(createSampleJournals());
-            when(tradeReviewRepository.getPlanAdherencePerformance(any(), any(), any()))
-                    .thenReturn(createPlanAdherenceStats());
 
             // When
             PsychologyPerformanceCorrelation result =
@@ -641,14 +644,12 @@ class TradingPsychologyServiceTest {
         @DisplayName("감정별 성과 통계 계산")
         void analyzePerformanceCorrelation_CalculatesEmotionPerformanceStats() {
             // Given
-            when(tradeReviewRepository.getEmotionPerformanceStats(any(), any(), any()))
-                    .thenReturn(createEmotionPerformanceStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
             when(tradingJournalRepository
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(createSampleJournals());
-            when(tradeReviewRepository.getPlanAdherencePerformance(any(), any(), any()))
-                    .thenReturn(createPlanAdherenceStats());
 
             // When
             PsychologyPerformanceCorrelation result =
@@ -673,14 +674,12 @@ class TradingPsychologyServiceTest {
         @DisplayName("집중도 상관관계 계산")
         void analyzePerformanceCorrelation_CalculatesFocusCorrelation() {
             // Given
-            when(tradeReviewRepository.getEmotionPerformanceStats(any(), any(), any()))
-                    .thenReturn(createEmotionPerformanceStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
             when(tradingJournalRepository
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(createSampleJournals());
-            when(tradeReviewRepository.getPlanAdherencePerformance(any(), any(), any()))
-                    .thenReturn(createPlanAdherenceStats());
 
             // When
             PsychologyPerformanceCorrelation result =
@@ -701,14 +700,12 @@ class TradingPsychologyServiceTest {
         @DisplayName("계획 준수 통계 분석")
         void analyzePerformanceCorrelation_AnalyzesPlanAdherence() {
             // Given
-            when(tradeReviewRepository.getEmotionPerformanceStats(any(), any(), any()))
-                    .thenReturn(createEmotionPerformanceStats());
+            when(tradeReviewRepository.streamReviewsForAggregation(any(), any(), any()))
+                    .thenAnswer(invocation -> createAggregationReviews().stream());
             when(tradingJournalRepository
                             .findByAccountIdAndJournalDateBetweenOrderByJournalDateDesc(
                                     any(), any(), any()))
                     .thenReturn(createSampleJournals());
-            when(tradeReviewRepository.getPlanAdherencePerformance(any(), any(), any()))
-                    .thenReturn(createPlanAdherenceStats());
 
             // When
             PsychologyPerformanceCorrelation result =
@@ -795,28 +792,6 @@ class TradingPsychologyServiceTest {
         return reviews;
     }
 
-    private List<TradeReview> createRecentTradeReviews() {
-        List<TradeReview> reviews = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        for (int i = 0; i < 5; i++) {
-            Transaction tx = createTransaction(today.minusDays(i), new BigDecimal("50"));
-            TradeReview review =
-                    TradeReview.builder()
-                            .transaction(tx)
-                            .emotionBefore(EmotionState.NEUTRAL)
-                            .emotionAfter(EmotionState.CALM)
-                            .followedPlan(true)
-                            .ratingScore(3)
-                            .reviewedAt(today.minusDays(i).atTime(15, 0))
-                            .createdAt(today.minusDays(i).atTime(15, 0))
-                            .build();
-            reviews.add(review);
-        }
-
-        return reviews;
-    }
-
     private List<TradeReview> createTradeReviewsWithTriggers() {
         List<TradeReview> reviews = new ArrayList<>();
         LocalDate baseDate = LocalDate.of(2024, 1, 1);
@@ -925,13 +900,34 @@ class TradingPsychologyServiceTest {
         return journals;
     }
 
-    private List<Object[]> createEmotionTransitionStats() {
-        List<Object[]> stats = new ArrayList<>();
-        // EmotionState before, EmotionState after, Long count, Double winRate, Double avgPnl
-        stats.add(new Object[] {EmotionState.CONFIDENT, EmotionState.CALM, 10L, 70.0, 150.0});
-        stats.add(new Object[] {EmotionState.CALM, EmotionState.CONFIDENT, 8L, 65.0, 120.0});
-        stats.add(new Object[] {EmotionState.CONFIDENT, EmotionState.FEARFUL, 3L, 30.0, -200.0});
-        return stats;
+    /** 집계 스트림용 복기: CONFIDENT→CALM 10건(70% 비손실), CALM→CONFIDENT 8건, CONFIDENT→FEARFUL 3건 */
+    private List<TradeReview> createAggregationReviews() {
+        List<TradeReview> reviews = new ArrayList<>();
+        reviews.addAll(transitionReviews(EmotionState.CONFIDENT, EmotionState.CALM, 10, 7, 150));
+        reviews.addAll(transitionReviews(EmotionState.CALM, EmotionState.CONFIDENT, 8, 5, 120));
+        reviews.addAll(transitionReviews(EmotionState.CONFIDENT, EmotionState.FEARFUL, 3, 1, -200));
+        return reviews;
+    }
+
+    /** 같은 감정 전환의 복기 count건 (앞의 nonNegative건은 |pnl| 이익, 나머지는 손실), 하루씩 간격 */
+    private List<TradeReview> transitionReviews(
+            EmotionState before, EmotionState after, int count, int nonNegative, long pnl) {
+        List<TradeReview> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BigDecimal amount =
+                    BigDecimal.valueOf(i < nonNegative ? Math.abs(pnl) : -Math.abs(pnl));
+            Transaction transaction = createTransaction(startDate.plusDays(i), amount);
+            transaction.setRMultiple(
+                    amount.signum() >= 0 ? new BigDecimal("1.5") : new BigDecimal("-1"));
+            reviews.add(
+                    TradeReview.builder()
+                            .transaction(transaction)
+                            .emotionBefore(before)
+                            .emotionAfter(after)
+                            .followedPlan(i % 2 == 0)
+                            .build());
+        }
+        return reviews;
     }
 
     private List<Object[]> createEmotionMistakeCorrelation() {
@@ -952,36 +948,4 @@ class TradingPsychologyServiceTest {
         counts.add(new Object[] {EmotionState.CONFIDENT, 25L});
         return counts;
     }
-
-    private List<Object[]> createDayOfWeekStats() {
-        List<Object[]> stats = new ArrayList<>();
-        // Integer dayOfWeek (1=일, 7=토), Long count, Double winRate, Double avgPnl, EmotionState
-        // emotion
-        stats.add(new Object[] {1, 5L, 60.0, 100.0, EmotionState.CALM});
-        stats.add(new Object[] {2, 10L, 65.0, 120.0, EmotionState.CONFIDENT});
-        stats.add(new Object[] {3, 8L, 55.0, 80.0, EmotionState.NEUTRAL});
-        stats.add(new Object[] {4, 12L, 70.0, 150.0, EmotionState.CONFIDENT});
-        stats.add(new Object[] {5, 9L, 50.0, 50.0, EmotionState.CALM});
-        stats.add(new Object[] {6, 6L, 45.0, 30.0, EmotionState.ANXIOUS});
-        stats.add(new Object[] {7, 3L, 40.0, 20.0, EmotionState.FEARFUL});
-        return stats;
-    }
-
-    private List<Object[]> createEmotionPerformanceStats() {
-        List<Object[]> stats = new ArrayList<>();
-        // EmotionState, Long count, Long winCount, Double avgPnl, Double totalPnl, Double
-        // avgRMultiple
-        stats.add(new Object[] {EmotionState.CONFIDENT, 20L, 14L, 100.0, 2000.0, 1.5}); // 70% 승률
-        stats.add(new Object[] {EmotionState.CALM, 15L, 9L, 80.0, 1200.0, 1.3}); // 60% 승률
-        stats.add(new Object[] {EmotionState.FEARFUL, 10L, 3L, -50.0, -500.0, 0.7}); // 30% 승률
-        return stats;
-    }
-
-    private List<Object[]> createPlanAdherenceStats() {
-        List<Object[]> stats = new ArrayList<>();
-        // Boolean followedPlan, Long count, Long winCount, Double avgPnl
-        stats.add(new Object[] {true, 30L, 20L, 100.0}); // 66.7% 승률
-        stats.add(new Object[] {false, 15L, 6L, -20.0}); // 40% 승률
-        return stats;
-    }
 }
@@ -2,6 +2,7 @@ package com.trading.journal.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import com.trading.journal.dto.TradingStatisticsDto;
@@ -11,11 +12,14 @@ import com.trading.journal.entity.Stock;
 import com.trading.journal.entity.Transaction;
 import com.trading.journal.entity.TransactionType;
 import com.trading.journal.repository.AccountRiskSettingsRepository;
+import com.trading.journal.repository.TradeReviewTagRepository;
 import com.trading.journal.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +34,8 @@ class TradingStatisticsServiceTest {
 
     @Mock private TransactionRepository transactionRepository;
     @Mock private AccountRiskSettingsRepository accountRiskSettingsRepository;
+    @Mock private TradeReviewTagRepository tradeReviewTagRepository;
+    @Mock private EntityManager entityManager;
 
     @InjectMocks private TradingStatisticsService tradingStatisticsService;
 
@@ -222,6 +228,43 @@ class TradingStatisticsServiceTest {
 
             assertThat(result).anyMatch(p -> p.getType().equals("OVERTRADING"));
         }
+
+        @Test
+        @DisplayName("손실 거래 복기에 반복된 태그를 실수 패턴으로 감지")
+        void getMistakePatterns_RepeatedReviewTag_DetectsPattern() {
+            LocalDateTime base = LocalDateTime.of(2024, 1, 10, 10, 0);
+            List<Transaction> transactions =
+                    List.of(
+                            createSellTransaction(1L, stock1, base, "-30000", "500000"),
+                            createSellTransaction(2L, stock2, base.plusDays(3), "-10000", "500000"),
+                            createSellTransaction(3L, stock1, base.plusDays(7), "-5000", "500000"));
+            when(transactionRepository.findByAccountIdAndDateRange(any(), any(), any()))
+                    .thenReturn(transactions);
+            when(accountRiskSettingsRepository.findByAccountId(any())).thenReturn(Optional.empty());
+            when(transactionRepository.findByAccountIdAndStockIdAndTypeOrderByTransactionDateAsc(
+                            any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(tradeReviewTagRepository.findLosingTradeTagsByAccount(eq(1L), any(), any()))
+                    .thenReturn(
+                            List.of(
+                                    new Object[] {"추격매수", 1L},
+                                    new Object[] {"추격매수", 2L},
+                                    new Object[] {"뉴스", 3L}));
+
+            List<MistakePattern> result =
+                    tradingStatisticsService.getMistakePatterns(1L, startDate, endDate);
+
+            assertThat(result)
+                    .filteredOn(p -> p.getType().equals("REVIEW_TAG"))
+                    .singleElement()
+                    .satisfies(
+                            p -> {
+                                assertThat(p.getDescription()).isEqualTo("복기 태그: 추격매수");
+                                assertThat(p.getCount()).isEqualTo(2);
+                                assertThat(p.getTotalLoss())
+                                        .isEqualByComparingTo(new BigDecimal("-40000"));
+                            });
+        }
     }
 
     @Nested
@@ -322,7 +365,7 @@ class TradingStatisticsServiceTest {
         @DisplayName("전체 거래 통계 조회")
         void getOverallStatistics_ReturnsStats() {
             List<Transaction> transactions = createAllTransactions();
-            when(transactionRepository.findAllWithStock()).thenReturn(transactions);
+            when(transactionRepository.streamAllWithStock()).thenReturn(transactions.stream());
 
             Map<String, Object> result = tradingStatisticsService.getOverallStatistics();
 
@@ -330,10 +373,35 @@ class TradingStatisticsServiceTest {
             assertThat(result.get("totalTrades")).isEqualTo(transactions.size());
         }
 
+        @Test
+        @DisplayName("스트림을 한 번 순회하며 승률/수익률/보유기간을 누적한다")
+        void getOverallStatistics_AccumulatesFromStream() {
+            Transaction buy = createBuyTransaction(1L, stock1, LocalDateTime.of(2024, 1, 2, 10, 0));
+            buy.setPrice(new BigDecimal("40000"));
+            // 같은 시각 매수는 매도 평균 단가에 포함되지 않는다
+            Transaction sameTimeBuy =
+                    createBuyTransaction(2L, stock1, LocalDateTime.of(2024, 1, 12, 10, 0));
+            sameTimeBuy.setPrice(new BigDecimal("90000"));
+            Transaction sell =
+                    createSellTransaction(
+                            3L, stock1, LocalDateTime.of(2024, 1, 12, 10, 0), "100000", "400000");
+            when(transactionRepository.streamAllWithStock())
+                    .thenReturn(Stream.of(buy, sameTimeBuy, sell));
+
+            Map<String, Object> result = tradingStatisticsService.getOverallStatistics();
+
+            assertThat(result.get("totalTrades")).isEqualTo(3);
+            assertThat(result.get("uniqueStocks")).isEqualTo(1L);
+            // (50000 - 40000) / 40000 = 25%
+            assertThat((double) result.get("avgReturn")).isEqualTo(25.0);
+            assertThat((double) result.get("winRate")).isEqualTo(100.0);
+            assertThat((double) result.get("avgHoldingPeriod")).isEqualTo(10.0);
+        }
+
         @Test
         @DisplayName("거래 없을 때 기본값")
         void getOverallStatistics_NoData_ReturnsDefaults() {
-            when(transactionRepository.findAllWithStock()).thenReturn(Collections.emptyList());
+            when(transactionRepository.streamAllWithStock()).thenReturn(Stream.empty());
 
             Map<String, Object> result = tradingStatisticsService.getOverallStatistics();
 
@@ -370,7 +438,7 @@ class TradingStatisticsServiceTest {
         @DisplayName("월별 수익률 조회")
         void getMonthlyReturns_ReturnsSortedList() {
             List<Transaction> transactions = createAllTransactions();
-            when(transactionRepository.findAllWithStock()).thenReturn(transactions);
+            when(transactionRepository.streamAllWithStock()).thenReturn(transactions.stream());
 
             List<Map<String, Object>> result = tradingStatisticsService.getMonthlyReturns();
 
@@ -0,0 +1,43 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.trading.journal.repository.TransactionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionDataVersionServiceTest {
+
+    @Mock private TransactionRepository transactionRepository;
+
+    @InjectMocks private TransactionDataVersionService dataVersionService;
+
+    @Test
+    @DisplayName("건수/최종 수정/최대 ID와 오늘 날짜로 버전을 만든다")
+    void currentVersion_combinesStatsAndToday() {
+        when(transactionRepository.getDataVersionStats())
+                .thenReturn(
+                        List.<Object[]>of(
+                                new Object[] {10L, LocalDateTime.of(2024, 6, 1, 0, 0), 10L}));
+
+        assertThat(dataVersionService.currentVersion())
+                .isEqualTo("10:2024-06-01T00:00:10:" + LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("거래가 없으면 빈 버전에 오늘 날짜를 붙인다")
+    void currentVersion_empty() {
+        when(transactionRepository.getDataVersionStats()).thenReturn(List.of());
+
+        assertThat(dataVersionService.currentVersion()).isEqualTo("empty:" + LocalDate.now());
+    }
+}
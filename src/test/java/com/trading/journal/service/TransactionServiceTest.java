@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -51,6 +52,8 @@ class TransactionServiceTest {
 
     @Mock private SecurityContextService securityContextService;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks private TransactionService transactionService;
 
     private Account mockAccount;
@@ -127,6 +130,7 @@ class TransactionServiceTest {
         verify(stockRepository).findBySymbol("AAPL");
         verify(transactionRepository).save(any(Transaction.class));
         verify(portfolioService).updatePortfolio(any(Transaction.class));
+        verify(eventPublisher).publishEvent(any(TransactionCreatedEvent.class));
     }
 
     @Test
@@ -255,15 +259,16 @@ class TransactionServiceTest {
     }
 
     @Test
-    @DisplayName("거래 수정")
+    @DisplayName("거래 수정 - 변경 전후 중 이른 거래일부터 포지션 재생")
     void updateTransaction() {
         // Given
+        LocalDateTime originalDate = mockTransaction.getTransactionDate();
         TransactionDto updateDto =
                 TransactionDto.builder()
                         .quantity(new BigDecimal("20"))
                         .price(new BigDecimal("160.00"))
                         .commission(new BigDecimal("10.00"))
-                        .transactionDate(LocalDateTime.now())
+                        .transactionDate(originalDate.plusDays(3))
                         .notes("Updated transaction")
                         .build();
 
@@ -281,7 +286,7 @@ class TransactionServiceTest {
         verify(transactionRepository).findById(1L);
         verify(transactionRepository).save(any(Transaction.class));
         verify(fifoCalculationService).recalculateFifoForAccountStock(1L, 1L);
-        verify(portfolioService).recalculatePortfolio(1L, 1L); // accountId, stockId
+        verify(portfolioService).replayPositions(1L, 1L, originalDate);
     }
 
     @Test
@@ -300,7 +305,7 @@ class TransactionServiceTest {
         verify(transactionRepository).findById(1L);
         verify(transactionRepository).delete(mockTransaction);
         verify(fifoCalculationService).recalculateFifoForAccountStock(1L, 1L);
-        verify(portfolioService).recalculatePortfolio(1L, 1L); // accountId, stockId
+        verify(portfolioService).replayPositions(1L, 1L, mockTransaction.getTransactionDate());
     }
 
     @Test
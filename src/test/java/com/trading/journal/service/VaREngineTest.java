@@ -0,0 +1,81 @@
+package com.trading.journal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.trading.journal.service.VaREngine.Parametric;
+import com.trading.journal.service.VaREngine.ReturnMatrix;
+import com.trading.journal.service.VaREngine.Tail;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VaREngineTest {
+
+    private static final LocalDate D = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("수익률 행렬 - 날짜 합집합에 정렬하고 거래 없는 날과 첫 종가 이전은 0")
+    void returnMatrix_alignsOnUnionOfDates() {
+        ReturnMatrix matrix =
+                VaREngine.returnMatrix(
+                        new String[] {"A", "B"},
+                        new LocalDate[][] {
+                            {D, D.plusDays(1), D.plusDays(2)}, {D.plusDays(1), D.plusDays(3)}
+                        },
+                        new double[][] {{100, 110, 99}, {50, 55}});
+
+        assertThat(matrix.dates()).containsExactly(D.plusDays(1), D.plusDays(2), D.plusDays(3));
+        assertThat(matrix.returns()[0]).containsExactly(new double[] {0.1, -0.1, 0}, within(1e-12));
+        assertThat(matrix.returns()[1]).containsExactly(new double[] {0, 0, 0.1}, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("역사적 VaR/ES - 하위 floor((1-c)·n) 번째 손익과 그 이하 평균")
+    void historical_quantileAndTailMean() {
+        double[] pnl = new double[40];
+        for (int i = 0; i < pnl.length; i++) {
+            pnl[i] = i - 20; // -20 ~ 19
+        }
+
+        Tail tail = VaREngine.historical(pnl, 0.95);
+
+        assertThat(tail.var()).isEqualTo(18.0);
+        assertThat(tail.es()).isCloseTo(19.0, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("공분산 VaR - 기여 VaR 합계는 VaR와 같고 상관 1이면 단순 합")
+    void parametric_componentsSumToVaR() {
+        double[][] returns = {{0.01, -0.02, 0.015, -0.005}, {0.02, -0.04, 0.03, -0.01}};
+        double[] values = {1000, 500};
+
+        double[][] cov = VaREngine.covariance(returns);
+        Parametric parametric = VaREngine.parametric(values, cov, 0.99);
+
+        assertThat(cov[1][0]).isEqualTo(cov[0][1]);
+        assertThat(parametric.component()[0] + parametric.component()[1])
+                .isCloseTo(parametric.var(), within(1e-9));
+        // 완전 상관: 두 포지션의 단독 VaR 합과 같다
+        double z = 2.3263478740408408;
+        double standalone = z * (1000 * Math.sqrt(cov[0][0]) + 500 * Math.sqrt(cov[1][1]));
+        assertThat(parametric.var()).isCloseTo(standalone, within(1e-6));
+        assertThat(parametric.es()).isGreaterThan(parametric.var());
+    }
+
+    @Test
+    @DisplayName("필터링된 역사적 VaR - 최근 변동성이 커지면 VaR도 커진다")
+    void filteredHistorical_scalesToRecentVolatility() {
+        double[] pnl = new double[200];
+        for (int i = 0; i < pnl.length; i++) {
+            double size = i < 180 ? 1 : 5;
+            pnl[i] = (i % 2 == 0 ? -size : size);
+        }
+
+        Tail plain = VaREngine.historical(pnl, 0.95);
+        Tail filtered = VaREngine.filteredHistorical(pnl, 0.95, 0.94);
+
+        assertThat(filtered.var()).isGreaterThan(plain.var());
+        assertThat(VaREngine.filteredHistorical(new double[10], 0.95, 0.94)).isEqualTo(Tail.ZERO);
+    }
+}